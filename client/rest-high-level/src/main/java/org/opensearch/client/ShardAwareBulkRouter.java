@@ -0,0 +1,338 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client;
+
+import org.apache.http.HttpHost;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkProcessor;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.cluster.routing.OperationRouting;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sends the bulk requests of a {@link BulkProcessor} straight to the nodes that hold the primaries of the shards of their documents,
+ * instead of to a coordinating node that splits them by shard. This saves a network hop, and a slow node only holds up the bulk
+ * requests of its own shards.
+ * <p>
+ * The actions are {@link BulkProcessor.Builder#setPartitioner partitioned} by the node of the primary of the shard of their document,
+ * which is computed from the routing parameters of its index with {@link OperationRouting#generateShardId}, and the bulk request of
+ * each partition is sent to that node. Actions that can't be routed are sent together to any node: actions on documents without id
+ * or routing, on aliases, or on indices that don't exist yet. The routing is fetched from the cluster state of the target indices and
+ * the HTTP publish addresses of the nodes. It is refreshed in the background when an action targets a new index, and after the
+ * refresh interval. Outdated routing only costs the hop that the node that receives a bulk request adds to route its actions.
+ * <p>
+ * The nodes are matched to the nodes of the client by their HTTP publish address, so the client should be configured with, or
+ * sniff, these addresses. Requests are sent to any node when no node of the client matches.
+ * <pre>
+ * ShardAwareBulkRouter router = new ShardAwareBulkRouter(client, RequestOptions.DEFAULT, TimeValue.timeValueSeconds(30));
+ * BulkProcessor bulkProcessor = router.bulkProcessorBuilder(listener).setBulkActions(500).build();
+ * </pre>
+ */
+public final class ShardAwareBulkRouter {
+
+    /**
+     * The partition of the actions that can't be routed to a node.
+     */
+    public static final String UNROUTED = "";
+
+    private final RestHighLevelClient client;
+    private final RequestOptions options;
+    private final long refreshIntervalNanos;
+    private final Set<String> indices = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile long lastRefreshNanos;
+    private volatile Routing routing = Routing.EMPTY;
+
+    /**
+     * @param client the client that sends the bulk requests and fetches the routing
+     * @param options the options of the bulk requests and of the requests that fetch the routing
+     * @param refreshInterval how often the routing is fetched again while actions are added
+     */
+    public ShardAwareBulkRouter(RestHighLevelClient client, RequestOptions options, TimeValue refreshInterval) {
+        this.client = Objects.requireNonNull(client, "client");
+        this.options = Objects.requireNonNull(options, "options");
+        this.refreshIntervalNanos = refreshInterval.nanos();
+        this.lastRefreshNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns a builder of a {@link BulkProcessor} that partitions its actions with {@link #partition} and sends them with
+     * {@link #bulkAsync}. Its backoff policy and concurrent requests apply to the bulk requests of all nodes.
+     */
+    public BulkProcessor.Builder bulkProcessorBuilder(BulkProcessor.Listener listener) {
+        return BulkProcessor.builder(this::bulkAsync, listener).setPartitioner(this::partition);
+    }
+
+    /**
+     * Returns the id of the node that holds the primary of the shard of the document of the action, or {@link #UNROUTED} if it
+     * isn't known.
+     */
+    public String partition(DocWriteRequest<?> request) {
+        final String index = request.index();
+        if (index == null) {
+            return UNROUTED;
+        }
+        if (indices.add(index) || System.nanoTime() - lastRefreshNanos > refreshIntervalNanos) {
+            refresh();
+        }
+        return routing.nodeOf(index, request.id(), request.routing());
+    }
+
+    /**
+     * Sends a bulk request to the node that holds the primary of the shard of its first action, or to any node if it isn't known.
+     * Retried bulk requests are routed again.
+     */
+    public void bulkAsync(BulkRequest request, ActionListener<BulkResponse> listener) {
+        RequestOptions requestOptions = options;
+        if (request.requests().isEmpty() == false) {
+            final String address = routing.addressOf(partition(request.requests().get(0)));
+            if (address != null) {
+                final RequestOptions.Builder builder = options.toBuilder();
+                builder.setNodeSelector(new PublishAddressNodeSelector(address));
+                requestOptions = builder.build();
+            }
+        }
+        client.bulkAsync(request, requestOptions, listener);
+    }
+
+    Routing routing() {
+        return routing;
+    }
+
+    private void refresh() {
+        if (refreshing.compareAndSet(false, true) == false) {
+            return;
+        }
+        lastRefreshNanos = System.nanoTime();
+        final List<String> targetIndices = new ArrayList<>(indices);
+        final Request nodesRequest = new Request("GET", "/_nodes/http");
+        nodesRequest.addParameter("filter_path", "nodes.*.http.publish_address");
+        nodesRequest.setOptions(options);
+        final Request stateRequest = new Request("GET", new RequestConverters.EndpointBuilder()
+            .addPathPartAsIs("_cluster", "state", "metadata,routing_table").addCommaSeparatedPathParts(targetIndices).build());
+        stateRequest.addParameter("filter_path", "metadata.indices.*.routing_num_shards,"
+            + "metadata.indices.*.settings.index.number_of_shards,metadata.indices.*.settings.index.routing_partition_size,"
+            + "routing_table.indices.*.shards.*.primary,routing_table.indices.*.shards.*.node,routing_table.indices.*.shards.*.shard");
+        stateRequest.setOptions(options);
+        client.getLowLevelClient().performRequestAsync(nodesRequest, new RefreshListener(nodes -> {
+            client.getLowLevelClient().performRequestAsync(stateRequest, new RefreshListener(state -> {
+                routing = Routing.fromResponses(nodes, state);
+                onRefreshed(targetIndices.size());
+            }));
+        }));
+    }
+
+    private void onRefreshed(int refreshedIndices) {
+        refreshing.set(false);
+        if (indices.size() != refreshedIndices) {
+            // indices were added while refreshing
+            refresh();
+        }
+    }
+
+    private class RefreshListener implements ResponseListener {
+        private final ResponseConsumer consumer;
+
+        RefreshListener(ResponseConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void onSuccess(Response response) {
+            try {
+                consumer.accept(client.parseEntity(response.getEntity(), XContentParser::map));
+            } catch (Exception e) {
+                onFailure(e);
+            }
+        }
+
+        @Override
+        public void onFailure(Exception exception) {
+            // actions are routed with the current routing until the next refresh
+            refreshing.set(false);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResponseConsumer {
+        void accept(Map<String, Object> response) throws IOException;
+    }
+
+    /**
+     * The node of the primary of each shard of the target indices, and the HTTP publish address of each node.
+     */
+    static final class Routing {
+        static final Routing EMPTY = new Routing(Collections.emptyMap(), Collections.emptyMap());
+
+        private final Map<String, IndexRouting> indices;
+        private final Map<String, String> nodeAddresses;
+
+        Routing(Map<String, IndexRouting> indices, Map<String, String> nodeAddresses) {
+            this.indices = indices;
+            this.nodeAddresses = nodeAddresses;
+        }
+
+        String nodeOf(String index, String id, String routing) {
+            final IndexRouting indexRouting = indices.get(index);
+            if (indexRouting == null) {
+                return UNROUTED;
+            }
+            // documents are routed by their routing value or else their id, and by both in partitioned indices
+            if (indexRouting.routingPartitionSize == 1 ? id == null && routing == null : id == null || routing == null) {
+                return UNROUTED;
+            }
+            final int shard = OperationRouting.generateShardId(indexRouting.routingNumShards,
+                indexRouting.routingNumShards / indexRouting.primaryNodes.length, indexRouting.routingPartitionSize, id, routing);
+            final String node = indexRouting.primaryNodes[shard];
+            return node == null ? UNROUTED : node;
+        }
+
+        String addressOf(String node) {
+            return nodeAddresses.get(node);
+        }
+
+        @SuppressWarnings("unchecked")
+        static Routing fromResponses(Map<String, Object> nodesResponse, Map<String, Object> stateResponse) {
+            final Map<String, String> nodeAddresses = new HashMap<>();
+            final Map<String, Object> nodes = (Map<String, Object>) nodesResponse.getOrDefault("nodes", Collections.emptyMap());
+            for (Map.Entry<String, Object> node : nodes.entrySet()) {
+                final Map<String, Object> http = (Map<String, Object>) ((Map<String, Object>) node.getValue()).get("http");
+                if (http != null && http.get("publish_address") != null) {
+                    nodeAddresses.put(node.getKey(), http.get("publish_address").toString());
+                }
+            }
+
+            final Map<String, IndexRouting> indices = new HashMap<>();
+            final Map<String, Object> metadata = (Map<String, Object>) ((Map<String, Object>) stateResponse
+                .getOrDefault("metadata", Collections.emptyMap())).getOrDefault("indices", Collections.emptyMap());
+            final Map<String, Object> routingTable = (Map<String, Object>) ((Map<String, Object>) stateResponse
+                .getOrDefault("routing_table", Collections.emptyMap())).getOrDefault("indices", Collections.emptyMap());
+            for (Map.Entry<String, Object> index : metadata.entrySet()) {
+                final Map<String, Object> indexMetadata = (Map<String, Object>) index.getValue();
+                final Map<String, Object> indexSettings = (Map<String, Object>) ((Map<String, Object>) indexMetadata.get("settings"))
+                    .get("index");
+                final int numberOfShards = Integer.parseInt(indexSettings.get("number_of_shards").toString());
+                final Object routingPartitionSize = indexSettings.get("routing_partition_size");
+                final String[] primaryNodes = new String[numberOfShards];
+                final Map<String, Object> indexRoutingTable = (Map<String, Object>) routingTable.get(index.getKey());
+                if (indexRoutingTable != null) {
+                    for (Object copies : ((Map<String, Object>) indexRoutingTable.get("shards")).values()) {
+                        for (Map<String, Object> copy : (List<Map<String, Object>>) copies) {
+                            if (Boolean.TRUE.equals(copy.get("primary")) && copy.get("node") != null) {
+                                primaryNodes[((Number) copy.get("shard")).intValue()] = copy.get("node").toString();
+                            }
+                        }
+                    }
+                }
+                indices.put(index.getKey(), new IndexRouting(((Number) indexMetadata.get("routing_num_shards")).intValue(),
+                    routingPartitionSize == null ? 1 : Integer.parseInt(routingPartitionSize.toString()), primaryNodes));
+            }
+            return new Routing(indices, nodeAddresses);
+        }
+    }
+
+    static final class IndexRouting {
+        private final int routingNumShards;
+        private final int routingPartitionSize;
+        private final String[] primaryNodes;
+
+        IndexRouting(int routingNumShards, int routingPartitionSize, String[] primaryNodes) {
+            this.routingNumShards = routingNumShards;
+            this.routingPartitionSize = routingPartitionSize;
+            this.primaryNodes = primaryNodes;
+        }
+    }
+
+    /**
+     * Selects the nodes of the client whose host is the given HTTP publish address, if any.
+     */
+    static final class PublishAddressNodeSelector implements NodeSelector {
+        private final String publishAddress;
+        private final Set<String> hostNames = new HashSet<>();
+        private final int port;
+
+        PublishAddressNodeSelector(String publishAddress) {
+            this.publishAddress = publishAddress;
+            // publish addresses are either ip:port or hostname/ip:port
+            final int portSeparator = publishAddress.lastIndexOf(':');
+            final String host = publishAddress.substring(0, portSeparator);
+            this.port = Integer.parseInt(publishAddress.substring(portSeparator + 1));
+            for (String hostName : host.split("/")) {
+                hostNames.add(stripBrackets(hostName));
+            }
+        }
+
+        @Override
+        public void select(Iterable<Node> nodes) {
+            boolean found = false;
+            for (Node node : nodes) {
+                if (matches(node.getHost())) {
+                    found = true;
+                    break;
+                }
+            }
+            if (found == false) {
+                return;
+            }
+            for (Iterator<Node> itr = nodes.iterator(); itr.hasNext();) {
+                if (matches(itr.next().getHost()) == false) {
+                    itr.remove();
+                }
+            }
+        }
+
+        private boolean matches(HttpHost host) {
+            return host.getPort() == port && hostNames.contains(stripBrackets(host.getHostName()));
+        }
+
+        private static String stripBrackets(String hostName) {
+            if (hostName.startsWith("[") && hostName.endsWith("]")) {
+                return hostName.substring(1, hostName.length() - 1);
+            }
+            return hostName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            return publishAddress.equals(((PublishAddressNodeSelector) o).publishAddress);
+        }
+
+        @Override
+        public int hashCode() {
+            return publishAddress.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "publish_address=" + publishAddress;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client;
+
+import org.apache.http.HttpHost;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.routing.OperationRouting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class ShardAwareBulkRouterTests extends OpenSearchTestCase {
+
+    public void testRoutesLikeTheCluster() {
+        final int numberOfShards = randomIntBetween(1, 8);
+        final int routingNumShards = numberOfShards * (1 << randomIntBetween(0, 3));
+        final boolean partitioned = numberOfShards > 2 && randomBoolean();
+        final int routingPartitionSize = partitioned ? randomIntBetween(2, numberOfShards - 1) : 1;
+        final IndexMetadata indexMetadata = IndexMetadata.builder("index")
+            .settings(Settings.builder()
+                .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                .put(IndexMetadata.SETTING_ROUTING_PARTITION_SIZE, routingPartitionSize))
+            .numberOfShards(numberOfShards)
+            .numberOfReplicas(1)
+            .setRoutingNumShards(routingNumShards)
+            .build();
+
+        final StringBuilder shards = new StringBuilder();
+        for (int shard = 0; shard < numberOfShards; shard++) {
+            if (shard > 0) {
+                shards.append(',');
+            }
+            shards.append("\"").append(shard).append("\":[")
+                .append("{\"primary\":false,\"node\":\"replica_node\",\"shard\":").append(shard).append("},")
+                .append("{\"primary\":true,\"node\":\"node_").append(shard).append("\",\"shard\":").append(shard).append("}]");
+        }
+        final ShardAwareBulkRouter.Routing routing = ShardAwareBulkRouter.Routing.fromResponses(
+            map("{\"nodes\":{\"node_0\":{\"http\":{\"publish_address\":\"127.0.0.1:9200\"}}}}"),
+            map("{\"metadata\":{\"indices\":{\"index\":{\"routing_num_shards\":" + routingNumShards + ","
+                + "\"settings\":{\"index\":{\"number_of_shards\":\"" + numberOfShards + "\""
+                + (partitioned ? ",\"routing_partition_size\":\"" + routingPartitionSize + "\"" : "") + "}}}}},"
+                + "\"routing_table\":{\"indices\":{\"index\":{\"shards\":{" + shards + "}}}}}"));
+
+        for (int i = 0; i < 100; i++) {
+            final String id = randomAlphaOfLength(10);
+            final String custom = randomBoolean() ? randomAlphaOfLength(5) : null;
+            if (partitioned && custom == null) {
+                assertThat(routing.nodeOf("index", id, null), equalTo(ShardAwareBulkRouter.UNROUTED));
+                continue;
+            }
+            final int shard = OperationRouting.generateShardId(indexMetadata, id, custom);
+            assertThat(routing.nodeOf("index", id, custom), equalTo("node_" + shard));
+        }
+        assertThat(routing.nodeOf("index", null, null), equalTo(ShardAwareBulkRouter.UNROUTED));
+        assertThat(routing.nodeOf("other", "1", null), equalTo(ShardAwareBulkRouter.UNROUTED));
+        assertThat(routing.addressOf("node_0"), equalTo("127.0.0.1:9200"));
+        assertNull(routing.addressOf("node_1"));
+    }
+
+    public void testUnassignedPrimary() {
+        final ShardAwareBulkRouter.Routing routing = ShardAwareBulkRouter.Routing.fromResponses(
+            map("{}"),
+            map("{\"metadata\":{\"indices\":{\"index\":{\"routing_num_shards\":1,"
+                + "\"settings\":{\"index\":{\"number_of_shards\":\"1\"}}}}},"
+                + "\"routing_table\":{\"indices\":{\"index\":{\"shards\":{\"0\":[{\"primary\":true,\"node\":null,\"shard\":0}]}}}}}"));
+        assertThat(routing.nodeOf("index", "1", null), equalTo(ShardAwareBulkRouter.UNROUTED));
+    }
+
+    public void testPublishAddressNodeSelector() {
+        final Node first = new Node(new HttpHost("10.0.0.1", 9200));
+        final Node second = new Node(new HttpHost("10.0.0.2", 9200));
+        final Node named = new Node(new HttpHost("node3.example.com", 9201));
+
+        assertSelected(new ShardAwareBulkRouter.PublishAddressNodeSelector("10.0.0.2:9200"), Arrays.asList(first, second, named), second);
+        assertSelected(new ShardAwareBulkRouter.PublishAddressNodeSelector("node3.example.com/10.0.0.3:9201"),
+            Arrays.asList(first, second, named), named);
+        // all nodes are kept when none matches
+        assertSelected(new ShardAwareBulkRouter.PublishAddressNodeSelector("10.0.0.1:9201"), Arrays.asList(first, second, named),
+            first, second, named);
+        final Node ipv6 = new Node(new HttpHost("::1", 9200));
+        assertSelected(new ShardAwareBulkRouter.PublishAddressNodeSelector("[::1]:9200"), Arrays.asList(first, ipv6), ipv6);
+    }
+
+    private static void assertSelected(NodeSelector selector, List<Node> nodes, Node... expected) {
+        final List<Node> selected = new ArrayList<>(nodes);
+        selector.select(selected);
+        assertThat(selected, equalTo(Arrays.asList(expected)));
+    }
+
+    private static Map<String, Object> map(String json) {
+        return XContentHelper.convertToMap(XContentType.JSON.xContent(), json, false);
+    }
+}
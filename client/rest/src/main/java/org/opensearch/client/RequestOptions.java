@@ -52,25 +52,27 @@ public final class RequestOptions {
      * Default request options.
      */
     public static final RequestOptions DEFAULT = new Builder(
-            Collections.emptyList(), HeapBufferedResponseConsumerFactory.DEFAULT, null, null).build();
+            Collections.emptyList(), HeapBufferedResponseConsumerFactory.DEFAULT, null, null, null).build();
 
     private final List<Header> headers;
     private final HttpAsyncResponseConsumerFactory httpAsyncResponseConsumerFactory;
     private final WarningsHandler warningsHandler;
     private final RequestConfig requestConfig;
+    private final NodeSelector nodeSelector;
 
     private RequestOptions(Builder builder) {
         this.headers = Collections.unmodifiableList(new ArrayList<>(builder.headers));
         this.httpAsyncResponseConsumerFactory = builder.httpAsyncResponseConsumerFactory;
         this.warningsHandler = builder.warningsHandler;
         this.requestConfig = builder.requestConfig;
+        this.nodeSelector = builder.nodeSelector;
     }
 
     /**
      * Create a builder that contains these options but can be modified.
      */
     public Builder toBuilder() {
-        return new Builder(headers, httpAsyncResponseConsumerFactory, warningsHandler, requestConfig);
+        return new Builder(headers, httpAsyncResponseConsumerFactory, warningsHandler, requestConfig, nodeSelector);
     }
 
     /**
@@ -120,6 +122,15 @@ public final class RequestOptions {
         return requestConfig;
     }
 
+    /**
+     * The {@link NodeSelector} that further selects the nodes to send this
+     * request to, after the one of the client. If null (the default) then
+     * the request is sent to the nodes selected by the client.
+     */
+    public NodeSelector getNodeSelector() {
+        return nodeSelector;
+    }
+
     @Override
     public String toString() {
         StringBuilder b = new StringBuilder();
@@ -145,6 +156,11 @@ public final class RequestOptions {
             comma = true;
             b.append("warningsHandler=").append(warningsHandler);
         }
+        if (nodeSelector != null) {
+            if (comma) b.append(", ");
+            comma = true;
+            b.append("nodeSelector=").append(nodeSelector);
+        }
         return b.append('}').toString();
     }
 
@@ -160,12 +176,13 @@ public final class RequestOptions {
         RequestOptions other = (RequestOptions) obj;
         return headers.equals(other.headers)
                 && httpAsyncResponseConsumerFactory.equals(other.httpAsyncResponseConsumerFactory)
-                && Objects.equals(warningsHandler, other.warningsHandler);
+                && Objects.equals(warningsHandler, other.warningsHandler)
+                && Objects.equals(nodeSelector, other.nodeSelector);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(headers, httpAsyncResponseConsumerFactory, warningsHandler);
+        return Objects.hash(headers, httpAsyncResponseConsumerFactory, warningsHandler, nodeSelector);
     }
 
     /**
@@ -178,13 +195,15 @@ public final class RequestOptions {
         private HttpAsyncResponseConsumerFactory httpAsyncResponseConsumerFactory;
         private WarningsHandler warningsHandler;
         private RequestConfig requestConfig;
+        private NodeSelector nodeSelector;
 
         private Builder(List<Header> headers, HttpAsyncResponseConsumerFactory httpAsyncResponseConsumerFactory,
-                WarningsHandler warningsHandler, RequestConfig requestConfig) {
+                WarningsHandler warningsHandler, RequestConfig requestConfig, NodeSelector nodeSelector) {
             this.headers = new ArrayList<>(headers);
             this.httpAsyncResponseConsumerFactory = httpAsyncResponseConsumerFactory;
             this.warningsHandler = warningsHandler;
             this.requestConfig = requestConfig;
+            this.nodeSelector = nodeSelector;
         }
 
         /**
@@ -246,6 +265,19 @@ public final class RequestOptions {
             this.requestConfig = requestConfig;
             return this;
         }
+
+        /**
+         * Set a {@link NodeSelector} that further selects the nodes to send
+         * this request to among the ones that the
+         * {@link RestClientBuilder#setNodeSelector node selector of the client}
+         * selected, for instance to send a request to the node that holds the
+         * data it targets. If null (the default) then the request is sent to
+         * the nodes selected by the client.
+         */
+        public Builder setNodeSelector(NodeSelector nodeSelector) {
+            this.nodeSelector = nodeSelector;
+            return this;
+        }
     }
 
     /**
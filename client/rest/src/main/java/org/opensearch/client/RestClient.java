@@ -280,7 +280,7 @@ public class RestClient implements Closeable {
      */
     public Response performRequest(Request request) throws IOException {
         InternalRequest internalRequest = new InternalRequest(request);
-        return performRequest(nextNodes(), internalRequest, null);
+        return performRequest(nextNodes(request.getOptions().getNodeSelector()), internalRequest, null);
     }
 
     private Response performRequest(final NodeTuple<Iterator<Node>> nodeTuple,
@@ -367,7 +367,7 @@ public class RestClient implements Closeable {
         try {
             FailureTrackingResponseListener failureTrackingResponseListener = new FailureTrackingResponseListener(responseListener);
             InternalRequest internalRequest = new InternalRequest(request);
-            performRequestAsync(nextNodes(), internalRequest, failureTrackingResponseListener);
+            performRequestAsync(nextNodes(request.getOptions().getNodeSelector()), internalRequest, failureTrackingResponseListener);
             return internalRequest.cancellable;
         } catch (Exception e) {
             responseListener.onFailure(e);
@@ -426,16 +426,32 @@ public class RestClient implements Closeable {
 
     /**
      * Returns a non-empty {@link Iterator} of nodes to be used for a request
-     * that match the {@link NodeSelector}.
+     * that match the {@link NodeSelector} of the client and the one of the
+     * request, if any.
      * <p>
      * If there are no living nodes that match the {@link NodeSelector}
      * this will return the dead node that matches the {@link NodeSelector}
      * that is closest to being revived.
      * @throws IOException if no nodes are available
      */
-    private NodeTuple<Iterator<Node>> nextNodes() throws IOException {
+    private NodeTuple<Iterator<Node>> nextNodes(NodeSelector requestNodeSelector) throws IOException {
         NodeTuple<List<Node>> nodeTuple = this.nodeTuple;
-        Iterable<Node> hosts = selectNodes(nodeTuple, blacklist, lastNodeIndex, nodeSelector);
+        NodeSelector selector = nodeSelector;
+        if (requestNodeSelector != null) {
+            selector = new NodeSelector() {
+                @Override
+                public void select(Iterable<Node> nodes) {
+                    nodeSelector.select(nodes);
+                    requestNodeSelector.select(nodes);
+                }
+
+                @Override
+                public String toString() {
+                    return nodeSelector + " and " + requestNodeSelector;
+                }
+            };
+        }
+        Iterable<Node> hosts = selectNodes(nodeTuple, blacklist, lastNodeIndex, selector);
         return new NodeTuple<>(hosts.iterator(), nodeTuple.authCache);
     }
 
@@ -156,6 +156,10 @@ public class RequestOptionsTests extends RestClientTestCase {
             builder.setRequestConfig(RequestConfig.custom().build());
         }
 
+        if (randomBoolean()) {
+            builder.setNodeSelector(NodeSelector.SKIP_DEDICATED_MASTERS);
+        }
+
         return builder;
     }
 
@@ -165,7 +169,7 @@ public class RequestOptionsTests extends RestClientTestCase {
 
     private static RequestOptions mutate(RequestOptions options) {
         RequestOptions.Builder mutant = options.toBuilder();
-        int mutationType = between(0, 2);
+        int mutationType = between(0, 3);
         switch (mutationType) {
         case 0:
             mutant.addHeader("extra", "m");
@@ -182,6 +186,9 @@ public class RequestOptionsTests extends RestClientTestCase {
                 }
             });
             return mutant.build();
+        case 3:
+            mutant.setNodeSelector(new HasAttributeNodeSelector("extra", "m"));
+            return mutant.build();
         default:
             throw new UnsupportedOperationException("Unknown mutation type [" + mutationType + "]");
         }
@@ -54,6 +54,7 @@ import static org.opensearch.client.RestClientTestUtil.randomErrorNoRetryStatusC
 import static org.opensearch.client.RestClientTestUtil.randomErrorRetryStatusCode;
 import static org.opensearch.client.RestClientTestUtil.randomHttpMethod;
 import static org.opensearch.client.RestClientTestUtil.randomOkStatusCode;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertEquals;
@@ -282,6 +283,44 @@ public class RestClientMultipleHostsTests extends RestClientTestCase {
         }
     }
 
+    public void testRequestNodeSelector() throws Exception {
+        NodeSelector lastPositionOnly = restClientNodes -> {
+            Node last = nodes.get(nodes.size() - 1);
+            for (Iterator<Node> itr = restClientNodes.iterator(); itr.hasNext();) {
+                if (last != itr.next()) {
+                    itr.remove();
+                }
+            }
+        };
+        RestClient restClient = createRestClient(NodeSelector.ANY);
+        RequestOptions.Builder options = RequestOptions.DEFAULT.toBuilder();
+        options.setNodeSelector(lastPositionOnly);
+        int rounds = between(1, 10);
+        for (int i = 0; i < rounds; i++) {
+            Request request = new Request("GET", "/200");
+            request.setOptions(options);
+            Response response = RestClientSingleHostTests.performRequestSyncOrAsync(restClient, request);
+            assertEquals(nodes.get(nodes.size() - 1).getHost(), response.getHost());
+        }
+        // the node selector of the client applies first
+        NodeSelector firstPositionOnly = restClientNodes -> {
+            for (Iterator<Node> itr = restClientNodes.iterator(); itr.hasNext();) {
+                if (nodes.get(0) != itr.next()) {
+                    itr.remove();
+                }
+            }
+        };
+        RestClient firstNodeClient = createRestClient(firstPositionOnly);
+        Request request = new Request("GET", "/200");
+        request.setOptions(options);
+        try {
+            RestClientSingleHostTests.performRequestSyncOrAsync(firstNodeClient, request);
+            fail("request should have failed");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), containsString("rejected all nodes"));
+        }
+    }
+
     public void testSetNodes() throws Exception {
         RestClient restClient = createRestClient(NodeSelector.SKIP_DEDICATED_MASTERS);
         List<Node> newNodes = new ArrayList<>(nodes.size());
@@ -145,6 +145,7 @@ import org.opensearch.index.analysis.PreConfiguredTokenizer;
 import org.opensearch.index.analysis.TokenFilterFactory;
 import org.opensearch.index.analysis.TokenizerFactory;
 import org.opensearch.indices.analysis.AnalysisModule.AnalysisProvider;
+import org.opensearch.indices.analysis.NodeAnalysisStats.SharedResourceStats;
 import org.opensearch.indices.analysis.PreBuiltCacheFactory.CachingStrategy;
 import org.opensearch.plugins.AnalysisPlugin;
 import org.opensearch.plugins.Plugin;
@@ -172,6 +173,7 @@ public class CommonAnalysisPlugin extends Plugin implements AnalysisPlugin, Scri
     private static final DeprecationLogger deprecationLogger = DeprecationLogger.getLogger(CommonAnalysisPlugin.class);
 
     private final SetOnce<ScriptService> scriptService = new SetOnce<>();
+    private final SynonymMapRegistry synonymMaps = new SynonymMapRegistry();
 
     @Override
     public Collection<Object> createComponents(Client client, ClusterService clusterService, ThreadPool threadPool,
@@ -184,6 +186,11 @@ public class CommonAnalysisPlugin extends Plugin implements AnalysisPlugin, Scri
         return Collections.emptyList();
     }
 
+    @Override
+    public Map<String, SharedResourceStats> getSharedResourceStats() {
+        return Collections.singletonMap("synonym_maps", synonymMaps.stats());
+    }
+
     @Override
     public List<ScriptContext<?>> getContexts() {
         return Collections.singletonList(AnalysisPredicateScript.CONTEXT);
@@ -308,8 +315,9 @@ public class CommonAnalysisPlugin extends Plugin implements AnalysisPlugin, Scri
         filters.put("sorani_normalization", SoraniNormalizationFilterFactory::new);
         filters.put("stemmer_override", requiresAnalysisSettings(StemmerOverrideTokenFilterFactory::new));
         filters.put("stemmer", StemmerTokenFilterFactory::new);
-        filters.put("synonym", requiresAnalysisSettings(SynonymTokenFilterFactory::new));
-        filters.put("synonym_graph", requiresAnalysisSettings(SynonymGraphTokenFilterFactory::new));
+        filters.put("synonym", requiresAnalysisSettings((i, e, n, s) -> new SynonymTokenFilterFactory(i, e, n, s, synonymMaps)));
+        filters.put("synonym_graph",
+            requiresAnalysisSettings((i, e, n, s) -> new SynonymGraphTokenFilterFactory(i, e, n, s, synonymMaps)));
         filters.put("trim", TrimTokenFilterFactory::new);
         filters.put("truncate", requiresAnalysisSettings(TruncateTokenFilterFactory::new));
         filters.put("unique", UniqueTokenFilterFactory::new);
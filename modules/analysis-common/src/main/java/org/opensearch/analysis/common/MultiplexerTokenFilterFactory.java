@@ -93,6 +93,8 @@ public class MultiplexerTokenFilterFactory extends AbstractTokenFilterFactory {
                                                               List<TokenFilterFactory> previousTokenFilters,
                                                               Function<String, TokenFilterFactory> allFilters) {
         List<TokenFilterFactory> filters = new ArrayList<>();
+        // all the chain-aware filters, including the ones of sub-chains, so that their resources can be released
+        List<TokenFilterFactory> chainAwareFilters = new ArrayList<>();
         if (preserveOriginal) {
             filters.add(IDENTITY_FILTER);
         }
@@ -104,6 +106,7 @@ public class MultiplexerTokenFilterFactory extends AbstractTokenFilterFactory {
                 TokenFilterFactory factory = resolveFilterFactory(allFilters, parts[0]);
                 factory = factory.getChainAwareTokenFilterFactory(tokenizer, charFilters, previousTokenFilters, allFilters);
                 filters.add(factory);
+                chainAwareFilters.add(factory);
                 mode = mode.merge(factory.getAnalysisMode());
             } else {
                 List<TokenFilterFactory> existingChain = new ArrayList<>(previousTokenFilters);
@@ -113,6 +116,7 @@ public class MultiplexerTokenFilterFactory extends AbstractTokenFilterFactory {
                     factory = factory.getChainAwareTokenFilterFactory(tokenizer, charFilters, existingChain, allFilters);
                     chain.add(factory);
                     existingChain.add(factory);
+                    chainAwareFilters.add(factory);
                     mode = mode.merge(factory.getAnalysisMode());
                 }
                 filters.add(chainFilters(filter, chain));
@@ -120,7 +124,7 @@ public class MultiplexerTokenFilterFactory extends AbstractTokenFilterFactory {
         }
         final AnalysisMode analysisMode = mode;
 
-        return new TokenFilterFactory() {
+        return new ReleasableTokenFilterFactory() {
             @Override
             public String name() {
                 return MultiplexerTokenFilterFactory.this.name();
@@ -155,6 +159,11 @@ public class MultiplexerTokenFilterFactory extends AbstractTokenFilterFactory {
             public AnalysisMode getAnalysisMode() {
                 return analysisMode;
             }
+
+            @Override
+            protected void release() throws IOException {
+                closeAll(chainAwareFilters);
+            }
         };
     }
 
@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.analysis.common;
+
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.analysis.TokenFilterFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A chain-aware {@link TokenFilterFactory} that holds resources, like shared synonym maps, which it releases once the
+ * analyzer that uses it is closed.
+ */
+abstract class ReleasableTokenFilterFactory implements TokenFilterFactory, Closeable {
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    @Override
+    public final void close() throws IOException {
+        if (closed.compareAndSet(false, true)) {
+            release();
+        }
+    }
+
+    protected abstract void release() throws IOException;
+
+    /**
+     * Closes the filters that hold resources among the given chain-aware filters.
+     */
+    static void closeAll(List<TokenFilterFactory> filters) throws IOException {
+        final List<Closeable> closeables = new ArrayList<>();
+        for (TokenFilterFactory filter : filters) {
+            if (filter instanceof Closeable) {
+                closeables.add((Closeable) filter);
+            }
+        }
+        IOUtils.close(closeables);
+    }
+}
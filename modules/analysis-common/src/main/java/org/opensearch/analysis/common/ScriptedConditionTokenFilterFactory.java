@@ -97,7 +97,7 @@ public class ScriptedConditionTokenFilterFactory extends AbstractTokenFilterFact
             existingChain.add(tff);
         }
 
-        return new TokenFilterFactory() {
+        return new ReleasableTokenFilterFactory() {
             @Override
             public String name() {
                 return ScriptedConditionTokenFilterFactory.this.name();
@@ -113,6 +113,11 @@ public class ScriptedConditionTokenFilterFactory extends AbstractTokenFilterFact
                 };
                 return new ScriptedConditionTokenFilter(tokenStream, filter, factory.newInstance());
             }
+
+            @Override
+            protected void release() throws IOException {
+                closeAll(filters);
+            }
         };
     }
 
@@ -32,10 +32,10 @@
 
 package org.opensearch.analysis.common;
 
-import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.synonym.SynonymGraphFilter;
 import org.apache.lucene.analysis.synonym.SynonymMap;
+import org.opensearch.analysis.common.SynonymMapRegistry.SharedSynonymMap;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.env.Environment;
 import org.opensearch.index.IndexSettings;
@@ -50,8 +50,8 @@ import java.util.function.Function;
 public class SynonymGraphTokenFilterFactory extends SynonymTokenFilterFactory {
 
     SynonymGraphTokenFilterFactory(IndexSettings indexSettings, Environment env,
-                                     String name, Settings settings) {
-        super(indexSettings, env, name, settings);
+                                     String name, Settings settings, SynonymMapRegistry synonymMaps) {
+        super(indexSettings, env, name, settings, synonymMaps);
     }
 
     @Override
@@ -63,10 +63,10 @@ public class SynonymGraphTokenFilterFactory extends SynonymTokenFilterFactory {
     public TokenFilterFactory getChainAwareTokenFilterFactory(TokenizerFactory tokenizer, List<CharFilterFactory> charFilters,
                                                               List<TokenFilterFactory> previousTokenFilters,
                                                               Function<String, TokenFilterFactory> allFilters) {
-        final Analyzer analyzer = buildSynonymAnalyzer(tokenizer, charFilters, previousTokenFilters, allFilters);
-        final SynonymMap synonyms = buildSynonyms(analyzer, getRulesFromSettings(environment));
+        final SharedSynonymMap shared = acquireSynonyms(tokenizer, charFilters, previousTokenFilters, allFilters);
+        final SynonymMap synonyms = shared.get();
         final String name = name();
-        return new TokenFilterFactory() {
+        return new ReleasableTokenFilterFactory() {
             @Override
             public String name() {
                 return name;
@@ -81,6 +81,11 @@ public class SynonymGraphTokenFilterFactory extends SynonymTokenFilterFactory {
             public AnalysisMode getAnalysisMode() {
                 return analysisMode;
             }
+
+            @Override
+            protected void release() {
+                shared.decRef();
+            }
         };
     }
 
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.analysis.common;
+
+import org.apache.lucene.analysis.synonym.SynonymMap;
+import org.opensearch.common.util.concurrent.AbstractRefCounted;
+import org.opensearch.indices.analysis.NodeAnalysisStats.SharedResourceStats;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Shares the synonym maps that the synonym filters of the indices of a node build. Synonym maps of large synonym files
+ * take a lot of heap and time to build, and time-based indices typically all declare the same synonyms, so filters that
+ * would build identical maps share a single instance instead. Identical maps are identified by a key that covers the
+ * synonym rules and everything that analyzes them, see {@link SynonymTokenFilterFactory}.
+ * <p>
+ * Maps are reference-counted: every filter that uses a map {@link #acquire acquires} it and releases it once the
+ * analyzer that holds the filter is closed, and the registry drops the map once it's no longer referenced.
+ */
+final class SynonymMapRegistry {
+
+    private final Map<String, SharedSynonymMap> maps = new HashMap<>();
+
+    /**
+     * Acquires the synonym map of the given key, building it if no filter holds it yet. The returned map must be
+     * {@link SharedSynonymMap#decRef() released} once it's no longer used.
+     */
+    SharedSynonymMap acquire(String key, Supplier<SynonymMap> builder) {
+        SharedSynonymMap shared;
+        synchronized (this) {
+            shared = maps.get(key);
+            if (shared == null || shared.tryIncRef() == false) {
+                shared = new SharedSynonymMap(key);
+                maps.put(key, shared);
+            }
+        }
+        boolean success = false;
+        try {
+            // built outside of the registry lock so that building a large map doesn't block the other filters
+            shared.build(builder);
+            success = true;
+        } finally {
+            if (success == false) {
+                shared.decRef();
+            }
+        }
+        return shared;
+    }
+
+    SharedResourceStats stats() {
+        long count = 0;
+        long references = 0;
+        long memorySizeInBytes = 0;
+        synchronized (this) {
+            for (SharedSynonymMap shared : maps.values()) {
+                final SynonymMap map = shared.map;
+                if (map != null) {
+                    count++;
+                    references += shared.refCount();
+                    memorySizeInBytes += ramBytesUsed(map);
+                }
+            }
+        }
+        return new SharedResourceStats(count, references, memorySizeInBytes);
+    }
+
+    private static long ramBytesUsed(SynonymMap map) {
+        return (map.fst == null ? 0 : map.fst.ramBytesUsed()) + map.words.ramBytesUsed();
+    }
+
+    /**
+     * A synonym map that is shared by the synonym filters that would build identical maps.
+     */
+    final class SharedSynonymMap extends AbstractRefCounted {
+
+        private volatile SynonymMap map;
+
+        private SharedSynonymMap(String key) {
+            super(key);
+        }
+
+        private synchronized void build(Supplier<SynonymMap> builder) {
+            if (map == null) {
+                map = builder.get();
+            }
+        }
+
+        SynonymMap get() {
+            assert map != null : "synonym map [" + getName() + "] wasn't built";
+            return map;
+        }
+
+        @Override
+        protected void closeInternal() {
+            synchronized (SynonymMapRegistry.this) {
+                maps.remove(getName(), this);
+            }
+        }
+    }
+}
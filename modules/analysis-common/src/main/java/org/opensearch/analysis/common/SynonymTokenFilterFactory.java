@@ -36,6 +36,10 @@ import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.synonym.SynonymFilter;
 import org.apache.lucene.analysis.synonym.SynonymMap;
+import org.opensearch.analysis.common.SynonymMapRegistry.SharedSynonymMap;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.hash.MessageDigests;
+import org.opensearch.common.io.Streams;
 import org.opensearch.common.logging.DeprecationLogger;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.env.Environment;
@@ -48,8 +52,14 @@ import org.opensearch.index.analysis.CustomAnalyzer;
 import org.opensearch.index.analysis.TokenFilterFactory;
 import org.opensearch.index.analysis.TokenizerFactory;
 
+import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.security.MessageDigest;
 import java.util.List;
 import java.util.function.Function;
 
@@ -63,11 +73,13 @@ public class SynonymTokenFilterFactory extends AbstractTokenFilterFactory {
     protected final Settings settings;
     protected final Environment environment;
     protected final AnalysisMode analysisMode;
+    private final SynonymMapRegistry synonymMaps;
 
     SynonymTokenFilterFactory(IndexSettings indexSettings, Environment env,
-                                      String name, Settings settings) {
+                                      String name, Settings settings, SynonymMapRegistry synonymMaps) {
         super(indexSettings, name, settings);
         this.settings = settings;
+        this.synonymMaps = synonymMaps;
 
         if (settings.get("ignore_case") != null) {
             DEPRECATION_LOGGER.deprecate("synonym_ignore_case_option",
@@ -97,10 +109,10 @@ public class SynonymTokenFilterFactory extends AbstractTokenFilterFactory {
     public TokenFilterFactory getChainAwareTokenFilterFactory(TokenizerFactory tokenizer, List<CharFilterFactory> charFilters,
                                                               List<TokenFilterFactory> previousTokenFilters,
                                                               Function<String, TokenFilterFactory> allFilters) {
-        final Analyzer analyzer = buildSynonymAnalyzer(tokenizer, charFilters, previousTokenFilters, allFilters);
-        final SynonymMap synonyms = buildSynonyms(analyzer, getRulesFromSettings(environment));
+        final SharedSynonymMap shared = acquireSynonyms(tokenizer, charFilters, previousTokenFilters, allFilters);
+        final SynonymMap synonyms = shared.get();
         final String name = name();
-        return new TokenFilterFactory() {
+        return new ReleasableTokenFilterFactory() {
             @Override
             public String name() {
                 return name;
@@ -123,9 +135,87 @@ public class SynonymTokenFilterFactory extends AbstractTokenFilterFactory {
             public AnalysisMode getAnalysisMode() {
                 return analysisMode;
             }
+
+            @Override
+            protected void release() {
+                shared.decRef();
+            }
         };
     }
 
+    /**
+     * Acquires the synonym map of the given analysis chain from the registry of the node, so that the filters of all
+     * indices that analyze the same rules in the same way share a single map. The map must be released once the
+     * filter that uses it is closed.
+     */
+    SharedSynonymMap acquireSynonyms(TokenizerFactory tokenizer, List<CharFilterFactory> charFilters,
+                                     List<TokenFilterFactory> previousTokenFilters, Function<String, TokenFilterFactory> allFilters) {
+        // the analyzer is built upfront as it validates that the chain can parse synonyms
+        final Analyzer analyzer = buildSynonymAnalyzer(tokenizer, charFilters, previousTokenFilters, allFilters);
+        final String rules;
+        try (Reader reader = getRulesFromSettings(environment)) {
+            rules = Streams.copyToString(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to read synonyms", e);
+        }
+        String key = synonymMapKey(tokenizer, charFilters, previousTokenFilters, rules);
+        if (key == null) {
+            key = UUIDs.randomBase64UUID();
+        }
+        return synonymMaps.acquire(key, () -> buildSynonyms(analyzer, new StringReader(rules)));
+    }
+
+    /**
+     * Identifies the synonym maps that filters build from the rules, the parsing options and the analysis chain that
+     * parses the rules, which is identified by the names and the settings of its components, the contents of the files
+     * that its components read and the version that its index was created with. Returns {@code null} if the chain has
+     * anonymous components, which aren't identified by their names, or if a file of a component can't be read.
+     */
+    private String synonymMapKey(TokenizerFactory tokenizer, List<CharFilterFactory> charFilters,
+                                 List<TokenFilterFactory> previousTokenFilters, String rules) {
+        final MessageDigest digest = MessageDigests.sha256();
+        final StringBuilder chain = new StringBuilder();
+        chain.append(indexSettings.getIndexVersionCreated().id).append('|')
+            .append(format).append('|').append(expand).append('|').append(lenient);
+        if (appendComponent(chain, digest, "tokenizer", tokenizer.name()) == false) {
+            return null;
+        }
+        for (CharFilterFactory charFilter : charFilters) {
+            if (appendComponent(chain, digest, "char_filter", charFilter.name()) == false) {
+                return null;
+            }
+        }
+        for (TokenFilterFactory tokenFilter : previousTokenFilters) {
+            if (appendComponent(chain, digest, "filter", tokenFilter.name()) == false) {
+                return null;
+            }
+        }
+        digest.update(chain.toString().getBytes(StandardCharsets.UTF_8));
+        digest.update(rules.getBytes(StandardCharsets.UTF_8));
+        return MessageDigests.toHexString(digest.digest());
+    }
+
+    private boolean appendComponent(StringBuilder chain, MessageDigest digest, String type, String name) {
+        // the components that requests define inline are all named after their type
+        if (name.startsWith("__anonymous__")) {
+            return false;
+        }
+        final Settings componentSettings = indexSettings.getSettings().getByPrefix("index.analysis." + type + "." + name + ".");
+        chain.append('|').append(type).append(':').append(name).append(componentSettings);
+        // components read word lists, rules and the like from the files that their *_path settings point to, which
+        // may change on disk without their settings changing
+        for (String key : componentSettings.keySet()) {
+            if (key.endsWith("_path")) {
+                try {
+                    digest.update(Files.readAllBytes(environment.configFile().resolve(componentSettings.get(key))));
+                } catch (IOException | InvalidPathException e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     Analyzer buildSynonymAnalyzer(TokenizerFactory tokenizer, List<CharFilterFactory> charFilters,
                                   List<TokenFilterFactory> tokenFilters, Function<String, TokenFilterFactory> allFilters) {
         return new CustomAnalyzer(tokenizer, charFilters.toArray(new CharFilterFactory[0]),
@@ -47,6 +47,7 @@ import org.opensearch.index.analysis.IndexAnalyzers;
 import org.opensearch.index.analysis.PreConfiguredTokenFilter;
 import org.opensearch.index.analysis.TokenFilterFactory;
 import org.opensearch.index.analysis.TokenizerFactory;
+import org.opensearch.indices.analysis.NodeAnalysisStats.SharedResourceStats;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.IndexSettingsModule;
 import org.opensearch.test.VersionUtils;
@@ -64,6 +65,7 @@ import java.util.List;
 import java.util.Set;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.startsWith;
 
@@ -216,6 +218,111 @@ public class SynonymsAnalysisTests extends OpenSearchTestCase {
             new String[]{ "term1", "term3", "term2" }, new int[]{ 1, 0, 0 });
     }
 
+    public void testSynonymMapsAreSharedAcrossIndices() throws IOException {
+        CommonAnalysisPlugin plugin = new CommonAnalysisPlugin();
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put("path.home", createTempDir().toString())
+            .put("index.analysis.filter.synonyms.type", "synonym_graph")
+            .putList("index.analysis.filter.synonyms.synonyms", "programmer, developer")
+            .put("index.analysis.analyzer.my_analyzer.tokenizer", "standard")
+            .putList("index.analysis.analyzer.my_analyzer.filter", "lowercase", "synonyms")
+            .put("index.analysis.analyzer.other_analyzer.tokenizer", "standard")
+            .putList("index.analysis.analyzer.other_analyzer.filter", "lowercase", "synonyms")
+            .build();
+        IndexAnalyzers first = createTestAnalysis(IndexSettingsModule.newIndexSettings("first", settings), settings, plugin).indexAnalyzers;
+        IndexAnalyzers second = createTestAnalysis(IndexSettingsModule.newIndexSettings("second", settings), settings, plugin)
+            .indexAnalyzers;
+        SharedResourceStats stats = plugin.getSharedResourceStats().get("synonym_maps");
+        assertEquals(1, stats.getCount());
+        assertEquals(4, stats.getReferences());
+        assertThat(stats.getMemorySize().getBytes(), greaterThan(0L));
+        BaseTokenStreamTestCase.assertAnalyzesTo(second.get("my_analyzer"), "developer",
+            new String[]{ "programmer", "developer" }, new int[]{ 1, 0 });
+
+        // the same rules analyzed by a different chain need their own map
+        Settings otherChain = Settings.builder()
+            .put(settings)
+            .putList("index.analysis.analyzer.my_analyzer.filter", "uppercase", "synonyms")
+            .build();
+        IndexAnalyzers third = createTestAnalysis(IndexSettingsModule.newIndexSettings("third", otherChain), otherChain, plugin)
+            .indexAnalyzers;
+        stats = plugin.getSharedResourceStats().get("synonym_maps");
+        assertEquals(2, stats.getCount());
+        assertEquals(6, stats.getReferences());
+
+        first.close();
+        third.close();
+        stats = plugin.getSharedResourceStats().get("synonym_maps");
+        assertEquals(1, stats.getCount());
+        assertEquals(2, stats.getReferences());
+        second.close();
+        stats = plugin.getSharedResourceStats().get("synonym_maps");
+        assertEquals(0, stats.getCount());
+        assertEquals(0, stats.getReferences());
+        assertEquals(0, stats.getMemorySize().getBytes());
+    }
+
+    public void testSynonymMapsAreNotSharedWhenFilesOfTheChainDiffer() throws IOException {
+        CommonAnalysisPlugin plugin = new CommonAnalysisPlugin();
+        Path home = createTempDir();
+        Path config = home.resolve("config");
+        Files.createDirectory(config);
+        Files.write(config.resolve("stopwords.txt"), Collections.singletonList("programmer"));
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put("path.home", home.toString())
+            .put("index.analysis.filter.stop_file.type", "stop")
+            .put("index.analysis.filter.stop_file.stopwords_path", "stopwords.txt")
+            .put("index.analysis.filter.synonyms.type", "synonym_graph")
+            .put("index.analysis.filter.synonyms.lenient", true)
+            .putList("index.analysis.filter.synonyms.synonyms", "programmer, developer")
+            .put("index.analysis.analyzer.my_analyzer.tokenizer", "standard")
+            .putList("index.analysis.analyzer.my_analyzer.filter", "stop_file", "synonyms")
+            .build();
+        IndexAnalyzers first = createTestAnalysis(IndexSettingsModule.newIndexSettings("first", settings), settings, plugin).indexAnalyzers;
+        assertEquals(1, plugin.getSharedResourceStats().get("synonym_maps").getCount());
+
+        // the same settings with the same stopwords file share the map
+        IndexAnalyzers second = createTestAnalysis(IndexSettingsModule.newIndexSettings("second", settings), settings, plugin)
+            .indexAnalyzers;
+        assertEquals(1, plugin.getSharedResourceStats().get("synonym_maps").getCount());
+
+        // but the stopwords file changed on disk, so the rules parse differently
+        Files.write(config.resolve("stopwords.txt"), Collections.singletonList("developer"));
+        IndexAnalyzers third = createTestAnalysis(IndexSettingsModule.newIndexSettings("third", settings), settings, plugin)
+            .indexAnalyzers;
+        assertEquals(2, plugin.getSharedResourceStats().get("synonym_maps").getCount());
+        BaseTokenStreamTestCase.assertAnalyzesTo(first.get("my_analyzer"), "developer",
+            new String[]{ "developer" });
+        BaseTokenStreamTestCase.assertAnalyzesTo(third.get("my_analyzer"), "programmer",
+            new String[]{ "programmer" });
+
+        first.close();
+        second.close();
+        third.close();
+        assertEquals(0, plugin.getSharedResourceStats().get("synonym_maps").getCount());
+    }
+
+    public void testSynonymMapsWrappedByMultiplexerAreReleased() throws IOException {
+        CommonAnalysisPlugin plugin = new CommonAnalysisPlugin();
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put("path.home", createTempDir().toString())
+            .put("index.analysis.filter.synonyms.type", "synonym")
+            .putList("index.analysis.filter.synonyms.synonyms", "programmer, developer")
+            .put("index.analysis.filter.stem_repeat.type", "multiplexer")
+            .putList("index.analysis.filter.stem_repeat.filters", "porter_stem, synonyms")
+            .put("index.analysis.analyzer.synonymAnalyzer.tokenizer", "standard")
+            .putList("index.analysis.analyzer.synonymAnalyzer.filter", "lowercase", "stem_repeat")
+            .build();
+        IndexSettings idxSettings = IndexSettingsModule.newIndexSettings("index", settings);
+        indexAnalyzers = createTestAnalysis(idxSettings, settings, plugin).indexAnalyzers;
+        assertEquals(1, plugin.getSharedResourceStats().get("synonym_maps").getReferences());
+        indexAnalyzers.close();
+        assertEquals(0, plugin.getSharedResourceStats().get("synonym_maps").getCount());
+    }
+
     public void testShingleFilters() {
 
         Settings settings = Settings.builder()
@@ -254,7 +361,8 @@ public class SynonymsAnalysisTests extends OpenSearchTestCase {
         for (String factory : bypassingFactories) {
             TokenFilterFactory tff = plugin.getTokenFilters().get(factory).get(idxSettings, null, factory, settings);
             TokenizerFactory tok = new KeywordTokenizerFactory(idxSettings, null, "keyword", settings);
-            SynonymTokenFilterFactory stff = new SynonymTokenFilterFactory(idxSettings, null, "synonym", settings);
+            SynonymTokenFilterFactory stff = new SynonymTokenFilterFactory(idxSettings, null, "synonym", settings,
+                new SynonymMapRegistry());
             Analyzer analyzer = stff.buildSynonymAnalyzer(tok, Collections.emptyList(), Collections.singletonList(tff), null);
 
             try (TokenStream ts = analyzer.tokenStream("field", "text")) {
@@ -337,7 +445,8 @@ public class SynonymsAnalysisTests extends OpenSearchTestCase {
         for (String factory : disallowedFactories) {
             TokenFilterFactory tff = plugin.getTokenFilters().get(factory).get(idxSettings, null, factory, settings);
             TokenizerFactory tok = new KeywordTokenizerFactory(idxSettings, null, "keyword", settings);
-            SynonymTokenFilterFactory stff = new SynonymTokenFilterFactory(idxSettings, null, "synonym", settings);
+            SynonymTokenFilterFactory stff = new SynonymTokenFilterFactory(idxSettings, null, "synonym", settings,
+                new SynonymMapRegistry());
 
             IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
                 "Expected IllegalArgumentException for factory " + factory,
@@ -362,7 +471,8 @@ public class SynonymsAnalysisTests extends OpenSearchTestCase {
         for (String factory : disallowedFactories) {
             TokenFilterFactory tff = plugin.getTokenFilters().get(factory).get(idxSettings, null, factory, settings);
             TokenizerFactory tok = new KeywordTokenizerFactory(idxSettings, null, "keyword", settings);
-            SynonymTokenFilterFactory stff = new SynonymTokenFilterFactory(idxSettings, null, "synonym", settings);
+            SynonymTokenFilterFactory stff = new SynonymTokenFilterFactory(idxSettings, null, "synonym", settings,
+                new SynonymMapRegistry());
 
             stff.buildSynonymAnalyzer(tok, Collections.emptyList(), Collections.singletonList(tff), null);
             expectedWarnings.add("Token filter [" + factory
@@ -381,7 +491,8 @@ public class SynonymsAnalysisTests extends OpenSearchTestCase {
         idxSettings = IndexSettingsModule.newIndexSettings("index", settings);
         TokenFilterFactory tff = plugin.getTokenFilters().get("multiplexer").get(idxSettings, null, "multiplexer", settings);
         TokenizerFactory tok = new KeywordTokenizerFactory(idxSettings, null, "keyword", settings);
-        SynonymTokenFilterFactory stff = new SynonymTokenFilterFactory(idxSettings, null, "synonym", settings);
+        SynonymTokenFilterFactory stff = new SynonymTokenFilterFactory(idxSettings, null, "synonym", settings,
+            new SynonymMapRegistry());
 
         IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
             () -> stff.buildSynonymAnalyzer(tok, Collections.emptyList(), Collections.singletonList(tff), null));
@@ -53,6 +53,11 @@ import static org.opensearch.painless.WriterConstants.NEEDS_PARAMETER_METHOD_TYP
  */
 public class ScriptClassInfo {
 
+    /**
+     * The name of the method that reads the first value of a numeric field of the current document as a {@code double}.
+     */
+    public static final String DOUBLE_DOC_VALUE_READER_NAME = "readDoubleDocValue";
+
     private final Class<?> baseClass;
     private final org.objectweb.asm.commons.Method executeMethod;
     private final Class<?> executeMethodReturnType;
@@ -62,6 +67,7 @@ public class ScriptClassInfo {
     private final List<Class<?>> getReturns;
     public final List<FunctionTable.LocalFunction> converters;
     public final FunctionTable.LocalFunction defConverter;
+    private final FunctionTable.LocalFunction doubleDocValueReader;
 
     public ScriptClassInfo(PainlessLookup painlessLookup, Class<?> baseClass) {
         this.baseClass = baseClass;
@@ -132,6 +138,21 @@ public class ScriptClassInfo {
         this.defConverter = defConverter;
         this.converters = unmodifiableList(converters);
 
+        // scripts that read doc values through getDoc() can read numeric doc values as doubles without boxing them
+        FunctionTable.LocalFunction doubleDocValueReader = null;
+        if (getMethods.stream().anyMatch(m -> m.getName().equals("getDoc"))) {
+            try {
+                java.lang.reflect.Method m = baseClass.getMethod(DOUBLE_DOC_VALUE_READER_NAME, int.class, String.class);
+                if (m.getReturnType() == double.class && Modifier.isStatic(m.getModifiers()) == false) {
+                    doubleDocValueReader = new FunctionTable.LocalFunction(m.getName(), double.class,
+                        Arrays.asList(int.class, String.class), true, false);
+                }
+            } catch (NoSuchMethodException e) {
+                // the script reads doc values through getDoc() only
+            }
+        }
+        this.doubleDocValueReader = doubleDocValueReader;
+
         MethodType methodType = MethodType.methodType(executeMethod.getReturnType(), executeMethod.getParameterTypes());
         this.executeMethod = new org.objectweb.asm.commons.Method(executeMethod.getName(), methodType.toMethodDescriptorString());
         executeMethodReturnType = definitionTypeForClass(painlessLookup, executeMethod.getReturnType(),
@@ -155,6 +176,14 @@ public class ScriptClassInfo {
         this.getReturns = unmodifiableList(getReturns);
     }
 
+    /**
+     * The method of the script class that reads the first value of a numeric field of the current document as a {@code double},
+     * given the slot of the field and its name, or {@code null} if the script class doesn't support it.
+     */
+    public FunctionTable.LocalFunction getDoubleDocValueReader() {
+        return doubleDocValueReader;
+    }
+
     /**
      * The interface that the Painless script should implement.
      */
@@ -34,18 +34,29 @@ package org.opensearch.painless.phase;
 
 import org.opensearch.painless.AnalyzerCaster;
 import org.opensearch.painless.Location;
+import org.opensearch.painless.Operation;
 import org.opensearch.painless.ScriptClassInfo;
 import org.opensearch.painless.lookup.PainlessCast;
 import org.opensearch.painless.lookup.PainlessLookupUtility;
 import org.opensearch.painless.lookup.def;
 import org.opensearch.painless.node.AExpression;
 import org.opensearch.painless.node.AStatement;
+import org.opensearch.painless.node.EBinary;
+import org.opensearch.painless.node.EBrace;
+import org.opensearch.painless.node.EComp;
+import org.opensearch.painless.node.EDecimal;
+import org.opensearch.painless.node.EDot;
+import org.opensearch.painless.node.ELambda;
+import org.opensearch.painless.node.EString;
+import org.opensearch.painless.node.ESymbol;
 import org.opensearch.painless.node.SBlock;
 import org.opensearch.painless.node.SExpression;
 import org.opensearch.painless.node.SFunction;
 import org.opensearch.painless.node.SReturn;
 import org.opensearch.painless.symbol.Decorations;
 import org.opensearch.painless.symbol.Decorations.AllEscape;
+import org.opensearch.painless.symbol.Decorations.Compound;
+import org.opensearch.painless.symbol.Decorations.DocValueRead;
 import org.opensearch.painless.symbol.Decorations.ExpressionPainlessCast;
 import org.opensearch.painless.symbol.Decorations.Internal;
 import org.opensearch.painless.symbol.Decorations.LastSource;
@@ -53,12 +64,16 @@ import org.opensearch.painless.symbol.Decorations.LoopEscape;
 import org.opensearch.painless.symbol.Decorations.MethodEscape;
 import org.opensearch.painless.symbol.Decorations.Read;
 import org.opensearch.painless.symbol.Decorations.TargetType;
+import org.opensearch.painless.symbol.Decorations.ValueType;
+import org.opensearch.painless.symbol.Decorations.Write;
 import org.opensearch.painless.symbol.FunctionTable.LocalFunction;
 import org.opensearch.painless.symbol.ScriptScope;
 import org.opensearch.painless.symbol.SemanticScope;
 import org.opensearch.painless.symbol.SemanticScope.FunctionScope;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.opensearch.painless.symbol.SemanticScope.newFunctionScope;
 
@@ -67,6 +82,12 @@ public class PainlessSemanticAnalysisPhase extends DefaultSemanticAnalysisPhase
     /** Current function while in {@code visitFunction} */
     protected String functionName = "";
 
+    /** Number of lambdas enclosing the current node */
+    protected int lambdaDepth = 0;
+
+    /** Slots of the fields read through {@code doc['field'].value} as primitive doubles */
+    protected final Map<String, Integer> docValueSlots = new HashMap<>();
+
     @Override
     public void visitFunction(SFunction userFunctionNode, ScriptScope scriptScope) {
         functionName = userFunctionNode.getFunctionName();
@@ -189,6 +210,131 @@ public class PainlessSemanticAnalysisPhase extends DefaultSemanticAnalysisPhase
         semanticScope.setCondition(userReturnNode, AllEscape.class);
     }
 
+    @Override
+    public void visitLambda(ELambda userLambdaNode, SemanticScope semanticScope) {
+        ++lambdaDepth;
+        super.visitLambda(userLambdaNode, semanticScope);
+        --lambdaDepth;
+    }
+
+    /**
+     * Visits a binary math operation.
+     *
+     * If one side is a doc value read and the other side is statically a double, the doc value is promoted to a double anyway
+     * and is read as a primitive double.
+     */
+    @Override
+    public void visitBinary(EBinary userBinaryNode, SemanticScope semanticScope) {
+        Operation operation = userBinaryNode.getOperation();
+
+        // an addition may be a string concatenation unless its result is converted to a double anyway
+        TargetType targetType = semanticScope.getDecoration(userBinaryNode, TargetType.class);
+        boolean numericAdd = operation == Operation.ADD && targetType != null && targetType.getTargetType() == double.class;
+
+        if (operation == Operation.MUL || operation == Operation.DIV || operation == Operation.REM ||
+                operation == Operation.SUB || numericAdd) {
+            decorateDocValueOperand(userBinaryNode.getLeftNode(), userBinaryNode.getRightNode(), semanticScope);
+        }
+
+        super.visitBinary(userBinaryNode, semanticScope);
+    }
+
+    /**
+     * Visits a comparison.
+     *
+     * If one side of a numeric comparison is a doc value read and the other side is statically a double, the doc value is
+     * promoted to a double anyway and is read as a primitive double.
+     */
+    @Override
+    public void visitComp(EComp userCompNode, SemanticScope semanticScope) {
+        Operation operation = userCompNode.getOperation();
+
+        if (operation == Operation.GT || operation == Operation.GTE || operation == Operation.LT || operation == Operation.LTE) {
+            decorateDocValueOperand(userCompNode.getLeftNode(), userCompNode.getRightNode(), semanticScope);
+        }
+
+        super.visitComp(userCompNode, semanticScope);
+    }
+
+    private void decorateDocValueOperand(AExpression userLeftNode, AExpression userRightNode, SemanticScope semanticScope) {
+        if (isDocValueRead(userLeftNode, semanticScope) && isDouble(userRightNode, semanticScope)) {
+            semanticScope.putDecoration(userLeftNode, new TargetType(double.class));
+        } else if (isDocValueRead(userRightNode, semanticScope) && isDouble(userLeftNode, semanticScope)) {
+            semanticScope.putDecoration(userRightNode, new TargetType(double.class));
+        }
+    }
+
+    /**
+     * Visits a dot expression.
+     *
+     * A {@code doc['field'].value} read in the execute method that is converted to a double is read as a primitive double
+     * through the script's doc value reader, which skips the boxing of the value and the dynamic dispatch on the doc map.
+     * Reads that aren't converted to a double keep the generic path, so the semantics of the script are the same either way.
+     */
+    @Override
+    public void visitDot(EDot userDotNode, SemanticScope semanticScope) {
+        TargetType targetType = semanticScope.getDecoration(userDotNode, TargetType.class);
+
+        if (targetType != null && targetType.getTargetType() == double.class &&
+                semanticScope.getCondition(userDotNode, Read.class) &&
+                semanticScope.getCondition(userDotNode, Write.class) == false &&
+                semanticScope.getCondition(userDotNode, Compound.class) == false &&
+                isDocValueRead(userDotNode, semanticScope)) {
+
+            String field = ((EString)((EBrace)userDotNode.getPrefixNode()).getIndexNode()).getString();
+            int slot = docValueSlots.computeIfAbsent(field, f -> docValueSlots.size());
+            semanticScope.putDecoration(userDotNode, new ValueType(double.class));
+            semanticScope.putDecoration(userDotNode, new DocValueRead(field, slot));
+        } else {
+            super.visitDot(userDotNode, semanticScope);
+        }
+    }
+
+    /**
+     * Returns whether the expression is a {@code doc['field'].value} read that can use the script's doc value reader.
+     */
+    private boolean isDocValueRead(AExpression userExpressionNode, SemanticScope semanticScope) {
+        if ("execute".equals(functionName) == false || lambdaDepth > 0 ||
+                semanticScope.getScriptScope().getScriptClassInfo().getDoubleDocValueReader() == null) {
+            return false;
+        }
+
+        if (userExpressionNode instanceof EDot == false) {
+            return false;
+        }
+
+        EDot userDotNode = (EDot)userExpressionNode;
+
+        if (userDotNode.isNullSafe() || "value".equals(userDotNode.getIndex()) == false ||
+                userDotNode.getPrefixNode() instanceof EBrace == false) {
+            return false;
+        }
+
+        EBrace userBraceNode = (EBrace)userDotNode.getPrefixNode();
+
+        // doc is defined by the execute method and can't be redefined by the script
+        return userBraceNode.getPrefixNode() instanceof ESymbol &&
+                "doc".equals(((ESymbol)userBraceNode.getPrefixNode()).getSymbol()) &&
+                userBraceNode.getIndexNode() instanceof EString &&
+                semanticScope.isVariableDefined("doc");
+    }
+
+    /**
+     * Returns whether the expression is statically a double, before it's visited.
+     */
+    private boolean isDouble(AExpression userExpressionNode, SemanticScope semanticScope) {
+        if (userExpressionNode instanceof EDecimal) {
+            String decimal = ((EDecimal)userExpressionNode).getDecimal();
+            return decimal.endsWith("f") == false && decimal.endsWith("F") == false;
+        } else if (userExpressionNode instanceof ESymbol) {
+            String symbol = ((ESymbol)userExpressionNode).getSymbol();
+            return semanticScope.isVariableDefined(symbol) &&
+                    semanticScope.getVariable(userExpressionNode.getLocation(), symbol).getType() == double.class;
+        }
+
+        return false;
+    }
+
     /**
      * Decorates a user expression node with a PainlessCast.
      */
@@ -58,10 +58,12 @@ import org.opensearch.painless.ir.TryNode;
 import org.opensearch.painless.lookup.PainlessLookup;
 import org.opensearch.painless.lookup.PainlessMethod;
 import org.opensearch.painless.node.AStatement;
+import org.opensearch.painless.node.EDot;
 import org.opensearch.painless.node.SExpression;
 import org.opensearch.painless.node.SFunction;
 import org.opensearch.painless.node.SReturn;
 import org.opensearch.painless.symbol.Decorations.Converter;
+import org.opensearch.painless.symbol.Decorations.DocValueRead;
 import org.opensearch.painless.symbol.Decorations.IRNodeDecoration;
 import org.opensearch.painless.symbol.Decorations.MethodEscape;
 import org.opensearch.painless.symbol.FunctionTable.LocalFunction;
@@ -503,6 +505,35 @@ public class PainlessUserTreeToIRTreePhase extends DefaultUserTreeToIRTreePhase
         }
     }
 
+    @Override
+    public void visitDot(EDot userDotNode, ScriptScope scriptScope) {
+        DocValueRead docValueRead = scriptScope.getDecoration(userDotNode, DocValueRead.class);
+
+        if (docValueRead == null) {
+            super.visitDot(userDotNode, scriptScope);
+            return;
+        }
+
+        // reads doc['field'].value as a primitive double through the script's doc value reader
+        Location location = userDotNode.getLocation();
+
+        InvokeCallMemberNode irInvokeCallMemberNode = new InvokeCallMemberNode(location);
+        irInvokeCallMemberNode.setExpressionType(double.class);
+        irInvokeCallMemberNode.setLocalFunction(scriptScope.getScriptClassInfo().getDoubleDocValueReader());
+
+        ConstantNode irSlotNode = new ConstantNode(location);
+        irSlotNode.setExpressionType(int.class);
+        irSlotNode.setConstant(docValueRead.getSlot());
+        irInvokeCallMemberNode.addArgumentNode(irSlotNode);
+
+        ConstantNode irFieldNode = new ConstantNode(location);
+        irFieldNode.setExpressionType(String.class);
+        irFieldNode.setConstant(docValueRead.getField());
+        irInvokeCallMemberNode.addArgumentNode(irFieldNode);
+
+        scriptScope.putDecoration(userDotNode, new IRNodeDecoration(irInvokeCallMemberNode));
+    }
+
     @Override
     public void visitExpression(SExpression userExpressionNode, ScriptScope scriptScope) {
         // sets IRNodeDecoration with ReturnNode or StatementExpressionNode
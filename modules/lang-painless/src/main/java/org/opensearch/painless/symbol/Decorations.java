@@ -630,4 +630,25 @@ public class Decorations {
     public interface IsDocument extends Condition {
 
     }
+
+    // a doc['field'].value read in the execute method that is loaded as a primitive double
+
+    public static class DocValueRead implements Decoration {
+
+        private final String field;
+        private final int slot;
+
+        public DocValueRead(String field, int slot) {
+            this.field = Objects.requireNonNull(field);
+            this.slot = slot;
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        public int getSlot() {
+            return slot;
+        }
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.painless;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.index.mapper.Uid;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.painless.spi.Whitelist;
+import org.opensearch.script.NumberSortScript;
+import org.opensearch.script.ScoreScript;
+import org.opensearch.script.ScriptContext;
+import org.opensearch.script.ScriptException;
+import org.opensearch.test.OpenSearchSingleNodeTestCase;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Tests that {@code doc['field'].value} reads that convert to doubles are read as primitive doubles, and behave the same as
+ * the generic reads.
+ */
+public class DocValueReadTests extends OpenSearchSingleNodeTestCase {
+
+    private PainlessScriptEngine scriptEngine;
+    private IndexService index;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        Map<ScriptContext<?>, List<Whitelist>> contexts = new HashMap<>();
+        contexts.put(ScoreScript.CONTEXT, Whitelist.BASE_WHITELISTS);
+        contexts.put(NumberSortScript.CONTEXT, Whitelist.BASE_WHITELISTS);
+        scriptEngine = new PainlessScriptEngine(Settings.EMPTY, contexts);
+
+        index = createIndex("test", Settings.EMPTY, "type", "l", "type=long", "d", "type=double", "k", "type=keyword");
+        client().prepareIndex("test", "type", "1").setSource("l", 3, "d", 1.5, "k", "foo").get();
+        client().prepareIndex("test", "type", "2").setSource("k", "bar").get();
+        client().admin().indices().prepareRefresh("test").get();
+    }
+
+    public void testUsesDoubleDocValueReader() {
+        CompilerSettings settings = new CompilerSettings();
+        assertThat(Debugger.toString(ScoreScript.class, "doc['l'].value * _score", settings), containsString("readDoubleDocValue"));
+        assertThat(Debugger.toString(ScoreScript.class, "return doc['d'].value", settings), containsString("readDoubleDocValue"));
+        assertThat(Debugger.toString(ScoreScript.class, "doc['l'].value > 2.0 ? 1 : 0", settings), containsString("readDoubleDocValue"));
+        // the value isn't converted to a double, or may be concatenated to a string
+        assertThat(Debugger.toString(ScoreScript.class, "doc['k'].value.length()", settings), not(containsString("readDoubleDocValue")));
+        assertThat(Debugger.toString(ScoreScript.class, "String s = doc['k'].value + 1.0; return s.length()", settings),
+            not(containsString("readDoubleDocValue")));
+        // lambdas are compiled to static methods
+        assertThat(Debugger.toString(ScoreScript.class, "Math.max(0.0, [1].stream().mapToDouble(x -> doc['l'].value * 2.0).sum())",
+            settings), not(containsString("readDoubleDocValue")));
+    }
+
+    public void testScoreScript() throws IOException {
+        assertThat(score("doc['l'].value * _score", "1"), equalTo(6.0));
+        assertThat(score("return doc['d'].value", "1"), equalTo(1.5));
+        assertThat(score("doc['l'].value > 2.0 ? doc['l'].value + doc['d'].value : 0", "1"), equalTo(4.5));
+        assertThat(score("Math.log10(doc['l'].value + 7.0)", "1"), equalTo(1.0));
+        assertThat(score("doc['d'].value * doc['d'].value * _score", "1"), equalTo(4.5));
+        assertThat(score("doc['k'].value.length()", "1"), equalTo(3.0));
+        assertThat(score("doc['l'].size() == 0 ? 0.5 : doc['l'].value * 1.0", "2"), equalTo(0.5));
+    }
+
+    public void testNumberSortScript() throws IOException {
+        assertThat(sort("doc['l'].value / 2.0", "1"), equalTo(1.5));
+        assertThat(sort("doc['d'].value", "1"), equalTo(1.5));
+    }
+
+    public void testMissingValue() throws IOException {
+        ScriptException e = expectThrows(ScriptException.class, () -> score("doc['l'].value * 2.0", "2"));
+        assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+        assertThat(e.getCause().getMessage(), containsString("A document doesn't have a value for a field!"));
+    }
+
+    public void testNotANumber() throws IOException {
+        ScriptException e = expectThrows(ScriptException.class, () -> score("doc['k'].value * 2.0", "1"));
+        assertThat(e.getCause(), instanceOf(ClassCastException.class));
+    }
+
+    private double score(String source, String id) throws IOException {
+        try (Engine.Searcher searcher = index.getShard(0).acquireSearcher("test")) {
+            QueryShardContext shardContext = index.newQueryShardContext(0, searcher, () -> 0, null);
+            ScoreScript.Factory factory = scriptEngine.compile(null, source, ScoreScript.CONTEXT, Collections.emptyMap());
+            ScoreScript.LeafFactory leafFactory = factory.newFactory(Collections.emptyMap(), shardContext.lookup());
+            for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                int docId = docId(leaf, id);
+                if (docId >= 0) {
+                    ScoreScript script = leafFactory.newInstance(leaf);
+                    script.setScorer(new Scorable() {
+                        @Override
+                        public float score() {
+                            return 2f;
+                        }
+
+                        @Override
+                        public int docID() {
+                            return docId;
+                        }
+                    });
+                    script.setDocument(docId);
+                    return script.execute(null);
+                }
+            }
+        }
+        throw new AssertionError("document [" + id + "] not found");
+    }
+
+    private double sort(String source, String id) throws IOException {
+        try (Engine.Searcher searcher = index.getShard(0).acquireSearcher("test")) {
+            QueryShardContext shardContext = index.newQueryShardContext(0, searcher, () -> 0, null);
+            NumberSortScript.Factory factory = scriptEngine.compile(null, source, NumberSortScript.CONTEXT, Collections.emptyMap());
+            NumberSortScript.LeafFactory leafFactory = factory.newFactory(Collections.emptyMap(), shardContext.lookup());
+            for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                int docId = docId(leaf, id);
+                if (docId >= 0) {
+                    NumberSortScript script = leafFactory.newInstance(leaf);
+                    script.setDocument(docId);
+                    return script.execute();
+                }
+            }
+        }
+        throw new AssertionError("document [" + id + "] not found");
+    }
+
+    private static int docId(LeafReaderContext leaf, String id) throws IOException {
+        for (int docId = 0; docId < leaf.reader().maxDoc(); docId++) {
+            BytesRef idBytes = leaf.reader().document(docId).getBinaryValue(IdFieldMapper.NAME);
+            if (id.equals(Uid.decodeId(idBytes.bytes, idBytes.offset, idBytes.length))) {
+                return docId;
+            }
+        }
+        return -1;
+    }
+}
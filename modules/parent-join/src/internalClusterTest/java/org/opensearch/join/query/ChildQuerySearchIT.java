@@ -42,6 +42,7 @@ import org.opensearch.common.lucene.search.function.CombineFunction;
 import org.opensearch.common.lucene.search.function.FunctionScoreQuery;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.fielddata.FieldDataStats;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.IdsQueryBuilder;
 import org.opensearch.index.query.InnerHitBuilder;
@@ -96,6 +97,7 @@ import static org.opensearch.test.hamcrest.OpenSearchAssertions.hasId;
 import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 
 public class ChildQuerySearchIT extends ParentChildTestCase {
@@ -175,6 +177,35 @@ public class ChildQuerySearchIT extends ParentChildTestCase {
 
     }
 
+    public void testJoinOrdinalsIndexFieldData() throws Exception {
+        assertAcked(prepareCreate("test")
+            .setSettings(Settings.builder().put(indexSettings()).put(JoinOrdinalsIndex.INDEX_JOIN_ORDINALS_INDEX_SETTING.getKey(), true))
+            .addMapping("doc", buildParentJoinFieldMappingFromSimplifiedDef("join_field", true, "parent", "child")));
+        ensureGreen();
+        createIndexRequest("test", "parent", "p1", null, "p_field", "p_value1").get();
+        createIndexRequest("test", "child", "c1", "p1", "c_field", "c_value1").get();
+        createIndexRequest("test", "child", "c2", "p1", "c_field", "c_value2").get();
+        createIndexRequest("test", "parent", "p2", null, "p_field", "p_value2").get();
+        refresh();
+
+        SearchResponse searchResponse = client().prepareSearch("test")
+            .setQuery(hasChildQuery("child", matchAllQuery(), ScoreMode.None).minMaxChildren(2, 2)).get();
+        assertNoFailures(searchResponse);
+        assertSearchHits(searchResponse, "p1");
+
+        final String field = JoinOrdinalsIndexFieldData.fieldName("join_field#parent", "child");
+        FieldDataStats fieldDataStats = client().admin().indices().prepareStats("test").setFieldData(true).setFieldDataFields(field)
+            .get().getTotal().getFieldData();
+        assertThat(fieldDataStats.getFields().get(field), greaterThan(0L));
+
+        // turning the index off drops the cached indices
+        assertAcked(client().admin().indices().prepareUpdateSettings("test")
+            .setSettings(Settings.builder().put(JoinOrdinalsIndex.INDEX_JOIN_ORDINALS_INDEX_SETTING.getKey(), false)));
+        fieldDataStats = client().admin().indices().prepareStats("test").setFieldData(true).setFieldDataFields(field)
+            .get().getTotal().getFieldData();
+        assertThat(fieldDataStats.getFields().get(field), equalTo(0L));
+    }
+
     public void testSimpleChildQuery() throws Exception {
         assertAcked(prepareCreate("test")
                 .addMapping("doc", buildParentJoinFieldMappingFromSimplifiedDef("join_field", true, "parent", "child")));
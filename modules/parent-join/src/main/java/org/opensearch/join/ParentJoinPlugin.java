@@ -32,7 +32,12 @@
 
 package org.opensearch.join;
 
+import org.apache.lucene.util.SetOnce;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.index.IndexModule;
+import org.opensearch.index.IndexService;
 import org.opensearch.index.mapper.Mapper;
+import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.join.aggregations.ChildrenAggregationBuilder;
 import org.opensearch.join.aggregations.InternalChildren;
 import org.opensearch.join.aggregations.InternalParent;
@@ -40,6 +45,8 @@ import org.opensearch.join.aggregations.ParentAggregationBuilder;
 import org.opensearch.join.mapper.ParentJoinFieldMapper;
 import org.opensearch.join.query.HasChildQueryBuilder;
 import org.opensearch.join.query.HasParentQueryBuilder;
+import org.opensearch.join.query.JoinOrdinalsIndex;
+import org.opensearch.join.query.JoinOrdinalsIndexFieldData;
 import org.opensearch.join.query.ParentIdQueryBuilder;
 import org.opensearch.plugins.MapperPlugin;
 import org.opensearch.plugins.Plugin;
@@ -78,4 +85,26 @@ public class ParentJoinPlugin extends Plugin implements SearchPlugin, MapperPlug
     public Map<String, Mapper.TypeParser> getMappers() {
         return Collections.singletonMap(ParentJoinFieldMapper.CONTENT_TYPE, new ParentJoinFieldMapper.TypeParser());
     }
+
+    @Override
+    public void onIndexModule(IndexModule indexModule) {
+        final SetOnce<IndexService> indexService = new SetOnce<>();
+        indexModule.addIndexEventListener(new IndexEventListener() {
+            @Override
+            public void afterIndexCreated(IndexService createdIndexService) {
+                indexService.set(createdIndexService);
+            }
+        });
+        // indices that are no longer used should not hold on to memory until their segments are merged away
+        indexModule.addSettingsUpdateConsumer(JoinOrdinalsIndex.INDEX_JOIN_ORDINALS_INDEX_SETTING, enabled -> {
+            if (enabled == false && indexService.get() != null) {
+                JoinOrdinalsIndexFieldData.clear(indexService.get());
+            }
+        });
+    }
+
+    @Override
+    public List<Setting<?>> getSettings() {
+        return Collections.singletonList(JoinOrdinalsIndex.INDEX_JOIN_ORDINALS_INDEX_SETTING);
+    }
 }
@@ -42,6 +42,7 @@ import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.join.mapper.ParentIdFieldMapper;
 import org.opensearch.join.mapper.ParentJoinFieldMapper;
+import org.opensearch.join.query.JoinOrdinalsIndexFieldData;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregatorFactories.Builder;
 import org.opensearch.search.aggregations.AggregatorFactory;
@@ -63,6 +64,7 @@ public class ChildrenAggregationBuilder extends ValuesSourceAggregationBuilder<C
     private final String childType;
     private Query parentFilter;
     private Query childFilter;
+    private JoinOrdinalsIndexFieldData childrenIndexFieldData;
 
     /**
      * @param name
@@ -84,6 +86,7 @@ public class ChildrenAggregationBuilder extends ValuesSourceAggregationBuilder<C
         this.childType = clone.childType;
         this.childFilter = clone.childFilter;
         this.parentFilter = clone.parentFilter;
+        this.childrenIndexFieldData = clone.childrenIndexFieldData;
     }
 
     @Override
@@ -119,8 +122,8 @@ public class ChildrenAggregationBuilder extends ValuesSourceAggregationBuilder<C
                                                        ValuesSourceConfig config,
                                                        AggregatorFactory parent,
                                                        Builder subFactoriesBuilder) throws IOException {
-        return new ChildrenAggregatorFactory(name, config, childFilter, parentFilter, queryShardContext, parent,
-                subFactoriesBuilder, metadata);
+        return new ChildrenAggregatorFactory(name, config, childFilter, parentFilter, childrenIndexFieldData, queryShardContext,
+                parent, subFactoriesBuilder, metadata);
     }
 
     @Override
@@ -143,6 +146,7 @@ public class ChildrenAggregationBuilder extends ValuesSourceAggregationBuilder<C
 
         parentFilter = parentIdFieldMapper.getParentFilter();
         childFilter = parentIdFieldMapper.getChildFilter(childType);
+        childrenIndexFieldData = JoinOrdinalsIndexFieldData.forRelation(queryShardContext, parentIdFieldMapper, childType);
         MappedFieldType fieldType = parentIdFieldMapper.fieldType();
         config = ValuesSourceConfig.resolveFieldOnly(fieldType, queryShardContext);
         return config;
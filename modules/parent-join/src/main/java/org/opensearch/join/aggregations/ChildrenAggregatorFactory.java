@@ -33,7 +33,9 @@
 package org.opensearch.join.aggregations;
 
 import org.apache.lucene.search.Query;
+import org.opensearch.common.Nullable;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.join.query.JoinOrdinalsIndexFieldData;
 import org.opensearch.search.aggregations.AggregationExecutionException;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
@@ -56,11 +58,14 @@ public class ChildrenAggregatorFactory extends ValuesSourceAggregatorFactory {
 
     private final Query parentFilter;
     private final Query childFilter;
+    @Nullable
+    private final JoinOrdinalsIndexFieldData childrenIndexFieldData;
 
     public ChildrenAggregatorFactory(String name,
                                         ValuesSourceConfig config,
                                         Query childFilter,
                                         Query parentFilter,
+                                        @Nullable JoinOrdinalsIndexFieldData childrenIndexFieldData,
                                         QueryShardContext context,
                                         AggregatorFactory parent,
                                         AggregatorFactories.Builder subFactoriesBuilder,
@@ -69,6 +74,7 @@ public class ChildrenAggregatorFactory extends ValuesSourceAggregatorFactory {
 
         this.childFilter = childFilter;
         this.parentFilter = parentFilter;
+        this.childrenIndexFieldData = childrenIndexFieldData;
     }
 
     @Override
@@ -94,7 +100,7 @@ public class ChildrenAggregatorFactory extends ValuesSourceAggregatorFactory {
         WithOrdinals valuesSource = (WithOrdinals) rawValuesSource;
         long maxOrd = valuesSource.globalMaxOrd(searchContext.searcher());
         return new ParentToChildrenAggregator(name, factories, searchContext, parent, childFilter,
-            parentFilter, valuesSource, maxOrd, cardinality, metadata);
+            parentFilter, valuesSource, maxOrd, cardinality, childrenIndexFieldData, metadata);
     }
 
     @Override
@@ -42,6 +42,7 @@ import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.join.mapper.ParentIdFieldMapper;
 import org.opensearch.join.mapper.ParentJoinFieldMapper;
+import org.opensearch.join.query.JoinOrdinalsIndexFieldData;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregatorFactories.Builder;
 import org.opensearch.search.aggregations.AggregatorFactory;
@@ -63,6 +64,7 @@ public class ParentAggregationBuilder extends ValuesSourceAggregationBuilder<Par
     private final String childType;
     private Query parentFilter;
     private Query childFilter;
+    private JoinOrdinalsIndexFieldData parentsIndexFieldData;
 
     /**
      * @param name
@@ -84,6 +86,7 @@ public class ParentAggregationBuilder extends ValuesSourceAggregationBuilder<Par
         this.childType = clone.childType;
         this.childFilter = clone.childFilter;
         this.parentFilter = clone.parentFilter;
+        this.parentsIndexFieldData = clone.parentsIndexFieldData;
     }
 
     @Override
@@ -119,8 +122,8 @@ public class ParentAggregationBuilder extends ValuesSourceAggregationBuilder<Par
                                                        ValuesSourceConfig config,
                                                        AggregatorFactory parent,
                                                        Builder subFactoriesBuilder) throws IOException {
-        return new ParentAggregatorFactory(name, config, childFilter, parentFilter, queryShardContext, parent,
-                subFactoriesBuilder, metadata);
+        return new ParentAggregatorFactory(name, config, childFilter, parentFilter, parentsIndexFieldData, queryShardContext,
+                parent, subFactoriesBuilder, metadata);
     }
 
     @Override
@@ -131,6 +134,8 @@ public class ParentAggregationBuilder extends ValuesSourceAggregationBuilder<Par
         if (parentIdFieldMapper != null) {
             parentFilter = parentIdFieldMapper.getParentFilter();
             childFilter = parentIdFieldMapper.getChildFilter(childType);
+            parentsIndexFieldData = JoinOrdinalsIndexFieldData.forRelation(queryShardContext, parentIdFieldMapper,
+                parentIdFieldMapper.getParentName());
             MappedFieldType fieldType = parentIdFieldMapper.fieldType();
             config = ValuesSourceConfig.resolveFieldOnly(fieldType, queryShardContext);
         } else {
@@ -33,7 +33,9 @@
 package org.opensearch.join.aggregations;
 
 import org.apache.lucene.search.Query;
+import org.opensearch.common.Nullable;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.join.query.JoinOrdinalsIndexFieldData;
 import org.opensearch.search.aggregations.AggregationExecutionException;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
@@ -56,11 +58,14 @@ public class ParentAggregatorFactory extends ValuesSourceAggregatorFactory {
 
     private final Query parentFilter;
     private final Query childFilter;
+    @Nullable
+    private final JoinOrdinalsIndexFieldData parentsIndexFieldData;
 
     public ParentAggregatorFactory(String name,
                                    ValuesSourceConfig config,
                                    Query childFilter,
                                    Query parentFilter,
+                                   @Nullable JoinOrdinalsIndexFieldData parentsIndexFieldData,
                                    QueryShardContext queryShardContext,
                                    AggregatorFactory parent,
                                    AggregatorFactories.Builder subFactoriesBuilder,
@@ -69,6 +74,7 @@ public class ParentAggregatorFactory extends ValuesSourceAggregatorFactory {
 
         this.childFilter = childFilter;
         this.parentFilter = parentFilter;
+        this.parentsIndexFieldData = parentsIndexFieldData;
     }
 
     @Override
@@ -94,7 +100,7 @@ public class ParentAggregatorFactory extends ValuesSourceAggregatorFactory {
         WithOrdinals valuesSource = (WithOrdinals) rawValuesSource;
         long maxOrd = valuesSource.globalMaxOrd(searchContext.searcher());
         return new ChildrenToParentAggregator(name, factories, searchContext, children, childFilter,
-            parentFilter, valuesSource, maxOrd, cardinality, metadata);
+            parentFilter, valuesSource, maxOrd, cardinality, parentsIndexFieldData, metadata);
     }
 
     @Override
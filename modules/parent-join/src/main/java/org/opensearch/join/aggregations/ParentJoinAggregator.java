@@ -40,12 +40,17 @@ import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.BitArray;
+import org.opensearch.join.query.JoinOrdinalsIndex;
+import org.opensearch.join.query.JoinOrdinalsIndexFieldData;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
@@ -68,6 +73,12 @@ public abstract class ParentJoinAggregator extends BucketsAggregator implements
     private final Weight inFilter;
     private final Weight outFilter;
     private final ValuesSource.Bytes.WithOrdinals valuesSource;
+    /**
+     * The {@link JoinOrdinalsIndex} field data to look up the documents of the <code>outFilter</code> in, or
+     * {@code null} if they are found by going over all of them.
+     */
+    @Nullable
+    private final JoinOrdinalsIndexFieldData outIndexFieldData;
 
     /**
      * Strategy for collecting results.
@@ -84,6 +95,20 @@ public abstract class ParentJoinAggregator extends BucketsAggregator implements
                                     long maxOrd,
                                     CardinalityUpperBound cardinality,
                                     Map<String, Object> metadata) throws IOException {
+        this(name, factories, context, parent, inFilter, outFilter, valuesSource, maxOrd, cardinality, null, metadata);
+    }
+
+    public ParentJoinAggregator(String name,
+                                    AggregatorFactories factories,
+                                    SearchContext context,
+                                    Aggregator parent,
+                                    Query inFilter,
+                                    Query outFilter,
+                                    ValuesSource.Bytes.WithOrdinals valuesSource,
+                                    long maxOrd,
+                                    CardinalityUpperBound cardinality,
+                                    @Nullable JoinOrdinalsIndexFieldData outIndexFieldData,
+                                    Map<String, Object> metadata) throws IOException {
         /*
          * We have to use MANY to work around
          * https://github.com/elastic/elasticsearch/issues/59097
@@ -99,6 +124,7 @@ public abstract class ParentJoinAggregator extends BucketsAggregator implements
         this.inFilter = context.searcher().createWeight(context.searcher().rewrite(inFilter), ScoreMode.COMPLETE_NO_SCORES, 1f);
         this.outFilter = context.searcher().createWeight(context.searcher().rewrite(outFilter), ScoreMode.COMPLETE_NO_SCORES, 1f);
         this.valuesSource = valuesSource;
+        this.outIndexFieldData = outIndexFieldData;
         boolean singleAggregator = parent == null;
         collectionStrategy = singleAggregator && cardinality == CardinalityUpperBound.ONE
             ? new DenseCollectionStrategy(maxOrd, context.bigArrays())
@@ -138,7 +164,9 @@ public abstract class ParentJoinAggregator extends BucketsAggregator implements
             if (childDocsScorer == null) {
                 continue;
             }
-            DocIdSetIterator childDocsIter = childDocsScorer.iterator();
+            final DocIdSetIterator childDocsIter = outIndexFieldData == null
+                ? childDocsScorer.iterator()
+                : collectedDocsFromIndex(ctx, ordsToCollect);
 
             final LeafBucketCollector sub = collectableSubAggregators.getLeafCollector(ctx);
 
@@ -183,6 +211,28 @@ public abstract class ParentJoinAggregator extends BucketsAggregator implements
         super.postCollection(); // Run post collection after collecting the sub-aggs
     }
 
+    /**
+     * Returns the documents of the <code>outFilter</code> that hold one of the collected ordinals, looked up in the
+     * {@link JoinOrdinalsIndex} of the segment instead of going over all documents of the <code>outFilter</code>.
+     */
+    private DocIdSetIterator collectedDocsFromIndex(LeafReaderContext ctx, long[] ordsToCollect) throws IOException {
+        final JoinOrdinalsIndex index = outIndexFieldData.load(ctx);
+        final SortedSetDocValues globalOrdinals = valuesSource.globalOrdinalsValues(ctx);
+        final SortedSetDocValues segmentOrdinals = valuesSource.ordinalsValues(ctx);
+        final FixedBitSet docs = new FixedBitSet(ctx.reader().maxDoc());
+        for (long owningBucketOrd : ordsToCollect) {
+            final LongKeyedBucketOrds.BucketOrdsEnum collected = collectionStrategy.collected(owningBucketOrd);
+            while (collected.next()) {
+                // global ordinals have no reverse mapping, so look the segment ordinal up by term
+                final long ord = segmentOrdinals.lookupTerm(globalOrdinals.lookupOrd(collected.value()));
+                if (ord >= 0) {
+                    index.addDocs((int) ord, docs);
+                }
+            }
+        }
+        return new BitSetIterator(docs, docs.approximateCardinality());
+    }
+
     @Override
     protected void doClose() {
         Releasables.close(collectionStrategy);
@@ -197,6 +247,10 @@ public abstract class ParentJoinAggregator extends BucketsAggregator implements
     protected interface CollectionStrategy extends Releasable {
         void add(long owningBucketOrd, int globalOrdinal);
         boolean exists(long owningBucketOrd, int globalOrdinal);
+        /**
+         * Returns the global ordinals collected for the given bucket, as the values of the enum.
+         */
+        LongKeyedBucketOrds.BucketOrdsEnum collected(long owningBucketOrd);
     }
 
     /**
@@ -224,6 +278,30 @@ public abstract class ParentJoinAggregator extends BucketsAggregator implements
             return ordsBits.get(globalOrdinal);
         }
 
+        @Override
+        public LongKeyedBucketOrds.BucketOrdsEnum collected(long owningBucketOrd) {
+            assert owningBucketOrd == 0;
+            return new LongKeyedBucketOrds.BucketOrdsEnum() {
+                private long globalOrdinal = -1;
+
+                @Override
+                public boolean next() {
+                    globalOrdinal = ordsBits.nextSetBit(globalOrdinal + 1);
+                    return globalOrdinal != Long.MAX_VALUE;
+                }
+
+                @Override
+                public long ord() {
+                    return globalOrdinal;
+                }
+
+                @Override
+                public long value() {
+                    return globalOrdinal;
+                }
+            };
+        }
+
         @Override
         public void close() {
             ordsBits.close();
@@ -253,6 +331,11 @@ public abstract class ParentJoinAggregator extends BucketsAggregator implements
             return ordsHash.find(owningBucketOrd, globalOrdinal) >= 0;
         }
 
+        @Override
+        public LongKeyedBucketOrds.BucketOrdsEnum collected(long owningBucketOrd) {
+            return ordsHash.ordsEnum(owningBucketOrd);
+        }
+
         @Override
         public void close() {
             ordsHash.close();
@@ -32,7 +32,9 @@
 package org.opensearch.join.aggregations;
 
 import org.apache.lucene.search.Query;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.ParseField;
+import org.opensearch.join.query.JoinOrdinalsIndexFieldData;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
@@ -51,7 +53,16 @@ public class ParentToChildrenAggregator extends ParentJoinAggregator {
             SearchContext context, Aggregator parent, Query childFilter,
             Query parentFilter, ValuesSource.Bytes.WithOrdinals valuesSource,
             long maxOrd, CardinalityUpperBound cardinality, Map<String, Object> metadata) throws IOException {
-        super(name, factories, context, parent, parentFilter, childFilter, valuesSource, maxOrd, cardinality, metadata);
+        this(name, factories, context, parent, childFilter, parentFilter, valuesSource, maxOrd, cardinality, null, metadata);
+    }
+
+    public ParentToChildrenAggregator(String name, AggregatorFactories factories,
+            SearchContext context, Aggregator parent, Query childFilter,
+            Query parentFilter, ValuesSource.Bytes.WithOrdinals valuesSource,
+            long maxOrd, CardinalityUpperBound cardinality, @Nullable JoinOrdinalsIndexFieldData outIndexFieldData,
+            Map<String, Object> metadata) throws IOException {
+        super(name, factories, context, parent, parentFilter, childFilter, valuesSource, maxOrd, cardinality, outIndexFieldData,
+            metadata);
     }
 
     @Override
@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.join.query;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TwoPhaseIterator;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.search.join.ScoreMode;
+import org.apache.lucene.util.LongValues;
+import org.opensearch.index.fielddata.IndexOrdinalsFieldData;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Matches the parents that have between a minimum and a maximum number of children of a type, using the child
+ * counts of the {@link JoinOrdinalsIndex} of every segment instead of going over all children. This is only
+ * equivalent to a {@code has_child} join if all children of the type match, so their scores are all the same.
+ */
+final class ChildCountJoinQuery extends Query {
+
+    private final Query parentFilter;
+    private final IndexOrdinalsFieldData globalJoinFieldData;
+    private final int[] childCounts;
+    private final int minChildren;
+    private final int maxChildren;
+    private final ScoreMode scoreMode;
+    private final Object indexReaderContextId;
+
+    private ChildCountJoinQuery(Query parentFilter, IndexOrdinalsFieldData globalJoinFieldData, int[] childCounts,
+                                int minChildren, int maxChildren, ScoreMode scoreMode, Object indexReaderContextId) {
+        this.parentFilter = parentFilter;
+        this.globalJoinFieldData = globalJoinFieldData;
+        this.childCounts = childCounts;
+        this.minChildren = Math.max(1, minChildren);
+        this.maxChildren = maxChildren;
+        this.scoreMode = scoreMode;
+        this.indexReaderContextId = indexReaderContextId;
+    }
+
+    /**
+     * Sums up the children of every parent, by global ordinal of the join field, over all segments of the reader.
+     *
+     * @param childrenIndexFieldData the field data of the join ordinals indices of the children
+     * @param globalJoinFieldData the field data of the join field with global ordinals for the reader of the searcher
+     */
+    static ChildCountJoinQuery create(IndexSearcher searcher, Query parentFilter, JoinOrdinalsIndexFieldData childrenIndexFieldData,
+                                      IndexOrdinalsFieldData globalJoinFieldData, int minChildren, int maxChildren,
+                                      ScoreMode scoreMode) {
+        final IndexReader reader = searcher.getIndexReader();
+        // there is no ordinal map if the reader has a single segment, whose ordinals are the global ordinals, or no values
+        final OrdinalMap ordinalMap = globalJoinFieldData.getOrdinalMap();
+        int[] childCounts = new int[ordinalMap == null ? 0 : Math.toIntExact(ordinalMap.getValueCount())];
+        for (LeafReaderContext ctx : reader.leaves()) {
+            final JoinOrdinalsIndex index = childrenIndexFieldData.load(ctx);
+            final LongValues globalOrds = ordinalMap == null ? LongValues.IDENTITY : ordinalMap.getGlobalOrds(ctx.ord);
+            if (ordinalMap == null && index.valueCount() > 0) {
+                assert reader.leaves().size() == 1 : "expected an ordinal map for a reader with multiple segments";
+                childCounts = new int[index.valueCount()];
+            }
+            for (int ord = 0; ord < index.valueCount(); ord++) {
+                childCounts[(int) globalOrds.get(ord)] += index.docCount(ord, ctx.reader().getLiveDocs());
+            }
+        }
+        return new ChildCountJoinQuery(parentFilter, globalJoinFieldData, childCounts, minChildren, maxChildren, scoreMode,
+            reader.getContext().id());
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, org.apache.lucene.search.ScoreMode scoreMode, float boost) throws IOException {
+        final Weight parentWeight = searcher.createWeight(searcher.rewrite(parentFilter),
+            org.apache.lucene.search.ScoreMode.COMPLETE_NO_SCORES, 1f);
+        return new Weight(this) {
+            @Override
+            public void extractTerms(Set<Term> terms) {
+            }
+
+            @Override
+            public Explanation explain(LeafReaderContext context, int doc) throws IOException {
+                final Scorer scorer = scorer(context);
+                if (scorer == null || scorer.iterator().advance(doc) != doc) {
+                    return Explanation.noMatch("Not a match");
+                }
+                return Explanation.match(scorer.score(), "A match, join value " + childCount(context, doc) + " children");
+            }
+
+            @Override
+            public Scorer scorer(LeafReaderContext context) throws IOException {
+                final Scorer parentScorer = parentWeight.scorer(context);
+                if (parentScorer == null) {
+                    return null;
+                }
+                final SortedSetDocValues joinValues = globalJoinFieldData.load(context).getOrdinalsValues();
+                final DocIdSetIterator parents = parentScorer.iterator();
+                final int[] currentCount = new int[1];
+                final TwoPhaseIterator twoPhaseIterator = new TwoPhaseIterator(parents) {
+                    @Override
+                    public boolean matches() throws IOException {
+                        if (joinValues.advanceExact(parents.docID()) == false) {
+                            return false;
+                        }
+                        final long ord = joinValues.nextOrd();
+                        final int count = ord < childCounts.length ? childCounts[(int) ord] : 0;
+                        currentCount[0] = count;
+                        return count >= minChildren && count <= maxChildren;
+                    }
+
+                    @Override
+                    public float matchCost() {
+                        return 10;
+                    }
+                };
+                return new Scorer(this) {
+                    @Override
+                    public DocIdSetIterator iterator() {
+                        return TwoPhaseIterator.asDocIdSetIterator(twoPhaseIterator);
+                    }
+
+                    @Override
+                    public TwoPhaseIterator twoPhaseIterator() {
+                        return twoPhaseIterator;
+                    }
+
+                    @Override
+                    public int docID() {
+                        return parents.docID();
+                    }
+
+                    @Override
+                    public float score() {
+                        // every child scores the same, so only the sum depends on the number of children
+                        return ChildCountJoinQuery.this.scoreMode == ScoreMode.Total ? currentCount[0] * boost : boost;
+                    }
+
+                    @Override
+                    public float getMaxScore(int upTo) {
+                        return ChildCountJoinQuery.this.scoreMode == ScoreMode.Total ? Float.POSITIVE_INFINITY : boost;
+                    }
+                };
+            }
+
+            private int childCount(LeafReaderContext context, int doc) throws IOException {
+                final SortedSetDocValues joinValues = globalJoinFieldData.load(context).getOrdinalsValues();
+                return joinValues.advanceExact(doc) ? childCounts[(int) joinValues.nextOrd()] : 0;
+            }
+
+            @Override
+            public boolean isCacheable(LeafReaderContext ctx) {
+                // the child counts belong to the top level reader
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public String toString(String field) {
+        return "ChildCountJoinQuery(" + parentFilter + ", min=" + minChildren + ", max=" + maxChildren + ")";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (sameClassAs(o) == false) {
+            return false;
+        }
+        final ChildCountJoinQuery that = (ChildCountJoinQuery) o;
+        return minChildren == that.minChildren
+            && maxChildren == that.maxChildren
+            && scoreMode == that.scoreMode
+            && parentFilter.equals(that.parentFilter)
+            && indexReaderContextId.equals(that.indexReaderContextId);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = classHash();
+        result = 31 * result + parentFilter.hashCode();
+        result = 31 * result + minChildren;
+        result = 31 * result + maxChildren;
+        result = 31 * result + scoreMode.hashCode();
+        result = 31 * result + indexReaderContextId.hashCode();
+        return result;
+    }
+}
@@ -35,12 +35,14 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.OrdinalMap;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.join.JoinUtil;
 import org.apache.lucene.search.join.ScoreMode;
 import org.apache.lucene.search.similarities.Similarity;
 import org.opensearch.OpenSearchException;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.ParsingException;
 import org.opensearch.common.io.stream.StreamInput;
@@ -334,11 +336,15 @@ public class HasChildQueryBuilder extends AbstractQueryBuilder<HasChildQueryBuil
         if (parentIdFieldMapper != null) {
             Query parentFilter = parentIdFieldMapper.getParentFilter();
             Query childFilter = parentIdFieldMapper.getChildFilter(type);
-            Query innerQuery = Queries.filtered(query.toQuery(context), childFilter);
+            Query childQuery = query.toQuery(context);
+            Query innerQuery = Queries.filtered(childQuery, childFilter);
             MappedFieldType fieldType = parentIdFieldMapper.fieldType();
             final SortedSetOrdinalsIndexFieldData fieldData = context.getForField(fieldType);
+            // if all children match, the parents only depend on how many children they have
+            final JoinOrdinalsIndexFieldData childrenIndexFieldData = childQuery instanceof MatchAllDocsQuery
+                ? JoinOrdinalsIndexFieldData.forRelation(context, parentIdFieldMapper, type) : null;
             return new LateParsingQuery(parentFilter, innerQuery, minChildren(), maxChildren(),
-                fieldType.name(), scoreMode, fieldData, context.getSearchSimilarity());
+                fieldType.name(), scoreMode, fieldData, context.getSearchSimilarity(), childrenIndexFieldData);
         } else {
             if (ignoreUnmapped) {
                 return new MatchNoDocsQuery();
@@ -369,10 +375,22 @@ public class HasChildQueryBuilder extends AbstractQueryBuilder<HasChildQueryBuil
         private final ScoreMode scoreMode;
         private final SortedSetOrdinalsIndexFieldData fieldDataJoin;
         private final Similarity similarity;
+        @Nullable
+        private final JoinOrdinalsIndexFieldData childrenIndexFieldData;
 
         LateParsingQuery(Query toQuery, Query innerQuery, int minChildren, int maxChildren,
                          String joinField, ScoreMode scoreMode,
                          SortedSetOrdinalsIndexFieldData fieldData, Similarity similarity) {
+            this(toQuery, innerQuery, minChildren, maxChildren, joinField, scoreMode, fieldData, similarity, null);
+        }
+
+        /**
+         * @param childrenIndexFieldData if not {@code null}, the inner query matches all children, which can then be
+         *                               counted per parent with the {@link JoinOrdinalsIndex} of this field data
+         */
+        LateParsingQuery(Query toQuery, Query innerQuery, int minChildren, int maxChildren,
+                         String joinField, ScoreMode scoreMode, SortedSetOrdinalsIndexFieldData fieldData, Similarity similarity,
+                         @Nullable JoinOrdinalsIndexFieldData childrenIndexFieldData) {
             this.toQuery = toQuery;
             this.innerQuery = innerQuery;
             this.minChildren = minChildren;
@@ -381,6 +399,7 @@ public class HasChildQueryBuilder extends AbstractQueryBuilder<HasChildQueryBuil
             this.scoreMode = scoreMode;
             this.fieldDataJoin = fieldData;
             this.similarity = similarity;
+            this.childrenIndexFieldData = childrenIndexFieldData;
         }
 
         @Override
@@ -394,6 +413,10 @@ public class HasChildQueryBuilder extends AbstractQueryBuilder<HasChildQueryBuil
                 indexSearcher.setQueryCache(null);
                 indexSearcher.setSimilarity(similarity);
                 IndexOrdinalsFieldData indexParentChildFieldData = fieldDataJoin.loadGlobal((DirectoryReader) reader);
+                if (childrenIndexFieldData != null) {
+                    return ChildCountJoinQuery.create(indexSearcher, toQuery, childrenIndexFieldData, indexParentChildFieldData,
+                        minChildren, maxChildren, scoreMode);
+                }
                 OrdinalMap ordinalMap = indexParentChildFieldData.getOrdinalMap();
                 return JoinUtil.createJoinQuery(joinField, innerQuery, toQuery, indexSearcher, scoreMode,
                     ordinalMap, minChildren, maxChildren);
@@ -421,12 +444,17 @@ public class HasChildQueryBuilder extends AbstractQueryBuilder<HasChildQueryBuil
             if (!toQuery.equals(that.toQuery)) return false;
             if (!innerQuery.equals(that.innerQuery)) return false;
             if (!joinField.equals(that.joinField)) return false;
+            if (!Objects.equals(childrenIndexField(), that.childrenIndexField())) return false;
             return scoreMode == that.scoreMode;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(getClass(), toQuery, innerQuery, minChildren, maxChildren, joinField, scoreMode);
+            return Objects.hash(getClass(), toQuery, innerQuery, minChildren, maxChildren, joinField, scoreMode, childrenIndexField());
+        }
+
+        private String childrenIndexField() {
+            return childrenIndexFieldData == null ? null : childrenIndexFieldData.getFieldName();
         }
 
         @Override
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.join.query;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.index.fielddata.LeafFieldData;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.index.fielddata.SortedBinaryDocValues;
+
+import java.io.IOException;
+
+/**
+ * Maps the ordinals of a parent id field of a segment to the documents of the segment that hold them and match a
+ * filter, typically all children of a given type. This makes it possible to count the children of every parent, or
+ * to find the children of a set of parents, without going over all child documents.
+ * <p>
+ * An index is built the first time a segment is joined and is cached as field data of the index, see
+ * {@link JoinOrdinalsIndexFieldData}. It takes four bytes per indexed document and per ordinal of the segment. It does
+ * not account for deleted documents, which are filtered out by the live docs of the reader that uses it.
+ */
+public final class JoinOrdinalsIndex implements LeafFieldData {
+
+    /**
+     * Whether {@code has_child} queries and {@code children} and {@code parent} aggregations use a join ordinals index.
+     */
+    public static final Setting<Boolean> INDEX_JOIN_ORDINALS_INDEX_SETTING =
+        Setting.boolSetting("index.parent_join.ordinals_index", false, Property.IndexScope, Property.Dynamic);
+
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(JoinOrdinalsIndex.class);
+
+    /**
+     * For every ordinal the offset of its documents in {@link #docs}, the documents of the last ordinal end at
+     * {@code docs.length}.
+     */
+    private final int[] offsets;
+    private final int[] docs;
+
+    private JoinOrdinalsIndex(int[] offsets, int[] docs) {
+        this.offsets = offsets;
+        this.docs = docs;
+    }
+
+    /**
+     * Builds the index of the given segment for the documents of {@code weight} and the ordinals of {@code field}.
+     */
+    static JoinOrdinalsIndex build(LeafReaderContext ctx, String field, Weight weight) throws IOException {
+        final SortedSetDocValues values = DocValues.getSortedSet(ctx.reader(), field);
+        final int valueCount = Math.toIntExact(values.getValueCount());
+        final int[] offsets = new int[valueCount + 1];
+        int[] docs = new int[0];
+        int[] ords = new int[0];
+        int size = 0;
+        final Scorer scorer = weight.scorer(ctx);
+        if (scorer != null) {
+            final DocIdSetIterator iterator = scorer.iterator();
+            for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+                if (values.advanceExact(doc) == false) {
+                    continue;
+                }
+                final int ord = (int) values.nextOrd();
+                docs = ArrayUtil.grow(docs, size + 1);
+                ords = ArrayUtil.grow(ords, size + 1);
+                docs[size] = doc;
+                ords[size] = ord;
+                size++;
+                offsets[ord + 1]++;
+            }
+        }
+        for (int ord = 0; ord < valueCount; ord++) {
+            offsets[ord + 1] += offsets[ord];
+        }
+        // documents are visited in order, so the documents of every ordinal end up sorted
+        final int[] sortedDocs = new int[size];
+        final int[] next = ArrayUtil.copyOfSubArray(offsets, 0, valueCount);
+        for (int i = 0; i < size; i++) {
+            sortedDocs[next[ords[i]]++] = docs[i];
+        }
+        return new JoinOrdinalsIndex(ArrayUtil.copyOfSubArray(offsets, 0, valueCount), sortedDocs);
+    }
+
+    /**
+     * The number of ordinals of the segment.
+     */
+    public int valueCount() {
+        return offsets.length;
+    }
+
+    private int end(int ord) {
+        return ord + 1 < offsets.length ? offsets[ord + 1] : docs.length;
+    }
+
+    /**
+     * Returns the number of live documents that hold the given segment ordinal.
+     */
+    public int docCount(int ord, Bits liveDocs) {
+        final int end = end(ord);
+        if (liveDocs == null) {
+            return end - offsets[ord];
+        }
+        int count = 0;
+        for (int i = offsets[ord]; i < end; i++) {
+            if (liveDocs.get(docs[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Sets the bits of the documents that hold the given segment ordinal, including deleted documents.
+     */
+    public void addDocs(int ord, FixedBitSet bits) {
+        final int end = end(ord);
+        for (int i = offsets[ord]; i < end; i++) {
+            bits.set(docs[i]);
+        }
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return BASE_RAM_BYTES_USED + RamUsageEstimator.sizeOf(offsets) + RamUsageEstimator.sizeOf(docs);
+    }
+
+    @Override
+    public ScriptDocValues<?> getScriptValues() {
+        throw new UnsupportedOperationException("scripts cannot access join ordinals indices");
+    }
+
+    @Override
+    public SortedBinaryDocValues getBytesValues() {
+        throw new UnsupportedOperationException("join ordinals indices have no values");
+    }
+
+    @Override
+    public void close() {
+    }
+}
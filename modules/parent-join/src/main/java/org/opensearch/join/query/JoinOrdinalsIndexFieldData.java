@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.join.query;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.Weight;
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.fielddata.IndexFieldData;
+import org.opensearch.index.fielddata.IndexFieldDataCache;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.Mapper;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.TextSearchInfo;
+import org.opensearch.index.mapper.ValueFetcher;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.indices.breaker.CircuitBreakerService;
+import org.opensearch.join.mapper.ParentIdFieldMapper;
+import org.opensearch.join.mapper.ParentJoinFieldMapper;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.MultiValueMode;
+import org.opensearch.search.aggregations.support.CoreValuesSourceType;
+import org.opensearch.search.aggregations.support.ValuesSourceType;
+import org.opensearch.search.lookup.SearchLookup;
+import org.opensearch.search.sort.BucketedSort;
+import org.opensearch.search.sort.SortOrder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Loads the {@link JoinOrdinalsIndex} of the documents of a join relation through the field data cache of the index,
+ * so that the indices are accounted for in the field data circuit breaker, reported in the field data stats of the
+ * index under {@link #fieldName(String, String)} and evicted together with the rest of the field data.
+ */
+public final class JoinOrdinalsIndexFieldData implements IndexFieldData<JoinOrdinalsIndex> {
+
+    private final String fieldName;
+    private final String parentIdField;
+    private final Query filter;
+    private final IndexFieldDataCache cache;
+    private final CircuitBreakerService breakerService;
+
+    private JoinOrdinalsIndexFieldData(String fieldName, String parentIdField, Query filter, IndexFieldDataCache cache,
+                                       CircuitBreakerService breakerService) {
+        this.fieldName = fieldName;
+        this.parentIdField = parentIdField;
+        this.filter = filter;
+        this.cache = cache;
+        this.breakerService = breakerService;
+    }
+
+    /**
+     * Returns the field data of the index of the documents of the given relation, parent or child, of a parent id
+     * field, or {@code null} if the index does not use join ordinals indices.
+     */
+    @Nullable
+    public static JoinOrdinalsIndexFieldData forRelation(QueryShardContext context, ParentIdFieldMapper parentIdFieldMapper,
+                                                         String relation) {
+        if (JoinOrdinalsIndex.INDEX_JOIN_ORDINALS_INDEX_SETTING.get(context.getIndexSettings().getSettings()) == false) {
+            return null;
+        }
+        final Query filter = relation.equals(parentIdFieldMapper.getParentName())
+            ? parentIdFieldMapper.getParentFilter()
+            : parentIdFieldMapper.getChildFilter(relation);
+        final String parentIdField = parentIdFieldMapper.fieldType().name();
+        return context.getForField(new FieldType(fieldName(parentIdField, relation), parentIdField, filter));
+    }
+
+    /**
+     * The name under which the index of the documents of the given relation of a parent id field is cached.
+     */
+    public static String fieldName(String parentIdField, String relation) {
+        return parentIdField + "[" + relation + "]";
+    }
+
+    /**
+     * Drops the cached indices of all relations of the join field of an index.
+     */
+    public static void clear(IndexService indexService) {
+        final ParentJoinFieldMapper joinFieldMapper = ParentJoinFieldMapper.getMapper(indexService.mapperService());
+        if (joinFieldMapper == null) {
+            return;
+        }
+        final List<String> fields = new ArrayList<>();
+        for (Mapper mapper : joinFieldMapper) {
+            if (mapper instanceof ParentIdFieldMapper) {
+                final ParentIdFieldMapper parentIdFieldMapper = (ParentIdFieldMapper) mapper;
+                final String parentIdField = parentIdFieldMapper.fieldType().name();
+                fields.add(fieldName(parentIdField, parentIdFieldMapper.getParentName()));
+                for (String child : parentIdFieldMapper.getChildren()) {
+                    fields.add(fieldName(parentIdField, child));
+                }
+            }
+        }
+        if (fields.isEmpty() == false) {
+            indexService.clearCaches(false, true, fields.toArray(new String[0]));
+        }
+    }
+
+    @Override
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public ValuesSourceType getValuesSourceType() {
+        return CoreValuesSourceType.BYTES;
+    }
+
+    @Override
+    public JoinOrdinalsIndex load(LeafReaderContext context) {
+        try {
+            return cache.load(context, this);
+        } catch (Exception e) {
+            if (e instanceof OpenSearchException) {
+                throw (OpenSearchException) e;
+            } else {
+                throw new OpenSearchException(e);
+            }
+        }
+    }
+
+    @Override
+    public JoinOrdinalsIndex loadDirect(LeafReaderContext context) throws Exception {
+        final IndexSearcher searcher = new IndexSearcher(ReaderUtil.getTopLevelContext(context));
+        searcher.setQueryCache(null);
+        final Weight weight = searcher.createWeight(searcher.rewrite(filter), ScoreMode.COMPLETE_NO_SCORES, 1f);
+        // an index holds at most one entry per ordinal and one per document, adjusted once it is built
+        final long valueCount = DocValues.getSortedSet(context.reader(), parentIdField).getValueCount();
+        final long estimatedBytes = Integer.BYTES * (valueCount + context.reader().maxDoc());
+        final CircuitBreaker breaker = breakerService.getBreaker(CircuitBreaker.FIELDDATA);
+        breaker.addEstimateBytesAndMaybeBreak(estimatedBytes, fieldName);
+        boolean success = false;
+        try {
+            final JoinOrdinalsIndex index = JoinOrdinalsIndex.build(context, parentIdField, weight);
+            breaker.addWithoutBreaking(index.ramBytesUsed() - estimatedBytes);
+            success = true;
+            return index;
+        } finally {
+            if (success == false) {
+                breaker.addWithoutBreaking(-estimatedBytes);
+            }
+        }
+    }
+
+    @Override
+    public SortField sortField(@Nullable Object missingValue, MultiValueMode sortMode, XFieldComparatorSource.Nested nested,
+                               boolean reverse) {
+        throw new IllegalArgumentException("can't sort on join ordinals index [" + fieldName + "]");
+    }
+
+    @Override
+    public BucketedSort newBucketedSort(BigArrays bigArrays, Object missingValue, MultiValueMode sortMode,
+                                        XFieldComparatorSource.Nested nested, SortOrder sortOrder, DocValueFormat format,
+                                        int bucketSize, BucketedSort.ExtraData extra) {
+        throw new IllegalArgumentException("can't sort on join ordinals index [" + fieldName + "]");
+    }
+
+    public static class Builder implements IndexFieldData.Builder {
+        private final String name;
+        private final String parentIdField;
+        private final Query filter;
+
+        public Builder(String name, String parentIdField, Query filter) {
+            this.name = name;
+            this.parentIdField = parentIdField;
+            this.filter = filter;
+        }
+
+        @Override
+        public JoinOrdinalsIndexFieldData build(IndexFieldDataCache cache, CircuitBreakerService breakerService) {
+            return new JoinOrdinalsIndexFieldData(name, parentIdField, filter, cache, breakerService);
+        }
+    }
+
+    /**
+     * The field type that the field data of a join ordinals index is requested with, which is not part of the mapping.
+     */
+    static final class FieldType extends MappedFieldType {
+        private final String parentIdField;
+        private final Query filter;
+
+        FieldType(String name, String parentIdField, Query filter) {
+            super(name, false, false, true, TextSearchInfo.NONE, Collections.emptyMap());
+            this.parentIdField = parentIdField;
+            this.filter = filter;
+        }
+
+        @Override
+        public String typeName() {
+            return "join_ordinals_index";
+        }
+
+        @Override
+        public IndexFieldData.Builder fielddataBuilder(String fullyQualifiedIndexName, Supplier<SearchLookup> searchLookup) {
+            return new Builder(name(), parentIdField, filter);
+        }
+
+        @Override
+        public ValueFetcher valueFetcher(MapperService mapperService, SearchLookup searchLookup, String format) {
+            throw new UnsupportedOperationException("Cannot fetch values for internal field [" + name() + "].");
+        }
+
+        @Override
+        public Query termQuery(Object value, QueryShardContext context) {
+            throw new IllegalArgumentException("Field [" + name() + "] of type [" + typeName() + "] is not searchable");
+        }
+    }
+}
@@ -52,6 +52,7 @@ import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.Index;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.mapper.ContentPath;
 import org.opensearch.index.mapper.MappingLookup;
 import org.opensearch.index.mapper.DocumentMapper;
@@ -65,6 +66,7 @@ import org.opensearch.index.shard.ShardId;
 import org.opensearch.join.ParentJoinPlugin;
 import org.opensearch.join.mapper.MetaJoinFieldMapper;
 import org.opensearch.join.mapper.ParentJoinFieldMapper;
+import org.opensearch.join.query.JoinOrdinalsIndex;
 import org.opensearch.plugins.SearchPlugin;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregatorTestCase;
@@ -272,6 +274,20 @@ public class ParentToChildrenAggregatorTests extends AggregatorTestCase {
         verify.accept(result);
     }
 
+    @Override
+    protected IndexSettings createIndexSettings() {
+        // joins with and without the join ordinals index
+        return new IndexSettings(
+            IndexMetadata.builder("_index").settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                    .put(JoinOrdinalsIndex.INDEX_JOIN_ORDINALS_INDEX_SETTING.getKey(), randomBoolean()))
+                .numberOfShards(1)
+                .numberOfReplicas(0)
+                .creationDate(System.currentTimeMillis())
+                .build(),
+            Settings.EMPTY
+        );
+    }
+
     @Override
     protected List<SearchPlugin> getSearchPlugins() {
         return Collections.singletonList(new ParentJoinPlugin());
@@ -0,0 +1,236 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.join.query;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.search.join.JoinUtil;
+import org.apache.lucene.search.join.ScoreMode;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.CircuitBreakingException;
+import org.opensearch.common.lucene.search.Queries;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.Index;
+import org.opensearch.index.fielddata.IndexFieldDataCache;
+import org.opensearch.index.fielddata.IndexOrdinalsFieldData;
+import org.opensearch.index.fielddata.plain.SortedSetOrdinalsIndexFieldData;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.indices.breaker.CircuitBreakerService;
+import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
+import org.opensearch.search.aggregations.support.CoreValuesSourceType;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class JoinOrdinalsIndexTests extends OpenSearchTestCase {
+
+    private static final String JOIN_FIELD = "join_field";
+    private static final String PARENT_ID_FIELD = "join_field#parent";
+    private static final Query PARENT_FILTER = new TermQuery(new Term(JOIN_FIELD, "parent"));
+    private static final Query CHILD_FILTER = new TermQuery(new Term(JOIN_FIELD, "child"));
+
+    private static void indexParentsAndChildren(IndexWriter writer) throws IOException {
+        final int numParents = randomIntBetween(1, 50);
+        for (int p = 0; p < numParents; p++) {
+            final String parentId = "parent" + p;
+            writer.addDocument(doc(parentId, "parent", parentId));
+            final int numChildren = randomIntBetween(0, 20);
+            for (int c = 0; c < numChildren; c++) {
+                writer.addDocument(doc(parentId + "_child" + c, "child", parentId));
+                if (rarely()) {
+                    writer.commit();
+                }
+            }
+            if (randomBoolean()) {
+                // other documents that hold the parent id must not be counted
+                writer.addDocument(doc(parentId + "_other", "other_child", parentId));
+            }
+            if (rarely()) {
+                writer.commit();
+            }
+        }
+        final int numDeletes = randomIntBetween(0, 10);
+        for (int i = 0; i < numDeletes; i++) {
+            writer.deleteDocuments(new Term("id", "parent" + randomIntBetween(0, numParents) + "_child" + randomIntBetween(0, 20)));
+        }
+    }
+
+    private static Document doc(String id, String relation, String parentId) {
+        final Document document = new Document();
+        document.add(new StringField("id", id, Field.Store.NO));
+        document.add(new StringField(JOIN_FIELD, relation, Field.Store.NO));
+        document.add(new SortedDocValuesField(PARENT_ID_FIELD, new BytesRef(parentId)));
+        return document;
+    }
+
+    public void testDocsByOrdinal() throws IOException {
+        final CircuitBreakerService breakerService = new HierarchyCircuitBreakerService(Settings.EMPTY, Collections.emptyList(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        final CircuitBreaker breaker = breakerService.getBreaker(CircuitBreaker.FIELDDATA);
+        final AtomicLong cachedBytes = new AtomicLong();
+        final IndicesFieldDataCache indicesFieldDataCache = new IndicesFieldDataCache(Settings.EMPTY, new IndexFieldDataCache.Listener() {
+            @Override
+            public void onRemoval(ShardId shardId, String fieldName, boolean wasEvicted, long sizeInBytes) {
+                breaker.addWithoutBreaking(-sizeInBytes);
+            }
+        });
+        final String fieldName = JoinOrdinalsIndexFieldData.fieldName(PARENT_ID_FIELD, "child");
+        final IndexFieldDataCache cache = indicesFieldDataCache.buildIndexFieldDataCache(new IndexFieldDataCache.Listener() {
+            @Override
+            public void onCache(ShardId shardId, String field, Accountable ramUsage) {
+                assertThat(field, equalTo(fieldName));
+                cachedBytes.addAndGet(ramUsage.ramBytesUsed());
+            }
+
+            @Override
+            public void onRemoval(ShardId shardId, String field, boolean wasEvicted, long sizeInBytes) {
+                cachedBytes.addAndGet(-sizeInBytes);
+            }
+        }, new Index("index", "_na_"), fieldName);
+        final JoinOrdinalsIndexFieldData fieldData =
+            new JoinOrdinalsIndexFieldData.Builder(fieldName, PARENT_ID_FIELD, CHILD_FILTER).build(cache, breakerService);
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                indexParentsAndChildren(writer);
+                writer.commit();
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                final IndexSearcher searcher = new IndexSearcher(reader);
+                final Weight childWeight = searcher.createWeight(CHILD_FILTER, org.apache.lucene.search.ScoreMode.COMPLETE_NO_SCORES, 1f);
+                long ramBytesUsed = 0;
+                for (LeafReaderContext ctx : reader.leaves()) {
+                    final JoinOrdinalsIndex index = fieldData.load(ctx);
+                    assertThat(fieldData.load(ctx), sameInstance(index));
+                    ramBytesUsed += index.ramBytesUsed();
+
+                    final SortedDocValues values = ctx.reader().getSortedDocValues(PARENT_ID_FIELD);
+                    assertThat(index.valueCount(), equalTo(values.getValueCount()));
+                    final Bits liveDocs = ctx.reader().getLiveDocs();
+                    final FixedBitSet children = new FixedBitSet(ctx.reader().maxDoc());
+                    final Scorer childScorer = childWeight.scorer(ctx);
+                    if (childScorer != null) {
+                        children.or(childScorer.iterator());
+                    }
+                    for (int ord = 0; ord < values.getValueCount(); ord++) {
+                        final FixedBitSet expectedDocs = new FixedBitSet(ctx.reader().maxDoc());
+                        int expectedLiveCount = 0;
+                        final SortedDocValues ords = ctx.reader().getSortedDocValues(PARENT_ID_FIELD);
+                        for (int doc = 0; doc < ctx.reader().maxDoc(); doc++) {
+                            if (children.get(doc) && ords.advanceExact(doc) && ords.ordValue() == ord) {
+                                expectedDocs.set(doc);
+                                if (liveDocs == null || liveDocs.get(doc)) {
+                                    expectedLiveCount++;
+                                }
+                            }
+                        }
+                        final FixedBitSet docs = new FixedBitSet(ctx.reader().maxDoc());
+                        index.addDocs(ord, docs);
+                        assertThat(docs, equalTo(expectedDocs));
+                        assertThat(index.docCount(ord, liveDocs), equalTo(expectedLiveCount));
+                    }
+                }
+                assertThat(breaker.getUsed(), equalTo(ramBytesUsed));
+                assertThat(cachedBytes.get(), equalTo(ramBytesUsed));
+                if (randomBoolean()) {
+                    cache.clear(fieldName);
+                    assertThat("cleared indices are released", breaker.getUsed(), equalTo(0L));
+                    assertThat(cachedBytes.get(), equalTo(0L));
+                }
+            }
+            assertThat("indices of closed segments are released", breaker.getUsed(), equalTo(0L));
+            assertThat(cachedBytes.get(), equalTo(0L));
+        } finally {
+            indicesFieldDataCache.close();
+        }
+    }
+
+    public void testBreaksWhenTooLarge() throws IOException {
+        final CircuitBreakerService breakerService = new HierarchyCircuitBreakerService(
+            Settings.builder().put(HierarchyCircuitBreakerService.FIELDDATA_CIRCUIT_BREAKER_LIMIT_SETTING.getKey(), "1b").build(),
+            Collections.emptyList(), new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        final JoinOrdinalsIndexFieldData fieldData = new JoinOrdinalsIndexFieldData.Builder(
+            JoinOrdinalsIndexFieldData.fieldName(PARENT_ID_FIELD, "child"), PARENT_ID_FIELD, CHILD_FILTER)
+            .build(new IndexFieldDataCache.None(), breakerService);
+        try (Directory directory = newDirectory(); IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            writer.addDocument(doc("parent", "parent", "parent"));
+            writer.addDocument(doc("child", "child", "parent"));
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                expectThrows(CircuitBreakingException.class, () -> fieldData.load(reader.leaves().get(0)));
+                assertThat(breakerService.getBreaker(CircuitBreaker.FIELDDATA).getUsed(), equalTo(0L));
+            }
+        }
+    }
+
+    public void testCountingChildrenMatchesJoin() throws IOException {
+        try (Directory directory = newDirectory(); IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            indexParentsAndChildren(writer);
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                final IndexSearcher searcher = new IndexSearcher(reader);
+                searcher.setQueryCache(null);
+                final SortedSetOrdinalsIndexFieldData fieldData = new SortedSetOrdinalsIndexFieldData(new IndexFieldDataCache.None(),
+                    PARENT_ID_FIELD, CoreValuesSourceType.BYTES, new NoneCircuitBreakerService(), null);
+                final IndexOrdinalsFieldData globalFieldData = fieldData.loadGlobal(reader);
+                final JoinOrdinalsIndexFieldData childrenIndexFieldData = new JoinOrdinalsIndexFieldData.Builder(
+                    JoinOrdinalsIndexFieldData.fieldName(PARENT_ID_FIELD, "child"), PARENT_ID_FIELD, CHILD_FILTER)
+                    .build(new IndexFieldDataCache.None(), new NoneCircuitBreakerService());
+                for (int i = 0; i < 20; i++) {
+                    final int minChildren = randomIntBetween(0, 10);
+                    final int maxChildren = randomBoolean() ? Integer.MAX_VALUE : randomIntBetween(minChildren, 20);
+                    final ScoreMode scoreMode = randomFrom(ScoreMode.values());
+                    final Query expected = JoinUtil.createJoinQuery(PARENT_ID_FIELD,
+                        Queries.filtered(new MatchAllDocsQuery(), CHILD_FILTER), PARENT_FILTER, searcher, scoreMode,
+                        globalFieldData.getOrdinalMap(), minChildren, maxChildren);
+                    final Query actual = ChildCountJoinQuery.create(searcher, PARENT_FILTER, childrenIndexFieldData,
+                        globalFieldData, minChildren, maxChildren, scoreMode);
+                    final TopDocs expectedDocs = searcher.search(expected, reader.maxDoc() + 1);
+                    final TopDocs actualDocs = searcher.search(actual, reader.maxDoc() + 1);
+                    assertThat(actualDocs.totalHits.value, equalTo(expectedDocs.totalHits.value));
+                    for (int hit = 0; hit < expectedDocs.scoreDocs.length; hit++) {
+                        final ScoreDoc expectedHit = expectedDocs.scoreDocs[hit];
+                        final ScoreDoc actualHit = actualDocs.scoreDocs[hit];
+                        assertThat(actualHit.doc, equalTo(expectedHit.doc));
+                        if (scoreMode != ScoreMode.None) {
+                            assertThat(actualHit.score, equalTo(expectedHit.score));
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -48,6 +48,7 @@ import org.opensearch.action.admin.indices.stats.ShardStats;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexRequestBuilder;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchType;
 import org.opensearch.action.support.DefaultShardOperationFailedException;
 import org.opensearch.cluster.metadata.IndexMetadata;
@@ -97,6 +98,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.opensearch.cluster.metadata.IndexMetadata.SETTING_NUMBER_OF_REPLICAS;
+import static org.opensearch.cluster.metadata.IndexMetadata.SETTING_NUMBER_OF_SHARDS;
 import static org.opensearch.common.xcontent.XContentFactory.jsonBuilder;
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAllSuccessful;
@@ -104,6 +106,7 @@ import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertSearchResp
 import static org.hamcrest.Matchers.emptyCollectionOf;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.notNullValue;
@@ -265,6 +268,26 @@ public class IndexStatsIT extends OpenSearchIntegTestCase {
         assertThat(indicesStats.getTotal().getQueryCache().getMemorySizeInBytes(), equalTo(0L));
     }
 
+    public void testQueryCacheShapes() throws Exception {
+        assertAcked(client().admin().indices().prepareCreate("idx")
+            .setSettings(Settings.builder().put(SETTING_NUMBER_OF_SHARDS, 1).put(SETTING_NUMBER_OF_REPLICAS, 0)).get());
+        indexRandom(true, client().prepareIndex("idx", "type", "1").setSource("value", 1),
+            client().prepareIndex("idx", "type", "2").setSource("value", 2),
+            client().prepareIndex("idx", "type", "3").setSource("value", 3));
+
+        // range queries are costly enough to be cached the first time they are used
+        SearchResponse response = client().prepareSearch("idx")
+            .setQuery(QueryBuilders.constantScoreQuery(QueryBuilders.rangeQuery("value").gte(0).lte(2)))
+            .get();
+        assertSearchResponse(response);
+        assertThat(response.getHits().getTotalHits().value, equalTo(2L));
+
+        QueryCacheStats stats = client().admin().indices().prepareStats("idx").setQueryCache(true).get().getTotal().getQueryCache();
+        assertThat(stats.getCacheSize(), greaterThan(0L));
+        assertThat(stats.getShapes(), hasKey("IndexOrDocValuesQuery"));
+        assertThat(stats.getShapes().get("IndexOrDocValuesQuery").getMissCount(), greaterThan(0L));
+    }
+
     public void testQueryCache() throws Exception {
         assertAcked(client().admin().indices().prepareCreate("idx")
             .setSettings(Settings.builder().put(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING.getKey(), true)).get());
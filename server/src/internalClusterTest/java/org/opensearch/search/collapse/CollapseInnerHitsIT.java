@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.collapse;
+
+import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.InnerHitBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.existsQuery;
+import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
+import static org.opensearch.index.query.QueryBuilders.matchQuery;
+import static org.opensearch.index.query.QueryBuilders.rangeQuery;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertNoFailures;
+import static org.hamcrest.Matchers.equalTo;
+
+public class CollapseInnerHitsIT extends OpenSearchIntegTestCase {
+
+    public void testInnerHitsMatchGroupSearches() throws Exception {
+        final int numShards = randomIntBetween(1, 4);
+        assertAcked(prepareCreate("test")
+            .setSettings(Settings.builder()
+                .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, numShards)
+                .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0))
+            .addMapping("_doc", "group_keyword", "type=keyword", "group_long", "type=long", "group_double", "type=double",
+                "value", "type=long", "text", "type=text"));
+        final List<IndexRequestBuilder> requests = new ArrayList<>();
+        final int numDocs = randomIntBetween(20, 200);
+        for (int i = 0; i < numDocs; i++) {
+            final int group = randomIntBetween(0, 9);
+            if (rarely()) {
+                // documents without a value form a group of their own
+                requests.add(client().prepareIndex("test", "_doc", Integer.toString(i))
+                    .setSource("value", i, "text", randomFrom("foo", "foo bar", "bar")));
+            } else {
+                requests.add(client().prepareIndex("test", "_doc", Integer.toString(i))
+                    .setSource("group_keyword", "group" + group, "group_long", group, "group_double", group + 0.5,
+                        "value", i, "text", randomFrom("foo", "foo bar", "bar")));
+            }
+        }
+        indexRandom(true, requests);
+
+        for (int iter = 0; iter < 10; iter++) {
+            final String field = randomFrom("group_keyword", "group_long", "group_double");
+            final QueryBuilder query = randomBoolean() ? matchAllQuery() : matchQuery("text", "foo");
+            final QueryBuilder postFilter = randomBoolean() ? null : rangeQuery("value").gte(randomIntBetween(0, numDocs / 2));
+            final InnerHitBuilder ascending = new InnerHitBuilder("ascending")
+                .setFrom(randomIntBetween(0, 2))
+                .setSize(randomIntBetween(0, 3))
+                .addSort(new FieldSortBuilder("value").order(SortOrder.ASC));
+            final InnerHitBuilder descending = new InnerHitBuilder("descending")
+                .setSize(randomIntBetween(1, 3))
+                .addSort(new FieldSortBuilder("value").order(SortOrder.DESC));
+            final long queriesBefore = client().admin().indices().prepareStats("test").get().getTotal().getSearch().getTotal()
+                .getQueryCount();
+            final SearchResponse response = client().prepareSearch("test")
+                .setQuery(query)
+                .setPostFilter(postFilter)
+                .setFrom(randomIntBetween(0, 3))
+                .setSize(randomIntBetween(1, 10))
+                .addSort("value", SortOrder.DESC)
+                .setCollapse(new CollapseBuilder(field).setInnerHits(Arrays.asList(ascending, descending)))
+                .get();
+            assertNoFailures(response);
+            final long queriesAfter = client().admin().indices().prepareStats("test").get().getTotal().getSearch().getTotal()
+                .getQueryCount();
+            assertThat("inner hits must be gathered without a search per group", queriesAfter - queriesBefore, equalTo((long) numShards));
+
+            for (SearchHit hit : response.getHits().getHits()) {
+                final Object groupValue = hit.field(field).getValue();
+                for (InnerHitBuilder innerHit : Arrays.asList(ascending, descending)) {
+                    final BoolQueryBuilder groupQuery = boolQuery().must(query);
+                    if (groupValue == null) {
+                        groupQuery.mustNot(existsQuery(field));
+                    } else {
+                        groupQuery.filter(termQuery(field, groupValue));
+                    }
+                    final SearchResponse expected = client().prepareSearch("test")
+                        .setQuery(groupQuery)
+                        .setPostFilter(postFilter)
+                        .setFrom(innerHit.getFrom())
+                        .setSize(innerHit.getSize())
+                        .addSort(innerHit.getSorts().get(0))
+                        .setTrackTotalHits(true)
+                        .get();
+                    final SearchHits innerHits = hit.getInnerHits().get(innerHit.getName());
+                    assertThat(innerHits.getTotalHits().value, equalTo(expected.getHits().getTotalHits().value));
+                    assertThat(ids(innerHits), equalTo(ids(expected.getHits())));
+                    for (SearchHit innerSearchHit : innerHits.getHits()) {
+                        assertThat(innerSearchHit.getIndex(), equalTo("test"));
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<String> ids(SearchHits hits) {
+        final List<String> ids = new ArrayList<>();
+        for (SearchHit hit : hits.getHits()) {
+            ids.add(hit.getId());
+        }
+        return ids;
+    }
+}
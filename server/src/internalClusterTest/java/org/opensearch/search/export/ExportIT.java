@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.export;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.action.search.ExportAction;
+import org.opensearch.action.search.ExportRequest;
+import org.opensearch.action.search.ExportResponse;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.search.SearchContextMissingException;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ExportIT extends OpenSearchIntegTestCase {
+
+    public void testExportAllShards() throws Exception {
+        final int numShards = randomIntBetween(1, 4);
+        assertAcked(prepareCreate("test")
+            .setSettings(Settings.builder()
+                .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, numShards)
+                .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, randomIntBetween(0, 1)))
+            .addMapping("_doc", "nested", "type=nested"));
+        final int numDocs = randomIntBetween(0, 300);
+        final List<IndexRequestBuilder> requests = new ArrayList<>();
+        for (int i = 0; i < numDocs; i++) {
+            requests.add(client().prepareIndex("test", "_doc", Integer.toString(i))
+                .setSource("value", i, "text", randomAlphaOfLength(5), "nested", randomBoolean() ? null : singletonNested(i)));
+        }
+        indexRandom(true, requests);
+
+        final boolean filterSource = randomBoolean();
+        final FetchSourceContext fetchSource = filterSource ? new FetchSourceContext(true, new String[] { "value" }, null) : null;
+        final int batchSize = randomIntBetween(1, 50);
+        final Map<String, Map<String, Object>> exported = new HashMap<>();
+        for (int shard = 0; shard < numShards; shard++) {
+            String cursor = null;
+            do {
+                final ExportRequest request = new ExportRequest("test", shard)
+                    .cursor(cursor)
+                    .batchSize(batchSize)
+                    .fetchSource(fetchSource);
+                final ExportResponse response = client().execute(ExportAction.INSTANCE, request).actionGet();
+                assertThat(response.getNumDocs(), lessThanOrEqualTo(batchSize));
+                final List<Map<String, Object>> lines = parseLines(response.getDocs());
+                assertThat(lines.size(), equalTo(response.getNumDocs()));
+                for (Map<String, Object> line : lines) {
+                    assertThat(line.get("_index"), equalTo("test"));
+                    final String id = (String) line.get("_id");
+                    assertThat("document [" + id + "] was exported twice", exported.put(id, line), nullValue());
+                }
+                cursor = response.getCursor();
+            } while (cursor != null);
+        }
+
+        assertThat(exported.size(), equalTo(numDocs));
+        for (int i = 0; i < numDocs; i++) {
+            final Map<String, Object> line = exported.get(Integer.toString(i));
+            assertThat(line, notNullValue());
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> source = (Map<String, Object>) line.get("_source");
+            assertThat(source.get("value"), equalTo(i));
+            if (filterSource) {
+                assertThat(source.size(), equalTo(1));
+            } else {
+                assertThat(source.get("text"), notNullValue());
+            }
+        }
+    }
+
+    public void testExportSeesConsistentView() throws Exception {
+        assertAcked(prepareCreate("test")
+            .setSettings(Settings.builder()
+                .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)));
+        final int numDocs = randomIntBetween(10, 50);
+        for (int i = 0; i < numDocs; i++) {
+            client().prepareIndex("test", "_doc", Integer.toString(i)).setSource("value", i).get();
+        }
+        refresh("test");
+
+        ExportResponse response = client().execute(ExportAction.INSTANCE, new ExportRequest("test", 0).batchSize(1)).actionGet();
+        int exported = response.getNumDocs();
+        // neither new nor deleted documents are visible to an export that already started
+        client().prepareIndex("test", "_doc", "new").setSource("value", -1).get();
+        client().prepareDelete("test", "_doc", Integer.toString(numDocs - 1)).get();
+        refresh("test");
+        while (response.getCursor() != null) {
+            response = client().execute(ExportAction.INSTANCE, new ExportRequest("test", 0).cursor(response.getCursor())).actionGet();
+            exported += response.getNumDocs();
+        }
+        assertThat(exported, equalTo(numDocs));
+    }
+
+    public void testCursorOfExhaustedShardIsReleased() throws Exception {
+        assertAcked(prepareCreate("test")
+            .setSettings(Settings.builder()
+                .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)));
+        for (int i = 0; i < 3; i++) {
+            client().prepareIndex("test", "_doc", Integer.toString(i)).setSource("value", i).get();
+        }
+        refresh("test");
+        final ExportResponse first = client().execute(ExportAction.INSTANCE, new ExportRequest("test", 0).batchSize(2)).actionGet();
+        assertThat(first.getCursor(), notNullValue());
+        final ExportResponse last = client().execute(ExportAction.INSTANCE,
+            new ExportRequest("test", 0).cursor(first.getCursor()).batchSize(2)).actionGet();
+        assertThat(last.getCursor(), nullValue());
+        assertThat(first.getNumDocs() + last.getNumDocs(), equalTo(3));
+        expectThrows(SearchContextMissingException.class,
+            () -> client().execute(ExportAction.INSTANCE, new ExportRequest("test", 0).cursor(first.getCursor())).actionGet());
+    }
+
+    public void testBatchSizeIsLimited() throws Exception {
+        assertAcked(prepareCreate("test")
+            .setSettings(Settings.builder()
+                .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                .put(IndexSettings.MAX_EXPORT_BATCH_SIZE_SETTING.getKey(), 5)));
+        client().prepareIndex("test", "_doc", "1").setSource("value", 1).get();
+        refresh("test");
+        final Exception e = expectThrows(Exception.class,
+            () -> client().execute(ExportAction.INSTANCE, new ExportRequest("test", 0).batchSize(6)).actionGet());
+        final Throwable cause = ExceptionsHelper.unwrap(e, IllegalArgumentException.class);
+        assertThat(cause, notNullValue());
+        assertThat(cause.getMessage(), containsString("Export batch size [6] is too large"));
+        assertThat(client().execute(ExportAction.INSTANCE, new ExportRequest("test", 0).batchSize(5)).actionGet().getNumDocs(),
+            equalTo(1));
+    }
+
+    private static Map<String, Object> singletonNested(int i) {
+        final Map<String, Object> nested = new HashMap<>();
+        nested.put("value", i);
+        return nested;
+    }
+
+    private static List<Map<String, Object>> parseLines(BytesReference docs) {
+        final List<Map<String, Object>> lines = new ArrayList<>();
+        for (String line : docs.utf8ToString().split("\n")) {
+            if (line.isEmpty() == false) {
+                lines.add(XContentHelper.convertToMap(XContentType.JSON.xContent(), line, false));
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch;
+
+import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertSearchResponse;
+import static org.hamcrest.Matchers.equalTo;
+
+public class ConcurrentFetchIT extends OpenSearchIntegTestCase {
+
+    public void testConcurrentFetchReturnsSameHits() throws Exception {
+        assertAcked(prepareCreate("test").setSettings(Settings.builder()
+            .put("index.number_of_shards", 1)
+            .put("index.number_of_replicas", 0)));
+        int numSegments = randomIntBetween(2, 6);
+        int docsPerSegment = randomIntBetween(20, 50);
+        int numDocs = 0;
+        for (int segment = 0; segment < numSegments; segment++) {
+            List<IndexRequestBuilder> builders = new ArrayList<>();
+            for (int i = 0; i < docsPerSegment; i++) {
+                builders.add(client().prepareIndex("test", "_doc").setSource("num", numDocs, "text", "doc " + numDocs));
+                numDocs++;
+            }
+            indexRandom(true, false, builders);
+        }
+        int size = numDocs;
+
+        SearchResponse sequential = client().prepareSearch("test").setSize(size).addSort("num", SortOrder.DESC).get();
+        assertSearchResponse(sequential);
+        try {
+            client().admin().cluster().prepareUpdateSettings().setTransientSettings(Settings.builder()
+                .put(SearchService.FETCH_MAX_CONCURRENCY_SETTING.getKey(), randomIntBetween(2, 8))).get();
+            SearchResponse concurrent = client().prepareSearch("test").setSize(size).addSort("num", SortOrder.DESC).get();
+            assertSearchResponse(concurrent);
+            SearchHit[] expected = sequential.getHits().getHits();
+            SearchHit[] actual = concurrent.getHits().getHits();
+            assertThat(actual.length, equalTo(numDocs));
+            assertThat(actual.length, equalTo(expected.length));
+            for (int i = 0; i < expected.length; i++) {
+                assertThat(actual[i].getId(), equalTo(expected[i].getId()));
+                assertThat(actual[i].getSourceAsMap(), equalTo(expected[i].getSourceAsMap()));
+                assertThat(actual[i].getSourceAsMap().get("num"), equalTo(numDocs - 1 - i));
+            }
+        } finally {
+            client().admin().cluster().prepareUpdateSettings().setTransientSettings(Settings.builder()
+                .putNull(SearchService.FETCH_MAX_CONCURRENCY_SETTING.getKey())).get();
+        }
+    }
+}
@@ -49,6 +49,7 @@ import org.opensearch.common.geo.GeoPoint;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.Settings.Builder;
 import org.opensearch.common.time.DateFormatter;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentType;
@@ -68,6 +69,7 @@ import org.opensearch.plugins.AnalysisPlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.rest.RestStatus;
 import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchService;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder.BoundaryScannerType;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder.Field;
@@ -3028,6 +3030,87 @@ public class HighlighterSearchIT extends OpenSearchIntegTestCase {
         }
     }
 
+    public void testAnalysisBudget() throws Exception {
+        XContentBuilder mapping = jsonBuilder().startObject().startObject("_doc").startObject("properties")
+            .startObject("analyzed").field("type", "text").endObject()
+            .startObject("offsets").field("type", "text").field("index_options", "offsets").endObject()
+            .endObject().endObject().endObject();
+        assertAcked(prepareCreate("test").addMapping("_doc", mapping));
+        int numDocs = randomIntBetween(5, 10);
+        StringBuilder text = new StringBuilder("quick");
+        for (int i = 0; i < 5000; i++) {
+            text.append(" word").append(i);
+        }
+        IndexRequestBuilder[] builders = new IndexRequestBuilder[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            builders[i] = client().prepareIndex("test", "_doc").setSource("analyzed", text.toString(), "offsets", text.toString());
+        }
+        indexRandom(true, builders);
+
+        SearchResponse response = client().prepareSearch("test")
+            .setQuery(boolQuery().should(matchQuery("analyzed", "quick")).should(matchQuery("offsets", "quick")))
+            .highlighter(highlight().field("analyzed").field("offsets").analysisBudget(TimeValue.timeValueHours(1)))
+            .setSize(numDocs)
+            .get();
+        assertHitCount(response, numDocs);
+        for (int i = 0; i < numDocs; i++) {
+            assertHighlight(response, i, "analyzed", 0, 1, startsWith("<em>quick</em> word0"));
+            assertHighlight(response, i, "offsets", 0, 1, startsWith("<em>quick</em> word0"));
+        }
+
+        // analyzing thousands of tokens spends a budget of a nanosecond, which stops the analysis of the following hits
+        response = client().prepareSearch("test")
+            .setQuery(boolQuery().should(matchQuery("analyzed", "quick")).should(matchQuery("offsets", "quick")))
+            .highlighter(highlight().field("analyzed").field("offsets").analysisBudget(TimeValue.timeValueNanos(1)))
+            .setSize(numDocs)
+            .get();
+        assertHitCount(response, numDocs);
+        int analyzed = 0;
+        for (int i = 0; i < numDocs; i++) {
+            // fields whose offsets are indexed don't need to be analyzed
+            assertHighlight(response, i, "offsets", 0, 1, startsWith("<em>quick</em> word0"));
+            if (response.getHits().getAt(i).getHighlightFields().containsKey("analyzed")) {
+                analyzed++;
+            }
+        }
+        assertThat(analyzed, lessThan(numDocs));
+    }
+
+    public void testConcurrentHighlighting() throws Exception {
+        assertAcked(prepareCreate("test").addMapping("type1", type1TermVectorMapping()));
+        int numDocs = randomIntBetween(1, 20);
+        IndexRequestBuilder[] builders = new IndexRequestBuilder[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            builders[i] = client().prepareIndex("test", "type1").setId(Integer.toString(i))
+                .setSource("field1", "the quick brown fox " + i, "field2", "the quick lazy dog " + i, "field3", "quick " + i, "num", i);
+        }
+        indexRandom(true, builders);
+
+        SearchSourceBuilder source = searchSource()
+            .query(boolQuery().should(matchQuery("field1", "quick")).should(matchQuery("field2", "quick"))
+                .should(matchQuery("field3", "quick")))
+            .size(numDocs)
+            .sort("num", SortOrder.ASC)
+            .highlighter(highlight().field("field1").field("field2").field("field3"));
+        SearchResponse sequential = client().search(searchRequest("test").source(source)).actionGet();
+        assertHitCount(sequential, numDocs);
+        try {
+            client().admin().cluster().prepareUpdateSettings().setTransientSettings(Settings.builder()
+                .put(SearchService.FETCH_MAX_CONCURRENCY_SETTING.getKey(), randomIntBetween(2, 4))).get();
+            SearchResponse concurrent = client().search(searchRequest("test").source(source)).actionGet();
+            assertHitCount(concurrent, numDocs);
+            for (int i = 0; i < numDocs; i++) {
+                assertThat(concurrent.getHits().getAt(i).getHighlightFields(),
+                    equalTo(sequential.getHits().getAt(i).getHighlightFields()));
+                assertHighlight(concurrent, i, "field1", 0, 1, equalTo("the <em>quick</em> brown fox " + i));
+                assertHighlight(concurrent, i, "field3", 0, 1, equalTo("<em>quick</em> " + i));
+            }
+        } finally {
+            client().admin().cluster().prepareUpdateSettings().setTransientSettings(Settings.builder()
+                .putNull(SearchService.FETCH_MAX_CONCURRENCY_SETTING.getKey())).get();
+        }
+    }
+
     public static class MockAnalysisPlugin extends Plugin implements AnalysisPlugin {
 
         public final class MockSnowBall extends TokenFilter {
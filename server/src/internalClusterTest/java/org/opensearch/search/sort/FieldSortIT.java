@@ -1905,6 +1905,53 @@ public class FieldSortIT extends OpenSearchIntegTestCase {
         }
     }
 
+    public void testSortMixedIntegralAndFloatingPointFields() throws Exception {
+        assertAcked(prepareCreate("index_long").addMapping("_doc", "field", "type=long"));
+        assertAcked(prepareCreate("index_double").addMapping("_doc", "field", "type=double"));
+        ensureGreen("index_long", "index_double");
+
+        List<IndexRequestBuilder> builders = new ArrayList<>();
+        List<Double> values = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            if (randomBoolean()) {
+                long value = randomLongBetween(-1000, 1000);
+                builders.add(client().prepareIndex("index_long", "_doc").setSource("field", value));
+                values.add((double) value);
+            } else {
+                double value = randomDoubleBetween(-1000, 1000, true);
+                builders.add(client().prepareIndex("index_double", "_doc").setSource("field", value));
+                values.add(value);
+            }
+        }
+        indexRandom(true, true, builders);
+        values.sort(Collections.reverseOrder());
+
+        SearchResponse response = client().prepareSearch("index_long", "index_double")
+            .setQuery(matchAllQuery())
+            .setSize(10)
+            .addSort(SortBuilders.fieldSort("field").order(SortOrder.DESC))
+            .get();
+        assertSearchResponse(response);
+        SearchHits hits = response.getHits();
+        assertEquals(10, hits.getHits().length);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(values.get(i), ((Number) hits.getAt(i).getSortValues()[0]).doubleValue(), 0d);
+        }
+
+        response = client().prepareSearch("index_long", "index_double")
+            .setQuery(matchAllQuery())
+            .setSize(10)
+            .addSort(SortBuilders.fieldSort("field").order(SortOrder.DESC))
+            .searchAfter(hits.getAt(9).getSortValues())
+            .get();
+        assertSearchResponse(response);
+        hits = response.getHits();
+        assertEquals(10, hits.getHits().length);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(values.get(10 + i), ((Number) hits.getAt(i).getSortValues()[0]).doubleValue(), 0d);
+        }
+    }
+
     public void testLongSortOptimizationCorrectResults() {
         assertAcked(prepareCreate("test1")
             .setSettings(Settings.builder().put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 2))
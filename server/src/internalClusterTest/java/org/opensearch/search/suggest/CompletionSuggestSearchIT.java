@@ -48,6 +48,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.Fuzziness;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.index.mapper.CompletionFieldMapper;
 import org.opensearch.index.mapper.MapperParsingException;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.search.aggregations.AggregationBuilders;
@@ -834,6 +835,30 @@ public class CompletionSuggestSearchIT extends OpenSearchIntegTestCase {
         assertThat(regexSizeInBytes, is(totalSizeInBytes));
     }
 
+    public void testOffHeapSuggestions() throws Exception {
+        createIndexAndMappingAndSettings(Settings.builder()
+            .put(CompletionFieldMapper.INDEX_COMPLETION_FST_OFF_HEAP_SETTING.getKey(), true)
+            .put(CompletionFieldMapper.INDEX_COMPLETION_FST_EAGER_LOAD_SETTING.getKey(), randomBoolean())
+            .build(), completionMappingBuilder);
+        int numDocs = 10;
+        List<IndexRequestBuilder> indexRequestBuilders = new ArrayList<>();
+        for (int i = 1; i <= numDocs; i++) {
+            indexRequestBuilders.add(client().prepareIndex(INDEX, TYPE, "" + i)
+                .setSource(jsonBuilder().startObject().startObject(FIELD)
+                    .field("input", "suggestion" + i)
+                    .field("weight", i)
+                    .endObject().endObject()));
+        }
+        indexRandom(true, indexRequestBuilders);
+        CompletionSuggestionBuilder prefix = SuggestBuilders.completionSuggestion(FIELD).prefix("sugg");
+        assertSuggestions("foo", prefix, "suggestion10", "suggestion9", "suggestion8", "suggestion7", "suggestion6");
+
+        CompletionStats completionStats = client().admin().indices().prepareStats(INDEX).setCompletion(true).get()
+            .getIndex(INDEX).getPrimaries().completion;
+        assertThat(completionStats.getSizeInBytes(), greaterThan(0L));
+        assertThat(completionStats.getOffHeapSizeInBytes(), greaterThan(0L));
+    }
+
     public void testThatSortingOnCompletionFieldReturnsUsefulException() throws Exception {
         createIndexAndMapping(completionMappingBuilder);
 
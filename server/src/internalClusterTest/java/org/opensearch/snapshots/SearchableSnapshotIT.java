@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.snapshots;
+
+import org.opensearch.action.admin.cluster.snapshots.restore.RestoreSnapshotRequest;
+import org.opensearch.action.admin.cluster.snapshots.restore.RestoreSnapshotResponse;
+import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
+import org.opensearch.cluster.block.ClusterBlockException;
+import org.opensearch.index.IndexModule;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.store.remote.RemoteSnapshotDirectoryFactory;
+
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+public class SearchableSnapshotIT extends AbstractSnapshotIntegTestCase {
+
+    public void testSearchRemoteSnapshotIndex() throws Exception {
+        final String indexName = "test-idx";
+        final String restoredIndexName = indexName + "-copy";
+        final String repositoryName = "test-repo";
+        final String snapshotName = "test-snap";
+
+        createIndex(indexName, indexSettingsNoReplicas(randomIntBetween(1, 3)).build());
+        final int numDocs = scaledRandomIntBetween(10, 500);
+        indexRandomDocs(indexName, numDocs);
+
+        createRepository(repositoryName, "fs");
+        createFullSnapshot(repositoryName, snapshotName);
+
+        final RestoreSnapshotResponse restoreSnapshotResponse = client().admin().cluster()
+            .prepareRestoreSnapshot(repositoryName, snapshotName)
+            .setIndices(indexName)
+            .setRenamePattern("(.+)")
+            .setRenameReplacement("$1-copy")
+            .setStorageType(RestoreSnapshotRequest.StorageType.REMOTE_SNAPSHOT)
+            .setWaitForCompletion(true)
+            .get();
+        assertThat(restoreSnapshotResponse.getRestoreInfo().failedShards(), equalTo(0));
+        ensureGreen(restoredIndexName);
+
+        final GetSettingsResponse settings = client().admin().indices().prepareGetSettings(restoredIndexName).get();
+        assertThat(settings.getSetting(restoredIndexName, IndexModule.INDEX_STORE_TYPE_SETTING.getKey()),
+            equalTo(RemoteSnapshotDirectoryFactory.TYPE));
+        assertThat(settings.getSetting(restoredIndexName, IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY.getKey()),
+            equalTo(repositoryName));
+
+        assertHitCount(client().prepareSearch(restoredIndexName).setSize(0).get(), numDocs);
+        assertHitCount(client().prepareSearch(restoredIndexName).setQuery(QueryBuilders.matchQuery("field1", "bar 1")).setSize(0).get(),
+            numDocs);
+        assertHitCount(client().prepareSearch(restoredIndexName).setQuery(QueryBuilders.termQuery("field1", "0")).get(), 1);
+
+        expectThrows(ClusterBlockException.class,
+            () -> client().prepareIndex(restoredIndexName, "_doc").setSource("field1", "foo").get());
+
+        assertAcked(client().admin().indices().prepareDelete(restoredIndexName));
+        assertHitCount(client().prepareSearch(indexName).setSize(0).get(), numDocs);
+    }
+
+    public void testDeleteMountedSnapshotFails() throws Exception {
+        final String indexName = "test-idx";
+        createIndex(indexName, indexSettingsNoReplicas(1).build());
+        indexRandomDocs(indexName, scaledRandomIntBetween(1, 50));
+        createRepository("test-repo", "fs");
+        createFullSnapshot("test-repo", "test-snap");
+        createFullSnapshot("test-repo", "other-snap");
+
+        final RestoreSnapshotResponse restoreSnapshotResponse = client().admin().cluster()
+            .prepareRestoreSnapshot("test-repo", "test-snap")
+            .setIndices(indexName)
+            .setRenamePattern("(.+)")
+            .setRenameReplacement("$1-copy")
+            .setStorageType(RestoreSnapshotRequest.StorageType.REMOTE_SNAPSHOT)
+            .setWaitForCompletion(true)
+            .get();
+        assertThat(restoreSnapshotResponse.getRestoreInfo().failedShards(), equalTo(0));
+        ensureGreen(indexName + "-copy");
+
+        final ConcurrentSnapshotExecutionException e = expectThrows(ConcurrentSnapshotExecutionException.class,
+            () -> client().admin().cluster().prepareDeleteSnapshot("test-repo", "test-snap").get());
+        assertThat(e.getMessage(), containsString("cannot delete snapshot while it is mounted as index [" + indexName + "-copy]"));
+        // other snapshots of the repository can still be deleted
+        assertAcked(client().admin().cluster().prepareDeleteSnapshot("test-repo", "other-snap").get());
+
+        assertAcked(client().admin().indices().prepareDelete(indexName + "-copy"));
+        assertAcked(client().admin().cluster().prepareDeleteSnapshot("test-repo", "test-snap").get());
+    }
+
+    public void testRemoteSnapshotRestoreOntoExistingIndexFails() {
+        final String indexName = "test-idx";
+        createIndex(indexName);
+        ensureGreen(indexName);
+        createRepository("test-repo", "fs");
+        createFullSnapshot("test-repo", "test-snap");
+        assertAcked(client().admin().indices().prepareClose(indexName));
+
+        expectThrows(SnapshotRestoreException.class, () -> client().admin().cluster()
+            .prepareRestoreSnapshot("test-repo", "test-snap")
+            .setIndices(indexName)
+            .setStorageType(RestoreSnapshotRequest.StorageType.REMOTE_SNAPSHOT)
+            .setWaitForCompletion(true)
+            .get());
+    }
+}
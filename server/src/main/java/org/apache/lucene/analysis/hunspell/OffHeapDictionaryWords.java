@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.apache.lucene.analysis.hunspell;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.IntsRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.apache.lucene.util.fst.FST;
+import org.apache.lucene.util.fst.OffHeapFSTStore;
+import org.opensearch.core.internal.io.IOUtils;
+
+import java.io.IOException;
+
+/**
+ * Moves the words of hunspell {@link Dictionary dictionaries} off-heap. The words FST of a dictionary holds all the stems
+ * of its {@code .dic} files and is by far its largest part, so large dictionaries can take hundreds of megabytes of heap.
+ * The FST is written to a file once the dictionary is built and replaced by an FST that reads the memory-mapped file,
+ * whose pages the operating system loads on demand and can evict under memory pressure.
+ */
+public final class OffHeapDictionaryWords {
+
+    private OffHeapDictionaryWords() {}
+
+    /**
+     * Writes the words of the given dictionary to a temporary file of the given directory, and makes the dictionary read
+     * them from that file from now on.
+     *
+     * @return the input that the words are read from, which must stay open as long as the dictionary is used, or {@code null}
+     *         if the dictionary has no words
+     */
+    public static IndexInput moveOffHeap(Dictionary dictionary, Directory directory, String prefix) throws IOException {
+        final FST<IntsRef> words = dictionary.words;
+        if (words == null) {
+            return null;
+        }
+        final String fileName;
+        try (IndexOutput output = directory.createTempOutput(prefix, "words", IOContext.DEFAULT)) {
+            fileName = output.getName();
+            words.save(output, output);
+        }
+        IndexInput input = null;
+        boolean success = false;
+        try {
+            input = directory.openInput(fileName, IOContext.DEFAULT);
+            dictionary.words = new FST<>(input, input, words.outputs, new OffHeapFSTStore());
+            success = true;
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(input);
+            }
+            try {
+                directory.deleteFile(fileName);
+            } catch (IOException e) {
+                // mapped files remain readable once deleted, this only fails on Windows where the file then stays in the directory
+            }
+        }
+        return input;
+    }
+
+    /**
+     * Returns the heap memory that the given dictionary uses, which only covers the metadata of its words once they are
+     * {@link #moveOffHeap moved off-heap}.
+     */
+    public static long ramBytesUsed(Dictionary dictionary) {
+        long bytes = ramBytesUsed(dictionary.prefixes) + ramBytesUsed(dictionary.suffixes) + ramBytesUsed(dictionary.words)
+            + ramBytesUsed(dictionary.iconv) + ramBytesUsed(dictionary.oconv);
+        if (dictionary.flagLookup != null) {
+            bytes += dictionary.flagLookup.ramBytesUsed();
+        }
+        if (dictionary.stripData != null) {
+            bytes += RamUsageEstimator.sizeOf(dictionary.stripData);
+        }
+        if (dictionary.stripOffsets != null) {
+            bytes += RamUsageEstimator.sizeOf(dictionary.stripOffsets);
+        }
+        if (dictionary.affixData != null) {
+            bytes += RamUsageEstimator.sizeOf(dictionary.affixData);
+        }
+        return bytes;
+    }
+
+    private static long ramBytesUsed(FST<?> fst) {
+        return fst == null ? 0 : fst.ramBytesUsed();
+    }
+}
@@ -70,5 +70,12 @@ public class OneMergeHelper {
         return merge.totalBytesSize();
     }
 
+    /**
+     * Returns the number of segments of the given writer, including those that are being merged.
+     */
+    public static int getSegmentCount(IndexWriter writer) {
+        return writer.getSegmentCount();
+    }
+
 
 }
@@ -33,6 +33,7 @@
 package org.opensearch.action.admin.cluster.snapshots.restore;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.action.support.master.MasterNodeRequest;
@@ -50,6 +51,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 
@@ -78,10 +80,53 @@ public class RestoreSnapshotRequest extends MasterNodeRequest<RestoreSnapshotReq
     private boolean includeAliases = true;
     private Settings indexSettings = EMPTY_SETTINGS;
     private String[] ignoreIndexSettings = Strings.EMPTY_ARRAY;
+    private StorageType storageType = StorageType.LOCAL;
 
     @Nullable // if any snapshot UUID will do
     private String snapshotUuid;
 
+    /**
+     * Enumeration of possible storage types for the restored indices
+     */
+    public enum StorageType {
+        /**
+         * Files are copied from the repository to the local disk before the shards are started
+         */
+        LOCAL("local"),
+        /**
+         * Shards are started on top of the snapshot files, which are read from the repository on demand
+         */
+        REMOTE_SNAPSHOT("remote_snapshot");
+
+        private final String text;
+
+        StorageType(String text) {
+            this.text = text;
+        }
+
+        public String text() {
+            return text;
+        }
+
+        public static StorageType fromString(String string) {
+            for (StorageType type : values()) {
+                if (type.text.equals(string)) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("unknown storage_type [" + string + "], expected one of " +
+                Arrays.toString(Arrays.stream(values()).map(StorageType::text).toArray()));
+        }
+
+        public static StorageType readFrom(StreamInput in) throws IOException {
+            return in.readEnum(StorageType.class);
+        }
+
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeEnum(this);
+        }
+    }
+
     public RestoreSnapshotRequest() {
     }
 
@@ -116,6 +161,9 @@ public class RestoreSnapshotRequest extends MasterNodeRequest<RestoreSnapshotReq
         if (in.getVersion().onOrAfter(LegacyESVersion.V_7_10_0)) {
             snapshotUuid = in.readOptionalString();
         }
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            storageType = StorageType.readFrom(in);
+        }
     }
 
     @Override
@@ -142,6 +190,13 @@ public class RestoreSnapshotRequest extends MasterNodeRequest<RestoreSnapshotReq
             throw new IllegalStateException(
                     "restricting the snapshot UUID is forbidden in a cluster with version [" + out.getVersion() + "] nodes");
         }
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            storageType.writeTo(out);
+        } else if (storageType != StorageType.LOCAL) {
+            throw new IllegalStateException(
+                "restoring with storage type [" + storageType.text() + "] is forbidden in a cluster with version [" +
+                    out.getVersion() + "] nodes");
+        }
     }
 
     @Override
@@ -165,6 +220,9 @@ public class RestoreSnapshotRequest extends MasterNodeRequest<RestoreSnapshotReq
         if (ignoreIndexSettings == null) {
             validationException = addValidationError("ignoreIndexSettings are missing", validationException);
         }
+        if (storageType == null) {
+            validationException = addValidationError("storageType is missing", validationException);
+        }
         return validationException;
     }
 
@@ -456,6 +514,27 @@ public class RestoreSnapshotRequest extends MasterNodeRequest<RestoreSnapshotReq
         return this.indexSettings;
     }
 
+    /**
+     * Sets the storage type of the restored indices. With {@link StorageType#REMOTE_SNAPSHOT} the indices are mounted as
+     * read-only indices that read their files from the repository on demand instead of copying them to the local disk.
+     *
+     * @param storageType storage type
+     * @return this request
+     */
+    public RestoreSnapshotRequest storageType(StorageType storageType) {
+        this.storageType = storageType;
+        return this;
+    }
+
+    /**
+     * Returns the storage type of the restored indices
+     *
+     * @return storage type
+     */
+    public StorageType storageType() {
+        return storageType;
+    }
+
     /**
      * Sometimes a client has identified precisely which snapshot is to be restored via a separate mechanism and wishes to guarantee that
      * this is the snapshot that this request restores. If the client can only identify a snapshot by its name then there is a risk that the
@@ -533,6 +612,12 @@ public class RestoreSnapshotRequest extends MasterNodeRequest<RestoreSnapshotReq
                     } else {
                         throw new IllegalArgumentException("malformed ignore_index_settings section, should be an array of strings");
                     }
+            } else if (name.equals("storage_type")) {
+                if (entry.getValue() instanceof String) {
+                    storageType(StorageType.fromString(((String) entry.getValue()).toLowerCase(Locale.ROOT)));
+                } else {
+                    throw new IllegalArgumentException("malformed storage_type");
+                }
             } else {
                 if (IndicesOptions.isIndicesOptions(name) == false) {
                     throw new IllegalArgumentException("Unknown parameter " + name);
@@ -575,6 +660,7 @@ public class RestoreSnapshotRequest extends MasterNodeRequest<RestoreSnapshotReq
             builder.value(ignoreIndexSetting);
         }
         builder.endArray();
+        builder.field("storage_type", storageType.text());
         builder.endObject();
         return builder;
     }
@@ -601,13 +687,14 @@ public class RestoreSnapshotRequest extends MasterNodeRequest<RestoreSnapshotReq
             Objects.equals(renameReplacement, that.renameReplacement) &&
             Objects.equals(indexSettings, that.indexSettings) &&
             Arrays.equals(ignoreIndexSettings, that.ignoreIndexSettings) &&
-            Objects.equals(snapshotUuid, that.snapshotUuid);
+            Objects.equals(snapshotUuid, that.snapshotUuid) &&
+            storageType == that.storageType;
     }
 
     @Override
     public int hashCode() {
         int result = Objects.hash(snapshot, repository, indicesOptions, renamePattern, renameReplacement, waitForCompletion,
-            includeGlobalState, partial, includeAliases, indexSettings, snapshotUuid);
+            includeGlobalState, partial, includeAliases, indexSettings, snapshotUuid, storageType);
         result = 31 * result + Arrays.hashCode(indices);
         result = 31 * result + Arrays.hashCode(ignoreIndexSettings);
         return result;
@@ -247,4 +247,15 @@ public class RestoreSnapshotRequestBuilder extends MasterNodeOperationRequestBui
         request.ignoreIndexSettings(ignoreIndexSettings);
         return this;
     }
+
+    /**
+     * Sets the storage type of the restored indices
+     *
+     * @param storageType storage type
+     * @return this builder
+     */
+    public RestoreSnapshotRequestBuilder setStorageType(RestoreSnapshotRequest.StorageType storageType) {
+        request.storageType(storageType);
+        return this;
+    }
 }
@@ -42,7 +42,9 @@ import org.opensearch.index.engine.Engine;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.translog.Translog;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * This is a utility class that holds the per request state needed to perform bulk operations on the primary.
@@ -88,6 +90,7 @@ class BulkPrimaryExecutionContext {
     private DocWriteRequest requestToExecute;
     private BulkItemResponse executionResult;
     private int retryCounter;
+    private boolean mappingUpdatesCombined;
 
 
     BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary) {
@@ -197,6 +200,27 @@ class BulkPrimaryExecutionContext {
         return request.items()[currentIndex];
     }
 
+    /** returns the requests of the items that follow the current item and that haven't been aborted */
+    public List<DocWriteRequest<?>> getRemainingRequests() {
+        final List<DocWriteRequest<?>> remaining = new ArrayList<>();
+        for (int i = findNextNonAborted(currentIndex + 1); i < request.items().length; i = findNextNonAborted(i + 1)) {
+            remaining.add(request.items()[i].request());
+        }
+        return remaining;
+    }
+
+    /**
+     * indicates that the dynamic mapping updates of the remaining items are combined with the update of the current item, which
+     * happens at most once per request. Returns {@code false} if the updates have already been combined.
+     */
+    public boolean markMappingUpdatesAsCombined() {
+        if (mappingUpdatesCombined) {
+            return false;
+        }
+        mappingUpdatesCombined = true;
+        return true;
+    }
+
     /** returns the primary shard */
     public IndexShard getPrimary() {
         return primary;
@@ -49,12 +49,17 @@ import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -109,6 +114,7 @@ public class BulkProcessor implements Closeable {
         private String globalType;
         private String globalRouting;
         private String globalPipeline;
+        private Function<DocWriteRequest<?>, String> partitioner;
 
         private Builder(BiConsumer<BulkRequest, ActionListener<BulkResponse>> consumer, Listener listener,
                         Scheduler flushScheduler, Scheduler retryScheduler, Runnable onClose) {
@@ -178,6 +184,20 @@ public class BulkProcessor implements Closeable {
             return this;
         }
 
+        /**
+         * Sets a function that assigns each action to a partition, for instance the node that holds the primary of the shard of its
+         * document. Actions of different partitions are sent in different bulk requests, each partition being flushed on its own
+         * when it reaches the {@link #setBulkActions(int) actions} or {@link #setBulkSize(ByteSizeValue) size} limit, and all
+         * partitions being flushed by the {@link #setFlushInterval(TimeValue) flush interval}. The concurrent requests and the
+         * backoff policy apply to the bulk requests of all partitions. Defaults to not set, all actions being sent together.
+         * <p>
+         * The function is called while holding the lock of the processor so it must be cheap and not block.
+         */
+        public Builder setPartitioner(Function<DocWriteRequest<?>, String> partitioner) {
+            this.partitioner = partitioner;
+            return this;
+        }
+
         /**
          * Sets a custom backoff policy. The backoff policy defines how the bulk processor should handle retries of bulk requests internally
          * in case they have failed due to resource constraints (i.e. a thread pool was full).
@@ -199,7 +219,7 @@ public class BulkProcessor implements Closeable {
          */
         public BulkProcessor build() {
             return new BulkProcessor(consumer, backoffPolicy, listener, concurrentRequests, bulkActions,
-                bulkSize, flushInterval, flushScheduler, retryScheduler, onClose, createBulkRequestWithGlobalDefaults());
+                bulkSize, flushInterval, flushScheduler, retryScheduler, onClose, createBulkRequestWithGlobalDefaults(), partitioner);
         }
 
         private Supplier<BulkRequest> createBulkRequestWithGlobalDefaults() {
@@ -274,6 +294,9 @@ public class BulkProcessor implements Closeable {
 
     private BulkRequest bulkRequest;
     private final Supplier<BulkRequest> bulkRequestSupplier;
+    private final Function<DocWriteRequest<?>, String> partitioner;
+    // the pending bulk request of each partition when actions are partitioned, bulkRequest isn't used then
+    private final Map<String, BulkRequest> partitionBulkRequests = new HashMap<>();
     private final BulkRequestHandler bulkRequestHandler;
     private final Runnable onClose;
 
@@ -283,10 +306,19 @@ public class BulkProcessor implements Closeable {
     BulkProcessor(BiConsumer<BulkRequest, ActionListener<BulkResponse>> consumer, BackoffPolicy backoffPolicy, Listener listener,
                   int concurrentRequests, int bulkActions, ByteSizeValue bulkSize, @Nullable TimeValue flushInterval,
                   Scheduler flushScheduler, Scheduler retryScheduler, Runnable onClose, Supplier<BulkRequest> bulkRequestSupplier) {
+        this(consumer, backoffPolicy, listener, concurrentRequests, bulkActions, bulkSize, flushInterval, flushScheduler,
+            retryScheduler, onClose, bulkRequestSupplier, null);
+    }
+
+    BulkProcessor(BiConsumer<BulkRequest, ActionListener<BulkResponse>> consumer, BackoffPolicy backoffPolicy, Listener listener,
+                  int concurrentRequests, int bulkActions, ByteSizeValue bulkSize, @Nullable TimeValue flushInterval,
+                  Scheduler flushScheduler, Scheduler retryScheduler, Runnable onClose, Supplier<BulkRequest> bulkRequestSupplier,
+                  @Nullable Function<DocWriteRequest<?>, String> partitioner) {
         this.bulkActions = bulkActions;
         this.bulkSize = bulkSize.getBytes();
         this.bulkRequest = bulkRequestSupplier.get();
         this.bulkRequestSupplier = bulkRequestSupplier;
+        this.partitioner = partitioner;
         this.bulkRequestHandler = new BulkRequestHandler(consumer, backoffPolicy, listener, retryScheduler, concurrentRequests);
         // Start period flushing task after everything is setup
         this.cancellableFlushTask = startFlushTask(flushInterval, flushScheduler);
@@ -342,6 +374,7 @@ public class BulkProcessor implements Closeable {
             if (bulkRequest.numberOfActions() > 0) {
                 execute();
             }
+            executePartitions();
             try {
                 return this.bulkRequestHandler.awaitClose(timeout, unit);
             } finally {
@@ -386,6 +419,11 @@ public class BulkProcessor implements Closeable {
     }
 
     private void internalAdd(DocWriteRequest<?> request) {
+        if (partitioner != null) {
+            // the global defaults of the processor are applied before partitioning
+            addToPartitions(bulkRequestSupplier.get().add(request));
+            return;
+        }
         //bulkRequest and instance swapping is not threadsafe, so execute the mutations under a lock.
         //once the bulk request is ready to be shipped swap the instance reference unlock and send the local reference to the handler.
         Tuple<BulkRequest, Long> bulkRequestToExecute = null;
@@ -417,6 +455,12 @@ public class BulkProcessor implements Closeable {
     public BulkProcessor add(BytesReference data, @Nullable String defaultIndex, @Nullable String defaultType,
                                           @Nullable String defaultPipeline,
                                           XContentType xContentType) throws Exception {
+        if (partitioner != null) {
+            final BulkRequest requests = bulkRequestSupplier.get();
+            requests.add(data, defaultIndex, defaultType, null, null, defaultPipeline, null, true, xContentType);
+            addToPartitions(requests);
+            return this;
+        }
         Tuple<BulkRequest, Long> bulkRequestToExecute = null;
         lock.lock();
         try {
@@ -434,6 +478,28 @@ public class BulkProcessor implements Closeable {
         return this;
     }
 
+    private void addToPartitions(BulkRequest requests) {
+        final List<Tuple<BulkRequest, Long>> bulkRequestsToExecute = new ArrayList<>();
+        lock.lock();
+        try {
+            ensureOpen();
+            for (DocWriteRequest<?> request : requests.requests()) {
+                final String partition = partitioner.apply(request);
+                final BulkRequest bulkRequest = partitionBulkRequests.computeIfAbsent(partition, p -> bulkRequestSupplier.get());
+                bulkRequest.add(request);
+                if (isOverTheLimit(bulkRequest)) {
+                    partitionBulkRequests.remove(partition);
+                    bulkRequestsToExecute.add(new Tuple<>(bulkRequest, executionIdGen.incrementAndGet()));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Tuple<BulkRequest, Long> bulkRequestToExecute : bulkRequestsToExecute) {
+            execute(bulkRequestToExecute.v1(), bulkRequestToExecute.v2());
+        }
+    }
+
     private Scheduler.Cancellable startFlushTask(TimeValue flushInterval, Scheduler scheduler) {
         if (flushInterval == null) {
             return new Scheduler.Cancellable() {
@@ -476,8 +542,22 @@ public class BulkProcessor implements Closeable {
         execute(bulkRequest, executionId);
     }
 
+    // needs to be executed under a lock
+    private void executePartitions() {
+        for (BulkRequest bulkRequest : partitionBulkRequests.values()) {
+            if (bulkRequest.numberOfActions() > 0) {
+                execute(bulkRequest, executionIdGen.incrementAndGet());
+            }
+        }
+        partitionBulkRequests.clear();
+    }
+
     // needs to be executed under a lock
     private boolean isOverTheLimit() {
+        return isOverTheLimit(bulkRequest);
+    }
+
+    private boolean isOverTheLimit(BulkRequest bulkRequest) {
         if (bulkActions != -1 && bulkRequest.numberOfActions() >= bulkActions) {
             return true;
         }
@@ -497,6 +577,7 @@ public class BulkProcessor implements Closeable {
             if (bulkRequest.numberOfActions() > 0) {
                 execute();
             }
+            executePartitions();
         } finally {
             lock.unlock();
         }
@@ -510,10 +591,10 @@ public class BulkProcessor implements Closeable {
                 if (closed) {
                     return;
                 }
-                if (bulkRequest.numberOfActions() == 0) {
-                    return;
+                if (bulkRequest.numberOfActions() > 0) {
+                    execute();
                 }
-                execute();
+                executePartitions();
             } finally {
                 lock.unlock();
             }
@@ -72,8 +72,11 @@ import org.opensearch.index.IndexingPressure;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.VersionConflictEngineException;
 import org.opensearch.index.get.GetResult;
+import org.opensearch.index.mapper.DocumentMapperForType;
 import org.opensearch.index.mapper.MapperException;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.Mapping;
+import org.opensearch.index.mapper.ParsedDocument;
 import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.shard.IndexShard;
@@ -88,6 +91,7 @@ import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
@@ -301,17 +305,17 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         }
         if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
 
+            final Mapping mappingUpdate;
             try {
-                primary.mapperService().merge(context.getRequestToExecute().type(),
-                    new CompressedXContent(result.getRequiredMappingUpdate(), XContentType.JSON, ToXContent.EMPTY_PARAMS),
-                    MapperService.MergeReason.MAPPING_UPDATE_PREFLIGHT);
+                preflightMappingUpdate(primary, context.getRequestToExecute().type(), result.getRequiredMappingUpdate());
+                mappingUpdate = combineMappingUpdates(context, result.getRequiredMappingUpdate());
             } catch (Exception e) {
                 logger.info(() -> new ParameterizedMessage("{} mapping update rejected by primary", primary.shardId()), e);
                 onComplete(exceptionToResult(e, primary, isDelete, version), context, updateResult);
                 return true;
             }
 
-            mappingUpdater.updateMappings(result.getRequiredMappingUpdate(), primary.shardId(),
+            mappingUpdater.updateMappings(mappingUpdate, primary.shardId(),
                 context.getRequestToExecute().type(),
                 new ActionListener<Void>() {
                     @Override
@@ -348,6 +352,66 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         return true;
     }
 
+    private static void preflightMappingUpdate(IndexShard primary, String type, Mapping update) throws IOException {
+        primary.mapperService().merge(type, new CompressedXContent(update, XContentType.JSON, ToXContent.EMPTY_PARAMS),
+            MapperService.MergeReason.MAPPING_UPDATE_PREFLIGHT);
+    }
+
+    /**
+     * Combines the dynamic mapping update that the current item requires with the updates that the remaining index requests of the
+     * bulk require, if the index is configured to, so that the primary waits for the master to apply a single update instead of one
+     * update per item that adds fields. The remaining documents are parsed with the current mapping, and the updates that conflict
+     * with the combined update are left to their items, which fail or request their update when they are executed.
+     */
+    static Mapping combineMappingUpdates(BulkPrimaryExecutionContext context, Mapping update) {
+        final List<DocWriteRequest<?>> remainingRequests = context.getRemainingRequests();
+        final IndexShard primary = context.getPrimary();
+        if (remainingRequests.isEmpty()
+            || primary.indexSettings().isMappingBulkCombineDynamicUpdates() == false
+            || context.markMappingUpdatesAsCombined() == false) {
+            return update;
+        }
+        final MapperService mapperService = primary.mapperService();
+        final String type = context.getRequestToExecute().type();
+        final String resolvedType = mapperService.resolveDocumentType(type);
+        Mapping combined = update;
+        int combinedUpdates = 0;
+        for (DocWriteRequest<?> docWriteRequest : remainingRequests) {
+            if (docWriteRequest instanceof IndexRequest == false
+                || resolvedType.equals(mapperService.resolveDocumentType(docWriteRequest.type())) == false) {
+                continue;
+            }
+            final IndexRequest request = (IndexRequest) docWriteRequest;
+            try {
+                final DocumentMapperForType docMapper = mapperService.documentMapperWithAutoCreate(resolvedType);
+                final ParsedDocument doc = docMapper.getDocumentMapper().parse(new SourceToParse(request.index(), resolvedType,
+                    request.id(), request.source(), request.getContentType(), request.routing()));
+                if (docMapper.getMapping() != null) {
+                    doc.addDynamicMappingsUpdate(docMapper.getMapping());
+                }
+                if (doc.dynamicMappingsUpdate() != null) {
+                    combined = combined.merge(doc.dynamicMappingsUpdate(), MapperService.MergeReason.MAPPING_UPDATE_PREFLIGHT);
+                    combinedUpdates++;
+                }
+            } catch (Exception e) {
+                logger.trace(() -> new ParameterizedMessage("{} not combining the mapping update of [{}]", primary.shardId(),
+                    request.id()), e);
+            }
+        }
+        if (combinedUpdates == 0) {
+            return update;
+        }
+        try {
+            preflightMappingUpdate(primary, type, combined);
+        } catch (Exception e) {
+            // the combined update may exceed the mapping limits, let every item request its own update instead
+            logger.debug(() -> new ParameterizedMessage("{} combined mapping update rejected by primary", primary.shardId()), e);
+            return update;
+        }
+        logger.trace("{} combined the mapping updates of [{}] items", primary.shardId(), combinedUpdates + 1);
+        return combined;
+    }
+
     private static Engine.Result exceptionToResult(Exception e, IndexShard primary, boolean isDelete, long version) {
         return isDelete ? primary.getFailedDeleteResult(e, version) : primary.getFailedIndexResult(e, version);
     }
@@ -52,7 +52,8 @@ import java.util.List;
 /**
  * This search phase is an optional phase that will be executed once all hits are fetched from the shards that executes
  * field-collapsing on the inner hits. This phase only executes if field collapsing is requested in the search request and otherwise
- * forwards to the next phase immediately.
+ * forwards to the next phase immediately. It also forwards immediately if the shards already gathered the inner hits of the
+ * collapsed hits in their fetch phase, see {@link org.opensearch.search.collapse.CollapseInnerHitsPhase}.
  */
 final class ExpandSearchPhase extends SearchPhase {
     private final SearchPhaseContext context;
@@ -76,9 +77,27 @@ final class ExpandSearchPhase extends SearchPhase {
             searchRequest.source().collapse().getInnerHits().isEmpty() == false;
     }
 
+    /**
+     * Returns <code>true</code> iff the shards already gathered the inner hits of all hits with their fetch phase
+     */
+    private boolean isExpandedInShards() {
+        final List<InnerHitBuilder> innerHitBuilders = context.getRequest().source().collapse().getInnerHits();
+        for (SearchHit hit : searchResponse.hits().getHits()) {
+            if (hit.getInnerHits() == null) {
+                return false;
+            }
+            for (InnerHitBuilder innerHitBuilder : innerHitBuilders) {
+                if (hit.getInnerHits().containsKey(innerHitBuilder.getName()) == false) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     @Override
     public void run() {
-        if (isCollapseRequest() && searchResponse.hits().getHits().length > 0) {
+        if (isCollapseRequest() && searchResponse.hits().getHits().length > 0 && isExpandedInShards() == false) {
             SearchRequest searchRequest = context.getRequest();
             CollapseBuilder collapseBuilder = searchRequest.source().collapse();
             final List<InnerHitBuilder> innerHitBuilders = collapseBuilder.getInnerHits();
@@ -0,0 +1,21 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionType;
+
+public class ExportAction extends ActionType<ExportResponse> {
+
+    public static final ExportAction INSTANCE = new ExportAction();
+    public static final String NAME = "indices:data/read/export";
+
+    private ExportAction() {
+        super(NAME, ExportResponse::new);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.Version;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.ByteBufferStreamInput;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.internal.ShardSearchContextId;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * The position of an export within a shard: the node that holds the reader context of the export, the context
+ * itself and the doc id of the last document that was read from it.
+ */
+final class ExportCursor {
+
+    private final String nodeId;
+    private final ShardId shardId;
+    private final ShardSearchContextId contextId;
+    private final int lastDoc;
+
+    ExportCursor(String nodeId, ShardId shardId, ShardSearchContextId contextId, int lastDoc) {
+        this.nodeId = nodeId;
+        this.shardId = shardId;
+        this.contextId = contextId;
+        this.lastDoc = lastDoc;
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    ShardId shardId() {
+        return shardId;
+    }
+
+    ShardSearchContextId contextId() {
+        return contextId;
+    }
+
+    int lastDoc() {
+        return lastDoc;
+    }
+
+    String encode(Version version) {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(version);
+            Version.writeVersion(version, out);
+            out.writeString(nodeId);
+            shardId.writeTo(out);
+            contextId.writeTo(out);
+            out.writeInt(lastDoc);
+            return Base64.getUrlEncoder().encodeToString(BytesReference.toBytes(out.bytes()));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    static ExportCursor decode(String cursor) {
+        final ByteBuffer byteBuffer;
+        try {
+            byteBuffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("invalid cursor: [" + cursor + "]", e);
+        }
+        try (StreamInput in = new ByteBufferStreamInput(byteBuffer)) {
+            final Version version = Version.readVersion(in);
+            in.setVersion(version);
+            final ExportCursor exportCursor = new ExportCursor(in.readString(), new ShardId(in), new ShardSearchContextId(in),
+                in.readInt());
+            if (in.available() > 0) {
+                throw new IllegalArgumentException("Not all bytes were read");
+            }
+            return exportCursor;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("invalid cursor: [" + cursor + "]", e);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.IndicesRequest;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+
+import java.io.IOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Exports the documents of a single shard of an index, one batch at a time. The first request of a shard has no
+ * cursor, every response carries the cursor that the next request must send until the shard is exhausted. Shards are
+ * exported independently of each other, so clients can export several shards concurrently.
+ */
+public class ExportRequest extends ActionRequest implements IndicesRequest {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    public static final TimeValue DEFAULT_KEEP_ALIVE = TimeValue.timeValueMinutes(5);
+
+    private String index;
+    private int shard = -1;
+    @Nullable
+    private String cursor;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private TimeValue keepAlive = DEFAULT_KEEP_ALIVE;
+    @Nullable
+    private FetchSourceContext fetchSource;
+
+    public ExportRequest() {
+    }
+
+    public ExportRequest(String index, int shard) {
+        this.index = index;
+        this.shard = shard;
+    }
+
+    public ExportRequest(StreamInput in) throws IOException {
+        super(in);
+        index = in.readString();
+        shard = in.readInt();
+        cursor = in.readOptionalString();
+        batchSize = in.readVInt();
+        keepAlive = in.readTimeValue();
+        fetchSource = in.readOptionalWriteable(FetchSourceContext::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(index);
+        out.writeInt(shard);
+        out.writeOptionalString(cursor);
+        out.writeVInt(batchSize);
+        out.writeTimeValue(keepAlive);
+        out.writeOptionalWriteable(fetchSource);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        if (index == null) {
+            validationException = addValidationError("index is missing", validationException);
+        }
+        if (shard < 0) {
+            validationException = addValidationError("shard must be set and non-negative", validationException);
+        }
+        if (batchSize <= 0) {
+            validationException = addValidationError("batch_size must be positive but was [" + batchSize + "]", validationException);
+        }
+        return validationException;
+    }
+
+    public String index() {
+        return index;
+    }
+
+    public ExportRequest index(String index) {
+        this.index = index;
+        return this;
+    }
+
+    public int shard() {
+        return shard;
+    }
+
+    public ExportRequest shard(int shard) {
+        this.shard = shard;
+        return this;
+    }
+
+    /**
+     * The cursor returned by the previous batch of the shard, {@code null} to start exporting the shard.
+     */
+    @Nullable
+    public String cursor() {
+        return cursor;
+    }
+
+    public ExportRequest cursor(@Nullable String cursor) {
+        this.cursor = cursor;
+        return this;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of documents to return in a batch. Defaults to {@value #DEFAULT_BATCH_SIZE}, and may not
+     * exceed the {@code index.max_export_batch_size} of the index.
+     */
+    public ExportRequest batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public TimeValue keepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * How long to keep the view of the shard open for the next batch. Defaults to 5 minutes.
+     */
+    public ExportRequest keepAlive(TimeValue keepAlive) {
+        this.keepAlive = keepAlive;
+        return this;
+    }
+
+    @Nullable
+    public FetchSourceContext fetchSource() {
+        return fetchSource;
+    }
+
+    public ExportRequest fetchSource(@Nullable FetchSourceContext fetchSource) {
+        this.fetchSource = fetchSource;
+        return this;
+    }
+
+    @Override
+    public String[] indices() {
+        return new String[] { index };
+    }
+
+    @Override
+    public IndicesOptions indicesOptions() {
+        return IndicesOptions.strictSingleIndexNoExpandForbidClosed();
+    }
+
+    @Override
+    public String getDescription() {
+        return "index[" + index + "], shard[" + shard + "], batchSize[" + batchSize + "]";
+    }
+}
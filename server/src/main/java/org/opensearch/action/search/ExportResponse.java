@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionResponse;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+/**
+ * A batch of exported documents as newline-delimited JSON, along with the cursor to read the next batch with.
+ */
+public class ExportResponse extends ActionResponse {
+
+    private final BytesReference docs;
+    private final int numDocs;
+    @Nullable
+    private final String cursor;
+
+    public ExportResponse(BytesReference docs, int numDocs, @Nullable String cursor) {
+        this.docs = docs;
+        this.numDocs = numDocs;
+        this.cursor = cursor;
+    }
+
+    public ExportResponse(StreamInput in) throws IOException {
+        super(in);
+        docs = in.readBytesReference();
+        numDocs = in.readVInt();
+        cursor = in.readOptionalString();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeBytesReference(docs);
+        out.writeVInt(numDocs);
+        out.writeOptionalString(cursor);
+    }
+
+    /**
+     * The exported documents, one JSON object per line.
+     */
+    public BytesReference getDocs() {
+        return docs;
+    }
+
+    public int getNumDocs() {
+        return numDocs;
+    }
+
+    /**
+     * The cursor to read the next batch of the shard with, or {@code null} if all of its documents have been exported.
+     */
+    @Nullable
+    public String getCursor() {
+        return cursor;
+    }
+}
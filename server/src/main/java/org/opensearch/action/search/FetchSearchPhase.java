@@ -35,12 +35,15 @@ import com.carrotsearch.hppc.IntArrayList;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.search.ScoreDoc;
+import org.opensearch.Version;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.search.RescoreDocIds;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.collapse.CollapseInnerHitsPhase;
 import org.opensearch.search.dfs.AggregatedDfs;
 import org.opensearch.search.fetch.FetchSearchResult;
 import org.opensearch.search.fetch.ShardFetchSearchRequest;
@@ -143,12 +146,20 @@ final class FetchSearchPhase extends SearchPhase {
                 final ScoreDoc[] lastEmittedDocPerShard = isScrollSearch ?
                     searchPhaseController.getLastEmittedDocPerShard(reducedQueryPhase, numShards)
                     : null;
+                final Object[] collapseValues = canExpandCollapsedHitsInShards(phaseResults)
+                    ? reducedQueryPhase.sortedTopDocs.collapseValues
+                    : null;
                 final CountedCollector<FetchSearchResult> counter = new CountedCollector<>(fetchResults,
                     docIdsToLoad.length, // we count down every shard in the result no matter if we got any results or not
                     finishPhase, context);
                 for (int i = 0; i < docIdsToLoad.length; i++) {
                     IntArrayList entry = docIdsToLoad[i];
                     SearchPhaseResult queryResult = queryResults.get(i);
+                    if (entry == null && collapseValues != null && queryResult != null
+                        && queryResult.queryResult().hasSearchContext()) {
+                        // the shard has no collapsed hit to fetch but may have other documents of their groups
+                        entry = new IntArrayList(0);
+                    }
                     if (entry == null) { // no results for this shard ID
                         if (queryResult != null) {
                             // if we got some hits from this shard we have to release the context there
@@ -165,7 +176,7 @@ final class FetchSearchPhase extends SearchPhase {
                             searchShardTarget.getNodeId());
                         ShardFetchSearchRequest fetchSearchRequest = createFetchRequest(queryResult.queryResult().getContextId(), i, entry,
                             lastEmittedDocPerShard, searchShardTarget.getOriginalIndices(), queryResult.getShardSearchRequest(),
-                            queryResult.getRescoreDocIds());
+                            queryResult.getRescoreDocIds(), collapseValues);
                         executeFetch(i, searchShardTarget, counter, fetchSearchRequest, queryResult.queryResult(),
                             connection);
                     }
@@ -176,10 +187,32 @@ final class FetchSearchPhase extends SearchPhase {
 
     protected ShardFetchSearchRequest createFetchRequest(ShardSearchContextId contextId, int index, IntArrayList entry,
                                                          ScoreDoc[] lastEmittedDocPerShard, OriginalIndices originalIndices,
-                                                         ShardSearchRequest shardSearchRequest, RescoreDocIds rescoreDocIds) {
+                                                         ShardSearchRequest shardSearchRequest, RescoreDocIds rescoreDocIds,
+                                                         Object[] collapseValues) {
         final ScoreDoc lastEmittedDoc = (lastEmittedDocPerShard != null) ? lastEmittedDocPerShard[index] : null;
         return new ShardFetchSearchRequest(originalIndices, contextId, shardSearchRequest, entry, lastEmittedDoc,
-            rescoreDocIds, aggregatedDfs);
+            rescoreDocIds, aggregatedDfs, collapseValues);
+    }
+
+    /**
+     * Returns whether the shards can gather the inner hits of the collapsed hits with their fetch phase, so that
+     * {@link ExpandSearchPhase} doesn't need to send a search per collapsed hit. All shards that have hits must
+     * be on nodes that know how to.
+     */
+    private boolean canExpandCollapsedHitsInShards(List<SearchPhaseResult> phaseResults) {
+        final SearchSourceBuilder source = context.getRequest().source();
+        if (source == null || source.collapse() == null || CollapseInnerHitsPhase.canExpand(source.collapse().getInnerHits()) == false) {
+            return false;
+        }
+        for (SearchPhaseResult result : phaseResults) {
+            if (result.queryResult().hasSearchContext()) {
+                final SearchShardTarget target = result.getSearchShardTarget();
+                if (context.getConnection(target.getClusterAlias(), target.getNodeId()).getVersion().before(Version.V_1_0_0)) {
+                    return false;
+                }
+            }
+        }
+        return true;
     }
 
     private void executeFetch(final int shardIndex, final SearchShardTarget shardTarget,
@@ -35,12 +35,16 @@ package org.opensearch.action.search;
 import com.carrotsearch.hppc.IntArrayList;
 import com.carrotsearch.hppc.ObjectObjectHashMap;
 
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.CollectionStatistics;
+import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.LeafFieldComparator;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.search.TermStatistics;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopFieldDocs;
@@ -51,7 +55,10 @@ import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.collect.HppcMaps;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.MultiValueMode;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.SearchPhaseResult;
@@ -60,6 +67,7 @@ import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregation.ReduceContext;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.collapse.CollapseInnerHits;
 import org.opensearch.search.dfs.AggregatedDfs;
 import org.opensearch.search.dfs.DfsSearchResult;
 import org.opensearch.search.fetch.FetchSearchResult;
@@ -68,10 +76,13 @@ import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.profile.ProfileShardResult;
 import org.opensearch.search.profile.SearchProfileShardResults;
 import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.search.sort.BucketedSort;
+import org.opensearch.search.sort.SortOrder;
 import org.opensearch.search.suggest.Suggest;
 import org.opensearch.search.suggest.Suggest.Suggestion;
 import org.opensearch.search.suggest.completion.CompletionSuggestion;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -218,14 +229,12 @@ public final class SearchPhaseController {
         if (numShards == 1 && from == 0) { // only one shard and no pagination we can just return the topDocs as we got them.
             return topDocs;
         } else if (topDocs instanceof CollapseTopFieldDocs) {
-            CollapseTopFieldDocs firstTopDocs = (CollapseTopFieldDocs) topDocs;
-            final Sort sort = new Sort(firstTopDocs.fields);
             final CollapseTopFieldDocs[] shardTopDocs = results.toArray(new CollapseTopFieldDocs[numShards]);
+            final Sort sort = createMergeSort(shardTopDocs);
             mergedTopDocs = CollapseTopFieldDocs.merge(sort, from, topN, shardTopDocs, setShardIndex);
         } else if (topDocs instanceof TopFieldDocs) {
-            TopFieldDocs firstTopDocs = (TopFieldDocs) topDocs;
-            final Sort sort = new Sort(firstTopDocs.fields);
             final TopFieldDocs[] shardTopDocs = results.toArray(new TopFieldDocs[numShards]);
+            final Sort sort = createMergeSort(shardTopDocs);
             mergedTopDocs = TopDocs.merge(sort, from, topN, shardTopDocs, setShardIndex);
         } else {
             final TopDocs[] shardTopDocs = results.toArray(new TopDocs[numShards]);
@@ -234,6 +243,149 @@ public final class SearchPhaseController {
         return mergedTopDocs;
     }
 
+    /**
+     * Returns the sort to merge the top docs of the shards with. A field may be mapped as an integral number in some
+     * indices and as a floating point number in others, in which case the shards return sort values of different
+     * classes that the sort of a single shard cannot compare, so such sort fields compare the values as numbers.
+     */
+    static Sort createMergeSort(TopFieldDocs[] shardTopDocs) {
+        final SortField[] firstSortFields = shardTopDocs[0].fields;
+        SortField[] sortFields = firstSortFields;
+        for (int i = 0; i < firstSortFields.length; i++) {
+            final SortField.Type firstType = reducedType(firstSortFields[i]);
+            if (isNumeric(firstType) == false) {
+                continue;
+            }
+            for (TopFieldDocs shardTopDoc : shardTopDocs) {
+                final SortField sortField = shardTopDoc.fields[i];
+                final SortField.Type type = reducedType(sortField);
+                if (isNumeric(type) && (type != firstType || sortField.getComparatorSource() instanceof MixedNumericComparatorSource)) {
+                    if (sortFields == firstSortFields) {
+                        sortFields = firstSortFields.clone();
+                    }
+                    sortFields[i] = new SortField(firstSortFields[i].getField(), new MixedNumericComparatorSource(),
+                        firstSortFields[i].getReverse());
+                    break;
+                }
+            }
+        }
+        return new Sort(sortFields);
+    }
+
+    private static SortField.Type reducedType(SortField sortField) {
+        if (sortField instanceof SortedNumericSortField) {
+            return ((SortedNumericSortField) sortField).getNumericType();
+        } else if (sortField.getComparatorSource() instanceof IndexFieldData.XFieldComparatorSource) {
+            return ((IndexFieldData.XFieldComparatorSource) sortField.getComparatorSource()).reducedType();
+        }
+        return sortField.getType();
+    }
+
+    private static boolean isNumeric(SortField.Type type) {
+        return type == SortField.Type.INT || type == SortField.Type.LONG
+            || type == SortField.Type.FLOAT || type == SortField.Type.DOUBLE;
+    }
+
+    /**
+     * Compares sort values that are numbers of different classes by their exact values. This is only used to merge the
+     * top docs of shards, so its comparators only compare values, and it is serialized as a double sort.
+     */
+    static final class MixedNumericComparatorSource extends IndexFieldData.XFieldComparatorSource {
+
+        MixedNumericComparatorSource() {
+            super(null, MultiValueMode.MIN, null);
+        }
+
+        @Override
+        public SortField.Type reducedType() {
+            return SortField.Type.DOUBLE;
+        }
+
+        @Override
+        public FieldComparator<?> newComparator(String fieldname, int numHits, int sortPos, boolean reversed) {
+            return new FieldComparator<Number>() {
+                @Override
+                public int compare(int slot1, int slot2) {
+                    throw new UnsupportedOperationException("only sort values are compared to merge top docs");
+                }
+
+                @Override
+                public void setTopValue(Number value) {
+                    throw new UnsupportedOperationException("only sort values are compared to merge top docs");
+                }
+
+                @Override
+                public Number value(int slot) {
+                    throw new UnsupportedOperationException("only sort values are compared to merge top docs");
+                }
+
+                @Override
+                public LeafFieldComparator getLeafComparator(LeafReaderContext context) {
+                    throw new UnsupportedOperationException("only sort values are compared to merge top docs");
+                }
+
+                @Override
+                public int compareValues(Number first, Number second) {
+                    return compareNumbers(first, second);
+                }
+            };
+        }
+
+        /**
+         * Compares two numbers by their exact values, whatever their classes. Negative and positive zeros are equal and
+         * NaN is greater than all other values, so that the order is total across integral and floating point numbers.
+         */
+        static int compareNumbers(Number first, Number second) {
+            final boolean firstIntegral = isIntegral(first);
+            final boolean secondIntegral = isIntegral(second);
+            if (firstIntegral && secondIntegral) {
+                return Long.compare(first.longValue(), second.longValue());
+            }
+            if (firstIntegral == false && secondIntegral == false) {
+                final double firstValue = first.doubleValue();
+                final double secondValue = second.doubleValue();
+                return firstValue == secondValue ? 0 : Double.compare(firstValue, secondValue);
+            }
+            // a long and a double can't be compared as doubles, which would round the long, nor as longs
+            final int firstRank = rank(first);
+            final int secondRank = rank(second);
+            if (firstRank != 0 || secondRank != 0) {
+                return Integer.compare(firstRank, secondRank);
+            }
+            return exactValue(first).compareTo(exactValue(second));
+        }
+
+        /**
+         * Orders the non-finite values around the finite ones, which all have a rank of {@code 0}.
+         */
+        private static int rank(Number number) {
+            if (isIntegral(number)) {
+                return 0;
+            }
+            final double value = number.doubleValue();
+            if (Double.isNaN(value)) {
+                return 2;
+            } else if (Double.isInfinite(value)) {
+                return value > 0 ? 1 : -1;
+            }
+            return 0;
+        }
+
+        private static BigDecimal exactValue(Number number) {
+            return isIntegral(number) ? BigDecimal.valueOf(number.longValue()) : new BigDecimal(number.doubleValue());
+        }
+
+        private static boolean isIntegral(Number number) {
+            return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+        }
+
+        @Override
+        public BucketedSort newBucketedSort(BigArrays bigArrays, SortOrder sortOrder, DocValueFormat format,
+                                            int bucketSize, BucketedSort.ExtraData extra) {
+            throw new UnsupportedOperationException("only sort values are compared to merge top docs");
+        }
+    }
+
     static void setShardIndex(TopDocs topDocs, int shardIndex) {
         assert topDocs.scoreDocs.length == 0 || topDocs.scoreDocs[0].shardIndex == -1 : "shardIndex is already set";
         for (ScoreDoc doc : topDocs.scoreDocs) {
@@ -343,6 +495,7 @@ public final class SearchPhaseController {
         numSearchHits = Math.min(sortedTopDocs.scoreDocs.length, numSearchHits);
         // merge hits
         List<SearchHit> hits = new ArrayList<>();
+        final SearchHit[] hitsByPosition = new SearchHit[Math.max(0, numSearchHits)];
         if (!fetchResults.isEmpty()) {
             for (int i = 0; i < numSearchHits; i++) {
                 ScoreDoc shardDoc = sortedTopDocs.scoreDocs[i];
@@ -370,12 +523,83 @@ public final class SearchPhaseController {
                     searchHit.score(shardDoc.score);
                 }
                 hits.add(searchHit);
+                hitsByPosition[i] = searchHit;
             }
+            mergeCollapseInnerHits(hitsByPosition, fetchResults);
         }
         return new SearchHits(hits.toArray(new SearchHit[0]), reducedQueryPhase.totalHits,
             reducedQueryPhase.maxScore, sortedTopDocs.sortFields, sortedTopDocs.collapseField, sortedTopDocs.collapseValues);
     }
 
+    /**
+     * Merges the inner hits of the collapsed groups that the shards gathered into the inner hits of the collapsed
+     * hits, the group of every collapsed hit being at the same position as the hit.
+     */
+    static void mergeCollapseInnerHits(SearchHit[] hitsByPosition, Collection<? extends SearchPhaseResult> fetchResults) {
+        final List<FetchSearchResult> shardResults = new ArrayList<>();
+        for (SearchPhaseResult entry : fetchResults) {
+            if (entry.fetchResult().collapseInnerHits() != null) {
+                shardResults.add(entry.fetchResult());
+            }
+        }
+        if (shardResults.isEmpty()) {
+            return;
+        }
+        final CollapseInnerHits first = shardResults.get(0).collapseInnerHits();
+        for (int group = 0; group < hitsByPosition.length; group++) {
+            final SearchHit hit = hitsByPosition[group];
+            if (hit == null || group >= first.numGroups()) {
+                continue;
+            }
+            if (hit.getInnerHits() == null) {
+                hit.setInnerHits(new HashMap<>(first.numInnerHits()));
+            }
+            for (int innerHit = 0; innerHit < first.numInnerHits(); innerHit++) {
+                hit.getInnerHits().put(first.name(innerHit), mergeGroupHits(shardResults, group, innerHit));
+            }
+        }
+    }
+
+    private static SearchHits mergeGroupHits(List<FetchSearchResult> shardResults, int group, int innerHit) {
+        final List<TopDocs> shardTopDocs = new ArrayList<>(shardResults.size());
+        final SearchHit[][] shardHits = new SearchHit[shardResults.size()][];
+        long totalHits = 0;
+        float maxScore = Float.NaN;
+        for (int shard = 0; shard < shardResults.size(); shard++) {
+            final SearchHits hits = shardResults.get(shard).collapseInnerHits().hits(group, innerHit);
+            shardHits[shard] = hits.getHits();
+            totalHits += hits.getTotalHits().value;
+            if (Float.isNaN(hits.getMaxScore()) == false) {
+                maxScore = Float.isNaN(maxScore) ? hits.getMaxScore() : Math.max(maxScore, hits.getMaxScore());
+            }
+            final TotalHits shardTotalHits = hits.getTotalHits();
+            if (hits.getSortFields() != null) {
+                final FieldDoc[] fieldDocs = new FieldDoc[shardHits[shard].length];
+                for (int i = 0; i < fieldDocs.length; i++) {
+                    fieldDocs[i] = new FieldDoc(i, shardHits[shard][i].getScore(), shardHits[shard][i].getRawSortValues(), shard);
+                }
+                shardTopDocs.add(new TopFieldDocs(shardTotalHits, fieldDocs, hits.getSortFields()));
+            } else {
+                final ScoreDoc[] scoreDocs = new ScoreDoc[shardHits[shard].length];
+                for (int i = 0; i < scoreDocs.length; i++) {
+                    scoreDocs[i] = new ScoreDoc(i, shardHits[shard][i].getScore(), shard);
+                }
+                shardTopDocs.add(new TopDocs(shardTotalHits, scoreDocs));
+            }
+            for (SearchHit hit : shardHits[shard]) {
+                hit.shard(shardResults.get(shard).getSearchShardTarget());
+            }
+        }
+        final CollapseInnerHits first = shardResults.get(0).collapseInnerHits();
+        final TopDocs mergedTopDocs = mergeTopDocs(shardTopDocs, first.size(innerHit), first.from(innerHit));
+        final SearchHit[] hits = new SearchHit[mergedTopDocs.scoreDocs.length];
+        for (int i = 0; i < hits.length; i++) {
+            final ScoreDoc scoreDoc = mergedTopDocs.scoreDocs[i];
+            hits[i] = shardHits[scoreDoc.shardIndex][scoreDoc.doc];
+        }
+        return new SearchHits(hits, new TotalHits(totalHits, TotalHits.Relation.EQUAL_TO), maxScore);
+    }
+
     /**
      * Reduces the given query results and consumes all aggregations and profile results.
      * @param queryResults a list of non-null query shard results
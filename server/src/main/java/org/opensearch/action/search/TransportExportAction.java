@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.NoShardAvailableActionException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.ChannelActionListener;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Randomness;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.index.Index;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.SearchContextMissingException;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.export.ShardExportRequest;
+import org.opensearch.search.export.ShardExportResult;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequestOptions;
+import org.opensearch.transport.TransportService;
+
+import java.util.List;
+
+/**
+ * Exports a batch of documents of a shard. The first batch is read from a copy of the shard that is picked here, the
+ * following ones from the reader context that the first batch opened on the node of that copy.
+ */
+public class TransportExportAction extends HandledTransportAction<ExportRequest, ExportResponse> {
+
+    public static final String SHARD_ACTION_NAME = ExportAction.NAME + "[s]";
+
+    private final ClusterService clusterService;
+    private final TransportService transportService;
+    private final IndexNameExpressionResolver indexNameExpressionResolver;
+
+    @Inject
+    public TransportExportAction(TransportService transportService, ClusterService clusterService, ActionFilters actionFilters,
+                                 SearchService searchService, IndexNameExpressionResolver indexNameExpressionResolver) {
+        super(ExportAction.NAME, transportService, actionFilters, ExportRequest::new);
+        this.clusterService = clusterService;
+        this.transportService = transportService;
+        this.indexNameExpressionResolver = indexNameExpressionResolver;
+        transportService.registerRequestHandler(SHARD_ACTION_NAME, ThreadPool.Names.SAME, ShardExportRequest::new,
+            (request, channel, task) -> searchService.executeExportPhase(request, (SearchShardTask) task,
+                new ChannelActionListener<>(channel, SHARD_ACTION_NAME, request)));
+    }
+
+    @Override
+    protected void doExecute(Task task, ExportRequest request, ActionListener<ExportResponse> listener) {
+        final ClusterState state = clusterService.state();
+        final Index index = indexNameExpressionResolver.concreteSingleIndex(state, request);
+        final ShardId shardId = new ShardId(index, request.shard());
+        final DiscoveryNode node;
+        final ShardExportRequest shardRequest;
+        if (request.cursor() == null) {
+            node = state.nodes().get(selectShard(state, shardId).currentNodeId());
+            shardRequest = new ShardExportRequest(shardId, null, -1, request.batchSize(), request.keepAlive(), request.fetchSource());
+        } else {
+            final ExportCursor cursor = ExportCursor.decode(request.cursor());
+            if (cursor.shardId().equals(shardId) == false) {
+                throw new IllegalArgumentException("cursor of shard " + cursor.shardId() + " can't be used to export shard " + shardId);
+            }
+            node = state.nodes().get(cursor.nodeId());
+            if (node == null) {
+                // the node that holds the reader context left the cluster
+                throw new SearchContextMissingException(cursor.contextId());
+            }
+            shardRequest = new ShardExportRequest(shardId, cursor.contextId(), cursor.lastDoc(), request.batchSize(),
+                request.keepAlive(), request.fetchSource());
+        }
+        transportService.sendChildRequest(node, SHARD_ACTION_NAME, shardRequest, task, TransportRequestOptions.EMPTY,
+            new ActionListenerResponseHandler<>(ActionListener.map(listener, result -> toResponse(state, node, shardId, result)),
+                ShardExportResult::new));
+    }
+
+    /**
+     * Picks an active copy of the shard, preferring the local one so that the batches don't have to cross the network twice.
+     */
+    private ShardRouting selectShard(ClusterState state, ShardId shardId) {
+        final IndexShardRoutingTable shardRoutingTable = state.routingTable().shardRoutingTable(shardId);
+        final List<ShardRouting> activeShards = shardRoutingTable.activeShards();
+        if (activeShards.isEmpty()) {
+            throw new NoShardAvailableActionException(shardId, "no active copy of the shard to export");
+        }
+        for (ShardRouting shardRouting : activeShards) {
+            if (shardRouting.currentNodeId().equals(state.nodes().getLocalNodeId())) {
+                return shardRouting;
+            }
+        }
+        return activeShards.get(Randomness.get().nextInt(activeShards.size()));
+    }
+
+    private static ExportResponse toResponse(ClusterState state, DiscoveryNode node, ShardId shardId, ShardExportResult result) {
+        final String cursor;
+        if (result.isExhausted()) {
+            cursor = null;
+        } else {
+            cursor = new ExportCursor(node.getId(), shardId, result.contextId(), result.lastDoc())
+                .encode(state.nodes().getMinNodeVersion());
+        }
+        return new ExportResponse(result.docs(), result.numDocs(), cursor);
+    }
+}
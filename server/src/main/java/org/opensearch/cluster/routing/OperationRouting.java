@@ -300,32 +300,51 @@ public class OperationRouting {
     }
 
     public static int generateShardId(IndexMetadata indexMetadata, @Nullable String id, @Nullable String routing) {
+        assert routing != null || indexMetadata.isRoutingPartitionedIndex() == false
+            : "A routing value is required for gets from a partitioned index";
+        return generateShardId(indexMetadata.getRoutingNumShards(), indexMetadata.getRoutingFactor(),
+            indexMetadata.getRoutingPartitionSize(), id, routing);
+    }
+
+    /**
+     * Computes the shard of a document from the routing parameters of its index, so that clients that only know these parameters
+     * route documents the same way as the cluster does.
+     *
+     * @param routingNumShards the number of shards used to hash the routing values, see {@link IndexMetadata#getRoutingNumShards()}
+     * @param routingFactor the number of routing shards per shard, see {@link IndexMetadata#getRoutingFactor()}
+     * @param routingPartitionSize the number of shards the documents of a routing value are spread on
+     */
+    public static int generateShardId(int routingNumShards, int routingFactor, int routingPartitionSize,
+                                      @Nullable String id, @Nullable String routing) {
         final String effectiveRouting;
         final int partitionOffset;
 
         if (routing == null) {
-            assert(indexMetadata.isRoutingPartitionedIndex() == false) : "A routing value is required for gets from a partitioned index";
             effectiveRouting = id;
         } else {
             effectiveRouting = routing;
         }
 
-        if (indexMetadata.isRoutingPartitionedIndex()) {
-            partitionOffset = Math.floorMod(Murmur3HashFunction.hash(id), indexMetadata.getRoutingPartitionSize());
+        if (routingPartitionSize != 1) {
+            partitionOffset = Math.floorMod(Murmur3HashFunction.hash(id), routingPartitionSize);
         } else {
             // we would have still got 0 above but this check just saves us an unnecessary hash calculation
             partitionOffset = 0;
         }
 
-        return calculateScaledShardId(indexMetadata, effectiveRouting, partitionOffset);
+        return calculateScaledShardId(routingNumShards, routingFactor, effectiveRouting, partitionOffset);
     }
 
     private static int calculateScaledShardId(IndexMetadata indexMetadata, String effectiveRouting, int partitionOffset) {
+        return calculateScaledShardId(indexMetadata.getRoutingNumShards(), indexMetadata.getRoutingFactor(), effectiveRouting,
+            partitionOffset);
+    }
+
+    private static int calculateScaledShardId(int routingNumShards, int routingFactor, String effectiveRouting, int partitionOffset) {
         final int hash = Murmur3HashFunction.hash(effectiveRouting) + partitionOffset;
 
         // we don't use IMD#getNumberOfShards since the index might have been shrunk such that we need to use the size
         // of original index to hash documents
-        return Math.floorMod(hash, indexMetadata.getRoutingNumShards()) / indexMetadata.getRoutingFactor();
+        return Math.floorMod(hash, routingNumShards) / routingFactor;
     }
-
 }
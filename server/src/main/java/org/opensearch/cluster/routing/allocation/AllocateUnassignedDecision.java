@@ -32,6 +32,7 @@
 
 package org.opensearch.cluster.routing.allocation;
 
+import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.UnassignedInfo.AllocationStatus;
 import org.opensearch.cluster.routing.allocation.decider.Decision;
@@ -83,6 +84,8 @@ public class AllocateUnassignedDecision extends AbstractAllocationDecision {
     private final boolean reuseStore;
     private final long remainingDelayInMillis;
     private final long configuredDelayInMillis;
+    private final int fetchedNodes;
+    private final int fetchNodes;
 
     private AllocateUnassignedDecision(AllocationStatus allocationStatus,
                                        DiscoveryNode assignedNode,
@@ -91,6 +94,19 @@ public class AllocateUnassignedDecision extends AbstractAllocationDecision {
                                        boolean reuseStore,
                                        long remainingDelayInMillis,
                                        long configuredDelayInMillis) {
+        this(allocationStatus, assignedNode, allocationId, nodeDecisions, reuseStore, remainingDelayInMillis, configuredDelayInMillis,
+            0, 0);
+    }
+
+    private AllocateUnassignedDecision(AllocationStatus allocationStatus,
+                                       DiscoveryNode assignedNode,
+                                       String allocationId,
+                                       List<NodeAllocationResult> nodeDecisions,
+                                       boolean reuseStore,
+                                       long remainingDelayInMillis,
+                                       long configuredDelayInMillis,
+                                       int fetchedNodes,
+                                       int fetchNodes) {
         super(assignedNode, nodeDecisions);
         assert assignedNode != null || allocationStatus != null :
             "a yes decision must have a node to assign the shard to";
@@ -101,6 +117,8 @@ public class AllocateUnassignedDecision extends AbstractAllocationDecision {
         this.reuseStore = reuseStore;
         this.remainingDelayInMillis = remainingDelayInMillis;
         this.configuredDelayInMillis = configuredDelayInMillis;
+        this.fetchedNodes = fetchedNodes;
+        this.fetchNodes = fetchNodes;
     }
 
     public AllocateUnassignedDecision(StreamInput in) throws IOException {
@@ -110,6 +128,13 @@ public class AllocateUnassignedDecision extends AbstractAllocationDecision {
         reuseStore = in.readBoolean();
         remainingDelayInMillis = in.readVLong();
         configuredDelayInMillis = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            fetchedNodes = in.readVInt();
+            fetchNodes = in.readVInt();
+        } else {
+            fetchedNodes = 0;
+            fetchNodes = 0;
+        }
     }
 
     /**
@@ -130,6 +155,21 @@ public class AllocateUnassignedDecision extends AbstractAllocationDecision {
         return no(AllocationStatus.DELAYED_ALLOCATION, decisions, false, remainingDelay, totalDelay);
     }
 
+    /**
+     * Returns a NO decision for a shard whose existing shard data is still being fetched, with the number of nodes that the data
+     * was fetched from out of the nodes that it's fetched from, and the individual node-level decisions if in explain mode.
+     * Instances created with this method will return {@link AllocationStatus#FETCHING_SHARD_DATA} for
+     * {@link #getAllocationStatus()}.
+     */
+    public static AllocateUnassignedDecision fetching(int fetchedNodes, int fetchNodes, @Nullable List<NodeAllocationResult> decisions) {
+        if (decisions != null) {
+            return new AllocateUnassignedDecision(AllocationStatus.FETCHING_SHARD_DATA, null, null, decisions, false, 0L, 0L,
+                fetchedNodes, fetchNodes);
+        } else {
+            return getCachedDecision(AllocationStatus.FETCHING_SHARD_DATA);
+        }
+    }
+
     /**
      * Returns a NO decision with the given {@link AllocationStatus}, and the individual node-level
      * decisions that comprised the final NO decision if in explain mode.
@@ -248,6 +288,24 @@ public class AllocateUnassignedDecision extends AbstractAllocationDecision {
         return configuredDelayInMillis;
     }
 
+    /**
+     * Gets the number of nodes that the existing shard data was fetched from so far. Only returns a meaningful value if
+     * {@link #getAllocationStatus()} returns {@link AllocationStatus#FETCHING_SHARD_DATA} in explain mode. If
+     * {@link #isDecisionTaken()} returns {@code false}, then invoking this method will throw an {@code IllegalStateException}.
+     */
+    public int getFetchedNodes() {
+        checkDecisionState();
+        return fetchedNodes;
+    }
+
+    /**
+     * Gets the number of nodes that the existing shard data is fetched from, see {@link #getFetchedNodes()}.
+     */
+    public int getFetchNodes() {
+        checkDecisionState();
+        return fetchNodes;
+    }
+
     @Override
     public String getExplanation() {
         checkDecisionState();
@@ -307,6 +365,12 @@ public class AllocateUnassignedDecision extends AbstractAllocationDecision {
             builder.humanReadableField("remaining_delay_in_millis", "remaining_delay",
                 TimeValue.timeValueMillis(remainingDelayInMillis));
         }
+        if (allocationStatus == AllocationStatus.FETCHING_SHARD_DATA && fetchNodes > 0) {
+            builder.startObject("fetch_progress");
+            builder.field("fetched_nodes", fetchedNodes);
+            builder.field("total_nodes", fetchNodes);
+            builder.endObject();
+        }
         nodeDecisionsToXContent(nodeDecisions, builder, params);
         return builder;
     }
@@ -319,6 +383,10 @@ public class AllocateUnassignedDecision extends AbstractAllocationDecision {
         out.writeBoolean(reuseStore);
         out.writeVLong(remainingDelayInMillis);
         out.writeVLong(configuredDelayInMillis);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeVInt(fetchedNodes);
+            out.writeVInt(fetchNodes);
+        }
     }
 
     @Override
@@ -334,13 +402,15 @@ public class AllocateUnassignedDecision extends AbstractAllocationDecision {
                    && Objects.equals(allocationId, that.allocationId)
                    && reuseStore == that.reuseStore
                    && configuredDelayInMillis == that.configuredDelayInMillis
-                   && remainingDelayInMillis == that.remainingDelayInMillis;
+                   && remainingDelayInMillis == that.remainingDelayInMillis
+                   && fetchedNodes == that.fetchedNodes
+                   && fetchNodes == that.fetchNodes;
     }
 
     @Override
     public int hashCode() {
         return 31 * super.hashCode() + Objects.hash(allocationStatus, allocationId, reuseStore,
-            configuredDelayInMillis, remainingDelayInMillis);
+            configuredDelayInMillis, remainingDelayInMillis, fetchedNodes, fetchNodes);
     }
 
 }
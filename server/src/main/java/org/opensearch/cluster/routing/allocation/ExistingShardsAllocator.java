@@ -66,6 +66,13 @@ public interface ExistingShardsAllocator {
      */
     void afterPrimariesBeforeReplicas(RoutingAllocation allocation);
 
+    /**
+     * Called at the end of a round of allocation, after attempting to allocate all the unassigned shards, allowing the allocator to
+     * act on the whole round, like sending the requests that it batched during the round.
+     */
+    default void afterAllocation(RoutingAllocation allocation) {
+    }
+
     /**
      * Allocate any unassigned shards in the given {@link RoutingAllocation} for which this {@link ExistingShardsAllocator} is responsible.
      */
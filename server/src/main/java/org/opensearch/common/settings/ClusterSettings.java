@@ -95,16 +95,20 @@ import org.opensearch.discovery.zen.ZenDiscovery;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.gateway.DanglingIndicesState;
+import org.opensearch.gateway.GatewayAllocator;
 import org.opensearch.gateway.GatewayService;
 import org.opensearch.gateway.PersistedClusterStateService;
 import org.opensearch.http.HttpTransportSettings;
 import org.opensearch.index.IndexModule;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.IndexingPressure;
+import org.opensearch.index.merge.MergeCoordinator;
 import org.opensearch.indices.IndexingMemoryController;
+import org.opensearch.index.store.remote.RemoteSnapshotBlockCache;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesRequestCache;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.RefreshCoordinator;
 import org.opensearch.indices.ShardLimitValidator;
 import org.opensearch.indices.analysis.HunspellService;
 import org.opensearch.indices.breaker.BreakerSettings;
@@ -238,6 +242,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             IndicesQueryCache.INDICES_CACHE_QUERY_SIZE_SETTING,
             IndicesQueryCache.INDICES_CACHE_QUERY_COUNT_SETTING,
             IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING,
+            IndicesQueryCache.INDICES_QUERIES_CACHE_MIN_SEGMENT_SIZE_SETTING,
             IndicesService.INDICES_ID_FIELD_DATA_ENABLED_SETTING,
             IndicesService.WRITE_DANGLING_INDICES_INFO_SETTING,
             MappingUpdatedAction.INDICES_MAPPING_DYNAMIC_TIMEOUT_SETTING,
@@ -275,6 +280,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
             DiscoverySettings.COMMIT_TIMEOUT_SETTING,
             NoMasterBlockService.NO_MASTER_BLOCK_SETTING,
             NoMasterBlockService.LEGACY_NO_MASTER_BLOCK_SETTING,
+            GatewayAllocator.BATCH_FETCH_ENABLED_SETTING,
+            GatewayAllocator.BATCH_FETCH_MAX_SHARDS_PER_REQUEST_SETTING,
             GatewayService.EXPECTED_DATA_NODES_SETTING,
             GatewayService.EXPECTED_MASTER_NODES_SETTING,
             GatewayService.EXPECTED_NODES_SETTING,
@@ -445,8 +452,12 @@ public final class ClusterSettings extends AbstractScopedSettings {
             IndicesFieldDataCache.INDICES_FIELDDATA_CACHE_SIZE_KEY,
             IndicesRequestCache.INDICES_CACHE_QUERY_SIZE,
             IndicesRequestCache.INDICES_CACHE_QUERY_EXPIRE,
+            RemoteSnapshotBlockCache.SIZE_SETTING,
+            RemoteSnapshotBlockCache.BLOCK_SIZE_SETTING,
+            RemoteSnapshotBlockCache.PREFETCH_BLOCKS_SETTING,
             HunspellService.HUNSPELL_LAZY_LOAD,
             HunspellService.HUNSPELL_IGNORE_CASE,
+            HunspellService.HUNSPELL_OFF_HEAP,
             HunspellService.HUNSPELL_DICTIONARY_OPTIONS,
             IndicesStore.INDICES_STORE_DELETE_SHARD_TIMEOUT,
             Environment.PATH_DATA_SETTING,
@@ -489,6 +500,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             MultiBucketConsumerService.MAX_BUCKET_SETTING,
             SearchService.LOW_LEVEL_CANCELLATION_SETTING,
             SearchService.MAX_OPEN_SCROLL_CONTEXT,
+            SearchService.FETCH_MAX_CONCURRENCY_SETTING,
             Node.WRITE_PORTS_FILE_SETTING,
             Node.NODE_NAME_SETTING,
             Node.NODE_ATTRIBUTES,
@@ -533,6 +545,11 @@ public final class ClusterSettings extends AbstractScopedSettings {
             IndexingMemoryController.MAX_INDEX_BUFFER_SIZE_SETTING,
             IndexingMemoryController.SHARD_INACTIVE_TIME_SETTING,
             IndexingMemoryController.SHARD_MEMORY_INTERVAL_TIME_SETTING,
+            MergeCoordinator.MAX_CONCURRENT_MERGES_SETTING,
+            MergeCoordinator.MAX_BYTES_PER_SEC_SETTING,
+            MergeCoordinator.MAX_QUEUED_TIME_SETTING,
+            RefreshCoordinator.MAX_CONCURRENT_REFRESHES_SETTING,
+            RefreshCoordinator.STAGGER_REFRESHES_SETTING,
             ResourceWatcherService.ENABLED,
             ResourceWatcherService.RELOAD_INTERVAL_HIGH,
             ResourceWatcherService.RELOAD_INTERVAL_MEDIUM,
@@ -50,6 +50,8 @@ import org.opensearch.index.SearchSlowLog;
 import org.opensearch.index.cache.bitset.BitsetFilterCache;
 import org.opensearch.index.engine.EngineConfig;
 import org.opensearch.index.fielddata.IndexFieldDataService;
+import org.opensearch.index.get.ShardGetService;
+import org.opensearch.index.mapper.CompletionFieldMapper;
 import org.opensearch.index.mapper.FieldMapper;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.similarity.SimilarityService;
@@ -135,6 +137,7 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
         IndexSettings.MAX_NGRAM_DIFF_SETTING,
         IndexSettings.MAX_SHINGLE_DIFF_SETTING,
         IndexSettings.MAX_RESCORE_WINDOW_SETTING,
+        IndexSettings.MAX_EXPORT_BATCH_SIZE_SETTING,
         IndexSettings.MAX_ADJACENCY_MATRIX_FILTERS_SETTING,
         IndexSettings.MAX_ANALYZED_OFFSET_SETTING,
         IndexSettings.MAX_TERMS_COUNT_SETTING,
@@ -152,6 +155,7 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
         IndexSettings.INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING,
         IndexSettings.INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING,
         IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING,
+        ShardGetService.INDEX_GET_SOURCE_CACHE_SIZE_SETTING,
         UnassignedInfo.INDEX_DELAYED_NODE_LEFT_TIMEOUT_SETTING,
         EnableAllocationDecider.INDEX_ROUTING_REBALANCE_ENABLE_SETTING,
         EnableAllocationDecider.INDEX_ROUTING_ALLOCATION_ENABLE_SETTING,
@@ -162,21 +166,31 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
         IndexSettings.INDEX_TRANSLOG_RETENTION_SIZE_SETTING,
         IndexSettings.INDEX_SEARCH_IDLE_AFTER,
         IndexSettings.INDEX_SEARCH_THROTTLED,
+        IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY,
+        IndexSettings.SEARCHABLE_SNAPSHOT_ID_NAME,
+        IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID,
+        IndexSettings.SEARCHABLE_SNAPSHOT_INDEX_ID,
         IndexFieldDataService.INDEX_FIELDDATA_CACHE_KEY,
         FieldMapper.IGNORE_MALFORMED_SETTING,
         FieldMapper.COERCE_SETTING,
+        CompletionFieldMapper.INDEX_COMPLETION_FST_OFF_HEAP_SETTING,
+        CompletionFieldMapper.INDEX_COMPLETION_FST_EAGER_LOAD_SETTING,
         Store.INDEX_STORE_STATS_REFRESH_INTERVAL_SETTING,
         MapperService.INDEX_MAPPER_DYNAMIC_SETTING,
         MapperService.INDEX_MAPPING_NESTED_FIELDS_LIMIT_SETTING,
         MapperService.INDEX_MAPPING_NESTED_DOCS_LIMIT_SETTING,
         MapperService.INDEX_MAPPING_TOTAL_FIELDS_LIMIT_SETTING,
         MapperService.INDEX_MAPPING_DEPTH_LIMIT_SETTING,
+        MapperService.INDEX_MAPPING_BULK_COMBINE_DYNAMIC_UPDATES_SETTING,
         MapperService.INDEX_MAPPING_FIELD_NAME_LENGTH_LIMIT_SETTING,
+        MapperService.INDEX_MAPPING_SHARED_ANALYSIS_ENABLED_SETTING,
+        MapperService.INDEX_MAPPING_SHARED_ANALYSIS_MAX_TOKENS_SETTING,
         BitsetFilterCache.INDEX_LOAD_RANDOM_ACCESS_FILTERS_EAGERLY_SETTING,
         IndexModule.INDEX_STORE_TYPE_SETTING,
         IndexModule.INDEX_STORE_PRE_LOAD_SETTING,
         IndexModule.INDEX_RECOVERY_TYPE_SETTING,
         IndexModule.INDEX_QUERY_CACHE_ENABLED_SETTING,
+        IndexModule.INDEX_QUERY_CACHE_WARM_MERGED_SEGMENTS_SETTING,
         FsDirectoryFactory.INDEX_LOCK_FACTOR_SETTING,
         Store.FORCE_RAM_TERM_DICT,
         EngineConfig.INDEX_CODEC_SETTING,
@@ -145,7 +145,13 @@ public abstract class AsyncShardFetch<T extends BaseNodeResponse> implements Rel
 
         // if we are still fetching, return null to indicate it
         if (hasAnyNodeFetching(cache)) {
-            return new FetchResult<>(shardId, null, emptySet());
+            int fetchedNodes = 0;
+            for (NodeEntry<T> nodeEntry : cache.values()) {
+                if (nodeEntry.isFetching() == false) {
+                    fetchedNodes++;
+                }
+            }
+            return new FetchResult<>(shardId, null, emptySet(), fetchedNodes, cache.size());
         } else {
             // nothing to fetch, yay, build the return value
             Map<DiscoveryNode, T> fetchData = new HashMap<>();
@@ -330,11 +336,19 @@ public abstract class AsyncShardFetch<T extends BaseNodeResponse> implements Rel
         private final ShardId shardId;
         private final Map<DiscoveryNode, T> data;
         private final Set<String> ignoreNodes;
+        private final int fetchedNodes;
+        private final int fetchNodes;
 
         public FetchResult(ShardId shardId, Map<DiscoveryNode, T> data, Set<String> ignoreNodes) {
+            this(shardId, data, ignoreNodes, 0, 0);
+        }
+
+        public FetchResult(ShardId shardId, Map<DiscoveryNode, T> data, Set<String> ignoreNodes, int fetchedNodes, int fetchNodes) {
             this.shardId = shardId;
             this.data = data;
             this.ignoreNodes = ignoreNodes;
+            this.fetchedNodes = fetchedNodes;
+            this.fetchNodes = fetchNodes;
         }
 
         /**
@@ -354,6 +368,20 @@ public abstract class AsyncShardFetch<T extends BaseNodeResponse> implements Rel
             return this.data;
         }
 
+        /**
+         * Returns the number of nodes that responded so far while there is no data yet.
+         */
+        public int getFetchedNodes() {
+            return fetchedNodes;
+        }
+
+        /**
+         * Returns the number of nodes that the data is fetched from while there is no data yet.
+         */
+        public int getFetchNodes() {
+            return fetchNodes;
+        }
+
         /**
          * Process any changes needed to the allocation based on this fetch result.
          */
@@ -0,0 +1,364 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway;
+
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ChannelActionListener;
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.CheckedBiFunction;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.AtomicArray;
+import org.opensearch.common.util.concurrent.CountDown;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportException;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportResponse;
+import org.opensearch.transport.TransportResponseHandler;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+
+/**
+ * Lists shard data for {@link AsyncShardFetch} in batches. Instead of sending a request per shard to every node, the listings
+ * that are requested while the master runs an allocation round are buffered and sent to each node in a few requests that cover
+ * all the buffered shards once the round {@link #flush flushes} them. After a full cluster restart, every unassigned shard
+ * fetches its data from every data node, which would otherwise take a request per shard and node.
+ * <p>
+ * Each listing still completes with the response of all its nodes, so that fetches behave the same as with the per-shard
+ * {@link AsyncShardFetch.Lister lister} that nodes from before the batched requests are listed with.
+ */
+public class BatchedShardLister<NodesResponse extends BaseNodesResponse<NodeResponse>, NodeResponse extends BaseNodeResponse>
+    implements AsyncShardFetch.Lister<NodesResponse, NodeResponse> {
+
+    private final TransportService transportService;
+    private final String actionName;
+    private final Writeable.Reader<NodeResponse> nodeResponseReader;
+    private final BiFunction<List<NodeResponse>, List<FailedNodeException>, NodesResponse> responseFactory;
+    private final AsyncShardFetch.Lister<NodesResponse, NodeResponse> perShardLister;
+    private List<PendingListing> pendingListings = new ArrayList<>();
+
+    /**
+     * Creates a lister that sends its batches with the given action, and registers the handler of the action that lists the
+     * data of each shard of a batch with the given operation. The shards of a batch are listed in parallel on the given
+     * executor, and the batch is answered once all of them are listed.
+     */
+    public BatchedShardLister(TransportService transportService, String actionName, String executor,
+                              Writeable.Reader<NodeResponse> nodeResponseReader,
+                              CheckedBiFunction<ShardId, String, NodeResponse, Exception> shardOperation,
+                              BiFunction<List<NodeResponse>, List<FailedNodeException>, NodesResponse> responseFactory,
+                              AsyncShardFetch.Lister<NodesResponse, NodeResponse> perShardLister) {
+        this.transportService = transportService;
+        this.actionName = actionName;
+        this.nodeResponseReader = nodeResponseReader;
+        this.responseFactory = responseFactory;
+        this.perShardLister = perShardLister;
+        // the shards of a batch are listed in parallel on the executor, the handler only forks them
+        transportService.registerRequestHandler(actionName, ThreadPool.Names.SAME, NodeRequest::new,
+            (request, channel, task) -> listShards(request, transportService.getThreadPool().executor(executor), shardOperation,
+                new ChannelActionListener<>(channel, actionName, request)));
+    }
+
+    private void listShards(NodeRequest request, Executor executor,
+                            CheckedBiFunction<ShardId, String, NodeResponse, Exception> shardOperation,
+                            ActionListener<NodeBatchResponse<NodeResponse>> listener) {
+        final int size = request.shardIds.size();
+        if (size == 0) {
+            listener.onResponse(new NodeBatchResponse<>(Collections.emptyList(), Collections.emptyList()));
+            return;
+        }
+        final AtomicArray<NodeResponse> responses = new AtomicArray<>(size);
+        final AtomicArray<Exception> failures = new AtomicArray<>(size);
+        final CountDown countDown = new CountDown(size);
+        for (int i = 0; i < size; i++) {
+            final int index = i;
+            executor.execute(new AbstractRunnable() {
+                @Override
+                protected void doRun() throws Exception {
+                    responses.set(index, shardOperation.apply(request.shardIds.get(index), request.customDataPaths.get(index)));
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    failures.set(index, e);
+                }
+
+                @Override
+                public void onAfter() {
+                    if (countDown.countDown()) {
+                        final List<NodeResponse> shardResponses = new ArrayList<>(size);
+                        final List<Exception> shardFailures = new ArrayList<>(size);
+                        for (int shard = 0; shard < size; shard++) {
+                            shardResponses.add(responses.get(shard));
+                            shardFailures.add(failures.get(shard));
+                        }
+                        listener.onResponse(new NodeBatchResponse<>(shardResponses, shardFailures));
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Buffers the listing of the given shard until the next {@link #flush}.
+     */
+    @Override
+    public void list(ShardId shardId, String customDataPath, DiscoveryNode[] nodes, ActionListener<NodesResponse> listener) {
+        final PendingListing listing = new PendingListing(shardId, customDataPath, nodes, listener);
+        synchronized (this) {
+            pendingListings.add(listing);
+        }
+    }
+
+    /**
+     * Returns the number of listings that wait for the next {@link #flush}.
+     */
+    public synchronized int getNumberOfPendingListings() {
+        return pendingListings.size();
+    }
+
+    /**
+     * Sends the buffered listings, with a request per node for every {@code maxShardsPerRequest} shards.
+     */
+    public void flush(int maxShardsPerRequest) {
+        final List<PendingListing> listings;
+        synchronized (this) {
+            if (pendingListings.isEmpty()) {
+                return;
+            }
+            listings = pendingListings;
+            pendingListings = new ArrayList<>();
+        }
+        final Map<DiscoveryNode, List<PendingListing>> listingsByNode = new LinkedHashMap<>();
+        for (PendingListing listing : listings) {
+            final List<DiscoveryNode> perShardNodes = new ArrayList<>();
+            for (DiscoveryNode node : listing.nodes) {
+                if (node.getVersion().onOrAfter(Version.V_1_0_0)) {
+                    listingsByNode.computeIfAbsent(node, n -> new ArrayList<>()).add(listing);
+                } else {
+                    perShardNodes.add(node);
+                }
+            }
+            if (perShardNodes.isEmpty() == false) {
+                listing.listPerShard(perShardNodes.toArray(new DiscoveryNode[0]));
+            }
+        }
+        for (Map.Entry<DiscoveryNode, List<PendingListing>> entry : listingsByNode.entrySet()) {
+            final List<PendingListing> nodeListings = entry.getValue();
+            for (int from = 0; from < nodeListings.size(); from += maxShardsPerRequest) {
+                sendBatch(entry.getKey(), nodeListings.subList(from, Math.min(nodeListings.size(), from + maxShardsPerRequest)));
+            }
+        }
+    }
+
+    private void sendBatch(DiscoveryNode node, List<PendingListing> batch) {
+        final List<ShardId> shardIds = new ArrayList<>(batch.size());
+        final List<String> customDataPaths = new ArrayList<>(batch.size());
+        for (PendingListing listing : batch) {
+            shardIds.add(listing.shardId);
+            customDataPaths.add(listing.customDataPath);
+        }
+        final String nodeId = node.getId();
+        try {
+            transportService.sendRequest(node, actionName, new NodeRequest(shardIds, customDataPaths),
+                new TransportResponseHandler<NodeBatchResponse<NodeResponse>>() {
+                    @Override
+                    public NodeBatchResponse<NodeResponse> read(StreamInput in) throws IOException {
+                        return new NodeBatchResponse<>(in, nodeResponseReader);
+                    }
+
+                    @Override
+                    public void handleResponse(NodeBatchResponse<NodeResponse> response) {
+                        assert response.responses.size() == batch.size();
+                        for (int i = 0; i < batch.size(); i++) {
+                            final NodeResponse nodeResponse = response.responses.get(i);
+                            if (nodeResponse != null) {
+                                batch.get(i).onNodeResponse(nodeResponse);
+                            } else {
+                                batch.get(i).onNodeFailure(new FailedNodeException(nodeId, "Failed node [" + nodeId + "]",
+                                    response.failures.get(i)));
+                            }
+                        }
+                    }
+
+                    @Override
+                    public void handleException(TransportException exp) {
+                        onBatchFailure(nodeId, batch, exp);
+                    }
+
+                    @Override
+                    public String executor() {
+                        return ThreadPool.Names.SAME;
+                    }
+                });
+        } catch (Exception e) {
+            onBatchFailure(nodeId, batch, e);
+        }
+    }
+
+    private void onBatchFailure(String nodeId, List<PendingListing> batch, Exception e) {
+        for (PendingListing listing : batch) {
+            listing.onNodeFailure(new FailedNodeException(nodeId, "Failed node [" + nodeId + "]", e));
+        }
+    }
+
+    /**
+     * A listing that completes once all its nodes responded.
+     */
+    private class PendingListing {
+
+        private final ShardId shardId;
+        private final String customDataPath;
+        private final DiscoveryNode[] nodes;
+        private final ActionListener<NodesResponse> listener;
+        private final List<NodeResponse> responses = new ArrayList<>();
+        private final List<FailedNodeException> failures = new ArrayList<>();
+        private int remainingNodes;
+
+        PendingListing(ShardId shardId, String customDataPath, DiscoveryNode[] nodes, ActionListener<NodesResponse> listener) {
+            this.shardId = shardId;
+            this.customDataPath = customDataPath;
+            this.nodes = nodes;
+            this.listener = listener;
+            this.remainingNodes = nodes.length;
+        }
+
+        void listPerShard(DiscoveryNode[] perShardNodes) {
+            perShardLister.list(shardId, customDataPath, perShardNodes, new ActionListener<NodesResponse>() {
+                @Override
+                public void onResponse(NodesResponse response) {
+                    onNodesResponse(response.getNodes(), response.failures(), perShardNodes.length);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    final List<FailedNodeException> nodeFailures = new ArrayList<>(perShardNodes.length);
+                    for (DiscoveryNode node : perShardNodes) {
+                        nodeFailures.add(new FailedNodeException(node.getId(), "total failure in fetching", e));
+                    }
+                    onNodesResponse(Collections.emptyList(), nodeFailures, perShardNodes.length);
+                }
+            });
+        }
+
+        void onNodeResponse(NodeResponse response) {
+            onNodesResponse(Collections.singletonList(response), Collections.emptyList(), 1);
+        }
+
+        void onNodeFailure(FailedNodeException failure) {
+            onNodesResponse(Collections.emptyList(), Collections.singletonList(failure), 1);
+        }
+
+        private void onNodesResponse(List<NodeResponse> nodeResponses, List<FailedNodeException> nodeFailures, int nodeCount) {
+            synchronized (this) {
+                responses.addAll(nodeResponses);
+                failures.addAll(nodeFailures);
+                remainingNodes -= nodeCount;
+                assert remainingNodes >= 0 : "more responses than nodes for " + shardId + " from " + Arrays.toString(nodes);
+                if (remainingNodes > 0) {
+                    return;
+                }
+            }
+            listener.onResponse(responseFactory.apply(responses, failures));
+        }
+    }
+
+    /**
+     * The shards to list on a node.
+     */
+    static class NodeRequest extends TransportRequest {
+
+        private final List<ShardId> shardIds;
+        private final List<String> customDataPaths;
+
+        NodeRequest(List<ShardId> shardIds, List<String> customDataPaths) {
+            assert shardIds.size() == customDataPaths.size();
+            this.shardIds = shardIds;
+            this.customDataPaths = customDataPaths;
+        }
+
+        NodeRequest(StreamInput in) throws IOException {
+            super(in);
+            shardIds = in.readList(ShardId::new);
+            customDataPaths = in.readList(StreamInput::readOptionalString);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            out.writeList(shardIds);
+            out.writeCollection(customDataPaths, StreamOutput::writeOptionalString);
+        }
+
+        List<ShardId> getShardIds() {
+            return shardIds;
+        }
+    }
+
+    /**
+     * The data of the shards of a {@link NodeRequest}, or the failure to list them, in the order of the request.
+     */
+    static class NodeBatchResponse<T extends BaseNodeResponse> extends TransportResponse {
+
+        private final List<T> responses;
+        private final List<Exception> failures;
+
+        NodeBatchResponse(List<T> responses, List<Exception> failures) {
+            assert responses.size() == failures.size();
+            this.responses = responses;
+            this.failures = failures;
+        }
+
+        NodeBatchResponse(StreamInput in, Writeable.Reader<T> reader) throws IOException {
+            super(in);
+            final int size = in.readVInt();
+            responses = new ArrayList<>(size);
+            failures = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                if (in.readBoolean()) {
+                    responses.add(reader.read(in));
+                    failures.add(null);
+                } else {
+                    responses.add(null);
+                    failures.add(in.readException());
+                }
+            }
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVInt(responses.size());
+            for (int i = 0; i < responses.size(); i++) {
+                final T response = responses.get(i);
+                if (response != null) {
+                    out.writeBoolean(true);
+                    response.writeTo(out);
+                } else {
+                    out.writeBoolean(false);
+                    out.writeException(failures.get(i));
+                }
+            }
+        }
+    }
+}
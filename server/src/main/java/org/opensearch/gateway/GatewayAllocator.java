@@ -48,9 +48,12 @@ import org.opensearch.cluster.routing.allocation.AllocateUnassignedDecision;
 import org.opensearch.cluster.routing.allocation.ExistingShardsAllocator;
 import org.opensearch.cluster.routing.allocation.FailedShard;
 import org.opensearch.cluster.routing.allocation.RoutingAllocation;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Priority;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.set.Sets;
 import org.opensearch.index.shard.ShardId;
@@ -67,6 +70,16 @@ public class GatewayAllocator implements ExistingShardsAllocator {
 
     public static final String ALLOCATOR_NAME = "gateway_allocator";
 
+    /**
+     * Whether shard data is fetched from the nodes with a request per node for all the shards that an allocation round fetches,
+     * instead of a request per shard and node.
+     */
+    public static final Setting<Boolean> BATCH_FETCH_ENABLED_SETTING =
+        Setting.boolSetting("cluster.routing.allocation.gateway.batch_fetch.enabled", false, Property.Dynamic, Property.NodeScope);
+    public static final Setting<Integer> BATCH_FETCH_MAX_SHARDS_PER_REQUEST_SETTING =
+        Setting.intSetting("cluster.routing.allocation.gateway.batch_fetch.max_shards_per_request", 1000, 1,
+            Property.Dynamic, Property.NodeScope);
+
     private static final Logger logger = LogManager.getLogger(GatewayAllocator.class);
 
     private final RerouteService rerouteService;
@@ -80,13 +93,26 @@ public class GatewayAllocator implements ExistingShardsAllocator {
         asyncFetchStore = ConcurrentCollections.newConcurrentMap();
     private Set<String> lastSeenEphemeralIds = Collections.emptySet();
 
+    private final BatchedShardLister<?, ?> startedBatchedLister;
+    private final BatchedShardLister<?, ?> storeBatchedLister;
+    private volatile boolean batchFetchEnabled;
+    private volatile int maxShardsPerBatchRequest;
+
     @Inject
     public GatewayAllocator(RerouteService rerouteService,
                             TransportNodesListGatewayStartedShards startedAction,
-                            TransportNodesListShardStoreMetadata storeAction) {
+                            TransportNodesListShardStoreMetadata storeAction,
+                            ClusterService clusterService) {
         this.rerouteService = rerouteService;
         this.primaryShardAllocator = new InternalPrimaryShardAllocator(startedAction);
         this.replicaShardAllocator = new InternalReplicaShardAllocator(storeAction);
+        this.startedBatchedLister = startedAction.batchedLister();
+        this.storeBatchedLister = storeAction.batchedLister();
+        this.batchFetchEnabled = BATCH_FETCH_ENABLED_SETTING.get(clusterService.getSettings());
+        this.maxShardsPerBatchRequest = BATCH_FETCH_MAX_SHARDS_PER_REQUEST_SETTING.get(clusterService.getSettings());
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(BATCH_FETCH_ENABLED_SETTING, value -> batchFetchEnabled = value);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(BATCH_FETCH_MAX_SHARDS_PER_REQUEST_SETTING,
+            value -> maxShardsPerBatchRequest = value);
     }
 
     @Override
@@ -102,6 +128,8 @@ public class GatewayAllocator implements ExistingShardsAllocator {
         this.rerouteService = null;
         this.primaryShardAllocator = null;
         this.replicaShardAllocator = null;
+        this.startedBatchedLister = null;
+        this.storeBatchedLister = null;
     }
 
     @Override
@@ -142,6 +170,10 @@ public class GatewayAllocator implements ExistingShardsAllocator {
     @Override
     public void afterPrimariesBeforeReplicas(RoutingAllocation allocation) {
         assert replicaShardAllocator != null;
+        if (startedBatchedLister != null) {
+            // the primaries fetched their shard states, there won't be any more in this round
+            startedBatchedLister.flush(maxShardsPerBatchRequest);
+        }
         if (allocation.routingNodes().hasInactiveShards()) {
             // cancel existing recoveries if we have a better match
             replicaShardAllocator.processExistingRecoveries(allocation);
@@ -156,6 +188,20 @@ public class GatewayAllocator implements ExistingShardsAllocator {
         innerAllocatedUnassigned(allocation, primaryShardAllocator, replicaShardAllocator, shardRouting, unassignedAllocationHandler);
     }
 
+    @Override
+    public void afterAllocation(RoutingAllocation allocation) {
+        flushBatchedListers();
+    }
+
+    private void flushBatchedListers() {
+        if (startedBatchedLister != null) {
+            startedBatchedLister.flush(maxShardsPerBatchRequest);
+        }
+        if (storeBatchedLister != null) {
+            storeBatchedLister.flush(maxShardsPerBatchRequest);
+        }
+    }
+
     // allow for testing infra to change shard allocators implementation
     protected static void innerAllocatedUnassigned(RoutingAllocation allocation,
                                                    PrimaryShardAllocator primaryShardAllocator,
@@ -174,12 +220,16 @@ public class GatewayAllocator implements ExistingShardsAllocator {
     public AllocateUnassignedDecision explainUnassignedShardAllocation(ShardRouting unassignedShard, RoutingAllocation routingAllocation) {
         assert unassignedShard.unassigned();
         assert routingAllocation.debugDecision();
-        if (unassignedShard.primary()) {
-            assert primaryShardAllocator != null;
-            return primaryShardAllocator.makeAllocationDecision(unassignedShard, routingAllocation, logger);
-        } else {
-            assert replicaShardAllocator != null;
-            return replicaShardAllocator.makeAllocationDecision(unassignedShard, routingAllocation, logger);
+        try {
+            if (unassignedShard.primary()) {
+                assert primaryShardAllocator != null;
+                return primaryShardAllocator.makeAllocationDecision(unassignedShard, routingAllocation, logger);
+            } else {
+                assert replicaShardAllocator != null;
+                return replicaShardAllocator.makeAllocationDecision(unassignedShard, routingAllocation, logger);
+            }
+        } finally {
+            flushBatchedListers();
         }
     }
 
@@ -252,7 +302,7 @@ public class GatewayAllocator implements ExistingShardsAllocator {
                 asyncFetchStarted.computeIfAbsent(shard.shardId(),
                     shardId -> new InternalAsyncFetch<>(logger, "shard_started", shardId,
                         IndexMetadata.INDEX_DATA_PATH_SETTING.get(allocation.metadata().index(shard.index()).getSettings()),
-                        startedAction));
+                        batchFetchEnabled ? startedAction.batchedLister() : startedAction));
             AsyncShardFetch.FetchResult<TransportNodesListGatewayStartedShards.NodeGatewayStartedShards> shardState =
                     fetch.fetchData(allocation.nodes(), allocation.getIgnoreNodes(shard.shardId()));
 
@@ -277,7 +327,8 @@ public class GatewayAllocator implements ExistingShardsAllocator {
             AsyncShardFetch<TransportNodesListShardStoreMetadata.NodeStoreFilesMetadata> fetch =
                 asyncFetchStore.computeIfAbsent(shard.shardId(),
                     shardId -> new InternalAsyncFetch<>(logger, "shard_store", shard.shardId(),
-                        IndexMetadata.INDEX_DATA_PATH_SETTING.get(allocation.metadata().index(shard.index()).getSettings()), storeAction));
+                        IndexMetadata.INDEX_DATA_PATH_SETTING.get(allocation.metadata().index(shard.index()).getSettings()),
+                        batchFetchEnabled ? storeAction.batchedLister() : storeAction));
             AsyncShardFetch.FetchResult<TransportNodesListShardStoreMetadata.NodeStoreFilesMetadata> shardStores =
                     fetch.fetchData(allocation.nodes(), allocation.getIgnoreNodes(shard.shardId()));
             if (shardStores.hasData()) {
@@ -114,7 +114,7 @@ public abstract class PrimaryShardAllocator extends BaseGatewayShardAllocator {
             if (explain) {
                 nodeDecisions = buildDecisionsForAllNodes(unassignedShard, allocation);
             }
-            return AllocateUnassignedDecision.no(AllocationStatus.FETCHING_SHARD_DATA, nodeDecisions);
+            return AllocateUnassignedDecision.fetching(shardState.getFetchedNodes(), shardState.getFetchNodes(), nodeDecisions);
         }
 
         // don't create a new IndexSetting object for every shard as this could cause a lot of garbage
@@ -181,7 +181,7 @@ public abstract class ReplicaShardAllocator extends BaseGatewayShardAllocator {
             if (explain) {
                 nodeDecisions = buildDecisionsForAllNodes(unassignedShard, allocation);
             }
-            return AllocateUnassignedDecision.no(AllocationStatus.FETCHING_SHARD_DATA, nodeDecisions);
+            return AllocateUnassignedDecision.fetching(shardStores.getFetchedNodes(), shardStores.getFetchNodes(), nodeDecisions);
         }
 
         ShardRouting primaryShard = routingNodes.activePrimary(unassignedShard.shardId());
@@ -83,12 +83,14 @@ public class TransportNodesListGatewayStartedShards extends
         TransportNodesListGatewayStartedShards.NodeGatewayStartedShards> {
 
     public static final String ACTION_NAME = "internal:gateway/local/started_shards";
+    public static final String BATCH_ACTION_NAME = ACTION_NAME + "[batch]";
     public static final ActionType<NodesGatewayStartedShards> TYPE = new ActionType<>(ACTION_NAME, NodesGatewayStartedShards::new);
 
     private final Settings settings;
     private final NodeEnvironment nodeEnv;
     private final IndicesService indicesService;
     private final NamedXContentRegistry namedXContentRegistry;
+    private final BatchedShardLister<NodesGatewayStartedShards, NodeGatewayStartedShards> batchedLister;
 
     @Inject
     public TransportNodesListGatewayStartedShards(Settings settings, ThreadPool threadPool, ClusterService clusterService,
@@ -101,6 +103,16 @@ public class TransportNodesListGatewayStartedShards extends
         this.nodeEnv = env;
         this.indicesService = indicesService;
         this.namedXContentRegistry = namedXContentRegistry;
+        this.batchedLister = new BatchedShardLister<>(transportService, BATCH_ACTION_NAME, ThreadPool.Names.FETCH_SHARD_STARTED,
+            NodeGatewayStartedShards::new, this::listShardState,
+            (responses, failures) -> new NodesGatewayStartedShards(clusterService.getClusterName(), responses, failures), this);
+    }
+
+    /**
+     * Returns the lister that lists the started shards of many shards with a single request per node.
+     */
+    public BatchedShardLister<NodesGatewayStartedShards, NodeGatewayStartedShards> batchedLister() {
+        return batchedLister;
     }
 
     @Override
@@ -127,16 +139,19 @@ public class TransportNodesListGatewayStartedShards extends
 
     @Override
     protected NodeGatewayStartedShards nodeOperation(NodeRequest request) {
+        return listShardState(request.getShardId(), request.getCustomDataPath());
+    }
+
+    private NodeGatewayStartedShards listShardState(ShardId shardId, @Nullable String requestCustomDataPath) {
         try {
-            final ShardId shardId = request.getShardId();
             logger.trace("{} loading local shard state info", shardId);
             ShardStateMetadata shardStateMetadata = ShardStateMetadata.FORMAT.loadLatestState(logger, namedXContentRegistry,
-                nodeEnv.availableShardPaths(request.shardId));
+                nodeEnv.availableShardPaths(shardId));
             if (shardStateMetadata != null) {
                 if (indicesService.getShardOrNull(shardId) == null) {
                     final String customDataPath;
-                    if (request.getCustomDataPath() != null) {
-                        customDataPath = request.getCustomDataPath();
+                    if (requestCustomDataPath != null) {
+                        customDataPath = requestCustomDataPath;
                     } else {
                         // TODO: Fallback for BWC with older OpenSearch versions.
                         // Remove once request.getCustomDataPath() always returns non-null
@@ -46,6 +46,7 @@ import org.opensearch.client.Client;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.CheckedFunction;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.TriFunction;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.settings.Setting;
@@ -63,12 +64,14 @@ import org.opensearch.index.cache.query.QueryCache;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.EngineFactory;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.merge.MergeCoordinator;
 import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexingOperationListener;
 import org.opensearch.index.shard.SearchOperationListener;
 import org.opensearch.index.similarity.SimilarityService;
 import org.opensearch.index.store.FsDirectoryFactory;
 import org.opensearch.indices.IndicesQueryCache;
+import org.opensearch.indices.RefreshCoordinator;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
 import org.opensearch.indices.mapper.MapperRegistry;
@@ -135,6 +138,10 @@ public final class IndexModule {
     public static final Setting<Boolean> INDEX_QUERY_CACHE_ENABLED_SETTING =
             Setting.boolSetting("index.queries.cache.enabled", true, Property.IndexScope);
 
+    // caches the filters that were recently cached for a shard on the segments that its merges produce
+    public static final Setting<Boolean> INDEX_QUERY_CACHE_WARM_MERGED_SEGMENTS_SETTING =
+        Setting.boolSetting("index.queries.cache.warm_merged_segments", false, Property.IndexScope, Property.Dynamic);
+
     // for test purposes only
     public static final Setting<Boolean> INDEX_QUERY_CACHE_EVERYTHING_SETTING =
         Setting.boolSetting("index.queries.cache.everything", false, Property.IndexScope);
@@ -416,6 +423,8 @@ public final class IndexModule {
                                         NamedXContentRegistry xContentRegistry,
                                         IndexService.ShardStoreDeleter shardStoreDeleter,
                                         CircuitBreakerService circuitBreakerService,
+                                        @Nullable MergeCoordinator mergeCoordinator,
+                                        @Nullable RefreshCoordinator refreshCoordinator,
                                         BigArrays bigArrays,
                                         ThreadPool threadPool,
                                         ScriptService scriptService,
@@ -452,10 +461,10 @@ public final class IndexModule {
             }
             final IndexService indexService = new IndexService(indexSettings, indexCreationContext, environment, xContentRegistry,
                 new SimilarityService(indexSettings, scriptService, similarities), shardStoreDeleter, indexAnalyzers,
-                engineFactory, circuitBreakerService, bigArrays, threadPool, scriptService, clusterService, client, queryCache,
-                directoryFactory, eventListener, readerWrapperFactory, mapperRegistry, indicesFieldDataCache, searchOperationListeners,
-                indexOperationListeners, namedWriteableRegistry, idFieldDataEnabled, allowExpensiveQueries, expressionResolver,
-                valuesSourceRegistry, recoveryStateFactory);
+                engineFactory, circuitBreakerService, mergeCoordinator, refreshCoordinator, bigArrays, threadPool, scriptService,
+                clusterService, client, queryCache, directoryFactory, eventListener, readerWrapperFactory, mapperRegistry,
+                indicesFieldDataCache, searchOperationListeners, indexOperationListeners, namedWriteableRegistry, idFieldDataEnabled,
+                allowExpensiveQueries, expressionResolver, valuesSourceRegistry, recoveryStateFactory);
             success = true;
             return indexService;
         } finally {
@@ -74,6 +74,7 @@ import org.opensearch.index.engine.EngineFactory;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
 import org.opensearch.index.fielddata.IndexFieldDataService;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.merge.MergeCoordinator;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.query.SearchIndexNameMatcher;
 import org.opensearch.index.seqno.RetentionLeaseSyncer;
@@ -89,6 +90,7 @@ import org.opensearch.index.shard.ShardPath;
 import org.opensearch.index.similarity.SimilarityService;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.translog.Translog;
+import org.opensearch.indices.RefreshCoordinator;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
@@ -161,6 +163,10 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
     private final ClusterService clusterService;
     private final Client client;
     private final CircuitBreakerService circuitBreakerService;
+    @Nullable
+    private final MergeCoordinator mergeCoordinator;
+    @Nullable
+    private final RefreshCoordinator refreshCoordinator;
     private final IndexNameExpressionResolver expressionResolver;
     private final Supplier<Sort> indexSortSupplier;
     private final ValuesSourceRegistry valuesSourceRegistry;
@@ -174,6 +180,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
             ShardStoreDeleter shardStoreDeleter,
             IndexAnalyzers indexAnalyzers, EngineFactory engineFactory,
             CircuitBreakerService circuitBreakerService,
+            @Nullable MergeCoordinator mergeCoordinator,
+            @Nullable RefreshCoordinator refreshCoordinator,
             BigArrays bigArrays,
             ThreadPool threadPool,
             ScriptService scriptService,
@@ -200,6 +208,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         this.similarityService = similarityService;
         this.namedWriteableRegistry = namedWriteableRegistry;
         this.circuitBreakerService = circuitBreakerService;
+        this.mergeCoordinator = mergeCoordinator;
+        this.refreshCoordinator = refreshCoordinator;
         this.expressionResolver = expressionResolver;
         this.valuesSourceRegistry =  valuesSourceRegistry;
         if (needsMapperService(indexSettings, indexCreationContext)) {
@@ -493,7 +503,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
                     indexingOperationListeners,
                     () -> globalCheckpointSyncer.accept(shardId),
                     retentionLeaseSyncer,
-                    circuitBreakerService);
+                    circuitBreakerService,
+                    mergeCoordinator);
             eventListener.indexShardStateChanged(indexShard, null, indexShard.state(), "shard created");
             eventListener.afterIndexShardCreated(indexShard);
             shards = newMapBuilder(shards).put(shardId.id(), indexShard).immutableMap();
@@ -860,6 +871,11 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
     private void maybeRefreshEngine(boolean force) {
         if (indexSettings.getRefreshInterval().millis() > 0 || force) {
             for (IndexShard shard : this.shards.values()) {
+                if (force == false && refreshCoordinator != null) {
+                    // spread across the refresh interval and bounded together with the refreshes of all other shards of the node
+                    refreshCoordinator.scheduleRefresh(shard, indexSettings.getRefreshInterval());
+                    continue;
+                }
                 try {
                     shard.scheduledRefresh();
                 } catch (IndexShardClosedException | AlreadyClosedException ex) {
@@ -45,6 +45,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.store.remote.RemoteSnapshotDirectoryFactory;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.ingest.IngestService;
 import org.opensearch.node.Node;
@@ -56,6 +57,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import static org.opensearch.index.mapper.MapperService.INDEX_MAPPING_BULK_COMBINE_DYNAMIC_UPDATES_SETTING;
 import static org.opensearch.index.mapper.MapperService.INDEX_MAPPING_DEPTH_LIMIT_SETTING;
 import static org.opensearch.index.mapper.MapperService.INDEX_MAPPING_FIELD_NAME_LENGTH_LIMIT_SETTING;
 import static org.opensearch.index.mapper.MapperService.INDEX_MAPPING_NESTED_DOCS_LIMIT_SETTING;
@@ -194,6 +196,13 @@ public final class IndexSettings {
     public static final Setting<Integer> MAX_RESCORE_WINDOW_SETTING =
             Setting.intSetting("index.max_rescore_window", MAX_RESULT_WINDOW_SETTING, 1,
                 Property.Dynamic, Property.IndexScope);
+    /**
+     * Index setting describing the maximum number of documents of a batch of an export. Defaults to
+     * {@link #MAX_RESULT_WINDOW_SETTING} because a batch is buffered on the shard before it is returned.
+     */
+    public static final Setting<Integer> MAX_EXPORT_BATCH_SIZE_SETTING =
+            Setting.intSetting("index.max_export_batch_size", MAX_RESULT_WINDOW_SETTING, 1,
+                Property.Dynamic, Property.IndexScope);
     /**
      * Index setting describing the maximum number of filters clauses that can be used
      * in an adjacency_matrix aggregation. The max number of buckets produced by
@@ -348,6 +357,19 @@ public final class IndexSettings {
     public static final Setting<Boolean> INDEX_SEARCH_THROTTLED = Setting.boolSetting("index.search.throttled", false,
         Property.IndexScope, Property.PrivateIndex, Property.Dynamic);
 
+    /**
+     * Settings of indices that are mounted from a snapshot with the {@code remote_snapshot} storage type. They identify the shard
+     * snapshots the shards of the index read their files from and are set when the snapshot is restored.
+     */
+    public static final Setting<String> SEARCHABLE_SNAPSHOT_REPOSITORY = Setting.simpleString("index.searchable_snapshot.repository",
+        Property.IndexScope, Property.InternalIndex);
+    public static final Setting<String> SEARCHABLE_SNAPSHOT_ID_NAME = Setting.simpleString("index.searchable_snapshot.snapshot_id.name",
+        Property.IndexScope, Property.InternalIndex);
+    public static final Setting<String> SEARCHABLE_SNAPSHOT_ID_UUID = Setting.simpleString("index.searchable_snapshot.snapshot_id.uuid",
+        Property.IndexScope, Property.InternalIndex);
+    public static final Setting<String> SEARCHABLE_SNAPSHOT_INDEX_ID = Setting.simpleString("index.searchable_snapshot.index.id",
+        Property.IndexScope, Property.InternalIndex);
+
     /**
      * Determines a balance between file-based and operations-based peer recoveries. The number of operations that will be used in an
      * operations-based peer recovery is limited to this proportion of the total number of documents in the shard (including deleted
@@ -390,6 +412,7 @@ public final class IndexSettings {
     private long gcDeletesInMillis = DEFAULT_GC_DELETES.millis();
     private final boolean softDeleteEnabled;
     private volatile long softDeleteRetentionOperations;
+    private final boolean isRemoteSnapshot;
 
     private volatile long retentionLeaseMillis;
 
@@ -411,6 +434,7 @@ public final class IndexSettings {
     private volatile int maxInnerResultWindow;
     private volatile int maxAdjacencyMatrixFilters;
     private volatile int maxRescoreWindow;
+    private volatile int maxExportBatchSize;
     private volatile int maxDocvalueFields;
     private volatile int maxScriptFields;
     private volatile int maxTokenCount;
@@ -427,6 +451,7 @@ public final class IndexSettings {
     private volatile long mappingTotalFieldsLimit;
     private volatile long mappingDepthLimit;
     private volatile long mappingFieldNameLengthLimit;
+    private volatile boolean mappingBulkCombineDynamicUpdates;
 
     /**
      * The maximum number of refresh listeners allows on this shard.
@@ -525,6 +550,7 @@ public final class IndexSettings {
         mergeSchedulerConfig = new MergeSchedulerConfig(this);
         gcDeletesInMillis = scopedSettings.get(INDEX_GC_DELETES_SETTING).getMillis();
         softDeleteEnabled = version.onOrAfter(LegacyESVersion.V_6_5_0) && scopedSettings.get(INDEX_SOFT_DELETES_SETTING);
+        isRemoteSnapshot = RemoteSnapshotDirectoryFactory.TYPE.equals(settings.get(IndexModule.INDEX_STORE_TYPE_SETTING.getKey()));
         softDeleteRetentionOperations = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING);
         retentionLeaseMillis = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING).millis();
         warmerEnabled = scopedSettings.get(INDEX_WARMER_ENABLED_SETTING);
@@ -532,6 +558,7 @@ public final class IndexSettings {
         maxInnerResultWindow = scopedSettings.get(MAX_INNER_RESULT_WINDOW_SETTING);
         maxAdjacencyMatrixFilters = scopedSettings.get(MAX_ADJACENCY_MATRIX_FILTERS_SETTING);
         maxRescoreWindow = scopedSettings.get(MAX_RESCORE_WINDOW_SETTING);
+        maxExportBatchSize = scopedSettings.get(MAX_EXPORT_BATCH_SIZE_SETTING);
         maxDocvalueFields = scopedSettings.get(MAX_DOCVALUE_FIELDS_SEARCH_SETTING);
         maxScriptFields = scopedSettings.get(MAX_SCRIPT_FIELDS_SETTING);
         maxTokenCount = scopedSettings.get(MAX_TOKEN_COUNT_SETTING);
@@ -553,6 +580,7 @@ public final class IndexSettings {
         mappingTotalFieldsLimit = scopedSettings.get(INDEX_MAPPING_TOTAL_FIELDS_LIMIT_SETTING);
         mappingDepthLimit = scopedSettings.get(INDEX_MAPPING_DEPTH_LIMIT_SETTING);
         mappingFieldNameLengthLimit = scopedSettings.get(INDEX_MAPPING_FIELD_NAME_LENGTH_LIMIT_SETTING);
+        mappingBulkCombineDynamicUpdates = scopedSettings.get(INDEX_MAPPING_BULK_COMBINE_DYNAMIC_UPDATES_SETTING);
 
         scopedSettings.addSettingsUpdateConsumer(MergePolicyConfig.INDEX_COMPOUND_FORMAT_SETTING, mergePolicyConfig::setNoCFSRatio);
         scopedSettings.addSettingsUpdateConsumer(MergePolicyConfig.INDEX_MERGE_POLICY_DELETES_PCT_ALLOWED_SETTING,
@@ -579,6 +607,7 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(MAX_INNER_RESULT_WINDOW_SETTING, this::setMaxInnerResultWindow);
         scopedSettings.addSettingsUpdateConsumer(MAX_ADJACENCY_MATRIX_FILTERS_SETTING, this::setMaxAdjacencyMatrixFilters);
         scopedSettings.addSettingsUpdateConsumer(MAX_RESCORE_WINDOW_SETTING, this::setMaxRescoreWindow);
+        scopedSettings.addSettingsUpdateConsumer(MAX_EXPORT_BATCH_SIZE_SETTING, this::setMaxExportBatchSize);
         scopedSettings.addSettingsUpdateConsumer(MAX_DOCVALUE_FIELDS_SEARCH_SETTING, this::setMaxDocvalueFields);
         scopedSettings.addSettingsUpdateConsumer(MAX_SCRIPT_FIELDS_SETTING, this::setMaxScriptFields);
         scopedSettings.addSettingsUpdateConsumer(MAX_TOKEN_COUNT_SETTING, this::setMaxTokenCount);
@@ -611,6 +640,8 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(INDEX_MAPPING_TOTAL_FIELDS_LIMIT_SETTING, this::setMappingTotalFieldsLimit);
         scopedSettings.addSettingsUpdateConsumer(INDEX_MAPPING_DEPTH_LIMIT_SETTING, this::setMappingDepthLimit);
         scopedSettings.addSettingsUpdateConsumer(INDEX_MAPPING_FIELD_NAME_LENGTH_LIMIT_SETTING, this::setMappingFieldNameLengthLimit);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_MAPPING_BULK_COMBINE_DYNAMIC_UPDATES_SETTING,
+            this::setMappingBulkCombineDynamicUpdates);
     }
 
     private void setSearchIdleAfter(TimeValue searchIdleAfter) { this.searchIdleAfter = searchIdleAfter; }
@@ -921,6 +952,17 @@ public final class IndexSettings {
         this.maxRescoreWindow = maxRescoreWindow;
     }
 
+    /**
+     * Returns the maximum number of documents of a batch of an export.
+     */
+    public int getMaxExportBatchSize() {
+        return maxExportBatchSize;
+    }
+
+    private void setMaxExportBatchSize(int maxExportBatchSize) {
+        this.maxExportBatchSize = maxExportBatchSize;
+    }
+
     /**
      * Returns the maximum number of allowed docvalue_fields to retrieve in a search request
      */
@@ -1078,6 +1120,14 @@ public final class IndexSettings {
         return softDeleteEnabled;
     }
 
+    /**
+     * Returns <code>true</code> if this index is mounted from a snapshot with the {@code remote_snapshot} storage type, i.e. its
+     * shards read their files from the repository on demand.
+     */
+    public boolean isRemoteSnapshot() {
+        return isRemoteSnapshot;
+    }
+
     private void setSoftDeleteRetentionOperations(long ops) {
         this.softDeleteRetentionOperations = ops;
     }
@@ -1140,4 +1190,15 @@ public final class IndexSettings {
     private void setMappingFieldNameLengthLimit(long value) {
         this.mappingFieldNameLengthLimit = value;
     }
+
+    /**
+     * Returns whether bulk requests combine the dynamic mapping updates that their documents require into a single update.
+     */
+    public boolean isMappingBulkCombineDynamicUpdates() {
+        return mappingBulkCombineDynamicUpdates;
+    }
+
+    private void setMappingBulkCombineDynamicUpdates(boolean value) {
+        this.mappingBulkCombineDynamicUpdates = value;
+    }
 }
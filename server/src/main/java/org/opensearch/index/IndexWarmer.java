@@ -35,10 +35,14 @@ package org.opensearch.index;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.search.suggest.document.CompletionTerms;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.IndexFieldDataService;
+import org.opensearch.index.mapper.CompletionFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.shard.IndexShard;
@@ -65,6 +69,7 @@ public final class IndexWarmer {
         ArrayList<Listener> list = new ArrayList<>();
         final Executor executor = threadPool.executor(ThreadPool.Names.WARMER);
         list.add(new FieldDataWarmer(executor, indexFieldDataService));
+        list.add(new CompletionWarmer(executor));
 
         Collections.addAll(list, listeners);
         this.listeners = Collections.unmodifiableList(list);
@@ -174,4 +179,58 @@ public final class IndexWarmer {
         }
     }
 
+    /**
+     * Loads the suggestion FSTs of the completion fields of new segments, so that the first suggest requests after a
+     * refresh or a merge don't have to, if {@link CompletionFieldMapper#INDEX_COMPLETION_FST_EAGER_LOAD_SETTING} is set.
+     * Suggesters are loaded once per segment, so segments that were already warmed are skipped cheaply.
+     */
+    private static class CompletionWarmer implements IndexWarmer.Listener {
+
+        private final Executor executor;
+
+        CompletionWarmer(Executor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public TerminationHandle warmReader(final IndexShard indexShard, final OpenSearchDirectoryReader reader) {
+            if (indexShard.indexSettings().getValue(CompletionFieldMapper.INDEX_COMPLETION_FST_EAGER_LOAD_SETTING) == false) {
+                return TerminationHandle.NO_WAIT;
+            }
+            final List<String> completionFields = new ArrayList<>();
+            for (MappedFieldType fieldType : indexShard.mapperService().fieldTypes()) {
+                if (fieldType instanceof CompletionFieldMapper.CompletionFieldType) {
+                    completionFields.add(fieldType.name());
+                }
+            }
+            final CountDownLatch latch = new CountDownLatch(completionFields.size());
+            for (final String field : completionFields) {
+                executor.execute(() -> {
+                    try {
+                        final long start = System.nanoTime();
+                        for (LeafReaderContext leaf : reader.leaves()) {
+                            final Terms terms = leaf.reader().terms(field);
+                            if (terms instanceof CompletionTerms) {
+                                ((CompletionTerms) terms).suggester();
+                            }
+                        }
+                        if (indexShard.warmerService().logger().isTraceEnabled()) {
+                            indexShard.warmerService().logger().trace(
+                                "warmed suggesters for [{}], took [{}]",
+                                field,
+                                TimeValue.timeValueNanos(System.nanoTime() - start));
+                        }
+                    } catch (Exception e) {
+                        indexShard
+                            .warmerService()
+                            .logger()
+                            .warn(() -> new ParameterizedMessage("failed to warm-up suggesters for [{}]", field), e);
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            return () -> latch.await();
+        }
+    }
 }
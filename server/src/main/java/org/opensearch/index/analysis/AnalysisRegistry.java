@@ -39,6 +39,7 @@ import org.opensearch.LegacyESVersion;
 import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
 import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.env.Environment;
@@ -46,6 +47,7 @@ import org.opensearch.index.IndexSettings;
 import org.opensearch.index.mapper.TextFieldMapper;
 import org.opensearch.indices.analysis.AnalysisModule;
 import org.opensearch.indices.analysis.AnalysisModule.AnalysisProvider;
+import org.opensearch.indices.analysis.NodeAnalysisStats;
 import org.opensearch.indices.analysis.PreBuiltAnalyzers;
 
 import java.io.Closeable;
@@ -60,6 +62,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.unmodifiableMap;
@@ -81,6 +84,7 @@ public final class AnalysisRegistry implements Closeable {
     private final Map<String, Analyzer> cachedAnalyzer = new ConcurrentHashMap<>();
 
     private final Environment environment;
+    private final Supplier<NodeAnalysisStats> statsSupplier;
     private final Map<String, AnalysisProvider<CharFilterFactory>> charFilters;
     private final Map<String, AnalysisProvider<TokenFilterFactory>> tokenFilters;
     private final Map<String, AnalysisProvider<TokenizerFactory>> tokenizers;
@@ -97,7 +101,23 @@ public final class AnalysisRegistry implements Closeable {
                             Map<String, PreConfiguredTokenFilter> preConfiguredTokenFilters,
                             Map<String, PreConfiguredTokenizer> preConfiguredTokenizers,
                             Map<String, PreBuiltAnalyzerProviderFactory> preConfiguredAnalyzers) {
+        this(environment, charFilters, tokenFilters, tokenizers, analyzers, normalizers, preConfiguredCharFilters,
+            preConfiguredTokenFilters, preConfiguredTokenizers, preConfiguredAnalyzers, () -> null);
+    }
+
+    public AnalysisRegistry(Environment environment,
+                            Map<String, AnalysisProvider<CharFilterFactory>> charFilters,
+                            Map<String, AnalysisProvider<TokenFilterFactory>> tokenFilters,
+                            Map<String, AnalysisProvider<TokenizerFactory>> tokenizers,
+                            Map<String, AnalysisProvider<AnalyzerProvider<?>>> analyzers,
+                            Map<String, AnalysisProvider<AnalyzerProvider<?>>> normalizers,
+                            Map<String, PreConfiguredCharFilter> preConfiguredCharFilters,
+                            Map<String, PreConfiguredTokenFilter> preConfiguredTokenFilters,
+                            Map<String, PreConfiguredTokenizer> preConfiguredTokenizers,
+                            Map<String, PreBuiltAnalyzerProviderFactory> preConfiguredAnalyzers,
+                            Supplier<NodeAnalysisStats> statsSupplier) {
         this.environment = environment;
+        this.statsSupplier = statsSupplier;
         this.charFilters = unmodifiableMap(charFilters);
         this.tokenFilters = unmodifiableMap(tokenFilters);
         this.tokenizers = unmodifiableMap(tokenizers);
@@ -107,6 +127,14 @@ public final class AnalysisRegistry implements Closeable {
             new PrebuiltAnalysis(preConfiguredCharFilters, preConfiguredTokenFilters, preConfiguredTokenizers, preConfiguredAnalyzers);
     }
 
+    /**
+     * The statistics of the analysis resources that the node shares across indices, or {@code null} if it doesn't share any.
+     */
+    @Nullable
+    public NodeAnalysisStats stats() {
+        return statsSupplier.get();
+    }
+
     private static Settings getSettingsFromIndexSettings(IndexSettings indexSettings, String groupName) {
         Settings settings = indexSettings.getSettings().getAsSettings(groupName);
         if (settings.isEmpty()) {
@@ -278,7 +306,8 @@ public final class AnalysisRegistry implements Closeable {
 
             @Override
             public AnalyzerScope scope() {
-                return AnalyzerScope.GLOBAL;
+                // so that closing the returned analyzer releases the resources of its components
+                return AnalyzerScope.INDEX;
             }
 
             @Override
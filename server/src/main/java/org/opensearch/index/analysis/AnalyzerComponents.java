@@ -33,8 +33,13 @@
 package org.opensearch.index.analysis;
 
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.internal.io.IOUtils;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -88,14 +93,23 @@ public final class AnalyzerComponents {
 
         List<String> tokenFilterNames = analyzerSettings.getAsList("filter");
         List<TokenFilterFactory> tokenFilterList = new ArrayList<>(tokenFilterNames.size());
-        for (String tokenFilterName : tokenFilterNames) {
-            TokenFilterFactory tokenFilter = tokenFilters.get(tokenFilterName);
-            if (tokenFilter == null) {
-                throw new IllegalArgumentException(
-                        "Custom Analyzer [" + name + "] failed to find filter under name " + "[" + tokenFilterName + "]");
+        boolean success = false;
+        try {
+            for (String tokenFilterName : tokenFilterNames) {
+                TokenFilterFactory tokenFilter = tokenFilters.get(tokenFilterName);
+                if (tokenFilter == null) {
+                    throw new IllegalArgumentException(
+                            "Custom Analyzer [" + name + "] failed to find filter under name " + "[" + tokenFilterName + "]");
+                }
+                tokenFilter = tokenFilter.getChainAwareTokenFilterFactory(tokenizer, charFiltersList, tokenFilterList, tokenFilters::get);
+                tokenFilterList.add(tokenFilter);
+            }
+            success = true;
+        } finally {
+            if (success == false) {
+                // release the resources that the filters of the chain acquired so far
+                closeTokenFilters(tokenFilterList);
             }
-            tokenFilter = tokenFilter.getChainAwareTokenFilterFactory(tokenizer, charFiltersList, tokenFilterList, tokenFilters::get);
-            tokenFilterList.add(tokenFilter);
         }
 
         return new AnalyzerComponents(tokenizer, charFiltersList.toArray(new CharFilterFactory[charFiltersList.size()]),
@@ -117,4 +131,26 @@ public final class AnalyzerComponents {
     public AnalysisMode analysisMode() {
         return this.analysisMode;
     }
+
+    /**
+     * Releases the resources that the chain-aware token filters hold, like shared synonym maps. Chain-aware token
+     * filters that hold resources implement {@link Closeable}.
+     */
+    void close() {
+        closeTokenFilters(Arrays.asList(tokenFilters));
+    }
+
+    private static void closeTokenFilters(List<TokenFilterFactory> tokenFilters) {
+        final List<Closeable> closeables = new ArrayList<>();
+        for (TokenFilterFactory tokenFilter : tokenFilters) {
+            if (tokenFilter instanceof Closeable) {
+                closeables.add((Closeable) tokenFilter);
+            }
+        }
+        try {
+            IOUtils.close(closeables);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
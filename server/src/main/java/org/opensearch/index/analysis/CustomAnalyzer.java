@@ -135,4 +135,10 @@ public final class CustomAnalyzer extends Analyzer implements AnalyzerComponents
         }
         return result;
     }
+
+    @Override
+    public void close() {
+        super.close();
+        components.close();
+    }
 }
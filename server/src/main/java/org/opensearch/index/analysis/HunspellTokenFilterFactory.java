@@ -34,14 +34,20 @@ package org.opensearch.index.analysis;
 import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.hunspell.Dictionary;
 import org.apache.lucene.analysis.hunspell.HunspellStemFilter;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.indices.analysis.HunspellService;
 
+import java.io.Closeable;
+import java.util.List;
 import java.util.Locale;
+import java.util.function.Function;
 
 public class HunspellTokenFilterFactory extends AbstractTokenFilterFactory {
 
+    private final HunspellService hunspellService;
+    private final String locale;
     private final Dictionary dictionary;
     private final boolean dedup;
     private final boolean longestOnly;
@@ -49,7 +55,8 @@ public class HunspellTokenFilterFactory extends AbstractTokenFilterFactory {
     public HunspellTokenFilterFactory(IndexSettings indexSettings, String name, Settings settings, HunspellService hunspellService) {
         super(indexSettings, name, settings);
 
-        String locale = settings.get("locale", settings.get("language", settings.get("lang", null)));
+        this.hunspellService = hunspellService;
+        locale = settings.get("locale", settings.get("language", settings.get("lang", null)));
         if (locale == null) {
             throw new IllegalArgumentException("missing [locale | language | lang] configuration for hunspell token filter");
         }
@@ -68,6 +75,15 @@ public class HunspellTokenFilterFactory extends AbstractTokenFilterFactory {
         return new HunspellStemFilter(tokenStream, dictionary, dedup, longestOnly);
     }
 
+    @Override
+    public TokenFilterFactory getChainAwareTokenFilterFactory(TokenizerFactory tokenizer, List<CharFilterFactory> charFilters,
+                                                              List<TokenFilterFactory> previousTokenFilters,
+                                                              Function<String, TokenFilterFactory> allFilters) {
+        // counts the analyzers that use the shared dictionary until they are closed
+        final Releasable reference = hunspellService.reference(locale);
+        return new ChainAwareFilter(reference);
+    }
+
     public boolean dedup() {
         return dedup;
     }
@@ -76,4 +92,32 @@ public class HunspellTokenFilterFactory extends AbstractTokenFilterFactory {
         return longestOnly;
     }
 
+    private class ChainAwareFilter implements TokenFilterFactory, Closeable {
+
+        private final Releasable reference;
+
+        private ChainAwareFilter(Releasable reference) {
+            this.reference = reference;
+        }
+
+        @Override
+        public String name() {
+            return HunspellTokenFilterFactory.this.name();
+        }
+
+        @Override
+        public TokenStream create(TokenStream tokenStream) {
+            return HunspellTokenFilterFactory.this.create(tokenStream);
+        }
+
+        @Override
+        public TokenFilterFactory getSynonymFilter() {
+            return HunspellTokenFilterFactory.this;
+        }
+
+        @Override
+        public void close() {
+            reference.close();
+        }
+    }
 }
@@ -135,13 +135,17 @@ public final class ReloadableCustomAnalyzer extends Analyzer implements Analyzer
                                     final Map<String, CharFilterFactory> charFilters,
                                     final Map<String, TokenFilterFactory> tokenFilters) {
         AnalyzerComponents components = AnalyzerComponents.createComponents(name, settings, tokenizers, charFilters, tokenFilters);
+        AnalyzerComponents previous = this.components;
         this.components = components;
+        // token streams that were created from the previous components hold on to what they use
+        previous.close();
     }
 
     @Override
-    public void close() {
+    public synchronized void close() {
         super.close();
         storedComponents.close();
+        components.close();
     }
 
     private void setStoredComponents(AnalyzerComponents components) {
@@ -0,0 +1,316 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.analysis;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.util.AttributeSource;
+import org.opensearch.common.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * The tokenizer, char filters and leading token filters that the custom analyzers of several fields share. Fields that
+ * index the same value with such analyzers, like the multi-fields of a field or the targets of its {@code copy_to},
+ * can analyze the value with the shared components {@link #tokens once} and only apply the token filters that follow
+ * them to the cached tokens. Values with more tokens than a limit aren't cached and are analyzed by every field on its
+ * own instead.
+ */
+public final class SharedAnalysisPrefix {
+
+    private final TokenizerFactory tokenizer;
+    private final CharFilterFactory[] charFilters;
+    private final TokenFilterFactory[] tokenFilters;
+    private final int maxTokens;
+    private final Analyzer analyzer;
+    private final Map<Analyzer, Replay> replays = new ConcurrentHashMap<>();
+
+    /**
+     * @param analyzer     the analyzer whose components are shared, which must be a {@link CustomAnalyzer}
+     * @param tokenFilters the number of leading token filters of the analyzer that are shared
+     * @param maxTokens    the maximum number of tokens of a value that are cached
+     */
+    public SharedAnalysisPrefix(Analyzer analyzer, int tokenFilters, int maxTokens) {
+        final AnalyzerComponents components = components(analyzer);
+        if (components == null) {
+            throw new IllegalArgumentException("only the components of custom analyzers can be shared");
+        }
+        this.tokenizer = components.getTokenizerFactory();
+        this.charFilters = components.getCharFilters();
+        this.tokenFilters = Arrays.copyOf(components.getTokenFilters(), tokenFilters);
+        this.maxTokens = maxTokens;
+        this.analyzer = new PrefixAnalyzer();
+    }
+
+    /**
+     * The number of leading token filters that two analyzers share on top of their tokenizer and char filters, or
+     * {@code -1} if they don't share their tokenizer and char filters or if their components can't be shared.
+     */
+    public static int sharedTokenFilters(Analyzer first, Analyzer second) {
+        final AnalyzerComponents firstComponents = components(first);
+        final AnalyzerComponents secondComponents = components(second);
+        if (firstComponents == null || secondComponents == null
+            || firstComponents.getTokenizerFactory() != secondComponents.getTokenizerFactory()
+            || sameComponents(firstComponents.getCharFilters(), secondComponents.getCharFilters()) == false) {
+            return -1;
+        }
+        return sharedPrefix(firstComponents.getTokenFilters(), secondComponents.getTokenFilters());
+    }
+
+    /**
+     * Replays the tokens of the shared components through the token filters that the given analyzer applies after the
+     * shared ones, or returns {@code null} if the analyzer doesn't start with the shared components.
+     */
+    @Nullable
+    public Replay replay(Analyzer analyzer) {
+        return replays.computeIfAbsent(analyzer, a -> {
+            final TokenFilterFactory[] remainingTokenFilters = remainingTokenFilters(a);
+            return remainingTokenFilters == null ? null : new Replay(remainingTokenFilters);
+        });
+    }
+
+    @Nullable
+    private TokenFilterFactory[] remainingTokenFilters(Analyzer analyzer) {
+        final AnalyzerComponents components = components(analyzer);
+        if (components == null
+            || components.getTokenizerFactory() != tokenizer
+            || sameComponents(components.getCharFilters(), charFilters) == false
+            || sharedPrefix(components.getTokenFilters(), tokenFilters) != tokenFilters.length) {
+            return null;
+        }
+        return Arrays.copyOfRange(components.getTokenFilters(), tokenFilters.length, components.getTokenFilters().length);
+    }
+
+    /**
+     * The tokens of a value, which are produced by the shared components the first time that a field consumes them.
+     */
+    public Tokens tokens(String value) {
+        return new Tokens(value);
+    }
+
+    @Nullable
+    private static AnalyzerComponents components(Analyzer analyzer) {
+        while (analyzer instanceof NamedAnalyzer) {
+            analyzer = ((NamedAnalyzer) analyzer).analyzer();
+        }
+        // the components of reloadable analyzers may change between two fields
+        return analyzer instanceof CustomAnalyzer ? ((CustomAnalyzer) analyzer).getComponents() : null;
+    }
+
+    private static boolean sameComponents(Object[] first, Object[] second) {
+        return first.length == second.length && sharedPrefix(first, second) == first.length;
+    }
+
+    private static int sharedPrefix(Object[] first, Object[] second) {
+        int shared = 0;
+        while (shared < first.length && shared < second.length && first[shared] == second[shared]) {
+            shared++;
+        }
+        return shared;
+    }
+
+    /**
+     * The tokens that the shared components produce for a value.
+     */
+    public final class Tokens {
+
+        private final String value;
+        private boolean analyzed;
+        private List<AttributeSource.State> states;
+        private AttributeSource.State finalState;
+        private AttributeSource source;
+
+        private Tokens(String value) {
+            this.value = value;
+        }
+
+        /**
+         * The analyzed value.
+         */
+        public String value() {
+            return value;
+        }
+
+        /**
+         * The components that produce these tokens.
+         */
+        public SharedAnalysisPrefix prefix() {
+            return SharedAnalysisPrefix.this;
+        }
+
+        /**
+         * Analyzes the value with the shared components the first time, and returns whether the value had few enough
+         * tokens to cache them.
+         */
+        private boolean analyze(String field) {
+            if (analyzed == false) {
+                analyzed = true;
+                final List<AttributeSource.State> states = new ArrayList<>();
+                try (TokenStream stream = analyzer.tokenStream(field, value)) {
+                    stream.reset();
+                    while (stream.incrementToken()) {
+                        if (states.size() == maxTokens) {
+                            return false;
+                        }
+                        states.add(stream.captureState());
+                    }
+                    stream.end();
+                    finalState = stream.captureState();
+                    source = stream;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                this.states = states;
+            }
+            return states != null;
+        }
+    }
+
+    /**
+     * Replays the tokens of the shared components through the token filters that an analyzer applies after them. Like
+     * the chain of any analyzer, the chain of these filters is built once per thread and reused for all values.
+     */
+    public final class Replay extends Analyzer {
+
+        private final TokenFilterFactory[] remainingTokenFilters;
+
+        private Replay(TokenFilterFactory[] remainingTokenFilters) {
+            super(GLOBAL_REUSE_STRATEGY);
+            this.remainingTokenFilters = remainingTokenFilters;
+        }
+
+        /**
+         * A token stream of the given tokens, or {@code null} if the value had too many tokens to cache them, in which
+         * case the field must analyze the value on its own.
+         */
+        @Nullable
+        public TokenStream tokenStream(String field, Tokens tokens) {
+            if (tokens.prefix() != SharedAnalysisPrefix.this) {
+                throw new IllegalArgumentException("tokens of a different prefix can't be replayed");
+            }
+            if (tokens.analyze(field) == false) {
+                return null;
+            }
+            TokenStreamComponents components = getReuseStrategy().getReusableComponents(this, field);
+            // the attributes of the replayed stream must be those of the stream whose states it restores
+            if (components == null || ((ReplayTokenStream) components.getSource()).origin != tokens.source) {
+                components = createComponents(tokens.source);
+                getReuseStrategy().setReusableComponents(this, field, components);
+            }
+            ((ReplayTokenStream) components.getSource()).replay(tokens);
+            return components.getTokenStream();
+        }
+
+        private TokenStreamComponents createComponents(AttributeSource origin) {
+            final ReplayTokenStream source = new ReplayTokenStream(origin);
+            TokenStream stream = source;
+            for (TokenFilterFactory tokenFilter : remainingTokenFilters) {
+                stream = tokenFilter.create(stream);
+            }
+            return new TokenStreamComponents(source, stream);
+        }
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            throw new UnsupportedOperationException("replayed tokens are only analyzed through tokenStream(String, Tokens)");
+        }
+    }
+
+    private static final class ReplayTokenStream extends TokenStream implements Consumer<Reader> {
+
+        private final AttributeSource origin;
+        private List<AttributeSource.State> states;
+        private AttributeSource.State finalState;
+        private int next;
+
+        ReplayTokenStream(AttributeSource origin) {
+            super(origin.cloneAttributes());
+            this.origin = origin;
+        }
+
+        void replay(Tokens tokens) {
+            this.states = tokens.states;
+            this.finalState = tokens.finalState;
+        }
+
+        @Override
+        public void accept(Reader reader) {
+            // the tokens are replayed, not read
+        }
+
+        @Override
+        public boolean incrementToken() {
+            if (next == states.size()) {
+                return false;
+            }
+            clearAttributes();
+            restoreState(states.get(next++));
+            return true;
+        }
+
+        @Override
+        public void end() throws IOException {
+            super.end();
+            restoreState(finalState);
+        }
+
+        @Override
+        public void reset() throws IOException {
+            super.reset();
+            next = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            // the stream is kept for the next value of the thread, but the tokens of this value aren't
+            states = null;
+            finalState = null;
+        }
+    }
+
+    /**
+     * Analyzes values with the shared components only, reusing the chain of the components per thread. Unlike a
+     * {@link CustomAnalyzer} it never releases the resources of the components, which belong to the analyzers that
+     * share them.
+     */
+    private final class PrefixAnalyzer extends Analyzer {
+
+        PrefixAnalyzer() {
+            super(GLOBAL_REUSE_STRATEGY);
+        }
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            final Tokenizer source = tokenizer.create();
+            TokenStream stream = source;
+            for (TokenFilterFactory tokenFilter : tokenFilters) {
+                stream = tokenFilter.create(stream);
+            }
+            return new TokenStreamComponents(source, stream);
+        }
+
+        @Override
+        protected Reader initReader(String fieldName, Reader reader) {
+            for (CharFilterFactory charFilter : charFilters) {
+                reader = charFilter.create(reader);
+            }
+            return reader;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.cache.query;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.PointInSetQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.UsageTrackingQueryCachingPolicy;
+import org.apache.lucene.util.automaton.ByteRunAutomaton;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A per-shard caching policy that caches filters based on how expensive they are to evaluate rather than only on how
+ * often they were used. On top of the usage tracking of {@link UsageTrackingQueryCachingPolicy}, a filter is cached
+ * the first time that it's used if:
+ * <ul>
+ *     <li>the node already caches it for another shard, so that the filters of a new time-based index are cached as
+ *     soon as they are used if the filters of the index that it rolled over from were cached,</li>
+ *     <li>or its estimated cost is at least {@link #MIN_COST_TO_CACHE_ON_FIRST_USE}, where every term that it reads
+ *     costs 1 and every term expansion or points traversal costs {@link #EXPANSION_COST}.</li>
+ * </ul>
+ * The policy also remembers the filters that it recently decided to cache so that they can be
+ * {@link MergedSegmentQueryCacheWarmer warmed} on the segments that merges produce.
+ */
+public class CostBasedQueryCachingPolicy extends UsageTrackingQueryCachingPolicy {
+
+    static final int EXPANSION_COST = 8;
+    static final int MIN_COST_TO_CACHE_ON_FIRST_USE = 8;
+    /**
+     * How many of the filters that were recently cached are remembered for warming.
+     */
+    static final int MAX_RECENTLY_CACHED_QUERIES = 32;
+
+    private final Predicate<Query> cachedOnNode;
+    private final Map<Query, Boolean> recentlyCachedQueries = new LinkedHashMap<Query, Boolean>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Query, Boolean> eldest) {
+            return size() > MAX_RECENTLY_CACHED_QUERIES;
+        }
+    };
+
+    /**
+     * @param cachedOnNode whether the node-level query cache already holds a filter for any shard
+     */
+    public CostBasedQueryCachingPolicy(Predicate<Query> cachedOnNode) {
+        this.cachedOnNode = cachedOnNode;
+    }
+
+    @Override
+    protected int minFrequencyToCache(Query query) {
+        if (cachedOnNode.test(query) || estimateCost(query) >= MIN_COST_TO_CACHE_ON_FIRST_USE) {
+            return 1;
+        }
+        return super.minFrequencyToCache(query);
+    }
+
+    @Override
+    public void onUse(Query query) {
+        super.onUse(query);
+        final boolean cached;
+        try {
+            cached = shouldCache(query);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (cached) {
+            synchronized (recentlyCachedQueries) {
+                recentlyCachedQueries.put(query, Boolean.TRUE);
+            }
+        }
+    }
+
+    /**
+     * The filters that this policy recently decided to cache, the most recently used first.
+     */
+    public List<Query> recentlyCachedQueries() {
+        final List<Query> queries;
+        synchronized (recentlyCachedQueries) {
+            queries = new ArrayList<>(recentlyCachedQueries.keySet());
+        }
+        Collections.reverse(queries);
+        return queries;
+    }
+
+    /**
+     * Estimates how expensive a query is to evaluate from its structure: every term that it reads costs 1 and every
+     * term expansion or points traversal costs {@link #EXPANSION_COST}.
+     */
+    static long estimateCost(Query query) {
+        final CostVisitor visitor = new CostVisitor();
+        query.visit(visitor);
+        return visitor.cost;
+    }
+
+    private static boolean isPointQuery(Query query) {
+        return query instanceof PointRangeQuery || query instanceof PointInSetQuery;
+    }
+
+    private static class CostVisitor extends QueryVisitor {
+        long cost;
+
+        @Override
+        public void consumeTerms(Query query, Term... terms) {
+            cost += terms.length;
+        }
+
+        @Override
+        public void consumeTermsMatching(Query query, String field, Supplier<ByteRunAutomaton> automaton) {
+            cost += EXPANSION_COST;
+        }
+
+        @Override
+        public void visitLeaf(Query query) {
+            cost += isPointQuery(query) ? EXPANSION_COST : 1;
+        }
+
+        @Override
+        public QueryVisitor getSubVisitor(BooleanClause.Occur occur, Query parent) {
+            // excluded clauses need to be evaluated too
+            return this;
+        }
+    }
+}
@@ -32,6 +32,7 @@
 
 package org.opensearch.index.cache.query;
 
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryCachingPolicy;
 import org.apache.lucene.search.Weight;
 import org.opensearch.OpenSearchException;
@@ -68,4 +69,9 @@ public class IndexQueryCache extends AbstractIndexComponent implements QueryCach
         return indicesQueryCache.doCache(weight, policy);
     }
 
+    @Override
+    public boolean isCached(Query query) {
+        return indicesQueryCache.isCached(query);
+    }
+
 }
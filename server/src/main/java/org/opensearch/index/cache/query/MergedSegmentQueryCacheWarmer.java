@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.cache.query;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryCache;
+import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
+import org.opensearch.common.lucene.index.OpenSearchLeafReader;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.shard.ShardId;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Caches the filters that a {@link CostBasedQueryCachingPolicy} recently decided to cache for the segments that merges
+ * produce, before the merged segments are exposed to searches. Otherwise merging the segments that held cached filters
+ * throws these filters away until searches use them often enough to cache them again.
+ */
+public final class MergedSegmentQueryCacheWarmer implements IndexWriter.IndexReaderWarmer {
+
+    private static final QueryCachingPolicy ALWAYS_CACHE = new QueryCachingPolicy() {
+        @Override
+        public void onUse(Query query) {
+        }
+
+        @Override
+        public boolean shouldCache(Query query) {
+            return true;
+        }
+    };
+
+    private final ShardId shardId;
+    private final QueryCache queryCache;
+    private final CostBasedQueryCachingPolicy cachingPolicy;
+    private final BooleanSupplier enabled;
+    private final Logger logger;
+
+    public MergedSegmentQueryCacheWarmer(ShardId shardId, QueryCache queryCache, CostBasedQueryCachingPolicy cachingPolicy,
+                                         BooleanSupplier enabled, Logger logger) {
+        this.shardId = shardId;
+        this.queryCache = queryCache;
+        this.cachingPolicy = cachingPolicy;
+        this.enabled = enabled;
+        this.logger = logger;
+    }
+
+    @Override
+    public void warm(LeafReader reader) throws IOException {
+        if (enabled.getAsBoolean() == false) {
+            return;
+        }
+        final List<Query> queries = cachingPolicy.recentlyCachedQueries();
+        if (queries.isEmpty()) {
+            return;
+        }
+        final long startTime = System.nanoTime();
+        // the query cache maps segments to shards through the shard id of the reader
+        final IndexSearcher searcher = new IndexSearcher(new OpenSearchLeafReader(reader, shardId));
+        searcher.setQueryCache(queryCache);
+        searcher.setQueryCachingPolicy(ALWAYS_CACHE);
+        final LeafReaderContext context = searcher.getIndexReader().leaves().get(0);
+        for (Query query : queries) {
+            try {
+                final Weight weight = searcher.createWeight(searcher.rewrite(query), ScoreMode.COMPLETE_NO_SCORES, 1f);
+                // creating the scorer caches the matching documents
+                weight.scorer(context);
+            } catch (Exception e) {
+                logger.debug(() -> new ParameterizedMessage("{} failed to warm query [{}] on merged segment", shardId, query), e);
+            }
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace("{} warmed [{}] cached queries on merged segment with [{}] docs, took [{}]", shardId, queries.size(),
+                reader.maxDoc(), new TimeValue(System.nanoTime() - startTime, TimeUnit.NANOSECONDS));
+        }
+    }
+}
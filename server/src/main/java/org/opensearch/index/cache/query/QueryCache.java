@@ -32,6 +32,7 @@
 
 package org.opensearch.index.cache.query;
 
+import org.apache.lucene.search.Query;
 import org.opensearch.index.IndexComponent;
 
 import java.io.Closeable;
@@ -39,4 +40,11 @@ import java.io.Closeable;
 public interface QueryCache extends IndexComponent, Closeable, org.apache.lucene.search.QueryCache {
 
     void clear(String reason);
+
+    /**
+     * Whether the cache holds the given filter, for any index.
+     */
+    default boolean isCached(Query query) {
+        return false;
+    }
 }
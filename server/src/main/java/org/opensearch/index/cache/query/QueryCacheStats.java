@@ -33,6 +33,7 @@
 package org.opensearch.index.cache.query;
 
 import org.apache.lucene.search.DocIdSet;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -42,6 +43,10 @@ import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
 
 public class QueryCacheStats implements Writeable, ToXContentFragment {
 
@@ -50,6 +55,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
     private long missCount;
     private long cacheCount;
     private long cacheSize;
+    private Map<String, ShapeStats> shapes = new HashMap<>();
 
     public QueryCacheStats() {
     }
@@ -60,14 +66,23 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         missCount = in.readLong();
         cacheCount = in.readLong();
         cacheSize = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            shapes = in.readMap(StreamInput::readString, ShapeStats::new);
+        }
     }
 
     public QueryCacheStats(long ramBytesUsed, long hitCount, long missCount, long cacheCount, long cacheSize) {
+        this(ramBytesUsed, hitCount, missCount, cacheCount, cacheSize, Collections.emptyMap());
+    }
+
+    public QueryCacheStats(long ramBytesUsed, long hitCount, long missCount, long cacheCount, long cacheSize,
+                           Map<String, ShapeStats> shapes) {
         this.ramBytesUsed = ramBytesUsed;
         this.hitCount = hitCount;
         this.missCount = missCount;
         this.cacheCount = cacheCount;
         this.cacheSize = cacheSize;
+        this.shapes = new HashMap<>(shapes);
     }
 
     public void add(QueryCacheStats stats) {
@@ -76,6 +91,9 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         missCount += stats.missCount;
         cacheCount += stats.cacheCount;
         cacheSize += stats.cacheSize;
+        for (Map.Entry<String, ShapeStats> entry : stats.shapes.entrySet()) {
+            shapes.merge(entry.getKey(), entry.getValue(), ShapeStats::merge);
+        }
     }
 
     public long getMemorySizeInBytes() {
@@ -128,6 +146,13 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         return cacheCount - cacheSize;
     }
 
+    /**
+     * The hit and miss counts of the lookups in the cache per shape of filter, which is the type of the query.
+     */
+    public Map<String, ShapeStats> getShapes() {
+        return Collections.unmodifiableMap(shapes);
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeLong(ramBytesUsed);
@@ -135,6 +160,9 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         out.writeLong(missCount);
         out.writeLong(cacheCount);
         out.writeLong(cacheSize);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeMap(shapes, StreamOutput::writeString, (o, shape) -> shape.writeTo(o));
+        }
     }
 
     @Override
@@ -147,10 +175,70 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.CACHE_SIZE, getCacheSize());
         builder.field(Fields.CACHE_COUNT, getCacheCount());
         builder.field(Fields.EVICTIONS, getEvictions());
+        if (shapes.isEmpty() == false) {
+            builder.startObject(Fields.SHAPES);
+            for (Map.Entry<String, ShapeStats> entry : new TreeMap<>(shapes).entrySet()) {
+                builder.startObject(entry.getKey());
+                entry.getValue().toXContent(builder, params);
+                builder.endObject();
+            }
+            builder.endObject();
+        }
         builder.endObject();
         return builder;
     }
 
+    /**
+     * The lookups in the cache for the filters of a given shape.
+     */
+    public static class ShapeStats implements Writeable, ToXContentFragment {
+
+        private final long hitCount;
+        private final long missCount;
+
+        public ShapeStats(long hitCount, long missCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+        }
+
+        public ShapeStats(StreamInput in) throws IOException {
+            hitCount = in.readVLong();
+            missCount = in.readVLong();
+        }
+
+        /**
+         * The number of successful lookups in the cache.
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * The number of lookups in the cache that failed to retrieve a {@link DocIdSet}.
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        ShapeStats merge(ShapeStats other) {
+            return new ShapeStats(hitCount + other.hitCount, missCount + other.missCount);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(hitCount);
+            out.writeVLong(missCount);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, ToXContent.Params params) throws IOException {
+            builder.field(Fields.TOTAL_COUNT, hitCount + missCount);
+            builder.field(Fields.HIT_COUNT, hitCount);
+            builder.field(Fields.MISS_COUNT, missCount);
+            return builder;
+        }
+    }
+
     static final class Fields {
         static final String QUERY_CACHE = "query_cache";
         static final String MEMORY_SIZE = "memory_size";
@@ -161,6 +249,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         static final String CACHE_SIZE = "cache_size";
         static final String CACHE_COUNT = "cache_count";
         static final String EVICTIONS = "evictions";
+        static final String SHAPES = "shapes";
     }
 
 }
@@ -0,0 +1,38 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec;
+
+import org.apache.lucene.codecs.PostingsFormat;
+import org.apache.lucene.search.suggest.document.Completion84PostingsFormat;
+import org.apache.lucene.search.suggest.document.CompletionPostingsFormat;
+
+/**
+ * A {@link Completion84PostingsFormat} that reads the suggestion FSTs of completion fields from the index files instead of
+ * loading them on heap, which is efficient when the files are memory-mapped. Postings formats are looked up by name when
+ * segments are read, so segments that were written with this format keep reading their FSTs off-heap regardless of the
+ * settings that the index has when they are opened.
+ */
+public class Completion84OffHeapPostingsFormat extends CompletionPostingsFormat {
+
+    public static final String NAME = "Completion84OffHeap";
+
+    /**
+     * The extension of the files that hold the suggestion FSTs.
+     */
+    public static final String DICT_EXTENSION = "lkp";
+
+    public Completion84OffHeapPostingsFormat() {
+        super(NAME, FSTLoadMode.OFF_HEAP);
+    }
+
+    @Override
+    protected PostingsFormat delegatePostingsFormat() {
+        return PostingsFormat.forName("Lucene84");
+    }
+}
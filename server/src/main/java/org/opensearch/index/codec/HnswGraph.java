@@ -0,0 +1,530 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.NumericUtils;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.apache.lucene.util.SparseFixedBitSet;
+import org.opensearch.common.Nullable;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+/**
+ * A hierarchical navigable small world graph over a set of vectors, which finds the approximate nearest neighbors of a vector by
+ * visiting a small fraction of the vectors. Every vector is a node of the graph and is identified by its ordinal. Nodes are linked
+ * to their nearest neighbors on the bottom level of the graph, and a random subset of exponentially decreasing size of the nodes
+ * is linked again on every level above, so that searches can navigate from the top level down to the region of the nearest
+ * neighbors in a logarithmic number of steps.
+ * <p>
+ * The graph only holds the links between nodes, the vectors are read from {@link Vectors} while building and searching it.
+ */
+public final class HnswGraph implements Accountable {
+
+    /**
+     * Random access to the vectors of a graph by ordinal.
+     */
+    public interface Vectors {
+
+        /**
+         * The number of vectors.
+         */
+        int size();
+
+        /**
+         * The number of dimensions of the vectors.
+         */
+        int dimension();
+
+        /**
+         * Reads the vector of the given ordinal into the given array.
+         */
+        void read(int ord, float[] vector) throws IOException;
+    }
+
+    private final int entryPoint;
+    // the neighbors of every node on every level that it belongs to, by ordinal and then by level
+    private final int[][][] neighbors;
+
+    private HnswGraph(int entryPoint, int[][][] neighbors) {
+        this.entryPoint = entryPoint;
+        this.neighbors = neighbors;
+    }
+
+    /**
+     * The number of nodes of the graph.
+     */
+    public int size() {
+        return neighbors.length;
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        long ramBytesUsed = RamUsageEstimator.shallowSizeOf(neighbors);
+        for (int[][] levels : neighbors) {
+            ramBytesUsed += RamUsageEstimator.shallowSizeOf(levels);
+            for (int[] level : levels) {
+                ramBytesUsed += RamUsageEstimator.sizeOf(level);
+            }
+        }
+        return ramBytesUsed;
+    }
+
+    /**
+     * Builds the graph of the given vectors. Nodes are inserted in the order of their ordinals, and their levels are drawn from a
+     * random generator with the given seed, so that building the graph of the same vectors always produces the same graph.
+     *
+     * @param maxConnections the number of neighbors that nodes are linked to on every level, and twice that on the bottom level
+     * @param beamWidth      the number of nearest neighbor candidates that are tracked when inserting a node
+     */
+    public static HnswGraph build(Vectors vectors, VectorSimilarity similarity, int maxConnections, int beamWidth,
+                                  long seed) throws IOException {
+        return new Builder(vectors, similarity, maxConnections, beamWidth, seed).build();
+    }
+
+    /**
+     * Searches the approximate nearest neighbors of a vector.
+     *
+     * @param topK          the number of neighbors to return
+     * @param numCandidates the number of nearest neighbor candidates that are tracked on the bottom level, the higher the number
+     *                      the more accurate and the slower the search
+     * @param acceptOrds    the ordinals of the nodes that can be returned, or {@code null} to accept every node. Other nodes are
+     *                      still visited to navigate the graph.
+     * @return the nearest neighbors sorted by decreasing similarity, identified by their ordinals
+     */
+    public TopDocs search(float[] query, int topK, int numCandidates, Vectors vectors, VectorSimilarity similarity,
+                          @Nullable Bits acceptOrds) throws IOException {
+        if (neighbors.length == 0) {
+            return new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]);
+        }
+        final Scorer scorer = new Scorer(query, vectors, similarity);
+        int entry = entryPoint;
+        float entryScore = scorer.score(entry);
+        // greedily move to the nearest node on every level above the bottom one
+        for (int level = neighbors[entryPoint].length - 1; level > 0; level--) {
+            boolean moved = true;
+            while (moved) {
+                moved = false;
+                for (int neighbor : neighbors[entry][level]) {
+                    final float score = scorer.score(neighbor);
+                    if (score > entryScore) {
+                        entry = neighbor;
+                        entryScore = score;
+                        moved = true;
+                    }
+                }
+            }
+        }
+        final NeighborQueue results = searchLevel(scorer, new int[] { entry }, Math.max(topK, numCandidates), 0,
+            acceptOrds, new SparseFixedBitSet(neighbors.length));
+        while (results.size() > topK) {
+            results.pop();
+        }
+        final ScoreDoc[] scoreDocs = new ScoreDoc[results.size()];
+        for (int i = scoreDocs.length - 1; i >= 0; i--) {
+            scoreDocs[i] = new ScoreDoc(results.topOrd(), results.topScore());
+            results.pop();
+        }
+        return new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
+    }
+
+    /**
+     * Searches the nearest neighbors of the scorer's query on a level, starting from the given entry points.
+     *
+     * @return the nearest accepted neighbors, with the least similar one on top
+     */
+    private NeighborQueue searchLevel(Scorer scorer, int[] entryPoints, int numCandidates, int level, @Nullable Bits acceptOrds,
+                                      BitSet visited) throws IOException {
+        final NeighborQueue results = new NeighborQueue(numCandidates + 1, false);
+        final NeighborQueue candidates = new NeighborQueue(numCandidates, true);
+        for (int entryPoint : entryPoints) {
+            if (visited.get(entryPoint)) {
+                continue;
+            }
+            visited.set(entryPoint);
+            final float score = scorer.score(entryPoint);
+            candidates.push(entryPoint, score);
+            if (acceptOrds == null || acceptOrds.get(entryPoint)) {
+                results.push(entryPoint, score);
+            }
+        }
+        while (candidates.size() > 0) {
+            final int candidate = candidates.topOrd();
+            final float candidateScore = candidates.topScore();
+            candidates.pop();
+            if (results.size() >= numCandidates && candidateScore < results.topScore()) {
+                break;
+            }
+            for (int neighbor : neighbors[candidate][level]) {
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                final float score = scorer.score(neighbor);
+                if (results.size() < numCandidates || score > results.topScore()) {
+                    candidates.push(neighbor, score);
+                    if (acceptOrds == null || acceptOrds.get(neighbor)) {
+                        results.push(neighbor, score);
+                        if (results.size() > numCandidates) {
+                            results.pop();
+                        }
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeVInt(entryPoint);
+        for (int[][] levels : neighbors) {
+            out.writeVInt(levels.length);
+            for (int[] level : levels) {
+                out.writeVInt(level.length);
+                for (int neighbor : level) {
+                    out.writeVInt(neighbor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the graph of the given number of nodes that {@link #writeTo} wrote.
+     */
+    public static HnswGraph readFrom(DataInput in, int size) throws IOException {
+        final int entryPoint = in.readVInt();
+        final int[][][] neighbors = new int[size][][];
+        for (int ord = 0; ord < size; ord++) {
+            final int[][] levels = new int[in.readVInt()][];
+            for (int level = 0; level < levels.length; level++) {
+                levels[level] = new int[in.readVInt()];
+                for (int i = 0; i < levels[level].length; i++) {
+                    levels[level][i] = in.readVInt();
+                }
+            }
+            neighbors[ord] = levels;
+        }
+        return new HnswGraph(entryPoint, neighbors);
+    }
+
+    /**
+     * Scores the nodes of a graph against a query vector.
+     */
+    private static final class Scorer {
+
+        private final float[] query;
+        private final float[] vector;
+        private final Vectors vectors;
+        private final VectorSimilarity similarity;
+
+        Scorer(float[] query, Vectors vectors, VectorSimilarity similarity) {
+            this.query = query;
+            this.vector = new float[vectors.dimension()];
+            this.vectors = vectors;
+            this.similarity = similarity;
+        }
+
+        float score(int ord) throws IOException {
+            vectors.read(ord, vector);
+            return similarity.compare(query, vector);
+        }
+    }
+
+    /**
+     * Builds a graph by inserting the nodes one by one: the neighbors of a node are searched on every level that it belongs to,
+     * starting from the level above, and then linked to the node in both directions.
+     */
+    private static final class Builder {
+
+        private final Vectors vectors;
+        private final VectorSimilarity similarity;
+        private final int maxConnections;
+        private final int beamWidth;
+        private final SplittableRandom random;
+        private final double levelMultiplier;
+        private final NeighborArray[][] neighbors;
+        private final FixedBitSet visited;
+        private int[] visitedOrds = new int[16];
+        private int visitedCount;
+        private int entryPoint = -1;
+
+        Builder(Vectors vectors, VectorSimilarity similarity, int maxConnections, int beamWidth, long seed) {
+            this.vectors = vectors;
+            this.similarity = similarity;
+            this.maxConnections = maxConnections;
+            this.beamWidth = beamWidth;
+            this.random = new SplittableRandom(seed);
+            this.levelMultiplier = 1 / Math.log(Math.max(2, maxConnections));
+            this.neighbors = new NeighborArray[vectors.size()][];
+            this.visited = new FixedBitSet(Math.max(1, vectors.size()));
+        }
+
+        HnswGraph build() throws IOException {
+            for (int ord = 0; ord < neighbors.length; ord++) {
+                insert(ord);
+            }
+            final int[][][] links = new int[neighbors.length][][];
+            for (int ord = 0; ord < neighbors.length; ord++) {
+                links[ord] = new int[neighbors[ord].length][];
+                for (int level = 0; level < neighbors[ord].length; level++) {
+                    links[ord][level] = ArrayUtil.copyOfSubArray(neighbors[ord][level].ords, 0, neighbors[ord][level].size);
+                }
+            }
+            return new HnswGraph(Math.max(entryPoint, 0), links);
+        }
+
+        private int maxConnections(int level) {
+            return level == 0 ? maxConnections * 2 : maxConnections;
+        }
+
+        private void insert(int ord) throws IOException {
+            final int nodeLevel = (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+            neighbors[ord] = new NeighborArray[nodeLevel + 1];
+            for (int level = 0; level <= nodeLevel; level++) {
+                neighbors[ord][level] = new NeighborArray(maxConnections(level) + 1);
+            }
+            if (entryPoint == -1) {
+                entryPoint = ord;
+                return;
+            }
+            final float[] query = new float[vectors.dimension()];
+            vectors.read(ord, query);
+            final Scorer scorer = new Scorer(query, vectors, similarity);
+            final int topLevel = neighbors[entryPoint].length - 1;
+            int[] entryPoints = new int[] { entryPoint };
+            for (int level = topLevel; level >= 0; level--) {
+                final NeighborQueue candidates = searchLevel(scorer, entryPoints, level > nodeLevel ? 1 : beamWidth, level);
+                // the candidates, sorted by decreasing similarity
+                final int[] ords = new int[candidates.size()];
+                final float[] scores = new float[candidates.size()];
+                for (int i = ords.length - 1; i >= 0; i--) {
+                    ords[i] = candidates.topOrd();
+                    scores[i] = candidates.topScore();
+                    candidates.pop();
+                }
+                if (level <= nodeLevel) {
+                    link(ord, level, ords, scores);
+                }
+                entryPoints = ords;
+            }
+            if (nodeLevel > topLevel) {
+                entryPoint = ord;
+            }
+        }
+
+        private NeighborQueue searchLevel(Scorer scorer, int[] entryPoints, int numCandidates, int level) throws IOException {
+            // clear the nodes that the previous search visited, without clearing the whole set
+            for (int i = 0; i < visitedCount; i++) {
+                visited.clear(visitedOrds[i]);
+            }
+            visitedCount = 0;
+            final NeighborQueue results = new NeighborQueue(numCandidates + 1, false);
+            final NeighborQueue candidates = new NeighborQueue(numCandidates, true);
+            for (int entryPoint : entryPoints) {
+                if (visit(entryPoint)) {
+                    final float score = scorer.score(entryPoint);
+                    candidates.push(entryPoint, score);
+                    results.push(entryPoint, score);
+                }
+            }
+            while (results.size() > numCandidates) {
+                results.pop();
+            }
+            while (candidates.size() > 0) {
+                final int candidate = candidates.topOrd();
+                final float candidateScore = candidates.topScore();
+                candidates.pop();
+                if (results.size() >= numCandidates && candidateScore < results.topScore()) {
+                    break;
+                }
+                final NeighborArray candidateNeighbors = neighbors[candidate][level];
+                for (int i = 0; i < candidateNeighbors.size; i++) {
+                    final int neighbor = candidateNeighbors.ords[i];
+                    if (visit(neighbor) == false) {
+                        continue;
+                    }
+                    final float score = scorer.score(neighbor);
+                    if (results.size() < numCandidates || score > results.topScore()) {
+                        candidates.push(neighbor, score);
+                        results.push(neighbor, score);
+                        if (results.size() > numCandidates) {
+                            results.pop();
+                        }
+                    }
+                }
+            }
+            return results;
+        }
+
+        private boolean visit(int ord) {
+            if (visited.getAndSet(ord)) {
+                return false;
+            }
+            visitedOrds = ArrayUtil.grow(visitedOrds, visitedCount + 1);
+            visitedOrds[visitedCount++] = ord;
+            return true;
+        }
+
+        /**
+         * Links a node to a diverse selection of its nearest candidates: a candidate is only selected if it's closer to the node
+         * than to the neighbors that are already selected, so that the node links to every direction of its neighborhood. The
+         * nearest remaining candidates fill the free connections.
+         */
+        private void link(int ord, int level, int[] candidates, float[] scores) throws IOException {
+            final int maxConnections = maxConnections(level);
+            final boolean[] selected = new boolean[candidates.length];
+            final float[][] selectedVectors = new float[Math.min(maxConnections, candidates.length)][];
+            int count = 0;
+            for (int i = 0; i < candidates.length && count < selectedVectors.length; i++) {
+                final float[] candidate = new float[vectors.dimension()];
+                vectors.read(candidates[i], candidate);
+                boolean diverse = true;
+                for (int j = 0; j < count; j++) {
+                    if (similarity.compare(candidate, selectedVectors[j]) > scores[i]) {
+                        diverse = false;
+                        break;
+                    }
+                }
+                if (diverse) {
+                    selected[i] = true;
+                    selectedVectors[count++] = candidate;
+                }
+            }
+            for (int i = 0; i < candidates.length && count < selectedVectors.length; i++) {
+                if (selected[i] == false) {
+                    selected[i] = true;
+                    count++;
+                }
+            }
+            for (int i = 0; i < candidates.length; i++) {
+                if (selected[i]) {
+                    neighbors[ord][level].add(candidates[i], scores[i]);
+                    final NeighborArray neighborNeighbors = neighbors[candidates[i]][level];
+                    neighborNeighbors.add(ord, scores[i]);
+                    if (neighborNeighbors.size > maxConnections) {
+                        neighborNeighbors.removeLeastSimilar();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The neighbors of a node on a level while the graph is built, with their similarity to the node.
+     */
+    private static final class NeighborArray {
+
+        private final int[] ords;
+        private final float[] scores;
+        private int size;
+
+        NeighborArray(int capacity) {
+            this.ords = new int[capacity];
+            this.scores = new float[capacity];
+        }
+
+        void add(int ord, float score) {
+            ords[size] = ord;
+            scores[size] = score;
+            size++;
+        }
+
+        void removeLeastSimilar() {
+            int least = 0;
+            for (int i = 1; i < size; i++) {
+                if (scores[i] < scores[least]) {
+                    least = i;
+                }
+            }
+            size--;
+            ords[least] = ords[size];
+            scores[least] = scores[size];
+        }
+    }
+
+    /**
+     * A binary heap of nodes by similarity, either with the most similar node on top or with the least similar one. Nodes are
+     * encoded into a single long whose high bits sort like their similarity and whose low bits hold their ordinal.
+     */
+    private static final class NeighborQueue {
+
+        private final boolean mostSimilarOnTop;
+        private long[] heap;
+        private int size;
+
+        NeighborQueue(int initialCapacity, boolean mostSimilarOnTop) {
+            this.heap = new long[Math.max(1, initialCapacity)];
+            this.mostSimilarOnTop = mostSimilarOnTop;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void push(int ord, float score) {
+            long encoded = ((long) NumericUtils.floatToSortableInt(score) << 32) | (ord & 0xFFFFFFFFL);
+            if (mostSimilarOnTop) {
+                encoded = ~encoded;
+            }
+            heap = ArrayUtil.grow(heap, size + 1);
+            int i = size++;
+            while (i > 0) {
+                final int parent = (i - 1) >>> 1;
+                if (heap[parent] <= encoded) {
+                    break;
+                }
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = encoded;
+        }
+
+        void pop() {
+            final long last = heap[--size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (last <= heap[child]) {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = last;
+        }
+
+        private long top() {
+            return mostSimilarOnTop ? ~heap[0] : heap[0];
+        }
+
+        int topOrd() {
+            return (int) top();
+        }
+
+        float topScore() {
+            return NumericUtils.sortableIntToFloat((int) (top() >> 32));
+        }
+    }
+}
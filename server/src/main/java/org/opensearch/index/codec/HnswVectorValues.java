@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec;
+
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.Nullable;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The vectors of a field of a segment that {@link HnswVectorsFormat} wrote, which can be iterated like any binary doc values
+ * and whose nearest neighbors can be searched through the graph of the segment.
+ */
+public final class HnswVectorValues extends BinaryDocValues {
+
+    private final HnswVectorsFormat.FieldEntry entry;
+    private final HnswVectorsFormat.InputVectors vectors;
+    private int ord = -1;
+    private int doc = -1;
+
+    HnswVectorValues(HnswVectorsFormat.FieldEntry entry, IndexInput data) {
+        this.entry = entry;
+        this.vectors = new HnswVectorsFormat.InputVectors(data, entry.vectorOffset, entry.docs.length, entry.dimension);
+    }
+
+    /**
+     * The number of dimensions of the vectors.
+     */
+    public int dimension() {
+        return entry.dimension;
+    }
+
+    /**
+     * The similarity that the graph of the vectors was built with.
+     */
+    public VectorSimilarity similarity() {
+        return entry.similarity;
+    }
+
+    /**
+     * Searches the approximate nearest neighbors of a vector with the graph of the segment.
+     *
+     * @param acceptDocs the documents that can be returned, or {@code null} to accept every document
+     * @return the nearest documents sorted by decreasing similarity
+     * @see HnswGraph#search
+     */
+    public TopDocs search(float[] query, int topK, int numCandidates, @Nullable Bits acceptDocs) throws IOException {
+        final int[] docs = entry.docs;
+        final Bits acceptOrds = acceptDocs == null ? null : new Bits() {
+            @Override
+            public boolean get(int index) {
+                return acceptDocs.get(docs[index]);
+            }
+
+            @Override
+            public int length() {
+                return docs.length;
+            }
+        };
+        // the search reads vectors through its own copy of the input, so that it doesn't move this iterator
+        final HnswVectorsFormat.InputVectors searchVectors = new HnswVectorsFormat.InputVectors(vectors.input().clone(),
+            entry.vectorOffset, docs.length, entry.dimension);
+        final TopDocs topDocs = entry.graph.search(query, topK, numCandidates, searchVectors, entry.similarity, acceptOrds);
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            scoreDoc.doc = docs[scoreDoc.doc];
+        }
+        return topDocs;
+    }
+
+    @Override
+    public BytesRef binaryValue() throws IOException {
+        return vectors.bytes(ord);
+    }
+
+    @Override
+    public boolean advanceExact(int target) {
+        doc = target;
+        final int index = Arrays.binarySearch(entry.docs, Math.max(ord, 0), entry.docs.length, target);
+        if (index >= 0) {
+            ord = index;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int docID() {
+        return doc;
+    }
+
+    @Override
+    public int nextDoc() {
+        return advance(doc + 1);
+    }
+
+    @Override
+    public int advance(int target) {
+        int index = Arrays.binarySearch(entry.docs, Math.max(ord, 0), entry.docs.length, target);
+        if (index < 0) {
+            index = -1 - index;
+        }
+        ord = index;
+        doc = index < entry.docs.length ? entry.docs[index] : NO_MORE_DOCS;
+        return doc;
+    }
+
+    @Override
+    public long cost() {
+        return entry.docs.length;
+    }
+}
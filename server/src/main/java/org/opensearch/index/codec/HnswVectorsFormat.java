@@ -0,0 +1,398 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.DocValuesConsumer;
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.store.ChecksumIndexInput;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.IOUtils;
+import org.apache.lucene.util.RamUsageEstimator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A doc values format for dense vectors that stores the vectors of every field of a segment along with an {@link HnswGraph} of
+ * them, so that their nearest neighbors can be searched through {@link HnswVectorValues#search}. Vectors are binary doc values
+ * that encode their dimensions as big-endian floats, and all the vectors of a field must have the same number of dimensions.
+ * <p>
+ * The graph of a field is built when the segment is flushed and rebuilt when segments are merged, with the similarity and the
+ * graph parameters of the format instance that writes the segment. Graphs are loaded on heap when segments are opened.
+ */
+public class HnswVectorsFormat extends DocValuesFormat {
+
+    public static final String NAME = "HnswVectors";
+    public static final int DEFAULT_MAX_CONNECTIONS = 16;
+    public static final int DEFAULT_BEAM_WIDTH = 100;
+
+    static final String DATA_CODEC = "HnswVectorsData";
+    static final String DATA_EXTENSION = "hnswd";
+    static final String META_CODEC = "HnswVectorsMetadata";
+    static final String META_EXTENSION = "hnswm";
+    static final int VERSION_START = 0;
+    static final int VERSION_CURRENT = VERSION_START;
+
+    // graphs are built with a fixed seed so that the same vectors always produce the same graph
+    private static final long GRAPH_SEED = 0x5D4E7C2AL;
+
+    private final VectorSimilarity similarity;
+    private final int maxConnections;
+    private final int beamWidth;
+
+    /**
+     * The format that opens segments, it writes graphs with the default parameters and the {@link VectorSimilarity#L2_NORM}
+     * similarity.
+     */
+    public HnswVectorsFormat() {
+        this(VectorSimilarity.L2_NORM, DEFAULT_MAX_CONNECTIONS, DEFAULT_BEAM_WIDTH);
+    }
+
+    public HnswVectorsFormat(VectorSimilarity similarity, int maxConnections, int beamWidth) {
+        super(NAME);
+        this.similarity = similarity;
+        this.maxConnections = maxConnections;
+        this.beamWidth = beamWidth;
+    }
+
+    @Override
+    public DocValuesConsumer fieldsConsumer(SegmentWriteState state) throws IOException {
+        return new Consumer(state, similarity, maxConnections, beamWidth);
+    }
+
+    @Override
+    public DocValuesProducer fieldsProducer(SegmentReadState state) throws IOException {
+        return new Producer(state);
+    }
+
+    @Override
+    public String toString() {
+        return NAME + "(similarity=" + similarity + ", maxConnections=" + maxConnections + ", beamWidth=" + beamWidth + ")";
+    }
+
+    /**
+     * Reads the vectors of a field from a file in which they are written one after the other.
+     */
+    static final class InputVectors implements HnswGraph.Vectors {
+
+        private final IndexInput input;
+        private final long offset;
+        private final int size;
+        private final int dimension;
+        private final byte[] bytes;
+
+        InputVectors(IndexInput input, long offset, int size, int dimension) {
+            this.input = input;
+            this.offset = offset;
+            this.size = size;
+            this.dimension = dimension;
+            this.bytes = new byte[dimension * Float.BYTES];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public int dimension() {
+            return dimension;
+        }
+
+        @Override
+        public void read(int ord, float[] vector) throws IOException {
+            ByteBuffer.wrap(bytes(ord).bytes).asFloatBuffer().get(vector);
+        }
+
+        IndexInput input() {
+            return input;
+        }
+
+        BytesRef bytes(int ord) throws IOException {
+            input.seek(offset + (long) ord * bytes.length);
+            input.readBytes(bytes, 0, bytes.length);
+            return new BytesRef(bytes);
+        }
+    }
+
+    private static class Consumer extends DocValuesConsumer {
+
+        private final SegmentWriteState state;
+        private final VectorSimilarity similarity;
+        private final int maxConnections;
+        private final int beamWidth;
+        private IndexOutput data;
+        private IndexOutput meta;
+
+        Consumer(SegmentWriteState state, VectorSimilarity similarity, int maxConnections, int beamWidth) throws IOException {
+            this.state = state;
+            this.similarity = similarity;
+            this.maxConnections = maxConnections;
+            this.beamWidth = beamWidth;
+            boolean success = false;
+            try {
+                data = state.directory.createOutput(
+                    IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, DATA_EXTENSION), state.context);
+                CodecUtil.writeIndexHeader(data, DATA_CODEC, VERSION_CURRENT, state.segmentInfo.getId(), state.segmentSuffix);
+                meta = state.directory.createOutput(
+                    IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, META_EXTENSION), state.context);
+                CodecUtil.writeIndexHeader(meta, META_CODEC, VERSION_CURRENT, state.segmentInfo.getId(), state.segmentSuffix);
+                success = true;
+            } finally {
+                if (success == false) {
+                    IOUtils.closeWhileHandlingException(this);
+                }
+            }
+        }
+
+        @Override
+        public void addBinaryField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+            // vectors are spilled to a temporary file first, since the graph needs random access to them while it's built
+            final BinaryDocValues values = valuesProducer.getBinary(field);
+            final IndexOutput temp = state.directory.createTempOutput(data.getName(), "temp", state.context);
+            try {
+                int[] docs = new int[16];
+                int count = 0;
+                int length = -1;
+                try {
+                    for (int doc = values.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = values.nextDoc()) {
+                        final BytesRef bytes = values.binaryValue();
+                        if (length == -1) {
+                            length = bytes.length;
+                        }
+                        if (bytes.length != length || length % Float.BYTES != 0) {
+                            throw new IllegalArgumentException("field [" + field.name + "] expects vectors of [" + length
+                                + "] bytes, but got [" + bytes.length + "] bytes");
+                        }
+                        temp.writeBytes(bytes.bytes, bytes.offset, bytes.length);
+                        docs = ArrayUtil.grow(docs, count + 1);
+                        docs[count++] = doc;
+                    }
+                } finally {
+                    temp.close();
+                }
+                final int dimension = Math.max(length, 0) / Float.BYTES;
+                final long vectorOffset = data.getFilePointer();
+                final long graphOffset;
+                try (IndexInput input = state.directory.openInput(temp.getName(), state.context)) {
+                    data.copyBytes(input, input.length());
+                    final HnswGraph.Vectors vectors = new InputVectors(input, 0, count, dimension);
+                    final HnswGraph graph = HnswGraph.build(vectors, similarity, maxConnections, beamWidth, GRAPH_SEED);
+                    graphOffset = data.getFilePointer();
+                    graph.writeTo(data);
+                }
+                meta.writeInt(field.number);
+                meta.writeVInt(dimension);
+                meta.writeByte((byte) similarity.ordinal());
+                meta.writeVInt(count);
+                meta.writeVLong(vectorOffset);
+                meta.writeVLong(graphOffset);
+                int previous = 0;
+                for (int i = 0; i < count; i++) {
+                    meta.writeVInt(docs[i] - previous);
+                    previous = docs[i];
+                }
+            } finally {
+                IOUtils.deleteFilesIgnoringExceptions(state.directory, temp.getName());
+            }
+        }
+
+        @Override
+        public void addNumericField(FieldInfo field, DocValuesProducer valuesProducer) {
+            throw new UnsupportedOperationException("[" + NAME + "] only supports binary doc values");
+        }
+
+        @Override
+        public void addSortedField(FieldInfo field, DocValuesProducer valuesProducer) {
+            throw new UnsupportedOperationException("[" + NAME + "] only supports binary doc values");
+        }
+
+        @Override
+        public void addSortedNumericField(FieldInfo field, DocValuesProducer valuesProducer) {
+            throw new UnsupportedOperationException("[" + NAME + "] only supports binary doc values");
+        }
+
+        @Override
+        public void addSortedSetField(FieldInfo field, DocValuesProducer valuesProducer) {
+            throw new UnsupportedOperationException("[" + NAME + "] only supports binary doc values");
+        }
+
+        @Override
+        public void close() throws IOException {
+            boolean success = false;
+            try {
+                if (meta != null) {
+                    meta.writeInt(-1);
+                    CodecUtil.writeFooter(meta);
+                }
+                if (data != null) {
+                    CodecUtil.writeFooter(data);
+                }
+                success = true;
+            } finally {
+                if (success) {
+                    IOUtils.close(data, meta);
+                } else {
+                    IOUtils.closeWhileHandlingException(data, meta);
+                }
+                data = meta = null;
+            }
+        }
+    }
+
+    /**
+     * The vectors and the graph of a field of a segment.
+     */
+    static final class FieldEntry {
+
+        final int dimension;
+        final VectorSimilarity similarity;
+        final long vectorOffset;
+        final int[] docs;
+        final long graphOffset;
+        HnswGraph graph;
+
+        FieldEntry(int dimension, VectorSimilarity similarity, long vectorOffset, int[] docs, long graphOffset) {
+            this.dimension = dimension;
+            this.similarity = similarity;
+            this.vectorOffset = vectorOffset;
+            this.docs = docs;
+            this.graphOffset = graphOffset;
+        }
+    }
+
+    private static class Producer extends DocValuesProducer {
+
+        private final Map<String, FieldEntry> fields = new HashMap<>();
+        private final IndexInput data;
+
+        Producer(SegmentReadState state) throws IOException {
+            final String metaName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, META_EXTENSION);
+            try (ChecksumIndexInput meta = state.directory.openChecksumInput(metaName, state.context)) {
+                Throwable priorE = null;
+                try {
+                    CodecUtil.checkIndexHeader(meta, META_CODEC, VERSION_START, VERSION_CURRENT, state.segmentInfo.getId(),
+                        state.segmentSuffix);
+                    readFields(meta, state);
+                } catch (Throwable exception) {
+                    priorE = exception;
+                } finally {
+                    CodecUtil.checkFooter(meta, priorE);
+                }
+            }
+            final String dataName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, DATA_EXTENSION);
+            boolean success = false;
+            data = state.directory.openInput(dataName, state.context);
+            try {
+                CodecUtil.checkIndexHeader(data, DATA_CODEC, VERSION_START, VERSION_CURRENT, state.segmentInfo.getId(),
+                    state.segmentSuffix);
+                CodecUtil.retrieveChecksum(data);
+                for (FieldEntry entry : fields.values()) {
+                    data.seek(entry.graphOffset);
+                    entry.graph = HnswGraph.readFrom(data, entry.docs.length);
+                }
+                success = true;
+            } finally {
+                if (success == false) {
+                    IOUtils.closeWhileHandlingException(data);
+                }
+            }
+        }
+
+        private void readFields(ChecksumIndexInput meta, SegmentReadState state) throws IOException {
+            for (int fieldNumber = meta.readInt(); fieldNumber != -1; fieldNumber = meta.readInt()) {
+                final FieldInfo info = state.fieldInfos.fieldInfo(fieldNumber);
+                if (info == null || info.getDocValuesType() != DocValuesType.BINARY) {
+                    throw new CorruptIndexException("invalid vector field number [" + fieldNumber + "]", meta);
+                }
+                final int dimension = meta.readVInt();
+                final int similarity = meta.readByte();
+                if (similarity < 0 || similarity >= VectorSimilarity.values().length) {
+                    throw new CorruptIndexException("invalid vector similarity [" + similarity + "]", meta);
+                }
+                final int[] docs = new int[meta.readVInt()];
+                final long vectorOffset = meta.readVLong();
+                final long graphOffset = meta.readVLong();
+                int doc = 0;
+                for (int i = 0; i < docs.length; i++) {
+                    doc += meta.readVInt();
+                    docs[i] = doc;
+                }
+                fields.put(info.name, new FieldEntry(dimension, VectorSimilarity.values()[similarity], vectorOffset, docs, graphOffset));
+            }
+        }
+
+        @Override
+        public BinaryDocValues getBinary(FieldInfo field) {
+            final FieldEntry entry = fields.get(field.name);
+            if (entry == null) {
+                throw new IllegalArgumentException("field [" + field.name + "] has no vectors");
+            }
+            return new HnswVectorValues(entry, data.clone());
+        }
+
+        @Override
+        public NumericDocValues getNumeric(FieldInfo field) {
+            throw new UnsupportedOperationException("[" + NAME + "] only supports binary doc values");
+        }
+
+        @Override
+        public SortedDocValues getSorted(FieldInfo field) {
+            throw new UnsupportedOperationException("[" + NAME + "] only supports binary doc values");
+        }
+
+        @Override
+        public SortedNumericDocValues getSortedNumeric(FieldInfo field) {
+            throw new UnsupportedOperationException("[" + NAME + "] only supports binary doc values");
+        }
+
+        @Override
+        public SortedSetDocValues getSortedSet(FieldInfo field) {
+            throw new UnsupportedOperationException("[" + NAME + "] only supports binary doc values");
+        }
+
+        @Override
+        public void checkIntegrity() throws IOException {
+            CodecUtil.checksumEntireFile(data);
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            long ramBytesUsed = 0;
+            for (FieldEntry entry : fields.values()) {
+                ramBytesUsed += RamUsageEstimator.sizeOf(entry.docs) + entry.graph.ramBytesUsed();
+            }
+            return ramBytesUsed;
+        }
+
+        @Override
+        public void close() throws IOException {
+            data.close();
+        }
+    }
+}
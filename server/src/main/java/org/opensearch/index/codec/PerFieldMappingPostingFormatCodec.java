@@ -34,11 +34,13 @@ package org.opensearch.index.codec;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.DocValuesFormat;
 import org.apache.lucene.codecs.PostingsFormat;
 import org.apache.lucene.codecs.lucene87.Lucene87StoredFieldsFormat;
 import org.apache.lucene.codecs.lucene87.Lucene87Codec;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.index.mapper.CompletionFieldMapper;
+import org.opensearch.index.mapper.DenseVectorFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
 
@@ -71,9 +73,22 @@ public class PerFieldMappingPostingFormatCodec extends Lucene87Codec {
         if (fieldType == null) {
             logger.warn("no index mapper found for field: [{}] returning default postings format", field);
         } else if (fieldType instanceof CompletionFieldMapper.CompletionFieldType) {
-            return CompletionFieldMapper.CompletionFieldType.postingsFormat();
+            return CompletionFieldMapper.CompletionFieldType.postingsFormat(
+                mapperService.getIndexSettings().getValue(CompletionFieldMapper.INDEX_COMPLETION_FST_OFF_HEAP_SETTING));
         }
         return super.getPostingsFormatForField(field);
     }
 
+    @Override
+    public DocValuesFormat getDocValuesFormatForField(String field) {
+        final MappedFieldType fieldType = mapperService.fieldType(field);
+        if (fieldType instanceof DenseVectorFieldMapper.DenseVectorFieldType) {
+            final DocValuesFormat format = ((DenseVectorFieldMapper.DenseVectorFieldType) fieldType).docValuesFormat();
+            if (format != null) {
+                return format;
+            }
+        }
+        return super.getDocValuesFormatForField(field);
+    }
+
 }
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec;
+
+import java.util.Locale;
+
+/**
+ * The similarity functions that compare dense vectors. Every function scores a pair of vectors with a positive score that is higher
+ * for more similar vectors, so that scores can be used both to rank documents and to navigate nearest neighbor graphs.
+ */
+public enum VectorSimilarity {
+
+    /**
+     * Scores vectors by their euclidean distance, as {@code 1 / (1 + distance^2)}.
+     */
+    L2_NORM {
+        @Override
+        public float compare(float[] first, float[] second) {
+            float distance = 0;
+            for (int i = 0; i < first.length; i++) {
+                final float diff = first[i] - second[i];
+                distance += diff * diff;
+            }
+            return 1 / (1 + distance);
+        }
+    },
+
+    /**
+     * Scores unit vectors by their dot product, as {@code (1 + dot_product) / 2}. It's equivalent to {@link #COSINE} but cheaper, and
+     * requires every vector to be normalized to unit length.
+     */
+    DOT_PRODUCT {
+        @Override
+        public float compare(float[] first, float[] second) {
+            return (1 + dotProduct(first, second)) / 2;
+        }
+
+        @Override
+        public void validate(float[] vector) {
+            final double magnitude = Math.sqrt(dotProduct(vector, vector));
+            if (Math.abs(magnitude - 1) > 1e-4) {
+                throw new IllegalArgumentException("the [" + this + "] similarity can only be used with unit-length vectors, "
+                    + "but the vector has a magnitude of [" + magnitude + "]");
+            }
+        }
+    },
+
+    /**
+     * Scores vectors by the cosine of their angle, as {@code (1 + cosine) / 2}.
+     */
+    COSINE {
+        @Override
+        public float compare(float[] first, float[] second) {
+            float dotProduct = 0;
+            float firstNorm = 0;
+            float secondNorm = 0;
+            for (int i = 0; i < first.length; i++) {
+                dotProduct += first[i] * second[i];
+                firstNorm += first[i] * first[i];
+                secondNorm += second[i] * second[i];
+            }
+            return (float) ((1 + dotProduct / Math.sqrt((double) firstNorm * secondNorm)) / 2);
+        }
+
+        @Override
+        public void validate(float[] vector) {
+            if (dotProduct(vector, vector) == 0) {
+                throw new IllegalArgumentException("the [" + this + "] similarity doesn't support vectors of zero magnitude");
+            }
+        }
+    };
+
+    /**
+     * Scores the similarity of two vectors of the same dimensions.
+     */
+    public abstract float compare(float[] first, float[] second);
+
+    /**
+     * Checks that the given vector can be compared with this similarity.
+     */
+    public void validate(float[] vector) {
+    }
+
+    private static float dotProduct(float[] first, float[] second) {
+        float dotProduct = 0;
+        for (int i = 0; i < first.length; i++) {
+            dotProduct += first[i] * second[i];
+        }
+        return dotProduct;
+    }
+
+    public static VectorSimilarity fromString(String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -33,20 +33,31 @@ package org.opensearch.index.engine;
 
 import com.carrotsearch.hppc.ObjectLongHashMap;
 import com.carrotsearch.hppc.cursors.ObjectLongCursor;
+import org.apache.lucene.codecs.perfield.PerFieldPostingsFormat;
 import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexFileNames;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.index.Terms;
 import org.apache.lucene.search.ReferenceManager;
 import org.apache.lucene.search.suggest.document.CompletionTerms;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
 import org.opensearch.action.ActionListener;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.common.FieldMemoryStats;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.regex.Regex;
 import org.opensearch.common.util.CollectionUtils;
+import org.opensearch.index.codec.Completion84OffHeapPostingsFormat;
 import org.opensearch.search.suggest.completion.CompletionStats;
 
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Supplier;
 
 class CompletionStatsCache implements ReferenceManager.RefreshListener {
@@ -94,11 +105,13 @@ class CompletionStatsCache implements ReferenceManager.RefreshListener {
         // we won the race, nobody else is already computing stats, so it's up to us
         ActionListener.completeWith(newFuture, () -> {
             long sizeInBytes = 0;
+            long offHeapSizeInBytes = 0;
             final ObjectLongHashMap<String> completionFields = new ObjectLongHashMap<>();
 
             try (Engine.Searcher currentSearcher = searcherSupplier.get()) {
                 for (LeafReaderContext atomicReaderContext : currentSearcher.getIndexReader().leaves()) {
                     LeafReader atomicReader = atomicReaderContext.reader();
+                    offHeapSizeInBytes += offHeapSizeInBytes(atomicReader);
                     for (FieldInfo info : atomicReader.getFieldInfos()) {
                         Terms terms = atomicReader.terms(info.name);
                         if (terms instanceof CompletionTerms) {
@@ -111,7 +124,7 @@ class CompletionStatsCache implements ReferenceManager.RefreshListener {
                 }
             }
 
-            return new CompletionStats(sizeInBytes, new FieldMemoryStats(completionFields));
+            return new CompletionStats(sizeInBytes, offHeapSizeInBytes, new FieldMemoryStats(completionFields));
         });
 
         boolean success = false;
@@ -148,7 +161,42 @@ class CompletionStatsCache implements ReferenceManager.RefreshListener {
         } else {
             fieldMemoryStats = null;
         }
-        return new CompletionStats(fullCompletionStats.getSizeInBytes(), fieldMemoryStats);
+        return new CompletionStats(fullCompletionStats.getSizeInBytes(), fullCompletionStats.getOffHeapSizeInBytes(), fieldMemoryStats);
+    }
+
+    /**
+     * The size of the files that hold the suggestion FSTs that the segment reads off-heap. The completion fields of a
+     * segment that share a postings format share these files, so the size is only known per segment and not per field.
+     */
+    private static long offHeapSizeInBytes(LeafReader reader) throws IOException {
+        final Set<String> segmentSuffixes = new HashSet<>();
+        for (FieldInfo info : reader.getFieldInfos()) {
+            if (Completion84OffHeapPostingsFormat.NAME.equals(info.getAttribute(PerFieldPostingsFormat.PER_FIELD_FORMAT_KEY))) {
+                segmentSuffixes.add(Completion84OffHeapPostingsFormat.NAME + "_"
+                    + info.getAttribute(PerFieldPostingsFormat.PER_FIELD_SUFFIX_KEY));
+            }
+        }
+        if (segmentSuffixes.isEmpty()) {
+            return 0;
+        }
+        final SegmentReader segmentReader = Lucene.segmentReader(reader);
+        final SegmentInfo segmentInfo = segmentReader.getSegmentInfo().info;
+        if (segmentInfo.getUseCompoundFile()) {
+            try (Directory directory = segmentInfo.getCodec().compoundFormat().getCompoundReader(segmentReader.directory(),
+                segmentInfo, IOContext.READONCE)) {
+                return fileLengths(directory, segmentInfo, segmentSuffixes);
+            }
+        }
+        return fileLengths(segmentReader.directory(), segmentInfo, segmentSuffixes);
+    }
+
+    private static long fileLengths(Directory directory, SegmentInfo segmentInfo, Set<String> segmentSuffixes) throws IOException {
+        long length = 0;
+        for (String segmentSuffix : segmentSuffixes) {
+            length += directory.fileLength(IndexFileNames.segmentFileName(segmentInfo.name, segmentSuffix,
+                Completion84OffHeapPostingsFormat.DICT_EXTENSION));
+        }
+        return length;
     }
 
     @Override
@@ -76,6 +76,7 @@ import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ReleasableLock;
 import org.opensearch.index.VersionType;
+import org.opensearch.index.get.GetSourceCache;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.Mapping;
 import org.opensearch.index.mapper.ParseContext.Document;
@@ -619,6 +620,13 @@ public abstract class Engine implements Closeable {
         }
 
         if (docIdAndVersion != null) {
+            if (get.sourceCache() != null) {
+                final Translog.Index operation = get.sourceCache().get(get.id(), docIdAndVersion.seqNo, docIdAndVersion.primaryTerm);
+                if (operation != null) {
+                    Releasables.close(searcher);
+                    return getFromOperation(operation);
+                }
+            }
             // don't release the searcher on this path, it is the
             // responsibility of the caller to call GetResult.release
             return new GetResult(searcher, docIdAndVersion, false);
@@ -630,6 +638,17 @@ public abstract class Engine implements Closeable {
 
     public abstract GetResult get(Get get, BiFunction<String, SearcherScope, Searcher> searcherFactory) throws EngineException;
 
+    /**
+     * Returns the result of a get that reads the document written by the given index operation, like realtime gets that read
+     * the document from the translog.
+     */
+    protected static GetResult getFromOperation(Translog.Index operation) {
+        final TranslogLeafReader reader = new TranslogLeafReader(operation);
+        return new GetResult(new Engine.Searcher("realtime_get", reader, IndexSearcher.getDefaultSimilarity(), null,
+            IndexSearcher.getDefaultQueryCachingPolicy(), reader),
+            new DocIdAndVersion(0, operation.version(), operation.seqNo(), operation.primaryTerm(), reader, 0), true);
+    }
+
     /**
      * Acquires a point-in-time reader that can be used to create {@link Engine.Searcher}s on demand.
      */
@@ -1606,6 +1625,7 @@ public abstract class Engine implements Closeable {
         private VersionType versionType = VersionType.INTERNAL;
         private long ifSeqNo = UNASSIGNED_SEQ_NO;
         private long ifPrimaryTerm = UNASSIGNED_PRIMARY_TERM;
+        private GetSourceCache sourceCache;
 
         public Get(boolean realtime, boolean readFromTranslog, String type, String id, Term uid) {
             this.realtime = realtime;
@@ -1672,6 +1692,21 @@ public abstract class Engine implements Closeable {
             return ifPrimaryTerm;
         }
 
+        /**
+         * Sets the cache of recently fetched documents to read the document from if its current version is cached, and to
+         * cache it in when it is read from the translog. Documents read from the cache are returned like documents read from
+         * the translog.
+         */
+        public Get sourceCache(@Nullable GetSourceCache sourceCache) {
+            this.sourceCache = sourceCache;
+            return this;
+        }
+
+        @Nullable
+        public GetSourceCache sourceCache() {
+            return sourceCache;
+        }
+
     }
 
     public static class GetResult implements Releasable {
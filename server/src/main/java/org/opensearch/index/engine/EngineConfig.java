@@ -48,6 +48,7 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.codec.CodecService;
 import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.merge.MergeCoordinator;
 import org.opensearch.index.seqno.RetentionLeases;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.store.Store;
@@ -91,6 +92,8 @@ public final class EngineConfig {
     private final Sort indexSort;
     @Nullable
     private final CircuitBreakerService circuitBreakerService;
+    @Nullable
+    private final MergeCoordinator mergeCoordinator;
     private final LongSupplier globalCheckpointSupplier;
     private final Supplier<RetentionLeases> retentionLeasesSupplier;
 
@@ -155,6 +158,29 @@ public final class EngineConfig {
                         Supplier<RetentionLeases> retentionLeasesSupplier,
                         LongSupplier primaryTermSupplier,
                         TombstoneDocSupplier tombstoneDocSupplier) {
+        this(shardId, threadPool, indexSettings, warmer, store, mergePolicy, analyzer, similarity, codecService, eventListener,
+            queryCache, queryCachingPolicy, translogConfig, flushMergesAfter, externalRefreshListener, internalRefreshListener,
+            indexSort, circuitBreakerService, null, globalCheckpointSupplier, retentionLeasesSupplier, primaryTermSupplier,
+            tombstoneDocSupplier);
+    }
+
+    /**
+     * Creates a new {@link org.opensearch.index.engine.EngineConfig} whose merges are coordinated with the merges of the other
+     * shards of the node by the given {@link MergeCoordinator}
+     */
+    public EngineConfig(ShardId shardId, ThreadPool threadPool,
+                        IndexSettings indexSettings, Engine.Warmer warmer, Store store,
+                        MergePolicy mergePolicy, Analyzer analyzer,
+                        Similarity similarity, CodecService codecService, Engine.EventListener eventListener,
+                        QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
+                        TranslogConfig translogConfig, TimeValue flushMergesAfter,
+                        List<ReferenceManager.RefreshListener> externalRefreshListener,
+                        List<ReferenceManager.RefreshListener> internalRefreshListener, Sort indexSort,
+                        CircuitBreakerService circuitBreakerService, @Nullable MergeCoordinator mergeCoordinator,
+                        LongSupplier globalCheckpointSupplier,
+                        Supplier<RetentionLeases> retentionLeasesSupplier,
+                        LongSupplier primaryTermSupplier,
+                        TombstoneDocSupplier tombstoneDocSupplier) {
         this.shardId = shardId;
         this.indexSettings = indexSettings;
         this.threadPool = threadPool;
@@ -188,6 +214,7 @@ public final class EngineConfig {
         this.internalRefreshListener = internalRefreshListener;
         this.indexSort = indexSort;
         this.circuitBreakerService = circuitBreakerService;
+        this.mergeCoordinator = mergeCoordinator;
         this.globalCheckpointSupplier = globalCheckpointSupplier;
         this.retentionLeasesSupplier = Objects.requireNonNull(retentionLeasesSupplier);
         this.primaryTermSupplier = primaryTermSupplier;
@@ -374,6 +401,14 @@ public final class EngineConfig {
         return this.circuitBreakerService;
     }
 
+    /**
+     * Returns the coordinator of the merges of all shards of the node, or {@code null} if merges are only scheduled per shard.
+     */
+    @Nullable
+    public MergeCoordinator getMergeCoordinator() {
+        return mergeCoordinator;
+    }
+
     /**
      * Returns a supplier that supplies the latest primary term value of the associated shard.
      */
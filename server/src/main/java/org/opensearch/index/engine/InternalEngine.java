@@ -44,6 +44,7 @@ import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.LiveIndexWriterConfig;
 import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.OneMergeHelper;
 import org.apache.lucene.index.SegmentCommitInfo;
 import org.apache.lucene.index.SegmentInfos;
 import org.apache.lucene.index.ShuffleForcedMergePolicy;
@@ -85,8 +86,11 @@ import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.KeyedLock;
 import org.opensearch.common.util.concurrent.ReleasableLock;
 import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.IndexModule;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.VersionType;
+import org.opensearch.index.cache.query.CostBasedQueryCachingPolicy;
+import org.opensearch.index.cache.query.MergedSegmentQueryCacheWarmer;
 import org.opensearch.index.fieldvisitor.IdOnlyFieldVisitor;
 import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.index.mapper.MapperService;
@@ -95,6 +99,7 @@ import org.opensearch.index.mapper.ParsedDocument;
 import org.opensearch.index.mapper.SeqNoFieldMapper;
 import org.opensearch.index.mapper.SourceFieldMapper;
 import org.opensearch.index.mapper.Uid;
+import org.opensearch.index.merge.MergeCoordinator;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.merge.OnGoingMerge;
 import org.opensearch.index.seqno.LocalCheckpointTracker;
@@ -238,7 +243,8 @@ public class InternalEngine extends Engine {
         boolean success = false;
         try {
             this.lastDeleteVersionPruneTimeMSec = engineConfig.getThreadPool().relativeTimeInMillis();
-            mergeScheduler = scheduler = new EngineMergeScheduler(engineConfig.getShardId(), engineConfig.getIndexSettings());
+            mergeScheduler = scheduler = new EngineMergeScheduler(engineConfig.getShardId(), engineConfig.getIndexSettings(),
+                engineConfig.getMergeCoordinator());
             throttle = new IndexThrottle();
             try {
                 trimUnsafeCommits(engineConfig);
@@ -704,17 +710,23 @@ public class InternalEngine extends Engine {
                     if (get.isReadFromTranslog()) {
                         // this is only used for updates - API _GET calls will always read form a reader for consistency
                         // the update call doesn't need the consistency since it's source only + _parent but parent can go away in 7.0
+                        if (get.sourceCache() != null) {
+                            // the version map holds the current version of the document, which may have been fetched recently
+                            final Translog.Index cached = get.sourceCache().get(get.id(), versionValue.seqNo, versionValue.term);
+                            if (cached != null) {
+                                return getFromOperation(cached);
+                            }
+                        }
                         if (versionValue.getLocation() != null) {
                             try {
                                 Translog.Operation operation = translog.readOperation(versionValue.getLocation());
                                 if (operation != null) {
                                     // in the case of a already pruned translog generation we might get null here - yet very unlikely
                                     final Translog.Index index = (Translog.Index) operation;
-                                    TranslogLeafReader reader = new TranslogLeafReader(index);
-                                    return new GetResult(new Engine.Searcher("realtime_get", reader,
-                                        IndexSearcher.getDefaultSimilarity(), null, IndexSearcher.getDefaultQueryCachingPolicy(), reader),
-                                        new VersionsAndSeqNoResolver.DocIdAndVersion(0, index.version(), index.seqNo(), index.primaryTerm(),
-                                            reader, 0), true);
+                                    if (get.sourceCache() != null) {
+                                        get.sourceCache().put(index);
+                                    }
+                                    return getFromOperation(index);
                                 }
                             } catch (IOException e) {
                                 maybeFailEngine("realtime_get", e); // lets check if the translog has failed with a tragic event
@@ -2340,6 +2352,12 @@ public class InternalEngine extends Engine {
         if (config().getIndexSort() != null) {
             iwc.setIndexSort(config().getIndexSort());
         }
+        if (engineConfig.getQueryCache() != null && engineConfig.getQueryCachingPolicy() instanceof CostBasedQueryCachingPolicy) {
+            final IndexSettings indexSettings = engineConfig.getIndexSettings();
+            iwc.setMergedSegmentWarmer(new MergedSegmentQueryCacheWarmer(shardId, engineConfig.getQueryCache(),
+                (CostBasedQueryCachingPolicy) engineConfig.getQueryCachingPolicy(),
+                () -> indexSettings.getValue(IndexModule.INDEX_QUERY_CACHE_WARM_MERGED_SEGMENTS_SETTING), logger));
+        }
         return iwc;
     }
 
@@ -2413,8 +2431,13 @@ public class InternalEngine extends Engine {
         private final AtomicInteger numMergesInFlight = new AtomicInteger(0);
         private final AtomicBoolean isThrottling = new AtomicBoolean();
 
-        EngineMergeScheduler(ShardId shardId, IndexSettings indexSettings) {
-            super(shardId, indexSettings);
+        EngineMergeScheduler(ShardId shardId, IndexSettings indexSettings, MergeCoordinator mergeCoordinator) {
+            super(shardId, indexSettings, mergeCoordinator);
+        }
+
+        @Override
+        protected int segmentCount() {
+            return OneMergeHelper.getSegmentCount(indexWriter);
         }
 
         @Override
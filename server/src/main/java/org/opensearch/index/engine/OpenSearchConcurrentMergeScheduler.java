@@ -37,6 +37,9 @@ import org.apache.lucene.index.ConcurrentMergeScheduler;
 import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.index.MergeScheduler;
 import org.apache.lucene.index.OneMergeHelper;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
@@ -47,6 +50,7 @@ import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.MergeSchedulerConfig;
+import org.opensearch.index.merge.MergeCoordinator;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.merge.OnGoingMerge;
 import org.opensearch.index.shard.ShardId;
@@ -78,10 +82,13 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
     private final Set<OnGoingMerge> onGoingMerges = ConcurrentCollections.newConcurrentSet();
     private final Set<OnGoingMerge> readOnlyOnGoingMerges = Collections.unmodifiableSet(onGoingMerges);
     private final MergeSchedulerConfig config;
+    @Nullable
+    private final MergeCoordinator mergeCoordinator;
 
-    OpenSearchConcurrentMergeScheduler(ShardId shardId, IndexSettings indexSettings) {
+    OpenSearchConcurrentMergeScheduler(ShardId shardId, IndexSettings indexSettings, @Nullable MergeCoordinator mergeCoordinator) {
         this.config = indexSettings.getMergeSchedulerConfig();
         this.shardId = shardId;
+        this.mergeCoordinator = mergeCoordinator;
         this.indexSettings = indexSettings.getSettings();
         this.logger = Loggers.getLogger(getClass(), shardId);
         refreshConfig();
@@ -108,10 +115,17 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
                 OneMergeHelper.getSegmentName(merge), merge.segments.size(), totalNumDocs, new ByteSizeValue(totalSizeInBytes),
                 new ByteSizeValue(merge.estimatedMergeBytes));
         }
+        Releasable mergePermit = null;
         try {
             beforeMerge(onGoingMerge);
+            if (mergeCoordinator != null) {
+                mergePermit = mergeCoordinator.acquire(totalSizeInBytes, segmentCount(), merge::isAborted);
+            }
             super.doMerge(mergeSource, merge);
         } finally {
+            if (mergePermit != null) {
+                mergePermit.close();
+            }
             long tookMS = TimeValue.nsecToMSec(System.nanoTime() - timeNS);
 
             onGoingMerges.remove(onGoingMerge);
@@ -161,6 +175,14 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
      */
     protected void beforeMerge(OnGoingMerge merge) {}
 
+    /**
+     * The number of segments of the shard, used by the {@link MergeCoordinator} to let merges of shards with many segments
+     * run first.
+     */
+    protected int segmentCount() {
+        return 0;
+    }
+
     /**
      * A callback allowing for custom logic before an actual merge starts.
      */
@@ -173,6 +195,12 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
         return this;
     }
 
+    @Override
+    public Directory wrapForMerge(MergePolicy.OneMerge merge, Directory in) {
+        final Directory wrapped = super.wrapForMerge(merge, in);
+        return mergeCoordinator == null ? wrapped : mergeCoordinator.wrapForMerge(wrapped);
+    }
+
     @Override
     protected boolean maybeStall(MergeSource mergeSource) {
         // Don't stall here, because we do our own index throttling (in InternalEngine.IndexThrottle) when merges can't keep up
@@ -124,6 +124,10 @@ public abstract class ScriptDocValues<T> extends AbstractList<T> {
             values = ArrayUtil.grow(values, count);
         }
 
+        public SortedNumericDocValues getInternalValues() {
+            return this.in;
+        }
+
         public long getValue() {
             return get(0);
         }
@@ -172,6 +172,13 @@ public class FieldsVisitor extends StoredFieldVisitor {
         return source;
     }
 
+    /**
+     * The id of the document, which unlike {@link #uid()} doesn't require {@link #postProcess} to be called first.
+     */
+    public String id() {
+        return id;
+    }
+
     public Uid uid() {
         if (id == null) {
             return null;
@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.get;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.CircuitBreakingException;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.index.translog.Translog;
+
+import java.io.Closeable;
+
+/**
+ * A size-bounded cache of the last fetched version of the recently fetched documents of a shard, so that repeated gets of a
+ * document that didn't change neither read the translog nor load and decompress its stored fields.
+ * <p>
+ * Documents are cached as the index operations that wrote them, and an entry is only returned for the sequence number and
+ * primary term of the current version of the document, which callers resolve from the live version map or from the index.
+ * The memory of the entries is accounted on the {@link CircuitBreaker#ACCOUNTING} breaker, and documents that would trip it
+ * aren't cached.
+ */
+public final class GetSourceCache implements Closeable {
+
+    private final Cache<String, Translog.Index> cache;
+    private final CircuitBreaker breaker;
+    private final CounterMetric hits = new CounterMetric();
+    private final CounterMetric misses = new CounterMetric();
+    private volatile boolean closed;
+
+    public GetSourceCache(ByteSizeValue maxSize, CircuitBreaker breaker) {
+        this.breaker = breaker;
+        this.cache = CacheBuilder.<String, Translog.Index>builder()
+            .setMaximumWeight(maxSize.getBytes())
+            .weigher((id, operation) -> operation.estimateSize())
+            .removalListener(notification -> breaker.addWithoutBreaking(-notification.getValue().estimateSize()))
+            .build();
+    }
+
+    /**
+     * Returns the cached operation that wrote the given version of a document, or {@code null} if that version isn't cached.
+     */
+    @Nullable
+    public Translog.Index get(String id, long seqNo, long primaryTerm) {
+        final Translog.Index operation = cache.get(id);
+        if (operation != null && operation.seqNo() == seqNo && operation.primaryTerm() == primaryTerm) {
+            hits.inc();
+            return operation;
+        }
+        misses.inc();
+        return null;
+    }
+
+    /**
+     * Caches the operation that wrote the current version of a document, replacing the previous versions of the document.
+     */
+    public void put(Translog.Index operation) {
+        if (closed) {
+            return;
+        }
+        try {
+            breaker.addEstimateBytesAndMaybeBreak(operation.estimateSize(), "<get_source_cache>");
+        } catch (CircuitBreakingException e) {
+            // the document is fetched again next time
+            return;
+        }
+        cache.put(operation.id(), operation);
+        if (closed) {
+            cache.invalidate(operation.id(), operation);
+        }
+    }
+
+    public long hitCount() {
+        return hits.count();
+    }
+
+    public long missCount() {
+        return misses.count();
+    }
+
+    public int count() {
+        return cache.count();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        cache.invalidateAll();
+    }
+}
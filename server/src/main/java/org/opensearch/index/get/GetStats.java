@@ -32,6 +32,7 @@
 
 package org.opensearch.index.get;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -48,6 +49,8 @@ public class GetStats implements Writeable, ToXContentFragment {
     private long missingCount;
     private long missingTimeInMillis;
     private long current;
+    private long sourceCacheHitCount;
+    private long sourceCacheMissCount;
 
     public GetStats() {
     }
@@ -58,14 +61,21 @@ public class GetStats implements Writeable, ToXContentFragment {
         missingCount = in.readVLong();
         missingTimeInMillis = in.readVLong();
         current = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            sourceCacheHitCount = in.readVLong();
+            sourceCacheMissCount = in.readVLong();
+        }
     }
 
-    public GetStats(long existsCount, long existsTimeInMillis, long missingCount, long missingTimeInMillis, long current) {
+    public GetStats(long existsCount, long existsTimeInMillis, long missingCount, long missingTimeInMillis, long current,
+                    long sourceCacheHitCount, long sourceCacheMissCount) {
         this.existsCount = existsCount;
         this.existsTimeInMillis = existsTimeInMillis;
         this.missingCount = missingCount;
         this.missingTimeInMillis = missingTimeInMillis;
         this.current = current;
+        this.sourceCacheHitCount = sourceCacheHitCount;
+        this.sourceCacheMissCount = sourceCacheMissCount;
     }
 
     public void add(GetStats stats) {
@@ -85,6 +95,8 @@ public class GetStats implements Writeable, ToXContentFragment {
         missingCount += stats.missingCount;
         missingTimeInMillis += stats.missingTimeInMillis;
         current += stats.current;
+        sourceCacheHitCount += stats.sourceCacheHitCount;
+        sourceCacheMissCount += stats.sourceCacheMissCount;
     }
 
     public long getCount() {
@@ -127,6 +139,20 @@ public class GetStats implements Writeable, ToXContentFragment {
         return this.current;
     }
 
+    /**
+     * The number of gets that read the current version of a document from the cache of recently fetched documents.
+     */
+    public long getSourceCacheHitCount() {
+        return this.sourceCacheHitCount;
+    }
+
+    /**
+     * The number of gets that looked up a document in the cache of recently fetched documents and didn't find its current version.
+     */
+    public long getSourceCacheMissCount() {
+        return this.sourceCacheMissCount;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.GET);
@@ -137,6 +163,8 @@ public class GetStats implements Writeable, ToXContentFragment {
         builder.field(Fields.MISSING_TOTAL, missingCount);
         builder.humanReadableField(Fields.MISSING_TIME_IN_MILLIS, Fields.MISSING_TIME, getMissingTime());
         builder.field(Fields.CURRENT, current);
+        builder.field(Fields.SOURCE_CACHE_HIT_COUNT, sourceCacheHitCount);
+        builder.field(Fields.SOURCE_CACHE_MISS_COUNT, sourceCacheMissCount);
         builder.endObject();
         return builder;
     }
@@ -153,6 +181,8 @@ public class GetStats implements Writeable, ToXContentFragment {
         static final String MISSING_TIME = "missing_time";
         static final String MISSING_TIME_IN_MILLIS = "missing_time_in_millis";
         static final String CURRENT = "current";
+        static final String SOURCE_CACHE_HIT_COUNT = "source_cache_hit_count";
+        static final String SOURCE_CACHE_MISS_COUNT = "source_cache_miss_count";
     }
 
     @Override
@@ -162,5 +192,9 @@ public class GetStats implements Writeable, ToXContentFragment {
         out.writeVLong(missingCount);
         out.writeVLong(missingTimeInMillis);
         out.writeVLong(current);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeVLong(sourceCacheHitCount);
+            out.writeVLong(sourceCacheMissCount);
+        }
     }
 }
@@ -40,7 +40,9 @@ import org.apache.lucene.index.IndexableFieldType;
 import org.apache.lucene.index.StoredFieldVisitor;
 import org.apache.lucene.index.Term;
 import org.opensearch.OpenSearchException;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.document.DocumentField;
@@ -48,6 +50,9 @@ import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndVersion;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.util.set.Sets;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentHelper;
@@ -70,9 +75,13 @@ import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.mapper.Uid;
 import org.opensearch.index.shard.AbstractIndexShardComponent;
 import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -83,23 +92,46 @@ import java.util.stream.Stream;
 import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_PRIMARY_TERM;
 import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
 
-public final class ShardGetService extends AbstractIndexShardComponent {
+public final class ShardGetService extends AbstractIndexShardComponent implements Closeable {
+
+    /**
+     * The maximum size of the cache of recently fetched documents of each shard, see {@link GetSourceCache}. Defaults to
+     * {@code 0b}, which disables the cache.
+     */
+    public static final Setting<ByteSizeValue> INDEX_GET_SOURCE_CACHE_SIZE_SETTING = Setting.byteSizeSetting(
+        "index.get.source_cache.size", new ByteSizeValue(0), new ByteSizeValue(0), new ByteSizeValue(Integer.MAX_VALUE),
+        Property.IndexScope);
+
     private final MapperService mapperService;
     private final MeanMetric existsMetric = new MeanMetric();
     private final MeanMetric missingMetric = new MeanMetric();
     private final CounterMetric currentMetric = new CounterMetric();
     private final IndexShard indexShard;
+    @Nullable
+    private final GetSourceCache sourceCache;
 
     public ShardGetService(IndexSettings indexSettings, IndexShard indexShard,
-                             MapperService mapperService) {
+                             MapperService mapperService, CircuitBreakerService circuitBreakerService) {
         super(indexShard.shardId(), indexSettings);
         this.mapperService = mapperService;
         this.indexShard = indexShard;
+        final ByteSizeValue sourceCacheSize = INDEX_GET_SOURCE_CACHE_SIZE_SETTING.get(indexSettings.getSettings());
+        this.sourceCache = sourceCacheSize.getBytes() > 0
+            ? new GetSourceCache(sourceCacheSize, circuitBreakerService.getBreaker(CircuitBreaker.ACCOUNTING))
+            : null;
     }
 
     public GetStats stats() {
         return new GetStats(existsMetric.count(), TimeUnit.NANOSECONDS.toMillis(existsMetric.sum()),
-            missingMetric.count(), TimeUnit.NANOSECONDS.toMillis(missingMetric.sum()), currentMetric.count());
+            missingMetric.count(), TimeUnit.NANOSECONDS.toMillis(missingMetric.sum()), currentMetric.count(),
+            sourceCache == null ? 0 : sourceCache.hitCount(), sourceCache == null ? 0 : sourceCache.missCount());
+    }
+
+    @Override
+    public void close() {
+        if (sourceCache != null) {
+            sourceCache.close();
+        }
     }
 
     public GetResult get(String type, String id, String[] gFields, boolean realtime, long version,
@@ -190,8 +222,13 @@ public final class ShardGetService extends AbstractIndexShardComponent {
         Engine.GetResult get = null;
         if (type != null) {
             Term uidTerm = new Term(IdFieldMapper.NAME, Uid.encodeId(id));
+            // documents read from the cache are read like documents read from the translog, whose stored fields other than
+            // the ones of the translog are parsed from the source, which is slower than loading them from the index
+            final boolean useSourceCache = realtime && (gFields == null || TranslogLeafReader.ALL_FIELD_NAMES.containsAll(
+                Arrays.asList(gFields)));
             get = indexShard.get(new Engine.Get(realtime, realtime, type, id, uidTerm)
-                .version(version).versionType(versionType).setIfSeqNo(ifSeqNo).setIfPrimaryTerm(ifPrimaryTerm));
+                .version(version).versionType(versionType).setIfSeqNo(ifSeqNo).setIfPrimaryTerm(ifPrimaryTerm)
+                .sourceCache(useSourceCache ? sourceCache : null));
             assert get.isFromTranslog() == false || realtime : "should only read from translog if realtime enabled";
             if (get.exists() == false) {
                 get.close();
@@ -244,6 +281,9 @@ public final class ShardGetService extends AbstractIndexShardComponent {
                 throw new OpenSearchException("Failed to get type [" + type + "] and id [" + id + "]", e);
             }
             source = fieldVisitor.source();
+            if (source != null && get.isFromTranslog() == false) {
+                cacheSource(type, id, docIdAndVersion, source, fieldVisitor.routing(), docMapper);
+            }
 
             // in case we read from translog, some extra steps are needed to make _source consistent and to load stored fields
             if (get.isFromTranslog()) {
@@ -358,6 +398,18 @@ public final class ShardGetService extends AbstractIndexShardComponent {
             get.version(), get.exists(), source, documentFields, metadataFields);
     }
 
+    /**
+     * Caches the source of a document loaded from the index, if it is the original source of the document.
+     */
+    private void cacheSource(String type, String id, DocIdAndVersion docIdAndVersion, BytesReference source, String routing,
+                             DocumentMapper docMapper) {
+        if (sourceCache != null && docMapper.sourceMapper().isComplete() && docIdAndVersion.seqNo >= 0
+            && docIdAndVersion.primaryTerm > 0) {
+            sourceCache.put(new Translog.Index(type, id, docIdAndVersion.seqNo, docIdAndVersion.primaryTerm, docIdAndVersion.version,
+                BytesReference.toBytes(source), routing, IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP));
+        }
+    }
+
     private static FieldsVisitor buildFieldsVisitors(String[] fields, FetchSourceContext fetchSourceContext) {
         if (fields == null || fields.length == 0) {
             return fetchSourceContext.fetchSource() ? new FieldsVisitor(true) : null;
@@ -46,6 +46,8 @@ import org.opensearch.Version;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.ParsingException;
 import org.opensearch.common.logging.DeprecationLogger;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.unit.Fuzziness;
 import org.opensearch.common.util.set.Sets;
 import org.opensearch.common.xcontent.ToXContent;
@@ -54,6 +56,7 @@ import org.opensearch.common.xcontent.XContentParser.NumberType;
 import org.opensearch.common.xcontent.XContentParser.Token;
 import org.opensearch.index.analysis.AnalyzerScope;
 import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.codec.Completion84OffHeapPostingsFormat;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.search.suggest.completion.CompletionSuggester;
 import org.opensearch.search.suggest.completion.context.ContextMapping;
@@ -93,6 +96,19 @@ import java.util.Set;
 public class CompletionFieldMapper extends ParametrizedFieldMapper {
     public static final String CONTENT_TYPE = "completion";
 
+    /**
+     * Whether segments written from now on read the suggestion FSTs of their completion fields from the index files
+     * instead of loading them on heap. Segments keep the format they were written with until they are merged.
+     */
+    public static final Setting<Boolean> INDEX_COMPLETION_FST_OFF_HEAP_SETTING =
+        Setting.boolSetting("index.completion.fst.off_heap", false, Property.IndexScope);
+    /**
+     * Whether the index warmer loads the suggestion FSTs of new segments when they are refreshed, rather than the first
+     * suggest request that needs them.
+     */
+    public static final Setting<Boolean> INDEX_COMPLETION_FST_EAGER_LOAD_SETTING =
+        Setting.boolSetting("index.completion.fst.eager_load", false, Property.IndexScope, Property.Dynamic);
+
     /**
      * Maximum allowed number of completion contexts in a mapping.
      */
@@ -225,6 +241,7 @@ public class CompletionFieldMapper extends ParametrizedFieldMapper {
     public static final class CompletionFieldType extends TermBasedFieldType {
 
         private static PostingsFormat postingsFormat;
+        private static PostingsFormat offHeapPostingsFormat;
 
         private boolean preserveSep = Defaults.DEFAULT_PRESERVE_SEPARATORS;
         private boolean preservePositionIncrements = Defaults.DEFAULT_POSITION_INCREMENTS;
@@ -282,6 +299,19 @@ public class CompletionFieldMapper extends ParametrizedFieldMapper {
             return postingsFormat;
         }
 
+        /**
+         * @return postings format to use for this field-type, which reads the suggestion FSTs off-heap if {@code offHeap}
+         */
+        public static synchronized PostingsFormat postingsFormat(boolean offHeap) {
+            if (offHeap == false) {
+                return postingsFormat();
+            }
+            if (offHeapPostingsFormat == null) {
+                offHeapPostingsFormat = new Completion84OffHeapPostingsFormat();
+            }
+            return offHeapPostingsFormat;
+        }
+
         /**
          * Completion prefix query
          */
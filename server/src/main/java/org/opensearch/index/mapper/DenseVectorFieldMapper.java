@@ -0,0 +1,232 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.document.BinaryDocValuesField;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.index.codec.HnswVectorsFormat;
+import org.opensearch.index.codec.VectorSimilarity;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.QueryShardException;
+import org.opensearch.search.lookup.SearchLookup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A field that indexes a dense vector of floats per document, so that the documents whose vectors are the most similar to a
+ * query vector can be found with the {@code knn} query. Vectors of fields that are indexed are stored with an {@link HnswVectorsFormat}
+ * graph per segment, which finds approximate nearest neighbors without comparing the query vector to every vector of the segment.
+ * Vectors of fields that aren't indexed are only stored in doc values and are compared one by one.
+ */
+public class DenseVectorFieldMapper extends ParametrizedFieldMapper {
+
+    public static final String CONTENT_TYPE = "dense_vector";
+    public static final int MAX_DIMS = 1024;
+
+    private static DenseVectorFieldMapper toType(FieldMapper in) {
+        return (DenseVectorFieldMapper) in;
+    }
+
+    public static class Builder extends ParametrizedFieldMapper.Builder {
+
+        private final Parameter<Integer> dims = new Parameter<>("dims", false, () -> null,
+            (n, c, o) -> XContentMapValues.nodeIntegerValue(o), m -> toType(m).dims)
+            .setValidator(dims -> {
+                if (dims == null) {
+                    throw new IllegalArgumentException("Field [dims] is required");
+                }
+                if (dims < 1 || dims > MAX_DIMS) {
+                    throw new IllegalArgumentException("[dims] must be between 1 and " + MAX_DIMS + " but was [" + dims + "]");
+                }
+            });
+        private final Parameter<Boolean> indexed = Parameter.indexParam(m -> toType(m).indexed, false);
+        private final Parameter<String> similarity = Parameter.restrictedStringParam("similarity", false,
+            m -> toType(m).similarity.toString(), VectorSimilarity.L2_NORM.toString(), VectorSimilarity.DOT_PRODUCT.toString(),
+            VectorSimilarity.COSINE.toString());
+        private final Parameter<Integer> maxConnections = Parameter.intParam("m", false, m -> toType(m).maxConnections,
+            HnswVectorsFormat.DEFAULT_MAX_CONNECTIONS).setValidator(v -> validateGraphParameter("m", v, 2, 512));
+        private final Parameter<Integer> beamWidth = Parameter.intParam("ef_construction", false, m -> toType(m).beamWidth,
+            HnswVectorsFormat.DEFAULT_BEAM_WIDTH).setValidator(v -> validateGraphParameter("ef_construction", v, 1, 4096));
+        private final Parameter<Map<String, String>> meta = Parameter.metaParam();
+
+        public Builder(String name) {
+            super(name);
+        }
+
+        private static void validateGraphParameter(String name, int value, int min, int max) {
+            if (value < min || value > max) {
+                throw new IllegalArgumentException("[" + name + "] must be between " + min + " and " + max + " but was [" + value + "]");
+            }
+        }
+
+        @Override
+        public List<Parameter<?>> getParameters() {
+            return Arrays.asList(dims, indexed, similarity, maxConnections, beamWidth, meta);
+        }
+
+        @Override
+        public DenseVectorFieldMapper build(BuilderContext context) {
+            final VectorSimilarity similarity = VectorSimilarity.fromString(this.similarity.getValue());
+            final DocValuesFormat format = indexed.getValue()
+                ? new HnswVectorsFormat(similarity, maxConnections.getValue(), beamWidth.getValue())
+                : null;
+            return new DenseVectorFieldMapper(name, new DenseVectorFieldType(buildFullName(context), dims.getValue(),
+                similarity, format, meta.getValue()), multiFieldsBuilder.build(this, context), copyTo.build(), this);
+        }
+    }
+
+    public static final TypeParser PARSER = new TypeParser((n, c) -> new Builder(n));
+
+    public static final class DenseVectorFieldType extends MappedFieldType {
+
+        private final int dims;
+        private final VectorSimilarity similarity;
+        private final DocValuesFormat docValuesFormat;
+
+        public DenseVectorFieldType(String name, int dims, VectorSimilarity similarity, @Nullable DocValuesFormat docValuesFormat,
+                                    Map<String, String> meta) {
+            super(name, false, false, true, TextSearchInfo.NONE, meta);
+            this.dims = dims;
+            this.similarity = similarity;
+            this.docValuesFormat = docValuesFormat;
+        }
+
+        /**
+         * The number of dimensions of the vectors of the field.
+         */
+        public int dims() {
+            return dims;
+        }
+
+        public VectorSimilarity similarity() {
+            return similarity;
+        }
+
+        /**
+         * The doc values format that indexes the vectors of the field into nearest neighbor graphs, or {@code null} if the field
+         * isn't indexed.
+         */
+        @Nullable
+        public DocValuesFormat docValuesFormat() {
+            return docValuesFormat;
+        }
+
+        @Override
+        public String typeName() {
+            return CONTENT_TYPE;
+        }
+
+        @Override
+        public ValueFetcher valueFetcher(MapperService mapperService, SearchLookup searchLookup, String format) {
+            return SourceValueFetcher.identity(name(), mapperService, format);
+        }
+
+        @Override
+        public Query termQuery(Object value, QueryShardContext context) {
+            throw new QueryShardException(context, "[" + CONTENT_TYPE + "] fields do not support term queries, use the [knn] "
+                + "query instead: [" + name() + "]");
+        }
+    }
+
+    private final int dims;
+    private final boolean indexed;
+    private final VectorSimilarity similarity;
+    private final int maxConnections;
+    private final int beamWidth;
+
+    protected DenseVectorFieldMapper(String simpleName, MappedFieldType mappedFieldType,
+                                     MultiFields multiFields, CopyTo copyTo, Builder builder) {
+        super(simpleName, mappedFieldType, multiFields, copyTo);
+        this.dims = builder.dims.getValue();
+        this.indexed = builder.indexed.getValue();
+        this.similarity = VectorSimilarity.fromString(builder.similarity.getValue());
+        this.maxConnections = builder.maxConnections.getValue();
+        this.beamWidth = builder.beamWidth.getValue();
+    }
+
+    @Override
+    public DenseVectorFieldType fieldType() {
+        return (DenseVectorFieldType) super.fieldType();
+    }
+
+    @Override
+    public boolean parsesArrayValue() {
+        return true;
+    }
+
+    @Override
+    protected void parseCreateField(ParseContext context) throws IOException {
+        if (context.externalValueSet()) {
+            throw new IllegalArgumentException("Field [" + name() + "] of type [" + typeName() + "] can't be used in multi-fields");
+        }
+        if (context.doc().getByKey(fieldType().name()) != null) {
+            throw new IllegalArgumentException("Field [" + name() + "] of type [" + typeName()
+                + "] doesn't support indexing multiple vectors into the same document");
+        }
+        final XContentParser parser = context.parser();
+        if (parser.currentToken() != XContentParser.Token.START_ARRAY) {
+            throw new MapperParsingException("Field [" + name() + "] of type [" + typeName()
+                + "] expects an array of numbers, but got [" + parser.currentToken() + "]");
+        }
+        final float[] vector = new float[dims];
+        int dim = 0;
+        for (XContentParser.Token token = parser.nextToken(); token != XContentParser.Token.END_ARRAY; token = parser.nextToken()) {
+            if (token != XContentParser.Token.VALUE_NUMBER) {
+                throw new MapperParsingException("Field [" + name() + "] of type [" + typeName()
+                    + "] expects an array of numbers, but got [" + token + "]");
+            }
+            if (dim == dims) {
+                throw new IllegalArgumentException("Field [" + name() + "] of type [" + typeName() + "] expects vectors of ["
+                    + dims + "] dimensions, but got more");
+            }
+            final float value = parser.floatValue();
+            if (Float.isFinite(value) == false) {
+                throw new IllegalArgumentException("Field [" + name() + "] of type [" + typeName()
+                    + "] only supports finite values, but got [" + value + "]");
+            }
+            vector[dim++] = value;
+        }
+        if (dim != dims) {
+            throw new IllegalArgumentException("Field [" + name() + "] of type [" + typeName() + "] expects vectors of ["
+                + dims + "] dimensions, but got [" + dim + "]");
+        }
+        similarity.validate(vector);
+        final ByteBuffer bytes = ByteBuffer.allocate(dims * Float.BYTES);
+        bytes.asFloatBuffer().put(vector);
+        context.doc().addWithKey(fieldType().name(), new BinaryDocValuesField(fieldType().name(), new BytesRef(bytes.array())));
+    }
+
+    /**
+     * Decodes a vector of the doc values of a {@code dense_vector} field.
+     */
+    public static float[] decode(BytesRef bytes) {
+        final float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes.bytes, bytes.offset, bytes.length).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    @Override
+    public ParametrizedFieldMapper.Builder getMergeBuilder() {
+        return new Builder(simpleName()).init(this);
+    }
+
+    @Override
+    protected String contentType() {
+        return CONTENT_TYPE;
+    }
+}
@@ -141,6 +141,8 @@ public class DocumentMapper implements ToXContentFragment {
     private final MetadataFieldMapper[] deleteTombstoneMetadataFieldMappers;
     private final MetadataFieldMapper[] noopTombstoneMetadataFieldMappers;
 
+    private volatile DocumentParsePlan parsePlan;
+
     public DocumentMapper(MapperService mapperService, Mapping mapping) {
         this.mapperService = mapperService;
         this.type = mapping.root().name();
@@ -236,6 +238,19 @@ public class DocumentMapper implements ToXContentFragment {
         return mappers().objectMappers();
     }
 
+    /**
+     * The plan that resolves the fields of parsed documents to their mappers, which is compiled on first use.
+     */
+    DocumentParsePlan parsePlan() {
+        DocumentParsePlan plan = parsePlan;
+        if (plan == null) {
+            // compiling the plan twice concurrently is harmless
+            plan = new DocumentParsePlan(mapping);
+            parsePlan = plan;
+        }
+        return plan;
+    }
+
     public ParsedDocument parse(SourceToParse source) throws MapperParsingException {
         return documentParser.parseDocument(source, mapping.metadataMappers);
     }
@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.common.Nullable;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Resolves the field names of parsed documents to the mappers that parse them. Resolving a field name generically
+ * builds its full path, splits it on dots and walks the object mappers along the path, which adds up for every field of
+ * every document. The plan instead maps, for every object mapper of a {@link Mapping}, all the names under which the
+ * object's fields can appear in a document straight to their mappers, including the dotted names that expand to the
+ * fields of sub-objects and the names of the metadata fields.
+ * <p>
+ * A plan is compiled for a given mapping and is replaced along with its {@link DocumentMapper} when the mapping changes.
+ * Names that it doesn't resolve, like the names of dynamic fields or of fields under nested or disabled intermediate
+ * objects, must be resolved generically.
+ */
+final class DocumentParsePlan {
+
+    private final Map<ObjectMapper, Map<String, Mapper>> objects = new IdentityHashMap<>();
+
+    DocumentParsePlan(Mapping mapping) {
+        compile(mapping.root, "", mapping.metadataMappersByName);
+    }
+
+    /**
+     * The mapper of the given field name of an object, or {@code null} if the name must be resolved generically.
+     */
+    @Nullable
+    Mapper getMapper(ObjectMapper objectMapper, String fieldName) {
+        final Map<String, Mapper> fields = objects.get(objectMapper);
+        return fields == null ? null : fields.get(fieldName);
+    }
+
+    private Map<String, Mapper> compile(ObjectMapper objectMapper, String prefix, Map<String, MetadataFieldMapper> metadataMappers) {
+        final Map<String, Mapper> fields = new HashMap<>();
+        for (Mapper mapper : objectMapper) {
+            fields.put(mapper.simpleName(), mapper);
+            if (mapper instanceof ObjectMapper) {
+                final ObjectMapper child = (ObjectMapper) mapper;
+                final Map<String, Mapper> childFields = compile(child, prefix + child.simpleName() + ".", metadataMappers);
+                // dotted names only expand through enabled objects that aren't nested
+                if (child.isEnabled() && child.nested().isNested() == false) {
+                    for (Map.Entry<String, Mapper> childField : childFields.entrySet()) {
+                        fields.put(child.simpleName() + "." + childField.getKey(), childField.getValue());
+                    }
+                }
+            }
+        }
+        // metadata fields take precedence over the object fields whose full path is the same
+        for (Map.Entry<String, MetadataFieldMapper> metadataMapper : metadataMappers.entrySet()) {
+            if (metadataMapper.getKey().startsWith(prefix)) {
+                fields.put(metadataMapper.getKey().substring(prefix.length()), metadataMapper.getValue());
+            }
+        }
+        objects.put(objectMapper, fields);
+        return fields;
+    }
+}
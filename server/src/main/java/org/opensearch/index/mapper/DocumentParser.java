@@ -36,6 +36,7 @@ import org.apache.lucene.document.Field;
 import org.apache.lucene.index.IndexableField;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.Strings;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.Settings;
@@ -415,26 +416,34 @@ final class DocumentParser {
     private static void innerParseObject(ParseContext context, ObjectMapper mapper, XContentParser parser,
                                          String currentFieldName, XContentParser.Token token) throws IOException {
         assert token == XContentParser.Token.FIELD_NAME || token == XContentParser.Token.END_OBJECT;
+        final DocumentParsePlan parsePlan = context.docMapper().parsePlan();
         String[] paths = null;
+        Mapper fieldMapper = null;
         while (token != XContentParser.Token.END_OBJECT) {
             if (token == XContentParser.Token.FIELD_NAME) {
                 currentFieldName = parser.currentName();
-                paths = splitAndValidatePath(currentFieldName);
-                if (containsDisabledObjectMapper(mapper, paths)) {
-                    parser.nextToken();
-                    parser.skipChildren();
+                // mapped fields resolve through the parse plan, the others need their path to be split and resolved
+                fieldMapper = parsePlan.getMapper(mapper, currentFieldName);
+                if (fieldMapper == null) {
+                    paths = splitAndValidatePath(currentFieldName);
+                    if (containsDisabledObjectMapper(mapper, paths)) {
+                        parser.nextToken();
+                        parser.skipChildren();
+                    }
+                } else {
+                    paths = null;
                 }
             } else if (token == XContentParser.Token.START_OBJECT) {
-                parseObject(context, mapper, currentFieldName, paths);
+                parseObject(context, mapper, currentFieldName, paths, fieldMapper);
             } else if (token == XContentParser.Token.START_ARRAY) {
-                parseArray(context, mapper, currentFieldName, paths);
+                parseArray(context, mapper, currentFieldName, paths, fieldMapper);
             } else if (token == XContentParser.Token.VALUE_NULL) {
-                parseNullValue(context, mapper, currentFieldName, paths);
+                parseNullValue(context, mapper, currentFieldName, paths, fieldMapper);
             } else if (token == null) {
                 throw new MapperParsingException("object mapping for [" + mapper.name() + "] tried to parse field [" + currentFieldName
                     + "] as object, but got EOF, has a concrete value been provided to it?");
             } else if (token.isValue()) {
-                parseValue(context, mapper, currentFieldName, token, paths);
+                parseValue(context, mapper, currentFieldName, token, paths, fieldMapper);
             }
             token = parser.nextToken();
         }
@@ -506,10 +515,10 @@ final class DocumentParser {
     }
 
     private static void parseObject(final ParseContext context, ObjectMapper mapper, String currentFieldName,
-                                    String[] paths) throws IOException {
+                                    String[] paths, @Nullable Mapper resolvedMapper) throws IOException {
         assert currentFieldName != null;
 
-        Mapper objectMapper = getMapper(context, mapper, currentFieldName, paths);
+        Mapper objectMapper = resolvedMapper != null ? resolvedMapper : getMapper(context, mapper, currentFieldName, paths);
         if (objectMapper != null) {
             context.path().add(currentFieldName);
             parseObjectOrField(context, objectMapper);
@@ -543,10 +552,10 @@ final class DocumentParser {
     }
 
     private static void parseArray(ParseContext context, ObjectMapper parentMapper, String lastFieldName,
-                                   String[] paths) throws IOException {
+                                   String[] paths, @Nullable Mapper resolvedMapper) throws IOException {
         String arrayFieldName = lastFieldName;
 
-        Mapper mapper = getMapper(context, parentMapper, lastFieldName, paths);
+        Mapper mapper = resolvedMapper != null ? resolvedMapper : getMapper(context, parentMapper, lastFieldName, paths);
         if (mapper != null) {
             // There is a concrete mapper for this field already. Need to check if the mapper
             // expects an array, if so we pass the context straight to the mapper and if not
@@ -554,7 +563,7 @@ final class DocumentParser {
             if (parsesArrayValue(mapper)) {
                 parseObjectOrField(context, mapper);
             } else {
-                parseNonDynamicArray(context, parentMapper, lastFieldName, arrayFieldName);
+                parseNonDynamicArray(context, parentMapper, lastFieldName, arrayFieldName, mapper);
             }
         } else {
             arrayFieldName = paths[paths.length - 1];
@@ -567,7 +576,7 @@ final class DocumentParser {
             } else if (dynamic == ObjectMapper.Dynamic.TRUE) {
                 Mapper.Builder builder = context.root().findTemplateBuilder(context, arrayFieldName, XContentFieldType.OBJECT);
                 if (builder == null) {
-                    parseNonDynamicArray(context, parentMapper, lastFieldName, arrayFieldName);
+                    parseNonDynamicArray(context, parentMapper, lastFieldName, arrayFieldName, null);
                 } else {
                     Mapper.BuilderContext builderContext = new Mapper.BuilderContext(context.indexSettings().getSettings(), context.path());
                     mapper = builder.build(builderContext);
@@ -578,12 +587,12 @@ final class DocumentParser {
                         parseObjectOrField(context, mapper);
                         context.path().remove();
                     } else {
-                        parseNonDynamicArray(context, parentMapper, lastFieldName, arrayFieldName);
+                        parseNonDynamicArray(context, parentMapper, lastFieldName, arrayFieldName, null);
                     }
                 }
             } else {
                 // TODO: shouldn't this skip, not parse?
-                parseNonDynamicArray(context, parentMapper, lastFieldName, arrayFieldName);
+                parseNonDynamicArray(context, parentMapper, lastFieldName, arrayFieldName, null);
             }
             for (int i = 0; i < parentMapperTuple.v1(); i++) {
                 context.path().remove();
@@ -595,35 +604,36 @@ final class DocumentParser {
         return mapper instanceof FieldMapper && ((FieldMapper) mapper).parsesArrayValue();
     }
 
-    private static void parseNonDynamicArray(ParseContext context, ObjectMapper mapper,
-                                             final String lastFieldName, String arrayFieldName) throws IOException {
+    private static void parseNonDynamicArray(ParseContext context, ObjectMapper mapper, final String lastFieldName,
+                                             String arrayFieldName, @Nullable Mapper resolvedMapper) throws IOException {
         XContentParser parser = context.parser();
         XContentParser.Token token;
-        final String[] paths = splitAndValidatePath(lastFieldName);
+        // the elements of the array resolve to the same mapper as the array itself
+        final String[] paths = resolvedMapper == null ? splitAndValidatePath(lastFieldName) : null;
         while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
             if (token == XContentParser.Token.START_OBJECT) {
-                parseObject(context, mapper, lastFieldName, paths);
+                parseObject(context, mapper, lastFieldName, paths, resolvedMapper);
             } else if (token == XContentParser.Token.START_ARRAY) {
-                parseArray(context, mapper, lastFieldName, paths);
+                parseArray(context, mapper, lastFieldName, paths, resolvedMapper);
             } else if (token == XContentParser.Token.VALUE_NULL) {
-                parseNullValue(context, mapper, lastFieldName, paths);
+                parseNullValue(context, mapper, lastFieldName, paths, resolvedMapper);
             } else if (token == null) {
                 throw new MapperParsingException("object mapping for [" + mapper.name() + "] with array for [" + arrayFieldName
                     + "] tried to parse as array, but got EOF, is there a mismatch in types for the same field?");
             } else {
                 assert token.isValue();
-                parseValue(context, mapper, lastFieldName, token, paths);
+                parseValue(context, mapper, lastFieldName, token, paths, resolvedMapper);
             }
         }
     }
 
-    private static void parseValue(final ParseContext context, ObjectMapper parentMapper,
-                                   String currentFieldName, XContentParser.Token token, String[] paths) throws IOException {
+    private static void parseValue(final ParseContext context, ObjectMapper parentMapper, String currentFieldName,
+                                   XContentParser.Token token, String[] paths, @Nullable Mapper resolvedMapper) throws IOException {
         if (currentFieldName == null) {
             throw new MapperParsingException("object mapping [" + parentMapper.name() + "] trying to serialize a value with"
                 + " no field associated with it, current value [" + context.parser().textOrNull() + "]");
         }
-        Mapper mapper = getMapper(context, parentMapper, currentFieldName, paths);
+        Mapper mapper = resolvedMapper != null ? resolvedMapper : getMapper(context, parentMapper, currentFieldName, paths);
         if (mapper != null) {
             parseObjectOrField(context, mapper);
         } else {
@@ -638,9 +648,9 @@ final class DocumentParser {
     }
 
     private static void parseNullValue(ParseContext context, ObjectMapper parentMapper, String lastFieldName,
-                                       String[] paths) throws IOException {
+                                       String[] paths, @Nullable Mapper resolvedMapper) throws IOException {
         // we can only handle null values if we have mappings for them
-        Mapper mapper = getMapper(context, parentMapper, lastFieldName, paths);
+        Mapper mapper = resolvedMapper != null ? resolvedMapper : getMapper(context, parentMapper, lastFieldName, paths);
         if (mapper != null) {
             // TODO: passing null to an object seems bogus?
             parseObjectOrField(context, mapper);
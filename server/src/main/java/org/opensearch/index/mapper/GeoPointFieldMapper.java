@@ -34,16 +34,22 @@ package org.opensearch.index.mapper;
 import org.apache.lucene.document.FieldType;
 import org.apache.lucene.document.LatLonDocValuesField;
 import org.apache.lucene.document.LatLonPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.geo.GeoEncodingUtils;
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexOptions;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.Query;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.common.Explicit;
+import org.opensearch.common.ParseField;
 import org.opensearch.common.geo.GeoPoint;
 import org.opensearch.common.geo.GeoUtils;
 import org.opensearch.common.geo.ShapeRelation;
 import org.opensearch.common.unit.DistanceUnit;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.support.XContentMapValues;
 import org.opensearch.geometry.Geometry;
 import org.opensearch.geometry.Point;
 import org.opensearch.index.fielddata.IndexFieldData;
@@ -51,14 +57,17 @@ import org.opensearch.index.fielddata.plain.AbstractLatLonPointIndexFieldData;
 import org.opensearch.index.mapper.GeoPointFieldMapper.ParsedGeoPoint;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.query.VectorGeoPointShapeQueryProcessor;
+import org.opensearch.search.aggregations.bucket.geogrid.GeoTileUtils;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
 import org.opensearch.search.lookup.SearchLookup;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 import java.util.function.Supplier;
 
 /**
@@ -68,6 +77,7 @@ import java.util.function.Supplier;
  */
 public class GeoPointFieldMapper extends AbstractPointGeometryFieldMapper<List<ParsedGeoPoint>, List<? extends GeoPoint>> {
     public static final String CONTENT_TYPE = "geo_point";
+    public static final ParseField TILE_PRECISIONS = new ParseField("tile_precisions");
     public static final FieldType FIELD_TYPE = new FieldType();
 
     static {
@@ -78,17 +88,36 @@ public class GeoPointFieldMapper extends AbstractPointGeometryFieldMapper<List<P
 
     public static class Builder extends AbstractPointGeometryFieldMapper.Builder<Builder, GeoPointFieldType> {
 
+        private List<Integer> tilePrecisions = Collections.emptyList();
+
         public Builder(String name) {
             super(name, FIELD_TYPE);
             hasDocValues = true;
             builder = this;
         }
 
+        /**
+         * Sets the geotile zoom levels whose tile ids are indexed as doc values next to the points.
+         */
+        public Builder tilePrecisions(List<Integer> tilePrecisions) {
+            TreeSet<Integer> precisions = new TreeSet<>();
+            for (Integer precision : tilePrecisions) {
+                precisions.add(GeoTileUtils.checkPrecisionRange(precision));
+            }
+            this.tilePrecisions = Collections.unmodifiableList(new ArrayList<>(precisions));
+            return this;
+        }
+
         @Override
         public GeoPointFieldMapper build(BuilderContext context, String simpleName, FieldType fieldType,
                                          MultiFields multiFields, Explicit<Boolean> ignoreMalformed,
                                          Explicit<Boolean> ignoreZValue, ParsedPoint nullValue, CopyTo copyTo) {
-            GeoPointFieldType ft = new GeoPointFieldType(buildFullName(context), indexed, fieldType.stored(), hasDocValues, meta);
+            if (tilePrecisions.isEmpty() == false && hasDocValues == false) {
+                throw new IllegalArgumentException("[" + TILE_PRECISIONS.getPreferredName() + "] requires [doc_values] on field ["
+                    + name + "]");
+            }
+            GeoPointFieldType ft = new GeoPointFieldType(buildFullName(context), indexed, fieldType.stored(), hasDocValues,
+                tilePrecisions, meta);
             ft.setGeometryParser(new PointParser<>(name, ParsedGeoPoint::new, (parser, point) -> {
                 GeoUtils.parseGeoPoint(parser, point, ignoreZValue().value());
                 return point;
@@ -104,6 +133,27 @@ public class GeoPointFieldMapper extends AbstractPointGeometryFieldMapper<List<P
             return new GeoPointFieldMapper.Builder(name);
         }
 
+        @Override
+        public Builder parse(String name, Map<String, Object> node, Map<String, Object> params, ParserContext parserContext) {
+            Builder builder = super.parse(name, node, params, parserContext);
+            for (Iterator<Map.Entry<String, Object>> iterator = node.entrySet().iterator(); iterator.hasNext();) {
+                Map.Entry<String, Object> entry = iterator.next();
+                if (TILE_PRECISIONS.match(entry.getKey(), LoggingDeprecationHandler.INSTANCE)) {
+                    List<Integer> precisions = new ArrayList<>();
+                    if (entry.getValue() instanceof List) {
+                        for (Object precision : (List<?>) entry.getValue()) {
+                            precisions.add(XContentMapValues.nodeIntegerValue(precision));
+                        }
+                    } else {
+                        precisions.add(XContentMapValues.nodeIntegerValue(entry.getValue()));
+                    }
+                    builder.tilePrecisions(precisions);
+                    iterator.remove();
+                }
+            }
+            return builder;
+        }
+
         protected ParsedGeoPoint parseNullValue(Object nullValue, boolean ignoreZValue, boolean ignoreMalformed) {
             ParsedGeoPoint point = new ParsedGeoPoint();
             GeoUtils.parseGeoPoint(nullValue, point, ignoreZValue);
@@ -161,6 +211,40 @@ public class GeoPointFieldMapper extends AbstractPointGeometryFieldMapper<List<P
         for (GeoPoint point : points) {
             context.doc().add(new LatLonDocValuesField(fieldType().name(), point.lat(), point.lon()));
         }
+        for (int precision : fieldType().tilePrecisions()) {
+            String tileFieldName = tileFieldName(fieldType().name(), precision);
+            for (GeoPoint point : points) {
+                // tiles are computed from the encoded point, the same way aggregations compute them from the point doc values
+                double lat = GeoEncodingUtils.decodeLatitude(GeoEncodingUtils.encodeLatitude(point.lat()));
+                double lon = GeoEncodingUtils.decodeLongitude(GeoEncodingUtils.encodeLongitude(point.lon()));
+                context.doc().add(new SortedNumericDocValuesField(tileFieldName, GeoTileUtils.longEncode(lon, lat, precision)));
+            }
+        }
+    }
+
+    /**
+     * Returns the name of the doc values field holding the ids of the geotiles at the given zoom level of the points of a field
+     * that lists the zoom level in its [tile_precisions].
+     */
+    public static String tileFieldName(String fieldName, int precision) {
+        return fieldName + "._tile_" + precision;
+    }
+
+    @Override
+    protected void mergeOptions(FieldMapper other, List<String> conflicts) {
+        super.mergeOptions(other, conflicts);
+        GeoPointFieldMapper gpfm = (GeoPointFieldMapper) other;
+        if (fieldType().tilePrecisions().equals(gpfm.fieldType().tilePrecisions()) == false) {
+            conflicts.add("mapper [" + name() + "] has different [" + TILE_PRECISIONS.getPreferredName() + "] values");
+        }
+    }
+
+    @Override
+    public void doXContentBody(XContentBuilder builder, boolean includeDefaults, Params params) throws IOException {
+        super.doXContentBody(builder, includeDefaults, params);
+        if (includeDefaults || fieldType().tilePrecisions().isEmpty() == false) {
+            builder.field(TILE_PRECISIONS.getPreferredName(), fieldType().tilePrecisions());
+        }
     }
 
     @Override
@@ -177,14 +261,24 @@ public class GeoPointFieldMapper extends AbstractPointGeometryFieldMapper<List<P
         implements GeoShapeQueryable {
 
         private final VectorGeoPointShapeQueryProcessor queryProcessor;
+        private final List<Integer> tilePrecisions;
 
-        private GeoPointFieldType(String name, boolean indexed, boolean stored, boolean hasDocValues, Map<String, String> meta) {
+        private GeoPointFieldType(String name, boolean indexed, boolean stored, boolean hasDocValues, List<Integer> tilePrecisions,
+                                  Map<String, String> meta) {
             super(name, indexed, stored, hasDocValues, meta);
             this.queryProcessor = new VectorGeoPointShapeQueryProcessor();
+            this.tilePrecisions = tilePrecisions;
         }
 
         public GeoPointFieldType(String name) {
-            this(name, true, false, true, Collections.emptyMap());
+            this(name, true, false, true, Collections.emptyList(), Collections.emptyMap());
+        }
+
+        /**
+         * The sorted geotile zoom levels whose tile ids are indexed as doc values, see {@link #tileFieldName(String, int)}.
+         */
+        public List<Integer> tilePrecisions() {
+            return tilePrecisions;
         }
 
         @Override
@@ -0,0 +1,200 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import com.carrotsearch.hppc.BitMixer;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.hash.MurmurHash3;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.index.fielddata.IndexFieldData;
+import org.opensearch.index.fielddata.plain.BytesBinaryIndexFieldData;
+import org.opensearch.index.mapper.BinaryFieldMapper.CustomBinaryDocValuesField;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.QueryShardException;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+import org.opensearch.search.aggregations.support.SketchValuesSourceType;
+import org.opensearch.search.lookup.SearchLookup;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A field that stores a HyperLogLog++ sketch of the values that are indexed into it, so that the {@code cardinality}
+ * aggregation can merge sketches instead of hashing every single value at search time. Rollups can use it to keep
+ * the distinct values of many raw documents in a single document.
+ * <p>
+ * Values are hashed the same way that {@code cardinality} hashes the values of {@code keyword} and {@code long} or
+ * {@code double} fields, so a sketch counts the same distinct values as the raw field would.
+ */
+public class HllSketchFieldMapper extends ParametrizedFieldMapper {
+
+    public static final String CONTENT_TYPE = "hll_sketch";
+
+    private static HllSketchFieldMapper toType(FieldMapper in) {
+        return (HllSketchFieldMapper) in;
+    }
+
+    public static class Builder extends ParametrizedFieldMapper.Builder {
+
+        private final Parameter<Integer> precision = Parameter.intParam("precision", false,
+            m -> toType(m).precision, HyperLogLogPlusPlus.DEFAULT_PRECISION)
+            .setValidator(Builder::validatePrecision);
+        private final Parameter<Map<String, String>> meta = Parameter.metaParam();
+
+        public Builder(String name) {
+            super(name);
+        }
+
+        private static void validatePrecision(int precision) {
+            if (precision < HyperLogLogPlusPlus.MIN_PRECISION || precision > HyperLogLogPlusPlus.MAX_PRECISION) {
+                throw new IllegalArgumentException("[precision] must be between " + HyperLogLogPlusPlus.MIN_PRECISION
+                    + " and " + HyperLogLogPlusPlus.MAX_PRECISION + " but was [" + precision + "]");
+            }
+        }
+
+        @Override
+        public List<Parameter<?>> getParameters() {
+            return Arrays.asList(precision, meta);
+        }
+
+        @Override
+        public HllSketchFieldMapper build(BuilderContext context) {
+            return new HllSketchFieldMapper(name, new HllSketchFieldType(buildFullName(context), precision.getValue(),
+                meta.getValue()), multiFieldsBuilder.build(this, context), copyTo.build(), this);
+        }
+    }
+
+    public static final TypeParser PARSER = new TypeParser((n, c) -> new Builder(n));
+
+    public static final class HllSketchFieldType extends MappedFieldType {
+
+        private final int precision;
+
+        public HllSketchFieldType(String name, int precision, Map<String, String> meta) {
+            super(name, false, false, true, TextSearchInfo.NONE, meta);
+            this.precision = precision;
+        }
+
+        /**
+         * The precision of the sketches of the field, sketches can only be merged with sketches of the same precision.
+         */
+        public int precision() {
+            return precision;
+        }
+
+        @Override
+        public String typeName() {
+            return CONTENT_TYPE;
+        }
+
+        @Override
+        public ValueFetcher valueFetcher(MapperService mapperService, SearchLookup searchLookup, String format) {
+            return SourceValueFetcher.identity(name(), mapperService, format);
+        }
+
+        @Override
+        public IndexFieldData.Builder fielddataBuilder(String fullyQualifiedIndexName, Supplier<SearchLookup> searchLookup) {
+            return new BytesBinaryIndexFieldData.Builder(name(), SketchValuesSourceType.HLL);
+        }
+
+        @Override
+        public Query termQuery(Object value, QueryShardContext context) {
+            throw new QueryShardException(context, "[" + CONTENT_TYPE + "] fields do not support searching, use dedicated "
+                + "aggregations instead: [" + name() + "]");
+        }
+    }
+
+    private final int precision;
+
+    protected HllSketchFieldMapper(String simpleName, MappedFieldType mappedFieldType,
+                                   MultiFields multiFields, CopyTo copyTo, Builder builder) {
+        super(simpleName, mappedFieldType, multiFields, copyTo);
+        this.precision = builder.precision.getValue();
+    }
+
+    @Override
+    public HllSketchFieldType fieldType() {
+        return (HllSketchFieldType) super.fieldType();
+    }
+
+    @Override
+    public boolean parsesArrayValue() {
+        return true;
+    }
+
+    @Override
+    protected void parseCreateField(ParseContext context) throws IOException {
+        if (context.externalValueSet()) {
+            throw new IllegalArgumentException("Field [" + name() + "] of type [" + typeName() + "] can't be used in multi-fields");
+        }
+        final XContentParser parser = context.parser();
+        if (context.doc().getByKey(fieldType().name()) != null) {
+            throw new IllegalArgumentException("Field [" + name() + "] of type [" + typeName()
+                + "] doesn't support indexing multiple sketches into the same document");
+        }
+        final byte[] sketch;
+        try (HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1)) {
+            final MurmurHash3.Hash128 hash = new MurmurHash3.Hash128();
+            if (parser.currentToken() == XContentParser.Token.START_ARRAY) {
+                while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                    collect(parser, counts, hash);
+                }
+            } else {
+                collect(parser, counts, hash);
+            }
+            if (counts.cardinality(0) == 0) {
+                return;
+            }
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                counts.writeTo(0, out);
+                sketch = BytesReference.toBytes(out.bytes());
+            }
+        }
+        context.doc().addWithKey(fieldType().name(), new CustomBinaryDocValuesField(fieldType().name(), sketch));
+    }
+
+    private void collect(XContentParser parser, HyperLogLogPlusPlus counts, MurmurHash3.Hash128 hash) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_NULL:
+                break;
+            case VALUE_NUMBER:
+                final XContentParser.NumberType numberType = parser.numberType();
+                if (numberType == XContentParser.NumberType.INT || numberType == XContentParser.NumberType.LONG) {
+                    counts.collect(0, BitMixer.mix64(parser.longValue()));
+                } else {
+                    counts.collect(0, BitMixer.mix64(Double.doubleToLongBits(parser.doubleValue())));
+                }
+                break;
+            case VALUE_STRING:
+                final BytesRef bytes = new BytesRef(parser.text());
+                counts.collect(0, MurmurHash3.hash128(bytes.bytes, bytes.offset, bytes.length, 0, hash).h1);
+                break;
+            default:
+                throw new MapperParsingException("Field [" + name() + "] of type [" + typeName()
+                    + "] only supports strings and numbers, but got [" + parser.currentToken() + "]");
+        }
+    }
+
+    @Override
+    public ParametrizedFieldMapper.Builder getMergeBuilder() {
+        return new Builder(simpleName()).init(this);
+    }
+
+    @Override
+    protected String contentType() {
+        return CONTENT_TYPE;
+    }
+}
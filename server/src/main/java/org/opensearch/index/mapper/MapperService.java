@@ -128,6 +128,16 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
         Setting.longSetting("index.mapping.depth.limit", 20L, 1, Property.Dynamic, Property.IndexScope);
     public static final Setting<Long> INDEX_MAPPING_FIELD_NAME_LENGTH_LIMIT_SETTING =
         Setting.longSetting("index.mapping.field_name_length.limit", Long.MAX_VALUE, 1L, Property.Dynamic, Property.IndexScope);
+    // whether bulk requests combine the dynamic mapping updates that their documents require into a single update
+    public static final Setting<Boolean> INDEX_MAPPING_BULK_COMBINE_DYNAMIC_UPDATES_SETTING =
+        Setting.boolSetting("index.mapping.bulk.combine_dynamic_updates", false, Property.Dynamic, Property.IndexScope);
+    // whether text fields analyze a value once with the components that their analyzers share with the analyzers of their
+    // multi-fields and copy_to targets, which caches the tokens of each value until the document is indexed
+    public static final Setting<Boolean> INDEX_MAPPING_SHARED_ANALYSIS_ENABLED_SETTING =
+        Setting.boolSetting("index.mapping.shared_analysis.enabled", false, Property.IndexScope);
+    // the maximum number of tokens of a value that are cached for shared analysis, longer values are analyzed per field
+    public static final Setting<Integer> INDEX_MAPPING_SHARED_ANALYSIS_MAX_TOKENS_SETTING =
+        Setting.intSetting("index.mapping.shared_analysis.max_tokens", 1000, 0, Property.IndexScope);
     public static final boolean INDEX_MAPPER_DYNAMIC_DEFAULT = true;
     @Deprecated
     public static final Setting<Boolean> INDEX_MAPPER_DYNAMIC_SETTING =
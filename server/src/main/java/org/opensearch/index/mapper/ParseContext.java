@@ -38,16 +38,20 @@ import org.apache.lucene.document.Field;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.LegacyESVersion;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.analysis.SharedAnalysisPrefix;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public abstract class ParseContext implements Iterable<ParseContext.Document>{
@@ -299,6 +303,16 @@ public abstract class ParseContext implements Iterable<ParseContext.Document>{
         public Collection<String> getIgnoredFields() {
             return in.getIgnoredFields();
         }
+
+        @Override
+        public void shareAnalysis(String field, SharedAnalysisPrefix.Tokens tokens) {
+            in.shareAnalysis(field, tokens);
+        }
+
+        @Override
+        public SharedAnalysisPrefix.Tokens sharedAnalysis(String field, String value) {
+            return in.sharedAnalysis(field, value);
+        }
     }
 
     public static class InternalParseContext extends ParseContext {
@@ -333,6 +347,8 @@ public abstract class ParseContext implements Iterable<ParseContext.Document>{
 
         private final Set<String> ignoredFields = new HashSet<>();
 
+        private Map<String, SharedAnalysisPrefix.Tokens> sharedAnalysis;
+
         public InternalParseContext(IndexSettings indexSettings, DocumentMapperParser docMapperParser, DocumentMapper docMapper,
                                     SourceToParse source, XContentParser parser) {
             this.indexSettings = indexSettings;
@@ -504,6 +520,23 @@ public abstract class ParseContext implements Iterable<ParseContext.Document>{
         public Collection<String> getIgnoredFields() {
             return Collections.unmodifiableCollection(ignoredFields);
         }
+
+        @Override
+        public void shareAnalysis(String field, SharedAnalysisPrefix.Tokens tokens) {
+            if (sharedAnalysis == null) {
+                sharedAnalysis = new HashMap<>();
+            }
+            sharedAnalysis.put(field, tokens);
+        }
+
+        @Override
+        public SharedAnalysisPrefix.Tokens sharedAnalysis(String field, String value) {
+            if (sharedAnalysis == null) {
+                return null;
+            }
+            final SharedAnalysisPrefix.Tokens tokens = sharedAnalysis.remove(field);
+            return tokens != null && tokens.value().equals(value) ? tokens : null;
+        }
     }
 
     /**
@@ -668,4 +701,16 @@ public abstract class ParseContext implements Iterable<ParseContext.Document>{
      * Get dynamic mappers created while parsing.
      */
     public abstract List<Mapper> getDynamicMappers();
+
+    /**
+     * Shares the analysis of a value with a field that parses the same value next, like a multi-field or a
+     * {@code copy_to} target whose analyzer starts with the same components.
+     */
+    public abstract void shareAnalysis(String field, SharedAnalysisPrefix.Tokens tokens);
+
+    /**
+     * Returns the analysis that another field shared with the given field for the given value, if any.
+     */
+    @Nullable
+    public abstract SharedAnalysisPrefix.Tokens sharedAnalysis(String field, String value);
 }
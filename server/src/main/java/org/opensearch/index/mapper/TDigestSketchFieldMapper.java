@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.search.Query;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.index.fielddata.IndexFieldData;
+import org.opensearch.index.fielddata.plain.BytesBinaryIndexFieldData;
+import org.opensearch.index.mapper.BinaryFieldMapper.CustomBinaryDocValuesField;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.QueryShardException;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+import org.opensearch.search.aggregations.support.SketchValuesSourceType;
+import org.opensearch.search.lookup.SearchLookup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A field that stores a TDigest of the values that are indexed into it, so that the {@code percentiles} and
+ * {@code percentile_ranks} aggregations can merge digests instead of adding every single value at search time.
+ * Rollups can use it to keep the distribution of the values of many raw documents in a single document.
+ * <p>
+ * The field takes either a number or an array of numbers, or an object whose {@code values} array holds the distinct
+ * values and whose {@code counts} array holds how many times each of them occurred.
+ */
+public class TDigestSketchFieldMapper extends ParametrizedFieldMapper {
+
+    public static final String CONTENT_TYPE = "tdigest_sketch";
+    public static final double DEFAULT_COMPRESSION = 100.0;
+
+    private static final String VALUES_FIELD = "values";
+    private static final String COUNTS_FIELD = "counts";
+
+    private static TDigestSketchFieldMapper toType(FieldMapper in) {
+        return (TDigestSketchFieldMapper) in;
+    }
+
+    public static class Builder extends ParametrizedFieldMapper.Builder {
+
+        private final Parameter<Double> compression = Parameter.doubleParam("compression", false,
+            m -> toType(m).compression, DEFAULT_COMPRESSION)
+            .setValidator(Builder::validateCompression);
+        private final Parameter<Map<String, String>> meta = Parameter.metaParam();
+
+        public Builder(String name) {
+            super(name);
+        }
+
+        private static void validateCompression(double compression) {
+            if (compression <= 0) {
+                throw new IllegalArgumentException("[compression] must be greater than 0 but was [" + compression + "]");
+            }
+        }
+
+        @Override
+        public List<Parameter<?>> getParameters() {
+            return Arrays.asList(compression, meta);
+        }
+
+        @Override
+        public TDigestSketchFieldMapper build(BuilderContext context) {
+            return new TDigestSketchFieldMapper(name, new TDigestSketchFieldType(buildFullName(context), meta.getValue()),
+                multiFieldsBuilder.build(this, context), copyTo.build(), this);
+        }
+    }
+
+    public static final TypeParser PARSER = new TypeParser((n, c) -> new Builder(n));
+
+    public static final class TDigestSketchFieldType extends MappedFieldType {
+
+        public TDigestSketchFieldType(String name, Map<String, String> meta) {
+            super(name, false, false, true, TextSearchInfo.NONE, meta);
+        }
+
+        @Override
+        public String typeName() {
+            return CONTENT_TYPE;
+        }
+
+        @Override
+        public ValueFetcher valueFetcher(MapperService mapperService, SearchLookup searchLookup, String format) {
+            return SourceValueFetcher.identity(name(), mapperService, format);
+        }
+
+        @Override
+        public IndexFieldData.Builder fielddataBuilder(String fullyQualifiedIndexName, Supplier<SearchLookup> searchLookup) {
+            return new BytesBinaryIndexFieldData.Builder(name(), SketchValuesSourceType.TDIGEST);
+        }
+
+        @Override
+        public Query termQuery(Object value, QueryShardContext context) {
+            throw new QueryShardException(context, "[" + CONTENT_TYPE + "] fields do not support searching, use dedicated "
+                + "aggregations instead: [" + name() + "]");
+        }
+    }
+
+    private final double compression;
+
+    protected TDigestSketchFieldMapper(String simpleName, MappedFieldType mappedFieldType,
+                                       MultiFields multiFields, CopyTo copyTo, Builder builder) {
+        super(simpleName, mappedFieldType, multiFields, copyTo);
+        this.compression = builder.compression.getValue();
+    }
+
+    @Override
+    public boolean parsesArrayValue() {
+        return true;
+    }
+
+    @Override
+    protected void parseCreateField(ParseContext context) throws IOException {
+        if (context.externalValueSet()) {
+            throw new IllegalArgumentException("Field [" + name() + "] of type [" + typeName() + "] can't be used in multi-fields");
+        }
+        if (context.doc().getByKey(fieldType().name()) != null) {
+            throw new IllegalArgumentException("Field [" + name() + "] of type [" + typeName()
+                + "] doesn't support indexing multiple sketches into the same document");
+        }
+        final XContentParser parser = context.parser();
+        final TDigestState digest = new TDigestState(compression);
+        if (parser.currentToken() == XContentParser.Token.START_OBJECT) {
+            parseValuesAndCounts(parser, digest);
+        } else if (parser.currentToken() == XContentParser.Token.START_ARRAY) {
+            while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                if (parser.currentToken() != XContentParser.Token.VALUE_NULL) {
+                    digest.add(parseValue(parser));
+                }
+            }
+        } else if (parser.currentToken() != XContentParser.Token.VALUE_NULL) {
+            digest.add(parseValue(parser));
+        }
+        if (digest.size() == 0) {
+            return;
+        }
+        final byte[] sketch;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            TDigestState.write(digest, out);
+            sketch = BytesReference.toBytes(out.bytes());
+        }
+        context.doc().addWithKey(fieldType().name(), new CustomBinaryDocValuesField(fieldType().name(), sketch));
+    }
+
+    private void parseValuesAndCounts(XContentParser parser, TDigestState digest) throws IOException {
+        List<Double> values = null;
+        List<Long> counts = null;
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            if (token != XContentParser.Token.FIELD_NAME) {
+                throw new MapperParsingException("Field [" + name() + "] of type [" + typeName() + "] expected a field name but got ["
+                    + token + "]");
+            }
+            final String fieldName = parser.currentName();
+            if (parser.nextToken() != XContentParser.Token.START_ARRAY) {
+                throw new MapperParsingException("Field [" + name() + "] of type [" + typeName() + "] expected an array for ["
+                    + fieldName + "] but got [" + parser.currentToken() + "]");
+            }
+            if (VALUES_FIELD.equals(fieldName)) {
+                values = new ArrayList<>();
+                while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                    values.add(parseValue(parser));
+                }
+            } else if (COUNTS_FIELD.equals(fieldName)) {
+                counts = new ArrayList<>();
+                while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                    final long count = parser.longValue();
+                    if (count < 0) {
+                        throw new MapperParsingException("Field [" + name() + "] of type [" + typeName()
+                            + "] doesn't support negative counts but got [" + count + "]");
+                    }
+                    counts.add(count);
+                }
+            } else {
+                throw new MapperParsingException("Field [" + name() + "] of type [" + typeName() + "] doesn't support ["
+                    + fieldName + "], only [" + VALUES_FIELD + "] and [" + COUNTS_FIELD + "]");
+            }
+        }
+        if (values == null || counts == null || values.size() != counts.size()) {
+            throw new MapperParsingException("Field [" + name() + "] of type [" + typeName() + "] expects arrays of values and "
+                + "counts of the same length");
+        }
+        for (int i = 0; i < values.size(); i++) {
+            if (counts.get(i) > 0) {
+                digest.add(values.get(i), Math.toIntExact(counts.get(i)));
+            }
+        }
+    }
+
+    private double parseValue(XContentParser parser) throws IOException {
+        if (parser.currentToken() != XContentParser.Token.VALUE_NUMBER && parser.currentToken() != XContentParser.Token.VALUE_STRING) {
+            throw new MapperParsingException("Field [" + name() + "] of type [" + typeName() + "] only supports numbers, but got ["
+                + parser.currentToken() + "]");
+        }
+        final double value = parser.doubleValue();
+        if (Double.isFinite(value) == false) {
+            throw new MapperParsingException("Field [" + name() + "] of type [" + typeName() + "] only supports finite values, but got ["
+                + value + "]");
+        }
+        return value;
+    }
+
+    @Override
+    public ParametrizedFieldMapper.Builder getMergeBuilder() {
+        return new Builder(simpleName()).init(this);
+    }
+
+    @Override
+    protected String contentType() {
+        return CONTENT_TYPE;
+    }
+}
@@ -75,12 +75,14 @@ import org.opensearch.common.collect.Iterators;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.search.AutomatonQueries;
 import org.opensearch.common.lucene.search.MultiPhrasePrefixQuery;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.support.XContentMapValues;
 import org.opensearch.index.analysis.AnalyzerScope;
 import org.opensearch.index.analysis.IndexAnalyzers;
 import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.analysis.SharedAnalysisPrefix;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.plain.PagedBytesIndexFieldData;
 import org.opensearch.index.mapper.Mapper.TypeParser.ParserContext;
@@ -852,6 +854,7 @@ public class TextFieldMapper extends ParametrizedFieldMapper {
     private final FieldType fieldType;
     private final PrefixFieldMapper prefixFieldMapper;
     private final PhraseFieldMapper phraseFieldMapper;
+    private volatile SharedAnalysisPlan sharedAnalysisPlan;
 
     protected TextFieldMapper(String simpleName, FieldType fieldType,
                               TextFieldType mappedFieldType,
@@ -894,7 +897,7 @@ public class TextFieldMapper extends ParametrizedFieldMapper {
         }
 
         if (fieldType.indexOptions() != IndexOptions.NONE || fieldType.stored()) {
-            Field field = new Field(fieldType().name(), value, fieldType);
+            Field field = createField(context, value);
             context.doc().add(field);
             if (fieldType.omitNorms()) {
                 createFieldNamesField(context);
@@ -908,6 +911,126 @@ public class TextFieldMapper extends ParametrizedFieldMapper {
         }
     }
 
+    /**
+     * Creates the field of a value. If the index shares analysis and the analyzer of the field starts with the same
+     * components as the analyzers of its multi-fields or {@code copy_to} targets, the value is analyzed with these
+     * components only once for all of them and each field only applies its remaining token filters.
+     */
+    private Field createField(ParseContext context, String value) {
+        if (fieldType.indexOptions() == IndexOptions.NONE) {
+            return new Field(fieldType().name(), value, fieldType);
+        }
+        final SharedAnalysisPrefix.Tokens shared = context.sharedAnalysis(fieldType().name(), value);
+        if (shared != null) {
+            final SharedAnalysisPrefix.Replay replay = shared.prefix().replay(fieldType().indexAnalyzer());
+            if (replay != null) {
+                return new SharedAnalysisField(fieldType().name(), value, fieldType, shared, replay);
+            }
+        }
+        final SharedAnalysisPlan plan = sharedAnalysisPlan(context);
+        if (plan == null) {
+            return new Field(fieldType().name(), value, fieldType);
+        }
+        final SharedAnalysisPrefix.Tokens tokens = plan.prefix.tokens(value);
+        for (String field : plan.fields) {
+            context.shareAnalysis(field, tokens);
+        }
+        return new SharedAnalysisField(fieldType().name(), value, fieldType, tokens, plan.replay);
+    }
+
+    private SharedAnalysisPlan sharedAnalysisPlan(ParseContext context) {
+        if (context.isWithinCopyTo() || context.isWithinMultiFields()) {
+            // the fields that parse the value next have already been planned for
+            return null;
+        }
+        SharedAnalysisPlan plan = sharedAnalysisPlan;
+        if (plan == null || plan.docMapper != context.docMapper()) {
+            // copy_to targets are resolved against the current mappings
+            plan = SharedAnalysisPlan.build(this, context.docMapper(), context.indexSettings().getSettings());
+            sharedAnalysisPlan = plan;
+        }
+        return plan.prefix == null ? null : plan;
+    }
+
+    /**
+     * The multi-fields and {@code copy_to} targets of a text field whose analyzers start with the same components as the
+     * analyzer of the field, and the components that all of them share.
+     */
+    private static final class SharedAnalysisPlan {
+        private final DocumentMapper docMapper;
+        private final SharedAnalysisPrefix prefix;
+        private final SharedAnalysisPrefix.Replay replay;
+        private final List<String> fields;
+
+        private SharedAnalysisPlan(DocumentMapper docMapper, SharedAnalysisPrefix prefix, SharedAnalysisPrefix.Replay replay,
+                                   List<String> fields) {
+            this.docMapper = docMapper;
+            this.prefix = prefix;
+            this.replay = replay;
+            this.fields = fields;
+        }
+
+        static SharedAnalysisPlan build(TextFieldMapper mapper, DocumentMapper docMapper, Settings indexSettings) {
+            if (MapperService.INDEX_MAPPING_SHARED_ANALYSIS_ENABLED_SETTING.get(indexSettings) == false) {
+                return new SharedAnalysisPlan(docMapper, null, null, Collections.emptyList());
+            }
+            final List<TextFieldMapper> candidates = new ArrayList<>();
+            for (Mapper multiField : mapper.multiFields) {
+                if (multiField instanceof TextFieldMapper) {
+                    candidates.add((TextFieldMapper) multiField);
+                }
+            }
+            for (String copyToField : mapper.copyTo.copyToFields()) {
+                final Mapper target = docMapper == null ? null : docMapper.mappers().getMapper(copyToField);
+                if (target instanceof TextFieldMapper) {
+                    candidates.add((TextFieldMapper) target);
+                }
+            }
+            final Analyzer analyzer = mapper.fieldType().indexAnalyzer();
+            final List<String> fields = new ArrayList<>();
+            int sharedTokenFilters = Integer.MAX_VALUE;
+            for (TextFieldMapper candidate : candidates) {
+                if (candidate.fieldType.indexOptions() == IndexOptions.NONE) {
+                    continue;
+                }
+                final int shared = SharedAnalysisPrefix.sharedTokenFilters(analyzer, candidate.fieldType().indexAnalyzer());
+                if (shared >= 0) {
+                    fields.add(candidate.fieldType().name());
+                    sharedTokenFilters = Math.min(sharedTokenFilters, shared);
+                }
+            }
+            if (fields.isEmpty()) {
+                return new SharedAnalysisPlan(docMapper, null, null, Collections.emptyList());
+            }
+            final SharedAnalysisPrefix prefix = new SharedAnalysisPrefix(analyzer, sharedTokenFilters,
+                MapperService.INDEX_MAPPING_SHARED_ANALYSIS_MAX_TOKENS_SETTING.get(indexSettings));
+            return new SharedAnalysisPlan(docMapper, prefix, prefix.replay(analyzer), fields);
+        }
+    }
+
+    /**
+     * A field whose tokens are produced from the tokens that the components that its analyzer shares with other fields
+     * produced for the same value.
+     */
+    static final class SharedAnalysisField extends Field {
+        private final SharedAnalysisPrefix.Tokens tokens;
+        private final SharedAnalysisPrefix.Replay replay;
+
+        SharedAnalysisField(String name, String value, FieldType fieldType, SharedAnalysisPrefix.Tokens tokens,
+                            SharedAnalysisPrefix.Replay replay) {
+            super(name, value, fieldType);
+            this.tokens = tokens;
+            this.replay = replay;
+        }
+
+        @Override
+        public TokenStream tokenStream(Analyzer analyzer, TokenStream reuse) {
+            final TokenStream stream = replay.tokenStream(name(), tokens);
+            // values with too many tokens to cache are analyzed by every field on its own
+            return stream != null ? stream : super.tokenStream(analyzer, reuse);
+        }
+    }
+
     @Override
     public Iterator<Mapper> iterator() {
         List<Mapper> subIterators = new ArrayList<>();
@@ -0,0 +1,290 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.merge;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.RateLimitedIndexOutput;
+import org.apache.lucene.store.RateLimiter;
+import org.apache.lucene.store.RateLimiter.SimpleRateLimiter;
+import org.apache.lucene.util.ThreadInterruptedException;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Coordinates the merges of all shards on a node. Every shard has its own merge scheduler which throttles merges
+ * based on the backlog of that shard only. This coordinator additionally bounds the number of merges that run
+ * concurrently on the node, and the total rate at which merges may write to disk, so that many shards being
+ * indexed into at once cannot saturate the disk.
+ * <p>
+ * Merges that cannot run immediately wait for a permit. Permits are handed out to small merges first, and among
+ * merges of a similar size to the shards with the most segments. Merges that waited for longer than
+ * {@link #MAX_QUEUED_TIME_SETTING} go before all others, in arrival order, so that large merges are not starved by
+ * a steady stream of small ones.
+ */
+public final class MergeCoordinator {
+
+    private static final Logger logger = LogManager.getLogger(MergeCoordinator.class);
+
+    public static final Setting<Integer> MAX_CONCURRENT_MERGES_SETTING =
+        new Setting<>("indices.merge.scheduler.max_concurrent_merges",
+            (s) -> Integer.toString(Math.max(2, OpenSearchExecutors.allocatedProcessors(s) / 2)),
+            (s) -> Setting.parseInt(s, 1, "indices.merge.scheduler.max_concurrent_merges"), Property.Dynamic, Property.NodeScope);
+
+    /**
+     * The maximum rate at which all merges of the node together may write. {@code 0} disables the limit, in which
+     * case merges are only throttled by the merge scheduler of their shard.
+     */
+    public static final Setting<ByteSizeValue> MAX_BYTES_PER_SEC_SETTING =
+        Setting.byteSizeSetting("indices.merge.scheduler.max_bytes_per_sec", new ByteSizeValue(0), Property.Dynamic, Property.NodeScope);
+
+    /**
+     * How long a merge may wait for a permit before it is handed the next one regardless of its size. Merges wait on
+     * the merge thread of their shard, so a starved merge would also hold back the other merges of its shard.
+     */
+    public static final Setting<TimeValue> MAX_QUEUED_TIME_SETTING =
+        Setting.positiveTimeSetting("indices.merge.scheduler.max_queued_time", TimeValue.timeValueMinutes(1),
+            Property.Dynamic, Property.NodeScope);
+
+    /**
+     * How often a merge that waits for a permit checks whether it was aborted in the meantime.
+     */
+    private static final TimeValue ABORT_CHECK_INTERVAL = TimeValue.timeValueMillis(100);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+    private final PriorityQueue<PendingMerge> pendingMerges = new PriorityQueue<>(PendingMerge.PRIORITY);
+    private final Deque<PendingMerge> pendingMergesInArrivalOrder = new ArrayDeque<>();
+    private final AtomicLong pendingMergeSequence = new AtomicLong();
+    private int activeMerges;
+    private volatile int maxConcurrentMerges;
+    private volatile TimeValue maxQueuedTime;
+
+    private volatile ByteSizeValue maxBytesPerSec;
+    private volatile SimpleRateLimiter rateLimiter;
+    private final RateLimiter nodeRateLimiter = new NodeRateLimiter();
+
+    private final CounterMetric totalQueued = new CounterMetric();
+    private final CounterMetric totalQueuedTimeInNanos = new CounterMetric();
+    private final CounterMetric totalThrottledTimeInNanos = new CounterMetric();
+
+    public MergeCoordinator(Settings settings, ClusterSettings clusterSettings) {
+        this.maxConcurrentMerges = MAX_CONCURRENT_MERGES_SETTING.get(settings);
+        this.maxQueuedTime = MAX_QUEUED_TIME_SETTING.get(settings);
+        setMaxBytesPerSec(MAX_BYTES_PER_SEC_SETTING.get(settings));
+        clusterSettings.addSettingsUpdateConsumer(MAX_CONCURRENT_MERGES_SETTING, this::setMaxConcurrentMerges);
+        clusterSettings.addSettingsUpdateConsumer(MAX_QUEUED_TIME_SETTING, maxQueuedTime -> this.maxQueuedTime = maxQueuedTime);
+        clusterSettings.addSettingsUpdateConsumer(MAX_BYTES_PER_SEC_SETTING, this::setMaxBytesPerSec);
+        logger.debug("using max_concurrent_merges [{}], max_bytes_per_sec [{}]", maxConcurrentMerges, maxBytesPerSec);
+    }
+
+    private void setMaxConcurrentMerges(int maxConcurrentMerges) {
+        lock.lock();
+        try {
+            this.maxConcurrentMerges = maxConcurrentMerges;
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void setMaxBytesPerSec(ByteSizeValue maxBytesPerSec) {
+        this.maxBytesPerSec = maxBytesPerSec;
+        if (maxBytesPerSec.getBytes() <= 0) {
+            rateLimiter = null;
+        } else if (rateLimiter != null) {
+            rateLimiter.setMBPerSec(maxBytesPerSec.getMbFrac());
+        } else {
+            rateLimiter = new SimpleRateLimiter(maxBytesPerSec.getMbFrac());
+        }
+    }
+
+    /**
+     * Blocks until the given merge may run. Must be called on the merge thread before the merge starts, and the
+     * returned {@link Releasable} must be released once the merge is done. A merge that is aborted while waiting
+     * returns immediately without holding a permit, so that the writer that aborted it is not blocked.
+     *
+     * @param mergeBytes        the total size of the segments being merged
+     * @param shardSegmentCount the number of segments of the shard the merge belongs to
+     * @param isAborted         whether the merge was aborted, see {@link MergePolicy.OneMerge#isAborted()}
+     */
+    public Releasable acquire(long mergeBytes, int shardSegmentCount, BooleanSupplier isAborted) {
+        final long startNanos = System.nanoTime();
+        final PendingMerge pendingMerge = new PendingMerge(mergeBytes, shardSegmentCount, pendingMergeSequence.incrementAndGet(),
+            startNanos);
+        boolean waited = false;
+        lock.lock();
+        try {
+            pendingMerges.add(pendingMerge);
+            pendingMergesInArrivalOrder.add(pendingMerge);
+            try {
+                while (activeMerges >= maxConcurrentMerges || nextMerge() != pendingMerge) {
+                    if (isAborted.getAsBoolean()) {
+                        return () -> {};
+                    }
+                    waited = true;
+                    permitReleased.await(ABORT_CHECK_INTERVAL.millis(), TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ThreadInterruptedException(e);
+            } finally {
+                pendingMerges.remove(pendingMerge);
+                pendingMergesInArrivalOrder.remove(pendingMerge);
+                // the next merge in line may be able to run now
+                permitReleased.signalAll();
+            }
+            activeMerges++;
+        } finally {
+            lock.unlock();
+        }
+        if (waited) {
+            totalQueued.inc();
+            totalQueuedTimeInNanos.inc(System.nanoTime() - startNanos);
+        }
+        return Releasables.releaseOnce(this::release);
+    }
+
+    /**
+     * Returns the waiting merge that gets the next permit: the longest waiting merge if it waited for longer than
+     * {@link #MAX_QUEUED_TIME_SETTING}, and otherwise the merge that goes first by {@link PendingMerge#PRIORITY}.
+     */
+    private PendingMerge nextMerge() {
+        assert lock.isHeldByCurrentThread();
+        final PendingMerge oldest = pendingMergesInArrivalOrder.peekFirst();
+        if (oldest != null && System.nanoTime() - oldest.queuedAtNanos >= maxQueuedTime.nanos()) {
+            return oldest;
+        }
+        return pendingMerges.peek();
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            assert activeMerges > 0 : "released more merges than acquired";
+            activeMerges--;
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wraps the directory a merge writes to so that its writes count against the node wide rate limit. The limit
+     * is only applied if it is enabled when the merge starts.
+     */
+    public Directory wrapForMerge(Directory directory) {
+        if (rateLimiter == null) {
+            return directory;
+        }
+        return new FilterDirectory(directory) {
+            @Override
+            public IndexOutput createOutput(String name, IOContext context) throws IOException {
+                return new RateLimitedIndexOutput(nodeRateLimiter, in.createOutput(name, context));
+            }
+        };
+    }
+
+    public NodeMergeStats stats() {
+        final int active;
+        final int queued;
+        lock.lock();
+        try {
+            active = activeMerges;
+            queued = pendingMerges.size();
+        } finally {
+            lock.unlock();
+        }
+        final ByteSizeValue maxBytesPerSec = this.maxBytesPerSec;
+        return new NodeMergeStats(maxConcurrentMerges, active, queued, totalQueued.count(),
+            TimeValue.nsecToMSec(totalQueuedTimeInNanos.count()), maxBytesPerSec.getBytes() <= 0 ? -1 : maxBytesPerSec.getBytes(),
+            TimeValue.nsecToMSec(totalThrottledTimeInNanos.count()));
+    }
+
+    /**
+     * Delegates to the current node wide rate limiter, which may be changed or disabled while merges are running.
+     */
+    private final class NodeRateLimiter extends RateLimiter {
+
+        @Override
+        public void setMBPerSec(double mbPerSec) {
+            throw new UnsupportedOperationException("the node merge rate is controlled by [" + MAX_BYTES_PER_SEC_SETTING.getKey() + "]");
+        }
+
+        @Override
+        public double getMBPerSec() {
+            final SimpleRateLimiter limiter = rateLimiter;
+            return limiter == null ? Double.POSITIVE_INFINITY : limiter.getMBPerSec();
+        }
+
+        @Override
+        public long pause(long bytes) throws IOException {
+            final SimpleRateLimiter limiter = rateLimiter;
+            if (limiter == null) {
+                return 0;
+            }
+            final long pausedNanos = limiter.pause(bytes);
+            totalThrottledTimeInNanos.inc(pausedNanos);
+            return pausedNanos;
+        }
+
+        @Override
+        public long getMinPauseCheckBytes() {
+            final SimpleRateLimiter limiter = rateLimiter;
+            return limiter == null ? Long.MAX_VALUE : limiter.getMinPauseCheckBytes();
+        }
+    }
+
+    private static final class PendingMerge {
+
+        /**
+         * Merges whose sizes are in the same power of two are considered to be of a similar size, among those the merge
+         * of the shard with the most segments goes first. Ties are broken in arrival order.
+         */
+        static final Comparator<PendingMerge> PRIORITY = Comparator.<PendingMerge>comparingInt(m -> m.sizeBucket)
+            .thenComparing(Comparator.<PendingMerge>comparingInt(m -> m.shardSegmentCount).reversed())
+            .thenComparingLong(m -> m.sequence);
+
+        private final int sizeBucket;
+        private final int shardSegmentCount;
+        private final long sequence;
+        private final long queuedAtNanos;
+
+        PendingMerge(long sizeInBytes, int shardSegmentCount, long sequence, long queuedAtNanos) {
+            this.sizeBucket = 64 - Long.numberOfLeadingZeros(Math.max(0L, sizeInBytes));
+            this.shardSegmentCount = shardSegmentCount;
+            this.sequence = sequence;
+            this.queuedAtNanos = queuedAtNanos;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.merge;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * Statistics of the {@link MergeCoordinator} of a node, which complement the {@link MergeStats} of its shards.
+ */
+public class NodeMergeStats implements Writeable, ToXContentFragment {
+
+    private final int maxConcurrentMerges;
+    private final long current;
+    private final long queued;
+    private final long totalQueued;
+    private final long totalQueuedTimeInMillis;
+    private final long maxBytesPerSec;
+    private final long totalThrottledTimeInMillis;
+
+    public NodeMergeStats(int maxConcurrentMerges, long current, long queued, long totalQueued, long totalQueuedTimeInMillis,
+                          long maxBytesPerSec, long totalThrottledTimeInMillis) {
+        this.maxConcurrentMerges = maxConcurrentMerges;
+        this.current = current;
+        this.queued = queued;
+        this.totalQueued = totalQueued;
+        this.totalQueuedTimeInMillis = totalQueuedTimeInMillis;
+        this.maxBytesPerSec = maxBytesPerSec;
+        this.totalThrottledTimeInMillis = totalThrottledTimeInMillis;
+    }
+
+    public NodeMergeStats(StreamInput in) throws IOException {
+        maxConcurrentMerges = in.readVInt();
+        current = in.readVLong();
+        queued = in.readVLong();
+        totalQueued = in.readVLong();
+        totalQueuedTimeInMillis = in.readVLong();
+        maxBytesPerSec = in.readLong();
+        totalThrottledTimeInMillis = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(maxConcurrentMerges);
+        out.writeVLong(current);
+        out.writeVLong(queued);
+        out.writeVLong(totalQueued);
+        out.writeVLong(totalQueuedTimeInMillis);
+        out.writeLong(maxBytesPerSec);
+        out.writeVLong(totalThrottledTimeInMillis);
+    }
+
+    /**
+     * The maximum number of merges that may run concurrently on the node.
+     */
+    public int getMaxConcurrentMerges() {
+        return maxConcurrentMerges;
+    }
+
+    /**
+     * The number of merges that are currently running on the node.
+     */
+    public long getCurrent() {
+        return current;
+    }
+
+    /**
+     * The number of merges that are currently waiting to run.
+     */
+    public long getQueued() {
+        return queued;
+    }
+
+    /**
+     * The total number of merges that had to wait before they could run.
+     */
+    public long getTotalQueued() {
+        return totalQueued;
+    }
+
+    /**
+     * The total time merges waited before they could run.
+     */
+    public TimeValue getTotalQueuedTime() {
+        return new TimeValue(totalQueuedTimeInMillis);
+    }
+
+    /**
+     * The maximum rate at which all merges of the node together may write, {@code -1} if unlimited.
+     */
+    public long getMaxBytesPerSec() {
+        return maxBytesPerSec;
+    }
+
+    /**
+     * The total time merge writes were paused to stay within the node wide rate limit.
+     */
+    public TimeValue getTotalThrottledTime() {
+        return new TimeValue(totalThrottledTimeInMillis);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.NODE_MERGES);
+        builder.field(Fields.MAX_CONCURRENT_MERGES, maxConcurrentMerges);
+        builder.field(Fields.CURRENT, current);
+        builder.field(Fields.QUEUED, queued);
+        builder.field(Fields.TOTAL_QUEUED, totalQueued);
+        builder.humanReadableField(Fields.TOTAL_QUEUED_TIME_IN_MILLIS, Fields.TOTAL_QUEUED_TIME, getTotalQueuedTime());
+        if (builder.humanReadable() && maxBytesPerSec != -1) {
+            builder.field(Fields.MAX_BYTES_PER_SEC).value(new ByteSizeValue(maxBytesPerSec).toString());
+        }
+        builder.field(Fields.MAX_BYTES_PER_SEC_IN_BYTES, maxBytesPerSec);
+        builder.humanReadableField(Fields.TOTAL_THROTTLED_TIME_IN_MILLIS, Fields.TOTAL_THROTTLED_TIME, getTotalThrottledTime());
+        builder.endObject();
+        return builder;
+    }
+
+    static final class Fields {
+        static final String NODE_MERGES = "node_merges";
+        static final String MAX_CONCURRENT_MERGES = "max_concurrent_merges";
+        static final String CURRENT = "current";
+        static final String QUEUED = "queued";
+        static final String TOTAL_QUEUED = "total_queued";
+        static final String TOTAL_QUEUED_TIME = "total_queued_time";
+        static final String TOTAL_QUEUED_TIME_IN_MILLIS = "total_queued_time_in_millis";
+        static final String MAX_BYTES_PER_SEC = "max_bytes_per_sec";
+        static final String MAX_BYTES_PER_SEC_IN_BYTES = "max_bytes_per_sec_in_bytes";
+        static final String TOTAL_THROTTLED_TIME = "total_throttled_time";
+        static final String TOTAL_THROTTLED_TIME_IN_MILLIS = "total_throttled_time_in_millis";
+    }
+}
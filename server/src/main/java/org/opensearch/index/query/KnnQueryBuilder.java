@@ -0,0 +1,213 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.query;
+
+import org.apache.lucene.search.Query;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.ParseField;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.lucene.search.Queries;
+import org.opensearch.common.xcontent.ConstructingObjectParser;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.index.mapper.DenseVectorFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.search.KnnVectorQuery;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static org.opensearch.common.xcontent.ConstructingObjectParser.constructorArg;
+
+/**
+ * A query that matches the {@code k} documents whose {@code dense_vector} field is the most similar to a query vector, and
+ * scores them by their similarity. The nearest neighbors are searched through the HNSW graphs of fields that are indexed, and
+ * {@code num_candidates} sets how many candidates are tracked per segment, trading speed for accuracy. An optional filter
+ * restricts the neighbors to the documents that match it.
+ */
+public class KnnQueryBuilder extends AbstractQueryBuilder<KnnQueryBuilder> {
+    public static final String NAME = "knn";
+    public static final int DEFAULT_NUM_CANDIDATES = 100;
+    public static final int MAX_NUM_CANDIDATES = 10000;
+
+    private static final ParseField FIELD_FIELD = new ParseField("field");
+    private static final ParseField QUERY_VECTOR_FIELD = new ParseField("query_vector");
+    private static final ParseField K_FIELD = new ParseField("k");
+    private static final ParseField NUM_CANDIDATES_FIELD = new ParseField("num_candidates");
+    private static final ParseField FILTER_FIELD = new ParseField("filter");
+
+    @SuppressWarnings("unchecked")
+    private static final ConstructingObjectParser<KnnQueryBuilder, Void> PARSER = new ConstructingObjectParser<>(NAME, false,
+        args -> new KnnQueryBuilder((String) args[0], toArray((List<Float>) args[1]), (Integer) args[2]));
+
+    static {
+        PARSER.declareString(constructorArg(), FIELD_FIELD);
+        PARSER.declareFloatArray(constructorArg(), QUERY_VECTOR_FIELD);
+        PARSER.declareInt(constructorArg(), K_FIELD);
+        PARSER.declareInt(KnnQueryBuilder::numCandidates, NUM_CANDIDATES_FIELD);
+        PARSER.declareObject(KnnQueryBuilder::filter, (p, c) -> parseInnerQueryBuilder(p), FILTER_FIELD);
+        declareStandardFields(PARSER);
+    }
+
+    private final String field;
+    private final float[] queryVector;
+    private final int k;
+    private int numCandidates;
+    private QueryBuilder filter;
+
+    public KnnQueryBuilder(String field, float[] queryVector, int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("[" + K_FIELD.getPreferredName() + "] must be greater than 0 but was [" + k + "]");
+        }
+        this.field = Objects.requireNonNull(field);
+        this.queryVector = Objects.requireNonNull(queryVector);
+        this.k = k;
+        this.numCandidates = Math.max(k, DEFAULT_NUM_CANDIDATES);
+    }
+
+    public KnnQueryBuilder(StreamInput in) throws IOException {
+        super(in);
+        field = in.readString();
+        queryVector = in.readFloatArray();
+        k = in.readVInt();
+        numCandidates = in.readVInt();
+        filter = in.readOptionalNamedWriteable(QueryBuilder.class);
+    }
+
+    private static float[] toArray(List<Float> values) {
+        final float[] array = new float[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+    public static KnnQueryBuilder fromXContent(XContentParser parser) {
+        return PARSER.apply(parser, null);
+    }
+
+    @Override
+    protected void doWriteTo(StreamOutput out) throws IOException {
+        out.writeString(field);
+        out.writeFloatArray(queryVector);
+        out.writeVInt(k);
+        out.writeVInt(numCandidates);
+        out.writeOptionalNamedWriteable(filter);
+    }
+
+    @Override
+    protected void doXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(NAME);
+        builder.field(FIELD_FIELD.getPreferredName(), field);
+        builder.array(QUERY_VECTOR_FIELD.getPreferredName(), queryVector);
+        builder.field(K_FIELD.getPreferredName(), k);
+        builder.field(NUM_CANDIDATES_FIELD.getPreferredName(), numCandidates);
+        if (filter != null) {
+            builder.field(FILTER_FIELD.getPreferredName(), filter);
+        }
+        printBoostAndQueryName(builder);
+        builder.endObject();
+    }
+
+    public String fieldName() {
+        return field;
+    }
+
+    public float[] queryVector() {
+        return queryVector;
+    }
+
+    public int k() {
+        return k;
+    }
+
+    /**
+     * Sets the number of nearest neighbor candidates to track per segment, at least {@code k}. Defaults to the greatest of
+     * {@code k} and {@value #DEFAULT_NUM_CANDIDATES}.
+     */
+    public KnnQueryBuilder numCandidates(int numCandidates) {
+        if (numCandidates < k || numCandidates > MAX_NUM_CANDIDATES) {
+            throw new IllegalArgumentException("[" + NUM_CANDIDATES_FIELD.getPreferredName() + "] must be between [k] and "
+                + MAX_NUM_CANDIDATES + " but was [" + numCandidates + "]");
+        }
+        this.numCandidates = numCandidates;
+        return this;
+    }
+
+    public int numCandidates() {
+        return numCandidates;
+    }
+
+    /**
+     * Restricts the nearest neighbors to the documents that match the given query.
+     */
+    public KnnQueryBuilder filter(@Nullable QueryBuilder filter) {
+        this.filter = filter;
+        return this;
+    }
+
+    @Nullable
+    public QueryBuilder filter() {
+        return filter;
+    }
+
+    @Override
+    public String getWriteableName() {
+        return NAME;
+    }
+
+    @Override
+    protected QueryBuilder doRewrite(QueryRewriteContext queryRewriteContext) throws IOException {
+        if (filter != null) {
+            final QueryBuilder rewritten = filter.rewrite(queryRewriteContext);
+            if (rewritten != filter) {
+                return new KnnQueryBuilder(field, queryVector, k).numCandidates(numCandidates).filter(rewritten);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    protected Query doToQuery(QueryShardContext context) throws IOException {
+        final MappedFieldType fieldType = context.fieldMapper(field);
+        if (fieldType == null) {
+            return Queries.newMatchNoDocsQuery("Can't run [" + NAME + "] query on unmapped fields!");
+        }
+        if (fieldType instanceof DenseVectorFieldMapper.DenseVectorFieldType == false) {
+            throw new QueryShardException(context, "[" + NAME + "] queries are only supported on ["
+                + DenseVectorFieldMapper.CONTENT_TYPE + "] fields, but [" + field + "] is of type [" + fieldType.typeName() + "]");
+        }
+        final DenseVectorFieldMapper.DenseVectorFieldType vectorFieldType = (DenseVectorFieldMapper.DenseVectorFieldType) fieldType;
+        if (queryVector.length != vectorFieldType.dims()) {
+            throw new QueryShardException(context, "the query vector has [" + queryVector.length + "] dimensions, but [" + field
+                + "] has [" + vectorFieldType.dims() + "] dimensions");
+        }
+        try {
+            vectorFieldType.similarity().validate(queryVector);
+        } catch (IllegalArgumentException e) {
+            throw new QueryShardException(context, "invalid query vector for [" + field + "]: " + e.getMessage(), e);
+        }
+        final Query filterQuery = filter == null ? null : filter.toQuery(context);
+        return new KnnVectorQuery(field, queryVector, k, numCandidates, vectorFieldType.similarity(), filterQuery);
+    }
+
+    @Override
+    protected int doHashCode() {
+        return Objects.hash(field, Arrays.hashCode(queryVector), k, numCandidates, filter);
+    }
+
+    @Override
+    protected boolean doEquals(KnnQueryBuilder other) {
+        return field.equals(other.field) && Arrays.equals(queryVector, other.queryVector) && k == other.k
+            && numCandidates == other.numCandidates && Objects.equals(filter, other.filter);
+    }
+}
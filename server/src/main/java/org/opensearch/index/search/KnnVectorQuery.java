@@ -0,0 +1,375 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.search;
+
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ConjunctionDISI;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.PriorityQueue;
+import org.opensearch.common.Nullable;
+import org.opensearch.index.codec.HnswVectorValues;
+import org.opensearch.index.codec.VectorSimilarity;
+import org.opensearch.index.mapper.DenseVectorFieldMapper;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Finds the {@code k} documents whose vectors are the most similar to a query vector, optionally among the documents that
+ * match a filter, and scores them by their similarity. The nearest neighbors of every segment are searched when the query is
+ * rewritten, through the {@link HnswVectorValues} graph of the segment when it has one, and the top {@code k} of all segments
+ * are rewritten into a query that matches them.
+ * <p>
+ * A graph search visits every node that it reaches regardless of the filter, so when the filter of a segment accepts at most
+ * {@code numCandidates} documents it is cheaper and exact to compare the query vector to the vectors of these documents.
+ */
+public class KnnVectorQuery extends Query {
+
+    private final String field;
+    private final float[] target;
+    private final int k;
+    private final int numCandidates;
+    private final VectorSimilarity similarity;
+    private final Query filter;
+
+    public KnnVectorQuery(String field, float[] target, int k, int numCandidates, VectorSimilarity similarity,
+                          @Nullable Query filter) {
+        if (k < 1) {
+            throw new IllegalArgumentException("[k] must be greater than 0 but was [" + k + "]");
+        }
+        this.field = Objects.requireNonNull(field);
+        this.target = Objects.requireNonNull(target);
+        this.k = k;
+        this.numCandidates = Math.max(k, numCandidates);
+        this.similarity = Objects.requireNonNull(similarity);
+        this.filter = filter;
+    }
+
+    @Override
+    public Query rewrite(IndexReader reader) throws IOException {
+        Weight filterWeight = null;
+        if (filter != null) {
+            final IndexSearcher searcher = new IndexSearcher(reader);
+            searcher.setQueryCache(null);
+            final Query rewritten = searcher.rewrite(new BooleanQuery.Builder().add(filter, BooleanClause.Occur.FILTER).build());
+            filterWeight = searcher.createWeight(rewritten, ScoreMode.COMPLETE_NO_SCORES, 1f);
+        }
+        final TopDocs[] perLeaf = new TopDocs[reader.leaves().size()];
+        for (LeafReaderContext context : reader.leaves()) {
+            final TopDocs topDocs = searchLeaf(context, filterWeight);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                scoreDoc.doc += context.docBase;
+            }
+            perLeaf[context.ord] = topDocs;
+        }
+        final TopDocs topK = TopDocs.merge(k, perLeaf);
+        if (topK.scoreDocs.length == 0) {
+            return new MatchNoDocsQuery("no vectors of [" + field + "] match");
+        }
+        return DocAndScoreQuery.create(topK.scoreDocs, reader);
+    }
+
+    private TopDocs searchLeaf(LeafReaderContext context, @Nullable Weight filterWeight) throws IOException {
+        final BinaryDocValues values = context.reader().getBinaryDocValues(field);
+        if (values == null) {
+            return emptyTopDocs();
+        }
+        final Bits liveDocs = context.reader().getLiveDocs();
+        if (filterWeight == null) {
+            if (values instanceof HnswVectorValues) {
+                return ((HnswVectorValues) values).search(target, k, numCandidates, liveDocs);
+            }
+            return exactSearch(values, values, liveDocs);
+        }
+        final Scorer filterScorer = filterWeight.scorer(context);
+        if (filterScorer == null) {
+            return emptyTopDocs();
+        }
+        final FixedBitSet acceptDocs = new FixedBitSet(context.reader().maxDoc());
+        final DocIdSetIterator filterIterator = filterScorer.iterator();
+        int acceptCount = 0;
+        for (int doc = filterIterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = filterIterator.nextDoc()) {
+            if (liveDocs == null || liveDocs.get(doc)) {
+                acceptDocs.set(doc);
+                acceptCount++;
+            }
+        }
+        if (values instanceof HnswVectorValues && acceptCount > numCandidates) {
+            return ((HnswVectorValues) values).search(target, k, numCandidates, acceptDocs);
+        }
+        final DocIdSetIterator iterator = ConjunctionDISI.intersectIterators(
+            Arrays.asList(new BitSetIterator(acceptDocs, acceptCount), values));
+        return exactSearch(values, iterator, null);
+    }
+
+    /**
+     * Compares the query vector to the vectors of all the documents of the given iterator.
+     */
+    private TopDocs exactSearch(BinaryDocValues values, DocIdSetIterator iterator, @Nullable Bits liveDocs) throws IOException {
+        final PriorityQueue<ScoreDoc> queue = new PriorityQueue<ScoreDoc>(k) {
+            @Override
+            protected boolean lessThan(ScoreDoc a, ScoreDoc b) {
+                return a.score < b.score || (a.score == b.score && a.doc > b.doc);
+            }
+        };
+        for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+            if (liveDocs != null && liveDocs.get(doc) == false) {
+                continue;
+            }
+            final float[] vector = DenseVectorFieldMapper.decode(values.binaryValue());
+            if (vector.length != target.length) {
+                throw new IllegalArgumentException("the query vector has [" + target.length + "] dimensions, but the vectors of ["
+                    + field + "] have [" + vector.length + "] dimensions");
+            }
+            queue.insertWithOverflow(new ScoreDoc(doc, similarity.compare(target, vector)));
+        }
+        final ScoreDoc[] scoreDocs = new ScoreDoc[queue.size()];
+        for (int i = scoreDocs.length - 1; i >= 0; i--) {
+            scoreDocs[i] = queue.pop();
+        }
+        return new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
+    }
+
+    private static TopDocs emptyTopDocs() {
+        return new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]);
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public float[] getTarget() {
+        return target;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    @Nullable
+    public Query getFilter() {
+        return filter;
+    }
+
+    @Override
+    public void visit(QueryVisitor visitor) {
+        if (visitor.acceptField(field)) {
+            visitor.visitLeaf(this);
+        }
+    }
+
+    @Override
+    public String toString(String field) {
+        return "KnnVectorQuery(" + this.field + "," + Arrays.toString(target) + ",k=" + k + ",num_candidates=" + numCandidates
+            + (filter == null ? "" : ",filter=" + filter) + ")";
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (sameClassAs(obj) == false) {
+            return false;
+        }
+        final KnnVectorQuery other = (KnnVectorQuery) obj;
+        return field.equals(other.field) && Arrays.equals(target, other.target) && k == other.k
+            && numCandidates == other.numCandidates && similarity == other.similarity && Objects.equals(filter, other.filter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classHash(), field, Arrays.hashCode(target), k, numCandidates, similarity, filter);
+    }
+
+    /**
+     * Matches the nearest neighbors that a {@link KnnVectorQuery} found in a given reader, with the scores that they were found
+     * with. It can only be used with that reader.
+     */
+    static final class DocAndScoreQuery extends Query {
+
+        private final int[] docs;
+        private final float[] scores;
+        // the index of the first doc of every segment, and the number of docs as the last entry
+        private final int[] segmentStarts;
+        private final Object contextIdentity;
+
+        private DocAndScoreQuery(int[] docs, float[] scores, int[] segmentStarts, Object contextIdentity) {
+            this.docs = docs;
+            this.scores = scores;
+            this.segmentStarts = segmentStarts;
+            this.contextIdentity = contextIdentity;
+        }
+
+        static DocAndScoreQuery create(ScoreDoc[] scoreDocs, IndexReader reader) {
+            final ScoreDoc[] sorted = scoreDocs.clone();
+            Arrays.sort(sorted, (a, b) -> Integer.compare(a.doc, b.doc));
+            final int[] docs = new int[sorted.length];
+            final float[] scores = new float[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                docs[i] = sorted[i].doc;
+                scores[i] = sorted[i].score;
+            }
+            final int[] segmentStarts = new int[reader.leaves().size() + 1];
+            for (LeafReaderContext context : reader.leaves()) {
+                final int index = Arrays.binarySearch(docs, context.docBase);
+                segmentStarts[context.ord] = index < 0 ? -1 - index : index;
+            }
+            segmentStarts[segmentStarts.length - 1] = docs.length;
+            return new DocAndScoreQuery(docs, scores, segmentStarts, reader.getContext().id());
+        }
+
+        @Override
+        public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+            if (searcher.getIndexReader().getContext().id() != contextIdentity) {
+                throw new IllegalStateException("the nearest neighbors were found with a different reader");
+            }
+            return new Weight(this) {
+                @Override
+                public void extractTerms(Set<Term> terms) {
+                }
+
+                @Override
+                public Explanation explain(LeafReaderContext context, int doc) {
+                    final int index = Arrays.binarySearch(docs, segmentStarts[context.ord], segmentStarts[context.ord + 1],
+                        context.docBase + doc);
+                    if (index < 0) {
+                        return Explanation.noMatch("not a nearest neighbor");
+                    }
+                    return Explanation.match(scores[index] * boost, "nearest neighbor, vector similarity");
+                }
+
+                @Override
+                public Scorer scorer(LeafReaderContext context) {
+                    final int lower = segmentStarts[context.ord];
+                    final int upper = segmentStarts[context.ord + 1];
+                    if (lower == upper) {
+                        return null;
+                    }
+                    return new NearestNeighborsScorer(this, context.docBase, lower, upper, boost);
+                }
+
+                @Override
+                public boolean isCacheable(LeafReaderContext context) {
+                    return false;
+                }
+            };
+        }
+
+        private class NearestNeighborsScorer extends Scorer {
+
+            private final int docBase;
+            private final int lower;
+            private final int upper;
+            private final float boost;
+            private int index;
+
+            NearestNeighborsScorer(Weight weight, int docBase, int lower, int upper, float boost) {
+                super(weight);
+                this.docBase = docBase;
+                this.lower = lower;
+                this.upper = upper;
+                this.boost = boost;
+                this.index = lower - 1;
+            }
+
+            @Override
+            public int docID() {
+                if (index < lower) {
+                    return -1;
+                }
+                return index < upper ? docs[index] - docBase : DocIdSetIterator.NO_MORE_DOCS;
+            }
+
+            @Override
+            public float score() {
+                return scores[index] * boost;
+            }
+
+            @Override
+            public float getMaxScore(int upTo) {
+                float maxScore = 0;
+                for (int i = Math.max(index, lower); i < upper && docs[i] - docBase <= upTo; i++) {
+                    maxScore = Math.max(maxScore, scores[i] * boost);
+                }
+                return maxScore;
+            }
+
+            @Override
+            public DocIdSetIterator iterator() {
+                return new DocIdSetIterator() {
+                    @Override
+                    public int docID() {
+                        return NearestNeighborsScorer.this.docID();
+                    }
+
+                    @Override
+                    public int nextDoc() {
+                        index++;
+                        return docID();
+                    }
+
+                    @Override
+                    public int advance(int target) {
+                        final int found = Arrays.binarySearch(docs, Math.max(index, lower), upper, target + docBase);
+                        index = found < 0 ? -1 - found : found;
+                        return docID();
+                    }
+
+                    @Override
+                    public long cost() {
+                        return upper - lower;
+                    }
+                };
+            }
+        }
+
+        @Override
+        public void visit(QueryVisitor visitor) {
+            visitor.visitLeaf(this);
+        }
+
+        @Override
+        public String toString(String field) {
+            return "DocAndScoreQuery[" + docs.length + " docs]";
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (sameClassAs(obj) == false) {
+                return false;
+            }
+            final DocAndScoreQuery other = (DocAndScoreQuery) obj;
+            return contextIdentity == other.contextIdentity && Arrays.equals(docs, other.docs) && Arrays.equals(scores, other.scores);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(classHash(), contextIdentity, Arrays.hashCode(docs), Arrays.hashCode(scores));
+        }
+    }
+}
@@ -520,6 +520,12 @@ final class StoreRecovery {
                 indexIdListener.onResponse(indexId);
             }
             assert indexShard.getEngineOrNull() == null;
+            if (indexShard.indexSettings().isRemoteSnapshot()) {
+                // the files of the snapshot are read from the repository on demand, there is nothing to copy
+                indexShard.recoveryState().getIndex().setFileDetailsComplete();
+                restoreListener.onResponse(null);
+                return;
+            }
             indexIdListener.whenComplete(idx -> repository.restoreShard(indexShard.store(), restoreSource.snapshot().getSnapshotId(),
                 idx, snapshotShardId, indexShard.recoveryState(), restoreListener), restoreListener::onFailure);
         } catch (Exception e) {
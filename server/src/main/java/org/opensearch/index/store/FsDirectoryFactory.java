@@ -177,6 +177,8 @@ public class FsDirectoryFactory implements IndexStorePlugin.DirectoryFactory {
                 case "dim":
                 case "kdd":
                 case "kdi":
+                // Completion fields can read their suggestion FSTs off-heap too, see Completion84OffHeapPostingsFormat.
+                case "lkp":
                 // Compound files are tricky because they store all the information for the segment. Benchmarks
                 // suggested that not mapping them hurts performance.
                 case "cfs":
@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+/**
+ * A node level cache of the blocks of snapshot files that are read by shards of indices mounted with the
+ * {@code remote_snapshot} storage type. Blocks are fetched from the repository on demand, are bounded in total size
+ * by {@link #SIZE_SETTING} and are evicted in least-recently-used order. Sequential reads trigger an asynchronous
+ * prefetch of the blocks that follow the one being read.
+ */
+public final class RemoteSnapshotBlockCache {
+
+    private static final Logger logger = LogManager.getLogger(RemoteSnapshotBlockCache.class);
+
+    public static final Setting<ByteSizeValue> SIZE_SETTING =
+        Setting.memorySizeSetting("indices.searchable_snapshot.cache.size", "5%", Property.NodeScope);
+    public static final Setting<ByteSizeValue> BLOCK_SIZE_SETTING = Setting.byteSizeSetting(
+        "indices.searchable_snapshot.cache.block_size",
+        new ByteSizeValue(1, ByteSizeUnit.MB),
+        new ByteSizeValue(4, ByteSizeUnit.KB),
+        new ByteSizeValue(64, ByteSizeUnit.MB),
+        Property.NodeScope);
+    public static final Setting<Integer> PREFETCH_BLOCKS_SETTING =
+        Setting.intSetting("indices.searchable_snapshot.cache.prefetch_blocks", 2, 0, Property.NodeScope);
+
+    private final Cache<BlockKey, byte[]> cache;
+    private final int blockSize;
+    private final int prefetchBlocks;
+    private final Executor prefetchExecutor;
+    private final Set<BlockKey> pendingPrefetches = ConcurrentCollections.newConcurrentSet();
+
+    public RemoteSnapshotBlockCache(Settings settings, Executor prefetchExecutor) {
+        this.blockSize = Math.toIntExact(BLOCK_SIZE_SETTING.get(settings).getBytes());
+        this.prefetchBlocks = PREFETCH_BLOCKS_SETTING.get(settings);
+        this.prefetchExecutor = prefetchExecutor;
+        this.cache = CacheBuilder.<BlockKey, byte[]>builder()
+            .setMaximumWeight(SIZE_SETTING.get(settings).getBytes())
+            .weigher((key, block) -> block.length)
+            .build();
+    }
+
+    /**
+     * The size in bytes of the blocks that files are split into. Only the last block of a blob may be smaller.
+     */
+    public int blockSize() {
+        return blockSize;
+    }
+
+    /**
+     * The number of blocks to prefetch after a block that is read sequentially.
+     */
+    public int prefetchBlocks() {
+        return prefetchBlocks;
+    }
+
+    /**
+     * Returns the cached block for the given key, loading it with the given loader if it is not cached yet. Concurrent
+     * requests for the same block only load it once.
+     */
+    public byte[] getOrLoad(BlockKey key, CheckedSupplier<byte[], IOException> loader) throws IOException {
+        try {
+            return cache.computeIfAbsent(key, k -> loader.get());
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("failed to load block [" + key + "]", cause);
+        }
+    }
+
+    /**
+     * Asynchronously loads the given block into the cache unless a prefetch of the same block is already pending.
+     */
+    public void prefetch(BlockKey key, CheckedSupplier<byte[], IOException> loader) {
+        if (pendingPrefetches.add(key) == false) {
+            return;
+        }
+        prefetchExecutor.execute(new AbstractRunnable() {
+            @Override
+            protected void doRun() throws Exception {
+                getOrLoad(key, loader);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                logger.debug(() -> new ParameterizedMessage("failed to prefetch block [{}]", key), e);
+            }
+
+            @Override
+            public void onAfter() {
+                pendingPrefetches.remove(key);
+            }
+        });
+    }
+
+    public Cache.CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * The total size in bytes of the cached blocks.
+     */
+    public long usedBytes() {
+        return cache.weight();
+    }
+
+    public int count() {
+        return cache.count();
+    }
+
+    /**
+     * Identifies a block of a blob in a repository.
+     */
+    public static final class BlockKey {
+        private final String repository;
+        private final String blobPath;
+        private final long block;
+
+        public BlockKey(String repository, String blobPath, long block) {
+            this.repository = Objects.requireNonNull(repository);
+            this.blobPath = Objects.requireNonNull(blobPath);
+            this.block = block;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            BlockKey that = (BlockKey) o;
+            return block == that.block && repository.equals(that.repository) && blobPath.equals(that.blobPath);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(repository, blobPath, block);
+        }
+
+        @Override
+        public String toString() {
+            return "[" + repository + "][" + blobPath + "][" + block + "]";
+        }
+    }
+}
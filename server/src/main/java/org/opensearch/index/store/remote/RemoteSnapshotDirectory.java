@@ -0,0 +1,230 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.Lock;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link Directory} for shards of indices that are mounted from a snapshot with the {@code remote_snapshot} storage type.
+ * The files of the shard snapshot are never copied to the local disk, they are read on demand from the repository through
+ * the node's {@link RemoteSnapshotBlockCache}. Files that are created after the shard was mounted, like the commit written
+ * when the shard bootstraps a new history, are stored in a local directory. Files of the snapshot are read-only: deleting
+ * one only hides it from this directory.
+ */
+public final class RemoteSnapshotDirectory extends Directory {
+
+    private final FSDirectory localDirectory;
+    private final String repository;
+    private final Supplier<BlobContainer> blobContainerSupplier;
+    private final Function<BlobContainer, BlobStoreIndexShardSnapshot> snapshotLoader;
+    private final RemoteSnapshotBlockCache cache;
+    private final Set<String> deletedSnapshotFiles = ConcurrentCollections.newConcurrentSet();
+
+    private volatile boolean isOpen = true;
+    private volatile BlobContainer blobContainer;
+    private volatile Map<String, BlobStoreIndexShardSnapshot.FileInfo> snapshotFiles;
+
+    /**
+     * @param localDirectory        the directory that holds the files written after the shard was mounted
+     * @param repository            the name of the repository the snapshot is read from
+     * @param blobContainerSupplier supplies the container of the shard in the repository
+     * @param snapshotLoader        loads the files of the shard snapshot from the container of the shard
+     * @param cache                 the node level block cache
+     */
+    public RemoteSnapshotDirectory(FSDirectory localDirectory, String repository, Supplier<BlobContainer> blobContainerSupplier,
+                                   Function<BlobContainer, BlobStoreIndexShardSnapshot> snapshotLoader,
+                                   RemoteSnapshotBlockCache cache) {
+        this.localDirectory = localDirectory;
+        this.repository = repository;
+        this.blobContainerSupplier = blobContainerSupplier;
+        this.snapshotLoader = snapshotLoader;
+        this.cache = cache;
+    }
+
+    /**
+     * The repository metadata is loaded lazily since directories are created on the cluster state applier thread, which must
+     * not block on the repository.
+     */
+    private Map<String, BlobStoreIndexShardSnapshot.FileInfo> snapshotFiles() {
+        Map<String, BlobStoreIndexShardSnapshot.FileInfo> files = snapshotFiles;
+        if (files == null) {
+            synchronized (this) {
+                files = snapshotFiles;
+                if (files == null) {
+                    blobContainer = blobContainerSupplier.get();
+                    final Map<String, BlobStoreIndexShardSnapshot.FileInfo> newFiles = new HashMap<>();
+                    for (BlobStoreIndexShardSnapshot.FileInfo fileInfo : snapshotLoader.apply(blobContainer).indexFiles()) {
+                        newFiles.put(fileInfo.physicalName(), fileInfo);
+                    }
+                    snapshotFiles = files = Collections.unmodifiableMap(newFiles);
+                }
+            }
+        }
+        return files;
+    }
+
+    private BlobStoreIndexShardSnapshot.FileInfo snapshotFile(String name) {
+        if (deletedSnapshotFiles.contains(name)) {
+            return null;
+        }
+        return snapshotFiles().get(name);
+    }
+
+    private boolean isLocalFile(String name) {
+        return Files.exists(localDirectory.getDirectory().resolve(name));
+    }
+
+    @Override
+    public String[] listAll() throws IOException {
+        ensureOpen();
+        final Set<String> files = new TreeSet<>(Arrays.asList(localDirectory.listAll()));
+        for (String name : snapshotFiles().keySet()) {
+            if (deletedSnapshotFiles.contains(name) == false) {
+                files.add(name);
+            }
+        }
+        return files.toArray(new String[0]);
+    }
+
+    @Override
+    public void deleteFile(String name) throws IOException {
+        ensureOpen();
+        if (isLocalFile(name)) {
+            localDirectory.deleteFile(name);
+        } else if (snapshotFile(name) != null) {
+            deletedSnapshotFiles.add(name);
+        } else {
+            throw new NoSuchFileException(name);
+        }
+    }
+
+    @Override
+    public long fileLength(String name) throws IOException {
+        ensureOpen();
+        if (isLocalFile(name)) {
+            return localDirectory.fileLength(name);
+        }
+        final BlobStoreIndexShardSnapshot.FileInfo fileInfo = snapshotFile(name);
+        if (fileInfo == null) {
+            throw new NoSuchFileException(name);
+        }
+        return fileInfo.length();
+    }
+
+    @Override
+    public IndexOutput createOutput(String name, IOContext context) throws IOException {
+        ensureOpen();
+        if (snapshotFile(name) != null) {
+            throw new FileAlreadyExistsException(name);
+        }
+        return localDirectory.createOutput(name, context);
+    }
+
+    @Override
+    public IndexOutput createTempOutput(String prefix, String suffix, IOContext context) throws IOException {
+        ensureOpen();
+        return localDirectory.createTempOutput(prefix, suffix, context);
+    }
+
+    @Override
+    public void sync(Collection<String> names) throws IOException {
+        ensureOpen();
+        // files of the snapshot are durable in the repository already
+        localDirectory.sync(names.stream().filter(this::isLocalFile).collect(Collectors.toList()));
+    }
+
+    @Override
+    public void syncMetaData() throws IOException {
+        ensureOpen();
+        localDirectory.syncMetaData();
+    }
+
+    @Override
+    public void rename(String source, String dest) throws IOException {
+        ensureOpen();
+        if (isLocalFile(source) == false) {
+            throw new IllegalArgumentException("file [" + source + "] of snapshot cannot be renamed");
+        }
+        localDirectory.rename(source, dest);
+    }
+
+    @Override
+    public IndexInput openInput(String name, IOContext context) throws IOException {
+        ensureOpen();
+        if (isLocalFile(name)) {
+            return localDirectory.openInput(name, context);
+        }
+        final BlobStoreIndexShardSnapshot.FileInfo fileInfo = snapshotFile(name);
+        if (fileInfo == null) {
+            throw new NoSuchFileException(name);
+        }
+        if (fileInfo.name().startsWith(BlobStoreRepository.VIRTUAL_DATA_BLOB_PREFIX)) {
+            // the contents of the file are stored in its metadata, it does not exist as a blob
+            final BytesRef hash = fileInfo.metadata().hash();
+            return new ByteArrayIndexInput("RemoteSnapshotIndexInput(" + name + ")", hash.bytes, hash.offset, hash.length);
+        }
+        return new RemoteSnapshotIndexInput(repository, blobContainer, fileInfo, cache);
+    }
+
+    @Override
+    public Lock obtainLock(String name) throws IOException {
+        ensureOpen();
+        return localDirectory.obtainLock(name);
+    }
+
+    @Override
+    public Set<String> getPendingDeletions() throws IOException {
+        return localDirectory.getPendingDeletions();
+    }
+
+    @Override
+    protected void ensureOpen() throws AlreadyClosedException {
+        if (isOpen == false) {
+            throw new AlreadyClosedException("this Directory is closed");
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        isOpen = false;
+        localDirectory.close();
+    }
+
+    @Override
+    public String toString() {
+        return "RemoteSnapshotDirectory(" + localDirectory + ", repository=" + repository + ")";
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.LockFactory;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.shard.ShardPath;
+import org.opensearch.index.store.FsDirectoryFactory;
+import org.opensearch.plugins.IndexStorePlugin;
+import org.opensearch.repositories.IndexId;
+import org.opensearch.repositories.RepositoriesService;
+import org.opensearch.repositories.Repository;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
+import org.opensearch.snapshots.SnapshotId;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+/**
+ * Creates the {@link RemoteSnapshotDirectory} of shards of indices that are mounted from a snapshot with the
+ * {@code remote_snapshot} storage type.
+ */
+public final class RemoteSnapshotDirectoryFactory implements IndexStorePlugin.DirectoryFactory {
+
+    /**
+     * The value of {@link org.opensearch.index.IndexModule#INDEX_STORE_TYPE_SETTING} of indices mounted from a snapshot
+     */
+    public static final String TYPE = "remote_snapshot";
+
+    private final Supplier<RepositoriesService> repositoriesService;
+    private final RemoteSnapshotBlockCache cache;
+
+    public RemoteSnapshotDirectoryFactory(Supplier<RepositoriesService> repositoriesService, RemoteSnapshotBlockCache cache) {
+        this.repositoriesService = repositoriesService;
+        this.cache = cache;
+    }
+
+    @Override
+    public Directory newDirectory(IndexSettings indexSettings, ShardPath shardPath) throws IOException {
+        final String repositoryName = indexSettings.getValue(IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY);
+        if (repositoryName.isEmpty()) {
+            throw new IllegalArgumentException("index " + indexSettings.getIndex() + " is not mounted from a snapshot");
+        }
+        final Repository repository = repositoriesService.get().repository(repositoryName);
+        if (repository instanceof BlobStoreRepository == false) {
+            throw new IllegalArgumentException("repository [" + repositoryName + "] of type [" + repository.getMetadata().type()
+                + "] does not support reading snapshots on demand");
+        }
+        final BlobStoreRepository blobStoreRepository = (BlobStoreRepository) repository;
+        final SnapshotId snapshotId = new SnapshotId(
+            indexSettings.getValue(IndexSettings.SEARCHABLE_SNAPSHOT_ID_NAME),
+            indexSettings.getValue(IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID));
+        final IndexId indexId = new IndexId(indexSettings.getIndex().getName(),
+            indexSettings.getValue(IndexSettings.SEARCHABLE_SNAPSHOT_INDEX_ID));
+        final int shardId = shardPath.getShardId().id();
+        final Supplier<BlobContainer> blobContainer = () -> blobStoreRepository.shardContainer(indexId, shardId);
+
+        final Path location = shardPath.resolveIndex();
+        final LockFactory lockFactory = indexSettings.getValue(FsDirectoryFactory.INDEX_LOCK_FACTOR_SETTING);
+        Files.createDirectories(location);
+        return new RemoteSnapshotDirectory(new NIOFSDirectory(location, lockFactory), repositoryName, blobContainer,
+            container -> blobStoreRepository.loadShardSnapshot(container, snapshotId), cache);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.apache.lucene.store.IndexInput;
+import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.io.Streams;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An {@link IndexInput} over a file of a shard snapshot that reads the file block by block from the repository through
+ * the node's {@link RemoteSnapshotBlockCache}. Blocks never span the parts the file was split into in the repository.
+ */
+final class RemoteSnapshotIndexInput extends IndexInput {
+
+    private final String repository;
+    private final BlobContainer blobContainer;
+    private final BlobStoreIndexShardSnapshot.FileInfo fileInfo;
+    private final RemoteSnapshotBlockCache cache;
+    private final long offset;
+    private final long length;
+
+    private long position;
+    private byte[] block;
+    private long blockStart = -1L;
+
+    RemoteSnapshotIndexInput(String repository, BlobContainer blobContainer, BlobStoreIndexShardSnapshot.FileInfo fileInfo,
+                             RemoteSnapshotBlockCache cache) {
+        this("RemoteSnapshotIndexInput(" + fileInfo.physicalName() + ")", repository, blobContainer, fileInfo, cache,
+            0L, fileInfo.length());
+    }
+
+    private RemoteSnapshotIndexInput(String resourceDescription, String repository, BlobContainer blobContainer,
+                                     BlobStoreIndexShardSnapshot.FileInfo fileInfo, RemoteSnapshotBlockCache cache,
+                                     long offset, long length) {
+        super(resourceDescription);
+        this.repository = repository;
+        this.blobContainer = blobContainer;
+        this.fileInfo = fileInfo;
+        this.cache = cache;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        if (position >= length) {
+            throw new EOFException("read past EOF: " + this);
+        }
+        ensureBlock(offset + position);
+        final byte b = block[Math.toIntExact(offset + position - blockStart)];
+        position++;
+        return b;
+    }
+
+    @Override
+    public void readBytes(byte[] b, int off, int len) throws IOException {
+        if (len > length - position) {
+            throw new EOFException("read past EOF: " + this + " position [" + position + "] length [" + len + "]");
+        }
+        while (len > 0) {
+            ensureBlock(offset + position);
+            final int blockOffset = Math.toIntExact(offset + position - blockStart);
+            final int toCopy = Math.min(len, block.length - blockOffset);
+            System.arraycopy(block, blockOffset, b, off, toCopy);
+            position += toCopy;
+            off += toCopy;
+            len -= toCopy;
+        }
+    }
+
+    @Override
+    public long getFilePointer() {
+        return position;
+    }
+
+    @Override
+    public void seek(long pos) throws IOException {
+        if (pos < 0 || pos > length) {
+            throw new EOFException("seek past EOF: " + this + " position [" + pos + "]");
+        }
+        position = pos;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public IndexInput slice(String sliceDescription, long sliceOffset, long sliceLength) throws IOException {
+        if (sliceOffset < 0 || sliceLength < 0 || sliceOffset + sliceLength > length) {
+            throw new IllegalArgumentException("slice() " + sliceDescription + " out of bounds: offset=" + sliceOffset
+                + ",length=" + sliceLength + ",fileLength=" + length + ": " + this);
+        }
+        return new RemoteSnapshotIndexInput(getFullSliceDescription(sliceDescription), repository, blobContainer, fileInfo, cache,
+            offset + sliceOffset, sliceLength);
+    }
+
+    @Override
+    public RemoteSnapshotIndexInput clone() {
+        // blocks are immutable so the clone can share the current one
+        return (RemoteSnapshotIndexInput) super.clone();
+    }
+
+    @Override
+    public void close() {
+        // blocks are owned by the cache, nothing to release
+    }
+
+    /**
+     * Makes sure that the block containing the given position of the file is the current block.
+     */
+    private void ensureBlock(long filePosition) throws IOException {
+        if (block != null && filePosition >= blockStart && filePosition < blockStart + block.length) {
+            return;
+        }
+        final long previousBlockEnd = block == null ? -1L : blockStart + block.length;
+        final long partSize = fileInfo.partBytes(0);
+        final int part = Math.toIntExact(filePosition / partSize);
+        final long partStart = part * partSize;
+        final long blockNumber = (filePosition - partStart) / cache.blockSize();
+        block = cache.getOrLoad(blockKey(part, blockNumber), new BlockLoader(part, blockNumber));
+        blockStart = partStart + blockNumber * cache.blockSize();
+        if (previousBlockEnd == blockStart) {
+            prefetchAfter(part, blockNumber);
+        }
+    }
+
+    private void prefetchAfter(int part, long blockNumber) {
+        for (int i = 0; i < cache.prefetchBlocks(); i++) {
+            if (++blockNumber * cache.blockSize() >= fileInfo.partBytes(part)) {
+                if (++part >= fileInfo.numberOfParts()) {
+                    return;
+                }
+                blockNumber = 0;
+            }
+            cache.prefetch(blockKey(part, blockNumber), new BlockLoader(part, blockNumber));
+        }
+    }
+
+    private RemoteSnapshotBlockCache.BlockKey blockKey(int part, long blockNumber) {
+        return new RemoteSnapshotBlockCache.BlockKey(repository, blobContainer.path().buildAsString() + fileInfo.partName(part),
+            blockNumber);
+    }
+
+    private final class BlockLoader implements CheckedSupplier<byte[], IOException> {
+        private final int part;
+        private final long blockNumber;
+
+        BlockLoader(int part, long blockNumber) {
+            this.part = part;
+            this.blockNumber = blockNumber;
+        }
+
+        @Override
+        public byte[] get() throws IOException {
+            final long start = blockNumber * cache.blockSize();
+            final int blockLength = Math.toIntExact(Math.min(cache.blockSize(), fileInfo.partBytes(part) - start));
+            final byte[] bytes = new byte[blockLength];
+            try (InputStream stream = blobContainer.readBlob(fileInfo.partName(part), start, blockLength)) {
+                final int read = Streams.readFully(stream, bytes);
+                if (read != blockLength) {
+                    throw new EOFException("unexpected end of blob [" + fileInfo.partName(part) + "] reading [" + blockLength
+                        + "] bytes at [" + start + "], got [" + read + "]");
+                }
+            }
+            return bytes;
+        }
+    }
+}
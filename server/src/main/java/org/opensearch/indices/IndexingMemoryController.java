@@ -36,6 +36,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
@@ -121,8 +122,17 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
 
     private final ShardsIndicesStatusChecker statusChecker;
 
+    @Nullable
+    private final RefreshCoordinator refreshCoordinator;
+
     IndexingMemoryController(Settings settings, ThreadPool threadPool, Iterable<IndexShard> indexServices) {
+        this(settings, threadPool, indexServices, null);
+    }
+
+    IndexingMemoryController(Settings settings, ThreadPool threadPool, Iterable<IndexShard> indexServices,
+                             @Nullable RefreshCoordinator refreshCoordinator) {
         this.indexShards = indexServices;
+        this.refreshCoordinator = refreshCoordinator;
 
         ByteSizeValue indexingBuffer = INDEX_BUFFER_SIZE_SETTING.get(settings);
 
@@ -197,6 +207,11 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
 
     /** ask this shard to refresh, in the background, to free up heap */
     protected void writeIndexingBufferAsync(IndexShard shard) {
+        if (refreshCoordinator != null) {
+            // goes ahead of the scheduled refreshes of the node, and is coalesced with a scheduled refresh of this shard
+            refreshCoordinator.writeIndexingBufferAsync(shard);
+            return;
+        }
         threadPool.executor(ThreadPool.Names.REFRESH).execute(new AbstractRunnable() {
             @Override
             public void doRun() {
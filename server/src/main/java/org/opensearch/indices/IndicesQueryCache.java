@@ -34,7 +34,9 @@ package org.opensearch.indices;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.IndexReaderContext;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BulkScorer;
 import org.apache.lucene.search.Explanation;
@@ -50,6 +52,7 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.index.cache.query.QueryCacheStats;
 import org.opensearch.index.shard.ShardId;
 
@@ -76,10 +79,18 @@ public class IndicesQueryCache implements QueryCache, Closeable {
     // enables caching on all segments instead of only the larger ones, for testing only
     public static final Setting<Boolean> INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING =
             Setting.boolSetting("indices.queries.cache.all_segments", false, Property.NodeScope);
+    // the number of documents that a segment needs to have for its filters to be cached, smaller segments are cheap to search
+    // and likely to be merged away soon
+    public static final Setting<Integer> INDICES_QUERIES_CACHE_MIN_SEGMENT_SIZE_SETTING =
+            Setting.intSetting("indices.queries.cache.min_segment_size", 10_000, 0, Property.NodeScope);
+    // segments also need to hold this fraction of the documents of their shard
+    private static final float MIN_SEGMENT_SIZE_RATIO = 0.03f;
 
     private final LRUQueryCache cache;
     private final ShardCoreKeyMap shardKeyMap = new ShardCoreKeyMap();
     private final Map<ShardId, Stats> shardStats = new ConcurrentHashMap<>();
+    // the filters that are cached for at least one segment of any shard
+    private final Set<Query> cachedQueries = ConcurrentCollections.newConcurrentSet();
     private volatile long sharedRamBytesUsed;
 
     // This is a hack for the fact that the close listener for the
@@ -90,16 +101,33 @@ public class IndicesQueryCache implements QueryCache, Closeable {
     public IndicesQueryCache(Settings settings) {
         final ByteSizeValue size = INDICES_CACHE_QUERY_SIZE_SETTING.get(settings);
         final int count = INDICES_CACHE_QUERY_COUNT_SETTING.get(settings);
-        logger.debug("using [node] query cache with size [{}] max filter count [{}]",
-                size, count);
+        final int minSegmentSize = INDICES_QUERIES_CACHE_MIN_SEGMENT_SIZE_SETTING.get(settings);
+        logger.debug("using [node] query cache with size [{}] max filter count [{}] min segment size [{}]",
+                size, count, minSegmentSize);
         if (INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.get(settings)) {
             cache = new OpenSearchLRUQueryCache(count, size.getBytes(), context -> true, 1f);
         } else {
-            cache = new OpenSearchLRUQueryCache(count, size.getBytes());
+            cache = new OpenSearchLRUQueryCache(count, size.getBytes(), context -> isLargeEnough(context, minSegmentSize), 250f);
         }
         sharedRamBytesUsed = 0;
     }
 
+    private static boolean isLargeEnough(LeafReaderContext context, int minSegmentSize) {
+        final int maxDoc = context.reader().maxDoc();
+        if (maxDoc < minSegmentSize) {
+            return false;
+        }
+        final IndexReaderContext topLevelContext = ReaderUtil.getTopLevelContext(context);
+        return maxDoc / (float) topLevelContext.reader().maxDoc() >= MIN_SEGMENT_SIZE_RATIO;
+    }
+
+    /**
+     * Whether the given filter is cached for at least one segment of any shard.
+     */
+    public boolean isCached(Query query) {
+        return cachedQueries.contains(query);
+    }
+
     /** Get usage statistics for the given shard. */
     public QueryCacheStats getStats(ShardId shard) {
         final Map<ShardId, QueryCacheStats> stats = new HashMap<>();
@@ -218,13 +246,22 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         volatile long missCount;
         volatile long cacheCount;
         volatile long cacheSize;
+        final Map<String, ShapeStats> shapes = new ConcurrentHashMap<>();
 
         Stats(ShardId shardId) {
             this.shardId = shardId;
         }
 
+        ShapeStats shape(Query query) {
+            return shapes.computeIfAbsent(queryShape(query), k -> new ShapeStats());
+        }
+
         QueryCacheStats toQueryCacheStats() {
-            return new QueryCacheStats(ramBytesUsed, hitCount, missCount, cacheCount, cacheSize);
+            final Map<String, QueryCacheStats.ShapeStats> shapeStats = new HashMap<>();
+            for (Map.Entry<String, ShapeStats> entry : shapes.entrySet()) {
+                shapeStats.put(entry.getKey(), new QueryCacheStats.ShapeStats(entry.getValue().hitCount, entry.getValue().missCount));
+            }
+            return new QueryCacheStats(ramBytesUsed, hitCount, missCount, cacheCount, cacheSize, shapeStats);
         }
 
         @Override
@@ -234,6 +271,19 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         }
     }
 
+    private static class ShapeStats {
+        volatile long hitCount;
+        volatile long missCount;
+    }
+
+    /**
+     * The shape of a filter that hit and miss counts are reported for, which is the type of the query.
+     */
+    static String queryShape(Query query) {
+        final String simpleName = query.getClass().getSimpleName();
+        return simpleName.isEmpty() ? query.getClass().getName() : simpleName;
+    }
+
     private static class StatsAndCount {
         volatile int count;
         final Stats stats;
@@ -300,18 +350,21 @@ public class IndicesQueryCache implements QueryCache, Closeable {
                 stats.ramBytesUsed = 0;
             }
             stats2.clear();
+            cachedQueries.clear();
             sharedRamBytesUsed = 0;
         }
 
         @Override
         protected void onQueryCache(Query filter, long ramBytesUsed) {
             super.onQueryCache(filter, ramBytesUsed);
+            cachedQueries.add(filter);
             sharedRamBytesUsed += ramBytesUsed;
         }
 
         @Override
         protected void onQueryEviction(Query filter, long ramBytesUsed) {
             super.onQueryEviction(filter, ramBytesUsed);
+            cachedQueries.remove(filter);
             sharedRamBytesUsed -= ramBytesUsed;
         }
 
@@ -359,6 +412,7 @@ public class IndicesQueryCache implements QueryCache, Closeable {
             super.onHit(readerCoreKey, filter);
             final Stats shardStats = getStats(readerCoreKey);
             shardStats.hitCount += 1;
+            shardStats.shape(filter).hitCount += 1;
         }
 
         @Override
@@ -366,6 +420,7 @@ public class IndicesQueryCache implements QueryCache, Closeable {
             super.onMiss(readerCoreKey, filter);
             final Stats shardStats = getOrCreateStats(readerCoreKey);
             shardStats.missCount += 1;
+            shardStats.shape(filter).missCount += 1;
         }
     }
 }
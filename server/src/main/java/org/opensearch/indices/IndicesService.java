@@ -109,12 +109,15 @@ import org.opensearch.index.engine.EngineConfig;
 import org.opensearch.index.engine.EngineFactory;
 import org.opensearch.index.engine.InternalEngineFactory;
 import org.opensearch.index.engine.NoOpEngine;
+import org.opensearch.index.engine.ReadOnlyEngine;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
 import org.opensearch.index.flush.FlushStats;
 import org.opensearch.index.get.GetStats;
 import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.merge.MergeCoordinator;
 import org.opensearch.index.merge.MergeStats;
+import org.opensearch.index.merge.NodeMergeStats;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.recovery.RecoveryStats;
@@ -219,6 +222,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private final CacheCleaner cacheCleaner;
     private final ThreadPool threadPool;
     private final CircuitBreakerService circuitBreakerService;
+    private final MergeCoordinator mergeCoordinator;
     private final BigArrays bigArrays;
     private final ScriptService scriptService;
     private final ClusterService clusterService;
@@ -230,6 +234,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private final MapperRegistry mapperRegistry;
     private final NamedWriteableRegistry namedWriteableRegistry;
     private final IndexingMemoryController indexingMemoryController;
+    private final RefreshCoordinator refreshCoordinator;
     private final TimeValue cleanInterval;
     final IndicesRequestCache indicesRequestCache; // pkg-private for testing
     private final IndicesQueryCache indicesQueryCache;
@@ -275,11 +280,13 @@ public class IndicesService extends AbstractLifecycleComponent
         this.indicesQueryCache = new IndicesQueryCache(settings);
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
+        this.refreshCoordinator = new RefreshCoordinator(settings, clusterService.getClusterSettings(), threadPool);
         indexingMemoryController = new IndexingMemoryController(settings, threadPool,
                                                                 // ensure we pull an iter with new shards - flatten makes a copy
-                                                                () -> Iterables.flatten(this).iterator());
+                                                                () -> Iterables.flatten(this).iterator(), refreshCoordinator);
         this.indexScopedSettings = indexScopedSettings;
         this.circuitBreakerService = circuitBreakerService;
+        this.mergeCoordinator = new MergeCoordinator(settings, clusterService.getClusterSettings());
         this.bigArrays = bigArrays;
         this.scriptService = scriptService;
         this.clusterService = clusterService;
@@ -427,7 +434,8 @@ public class IndicesService extends AbstractLifecycleComponent
             }
         }
 
-        return new NodeIndicesStats(commonStats, statsByShard(this, flags));
+        final NodeMergeStats nodeMergeStats = flags.isSet(Flag.Merge) ? mergeCoordinator.stats() : null;
+        return new NodeIndicesStats(commonStats, statsByShard(this, flags), nodeMergeStats, analysisRegistry.stats());
     }
 
     Map<Index, List<IndexShardStats>> statsByShard(final IndicesService indicesService, final CommonStatsFlags flags) {
@@ -672,6 +680,8 @@ public class IndicesService extends AbstractLifecycleComponent
                 xContentRegistry,
                 this,
                 circuitBreakerService,
+                mergeCoordinator,
+                refreshCoordinator,
                 bigArrays,
                 threadPool,
                 scriptService,
@@ -692,6 +702,10 @@ public class IndicesService extends AbstractLifecycleComponent
             // NoOpEngine takes precedence as long as the index is closed
             return NoOpEngine::new;
         }
+        if (idxSettings.isRemoteSnapshot()) {
+            // shards of indices mounted from a snapshot only ever serve the files of the snapshot
+            return config -> new ReadOnlyEngine(config, null, null, true, Function.identity(), false);
+        }
 
         final List<Optional<EngineFactory>> engineFactories =
                 engineFactoryProviders
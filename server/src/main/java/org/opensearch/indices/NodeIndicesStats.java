@@ -32,6 +32,7 @@
 
 package org.opensearch.indices;
 
+import org.opensearch.Version;
 import org.opensearch.action.admin.indices.stats.CommonStats;
 import org.opensearch.action.admin.indices.stats.IndexShardStats;
 import org.opensearch.action.admin.indices.stats.ShardStats;
@@ -49,6 +50,7 @@ import org.opensearch.index.fielddata.FieldDataStats;
 import org.opensearch.index.flush.FlushStats;
 import org.opensearch.index.get.GetStats;
 import org.opensearch.index.merge.MergeStats;
+import org.opensearch.index.merge.NodeMergeStats;
 import org.opensearch.index.recovery.RecoveryStats;
 import org.opensearch.index.refresh.RefreshStats;
 import org.opensearch.index.search.stats.SearchStats;
@@ -57,6 +59,7 @@ import org.opensearch.index.shard.IndexingStats;
 import org.opensearch.index.store.StoreStats;
 import org.opensearch.index.translog.TranslogStats;
 import org.opensearch.index.warmer.WarmerStats;
+import org.opensearch.indices.analysis.NodeAnalysisStats;
 import org.opensearch.search.suggest.completion.CompletionStats;
 
 import java.io.IOException;
@@ -72,6 +75,10 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
 
     private CommonStats stats;
     private Map<Index, List<IndexShardStats>> statsByShard;
+    @Nullable
+    private NodeMergeStats nodeMergeStats;
+    @Nullable
+    private NodeAnalysisStats nodeAnalysisStats;
 
     public NodeIndicesStats(StreamInput in) throws IOException {
         stats = new CommonStats(in);
@@ -88,9 +95,25 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
                 statsByShard.put(index, indexShardStats);
             }
         }
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            nodeMergeStats = in.readOptionalWriteable(NodeMergeStats::new);
+            nodeAnalysisStats = in.readOptionalWriteable(NodeAnalysisStats::new);
+        }
     }
 
     public NodeIndicesStats(CommonStats oldStats, Map<Index, List<IndexShardStats>> statsByShard) {
+        this(oldStats, statsByShard, null);
+    }
+
+    public NodeIndicesStats(CommonStats oldStats, Map<Index, List<IndexShardStats>> statsByShard,
+                            @Nullable NodeMergeStats nodeMergeStats) {
+        this(oldStats, statsByShard, nodeMergeStats, null);
+    }
+
+    public NodeIndicesStats(CommonStats oldStats, Map<Index, List<IndexShardStats>> statsByShard,
+                            @Nullable NodeMergeStats nodeMergeStats, @Nullable NodeAnalysisStats nodeAnalysisStats) {
+        this.nodeMergeStats = nodeMergeStats;
+        this.nodeAnalysisStats = nodeAnalysisStats;
         //this.stats = stats;
         this.statsByShard = statsByShard;
 
@@ -135,6 +158,19 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
         return stats.getMerge();
     }
 
+    /**
+     * The statistics of the coordination of the merges of all shards of the node.
+     */
+    @Nullable
+    public NodeMergeStats getNodeMerge() {
+        return nodeMergeStats;
+    }
+
+    @Nullable
+    public NodeAnalysisStats getNodeAnalysis() {
+        return nodeAnalysisStats;
+    }
+
     @Nullable
     public RefreshStats getRefresh() {
         return stats.getRefresh();
@@ -199,6 +235,10 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
                 }
             }
         }
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeOptionalWriteable(nodeMergeStats);
+            out.writeOptionalWriteable(nodeAnalysisStats);
+        }
     }
 
     @Override
@@ -213,6 +253,12 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
         // "node" level
         builder.startObject(Fields.INDICES);
         stats.toXContent(builder, params);
+        if (nodeMergeStats != null) {
+            nodeMergeStats.toXContent(builder, params);
+        }
+        if (nodeAnalysisStats != null) {
+            nodeAnalysisStats.toXContent(builder, params);
+        }
 
         if ("indices".equals(level)) {
             Map<Index, CommonStats> indexStats = createStatsByIndex();
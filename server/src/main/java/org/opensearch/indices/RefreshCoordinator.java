@@ -0,0 +1,249 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardClosedException;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs the scheduled refreshes of all shards on a node. Every index schedules the refreshes of its shards at its own
+ * refresh interval, so many shards with the same interval would otherwise refresh in bursts. This coordinator spreads
+ * the refreshes of the shards across the interval, bounds how many refreshes run concurrently and coalesces refreshes
+ * that are requested for a shard while a previous request is still waiting.
+ * <p>
+ * The {@link IndexingMemoryController} hands the shards whose indexing buffers must be written to disk to this
+ * coordinator too. Those go ahead of the scheduled refreshes, and otherwise shards with larger indexing buffers are
+ * refreshed first.
+ */
+public class RefreshCoordinator {
+
+    private static final Logger logger = LogManager.getLogger(RefreshCoordinator.class);
+
+    /** How many refreshes may run concurrently on the node (default: half the processors, at most 10). */
+    public static final Setting<Integer> MAX_CONCURRENT_REFRESHES_SETTING =
+        new Setting<>("indices.refresh.max_concurrent_refreshes",
+            (s) -> Integer.toString(Math.max(1, Math.min(10, (OpenSearchExecutors.allocatedProcessors(s) + 1) / 2))),
+            (s) -> Setting.parseInt(s, 1, "indices.refresh.max_concurrent_refreshes"), Property.Dynamic, Property.NodeScope);
+
+    /** Whether the scheduled refreshes of the shards are spread across the refresh interval (default: true). */
+    public static final Setting<Boolean> STAGGER_REFRESHES_SETTING =
+        Setting.boolSetting("indices.refresh.stagger", true, Property.Dynamic, Property.NodeScope);
+
+    private final ThreadPool threadPool;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<IndexShard, PendingRefresh> pendingRefreshes = new HashMap<>();
+    private final PriorityQueue<PendingRefresh> queue = new PriorityQueue<>(PendingRefresh.PRIORITY);
+    private long pendingRefreshSequence;
+    private int runningRefreshes;
+
+    private volatile int maxConcurrentRefreshes;
+    private volatile boolean staggerRefreshes;
+
+    public RefreshCoordinator(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool) {
+        this.threadPool = threadPool;
+        this.maxConcurrentRefreshes = MAX_CONCURRENT_REFRESHES_SETTING.get(settings);
+        this.staggerRefreshes = STAGGER_REFRESHES_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(MAX_CONCURRENT_REFRESHES_SETTING, this::setMaxConcurrentRefreshes);
+        clusterSettings.addSettingsUpdateConsumer(STAGGER_REFRESHES_SETTING, this::setStaggerRefreshes);
+        logger.debug("using max_concurrent_refreshes [{}], stagger [{}]", maxConcurrentRefreshes, staggerRefreshes);
+    }
+
+    private void setMaxConcurrentRefreshes(int maxConcurrentRefreshes) {
+        this.maxConcurrentRefreshes = maxConcurrentRefreshes;
+        lock.lock();
+        try {
+            maybeStartWorkers();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void setStaggerRefreshes(boolean staggerRefreshes) {
+        this.staggerRefreshes = staggerRefreshes;
+    }
+
+    /**
+     * Schedules a refresh of the given shard, see {@link IndexShard#scheduledRefresh()}. Unless staggering is disabled
+     * the refresh is delayed by an offset within the refresh interval that is fixed per shard, so that the shard is
+     * still refreshed once per interval but not at the same time as the other shards.
+     */
+    public void scheduleRefresh(IndexShard shard, TimeValue refreshInterval) {
+        final long delayInMillis = staggerRefreshes ? staggerDelayInMillis(shard, refreshInterval) : 0L;
+        if (delayInMillis > 0) {
+            threadPool.schedule(() -> enqueue(shard, false), TimeValue.timeValueMillis(delayInMillis), ThreadPool.Names.SAME);
+        } else {
+            enqueue(shard, false);
+        }
+    }
+
+    /**
+     * Asks the given shard to write its indexing buffer to disk, see {@link IndexShard#writeIndexingBuffer()}. This goes
+     * ahead of all scheduled refreshes.
+     */
+    public void writeIndexingBufferAsync(IndexShard shard) {
+        enqueue(shard, true);
+    }
+
+    static long staggerDelayInMillis(IndexShard shard, TimeValue refreshInterval) {
+        final long intervalInMillis = refreshInterval.millis();
+        if (intervalInMillis <= 1) {
+            return 0L;
+        }
+        return Math.floorMod(shard.shardId().hashCode(), intervalInMillis);
+    }
+
+    private void enqueue(IndexShard shard, boolean writeIndexingBuffer) {
+        final long bufferBytes = getIndexBufferRAMBytesUsed(shard);
+        lock.lock();
+        try {
+            PendingRefresh pendingRefresh = pendingRefreshes.get(shard);
+            if (pendingRefresh == null) {
+                pendingRefresh = new PendingRefresh(shard, pendingRefreshSequence++);
+                pendingRefreshes.put(shard, pendingRefresh);
+            } else {
+                // coalesce with the request that is still waiting, re-adding it below to account for its new priority
+                queue.remove(pendingRefresh);
+            }
+            if (writeIndexingBuffer) {
+                pendingRefresh.writeIndexingBuffer = true;
+            } else {
+                pendingRefresh.scheduledRefresh = true;
+            }
+            pendingRefresh.bufferBytes = bufferBytes;
+            queue.add(pendingRefresh);
+            maybeStartWorkers();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void maybeStartWorkers() {
+        assert lock.isHeldByCurrentThread();
+        // workers that are busy with a refresh pick up the next one once they are done, but if the limit allows it we
+        // rather start one worker per waiting refresh than let the refresh wait
+        for (int started = 0; started < queue.size() && runningRefreshes < maxConcurrentRefreshes; started++) {
+            runningRefreshes++;
+            threadPool.executor(ThreadPool.Names.REFRESH).execute(new AbstractRunnable() {
+                @Override
+                protected void doRun() {
+                    runPendingRefreshes();
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    logger.warn("failed to run pending refreshes", e);
+                }
+
+                @Override
+                public void onRejection(Exception e) {
+                    lock.lock();
+                    try {
+                        runningRefreshes--;
+                    } finally {
+                        lock.unlock();
+                    }
+                    super.onRejection(e);
+                }
+            });
+        }
+    }
+
+    private void runPendingRefreshes() {
+        while (true) {
+            final PendingRefresh pendingRefresh;
+            lock.lock();
+            try {
+                // also stop if the limit was lowered in the meantime
+                pendingRefresh = runningRefreshes > maxConcurrentRefreshes ? null : queue.poll();
+                if (pendingRefresh == null) {
+                    runningRefreshes--;
+                    return;
+                }
+                // refreshes requested from now on must run again once this one is done
+                pendingRefreshes.remove(pendingRefresh.shard);
+            } finally {
+                lock.unlock();
+            }
+            run(pendingRefresh);
+        }
+    }
+
+    private void run(PendingRefresh pendingRefresh) {
+        final IndexShard shard = pendingRefresh.shard;
+        try {
+            if (pendingRefresh.writeIndexingBuffer) {
+                writeIndexingBuffer(shard);
+            }
+            if (pendingRefresh.scheduledRefresh) {
+                scheduledRefresh(shard);
+            }
+        } catch (IndexShardClosedException | AlreadyClosedException e) {
+            // fine - the shard was closed in the meantime
+        } catch (Exception e) {
+            logger.warn(() -> new ParameterizedMessage("failed to refresh shard [{}]; ignoring", shard.shardId()), e);
+        }
+    }
+
+    /** returns how much heap this shard is using for its indexing buffer */
+    protected long getIndexBufferRAMBytesUsed(IndexShard shard) {
+        return shard.getIndexBufferRAMBytesUsed();
+    }
+
+    /** runs the scheduled refresh of this shard */
+    protected void scheduledRefresh(IndexShard shard) {
+        shard.scheduledRefresh();
+    }
+
+    /** asks this shard to write its indexing buffer to disk */
+    protected void writeIndexingBuffer(IndexShard shard) {
+        shard.writeIndexingBuffer();
+    }
+
+    private static final class PendingRefresh {
+
+        /**
+         * Indexing buffers that must be written to disk go first, then the shards with the largest indexing buffers.
+         * Ties are broken in arrival order.
+         */
+        static final Comparator<PendingRefresh> PRIORITY = Comparator.<PendingRefresh, Boolean>comparing(r -> r.writeIndexingBuffer)
+            .reversed()
+            .thenComparing(Comparator.<PendingRefresh>comparingLong(r -> r.bufferBytes).reversed())
+            .thenComparingLong(r -> r.sequence);
+
+        final IndexShard shard;
+        final long sequence;
+        boolean writeIndexingBuffer;
+        boolean scheduledRefresh;
+        long bufferBytes;
+
+        PendingRefresh(IndexShard shard, long sequence) {
+            this.shard = shard;
+            this.sequence = sequence;
+        }
+    }
+}
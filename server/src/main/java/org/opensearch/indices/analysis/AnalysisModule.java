@@ -65,6 +65,7 @@ import org.opensearch.index.analysis.WhitespaceAnalyzerProvider;
 import org.opensearch.plugins.AnalysisPlugin;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -106,7 +107,24 @@ public final class AnalysisModule {
         analysisRegistry = new AnalysisRegistry(environment,
                 charFilters.getRegistry(), tokenFilters.getRegistry(), tokenizers.getRegistry(),
                 analyzers.getRegistry(), normalizers.getRegistry(),
-                preConfiguredCharFilters, preConfiguredTokenFilters, preConfiguredTokenizers, preConfiguredAnalyzers);
+                preConfiguredCharFilters, preConfiguredTokenFilters, preConfiguredTokenizers, preConfiguredAnalyzers,
+                () -> stats(hunspellService, plugins));
+    }
+
+    static NodeAnalysisStats stats(HunspellService hunspellService, List<AnalysisPlugin> plugins) {
+        final Map<String, NodeAnalysisStats.SharedResourceStats> sharedResources = new HashMap<>();
+        final NodeAnalysisStats.SharedResourceStats hunspellDictionaries = hunspellService.stats();
+        if (hunspellDictionaries != null) {
+            sharedResources.put("hunspell_dictionaries", hunspellDictionaries);
+        }
+        for (AnalysisPlugin plugin : plugins) {
+            for (Map.Entry<String, NodeAnalysisStats.SharedResourceStats> entry : plugin.getSharedResourceStats().entrySet()) {
+                if (sharedResources.putIfAbsent(entry.getKey(), entry.getValue()) != null) {
+                    throw new IllegalArgumentException("shared analysis resources [" + entry.getKey() + "] are reported twice");
+                }
+            }
+        }
+        return sharedResources.isEmpty() ? null : new NodeAnalysisStats(sharedResources);
     }
 
     HunspellService getHunspellService() {
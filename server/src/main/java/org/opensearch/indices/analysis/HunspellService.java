@@ -35,15 +35,22 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.analysis.hunspell.Dictionary;
+import org.apache.lucene.analysis.hunspell.OffHeapDictionaryWords;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.store.SimpleFSDirectory;
 import org.opensearch.OpenSearchException;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.common.io.FileSystemUtils;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.env.Environment;
+import org.opensearch.indices.analysis.NodeAnalysisStats.SharedResourceStats;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -56,6 +63,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 /**
@@ -71,6 +79,11 @@ import java.util.function.Function;
  *      (defaults to {@code true})</li>
  * </ul>
  * <p>
+ * Dictionaries are loaded once per node, the first time an index uses them unless
+ * {@code indices.analysis.hunspell.dictionary.lazy} is disabled, and are shared by the hunspell filters of all indices. The
+ * words of the loaded dictionaries, which are most of their size, are read from memory-mapped files instead of the heap
+ * unless {@code indices.analysis.hunspell.dictionary.off_heap} is disabled.
+ * <p>
  * These settings can either be configured as node level configuration, such as:
  * <br><br>
  * <pre><code>
@@ -93,22 +106,26 @@ public class HunspellService {
     private static final Logger logger = LogManager.getLogger(HunspellService.class);
 
     public static final Setting<Boolean> HUNSPELL_LAZY_LOAD =
-        Setting.boolSetting("indices.analysis.hunspell.dictionary.lazy", Boolean.FALSE, Property.NodeScope);
+        Setting.boolSetting("indices.analysis.hunspell.dictionary.lazy", Boolean.TRUE, Property.NodeScope);
+    public static final Setting<Boolean> HUNSPELL_OFF_HEAP =
+        Setting.boolSetting("indices.analysis.hunspell.dictionary.off_heap", Boolean.TRUE, Property.NodeScope);
     public static final Setting<Boolean> HUNSPELL_IGNORE_CASE =
         Setting.boolSetting("indices.analysis.hunspell.dictionary.ignore_case", Boolean.FALSE, Property.NodeScope);
     public static final Setting<Settings> HUNSPELL_DICTIONARY_OPTIONS =
         Setting.groupSetting("indices.analysis.hunspell.dictionary.", Property.NodeScope);
-    private final ConcurrentHashMap<String, Dictionary> dictionaries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LoadedDictionary> dictionaries = new ConcurrentHashMap<>();
     private final Map<String, Dictionary> knownDictionaries;
     private final boolean defaultIgnoreCase;
+    private final boolean offHeap;
     private final Path hunspellDir;
-    private final Function<String, Dictionary> loadingFunction;
+    private final Function<String, LoadedDictionary> loadingFunction;
 
     public HunspellService(final Settings settings, final Environment env, final Map<String, Dictionary> knownDictionaries)
             throws IOException {
         this.knownDictionaries = Collections.unmodifiableMap(knownDictionaries);
         this.hunspellDir = resolveHunspellDirectory(env);
         this.defaultIgnoreCase = HUNSPELL_IGNORE_CASE.get(settings);
+        this.offHeap = HUNSPELL_OFF_HEAP.get(settings);
         this.loadingFunction = (locale) -> {
             try {
                 return loadDictionary(locale, settings, env);
@@ -130,11 +147,45 @@ public class HunspellService {
     public Dictionary getDictionary(String locale) {
         Dictionary dictionary = knownDictionaries.get(locale);
         if (dictionary == null) {
-            dictionary = dictionaries.computeIfAbsent(locale, loadingFunction);
+            dictionary = dictionaries.computeIfAbsent(locale, loadingFunction).dictionary;
         }
         return dictionary;
     }
 
+    /**
+     * Registers a reference on the loaded dictionary of the given locale, which the {@link #stats() stats} count until the
+     * returned releasable is closed.
+     */
+    public Releasable reference(String locale) {
+        final LoadedDictionary loaded = dictionaries.get(locale);
+        if (loaded == null) {
+            // dictionaries registered by plugins aren't tracked
+            return () -> {};
+        }
+        loaded.references.incrementAndGet();
+        return Releasables.releaseOnce(loaded.references::decrementAndGet);
+    }
+
+    /**
+     * Returns the statistics of the dictionaries that the node loaded, or {@code null} if it didn't load any.
+     */
+    @Nullable
+    public SharedResourceStats stats() {
+        long count = 0;
+        long references = 0;
+        long memorySizeInBytes = 0;
+        long offHeapSizeInBytes = 0;
+        for (LoadedDictionary loaded : dictionaries.values()) {
+            count++;
+            references += loaded.references.get();
+            memorySizeInBytes += OffHeapDictionaryWords.ramBytesUsed(loaded.dictionary);
+            if (loaded.words != null) {
+                offHeapSizeInBytes += loaded.words.length();
+            }
+        }
+        return count == 0 ? null : new SharedResourceStats(count, references, memorySizeInBytes, offHeapSizeInBytes);
+    }
+
     private Path resolveHunspellDirectory(Environment env) {
         return env.configFile().resolve("hunspell");
     }
@@ -174,7 +225,7 @@ public class HunspellService {
      * @return The loaded Hunspell dictionary
      * @throws Exception when loading fails (due to IO errors or malformed dictionary files)
      */
-    private Dictionary loadDictionary(String locale, Settings nodeSettings, Environment env) throws Exception {
+    private LoadedDictionary loadDictionary(String locale, Settings nodeSettings, Environment env) throws Exception {
         if (logger.isDebugEnabled()) {
             logger.debug("Loading hunspell dictionary [{}]...", locale);
         }
@@ -208,8 +259,10 @@ public class HunspellService {
 
             affixStream = Files.newInputStream(affixFiles[0]);
 
-            try (Directory tmp = new SimpleFSDirectory(env.tmpFile())) {
-                return new Dictionary(tmp, "hunspell", affixStream, dicStreams, ignoreCase);
+            try (Directory tmp = offHeap ? new MMapDirectory(env.tmpFile()) : new SimpleFSDirectory(env.tmpFile())) {
+                final Dictionary dictionary = new Dictionary(tmp, "hunspell", affixStream, dicStreams, ignoreCase);
+                final IndexInput words = offHeap ? OffHeapDictionaryWords.moveOffHeap(dictionary, tmp, "hunspell_" + locale) : null;
+                return new LoadedDictionary(dictionary, words);
             }
 
         } catch (Exception e) {
@@ -242,5 +295,21 @@ public class HunspellService {
 
         return defaults;
     }
-}
 
+    /**
+     * A dictionary that the node loaded from the hunspell directory.
+     */
+    private static final class LoadedDictionary {
+
+        private final Dictionary dictionary;
+        /** The input that the words of the dictionary are read from if they are off-heap, which stays open for the life of the node. */
+        @Nullable
+        private final IndexInput words;
+        private final AtomicLong references = new AtomicLong();
+
+        private LoadedDictionary(Dictionary dictionary, @Nullable IndexInput words) {
+            this.dictionary = dictionary;
+            this.words = words;
+        }
+    }
+}
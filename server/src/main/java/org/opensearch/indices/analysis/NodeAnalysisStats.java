@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.analysis;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Statistics of the analysis resources, like synonym maps, that the analysis components of a node share across the
+ * indices that declare them.
+ */
+public class NodeAnalysisStats implements Writeable, ToXContentFragment {
+
+    private final Map<String, SharedResourceStats> sharedResources;
+
+    public NodeAnalysisStats(Map<String, SharedResourceStats> sharedResources) {
+        this.sharedResources = Collections.unmodifiableMap(new TreeMap<>(sharedResources));
+    }
+
+    public NodeAnalysisStats(StreamInput in) throws IOException {
+        sharedResources = Collections.unmodifiableMap(new TreeMap<>(in.readMap(StreamInput::readString, SharedResourceStats::new)));
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeMap(sharedResources, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+    }
+
+    /**
+     * The statistics of the shared resources by type of resource.
+     */
+    public Map<String, SharedResourceStats> getSharedResources() {
+        return sharedResources;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.ANALYSIS);
+        builder.startObject(Fields.SHARED_RESOURCES);
+        for (Map.Entry<String, SharedResourceStats> entry : sharedResources.entrySet()) {
+            builder.startObject(entry.getKey());
+            entry.getValue().toXContent(builder, params);
+            builder.endObject();
+        }
+        builder.endObject();
+        builder.endObject();
+        return builder;
+    }
+
+    /**
+     * Statistics of the resources of a given type that are shared across indices.
+     */
+    public static class SharedResourceStats implements Writeable, ToXContentFragment {
+
+        private final long count;
+        private final long references;
+        private final long memorySizeInBytes;
+        private final long offHeapSizeInBytes;
+
+        public SharedResourceStats(long count, long references, long memorySizeInBytes) {
+            this(count, references, memorySizeInBytes, 0);
+        }
+
+        public SharedResourceStats(long count, long references, long memorySizeInBytes, long offHeapSizeInBytes) {
+            this.count = count;
+            this.references = references;
+            this.memorySizeInBytes = memorySizeInBytes;
+            this.offHeapSizeInBytes = offHeapSizeInBytes;
+        }
+
+        public SharedResourceStats(StreamInput in) throws IOException {
+            count = in.readVLong();
+            references = in.readVLong();
+            memorySizeInBytes = in.readVLong();
+            offHeapSizeInBytes = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(count);
+            out.writeVLong(references);
+            out.writeVLong(memorySizeInBytes);
+            out.writeVLong(offHeapSizeInBytes);
+        }
+
+        /**
+         * The number of distinct resources that the node holds.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * The number of analysis components that use these resources, which would each hold their own copy if the
+         * resources weren't shared.
+         */
+        public long getReferences() {
+            return references;
+        }
+
+        /**
+         * The heap memory that the resources use.
+         */
+        public ByteSizeValue getMemorySize() {
+            return new ByteSizeValue(memorySizeInBytes);
+        }
+
+        /**
+         * The size of the memory-mapped files that the resources are read from.
+         */
+        public ByteSizeValue getOffHeapSize() {
+            return new ByteSizeValue(offHeapSizeInBytes);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.field(Fields.COUNT, count);
+            builder.field(Fields.REFERENCES, references);
+            builder.humanReadableField(Fields.MEMORY_SIZE_IN_BYTES, Fields.MEMORY_SIZE, getMemorySize());
+            builder.humanReadableField(Fields.OFF_HEAP_SIZE_IN_BYTES, Fields.OFF_HEAP_SIZE, getOffHeapSize());
+            return builder;
+        }
+    }
+
+    static final class Fields {
+        static final String ANALYSIS = "analysis";
+        static final String SHARED_RESOURCES = "shared_resources";
+        static final String COUNT = "count";
+        static final String REFERENCES = "references";
+        static final String MEMORY_SIZE = "memory_size";
+        static final String MEMORY_SIZE_IN_BYTES = "memory_size_in_bytes";
+        static final String OFF_HEAP_SIZE = "off_heap_size";
+        static final String OFF_HEAP_SIZE_IN_BYTES = "off_heap_size_in_bytes";
+    }
+}
@@ -57,6 +57,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.gateway.AsyncShardFetch;
+import org.opensearch.gateway.BatchedShardLister;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.seqno.ReplicationTracker;
@@ -85,11 +86,13 @@ public class TransportNodesListShardStoreMetadata extends TransportNodesAction<T
     TransportNodesListShardStoreMetadata.NodeStoreFilesMetadata> {
 
     public static final String ACTION_NAME = "internal:cluster/nodes/indices/shard/store";
+    public static final String BATCH_ACTION_NAME = ACTION_NAME + "[batch]";
     public static final ActionType<NodesStoreFilesMetadata> TYPE = new ActionType<>(ACTION_NAME, NodesStoreFilesMetadata::new);
 
     private final Settings settings;
     private final IndicesService indicesService;
     private final NodeEnvironment nodeEnv;
+    private final BatchedShardLister<NodesStoreFilesMetadata, NodeStoreFilesMetadata> batchedLister;
 
     @Inject
     public TransportNodesListShardStoreMetadata(Settings settings, ThreadPool threadPool,
@@ -101,6 +104,16 @@ public class TransportNodesListShardStoreMetadata extends TransportNodesAction<T
         this.settings = settings;
         this.indicesService = indicesService;
         this.nodeEnv = nodeEnv;
+        this.batchedLister = new BatchedShardLister<>(transportService, BATCH_ACTION_NAME, ThreadPool.Names.FETCH_SHARD_STORE,
+            NodeStoreFilesMetadata::new, this::listStoreFilesMetadata,
+            (responses, failures) -> new NodesStoreFilesMetadata(clusterService.getClusterName(), responses, failures), this);
+    }
+
+    /**
+     * Returns the lister that lists the store metadata of many shards with a single request per node.
+     */
+    public BatchedShardLister<NodesStoreFilesMetadata, NodeStoreFilesMetadata> batchedLister() {
+        return batchedLister;
     }
 
     @Override
@@ -126,15 +139,18 @@ public class TransportNodesListShardStoreMetadata extends TransportNodesAction<T
 
     @Override
     protected NodeStoreFilesMetadata nodeOperation(NodeRequest request) {
+        return listStoreFilesMetadata(request.getShardId(), request.getCustomDataPath());
+    }
+
+    private NodeStoreFilesMetadata listStoreFilesMetadata(ShardId shardId, @Nullable String customDataPath) {
         try {
-            return new NodeStoreFilesMetadata(clusterService.localNode(), listStoreMetadata(request));
+            return new NodeStoreFilesMetadata(clusterService.localNode(), listStoreMetadata(shardId, customDataPath));
         } catch (IOException e) {
-            throw new OpenSearchException("Failed to list store metadata for shard [" + request.shardId + "]", e);
+            throw new OpenSearchException("Failed to list store metadata for shard [" + shardId + "]", e);
         }
     }
 
-    private StoreFilesMetadata listStoreMetadata(NodeRequest request) throws IOException {
-        final ShardId shardId = request.getShardId();
+    private StoreFilesMetadata listStoreMetadata(ShardId shardId, @Nullable String requestCustomDataPath) throws IOException {
         logger.trace("listing store meta data for {}", shardId);
         long startTimeNS = System.nanoTime();
         boolean exists = false;
@@ -158,8 +174,8 @@ public class TransportNodesListShardStoreMetadata extends TransportNodesAction<T
                 }
             }
             final String customDataPath;
-            if (request.getCustomDataPath() != null) {
-                customDataPath = request.getCustomDataPath();
+            if (requestCustomDataPath != null) {
+                customDataPath = requestCustomDataPath;
             } else {
                 // TODO: Fallback for BWC with older predecessor (ES) versions.
                 //  Remove this once request.getCustomDataPath() always returns non-null
@@ -123,6 +123,8 @@ import org.opensearch.index.IndexSettings;
 import org.opensearch.index.IndexingPressure;
 import org.opensearch.index.analysis.AnalysisRegistry;
 import org.opensearch.index.engine.EngineFactory;
+import org.opensearch.index.store.remote.RemoteSnapshotBlockCache;
+import org.opensearch.index.store.remote.RemoteSnapshotDirectoryFactory;
 import org.opensearch.indices.IndicesModule;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.ShardLimitValidator;
@@ -508,6 +510,12 @@ public class Node implements Closeable {
                             .map(IndexStorePlugin::getDirectoryFactories)
                             .flatMap(m -> m.entrySet().stream())
                             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            final RemoteSnapshotBlockCache remoteSnapshotBlockCache =
+                new RemoteSnapshotBlockCache(settings, threadPool.executor(ThreadPool.Names.SNAPSHOT));
+            if (indexStoreFactories.putIfAbsent(RemoteSnapshotDirectoryFactory.TYPE,
+                new RemoteSnapshotDirectoryFactory(repositoriesServiceReference::get, remoteSnapshotBlockCache)) != null) {
+                throw new IllegalStateException("store type [" + RemoteSnapshotDirectoryFactory.TYPE + "] is already registered");
+            }
 
             final Map<String, IndexStorePlugin.RecoveryStateFactory> recoveryStateFactories =
                 pluginsService.filterPlugins(IndexStorePlugin.class)
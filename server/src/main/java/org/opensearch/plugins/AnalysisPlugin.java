@@ -48,6 +48,7 @@ import org.opensearch.index.analysis.PreConfiguredTokenizer;
 import org.opensearch.index.analysis.TokenFilterFactory;
 import org.opensearch.index.analysis.TokenizerFactory;
 import org.opensearch.indices.analysis.AnalysisModule.AnalysisProvider;
+import org.opensearch.indices.analysis.NodeAnalysisStats.SharedResourceStats;
 
 import java.io.IOException;
 import java.util.List;
@@ -141,6 +142,14 @@ public interface AnalysisPlugin {
         return emptyMap();
     }
 
+    /**
+     * Override to report the statistics of the resources that the analysis components of this plugin share across the indices of
+     * the node, by type of resource.
+     */
+    default Map<String, SharedResourceStats> getSharedResourceStats() {
+        return emptyMap();
+    }
+
     /**
      * Mark an {@link AnalysisProvider} as requiring the index's settings.
      */
@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.search;
+
+import org.opensearch.action.search.ExportAction;
+import org.opensearch.action.search.ExportRequest;
+import org.opensearch.action.search.ExportResponse;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.rest.action.RestResponseListener;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+
+import java.io.IOException;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.rest.RestRequest.Method.GET;
+import static org.opensearch.rest.RestRequest.Method.POST;
+
+/**
+ * Exports a batch of documents of a shard as newline-delimited JSON. The cursor to read the next batch with is
+ * returned in the {@value #CURSOR_HEADER} header, which is missing once the shard has been exported entirely.
+ */
+public class RestExportAction extends BaseRestHandler {
+
+    public static final String CURSOR_HEADER = "X-Export-Cursor";
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+    @Override
+    public List<Route> routes() {
+        return unmodifiableList(asList(
+            new Route(GET, "/{index}/_export"),
+            new Route(POST, "/{index}/_export")));
+    }
+
+    @Override
+    public String getName() {
+        return "export_action";
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client) throws IOException {
+        final ExportRequest exportRequest = new ExportRequest(request.param("index"), request.paramAsInt("shard", -1));
+        exportRequest.cursor(request.param("cursor"));
+        exportRequest.batchSize(request.paramAsInt("batch_size", exportRequest.batchSize()));
+        exportRequest.keepAlive(request.paramAsTime("keep_alive", exportRequest.keepAlive()));
+        exportRequest.fetchSource(FetchSourceContext.parseFromRestRequest(request));
+        return channel -> client.execute(ExportAction.INSTANCE, exportRequest, new RestResponseListener<ExportResponse>(channel) {
+            @Override
+            public RestResponse buildResponse(ExportResponse response) {
+                final BytesRestResponse restResponse = new BytesRestResponse(RestStatus.OK, NDJSON_CONTENT_TYPE, response.getDocs());
+                if (response.getCursor() != null) {
+                    restResponse.addHeader(CURSOR_HEADER, response.getCursor());
+                }
+                return restResponse;
+            }
+        });
+    }
+}
@@ -37,6 +37,7 @@ import org.opensearch.OpenSearchException;
 import org.opensearch.common.logging.DeprecationLogger;
 import org.opensearch.common.lucene.ScorerAware;
 import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.search.lookup.LeafDocLookup;
 import org.opensearch.search.lookup.LeafSearchLookup;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.search.lookup.SourceLookup;
@@ -118,6 +119,14 @@ abstract class AbstractSortScript implements ScorerAware {
         return leafLookup.doc();
     }
 
+    /**
+     * Reads the first value of a numeric field of the current document as a double, see {@link LeafDocLookup#readDouble}.
+     * Painless compiles reads of {@code doc['field'].value} that are converted to doubles into calls of this method.
+     */
+    public double readDoubleDocValue(int slot, String field) {
+        return leafLookup.doc().readDouble(slot, field);
+    }
+
     /**
      * Set the current document to run the script on next.
      */
@@ -37,6 +37,7 @@ import org.apache.lucene.search.Scorable;
 import org.opensearch.Version;
 import org.opensearch.common.logging.DeprecationLogger;
 import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.search.lookup.LeafDocLookup;
 import org.opensearch.search.lookup.LeafSearchLookup;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.search.lookup.SourceLookup;
@@ -139,6 +140,14 @@ public abstract class ScoreScript {
         return leafLookup.doc();
     }
 
+    /**
+     * Reads the first value of a numeric field of the current document as a double, see {@link LeafDocLookup#readDouble}.
+     * Painless compiles reads of {@code doc['field'].value} that are converted to doubles into calls of this method.
+     */
+    public double readDoubleDocValue(int slot, String field) {
+        return leafLookup.doc().readDouble(slot, field);
+    }
+
     /** Set the current document to run the script on next. */
     public void setDocument(int docid) {
         this.docId = docid;
@@ -37,6 +37,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.grouping.CollapseTopFieldDocs;
 import org.opensearch.LegacyESVersion;
 import org.opensearch.OpenSearchException;
 import org.opensearch.action.ActionListener;
@@ -65,6 +66,7 @@ import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.CollectionUtils;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.ConcurrentMapLong;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.index.Index;
 import org.opensearch.index.IndexNotFoundException;
@@ -97,8 +99,12 @@ import org.opensearch.search.aggregations.SearchContextAggregations;
 import org.opensearch.search.aggregations.pipeline.PipelineAggregator.PipelineTree;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.collapse.CollapseContext;
+import org.opensearch.search.collapse.CollapseInnerHitsPhase;
 import org.opensearch.search.dfs.DfsPhase;
 import org.opensearch.search.dfs.DfsSearchResult;
+import org.opensearch.search.export.ExportPhase;
+import org.opensearch.search.export.ShardExportRequest;
+import org.opensearch.search.export.ShardExportResult;
 import org.opensearch.search.fetch.FetchPhase;
 import org.opensearch.search.fetch.FetchSearchResult;
 import org.opensearch.search.fetch.QueryFetchSearchResult;
@@ -135,6 +141,7 @@ import org.opensearch.threadpool.ThreadPool.Names;
 import org.opensearch.transport.TransportRequest;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -181,6 +188,13 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     public static final Setting<Integer> MAX_OPEN_SCROLL_CONTEXT =
         Setting.intSetting("search.max_open_scroll_context", 500, 0, Property.Dynamic, Property.NodeScope);
 
+    /**
+     * How many leaves the fetch phase of a shard request fetches concurrently, forking to the search thread pool.
+     * Defaults to fetching on the calling thread only.
+     */
+    public static final Setting<Integer> FETCH_MAX_CONCURRENCY_SETTING =
+        Setting.intSetting("search.fetch.max_concurrency", 1, 1, Property.Dynamic, Property.NodeScope);
+
     public static final int DEFAULT_SIZE = 10;
     public static final int DEFAULT_FROM = 0;
 
@@ -202,6 +216,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private final FetchPhase fetchPhase;
 
+    private final CollapseInnerHitsPhase collapseInnerHitsPhase;
+
     private volatile long defaultKeepAlive;
 
     private volatile long maxKeepAlive;
@@ -214,6 +230,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private volatile int maxOpenScrollContext;
 
+    private volatile int fetchMaxConcurrency;
+
     private final Cancellable keepAliveReaper;
 
     private final AtomicLong idGenerator = new AtomicLong();
@@ -237,6 +255,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.bigArrays = bigArrays;
         this.queryPhase = new QueryPhase();
         this.fetchPhase = fetchPhase;
+        this.collapseInnerHitsPhase = new CollapseInnerHitsPhase(fetchPhase);
         this.multiBucketConsumerService = new MultiBucketConsumerService(clusterService, settings,
             circuitBreakerService.getBreaker(CircuitBreaker.REQUEST));
 
@@ -260,6 +279,9 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
         lowLevelCancellation = LOW_LEVEL_CANCELLATION_SETTING.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(LOW_LEVEL_CANCELLATION_SETTING, this::setLowLevelCancellation);
+
+        fetchMaxConcurrency = FETCH_MAX_CONCURRENCY_SETTING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(FETCH_MAX_CONCURRENCY_SETTING, this::setFetchMaxConcurrency);
     }
 
     private void validateKeepAlives(TimeValue defaultKeepAlive, TimeValue maxKeepAlive) {
@@ -296,6 +318,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.lowLevelCancellation = lowLevelCancellation;
     }
 
+    private void setFetchMaxConcurrency(int fetchMaxConcurrency) {
+        this.fetchMaxConcurrency = fetchMaxConcurrency;
+    }
+
     @Override
     public void afterIndexRemoved(Index index, IndexSettings indexSettings, IndexRemovalReason reason) {
         // once an index is removed due to deletion or closing, we can just clean up all the pending search context information
@@ -469,10 +495,12 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         }
     }
 
-    private QueryFetchSearchResult executeFetchPhase(ReaderContext reader, SearchContext context, long afterQueryTime) {
+    private QueryFetchSearchResult executeFetchPhase(ReaderContext reader, SearchContext context,
+                                                     long afterQueryTime) throws IOException {
         try (SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(context, true, afterQueryTime)){
             shortcutDocIdsToLoad(context);
-            fetchPhase.execute(context);
+            executeFetchPhase(context);
+            expandCollapsedHits(context, shortcutCollapseValues(context));
             if (reader.singleSession()) {
                 freeReaderContext(reader.id());
             }
@@ -541,6 +569,17 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         }, wrapFailureListener(listener, readerContext, markAsUsed));
     }
 
+    private void executeFetchPhase(SearchContext context) {
+        final int maxConcurrency = fetchMaxConcurrency;
+        if (maxConcurrency > 1) {
+            final Executor executor = getExecutor(context.indexShard());
+            final ThreadContext threadContext = threadPool.getThreadContext();
+            fetchPhase.execute(context, maxConcurrency, r -> executor.execute(threadContext.preserveContext(r)));
+        } else {
+            fetchPhase.execute(context);
+        }
+    }
+
     private Executor getExecutor(IndexShard indexShard) {
         assert indexShard != null;
         final String executorName;
@@ -599,7 +638,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 searchContext.docIdsToLoad(request.docIds(), 0, request.docIdsSize());
                 try (SearchOperationListenerExecutor executor =
                          new SearchOperationListenerExecutor(searchContext, true, System.nanoTime())) {
-                    fetchPhase.execute(searchContext);
+                    executeFetchPhase(searchContext);
+                    expandCollapsedHits(searchContext, request.getCollapseValues());
                     if (readerContext.singleSession()) {
                         freeReaderContext(request.contextId());
                     }
@@ -614,6 +654,53 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         }, wrapFailureListener(listener, readerContext, markAsUsed));
     }
 
+    /**
+     * Exports the next batch of documents of a shard. The first batch opens a reader context that the following
+     * batches read from so that the export sees a consistent view of the shard, it is released once the last
+     * document of the shard has been read.
+     */
+    public void executeExportPhase(ShardExportRequest request, SearchShardTask task, ActionListener<ShardExportResult> listener) {
+        try {
+            final int maxBatchSize = indicesService.indexServiceSafe(request.shardId().getIndex()).getIndexSettings()
+                .getMaxExportBatchSize();
+            if (request.batchSize() > maxBatchSize) {
+                throw new IllegalArgumentException("Export batch size [" + request.batchSize() + "] is too large. It must be less "
+                    + "than or equal to [" + maxBatchSize + "]. This prevents buffering massive batches on the shard. This limit "
+                    + "can be set by changing the [" + IndexSettings.MAX_EXPORT_BATCH_SIZE_SETTING.getKey() + "] index level setting.");
+            }
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        if (request.contextId() == null) {
+            openReaderContext(request.shardId(), request.keepAlive(), ActionListener.wrap(
+                contextId -> executeExportPhase(request, contextId, task, listener), listener::onFailure));
+        } else {
+            executeExportPhase(request, request.contextId(), task, listener);
+        }
+    }
+
+    private void executeExportPhase(ShardExportRequest request, ShardSearchContextId contextId, SearchShardTask task,
+                                    ActionListener<ShardExportResult> listener) {
+        final ReaderContext readerContext = findReaderContext(contextId, request);
+        if (readerContext.indexShard().shardId().equals(request.shardId()) == false) {
+            throw new IllegalArgumentException("reader context [" + contextId + "] doesn't belong to shard " + request.shardId());
+        }
+        checkKeepAliveLimit(request.keepAlive().millis());
+        final Releasable markAsUsed = readerContext.markAsUsed(request.keepAlive().millis());
+        runAsync(getExecutor(readerContext.indexShard()), () -> {
+            final ShardExportResult result;
+            try (Engine.Searcher searcher = readerContext.acquireSearcher("export")) {
+                result = ExportPhase.execute(contextId, searcher.getIndexReader(), request.shardId().getIndexName(),
+                    request.afterDoc(), request.batchSize(), request.fetchSource(), task::isCancelled);
+            }
+            if (result.isExhausted()) {
+                freeReaderContext(contextId);
+            }
+            return result;
+        }, wrapFailureListener(listener, readerContext, markAsUsed));
+    }
+
     private ReaderContext getReaderContext(ShardSearchContextId id) {
         if (sessionId.equals(id.getSessionId()) == false && id.getSessionId().isEmpty() == false) {
             throw new SearchContextMissingException(id);
@@ -1065,6 +1152,29 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         }
     }
 
+    /**
+     * Returns the collapse values of the hits that are fetched without a fetch request, or {@code null} if the shard
+     * cannot expand them with their inner hits.
+     */
+    private static Object[] shortcutCollapseValues(SearchContext context) {
+        if (context.collapse() == null || context.request().scroll() != null
+            || CollapseInnerHitsPhase.canExpand(context.collapse().getInnerHit()) == false) {
+            return null;
+        }
+        final TopDocs topDocs = context.queryResult().topDocs().topDocs;
+        if (topDocs instanceof CollapseTopFieldDocs == false) {
+            return null;
+        }
+        final Object[] collapseValues = ((CollapseTopFieldDocs) topDocs).collapseValues;
+        return Arrays.copyOfRange(collapseValues, Math.min(context.from(), collapseValues.length), collapseValues.length);
+    }
+
+    private void expandCollapsedHits(SearchContext context, Object[] collapseValues) throws IOException {
+        if (collapseValues != null && collapseValues.length > 0) {
+            context.fetchResult().collapseInnerHits(collapseInnerHitsPhase.execute(context, collapseValues));
+        }
+    }
+
     /**
      * Shortcut ids to load, we load only "from" and up to "size". The phase controller
      * handles this as well since the result is always size * shards for Q_T_F
@@ -0,0 +1,225 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.index.fielddata.IndexNumericFieldData.NumericType;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.support.ValuesSourceConfig;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+
+/**
+ * Counts the documents that fall into a set of ranges of a numeric field from the points of the field rather than
+ * from its doc values. Bucket aggregations like {@code date_histogram} and {@code range} can use it to turn each of
+ * their buckets into a range filter, as long as they are at the top level, have no sub-aggregations and the query is
+ * a {@code match_all} or a range query on the same field, so that the counts of the ranges are all they need.
+ * <p>
+ * Points count every value of every document, including deleted ones, so segments with deleted documents or with
+ * multi-valued documents still have to be collected from doc values.
+ */
+public final class PointRangeCounter {
+
+    private final String field;
+    private final int bytesPerDim;
+    /**
+     * The inclusive bounds of the query on the field.
+     */
+    private final long queryMin;
+    private final long queryMax;
+
+    private PointRangeCounter(String field, int bytesPerDim, long queryMin, long queryMax) {
+        this.field = field;
+        this.bytesPerDim = bytesPerDim;
+        this.queryMin = queryMin;
+        this.queryMax = queryMax;
+    }
+
+    /**
+     * Returns a counter for the field of the given aggregation, or {@code null} if its buckets cannot be counted
+     * from points.
+     */
+    public static PointRangeCounter build(SearchContext context, Aggregator parent, AggregatorFactories factories,
+                                          ValuesSourceConfig config) {
+        if (parent != null || factories.countAggregators() > 0) {
+            return null;
+        }
+        if (context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER || context.minimumScore() != null) {
+            return null;
+        }
+        if (config.fieldContext() == null || config.script() != null || config.missing() != null) {
+            return null;
+        }
+        final MappedFieldType fieldType = config.fieldType();
+        if (fieldType == null || fieldType.isSearchable() == false) {
+            return null;
+        }
+        final int bytesPerDim = bytesPerDim(fieldType);
+        if (bytesPerDim == -1) {
+            return null;
+        }
+        Query query = context.query();
+        while (true) {
+            if (query instanceof ConstantScoreQuery) {
+                query = ((ConstantScoreQuery) query).getQuery();
+            } else if (query instanceof BoostQuery) {
+                query = ((BoostQuery) query).getQuery();
+            } else if (query instanceof IndexOrDocValuesQuery) {
+                query = ((IndexOrDocValuesQuery) query).getIndexQuery();
+            } else {
+                break;
+            }
+        }
+        if (query == null || query instanceof MatchAllDocsQuery) {
+            return new PointRangeCounter(fieldType.name(), bytesPerDim, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+        if (query instanceof PointRangeQuery) {
+            final PointRangeQuery rangeQuery = (PointRangeQuery) query;
+            if (rangeQuery.getField().equals(fieldType.name()) && rangeQuery.getNumDims() == 1
+                && rangeQuery.getBytesPerDim() == bytesPerDim) {
+                return new PointRangeCounter(fieldType.name(), bytesPerDim,
+                    decode(rangeQuery.getLowerPoint(), bytesPerDim), decode(rangeQuery.getUpperPoint(), bytesPerDim));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The number of bytes of the points of fields whose points hold the same values as their doc values, or -1.
+     */
+    private static int bytesPerDim(MappedFieldType fieldType) {
+        if (fieldType instanceof DateFieldMapper.DateFieldType) {
+            final DateFieldMapper.Resolution resolution = ((DateFieldMapper.DateFieldType) fieldType).resolution();
+            return resolution == DateFieldMapper.Resolution.MILLISECONDS ? Long.BYTES : -1;
+        }
+        if (fieldType instanceof NumberFieldMapper.NumberFieldType) {
+            final NumericType numericType = ((NumberFieldMapper.NumberFieldType) fieldType).numericType();
+            switch (numericType) {
+                case LONG:
+                    return Long.BYTES;
+                case INT:
+                case SHORT:
+                case BYTE:
+                    return Integer.BYTES;
+                default:
+                    return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static long decode(byte[] packedValue, int bytesPerDim) {
+        return bytesPerDim == Long.BYTES
+            ? NumericUtils.sortableBytesToLong(packedValue, 0)
+            : NumericUtils.sortableBytesToInt(packedValue, 0);
+    }
+
+    /**
+     * Returns the inclusive bounds of the values of the segment that match the query, an empty array if the segment
+     * has no such values, or {@code null} if the segment must be collected from doc values.
+     */
+    public long[] segmentBounds(LeafReaderContext ctx) throws IOException {
+        if (ctx.reader().hasDeletions()) {
+            return null;
+        }
+        final PointValues points = ctx.reader().getPointValues(field);
+        if (points == null) {
+            // only trust that there are no values if the segment doesn't have doc values for the field either
+            return ctx.reader().getFieldInfos().fieldInfo(field) == null ? new long[0] : null;
+        }
+        if (points.getNumDimensions() != 1 || points.getBytesPerDimension() != bytesPerDim || points.size() != points.getDocCount()) {
+            return null;
+        }
+        final long min = Math.max(queryMin, decode(points.getMinPackedValue(), bytesPerDim));
+        final long max = Math.min(queryMax, decode(points.getMaxPackedValue(), bytesPerDim));
+        return min <= max ? new long[] { min, max } : new long[0];
+    }
+
+    /**
+     * Counts the documents of the segment that match the query and whose value falls into each of the given ranges. The
+     * ranges are inclusive on both ends and must be sorted and not overlap, a range whose lower bound is greater than
+     * its upper bound is empty. Must only be called if {@link #segmentBounds} found values in the segment.
+     */
+    public int[] count(LeafReaderContext ctx, long[] lows, long[] highs) throws IOException {
+        assert lows.length == highs.length;
+        final int numRanges = lows.length;
+        // the values outside of the query must not be counted
+        final long[] clippedLows = new long[numRanges];
+        final long[] clippedHighs = new long[numRanges];
+        for (int i = 0; i < numRanges; i++) {
+            clippedLows[i] = Math.max(lows[i], queryMin);
+            clippedHighs[i] = Math.min(highs[i], queryMax);
+        }
+        final int[] counts = new int[numRanges];
+        ctx.reader().getPointValues(field).intersect(new PointValues.IntersectVisitor() {
+            /**
+             * The range that holds all values of the cell that is visited.
+             */
+            int cellRange = -1;
+
+            @Override
+            public void visit(int docID) {
+                counts[cellRange]++;
+            }
+
+            @Override
+            public void visit(int docID, byte[] packedValue) {
+                final long value = decode(packedValue, bytesPerDim);
+                final int range = firstRangeEndingAtOrAfter(value);
+                if (range < numRanges && clippedLows[range] <= value) {
+                    counts[range]++;
+                }
+            }
+
+            @Override
+            public PointValues.Relation compare(byte[] minPackedValue, byte[] maxPackedValue) {
+                final long min = decode(minPackedValue, bytesPerDim);
+                final long max = decode(maxPackedValue, bytesPerDim);
+                final int range = firstRangeEndingAtOrAfter(min);
+                if (range == numRanges || clippedLows[range] > max) {
+                    // the lower bounds of the following ranges are even greater
+                    return PointValues.Relation.CELL_OUTSIDE_QUERY;
+                }
+                if (clippedLows[range] <= min && max <= clippedHighs[range]) {
+                    cellRange = range;
+                    return PointValues.Relation.CELL_INSIDE_QUERY;
+                }
+                return PointValues.Relation.CELL_CROSSES_QUERY;
+            }
+
+            private int firstRangeEndingAtOrAfter(long value) {
+                int lo = 0;
+                int hi = numRanges - 1;
+                while (lo <= hi) {
+                    final int mid = (lo + hi) >>> 1;
+                    if (clippedHighs[mid] < value) {
+                        lo = mid + 1;
+                    } else {
+                        hi = mid - 1;
+                    }
+                }
+                return lo;
+            }
+        });
+        return counts;
+    }
+}
@@ -47,6 +47,7 @@ import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.bucket.geogrid.CellIdSource;
+import org.opensearch.search.aggregations.bucket.geogrid.GeoTileCellIdSource;
 import org.opensearch.search.aggregations.bucket.geogrid.GeoTileGridAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.geogrid.GeoTileUtils;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
@@ -104,11 +105,10 @@ public class GeoTileGridValuesSourceBuilder extends CompositeValuesSourceBuilder
                 ValuesSource.GeoPoint geoPoint = (ValuesSource.GeoPoint) valuesSourceConfig.getValuesSource();
                 // is specified in the builder.
                 final MappedFieldType fieldType = valuesSourceConfig.fieldType();
-                CellIdSource cellIdSource = new CellIdSource(
+                CellIdSource cellIdSource = new GeoTileCellIdSource(
                     geoPoint,
                     precision,
-                    boundingBox,
-                    GeoTileUtils::longEncode
+                    boundingBox
                 );
                 return new CompositeValuesSourceConfig(
                     name,
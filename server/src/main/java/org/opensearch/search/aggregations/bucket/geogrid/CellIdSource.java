@@ -39,6 +39,8 @@ import org.opensearch.index.fielddata.SortedBinaryDocValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.aggregations.support.ValuesSource;
 
+import java.io.IOException;
+
 /**
  * Wrapper class to help convert {@link MultiGeoPointValues}
  * to numeric long values for bucketing.
@@ -67,7 +69,7 @@ public class CellIdSource extends ValuesSource.Numeric {
     }
 
     @Override
-    public SortedNumericDocValues longValues(LeafReaderContext ctx) {
+    public SortedNumericDocValues longValues(LeafReaderContext ctx) throws IOException {
         if (geoBoundingBox.isUnbounded()) {
             return new UnboundedCellValues(valuesSource.geoPointValues(ctx), precision, encoder);
         }
@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.geogrid;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.opensearch.common.geo.GeoBoundingBox;
+import org.opensearch.search.aggregations.support.ValuesSource;
+
+import java.io.IOException;
+
+/**
+ * A {@link CellIdSource} of geotile ids that reads the tile ids that are indexed for the requested zoom level when the
+ * {@code geo_point} field lists it in its {@code tile_precisions}, instead of computing them from the points of every document.
+ * Tiles are only read when there is no bounding box to filter the points by.
+ */
+public class GeoTileCellIdSource extends CellIdSource {
+    private final ValuesSource.GeoPoint valuesSource;
+    private final GeoBoundingBox geoBoundingBox;
+
+    public GeoTileCellIdSource(ValuesSource.GeoPoint valuesSource, int precision, GeoBoundingBox geoBoundingBox) {
+        super(valuesSource, precision, geoBoundingBox, GeoTileUtils::longEncode);
+        this.valuesSource = valuesSource;
+        this.geoBoundingBox = geoBoundingBox;
+    }
+
+    @Override
+    public SortedNumericDocValues longValues(LeafReaderContext ctx) throws IOException {
+        if (geoBoundingBox.isUnbounded()) {
+            SortedNumericDocValues tiles = valuesSource.geoTileValues(ctx, precision());
+            if (tiles != null) {
+                return tiles;
+            }
+        }
+        return super.longValues(ctx);
+    }
+}
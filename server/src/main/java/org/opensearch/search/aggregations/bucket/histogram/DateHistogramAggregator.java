@@ -33,7 +33,9 @@ package org.opensearch.search.aggregations.bucket.histogram;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.CollectionUtil;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Rounding;
@@ -47,6 +49,7 @@ import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
+import org.opensearch.search.aggregations.bucket.PointRangeCounter;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
@@ -65,6 +68,11 @@ import java.util.function.BiConsumer;
  */
 class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAggregator {
 
+    /**
+     * The maximum number of buckets of a segment for which the doc counts are read from the points of the field.
+     */
+    private static final int MAX_POINT_RANGE_BUCKETS = 1024;
+
     private final ValuesSource.Numeric valuesSource;
     private final DocValueFormat formatter;
     private final Rounding rounding;
@@ -81,6 +89,10 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
 
     private final LongKeyedBucketOrds bucketOrds;
 
+    @Nullable
+    private final PointRangeCounter pointRangeCounter;
+    private int segmentsCountedFromPoints;
+
     DateHistogramAggregator(
         String name,
         AggregatorFactories factories,
@@ -112,6 +124,7 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         this.formatter = valuesSourceConfig.format();
 
         bucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), cardinality);
+        this.pointRangeCounter = valuesSource == null ? null : PointRangeCounter.build(context, parent, factories, valuesSourceConfig);
     }
 
     @Override
@@ -127,6 +140,10 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         if (valuesSource == null) {
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
+        if (pointRangeCounter != null && countFromPoints(ctx)) {
+            // the doc counts of this segment have been read from the points, we don't need to collect hits
+            throw new CollectionTerminatedException();
+        }
         SortedNumericDocValues values = valuesSource.longValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -158,6 +175,53 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         };
     }
 
+    /**
+     * Counts the documents of every bucket of the segment from the points of the field, using a range per bucket.
+     * Returns {@code false} if the segment must be collected from doc values instead.
+     */
+    private boolean countFromPoints(LeafReaderContext ctx) throws IOException {
+        final long[] bounds = pointRangeCounter.segmentBounds(ctx);
+        if (bounds == null) {
+            return false;
+        }
+        if (bounds.length == 0) {
+            segmentsCountedFromPoints++;
+            return true;
+        }
+        long[] keys = new long[16];
+        int numKeys = 0;
+        for (long key = preparedRounding.round(bounds[0]); key <= bounds[1]; ) {
+            if (numKeys == MAX_POINT_RANGE_BUCKETS) {
+                return false;
+            }
+            keys = ArrayUtil.grow(keys, numKeys + 1);
+            keys[numKeys++] = key;
+            final long nextKey = preparedRounding.nextRoundingValue(key);
+            if (nextKey <= key) {
+                // overflow
+                break;
+            }
+            key = nextKey;
+        }
+        final long[] lows = ArrayUtil.copyOfSubArray(keys, 0, numKeys);
+        final long[] highs = new long[numKeys];
+        for (int i = 0; i < numKeys; i++) {
+            highs[i] = i + 1 < numKeys ? keys[i + 1] - 1 : bounds[1];
+        }
+        final int[] counts = pointRangeCounter.count(ctx, lows, highs);
+        segmentsCountedFromPoints++;
+        for (int i = 0; i < numKeys; i++) {
+            if (counts[i] > 0 && (hardBounds == null || hardBounds.contain(lows[i]))) {
+                long bucketOrd = bucketOrds.add(0, lows[i]);
+                if (bucketOrd < 0) { // already seen
+                    bucketOrd = -1 - bucketOrd;
+                }
+                incrementBucketDocCount(bucketOrd, counts[i]);
+            }
+        }
+        return true;
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return buildAggregationsForVariableBuckets(owningBucketOrds, bucketOrds,
@@ -194,6 +258,7 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
     @Override
     public void collectDebugInfo(BiConsumer<String, Object> add) {
         add.accept("total_buckets", bucketOrds.size());
+        add.accept("segments_counted_from_points", segmentsCountedFromPoints);
     }
 
     /**
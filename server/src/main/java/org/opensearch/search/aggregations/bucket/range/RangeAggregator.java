@@ -32,7 +32,9 @@
 package org.opensearch.search.aggregations.bucket.range;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.ScoreMode;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -54,7 +56,9 @@ import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.NonCollectingAggregator;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
+import org.opensearch.search.aggregations.bucket.PointRangeCounter;
 import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
@@ -62,6 +66,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 
 import static org.opensearch.common.xcontent.ConstructingObjectParser.optionalConstructorArg;
 
@@ -236,9 +241,38 @@ public class RangeAggregator extends BucketsAggregator {
 
     final double[] maxTo;
 
+    /**
+     * Values beyond this magnitude may not be represented exactly as doubles, so they may not be compared with the bounds
+     * of the ranges as longs.
+     */
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    @Nullable
+    private final PointRangeCounter pointRangeCounter;
+    /**
+     * The inclusive bounds of the ranges for the values of a field that only holds integers.
+     */
+    private final long[] pointRangeLows;
+    private final long[] pointRangeHighs;
+    private int segmentsCountedFromPoints;
+
+    public RangeAggregator(String name, AggregatorFactories factories, ValuesSourceConfig valuesSourceConfig,
+            InternalRange.Factory rangeFactory, Range[] ranges, boolean keyed, SearchContext context,
+            Aggregator parent, CardinalityUpperBound cardinality, Map<String, Object> metadata) throws IOException {
+        this(name, factories, (ValuesSource.Numeric) valuesSourceConfig.getValuesSource(), valuesSourceConfig.format(), rangeFactory,
+            ranges, keyed, context, parent, cardinality, metadata, PointRangeCounter.build(context, parent, factories, valuesSourceConfig));
+    }
+
     public RangeAggregator(String name, AggregatorFactories factories, ValuesSource.Numeric valuesSource, DocValueFormat format,
             InternalRange.Factory rangeFactory, Range[] ranges, boolean keyed, SearchContext context,
             Aggregator parent, CardinalityUpperBound cardinality, Map<String, Object> metadata) throws IOException {
+        this(name, factories, valuesSource, format, rangeFactory, ranges, keyed, context, parent, cardinality, metadata, null);
+    }
+
+    private RangeAggregator(String name, AggregatorFactories factories, ValuesSource.Numeric valuesSource, DocValueFormat format,
+            InternalRange.Factory rangeFactory, Range[] ranges, boolean keyed, SearchContext context,
+            Aggregator parent, CardinalityUpperBound cardinality, Map<String, Object> metadata,
+            @Nullable PointRangeCounter pointRangeCounter) throws IOException {
 
         super(name, factories, context, parent, cardinality.multiply(ranges.length), metadata);
         assert valuesSource != null;
@@ -255,6 +289,22 @@ public class RangeAggregator extends BucketsAggregator {
             maxTo[i] = Math.max(this.ranges[i].to,maxTo[i-1]);
         }
 
+        // an integer value is at least from if it is at least ceil(from) and less than to if it is at most ceil(to) - 1
+        final long[] lows = new long[ranges.length];
+        final long[] highs = new long[ranges.length];
+        boolean disjoint = true;
+        for (int i = 0; i < ranges.length; i++) {
+            lows[i] = Double.isInfinite(ranges[i].from) ? Long.MIN_VALUE : (long) Math.ceil(ranges[i].from);
+            final long to = Double.isInfinite(ranges[i].to) ? Long.MAX_VALUE : (long) Math.ceil(ranges[i].to);
+            highs[i] = to == Long.MIN_VALUE || to == Long.MAX_VALUE ? to : to - 1;
+            if (i > 0 && (lows[i] <= highs[i - 1] || highs[i] < highs[i - 1])) {
+                disjoint = false;
+            }
+        }
+        // the documents of overlapping ranges must be counted more than once, which points can't do
+        this.pointRangeCounter = disjoint ? pointRangeCounter : null;
+        this.pointRangeLows = lows;
+        this.pointRangeHighs = highs;
     }
 
     @Override
@@ -268,6 +318,10 @@ public class RangeAggregator extends BucketsAggregator {
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx,
             final LeafBucketCollector sub) throws IOException {
+        if (pointRangeCounter != null && countFromPoints(ctx)) {
+            // the doc counts of this segment have been read from the points, we don't need to collect hits
+            throw new CollectionTerminatedException();
+        }
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -332,6 +386,38 @@ public class RangeAggregator extends BucketsAggregator {
         };
     }
 
+    /**
+     * Counts the documents of every range from the points of the field. Returns {@code false} if the segment must be
+     * collected from doc values instead.
+     */
+    private boolean countFromPoints(LeafReaderContext ctx) throws IOException {
+        final long[] bounds = pointRangeCounter.segmentBounds(ctx);
+        if (bounds == null) {
+            return false;
+        }
+        if (bounds.length == 0) {
+            segmentsCountedFromPoints++;
+            return true;
+        }
+        if (bounds[0] < -MAX_EXACT_DOUBLE || bounds[1] > MAX_EXACT_DOUBLE) {
+            return false;
+        }
+        final int[] counts = pointRangeCounter.count(ctx, pointRangeLows, pointRangeHighs);
+        segmentsCountedFromPoints++;
+        for (int i = 0; i < ranges.length; i++) {
+            if (counts[i] > 0) {
+                // there is no parent, so the owning bucket is always 0
+                incrementBucketDocCount(subBucketOrdinal(0, i), counts[i]);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        add.accept("segments_counted_from_points", segmentsCountedFromPoints);
+    }
+
     private long subBucketOrdinal(long owningBucketOrdinal, int rangeOrd) {
         return owningBucketOrdinal * ranges.length + rangeOrd;
     }
@@ -0,0 +1,194 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.terms;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefBuilder;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.ObjectArray;
+import org.opensearch.index.fielddata.SortedBinaryDocValues;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.InternalOrder;
+import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * An approximate terms aggregator that keeps a fixed-size {@link SpaceSavingSummary} of the most frequent terms per
+ * bucket instead of a bucket for every term, so that its memory usage doesn't depend on the cardinality of the field.
+ * <p>
+ * The doc count of a bucket is a lower bound of the number of occurrences of its term and its
+ * {@code doc_count_error_upper_bound} how much higher that number may be. The doc count error of the shard bounds the
+ * count of all the terms that aren't returned, so that the usual terms reduction merges summaries with guaranteed
+ * bounds.
+ */
+class ApproximateStringTermsAggregator extends AbstractStringTermsAggregator {
+
+    /**
+     * How many terms the summary of a bucket monitors for every term that the shard returns. The count of a term is
+     * never overestimated by more than {@code total / (shard_size * CAPACITY_PER_SHARD_TERM)}.
+     */
+    static final int CAPACITY_PER_SHARD_TERM = 10;
+    static final int MAX_CAPACITY = 1 << 20;
+
+    private final ValuesSource valuesSource;
+    private final IncludeExclude.StringFilter includeExclude;
+    private final int capacity;
+    private ObjectArray<SpaceSavingSummary> summaries;
+
+    ApproximateStringTermsAggregator(
+        String name,
+        ValuesSource valuesSource,
+        BucketOrder order,
+        DocValueFormat format,
+        BucketCountThresholds bucketCountThresholds,
+        IncludeExclude.StringFilter includeExclude,
+        SearchContext context,
+        Aggregator parent,
+        Map<String, Object> metadata
+    ) throws IOException {
+        super(name, AggregatorFactories.EMPTY, context, parent, order, format, bucketCountThresholds, SubAggCollectionMode.DEPTH_FIRST,
+            true, metadata);
+        this.valuesSource = valuesSource;
+        this.includeExclude = includeExclude;
+        this.capacity = capacity(bucketCountThresholds.getShardSize());
+        this.summaries = context.bigArrays().newObjectArray(1);
+    }
+
+    static int capacity(int shardSize) {
+        return (int) Math.min(MAX_CAPACITY, Math.max(shardSize, (long) shardSize * CAPACITY_PER_SHARD_TERM));
+    }
+
+    @Override
+    public ScoreMode scoreMode() {
+        return valuesSource.needsScores() ? ScoreMode.COMPLETE : ScoreMode.COMPLETE_NO_SCORES;
+    }
+
+    @Override
+    public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
+        final SortedBinaryDocValues values = valuesSource.bytesValues(ctx);
+        return new LeafBucketCollectorBase(sub, values) {
+            final BytesRefBuilder previous = new BytesRefBuilder();
+
+            @Override
+            public void collect(int doc, long owningBucketOrd) throws IOException {
+                if (false == values.advanceExact(doc)) {
+                    return;
+                }
+                final SpaceSavingSummary summary = summary(owningBucketOrd);
+                final int valuesCount = values.docValueCount();
+                // SortedBinaryDocValues don't guarantee uniqueness so we
+                // need to take care of dups
+                previous.clear();
+                for (int i = 0; i < valuesCount; ++i) {
+                    final BytesRef bytes = values.nextValue();
+                    if (includeExclude != null && false == includeExclude.accept(bytes)) {
+                        continue;
+                    }
+                    if (i > 0 && previous.get().equals(bytes)) {
+                        continue;
+                    }
+                    previous.copyBytes(bytes);
+                    summary.add(bytes);
+                }
+            }
+        };
+    }
+
+    private SpaceSavingSummary summary(long owningBucketOrd) {
+        summaries = context.bigArrays().grow(summaries, owningBucketOrd + 1);
+        SpaceSavingSummary summary = summaries.get(owningBucketOrd);
+        if (summary == null) {
+            summary = new SpaceSavingSummary(capacity, this::addRequestCircuitBreakerBytes);
+            summaries.set(owningBucketOrd, summary);
+        }
+        return summary;
+    }
+
+    @Override
+    public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
+        final InternalAggregation[] results = new InternalAggregation[owningBucketOrds.length];
+        for (int ordIdx = 0; ordIdx < owningBucketOrds.length; ordIdx++) {
+            final long owningBucketOrd = owningBucketOrds[ordIdx];
+            final SpaceSavingSummary summary = owningBucketOrd < summaries.size() ? summaries.get(owningBucketOrd) : null;
+            results[ordIdx] = summary == null ? buildEmptyAggregation() : buildResult(summary);
+        }
+        return results;
+    }
+
+    private StringTerms buildResult(SpaceSavingSummary summary) {
+        final int size = Math.min(summary.size(), bucketCountThresholds.getShardSize());
+        final BucketPriorityQueue<StringTerms.Bucket> ordered = new BucketPriorityQueue<>(size, partiallyBuiltBucketComparator);
+        // the highest count of the monitored terms that we don't return
+        long maxDroppedCount = 0;
+        StringTerms.Bucket spare = null;
+        for (int slot = 0; slot < summary.size(); slot++) {
+            final long count = summary.count(slot);
+            if (count < bucketCountThresholds.getShardMinDocCount()) {
+                maxDroppedCount = Math.max(maxDroppedCount, count);
+                continue;
+            }
+            if (spare == null) {
+                spare = new StringTerms.Bucket(new BytesRef(), 0, null, true, 0, format);
+            }
+            spare.termBytes = summary.term(slot);
+            // report the guaranteed count, the error tells how many occurrences may be missing
+            spare.docCount = count - summary.error(slot);
+            spare.docCountError = summary.error(slot);
+            spare = ordered.insertWithOverflow(spare);
+            if (spare != null) {
+                maxDroppedCount = Math.max(maxDroppedCount, spare.docCount + spare.docCountError);
+            }
+        }
+
+        final StringTerms.Bucket[] topBuckets = new StringTerms.Bucket[ordered.size()];
+        long otherDocCount = summary.total();
+        for (int i = ordered.size() - 1; i >= 0; --i) {
+            final StringTerms.Bucket bucket = ordered.pop();
+            bucket.termBytes = BytesRef.deepCopyOf(bucket.termBytes);
+            bucket.aggregations = InternalAggregations.EMPTY;
+            otherDocCount -= bucket.docCount;
+            topBuckets[i] = bucket;
+        }
+        Arrays.sort(topBuckets, InternalOrder.key(true).comparator());
+        final long docCountError = Math.max(maxDroppedCount, summary.minCount());
+        return new StringTerms(name, InternalOrder.key(true), order, bucketCountThresholds.getRequiredSize(),
+            bucketCountThresholds.getMinDocCount(), metadata(), format, bucketCountThresholds.getShardSize(), true,
+            otherDocCount, Arrays.asList(topBuckets), docCountError);
+    }
+
+    @Override
+    public InternalAggregation buildEmptyAggregation() {
+        return buildEmptyTermsAggregation();
+    }
+
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        super.collectDebugInfo(add);
+        add.accept("summary_capacity", capacity);
+    }
+
+    @Override
+    public void doClose() {
+        Releasables.close(summaries);
+    }
+}
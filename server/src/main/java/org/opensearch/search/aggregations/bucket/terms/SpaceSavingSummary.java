@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.terms;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefBuilder;
+import org.apache.lucene.util.RamUsageEstimator;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * A fixed-size summary of the most frequent terms of a stream, maintained with the Space-Saving algorithm of
+ * Metwally, Agrawal and El Abbadi. The summary monitors at most {@code capacity} terms: a term that isn't monitored
+ * when the summary is full replaces the monitored term with the lowest count and inherits that count as its error.
+ * <p>
+ * For every monitored term the summary guarantees that {@code count - error <= true count <= count}, and every term
+ * that isn't monitored occurred at most {@link #minCount()} times. Any term whose true count is greater than
+ * {@code total / capacity} is guaranteed to be monitored.
+ */
+final class SpaceSavingSummary {
+
+    private static final long BYTES_PER_SLOT = 2 * Long.BYTES + 2 * Integer.BYTES + RamUsageEstimator.NUM_BYTES_OBJECT_REF
+        + RamUsageEstimator.shallowSizeOfInstance(BytesRefBuilder.class) + RamUsageEstimator.shallowSizeOfInstance(BytesRef.class)
+        // the entry of the slot in the map of terms
+        + 2 * RamUsageEstimator.NUM_BYTES_OBJECT_REF + RamUsageEstimator.NUM_BYTES_OBJECT_HEADER + Integer.BYTES;
+
+    private final int capacity;
+    private final LongConsumer addBreakerBytes;
+    private final Map<BytesRef, Integer> slots = new HashMap<>();
+
+    private BytesRefBuilder[] terms = new BytesRefBuilder[0];
+    private long[] counts = new long[0];
+    private long[] errors = new long[0];
+    /** The slots ordered as a min-heap on their count. */
+    private int[] heap = new int[0];
+    /** The position of every slot in the heap. */
+    private int[] positions = new int[0];
+    private int size;
+    private long total;
+
+    SpaceSavingSummary(int capacity, LongConsumer addBreakerBytes) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than 0 but was [" + capacity + "]");
+        }
+        this.capacity = capacity;
+        this.addBreakerBytes = addBreakerBytes;
+    }
+
+    /**
+     * Adds an occurrence of a term to the summary.
+     */
+    void add(BytesRef term) {
+        total++;
+        Integer slot = slots.get(term);
+        if (slot != null) {
+            counts[slot]++;
+            siftDown(positions[slot]);
+        } else if (size < capacity) {
+            slot = size;
+            grow(size + 1);
+            terms[slot] = new BytesRefBuilder();
+            setTerm(slot, term);
+            counts[slot] = 1;
+            errors[slot] = 0;
+            heap[slot] = slot;
+            positions[slot] = slot;
+            size++;
+            siftUp(slot);
+        } else {
+            // replace the term with the lowest count, the new term may have occurred that often before we started monitoring it
+            slot = heap[0];
+            slots.remove(terms[slot].get());
+            setTerm(slot, term);
+            errors[slot] = counts[slot];
+            counts[slot]++;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * The number of monitored terms.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Whether the summary monitors as many terms as it can, in which case terms may have been replaced.
+     */
+    boolean isFull() {
+        return size == capacity;
+    }
+
+    /**
+     * The number of occurrences that were added to this summary.
+     */
+    long total() {
+        return total;
+    }
+
+    /**
+     * An upper bound of the count of the terms that aren't monitored.
+     */
+    long minCount() {
+        return isFull() ? counts[heap[0]] : 0;
+    }
+
+    /**
+     * The term of a slot, which is only valid until the next call to {@link #add}.
+     */
+    BytesRef term(int slot) {
+        return terms[slot].get();
+    }
+
+    /**
+     * The count of the term of a slot, which is greater than or equal to its true count.
+     */
+    long count(int slot) {
+        return counts[slot];
+    }
+
+    /**
+     * How much {@link #count} may exceed the true count of the term of a slot.
+     */
+    long error(int slot) {
+        return errors[slot];
+    }
+
+    private void setTerm(int slot, BytesRef term) {
+        final BytesRefBuilder builder = terms[slot];
+        final int before = builder.bytes() == null ? 0 : builder.bytes().length;
+        builder.copyBytes(term);
+        final int after = builder.bytes().length;
+        if (after != before) {
+            addBreakerBytes.accept(after - before);
+        }
+        slots.put(builder.get(), slot);
+    }
+
+    private void grow(int minSize) {
+        if (minSize <= counts.length) {
+            return;
+        }
+        final int newLength = Math.min(capacity, ArrayUtil.oversize(minSize, Long.BYTES));
+        addBreakerBytes.accept((newLength - counts.length) * BYTES_PER_SLOT);
+        terms = ArrayUtil.growExact(terms, newLength);
+        counts = ArrayUtil.growExact(counts, newLength);
+        errors = ArrayUtil.growExact(errors, newLength);
+        heap = ArrayUtil.growExact(heap, newLength);
+        positions = ArrayUtil.growExact(positions, newLength);
+    }
+
+    private void siftUp(int position) {
+        final int slot = heap[position];
+        while (position > 0) {
+            final int parent = (position - 1) >>> 1;
+            if (counts[heap[parent]] <= counts[slot]) {
+                break;
+            }
+            setHeap(position, heap[parent]);
+            position = parent;
+        }
+        setHeap(position, slot);
+    }
+
+    private void siftDown(int position) {
+        final int slot = heap[position];
+        while (true) {
+            int child = (position << 1) + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && counts[heap[child + 1]] < counts[heap[child]]) {
+                child++;
+            }
+            if (counts[slot] <= counts[heap[child]]) {
+                break;
+            }
+            setHeap(position, heap[child]);
+            position = child;
+        }
+        setHeap(position, slot);
+    }
+
+    private void setHeap(int position, int slot) {
+        heap[position] = slot;
+        positions[slot] = position;
+    }
+}
@@ -65,6 +65,11 @@ import java.util.function.Function;
 public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
     static Boolean REMAP_GLOBAL_ORDS, COLLECT_SEGMENT_ORDS;
 
+    /**
+     * The `execution_hint` that trades exact counts on string fields for memory that doesn't grow with their cardinality.
+     */
+    public static final String APPROXIMATE_EXECUTION_HINT = "approximate";
+
     static void registerAggregators(ValuesSourceRegistry.Builder builder) {
         builder.register(TermsAggregationBuilder.REGISTRY_KEY,
             Arrays.asList(CoreValuesSourceType.BYTES, CoreValuesSourceType.IP),
@@ -96,6 +101,10 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                                     boolean showTermDocCountError,
                                     CardinalityUpperBound cardinality,
                                     Map<String, Object> metadata) throws IOException {
+                if (APPROXIMATE_EXECUTION_HINT.equals(executionHint)) {
+                    return createApproximate(name, factories, valuesSource, order, format, bucketCountThresholds, includeExclude,
+                        context, parent, metadata);
+                }
                 ExecutionMode execution = null;
                 if (executionHint != null) {
                     execution = ExecutionMode.fromString(executionHint);
@@ -127,6 +136,38 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
         };
     }
 
+    /**
+     * Builds an {@link ApproximateStringTermsAggregator}, which keeps a fixed-size summary of the most frequent terms
+     * instead of a bucket per term so that memory doesn't grow with the cardinality of the field, at the cost of
+     * approximate counts with error bounds.
+     */
+    private static Aggregator createApproximate(String name,
+                                                AggregatorFactories factories,
+                                                ValuesSource valuesSource,
+                                                BucketOrder order,
+                                                DocValueFormat format,
+                                                TermsAggregator.BucketCountThresholds bucketCountThresholds,
+                                                IncludeExclude includeExclude,
+                                                SearchContext context,
+                                                Aggregator parent,
+                                                Map<String, Object> metadata) throws IOException {
+        if (factories != AggregatorFactories.EMPTY) {
+            throw new IllegalArgumentException("Aggregation [" + name + "] with `execution_hint` [" + APPROXIMATE_EXECUTION_HINT
+                + "] doesn't support sub-aggregations");
+        }
+        if (InternalOrder.isCountDesc(order) == false) {
+            throw new IllegalArgumentException("Aggregation [" + name + "] with `execution_hint` [" + APPROXIMATE_EXECUTION_HINT
+                + "] only supports ordering by descending doc count but got " + order);
+        }
+        if (bucketCountThresholds.getMinDocCount() == 0) {
+            throw new IllegalArgumentException("Aggregation [" + name + "] with `execution_hint` [" + APPROXIMATE_EXECUTION_HINT
+                + "] doesn't support [min_doc_count] of 0");
+        }
+        final IncludeExclude.StringFilter filter = includeExclude == null ? null : includeExclude.convertToStringFilter(format);
+        return new ApproximateStringTermsAggregator(name, valuesSource, order, format, bucketCountThresholds, filter, context, parent,
+            metadata);
+    }
+
     /**
      * This supplier is used for all fields that expect to be aggregated as a numeric value.
      * This includes floating points, and formatted types that use numerics internally for storage (date, boolean, etc)
@@ -445,7 +486,8 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                 case "map":
                     return MAP;
                 default:
-                    throw new IllegalArgumentException("Unknown `execution_hint`: [" + value + "], expected any of [map, global_ordinals]");
+                    throw new IllegalArgumentException("Unknown `execution_hint`: [" + value + "], expected any of "
+                        + "[map, global_ordinals, " + APPROXIMATE_EXECUTION_HINT + "]");
             }
         }
 
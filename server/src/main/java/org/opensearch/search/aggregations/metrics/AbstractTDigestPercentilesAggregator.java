@@ -34,10 +34,13 @@ package org.opensearch.search.aggregations.metrics;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.ArrayUtils;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.ObjectArray;
+import org.opensearch.index.fielddata.SortedBinaryDocValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -86,6 +89,23 @@ abstract class AbstractTDigestPercentilesAggregator extends NumericMetricsAggreg
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
         final BigArrays bigArrays = context.bigArrays();
+        if (valuesSource instanceof ValuesSource.Numeric == false) {
+            // a tdigest_sketch field, whose values are serialized digests that we merge as a whole
+            final SortedBinaryDocValues sketches = valuesSource.bytesValues(ctx);
+            return new LeafBucketCollectorBase(sub, sketches) {
+                @Override
+                public void collect(int doc, long bucket) throws IOException {
+                    TDigestState state = getExistingOrNewHistogram(bigArrays, bucket);
+                    if (sketches.advanceExact(doc)) {
+                        final int valueCount = sketches.docValueCount();
+                        for (int i = 0; i < valueCount; i++) {
+                            final BytesRef sketch = sketches.nextValue();
+                            state.merge(StreamInput.wrap(sketch.bytes, sketch.offset, sketch.length));
+                        }
+                    }
+                }
+            };
+        }
         final SortedNumericDoubleValues values = ((ValuesSource.Numeric)valuesSource).doubleValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -42,6 +42,7 @@ import org.apache.lucene.util.FixedBitSet;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.hash.MurmurHash3;
+import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
@@ -53,6 +54,7 @@ import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.aggregations.support.SketchValuesSourceType;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
@@ -68,6 +70,10 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
 
     private final int precision;
     private final ValuesSource valuesSource;
+    /**
+     * Whether the values are HyperLogLog++ sketches that were built at index time.
+     */
+    private final boolean sketches;
 
     // Expensive to initialize, so we only initialize it when we have an actual value source
     @Nullable
@@ -80,6 +86,7 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
     private int ordinalsCollectorsUsed;
     private int ordinalsCollectorsOverheadTooHigh;
     private int stringHashingCollectorsUsed;
+    private int sketchCollectorsUsed;
 
     public CardinalityAggregator(
             String name,
@@ -91,6 +98,7 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
         super(name, context, parent, metadata);
         // TODO: Stop using nulls here
         this.valuesSource = valuesSourceConfig.hasValues() ? valuesSourceConfig.getValuesSource() : null;
+        this.sketches = valuesSourceConfig.valueSourceType() == SketchValuesSourceType.HLL;
         this.precision = precision;
         this.counts = valuesSource == null ? null : new HyperLogLogPlusPlus(precision, context.bigArrays(), 1);
     }
@@ -106,6 +114,11 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
             return new EmptyCollector();
         }
 
+        if (sketches) {
+            sketchCollectorsUsed++;
+            return new SketchCollector(counts, valuesSource.bytesValues(ctx));
+        }
+
         if (valuesSource instanceof ValuesSource.Numeric) {
             ValuesSource.Numeric source = (ValuesSource.Numeric) valuesSource;
             MurmurHash3Values hashValues = source.isFloatingPoint() ?
@@ -196,6 +209,9 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
         add.accept("ordinals_collectors_used", ordinalsCollectorsUsed);
         add.accept("ordinals_collectors_overhead_too_high", ordinalsCollectorsOverheadTooHigh);
         add.accept("string_hashing_collectors_used", stringHashingCollectorsUsed);
+        if (sketches) {
+            add.accept("sketch_collectors_used", sketchCollectorsUsed);
+        }
     }
 
     private abstract static class Collector extends LeafBucketCollector implements Releasable {
@@ -254,6 +270,41 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
 
     }
 
+    /**
+     * Merges the sketches that were built at index time into the counts.
+     */
+    private static class SketchCollector extends Collector {
+
+        private final HyperLogLogPlusPlus counts;
+        private final SortedBinaryDocValues sketches;
+
+        SketchCollector(HyperLogLogPlusPlus counts, SortedBinaryDocValues sketches) {
+            this.counts = counts;
+            this.sketches = sketches;
+        }
+
+        @Override
+        public void collect(int doc, long bucketOrd) throws IOException {
+            if (sketches.advanceExact(doc)) {
+                final int valueCount = sketches.docValueCount();
+                for (int i = 0; i < valueCount; ++i) {
+                    final BytesRef sketch = sketches.nextValue();
+                    counts.merge(bucketOrd, StreamInput.wrap(sketch.bytes, sketch.offset, sketch.length));
+                }
+            }
+        }
+
+        @Override
+        public void postCollect() {
+            // no-op
+        }
+
+        @Override
+        public void close() {
+            // no-op
+        }
+    }
+
     private static class OrdinalsCollector extends Collector {
 
         private static final long SHALLOW_FIXEDBITSET_SIZE = RamUsageEstimator.shallowSizeOfInstance(FixedBitSet.class);
@@ -32,12 +32,14 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.index.mapper.HllSketchFieldMapper;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
+import org.opensearch.search.aggregations.support.SketchValuesSourceType;
 import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
@@ -62,6 +64,10 @@ class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory {
 
     public static void registerAggregators(ValuesSourceRegistry.Builder builder) {
         builder.register(CardinalityAggregationBuilder.REGISTRY_KEY, CoreValuesSourceType.ALL_CORE, CardinalityAggregator::new, true);
+        // sketches can only be merged into counts of the same precision, so the precision of the field wins
+        builder.register(CardinalityAggregationBuilder.REGISTRY_KEY, SketchValuesSourceType.HLL,
+            (CardinalityAggregatorSupplier) (name, config, precision, context, parent, metadata) -> new CardinalityAggregator(name, config,
+                ((HllSketchFieldMapper.HllSketchFieldType) config.fieldType()).precision(), context, parent, metadata), true);
     }
 
     @Override
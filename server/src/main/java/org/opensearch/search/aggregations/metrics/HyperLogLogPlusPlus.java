@@ -34,6 +34,7 @@ package org.opensearch.search.aggregations.metrics;
 
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.packed.PackedInts;
+import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
@@ -42,6 +43,7 @@ import org.opensearch.common.util.ByteArray;
 import org.opensearch.common.util.ByteUtils;
 import org.opensearch.common.util.IntArray;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
@@ -199,17 +201,46 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
         }
     }
 
+    /**
+     * Merges a sketch that was serialized with {@link #writeTo} into the given bucket, without
+     * deserializing it into a sketch of its own first.
+     */
+    public void merge(long thisBucket, StreamInput in) throws IOException {
+        final int otherPrecision = in.readVInt();
+        if (precision() != otherPrecision) {
+            throw new IllegalArgumentException("Cannot merge a sketch with precision [" + otherPrecision
+                + "] into a sketch with precision [" + precision() + "]");
+        }
+        hll.ensureCapacity(thisBucket + 1);
+        if (in.readBoolean() == LINEAR_COUNTING) {
+            final long size = in.readVLong();
+            for (long i = 0; i < size; ++i) {
+                mergeEncoded(thisBucket, in.readInt());
+            }
+        } else {
+            if (algorithm.get(thisBucket) != HYPERLOGLOG) {
+                upgradeToHll(thisBucket);
+            }
+            for (int i = 0; i < hll.m; ++i) {
+                hll.addRunLen(thisBucket, i, in.readByte());
+            }
+        }
+    }
+
     private void merge(long thisBucket, AbstractLinearCounting.HashesIterator values) {
         while (values.next()) {
-            final int encoded = values.value();
-            if (algorithm.get(thisBucket) == LINEAR_COUNTING) {
-                final int newSize = lc.addEncoded(thisBucket, encoded);
-                if (newSize > lc.threshold) {
-                    upgradeToHll(thisBucket);
-                }
-            } else {
-                hll.collectEncoded(thisBucket, encoded);
+            mergeEncoded(thisBucket, values.value());
+        }
+    }
+
+    private void mergeEncoded(long thisBucket, int encoded) {
+        if (algorithm.get(thisBucket) == LINEAR_COUNTING) {
+            final int newSize = lc.addEncoded(thisBucket, encoded);
+            if (newSize > lc.threshold) {
+                upgradeToHll(thisBucket);
             }
+        } else {
+            hll.collectEncoded(thisBucket, encoded);
         }
     }
 
@@ -32,12 +32,14 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.index.mapper.TDigestSketchFieldMapper;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
+import org.opensearch.search.aggregations.support.SketchValuesSourceType;
 import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
@@ -61,6 +63,19 @@ class PercentileRanksAggregatorFactory extends ValuesSourceAggregatorFactory {
                                           metadata) -> percentilesConfig
                 .createPercentileRanksAggregator(name, valuesSource, context, parent, percents, keyed, formatter, metadata),
                 true);
+        builder.register(
+            PercentileRanksAggregationBuilder.REGISTRY_KEY,
+            SketchValuesSourceType.TDIGEST,
+            (PercentilesAggregatorSupplier) (name, valuesSource, context, parent, percents, percentilesConfig, keyed, formatter,
+                                             metadata) -> {
+                if (percentilesConfig.getMethod() != PercentilesMethod.TDIGEST) {
+                    throw new IllegalArgumentException("[" + TDigestSketchFieldMapper.CONTENT_TYPE + "] fields can only be "
+                        + "aggregated with the [" + PercentilesMethod.TDIGEST + "] method but got [" + percentilesConfig.getMethod() + "]");
+                }
+                return percentilesConfig.createPercentileRanksAggregator(name, valuesSource, context, parent, percents, keyed,
+                    formatter, metadata);
+            },
+            true);
     }
 
     PercentileRanksAggregatorFactory(String name,
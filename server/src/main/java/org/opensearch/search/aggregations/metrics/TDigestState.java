@@ -75,6 +75,18 @@ public class TDigestState extends AVLTreeDigest {
         return state;
     }
 
+    /**
+     * Adds the centroids of a digest that was serialized with {@link #write} to this digest, without building an
+     * intermediate digest for them.
+     */
+    public void merge(StreamInput in) throws IOException {
+        in.readDouble(); // compression of the serialized digest, centroids are re-compressed with ours
+        int n = in.readVInt();
+        for (int i = 0; i < n; i++) {
+            add(in.readDouble(), in.readVInt());
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == null || obj instanceof TDigestState == false) {
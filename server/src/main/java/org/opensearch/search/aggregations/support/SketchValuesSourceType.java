@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.support;
+
+import org.opensearch.script.AggregationScript;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.AggregationExecutionException;
+
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link ValuesSourceType}s of fields that hold sketches that were built at index time, as binary doc values. Only
+ * the aggregations that know how to merge the sketches support them.
+ */
+public enum SketchValuesSourceType implements ValuesSourceType {
+
+    /**
+     * A serialized HyperLogLog++ sketch that {@code cardinality} merges.
+     */
+    HLL,
+    /**
+     * A serialized TDigest that {@code percentiles} and {@code percentile_ranks} merge.
+     */
+    TDIGEST;
+
+    @Override
+    public ValuesSource getEmpty() {
+        return ValuesSource.Bytes.WithOrdinals.EMPTY;
+    }
+
+    @Override
+    public ValuesSource getScript(AggregationScript.LeafFactory script, ValueType scriptValueType) {
+        throw new AggregationExecutionException("value source of type [" + typeName() + "] is not supported by scripts");
+    }
+
+    @Override
+    public ValuesSource getField(FieldContext fieldContext, AggregationScript.LeafFactory script) {
+        if (script != null) {
+            throw new AggregationExecutionException("value source of type [" + typeName() + "] is not supported by scripts");
+        }
+        return new ValuesSource.Bytes.FieldData(fieldContext.indexFieldData());
+    }
+
+    @Override
+    public ValuesSource replaceMissing(ValuesSource valuesSource, Object rawMissing, DocValueFormat docValueFormat, LongSupplier now) {
+        throw new IllegalArgumentException("Can't apply missing values on a " + typeName() + " sketch");
+    }
+
+    @Override
+    public String typeName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
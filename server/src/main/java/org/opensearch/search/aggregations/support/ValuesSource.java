@@ -33,6 +33,8 @@ package org.opensearch.search.aggregations.support;
 
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.OrdinalMap;
@@ -57,6 +59,7 @@ import org.opensearch.index.fielddata.SortedBinaryDocValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.index.fielddata.SortingBinaryDocValues;
 import org.opensearch.index.fielddata.SortingNumericDoubleValues;
+import org.opensearch.index.mapper.GeoPointFieldMapper;
 import org.opensearch.index.mapper.RangeType;
 import org.opensearch.script.AggregationScript;
 import org.opensearch.search.aggregations.AggregationExecutionException;
@@ -603,6 +606,14 @@ public abstract class ValuesSource {
 
         public abstract MultiGeoPointValues geoPointValues(LeafReaderContext context);
 
+        /**
+         * Returns the ids of the geotiles at the given zoom level of the points of the documents if they are indexed, or
+         * {@code null} if they have to be computed from the {@link #geoPointValues points}.
+         */
+        public SortedNumericDocValues geoTileValues(LeafReaderContext context, int precision) throws IOException {
+            return null;
+        }
+
         public static class Fielddata extends GeoPoint {
 
             protected final IndexGeoPointFieldData indexFieldData;
@@ -619,6 +630,16 @@ public abstract class ValuesSource {
             public org.opensearch.index.fielddata.MultiGeoPointValues geoPointValues(LeafReaderContext context) {
                 return indexFieldData.load(context).getGeoPointValues();
             }
+
+            @Override
+            public SortedNumericDocValues geoTileValues(LeafReaderContext context, int precision) throws IOException {
+                final String tileFieldName = GeoPointFieldMapper.tileFieldName(indexFieldData.getFieldName(), precision);
+                final FieldInfo fieldInfo = context.reader().getFieldInfos().fieldInfo(tileFieldName);
+                if (fieldInfo == null || fieldInfo.getDocValuesType() != DocValuesType.SORTED_NUMERIC) {
+                    return null;
+                }
+                return DocValues.getSortedNumeric(context.reader(), tileFieldName);
+            }
         }
     }
 }
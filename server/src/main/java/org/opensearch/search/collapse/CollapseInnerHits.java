@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.collapse;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.search.SearchHits;
+
+import java.io.IOException;
+
+/**
+ * The inner hits of the collapsed groups that a shard found, for every group of the page of collapsed hits and every
+ * inner hit definition of the collapse. Every shard returns the top {@code from + size} hits of each group so that
+ * the coordinating node can merge them into the inner hits of the collapsed hits.
+ */
+public final class CollapseInnerHits implements Writeable {
+
+    private final String[] names;
+    private final int[] froms;
+    private final int[] sizes;
+    /**
+     * The hits of every group, by inner hit definition.
+     */
+    private final SearchHits[][] groupHits;
+
+    public CollapseInnerHits(String[] names, int[] froms, int[] sizes, SearchHits[][] groupHits) {
+        assert names.length == froms.length && names.length == sizes.length;
+        this.names = names;
+        this.froms = froms;
+        this.sizes = sizes;
+        this.groupHits = groupHits;
+    }
+
+    public CollapseInnerHits(StreamInput in) throws IOException {
+        names = in.readStringArray();
+        froms = in.readVIntArray();
+        sizes = in.readVIntArray();
+        groupHits = new SearchHits[in.readVInt()][];
+        for (int group = 0; group < groupHits.length; group++) {
+            groupHits[group] = in.readArray(SearchHits::new, SearchHits[]::new);
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeStringArray(names);
+        out.writeVIntArray(froms);
+        out.writeVIntArray(sizes);
+        out.writeVInt(groupHits.length);
+        for (SearchHits[] hits : groupHits) {
+            out.writeArray((o, h) -> h.writeTo(o), hits);
+        }
+    }
+
+    /**
+     * The number of inner hit definitions.
+     */
+    public int numInnerHits() {
+        return names.length;
+    }
+
+    /**
+     * The name of the given inner hit definition.
+     */
+    public String name(int innerHit) {
+        return names[innerHit];
+    }
+
+    /**
+     * The offset of the first hit to return for the given inner hit definition.
+     */
+    public int from(int innerHit) {
+        return froms[innerHit];
+    }
+
+    /**
+     * The number of hits to return for the given inner hit definition.
+     */
+    public int size(int innerHit) {
+        return sizes[innerHit];
+    }
+
+    /**
+     * The number of groups, in the order of the collapsed hits they belong to.
+     */
+    public int numGroups() {
+        return groupHits.length;
+    }
+
+    /**
+     * The top hits of the shard for the given group and inner hit definition.
+     */
+    public SearchHits hits(int group, int innerHit) {
+        return groupHits[group][innerHit];
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.collapse;
+
+import com.carrotsearch.hppc.LongIntHashMap;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopDocsCollector;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopScoreDocCollector;
+import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.query.InnerHitBuilder;
+import org.opensearch.index.query.InnerHitContextBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.fetch.FetchPhase;
+import org.opensearch.search.fetch.subphase.InnerHitsContext;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.sort.SortAndFormats;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Expands the collapsed hits of a search with the inner hits of their groups on the shard, instead of sending a
+ * search per collapsed hit and inner hit definition once the collapsed hits are known. Every group gets the top
+ * {@code from + size} documents of the shard that match the query and the post filter, all groups and inner hit
+ * definitions being collected in a single pass over the matching documents, and the hits of each inner hit definition
+ * are fetched at once.
+ * <p>
+ * Inner hits that are collapsed themselves still need a search per group.
+ */
+public final class CollapseInnerHitsPhase {
+
+    private final FetchPhase fetchPhase;
+
+    public CollapseInnerHitsPhase(FetchPhase fetchPhase) {
+        this.fetchPhase = fetchPhase;
+    }
+
+    /**
+     * Returns whether the shards can expand collapsed hits with the given inner hit definitions.
+     */
+    public static boolean canExpand(List<InnerHitBuilder> innerHits) {
+        if (innerHits == null || innerHits.isEmpty()) {
+            return false;
+        }
+        for (InnerHitBuilder innerHit : innerHits) {
+            if (innerHit.getInnerCollapseBuilder() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gathers the inner hits of the given groups of the collapse of the search context.
+     *
+     * @param groupValues the collapse values of the collapsed hits, {@code null} for the group of the documents without
+     *                    a value
+     */
+    public CollapseInnerHits execute(SearchContext context, Object[] groupValues) throws IOException {
+        final CollapseContext collapse = context.collapse();
+        assert collapse != null && canExpand(collapse.getInnerHit());
+        final List<InnerHitBuilder> innerHitBuilders = collapse.getInnerHit();
+        final int numInnerHits = innerHitBuilders.size();
+        final QueryBuilder queryBuilder = context.request().source() == null || context.request().source().query() == null
+            ? QueryBuilders.matchAllQuery()
+            : context.request().source().query();
+
+        final String[] names = new String[numInnerHits];
+        final int[] froms = new int[numInnerHits];
+        final int[] sizes = new int[numInnerHits];
+        final GroupInnerHitSubContext[] subContexts = new GroupInnerHitSubContext[numInnerHits];
+        for (int i = 0; i < numInnerHits; i++) {
+            final InnerHitBuilder innerHitBuilder = innerHitBuilders.get(i);
+            names[i] = innerHitBuilder.getName();
+            froms[i] = innerHitBuilder.getFrom();
+            sizes[i] = innerHitBuilder.getSize();
+            final InnerHitsContext innerHitsContext = new InnerHitsContext();
+            new GroupInnerHitContextBuilder(queryBuilder, innerHitBuilder).build(context, innerHitsContext);
+            subContexts[i] = (GroupInnerHitSubContext) innerHitsContext.getInnerHits().values().iterator().next();
+        }
+
+        Query query = context.query();
+        if (context.parsedPostFilter() != null) {
+            query = new BooleanQuery.Builder()
+                .add(query, BooleanClause.Occur.MUST)
+                .add(context.parsedPostFilter().query(), BooleanClause.Occur.FILTER)
+                .build();
+        }
+        final GroupsCollector collector = new GroupsCollector(collapse, groupValues, subContexts);
+        context.searcher().search(query, collector);
+
+        final SearchHits[][] groupHits = new SearchHits[groupValues.length][numInnerHits];
+        for (int i = 0; i < numInnerHits; i++) {
+            final GroupInnerHitSubContext subContext = subContexts[i];
+            final TopDocs[] topDocs = new TopDocs[groupValues.length];
+            for (int group = 0; group < groupValues.length; group++) {
+                topDocs[group] = collector.topDocs(group, i);
+            }
+            if (subContext.sort() != null && subContext.sort().sort.needsScores() == false && subContext.trackScores()) {
+                for (TopDocs groupTopDocs : topDocs) {
+                    TopFieldCollector.populateScores(groupTopDocs.scoreDocs, context.searcher(), query);
+                }
+            }
+            fetch(subContext, topDocs, groupHits, i);
+        }
+        return new CollapseInnerHits(names, froms, sizes, groupHits);
+    }
+
+    /**
+     * Fetches the hits of all groups for an inner hit definition.
+     */
+    private void fetch(GroupInnerHitSubContext subContext, TopDocs[] topDocs, SearchHits[][] groupHits, int innerHit) {
+        final SortAndFormats sort = subContext.sort();
+        int numDocs = 0;
+        for (TopDocs groupTopDocs : topDocs) {
+            numDocs += groupTopDocs.scoreDocs.length;
+        }
+        final ScoreDoc[] scoreDocs = new ScoreDoc[numDocs];
+        final int[] docIdsToLoad = new int[numDocs];
+        int offset = 0;
+        for (TopDocs groupTopDocs : topDocs) {
+            for (ScoreDoc scoreDoc : groupTopDocs.scoreDocs) {
+                scoreDocs[offset] = scoreDoc;
+                docIdsToLoad[offset++] = scoreDoc.doc;
+            }
+        }
+        subContext.queryResult().topDocs(new TopDocsAndMaxScore(new TopDocs(new TotalHits(numDocs, TotalHits.Relation.EQUAL_TO),
+            scoreDocs), Float.NaN), sort == null ? null : sort.formats);
+        subContext.docIdsToLoad(docIdsToLoad, 0, numDocs);
+        fetchPhase.execute(subContext);
+        final SearchHit[] hits = subContext.fetchResult().hits().getHits();
+        assert hits.length == numDocs;
+        offset = 0;
+        for (int group = 0; group < topDocs.length; group++) {
+            final ScoreDoc[] groupScoreDocs = topDocs[group].scoreDocs;
+            final SearchHit[] groupSearchHits = new SearchHit[groupScoreDocs.length];
+            float maxScore = Float.NaN;
+            for (int j = 0; j < groupScoreDocs.length; j++) {
+                final ScoreDoc scoreDoc = groupScoreDocs[j];
+                final SearchHit hit = hits[offset++];
+                hit.score(scoreDoc.score);
+                if (scoreDoc instanceof FieldDoc) {
+                    hit.sortValues(((FieldDoc) scoreDoc).fields, sort.formats);
+                }
+                if (Float.isNaN(scoreDoc.score) == false) {
+                    maxScore = Float.isNaN(maxScore) ? scoreDoc.score : Math.max(maxScore, scoreDoc.score);
+                }
+                groupSearchHits[j] = hit;
+            }
+            groupHits[group][innerHit] = new SearchHits(groupSearchHits, topDocs[group].totalHits, maxScore,
+                sort == null ? null : sort.sort.getSort(), null, null);
+        }
+    }
+
+    private static final class GroupInnerHitContextBuilder extends InnerHitContextBuilder {
+
+        GroupInnerHitContextBuilder(QueryBuilder query, InnerHitBuilder innerHitBuilder) {
+            super(query, innerHitBuilder, Collections.emptyMap());
+        }
+
+        @Override
+        protected void doBuild(SearchContext parentSearchContext, InnerHitsContext innerHitsContext) throws IOException {
+            final GroupInnerHitSubContext subContext = new GroupInnerHitSubContext(innerHitBuilder.getName(), parentSearchContext);
+            setupInnerHitsContext(parentSearchContext.getQueryShardContext(), subContext);
+            innerHitsContext.addInnerHitDefinition(subContext);
+        }
+    }
+
+    /**
+     * The context to fetch the inner hits of the groups with, the top documents of the groups are collected up front.
+     */
+    private static final class GroupInnerHitSubContext extends InnerHitsContext.InnerHitSubContext {
+
+        GroupInnerHitSubContext(String name, SearchContext context) {
+            super(name, context);
+        }
+
+        @Override
+        public TopDocsAndMaxScore topDocs(SearchHit hit) {
+            throw new UnsupportedOperationException("the inner hits of collapsed groups are collected for all groups at once");
+        }
+
+        Collector newGroupCollector() {
+            final int numHits = from() + size();
+            if (numHits == 0) {
+                return new TotalHitCountCollector();
+            }
+            if (sort() == null) {
+                return TopScoreDocCollector.create(numHits, Integer.MAX_VALUE);
+            }
+            return TopFieldCollector.create(sort().sort, numHits, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Collects the top documents of every group for every inner hit definition, the documents that don't belong to
+     * any of the groups are skipped.
+     */
+    private static final class GroupsCollector implements Collector {
+        private final CollapseContext collapse;
+        private final Object[] groupValues;
+        /**
+         * The collectors of every group, by inner hit definition.
+         */
+        private final Collector[][] collectors;
+        private final LongIntHashMap numericGroups;
+        private final int nullGroup;
+
+        GroupsCollector(CollapseContext collapse, Object[] groupValues, GroupInnerHitSubContext[] subContexts) {
+            this.collapse = collapse;
+            this.groupValues = groupValues;
+            this.collectors = new Collector[groupValues.length][subContexts.length];
+            for (int group = 0; group < groupValues.length; group++) {
+                for (int i = 0; i < subContexts.length; i++) {
+                    collectors[group][i] = subContexts[i].newGroupCollector();
+                }
+            }
+            int nullGroup = -1;
+            for (int group = 0; group < groupValues.length; group++) {
+                if (groupValues[group] == null) {
+                    nullGroup = group;
+                }
+            }
+            this.nullGroup = nullGroup;
+            if (isKeyword()) {
+                numericGroups = null;
+            } else {
+                numericGroups = new LongIntHashMap(groupValues.length);
+                for (int group = 0; group < groupValues.length; group++) {
+                    if (groupValues[group] != null) {
+                        numericGroups.put(((Number) groupValues[group]).longValue(), group);
+                    }
+                }
+            }
+        }
+
+        private boolean isKeyword() {
+            return collapse.getFieldType() instanceof KeywordFieldMapper.KeywordFieldType;
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            for (Collector[] groupCollectors : collectors) {
+                for (Collector collector : groupCollectors) {
+                    if (collector.scoreMode().needsScores()) {
+                        return ScoreMode.COMPLETE;
+                    }
+                }
+            }
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+
+        @Override
+        public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+            final GroupLookup groupLookup = isKeyword() ? keywordGroups(context) : numericGroups(context);
+            // the leaf collectors of a group are only created once a document of the group is found in the segment
+            final LeafCollector[][] leafCollectors = new LeafCollector[groupValues.length][];
+            return new LeafCollector() {
+                Scorable scorer;
+
+                @Override
+                public void setScorer(Scorable scorer) throws IOException {
+                    this.scorer = scorer;
+                    for (LeafCollector[] groupLeafCollectors : leafCollectors) {
+                        if (groupLeafCollectors != null) {
+                            for (LeafCollector leafCollector : groupLeafCollectors) {
+                                leafCollector.setScorer(scorer);
+                            }
+                        }
+                    }
+                }
+
+                @Override
+                public void collect(int doc) throws IOException {
+                    final int group = groupLookup.group(doc);
+                    if (group == -1) {
+                        return;
+                    }
+                    LeafCollector[] groupLeafCollectors = leafCollectors[group];
+                    if (groupLeafCollectors == null) {
+                        groupLeafCollectors = new LeafCollector[collectors[group].length];
+                        for (int i = 0; i < groupLeafCollectors.length; i++) {
+                            groupLeafCollectors[i] = collectors[group][i].getLeafCollector(context);
+                            if (scorer != null) {
+                                groupLeafCollectors[i].setScorer(scorer);
+                            }
+                        }
+                        leafCollectors[group] = groupLeafCollectors;
+                    }
+                    for (LeafCollector leafCollector : groupLeafCollectors) {
+                        leafCollector.collect(doc);
+                    }
+                }
+            };
+        }
+
+        private GroupLookup keywordGroups(LeafReaderContext context) throws IOException {
+            final SortedSetDocValues values = DocValues.getSortedSet(context.reader(), collapse.getFieldName());
+            final LongIntHashMap ordGroups = new LongIntHashMap();
+            for (int group = 0; group < groupValues.length; group++) {
+                if (groupValues[group] != null) {
+                    final long ord = values.lookupTerm((BytesRef) groupValues[group]);
+                    if (ord >= 0) {
+                        ordGroups.put(ord, group);
+                    }
+                }
+            }
+            return doc -> values.advanceExact(doc) ? ordGroups.getOrDefault(values.nextOrd(), -1) : nullGroup;
+        }
+
+        private GroupLookup numericGroups(LeafReaderContext context) throws IOException {
+            final SortedNumericDocValues values = DocValues.getSortedNumeric(context.reader(), collapse.getFieldName());
+            return doc -> values.advanceExact(doc) ? numericGroups.getOrDefault(values.nextValue(), -1) : nullGroup;
+        }
+
+        TopDocs topDocs(int group, int innerHit) {
+            final Collector collector = collectors[group][innerHit];
+            if (collector instanceof TotalHitCountCollector) {
+                final int totalHits = ((TotalHitCountCollector) collector).getTotalHits();
+                return new TopDocs(new TotalHits(totalHits, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]);
+            }
+            return ((TopDocsCollector<?>) collector).topDocs();
+        }
+    }
+
+    @FunctionalInterface
+    private interface GroupLookup {
+        /**
+         * The group of the given document, or -1 if it doesn't belong to any of the groups.
+         */
+        int group(int doc) throws IOException;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.export;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.StoredFieldVisitor;
+import org.apache.lucene.util.Bits;
+import org.opensearch.common.CheckedBiConsumer;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.compress.CompressorFactory;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lucene.index.SequentialStoredFieldsLeafReader;
+import org.opensearch.common.xcontent.ToXContent;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.index.fieldvisitor.FieldsVisitor;
+import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.index.mapper.SourceFieldMapper;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.tasks.TaskCancelledException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Reads the documents of a shard in doc-id order, straight from their stored fields, and writes them as
+ * newline-delimited JSON. Unlike a scroll there is no query to execute, no collector and no {@code SearchHits}
+ * to build for every page: every call picks up after the last document that the previous call returned and
+ * stops once it wrote {@code batchSize} documents.
+ */
+public final class ExportPhase {
+
+    private ExportPhase() {}
+
+    /**
+     * Exports the live documents of the reader whose doc id is greater than {@code afterDoc}. Nested documents
+     * have no {@code _id} and are exported as part of their root document's source.
+     */
+    public static ShardExportResult execute(ShardSearchContextId contextId, IndexReader reader, String index, int afterDoc,
+                                            int batchSize, FetchSourceContext fetchSource,
+                                            BooleanSupplier isCancelled) throws IOException {
+        final boolean loadSource = fetchSource == null || fetchSource.fetchSource();
+        final boolean filterSource = loadSource && fetchSource != null
+            && (fetchSource.includes().length > 0 || fetchSource.excludes().length > 0);
+        final Function<Map<String, ?>, Map<String, Object>> filter = filterSource ? fetchSource.getFilter() : null;
+        final FieldsVisitor visitor = new FieldsVisitor(loadSource);
+        final List<LeafReaderContext> leaves = reader.leaves();
+        int numDocs = 0;
+        int lastDoc = afterDoc;
+        final BytesStreamOutput out = new BytesStreamOutput();
+        int leafIndex = afterDoc + 1 >= reader.maxDoc() ? leaves.size() : ReaderUtil.subIndex(afterDoc + 1, leaves);
+        for (; leafIndex < leaves.size() && numDocs < batchSize; leafIndex++) {
+            final LeafReaderContext leaf = leaves.get(leafIndex);
+            final Bits liveDocs = leaf.reader().getLiveDocs();
+            final CheckedBiConsumer<Integer, StoredFieldVisitor, IOException> fieldReader;
+            if (leaf.reader() instanceof SequentialStoredFieldsLeafReader) {
+                // the documents are read in order, so use the stored fields reader that merges use
+                fieldReader = ((SequentialStoredFieldsLeafReader) leaf.reader()).getSequentialStoredFieldsReader()::visitDocument;
+            } else {
+                fieldReader = leaf.reader()::document;
+            }
+            int doc = Math.max(0, afterDoc + 1 - leaf.docBase);
+            for (; doc < leaf.reader().maxDoc() && numDocs < batchSize; doc++) {
+                if (isCancelled.getAsBoolean()) {
+                    throw new TaskCancelledException("cancelled");
+                }
+                lastDoc = leaf.docBase + doc;
+                if (liveDocs != null && liveDocs.get(doc) == false) {
+                    continue;
+                }
+                visitor.reset();
+                fieldReader.accept(doc, visitor);
+                if (visitor.id() == null) {
+                    continue;
+                }
+                writeDocument(out, index, visitor, filter);
+                numDocs++;
+            }
+        }
+        final boolean exhausted = lastDoc + 1 >= reader.maxDoc();
+        return new ShardExportResult(contextId, lastDoc, numDocs, exhausted, out.bytes());
+    }
+
+    private static void writeDocument(BytesStreamOutput out, String index, FieldsVisitor visitor,
+                                      Function<Map<String, ?>, Map<String, Object>> filter) throws IOException {
+        try (XContentBuilder builder = XContentBuilder.builder(JsonXContent.jsonXContent)) {
+            builder.startObject();
+            builder.field("_index", index);
+            builder.field(IdFieldMapper.NAME, visitor.id());
+            if (visitor.routing() != null) {
+                builder.field("_routing", visitor.routing());
+            }
+            if (visitor.source() != null) {
+                final BytesReference source = CompressorFactory.uncompressIfNeeded(visitor.source());
+                final XContentType xContentType = XContentHelper.xContentType(source);
+                if (filter == null) {
+                    XContentHelper.writeRawField(SourceFieldMapper.NAME, source, xContentType, builder, ToXContent.EMPTY_PARAMS);
+                } else {
+                    final Map<String, Object> sourceAsMap = XContentHelper.convertToMap(source, true, xContentType).v2();
+                    builder.field(SourceFieldMapper.NAME, filter.apply(sourceAsMap));
+                }
+            }
+            builder.endObject();
+            BytesReference.bytes(builder).writeTo(out);
+        }
+        out.writeByte(XContentType.JSON.xContent().streamSeparator());
+    }
+}
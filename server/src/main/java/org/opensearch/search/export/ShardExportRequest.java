@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.export;
+
+import org.opensearch.action.IndicesRequest;
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Shard level export request. Holds the reader context to read the next batch of documents from, or none
+ * for the first batch of the shard.
+ */
+public class ShardExportRequest extends TransportRequest implements IndicesRequest {
+
+    private final ShardId shardId;
+    @Nullable
+    private final ShardSearchContextId contextId;
+    private final int afterDoc;
+    private final int batchSize;
+    private final TimeValue keepAlive;
+    @Nullable
+    private final FetchSourceContext fetchSource;
+
+    public ShardExportRequest(ShardId shardId, @Nullable ShardSearchContextId contextId, int afterDoc, int batchSize,
+                              TimeValue keepAlive, @Nullable FetchSourceContext fetchSource) {
+        this.shardId = shardId;
+        this.contextId = contextId;
+        this.afterDoc = afterDoc;
+        this.batchSize = batchSize;
+        this.keepAlive = keepAlive;
+        this.fetchSource = fetchSource;
+    }
+
+    public ShardExportRequest(StreamInput in) throws IOException {
+        super(in);
+        shardId = new ShardId(in);
+        contextId = in.readOptionalWriteable(ShardSearchContextId::new);
+        afterDoc = in.readInt();
+        batchSize = in.readVInt();
+        keepAlive = in.readTimeValue();
+        fetchSource = in.readOptionalWriteable(FetchSourceContext::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        shardId.writeTo(out);
+        out.writeOptionalWriteable(contextId);
+        out.writeInt(afterDoc);
+        out.writeVInt(batchSize);
+        out.writeTimeValue(keepAlive);
+        out.writeOptionalWriteable(fetchSource);
+    }
+
+    public ShardId shardId() {
+        return shardId;
+    }
+
+    /**
+     * The reader context to continue reading from, {@code null} if a new one must be opened.
+     */
+    @Nullable
+    public ShardSearchContextId contextId() {
+        return contextId;
+    }
+
+    /**
+     * The doc id after which to start reading, {@code -1} to start from the first document.
+     */
+    public int afterDoc() {
+        return afterDoc;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    public TimeValue keepAlive() {
+        return keepAlive;
+    }
+
+    @Nullable
+    public FetchSourceContext fetchSource() {
+        return fetchSource;
+    }
+
+    @Override
+    public String[] indices() {
+        return new String[] { shardId.getIndexName() };
+    }
+
+    @Override
+    public IndicesOptions indicesOptions() {
+        return IndicesOptions.strictSingleIndexNoExpandForbidClosed();
+    }
+
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        return new SearchShardTask(id, type, action, getDescription(), parentTaskId, headers);
+    }
+
+    @Override
+    public String getDescription() {
+        return "shard[" + shardId + "], id[" + contextId + "], afterDoc[" + afterDoc + "], batchSize[" + batchSize + "]";
+    }
+}
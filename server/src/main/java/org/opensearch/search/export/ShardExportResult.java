@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.export;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.transport.TransportResponse;
+
+import java.io.IOException;
+
+/**
+ * A batch of exported documents of a shard, as newline-delimited JSON.
+ */
+public class ShardExportResult extends TransportResponse {
+
+    private final ShardSearchContextId contextId;
+    private final int lastDoc;
+    private final int numDocs;
+    private final boolean exhausted;
+    private final BytesReference docs;
+
+    public ShardExportResult(ShardSearchContextId contextId, int lastDoc, int numDocs, boolean exhausted, BytesReference docs) {
+        this.contextId = contextId;
+        this.lastDoc = lastDoc;
+        this.numDocs = numDocs;
+        this.exhausted = exhausted;
+        this.docs = docs;
+    }
+
+    public ShardExportResult(StreamInput in) throws IOException {
+        super(in);
+        contextId = new ShardSearchContextId(in);
+        lastDoc = in.readInt();
+        numDocs = in.readVInt();
+        exhausted = in.readBoolean();
+        docs = in.readBytesReference();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        contextId.writeTo(out);
+        out.writeInt(lastDoc);
+        out.writeVInt(numDocs);
+        out.writeBoolean(exhausted);
+        out.writeBytesReference(docs);
+    }
+
+    /**
+     * The reader context that the next batch must be read from.
+     */
+    public ShardSearchContextId contextId() {
+        return contextId;
+    }
+
+    /**
+     * The doc id of the last document that this batch looked at, the next batch starts after it.
+     */
+    public int lastDoc() {
+        return lastDoc;
+    }
+
+    public int numDocs() {
+        return numDocs;
+    }
+
+    /**
+     * Whether this is the last batch of the shard, in which case its reader context has been released.
+     */
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    public BytesReference docs() {
+        return docs;
+    }
+}
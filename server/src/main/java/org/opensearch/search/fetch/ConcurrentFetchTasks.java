@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch;
+
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Runs the tasks of a fetch, like fetching a leaf or highlighting a field, concurrently. The calling thread and the
+ * helpers that it forks all take the next task that nobody took yet until there are none left. The calling thread then
+ * only waits for the helpers that are still running a task, helpers that didn't start yet because the executor is busy
+ * won't take any task, so a saturated executor never blocks the fetch.
+ */
+public final class ConcurrentFetchTasks<T> {
+
+    private final List<T> tasks;
+    private final Consumer<T> runTask;
+    private final AtomicInteger nextTask = new AtomicInteger();
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    private int runningHelpers;
+    private boolean closed;
+
+    public ConcurrentFetchTasks(List<T> tasks, Consumer<T> runTask) {
+        this.tasks = tasks;
+        this.runTask = runTask;
+    }
+
+    /**
+     * Runs all tasks with the help of up to {@code helpers} threads forked to the given executor, and rethrows the
+     * first failure if any.
+     */
+    public void run(int helpers, Executor executor) {
+        for (int i = 0; i < helpers; i++) {
+            try {
+                executor.execute(this::runHelper);
+            } catch (OpenSearchRejectedExecutionException e) {
+                // the calling thread runs the tasks that helpers don't
+                break;
+            }
+        }
+        runTasks();
+        awaitHelpers();
+        final RuntimeException e = failure.get();
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    private void runHelper() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            runningHelpers++;
+        }
+        try {
+            runTasks();
+        } finally {
+            synchronized (this) {
+                if (--runningHelpers == 0) {
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    private void runTasks() {
+        int task;
+        while (failure.get() == null && (task = nextTask.getAndIncrement()) < tasks.size()) {
+            try {
+                runTask.accept(tasks.get(task));
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            } catch (Error e) {
+                failure.compareAndSet(null, new RuntimeException(e));
+                throw e;
+            }
+        }
+    }
+
+    private synchronized void awaitHelpers() {
+        closed = true;
+        boolean interrupted = false;
+        while (runningHelpers > 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                // the helpers write into the results of the calling thread, so we have to wait for them regardless
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
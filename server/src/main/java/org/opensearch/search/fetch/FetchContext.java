@@ -53,6 +53,7 @@ import org.opensearch.search.rescore.RescoreContext;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Encapsulates state required to execute fetch phases
@@ -61,13 +62,39 @@ public class FetchContext {
 
     private final SearchContext searchContext;
     private final SearchLookup searchLookup;
+    private final int maxConcurrency;
+    private final Executor executor;
 
     /**
      * Create a FetchContext based on a SearchContext
      */
     public FetchContext(SearchContext searchContext) {
+        this(searchContext, 1, null);
+    }
+
+    /**
+     * Create a FetchContext based on a SearchContext, whose sub phases may run up to {@code maxConcurrency} tasks at a
+     * time on the given executor
+     */
+    public FetchContext(SearchContext searchContext, int maxConcurrency, Executor executor) {
         this.searchContext = searchContext;
         this.searchLookup = searchContext.getQueryShardContext().newFetchLookup();
+        this.maxConcurrency = executor == null ? 1 : maxConcurrency;
+        this.executor = executor;
+    }
+
+    /**
+     * How many tasks sub phases may run at a time, see {@link ConcurrentFetchTasks}
+     */
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * The executor that sub phases may fork tasks to, {@code null} if they must run sequentially
+     */
+    public Executor executor() {
+        return executor;
     }
 
     /**
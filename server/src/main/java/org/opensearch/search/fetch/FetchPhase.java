@@ -71,7 +71,6 @@ import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.fetch.subphase.InnerHitsContext;
 import org.opensearch.search.fetch.subphase.InnerHitsPhase;
 import org.opensearch.search.internal.SearchContext;
-import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.search.lookup.SourceLookup;
 import org.opensearch.tasks.TaskCancelledException;
 
@@ -85,6 +84,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import static java.util.Collections.emptyMap;
 
@@ -95,6 +95,13 @@ import static java.util.Collections.emptyMap;
 public class FetchPhase {
     private static final Logger LOGGER = LogManager.getLogger(FetchPhase.class);
 
+    /**
+     * Below this many hits, forking the fetch of leaves costs more than it saves.
+     */
+    static final int MIN_DOCS_FOR_CONCURRENT_FETCH = 64;
+    static final int MIN_DOCS_FOR_SEQUENTIAL_READER = 10;
+    static final int MAX_AVERAGE_GAP_FOR_SEQUENTIAL_READER = 4;
+
     private final FetchSubPhase[] fetchSubPhases;
 
     public FetchPhase(List<FetchSubPhase> fetchSubPhases) {
@@ -103,6 +110,16 @@ public class FetchPhase {
     }
 
     public void execute(SearchContext context) {
+        execute(context, 1, null);
+    }
+
+    /**
+     * Fetches the hits of the given context. Hits are grouped by the leaf that they belong to, and up to
+     * {@code maxConcurrency} leaves are fetched at a time: the calling thread fetches leaves too and only waits for
+     * the leaves that the tasks forked to {@code executor} already started, so that a saturated executor never
+     * blocks the fetch phase.
+     */
+    public void execute(SearchContext context, int maxConcurrency, Executor executor) {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace("{}", new SearchContextSourcePrinter(context));
         }
@@ -128,65 +145,122 @@ public class FetchPhase {
         Map<String, Set<String>> storedToRequestedFields = new HashMap<>();
         FieldsVisitor fieldsVisitor = createStoredFieldsVisitor(context, storedToRequestedFields);
 
-        FetchContext fetchContext = new FetchContext(context);
+        FetchContext fetchContext = new FetchContext(context, maxConcurrency, executor);
 
         SearchHit[] hits = new SearchHit[context.docIdsToLoadSize()];
 
-        List<FetchSubPhaseProcessor> processors = getProcessors(context.shardTarget(), fetchContext);
-
-        int currentReaderIndex = -1;
-        LeafReaderContext currentReaderContext = null;
-        CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
+        List<LeafDocs> leaves = groupByLeaf(context.searcher().getIndexReader().leaves(), docs);
         boolean hasSequentialDocs = hasSequentialDocs(docs);
-        for (int index = 0; index < context.docIdsToLoadSize(); index++) {
-            if (context.isCancelled()) {
-                throw new TaskCancelledException("cancelled");
+        if (maxConcurrency > 1 && executor != null && leaves.size() > 1 && docs.length >= MIN_DOCS_FOR_CONCURRENT_FETCH
+                && canFetchConcurrently(context)) {
+            // every leaf gets its own stored fields visitor, source lookup and processors as none of them are thread-safe
+            boolean loadSource = sourceRequired(context);
+            // the search lookup is created lazily, make sure the leaves share a single one
+            fetchContext.searchLookup();
+            new ConcurrentFetchTasks<>(leaves, leaf -> {
+                FieldsVisitor leafFieldsVisitor = fieldsVisitor == null ? null
+                    : fieldsVisitor instanceof CustomFieldsVisitor
+                        ? new CustomFieldsVisitor(storedToRequestedFields.keySet(), loadSource)
+                        : new FieldsVisitor(loadSource);
+                fetchLeaf(context, leaf, docs, hasSequentialDocs, getProcessors(context.shardTarget(), fetchContext),
+                    leafFieldsVisitor, storedToRequestedFields, new SourceLookup(), hits);
+            }).run(Math.min(maxConcurrency, leaves.size()) - 1, executor);
+        } else {
+            List<FetchSubPhaseProcessor> processors = getProcessors(context.shardTarget(), fetchContext);
+            for (LeafDocs leaf : leaves) {
+                fetchLeaf(context, leaf, docs, hasSequentialDocs, processors, fieldsVisitor, storedToRequestedFields,
+                    fetchContext.searchLookup().source(), hits);
             }
-            int docId = docs[index].docId;
-            try {
-                int readerIndex = ReaderUtil.subIndex(docId, context.searcher().getIndexReader().leaves());
-                if (currentReaderIndex != readerIndex) {
-                    currentReaderContext = context.searcher().getIndexReader().leaves().get(readerIndex);
-                    currentReaderIndex = readerIndex;
-                    if (currentReaderContext.reader() instanceof SequentialStoredFieldsLeafReader
-                            && hasSequentialDocs && docs.length >= 10) {
-                        // All the docs to fetch are adjacent but Lucene stored fields are optimized
-                        // for random access and don't optimize for sequential access - except for merging.
-                        // So we do a little hack here and pretend we're going to do merges in order to
-                        // get better sequential access.
-                        SequentialStoredFieldsLeafReader lf = (SequentialStoredFieldsLeafReader) currentReaderContext.reader();
-                        fieldReader = lf.getSequentialStoredFieldsReader()::visitDocument;
-                    } else {
-                        fieldReader = currentReaderContext.reader()::document;
-                    }
-                    for (FetchSubPhaseProcessor processor : processors) {
-                        processor.setNextReader(currentReaderContext);
-                    }
+        }
+        if (context.isCancelled()) {
+            throw new TaskCancelledException("cancelled");
+        }
+
+        TotalHits totalHits = context.queryResult().getTotalHits();
+        context.fetchResult().hits(new SearchHits(hits, totalHits, context.queryResult().getMaxScore()));
+
+    }
+
+    /**
+     * Inner hits and script fields share per-request state across hits, so hits that need them must be fetched by a
+     * single thread.
+     */
+    private static boolean canFetchConcurrently(SearchContext context) {
+        return context.hasScriptFields() == false && context.innerHits().getInnerHits().isEmpty();
+    }
+
+    private void fetchLeaf(SearchContext context,
+                           LeafDocs leaf,
+                           DocIdToIndex[] docs,
+                           boolean hasSequentialDocs,
+                           List<FetchSubPhaseProcessor> processors,
+                           FieldsVisitor fieldsVisitor,
+                           Map<String, Set<String>> storedToRequestedFields,
+                           SourceLookup sourceLookup,
+                           SearchHit[] hits) {
+        if (context.isCancelled()) {
+            throw new TaskCancelledException("cancelled");
+        }
+        LeafReaderContext readerContext = leaf.context;
+        int docId = -1;
+        try {
+            CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader;
+            if (readerContext.reader() instanceof SequentialStoredFieldsLeafReader
+                    && ((hasSequentialDocs && docs.length >= MIN_DOCS_FOR_SEQUENTIAL_READER) || leaf.isDense(docs))) {
+                // The docs to fetch are adjacent or close to each other but Lucene stored fields are optimized
+                // for random access and don't optimize for sequential access - except for merging.
+                // So we do a little hack here and pretend we're going to do merges in order to
+                // get better sequential access, which decompresses every block of documents once.
+                SequentialStoredFieldsLeafReader lf = (SequentialStoredFieldsLeafReader) readerContext.reader();
+                fieldReader = lf.getSequentialStoredFieldsReader()::visitDocument;
+            } else {
+                fieldReader = readerContext.reader()::document;
+            }
+            for (FetchSubPhaseProcessor processor : processors) {
+                processor.setNextReader(readerContext);
+            }
+            for (int index = leaf.from; index < leaf.to; index++) {
+                if (context.isCancelled()) {
+                    throw new TaskCancelledException("cancelled");
                 }
-                assert currentReaderContext != null;
+                docId = docs[index].docId;
                 HitContext hit = prepareHitContext(
                     context,
-                    fetchContext.searchLookup(),
+                    sourceLookup,
                     fieldsVisitor,
                     docId,
                     storedToRequestedFields,
-                    currentReaderContext,
+                    readerContext,
                     fieldReader);
                 for (FetchSubPhaseProcessor processor : processors) {
                     processor.process(hit);
                 }
                 hits[docs[index].index] = hit.hit();
-            } catch (Exception e) {
-                throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase for doc [" + docId + "]", e);
             }
+        } catch (TaskCancelledException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase for doc [" + docId + "]", e);
         }
-        if (context.isCancelled()) {
-            throw new TaskCancelledException("cancelled");
-        }
-
-        TotalHits totalHits = context.queryResult().getTotalHits();
-        context.fetchResult().hits(new SearchHits(hits, totalHits, context.queryResult().getMaxScore()));
+    }
 
+    /**
+     * Splits the docs, which must be sorted by doc id, into the runs of docs that belong to the same leaf.
+     */
+    static List<LeafDocs> groupByLeaf(List<LeafReaderContext> leaves, DocIdToIndex[] docs) {
+        List<LeafDocs> groups = new ArrayList<>();
+        int from = 0;
+        while (from < docs.length) {
+            LeafReaderContext leaf = leaves.get(ReaderUtil.subIndex(docs[from].docId, leaves));
+            int end = leaf.docBase + leaf.reader().maxDoc();
+            int to = from + 1;
+            while (to < docs.length && docs[to].docId < end) {
+                to++;
+            }
+            groups.add(new LeafDocs(leaf, from, to));
+            from = to;
+        }
+        return groups;
     }
 
     List<FetchSubPhaseProcessor> getProcessors(SearchShardTarget target, FetchContext context) {
@@ -219,6 +293,34 @@ public class FetchPhase {
         }
     }
 
+    /**
+     * The range of the sorted docs to fetch that belong to a leaf.
+     */
+    static class LeafDocs {
+        final LeafReaderContext context;
+        final int from;
+        final int to;
+
+        LeafDocs(LeafReaderContext context, int from, int to) {
+            this.context = context;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Whether the docs are close enough to each other that most of them share their stored fields block with
+         * another doc to fetch, in which case decompressing each block once pays off.
+         */
+        boolean isDense(DocIdToIndex[] docs) {
+            int count = to - from;
+            if (count < MIN_DOCS_FOR_SEQUENTIAL_READER) {
+                return false;
+            }
+            long span = (long) docs[to - 1].docId - docs[from].docId + 1;
+            return span <= (long) count * MAX_AVERAGE_GAP_FOR_SEQUENTIAL_READER;
+        }
+    }
+
     private FieldsVisitor createStoredFieldsVisitor(SearchContext context, Map<String, Set<String>> storedToRequestedFields) {
         StoredFieldsContext storedFieldsContext = context.storedFieldsContext();
 
@@ -284,7 +386,7 @@ public class FetchPhase {
     }
 
     private HitContext prepareHitContext(SearchContext context,
-                                         SearchLookup lookup,
+                                         SourceLookup sourceLookup,
                                          FieldsVisitor fieldsVisitor,
                                          int docId,
                                          Map<String, Set<String>> storedToRequestedFields,
@@ -294,7 +396,7 @@ public class FetchPhase {
         if (rootDocId == -1) {
             return prepareNonNestedHitContext(
                 context,
-                lookup,
+                sourceLookup,
                 fieldsVisitor,
                 docId,
                 storedToRequestedFields,
@@ -313,7 +415,7 @@ public class FetchPhase {
      *     fetch subphases that use the hit context to access the preloaded source.
      */
     private HitContext prepareNonNestedHitContext(SearchContext context,
-                                                  SearchLookup lookup,
+                                                  SourceLookup sourceLookup,
                                                   FieldsVisitor fieldsVisitor,
                                                   int docId,
                                                   Map<String, Set<String>> storedToRequestedFields,
@@ -325,7 +427,7 @@ public class FetchPhase {
 
         if (fieldsVisitor == null) {
             SearchHit hit = new SearchHit(docId, null, typeText, null, null);
-            return new HitContext(hit, subReaderContext, subDocId, lookup.source());
+            return new HitContext(hit, subReaderContext, subDocId, sourceLookup);
         } else {
             SearchHit hit;
             loadStoredFields(context.mapperService(), fieldReader, fieldsVisitor, subDocId);
@@ -339,7 +441,7 @@ public class FetchPhase {
                 hit = new SearchHit(docId, uid.id(), typeText, emptyMap(), emptyMap());
             }
 
-            HitContext hitContext = new HitContext(hit, subReaderContext, subDocId, lookup.source());
+            HitContext hitContext = new HitContext(hit, subReaderContext, subDocId, sourceLookup);
             if (fieldsVisitor.source() != null) {
                 hitContext.sourceLookup().setSource(fieldsVisitor.source());
             }
@@ -32,12 +32,15 @@
 
 package org.opensearch.search.fetch;
 
+import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.collapse.CollapseInnerHits;
 import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.query.QuerySearchResult;
 
@@ -46,6 +49,7 @@ import java.io.IOException;
 public final class FetchSearchResult extends SearchPhaseResult {
 
     private SearchHits hits;
+    private CollapseInnerHits collapseInnerHits;
     // client side counter
     private transient int counter;
 
@@ -56,6 +60,9 @@ public final class FetchSearchResult extends SearchPhaseResult {
         super(in);
         contextId = new ShardSearchContextId(in);
         hits = new SearchHits(in);
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            collapseInnerHits = in.readOptionalWriteable(CollapseInnerHits::new);
+        }
     }
 
     public FetchSearchResult(ShardSearchContextId id, SearchShardTarget shardTarget) {
@@ -89,6 +96,18 @@ public final class FetchSearchResult extends SearchPhaseResult {
         return hits;
     }
 
+    public void collapseInnerHits(CollapseInnerHits collapseInnerHits) {
+        this.collapseInnerHits = collapseInnerHits;
+    }
+
+    /**
+     * The inner hits of the collapsed groups that the shard gathered, or {@code null} if it didn't expand collapsed hits.
+     */
+    @Nullable
+    public CollapseInnerHits collapseInnerHits() {
+        return collapseInnerHits;
+    }
+
     public FetchSearchResult initCounter() {
         counter = 0;
         return this;
@@ -102,5 +121,8 @@ public final class FetchSearchResult extends SearchPhaseResult {
     public void writeTo(StreamOutput out) throws IOException {
         contextId.writeTo(out);
         hits.writeTo(out);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeOptionalWriteable(collapseInnerHits);
+        }
     }
 }
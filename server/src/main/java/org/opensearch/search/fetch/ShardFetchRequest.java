@@ -149,4 +149,13 @@ public class ShardFetchRequest extends TransportRequest {
     public AggregatedDfs getAggregatedDfs() {
         return null;
     }
+
+    /**
+     * The collapse values of the collapsed hits whose inner hits the shard should gather, or {@code null} if the
+     * shard doesn't need to expand collapsed hits.
+     */
+    @Nullable
+    public Object[] getCollapseValues() {
+        return null;
+    }
 }
@@ -37,9 +37,12 @@ import org.apache.lucene.search.ScoreDoc;
 import org.opensearch.LegacyESVersion;
 import org.opensearch.action.IndicesRequest;
 import org.opensearch.action.OriginalIndices;
+import org.opensearch.Version;
 import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.lucene.Lucene;
 import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.RescoreDocIds;
 import org.opensearch.search.dfs.AggregatedDfs;
@@ -57,14 +60,22 @@ public class ShardFetchSearchRequest extends ShardFetchRequest implements Indice
     private final ShardSearchRequest shardSearchRequest;
     private final RescoreDocIds rescoreDocIds;
     private final AggregatedDfs aggregatedDfs;
+    private final Object[] collapseValues;
 
     public ShardFetchSearchRequest(OriginalIndices originalIndices, ShardSearchContextId id, ShardSearchRequest shardSearchRequest,
                                    IntArrayList list, ScoreDoc lastEmittedDoc, RescoreDocIds rescoreDocIds, AggregatedDfs aggregatedDfs) {
+        this(originalIndices, id, shardSearchRequest, list, lastEmittedDoc, rescoreDocIds, aggregatedDfs, null);
+    }
+
+    public ShardFetchSearchRequest(OriginalIndices originalIndices, ShardSearchContextId id, ShardSearchRequest shardSearchRequest,
+                                   IntArrayList list, ScoreDoc lastEmittedDoc, RescoreDocIds rescoreDocIds, AggregatedDfs aggregatedDfs,
+                                   @Nullable Object[] collapseValues) {
         super(id, list, lastEmittedDoc);
         this.originalIndices = originalIndices;
         this.shardSearchRequest = shardSearchRequest;
         this.rescoreDocIds = rescoreDocIds;
         this.aggregatedDfs = aggregatedDfs;
+        this.collapseValues = collapseValues;
     }
 
     public ShardFetchSearchRequest(StreamInput in) throws IOException {
@@ -79,6 +90,11 @@ public class ShardFetchSearchRequest extends ShardFetchRequest implements Indice
             rescoreDocIds = RescoreDocIds.EMPTY;
             aggregatedDfs = null;
         }
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            collapseValues = in.readOptionalArray(Lucene::readSortValue, Object[]::new);
+        } else {
+            collapseValues = null;
+        }
     }
 
     @Override
@@ -90,6 +106,9 @@ public class ShardFetchSearchRequest extends ShardFetchRequest implements Indice
             rescoreDocIds.writeTo(out);
             out.writeOptionalWriteable(aggregatedDfs);
         }
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeOptionalArray(Lucene::writeSortValue, collapseValues);
+        }
     }
 
     @Override
@@ -122,4 +141,9 @@ public class ShardFetchSearchRequest extends ShardFetchRequest implements Indice
     public AggregatedDfs getAggregatedDfs() {
         return aggregatedDfs;
     }
+
+    @Override
+    public Object[] getCollapseValues() {
+        return collapseValues;
+    }
 }
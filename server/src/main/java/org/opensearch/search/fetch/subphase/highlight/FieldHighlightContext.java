@@ -48,6 +48,7 @@ public class FieldHighlightContext {
     public final Query query;
     public final boolean forceSource;
     public final Map<String, Object> cache;
+    public final HighlightAnalysisBudget analysisBudget;
 
     public FieldHighlightContext(String fieldName,
                                  SearchHighlightContext.Field field,
@@ -57,6 +58,18 @@ public class FieldHighlightContext {
                                  Query query,
                                  boolean forceSource,
                                  Map<String, Object> cache) {
+        this(fieldName, field, fieldType, context, hitContext, query, forceSource, cache, null);
+    }
+
+    public FieldHighlightContext(String fieldName,
+                                 SearchHighlightContext.Field field,
+                                 MappedFieldType fieldType,
+                                 FetchContext context,
+                                 FetchSubPhase.HitContext hitContext,
+                                 Query query,
+                                 boolean forceSource,
+                                 Map<String, Object> cache,
+                                 HighlightAnalysisBudget analysisBudget) {
         this.fieldName = fieldName;
         this.field = field;
         this.fieldType = fieldType;
@@ -65,5 +78,6 @@ public class FieldHighlightContext {
         this.query = query;
         this.forceSource = forceSource;
         this.cache = cache;
+        this.analysisBudget = analysisBudget;
     }
 }
@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch.subphase.highlight;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.AnalyzerWrapper;
+import org.apache.lucene.analysis.TokenFilter;
+import org.apache.lucene.analysis.TokenStream;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps the time that the highlighters of a request spend re-analyzing the text of the hits. Token streams that are
+ * {@link #wrap wrapped} by the budget end early once the time that all of them spent consuming tokens exceeds the
+ * budget, so that highlighters return the fragments of the text that they analyzed so far, and highlighters don't
+ * start analyzing any more text once the budget is {@link #isExhausted() exhausted}. Fields whose offsets were
+ * indexed in the postings or term vectors are highlighted without analysis and don't consume the budget.
+ * <p>
+ * The budget is shared by all the threads that highlight the hits of a request.
+ */
+public final class HighlightAnalysisBudget {
+
+    /**
+     * How many tokens are consumed between two checks of the clock.
+     */
+    static final int TOKENS_BETWEEN_CHECKS = 64;
+
+    private final long budgetNanos;
+    private final LongSupplier nanoTime;
+    private final AtomicLong spentNanos = new AtomicLong();
+    private volatile boolean exhausted;
+
+    public HighlightAnalysisBudget(long budgetNanos) {
+        this(budgetNanos, System::nanoTime);
+    }
+
+    HighlightAnalysisBudget(long budgetNanos, LongSupplier nanoTime) {
+        if (budgetNanos < 0) {
+            throw new IllegalArgumentException("the analysis budget must not be negative but was [" + budgetNanos + "nanos]");
+        }
+        this.budgetNanos = budgetNanos;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Whether the highlighters spent the whole budget, in which case they shouldn't analyze any more text.
+     */
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * How long the highlighters spent consuming tokens so far.
+     */
+    public long spentNanos() {
+        return spentNanos.get();
+    }
+
+    /**
+     * Wraps a token stream so that it ends once the budget is exhausted.
+     */
+    public TokenStream wrap(TokenStream in) {
+        return new BudgetTokenFilter(in);
+    }
+
+    /**
+     * Wraps an analyzer so that the token streams that it creates end once the budget is exhausted.
+     */
+    public Analyzer wrap(Analyzer analyzer) {
+        return new AnalyzerWrapper(analyzer.getReuseStrategy()) {
+            @Override
+            protected Analyzer getWrappedAnalyzer(String fieldName) {
+                return analyzer;
+            }
+
+            @Override
+            protected TokenStreamComponents wrapComponents(String fieldName, TokenStreamComponents components) {
+                return new TokenStreamComponents(components.getSource(), wrap(components.getTokenStream()));
+            }
+        };
+    }
+
+    private void spend(long nanos) {
+        if (spentNanos.addAndGet(nanos) > budgetNanos) {
+            exhausted = true;
+        }
+    }
+
+    private final class BudgetTokenFilter extends TokenFilter {
+        private long lastCheck;
+        private int tokensSinceCheck;
+
+        BudgetTokenFilter(TokenStream in) {
+            super(in);
+        }
+
+        @Override
+        public void reset() throws IOException {
+            super.reset();
+            lastCheck = nanoTime.getAsLong();
+            tokensSinceCheck = 0;
+        }
+
+        @Override
+        public boolean incrementToken() throws IOException {
+            if (++tokensSinceCheck >= TOKENS_BETWEEN_CHECKS) {
+                check();
+            }
+            return exhausted == false && input.incrementToken();
+        }
+
+        @Override
+        public void end() throws IOException {
+            check();
+            super.end();
+        }
+
+        private void check() {
+            final long now = nanoTime.getAsLong();
+            spend(now - lastCheck);
+            lastCheck = now;
+            tokensSinceCheck = 0;
+        }
+    }
+}
@@ -34,10 +34,12 @@ package org.opensearch.search.fetch.subphase.highlight;
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.vectorhighlight.SimpleBoundaryScanner;
+import org.opensearch.Version;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.ObjectParser;
 import org.opensearch.common.xcontent.ObjectParser.NamedObjectParser;
 import org.opensearch.common.xcontent.XContentBuilder;
@@ -102,6 +104,8 @@ public class HighlightBuilder extends AbstractHighlighterBuilder<HighlightBuilde
     /** the default closing tags when {@code tag_schema = "styled"}  */
     public static final String[] DEFAULT_STYLED_POST_TAGS = {"</em>"};
 
+    public static final ParseField ANALYSIS_BUDGET_FIELD = new ParseField("analysis_budget");
+
     /**
      * a {@link FieldOptions} with default settings
      */
@@ -119,6 +123,8 @@ public class HighlightBuilder extends AbstractHighlighterBuilder<HighlightBuilde
 
     private boolean useExplicitFieldOrder = false;
 
+    private TimeValue analysisBudget;
+
     public HighlightBuilder() {
         fields = new ArrayList<>();
     }
@@ -127,6 +133,7 @@ public class HighlightBuilder extends AbstractHighlighterBuilder<HighlightBuilde
         super(template, highlightQuery);
         this.encoder = template.encoder;
         this.useExplicitFieldOrder = template.useExplicitFieldOrder;
+        this.analysisBudget = template.analysisBudget;
         this.fields = fields;
     }
 
@@ -138,6 +145,9 @@ public class HighlightBuilder extends AbstractHighlighterBuilder<HighlightBuilde
         encoder(in.readOptionalString());
         useExplicitFieldOrder(in.readBoolean());
         this.fields = in.readList(Field::new);
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            analysisBudget = in.readOptionalTimeValue();
+        }
         assert this.equals(new HighlightBuilder(this, highlightQuery, fields)) : "copy constructor is broken";
     }
 
@@ -146,6 +156,9 @@ public class HighlightBuilder extends AbstractHighlighterBuilder<HighlightBuilde
         out.writeOptionalString(encoder);
         out.writeBoolean(useExplicitFieldOrder);
         out.writeList(fields);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeOptionalTimeValue(analysisBudget);
+        }
     }
 
     /**
@@ -265,6 +278,27 @@ public class HighlightBuilder extends AbstractHighlighterBuilder<HighlightBuilde
         return this.useExplicitFieldOrder;
     }
 
+    /**
+     * Set how long the highlighters of the request may spend analyzing the text of the hits. Highlighters stop analyzing
+     * once the budget is spent and return the fragments that they found so far, fields whose offsets are indexed in the
+     * postings or term vectors are highlighted without analysis and are not affected. Defaults to no budget.
+     */
+    public HighlightBuilder analysisBudget(TimeValue analysisBudget) {
+        if (analysisBudget != null && analysisBudget.nanos() < 0) {
+            throw new IllegalArgumentException("[" + ANALYSIS_BUDGET_FIELD.getPreferredName() + "] must not be negative but was ["
+                + analysisBudget + "]");
+        }
+        this.analysisBudget = analysisBudget;
+        return this;
+    }
+
+    /**
+     * Gets value set with {@link #analysisBudget(TimeValue)}
+     */
+    public TimeValue analysisBudget() {
+        return this.analysisBudget;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject();
@@ -278,6 +312,9 @@ public class HighlightBuilder extends AbstractHighlighterBuilder<HighlightBuilde
         ObjectParser<HighlightBuilder, Void> parser = new ObjectParser<>("highlight");
         parser.declareString(HighlightBuilder::tagsSchema, new ParseField("tags_schema"));
         parser.declareString(HighlightBuilder::encoder, ENCODER_FIELD);
+        parser.declareField(HighlightBuilder::analysisBudget,
+            (p, c) -> TimeValue.parseTimeValue(p.text(), ANALYSIS_BUDGET_FIELD.getPreferredName()),
+            ANALYSIS_BUDGET_FIELD, ObjectParser.ValueType.STRING);
         parser.declareNamedObjects(HighlightBuilder::fields, Field.PARSER, (HighlightBuilder hb) -> hb.useExplicitFieldOrder(true),
                 FIELDS_FIELD);
         PARSER = setupParser(parser);
@@ -309,7 +346,8 @@ public class HighlightBuilder extends AbstractHighlighterBuilder<HighlightBuilde
             fieldOptions.add(new SearchHighlightContext.Field(field.name(), fieldOptionsBuilder
                     .merge(globalOptionsBuilder.build()).build()));
         }
-        return new SearchHighlightContext(fieldOptions);
+        return new SearchHighlightContext(fieldOptions, false,
+            analysisBudget == null ? null : new HighlightAnalysisBudget(analysisBudget.nanos()));
     }
 
     /**
@@ -399,6 +437,9 @@ public class HighlightBuilder extends AbstractHighlighterBuilder<HighlightBuilde
         if (encoder != null) {
             builder.field(ENCODER_FIELD.getPreferredName(), encoder);
         }
+        if (analysisBudget != null) {
+            builder.field(ANALYSIS_BUDGET_FIELD.getPreferredName(), analysisBudget.getStringRep());
+        }
         if (fields.size() > 0) {
             if (useExplicitFieldOrder) {
                 builder.startArray(FIELDS_FIELD.getPreferredName());
@@ -424,13 +465,14 @@ public class HighlightBuilder extends AbstractHighlighterBuilder<HighlightBuilde
 
     @Override
     protected int doHashCode() {
-        return Objects.hash(encoder, useExplicitFieldOrder, fields);
+        return Objects.hash(encoder, useExplicitFieldOrder, analysisBudget, fields);
     }
 
     @Override
     protected boolean doEquals(HighlightBuilder other) {
         return Objects.equals(encoder, other.encoder) &&
                 Objects.equals(useExplicitFieldOrder, other.useExplicitFieldOrder) &&
+                Objects.equals(analysisBudget, other.analysisBudget) &&
                 Objects.equals(fields, other.fields);
     }
 
@@ -39,17 +39,22 @@ import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.SourceFieldMapper;
 import org.opensearch.index.mapper.TextFieldMapper;
+import org.opensearch.search.fetch.ConcurrentFetchTasks;
 import org.opensearch.search.fetch.FetchContext;
 import org.opensearch.search.fetch.FetchSubPhase;
 import org.opensearch.search.fetch.FetchSubPhaseProcessor;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 
 public class HighlightPhase implements FetchSubPhase {
 
@@ -69,9 +74,12 @@ public class HighlightPhase implements FetchSubPhase {
     }
 
     public FetchSubPhaseProcessor getProcessor(FetchContext context, SearchHighlightContext highlightContext, Query query) {
+        Map<String, BiFunction<HitContext, Map<String, Object>, FieldHighlightContext>> contextBuilders = contextBuilders(
+            context, highlightContext, query);
+        if (context.maxConcurrency() > 1 && contextBuilders.size() > 1) {
+            return new ConcurrentHighlightProcessor(context, contextBuilders);
+        }
         Map<String, Object> sharedCache = new HashMap<>();
-        Map<String, Function<HitContext, FieldHighlightContext>> contextBuilders = contextBuilders(
-            context, highlightContext, query, sharedCache);
 
         return new FetchSubPhaseProcessor() {
             @Override
@@ -83,15 +91,9 @@ public class HighlightPhase implements FetchSubPhase {
             public void process(HitContext hitContext) throws IOException {
                 Map<String, HighlightField> highlightFields = new HashMap<>();
                 for (String field : contextBuilders.keySet()) {
-                    FieldHighlightContext fieldContext = contextBuilders.get(field).apply(hitContext);
-                    Highlighter highlighter = getHighlighter(fieldContext.field);
-                    HighlightField highlightField = highlighter.highlight(fieldContext);
+                    HighlightField highlightField = highlight(field, contextBuilders.get(field).apply(hitContext, sharedCache));
                     if (highlightField != null) {
-                        // Note that we make sure to use the original field name in the response. This is because the
-                        // original field could be an alias, and highlighter implementations may instead reference the
-                        // concrete field it points to.
-                        highlightFields.put(field,
-                            new HighlightField(field, highlightField.fragments()));
+                        highlightFields.put(field, highlightField);
                     }
                 }
                 hitContext.hit().highlightFields(highlightFields);
@@ -99,6 +101,68 @@ public class HighlightPhase implements FetchSubPhase {
         };
     }
 
+    private HighlightField highlight(String field, FieldHighlightContext fieldContext) throws IOException {
+        Highlighter highlighter = getHighlighter(fieldContext.field);
+        HighlightField highlightField = highlighter.highlight(fieldContext);
+        if (highlightField == null) {
+            return null;
+        }
+        // Note that we make sure to use the original field name in the response. This is because the
+        // original field could be an alias, and highlighter implementations may instead reference the
+        // concrete field it points to.
+        return new HighlightField(field, highlightField.fragments());
+    }
+
+    /**
+     * Highlights the fields of a hit concurrently. Highlighters cache state per field in the cache that they get, so
+     * every field gets its own cache and is never highlighted by two threads at the same time.
+     */
+    private class ConcurrentHighlightProcessor implements FetchSubPhaseProcessor {
+        private final FetchContext context;
+        private final Map<String, BiFunction<HitContext, Map<String, Object>, FieldHighlightContext>> contextBuilders;
+        private final List<String> fields;
+        private final Map<String, Map<String, Object>> caches = new HashMap<>();
+
+        ConcurrentHighlightProcessor(FetchContext context,
+                                     Map<String, BiFunction<HitContext, Map<String, Object>, FieldHighlightContext>> contextBuilders) {
+            this.context = context;
+            this.contextBuilders = contextBuilders;
+            this.fields = new ArrayList<>(contextBuilders.keySet());
+            for (String field : fields) {
+                caches.put(field, new HashMap<>());
+            }
+        }
+
+        @Override
+        public void setNextReader(LeafReaderContext readerContext) {
+
+        }
+
+        @Override
+        public void process(HitContext hitContext) throws IOException {
+            if (context.mapperService().documentMapper().sourceMapper().enabled()) {
+                // the source lookup isn't thread-safe, load the source once before the fields read it concurrently
+                hitContext.sourceLookup().loadSourceIfNeeded();
+            }
+            Map<String, HighlightField> highlightFields = new ConcurrentHashMap<>();
+            try {
+                new ConcurrentFetchTasks<>(fields, field -> {
+                    try {
+                        HighlightField highlightField = highlight(field, contextBuilders.get(field).apply(hitContext, caches.get(field)));
+                        if (highlightField != null) {
+                            highlightFields.put(field, highlightField);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }).run(Math.min(context.maxConcurrency(), fields.size()) - 1, context.executor());
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            hitContext.hit().highlightFields(new HashMap<>(highlightFields));
+        }
+    }
+
     private Highlighter getHighlighter(SearchHighlightContext.Field field) {
         String highlighterType = field.fieldOptions().highlighterType();
         if (highlighterType == null) {
@@ -112,11 +176,12 @@ public class HighlightPhase implements FetchSubPhase {
         return highlighter;
     }
 
-    private Map<String, Function<HitContext, FieldHighlightContext>> contextBuilders(FetchContext context,
-                                                                                     SearchHighlightContext highlightContext,
-                                                                                     Query query,
-                                                                                     Map<String, Object> sharedCache) {
-        Map<String, Function<HitContext, FieldHighlightContext>> builders = new LinkedHashMap<>();
+    private Map<String, BiFunction<HitContext, Map<String, Object>, FieldHighlightContext>> contextBuilders(
+        FetchContext context,
+        SearchHighlightContext highlightContext,
+        Query query
+    ) {
+        Map<String, BiFunction<HitContext, Map<String, Object>, FieldHighlightContext>> builders = new LinkedHashMap<>();
         for (SearchHighlightContext.Field field : highlightContext.fields()) {
             Highlighter highlighter = getHighlighter(field);
             Collection<String> fieldNamesToHighlight;
@@ -163,8 +228,8 @@ public class HighlightPhase implements FetchSubPhase {
 
                 boolean forceSource = highlightContext.forceSource(field);
                 builders.put(fieldName,
-                    hc -> new FieldHighlightContext(fieldType.name(), field, fieldType, context, hc,
-                        highlightQuery == null ? query : highlightQuery, forceSource, sharedCache));
+                    (hc, cache) -> new FieldHighlightContext(fieldType.name(), field, fieldType, context, hc,
+                        highlightQuery == null ? query : highlightQuery, forceSource, cache, highlightContext.analysisBudget()));
             }
         }
         return builders;
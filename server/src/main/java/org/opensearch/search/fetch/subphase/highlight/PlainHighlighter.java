@@ -71,6 +71,10 @@ public class PlainHighlighter implements Highlighter {
         FetchContext context = fieldContext.context;
         FetchSubPhase.HitContext hitContext = fieldContext.hitContext;
         MappedFieldType fieldType = fieldContext.fieldType;
+        HighlightAnalysisBudget analysisBudget = fieldContext.analysisBudget;
+        if (analysisBudget != null && analysisBudget.isExhausted()) {
+            return null;
+        }
 
         Encoder encoder = field.fieldOptions().encoder().equals("html") ? HighlightUtils.Encoders.HTML : HighlightUtils.Encoders.DEFAULT;
 
@@ -140,7 +144,8 @@ public class PlainHighlighter implements Highlighter {
                         "with unified or fvh highlighter is recommended!");
             }
 
-            try (TokenStream tokenStream = analyzer.tokenStream(fieldType.name(), text)) {
+            TokenStream analyzed = analyzer.tokenStream(fieldType.name(), text);
+            try (TokenStream tokenStream = analysisBudget == null ? analyzed : analysisBudget.wrap(analyzed)) {
                 if (!tokenStream.hasAttribute(CharTermAttribute.class) || !tokenStream.hasAttribute(OffsetAttribute.class)) {
                     // can't perform highlighting if the stream has no terms (binary token stream) or no offsets
                     continue;
@@ -47,24 +47,37 @@ public class SearchHighlightContext {
 
     private final Map<String, Field> fields;
     private final boolean globalForceSource;
+    private final HighlightAnalysisBudget analysisBudget;
 
     public SearchHighlightContext(Collection<Field> fields) {
         this(fields, false);
     }
 
     public SearchHighlightContext(Collection<Field> fields, boolean globalForceSource) {
+        this(fields, globalForceSource, null);
+    }
+
+    public SearchHighlightContext(Collection<Field> fields, boolean globalForceSource, HighlightAnalysisBudget analysisBudget) {
         assert fields != null;
         this.fields = new LinkedHashMap<>(fields.size());
         for (Field field : fields) {
             this.fields.put(field.field, field);
         }
         this.globalForceSource = globalForceSource;
+        this.analysisBudget = analysisBudget;
     }
 
     public Collection<Field> fields() {
         return fields.values();
     }
 
+    /**
+     * The budget of the time that highlighters may spend analyzing text, {@code null} if unlimited.
+     */
+    public HighlightAnalysisBudget analysisBudget() {
+        return analysisBudget;
+    }
+
     public boolean forceSource(Field field) {
         if (globalForceSource) {
             return true;
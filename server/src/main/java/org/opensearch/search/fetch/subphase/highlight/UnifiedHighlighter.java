@@ -74,6 +74,11 @@ public class UnifiedHighlighter implements Highlighter {
 
     @Override
     public HighlightField highlight(FieldHighlightContext fieldContext) throws IOException {
+        if (fieldContext.analysisBudget != null && fieldContext.analysisBudget.isExhausted()
+            && getOffsetSource(fieldContext.fieldType) == OffsetSource.ANALYSIS) {
+            // fields whose offsets are indexed are still highlighted since they don't need to be analyzed
+            return null;
+        }
         @SuppressWarnings("unchecked")
         Map<String, CustomUnifiedHighlighter> cache = (Map<String, CustomUnifiedHighlighter>) fieldContext.cache
             .computeIfAbsent(UnifiedHighlighter.class.getName(), k -> new HashMap<>());
@@ -136,6 +141,9 @@ public class UnifiedHighlighter implements Highlighter {
         PassageFormatter passageFormatter = getPassageFormatter(fieldContext.hitContext, fieldContext.field, encoder);
         IndexSearcher searcher = fieldContext.context.searcher();
         OffsetSource offsetSource = getOffsetSource(fieldContext.fieldType);
+        if (fieldContext.analysisBudget != null && offsetSource == OffsetSource.ANALYSIS) {
+            analyzer = fieldContext.analysisBudget.wrap(analyzer);
+        }
         BreakIterator breakIterator;
         int higlighterNumberOfFragments;
         if (numberOfFragments == 0
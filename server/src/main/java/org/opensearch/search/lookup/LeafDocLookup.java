@@ -32,11 +32,13 @@
 package org.opensearch.search.lookup;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.logging.DeprecationLogger;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
 
@@ -59,6 +61,8 @@ public class LeafDocLookup implements Map<String, ScriptDocValues<?>> {
 
     private final Map<String, ScriptDocValues<?>> localCacheFieldData = new HashMap<>(4);
 
+    private DoubleReader[] doubleReaders = new DoubleReader[0];
+
     private final MapperService mapperService;
     private final Function<MappedFieldType, IndexFieldData<?>> fieldDataLookup;
 
@@ -92,7 +96,16 @@ public class LeafDocLookup implements Map<String, ScriptDocValues<?>> {
             DEPRECATION_LOGGER.deprecate(TYPES_DEPRECATION_KEY, TYPES_DEPRECATION_MESSAGE);
         }
         // assume its a string...
-        String fieldName = key.toString();
+        ScriptDocValues<?> scriptValues = scriptValues(key.toString());
+        try {
+            scriptValues.setNextDocId(docId);
+        } catch (IOException e) {
+            throw ExceptionsHelper.convertToOpenSearchException(e);
+        }
+        return scriptValues;
+    }
+
+    private ScriptDocValues<?> scriptValues(String fieldName) {
         ScriptDocValues<?> scriptValues = localCacheFieldData.get(fieldName);
         if (scriptValues == null) {
             final MappedFieldType fieldType = mapperService.fieldType(fieldName);
@@ -110,12 +123,83 @@ public class LeafDocLookup implements Map<String, ScriptDocValues<?>> {
             });
             localCacheFieldData.put(fieldName, scriptValues);
         }
+        return scriptValues;
+    }
+
+    /**
+     * Reads the first value of a numeric field of the current document as a {@code double}, which is what converting
+     * {@code doc[field].value} to a {@code double} returns, but straight from the doc values of the field: the values of the
+     * document aren't copied into the field's {@link ScriptDocValues} and aren't boxed. Scripts read every distinct field
+     * through its own slot, whose doc values are resolved on the first read.
+     */
+    public double readDouble(int slot, String field) {
+        if (slot >= doubleReaders.length) {
+            doubleReaders = Arrays.copyOf(doubleReaders, slot + 1);
+        }
+        DoubleReader reader = doubleReaders[slot];
+        if (reader == null || reader.field.equals(field) == false) {
+            reader = doubleReaders[slot] = newDoubleReader(field);
+        }
         try {
-            scriptValues.setNextDocId(docId);
+            return reader.read(docId);
         } catch (IOException e) {
             throw ExceptionsHelper.convertToOpenSearchException(e);
         }
-        return scriptValues;
+    }
+
+    private DoubleReader newDoubleReader(String field) {
+        final ScriptDocValues<?> scriptValues = scriptValues(field);
+        if (scriptValues instanceof ScriptDocValues.Longs) {
+            final SortedNumericDocValues values = ((ScriptDocValues.Longs) scriptValues).getInternalValues();
+            return new DoubleReader(field) {
+                @Override
+                double read(int docId) throws IOException {
+                    if (values.advanceExact(docId) == false) {
+                        throw missingValue();
+                    }
+                    return values.nextValue();
+                }
+            };
+        } else if (scriptValues instanceof ScriptDocValues.Doubles) {
+            final SortedNumericDoubleValues values = ((ScriptDocValues.Doubles) scriptValues).getInternalValues();
+            return new DoubleReader(field) {
+                @Override
+                double read(int docId) throws IOException {
+                    if (values.advanceExact(docId) == false) {
+                        throw missingValue();
+                    }
+                    return values.nextValue();
+                }
+            };
+        }
+        // other fields only convert to doubles if their values are numbers
+        return new DoubleReader(field) {
+            @Override
+            double read(int docId) throws IOException {
+                scriptValues.setNextDocId(docId);
+                final Object value = scriptValues.get(0);
+                if (value instanceof Number) {
+                    return ((Number) value).doubleValue();
+                }
+                throw new ClassCastException("Cannot cast [" + value.getClass().getName() + "] to [double]");
+            }
+        };
+    }
+
+    private static IllegalStateException missingValue() {
+        return new IllegalStateException("A document doesn't have a value for a field! " +
+            "Use doc[<field>].size()==0 to check if a document is missing a field!");
+    }
+
+    private abstract static class DoubleReader {
+
+        final String field;
+
+        DoubleReader(String field) {
+            this.field = field;
+        }
+
+        abstract double read(int docId) throws IOException;
     }
 
     @Override
@@ -434,6 +434,8 @@ public class QueryPhase {
         Sort sort = searchContext.sort().sort;
         SortField sortField = sort.getSort()[0];
         if (SortField.Type.LONG.equals(IndexSortConfig.getSortFieldType(sortField)) == false) return null;
+        // the comparator of the sort already skips non-competitive documents using the points of the field
+        if (sortField.getCanUsePoints()) return null;
 
         // check if this is a field of type Long or Date, that is indexed and has doc values
         String fieldName = sortField.getField();
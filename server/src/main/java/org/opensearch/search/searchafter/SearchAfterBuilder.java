@@ -53,6 +53,7 @@ import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.sort.SortAndFormats;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -165,9 +166,60 @@ public class SearchAfterBuilder implements ToXContentObject, Writeable {
 
     static Object convertValueFromSortField(Object value, SortField sortField, DocValueFormat format) {
         SortField.Type sortType = extractSortType(sortField);
+        if (value instanceof Number && format != DocValueFormat.UNSIGNED_LONG_SHIFTED) {
+            // the value may come from an index that maps the field as another numeric type
+            value = roundToSortType((Number) value, sortType, sortField.getReverse());
+        }
         return convertValueFromSortType(sortField.getField(), sortType, value, format);
     }
 
+    /**
+     * Rounds a numeric value that the sort type can't represent exactly in the sort direction, so that the values of the
+     * sort type between the value and the rounded value still come after it.
+     */
+    static Number roundToSortType(Number value, SortField.Type sortType, boolean reverse) {
+        final boolean integral = value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+        switch (sortType) {
+            case LONG:
+            case INT:
+                if (integral == false) {
+                    final double doubleValue = value.doubleValue();
+                    return reverse ? Math.ceil(doubleValue) : Math.floor(doubleValue);
+                }
+                return value;
+
+            case DOUBLE:
+                if (integral) {
+                    final double rounded = value.longValue();
+                    final int cmp = new BigDecimal(rounded).compareTo(BigDecimal.valueOf(value.longValue()));
+                    if (reverse == false && cmp > 0) {
+                        return Math.nextDown(rounded);
+                    } else if (reverse && cmp < 0) {
+                        return Math.nextUp(rounded);
+                    }
+                    return rounded;
+                }
+                return value;
+
+            case FLOAT:
+                if (value instanceof Float == false && Double.isFinite(value.doubleValue())) {
+                    final float rounded = value.floatValue();
+                    final BigDecimal exact = integral ? BigDecimal.valueOf(value.longValue()) : new BigDecimal(value.doubleValue());
+                    final int cmp = Float.isFinite(rounded) ? new BigDecimal(rounded).compareTo(exact) : 0;
+                    if (reverse == false && cmp > 0) {
+                        return Math.nextDown(rounded);
+                    } else if (reverse && cmp < 0) {
+                        return Math.nextUp(rounded);
+                    }
+                    return rounded;
+                }
+                return value;
+
+            default:
+                return value;
+        }
+    }
+
     private static Object convertValueFromSortType(String fieldName, SortField.Type sortType, Object value, DocValueFormat format) {
         try {
             switch (sortType) {
@@ -38,6 +38,7 @@ import org.apache.lucene.index.MultiTerms;
 import org.apache.lucene.index.PointValues;
 import org.apache.lucene.index.Terms;
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.opensearch.LegacyESVersion;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.common.ParseField;
@@ -432,6 +433,9 @@ public class FieldSortBuilder extends SortBuilder<FieldSortBuilder> {
                 isNanosecond = ((IndexNumericFieldData) fieldData).getNumericType() == NumericType.DATE_NANOSECONDS;
             }
         }
+        if (canUsePoints(fieldType, fieldData, field)) {
+            field.setCanUsePoints();
+        }
         DocValueFormat format = fieldType.docValueFormat(null, null);
         if (isNanosecond) {
             format = DocValueFormat.withNanosecondResolution(format);
@@ -439,6 +443,33 @@ public class FieldSortBuilder extends SortBuilder<FieldSortBuilder> {
         return new SortFieldAndFormat(field, format);
     }
 
+    /**
+     * Returns whether the sort may use the points of the field to skip the documents that cannot compete anymore once
+     * enough hits have been collected, including the documents before the {@code search_after} values. This is only
+     * correct if the points hold the values the sort reads, encoded the same way: the sort must read the minimum or
+     * maximum of the doc values of the field as they are, so nested sorts and sorts that convert the values with
+     * {@code numeric_type} are excluded, and the field must be indexed as points of the width of its sort type.
+     */
+    private static boolean canUsePoints(MappedFieldType fieldType, IndexFieldData<?> fieldData, SortField sortField) {
+        if (sortField instanceof SortedNumericSortField == false || fieldData instanceof IndexNumericFieldData == false) {
+            return false;
+        }
+        if (fieldType.isSearchable() == false || fieldType.hasDocValues() == false) {
+            return false;
+        }
+        switch (((IndexNumericFieldData) fieldData).getNumericType()) {
+            case LONG:
+            case DATE:
+            case DATE_NANOSECONDS:
+            case FLOAT:
+            case DOUBLE:
+                return true;
+            default:
+                // byte, short and integer are indexed as int points but sorted as longs
+                return false;
+        }
+    }
+
     public boolean canRewriteToMatchNone() {
         return nestedSort == null && (missing == null || "_last".equals(missing));
     }
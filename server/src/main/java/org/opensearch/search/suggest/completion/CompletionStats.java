@@ -31,6 +31,7 @@
 
 package org.opensearch.search.suggest.completion;
 
+import org.opensearch.Version;
 import org.opensearch.common.FieldMemoryStats;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
@@ -47,9 +48,12 @@ public class CompletionStats implements Writeable, ToXContentFragment {
     private static final String COMPLETION = "completion";
     private static final String SIZE_IN_BYTES = "size_in_bytes";
     private static final String SIZE = "size";
+    private static final String OFF_HEAP_SIZE_IN_BYTES = "off_heap_size_in_bytes";
+    private static final String OFF_HEAP_SIZE = "off_heap_size";
     private static final String FIELDS = "fields";
 
     private long sizeInBytes;
+    private long offHeapSizeInBytes;
     @Nullable
     private FieldMemoryStats fields;
 
@@ -59,10 +63,18 @@ public class CompletionStats implements Writeable, ToXContentFragment {
     public CompletionStats(StreamInput in) throws IOException {
         sizeInBytes = in.readVLong();
         fields = in.readOptionalWriteable(FieldMemoryStats::new);
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            offHeapSizeInBytes = in.readVLong();
+        }
     }
 
     public CompletionStats(long size, @Nullable FieldMemoryStats fields) {
+        this(size, 0, fields);
+    }
+
+    public CompletionStats(long size, long offHeapSize, @Nullable FieldMemoryStats fields) {
         this.sizeInBytes = size;
+        this.offHeapSizeInBytes = offHeapSize;
         this.fields = fields;
     }
 
@@ -74,6 +86,17 @@ public class CompletionStats implements Writeable, ToXContentFragment {
         return new ByteSizeValue(sizeInBytes);
     }
 
+    /**
+     * The size of the suggestion FSTs that are read from the index files rather than loaded on heap.
+     */
+    public long getOffHeapSizeInBytes() {
+        return offHeapSizeInBytes;
+    }
+
+    public ByteSizeValue getOffHeapSize() {
+        return new ByteSizeValue(offHeapSizeInBytes);
+    }
+
     public FieldMemoryStats getFields() {
         return fields;
     }
@@ -82,12 +105,16 @@ public class CompletionStats implements Writeable, ToXContentFragment {
     public void writeTo(StreamOutput out) throws IOException {
         out.writeVLong(sizeInBytes);
         out.writeOptionalWriteable(fields);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeVLong(offHeapSizeInBytes);
+        }
     }
 
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(COMPLETION);
         builder.humanReadableField(SIZE_IN_BYTES, SIZE, getSize());
+        builder.humanReadableField(OFF_HEAP_SIZE_IN_BYTES, OFF_HEAP_SIZE, getOffHeapSize());
         if (fields != null) {
             fields.toXContent(builder, FIELDS, SIZE_IN_BYTES, SIZE);
         }
@@ -100,6 +127,7 @@ public class CompletionStats implements Writeable, ToXContentFragment {
             return;
         }
         sizeInBytes += completion.getSizeInBytes();
+        offHeapSizeInBytes += completion.getOffHeapSizeInBytes();
         if (completion.fields != null) {
             if (fields == null) {
                 fields = completion.fields.copy();
@@ -83,14 +83,17 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.Index;
+import org.opensearch.index.IndexModule;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.remote.RemoteSnapshotDirectoryFactory;
 import org.opensearch.indices.ShardLimitValidator;
 import org.opensearch.repositories.IndexId;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.repositories.Repository;
 import org.opensearch.repositories.RepositoryData;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -203,6 +206,11 @@ public class RestoreService implements ClusterStateApplier {
             // Read snapshot info and metadata from the repository
             final String repositoryName = request.repository();
             Repository repository = repositoriesService.repository(repositoryName);
+            if (request.storageType() == RestoreSnapshotRequest.StorageType.REMOTE_SNAPSHOT
+                && repository instanceof BlobStoreRepository == false) {
+                throw new SnapshotRestoreException(repositoryName, request.snapshot(), "repository of type ["
+                    + repository.getMetadata().type() + "] does not support storage type [" + request.storageType().text() + "]");
+            }
             final StepListener<RepositoryData> repositoryDataListener = new StepListener<>();
             repository.getRepositoryData(repositoryDataListener);
             repositoryDataListener.whenComplete(repositoryData -> {
@@ -324,6 +332,10 @@ public class RestoreService implements ClusterStateApplier {
                                 IndexMetadata snapshotIndexMetadata = metadata.index(index);
                                 snapshotIndexMetadata = updateIndexSettings(snapshotIndexMetadata,
                                     request.indexSettings(), request.ignoreIndexSettings());
+                                if (request.storageType() == RestoreSnapshotRequest.StorageType.REMOTE_SNAPSHOT) {
+                                    snapshotIndexMetadata = addSnapshotToIndexSettings(snapshotIndexMetadata,
+                                        recoverySource.index());
+                                }
                                 try {
                                     snapshotIndexMetadata = metadataIndexUpgradeService.upgradeIndexMetadata(snapshotIndexMetadata,
                                         minIndexCompatibilityVersion);
@@ -366,6 +378,11 @@ public class RestoreService implements ClusterStateApplier {
                                     mdBuilder.put(updatedIndexMetadata, true);
                                     renamedIndex = updatedIndexMetadata.getIndex();
                                 } else {
+                                    if (request.storageType() == RestoreSnapshotRequest.StorageType.REMOTE_SNAPSHOT) {
+                                        throw new SnapshotRestoreException(snapshot, "cannot restore index [" + renamedIndexName
+                                            + "] with storage type [" + request.storageType().text() + "] because an index with the"
+                                            + " same name already exists in the cluster");
+                                    }
                                     validateExistingIndex(currentIndexMetadata, snapshotIndexMetadata, renamedIndexName, partial);
                                     // Index exists and it's closed - open it in metadata and start recovery
                                     IndexMetadata.Builder indexMdBuilder =
@@ -605,6 +622,23 @@ public class RestoreService implements ClusterStateApplier {
                         return builder.settings(settingsBuilder).build();
                     }
 
+                    /**
+                     * Turns the index into an index that reads the files of the given snapshot from the repository on demand
+                     * instead of copying them to the local disk. Such an index is read-only.
+                     */
+                    private IndexMetadata addSnapshotToIndexSettings(IndexMetadata indexMetadata, IndexId indexId) {
+                        final Settings newSettings = Settings.builder()
+                            .put(indexMetadata.getSettings())
+                            .put(IndexModule.INDEX_STORE_TYPE_SETTING.getKey(), RemoteSnapshotDirectoryFactory.TYPE)
+                            .put(IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY.getKey(), repositoryName)
+                            .put(IndexSettings.SEARCHABLE_SNAPSHOT_ID_NAME.getKey(), snapshotId.getName())
+                            .put(IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID.getKey(), snapshotId.getUUID())
+                            .put(IndexSettings.SEARCHABLE_SNAPSHOT_INDEX_ID.getKey(), indexId.getId())
+                            .put(IndexMetadata.SETTING_BLOCKS_WRITE, true)
+                            .build();
+                        return IndexMetadata.builder(indexMetadata).settings(newSettings).build();
+                    }
+
                     @Override
                     public void onFailure(String source, Exception e) {
                         logger.warn(() -> new ParameterizedMessage("[{}] failed to restore snapshot", snapshotId), e);
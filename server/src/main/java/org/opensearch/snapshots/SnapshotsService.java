@@ -92,7 +92,10 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.index.Index;
+import org.opensearch.index.IndexModule;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.remote.RemoteSnapshotDirectoryFactory;
 import org.opensearch.repositories.IndexId;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.repositories.Repository;
@@ -2106,6 +2109,21 @@ public class SnapshotsService extends AbstractLifecycleComponent implements Clus
                             "cannot delete snapshot while it is being cloned");
                     }
                 }
+                // don't allow deleting snapshots that indices are mounted from with the remote_snapshot storage type, their shards
+                // read the snapshot files from the repository on demand
+                for (IndexMetadata indexMetadata : currentState.metadata()) {
+                    final Settings indexSettings = indexMetadata.getSettings();
+                    if (RemoteSnapshotDirectoryFactory.TYPE.equals(indexSettings.get(IndexModule.INDEX_STORE_TYPE_SETTING.getKey()))
+                        && repoName.equals(IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY.get(indexSettings))) {
+                        final String snapshotUUID = IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID.get(indexSettings);
+                        for (SnapshotId snapshotId : snapshotIds) {
+                            if (snapshotId.getUUID().equals(snapshotUUID)) {
+                                throw new ConcurrentSnapshotExecutionException(new Snapshot(repoName, snapshotId),
+                                    "cannot delete snapshot while it is mounted as index [" + indexMetadata.getIndex().getName() + "]");
+                            }
+                        }
+                    }
+                }
                 // Snapshot ids that will have to be physically deleted from the repository
                 final Set<SnapshotId> snapshotIdsRequiringCleanup = new HashSet<>(snapshotIds);
                 final SnapshotsInProgress updatedSnapshots;
@@ -87,6 +87,10 @@ public class RestoreSnapshotRequestTests extends AbstractWireSerializingTestCase
 
         instance.includeGlobalState(randomBoolean());
 
+        if (randomBoolean()) {
+            instance.storageType(randomFrom(RestoreSnapshotRequest.StorageType.values()));
+        }
+
         if (randomBoolean()) {
             Collection<IndicesOptions.WildcardStates> wildcardStates = randomSubsetOf(
                 Arrays.asList(IndicesOptions.WildcardStates.values()));
@@ -36,7 +36,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.common.unit.ByteSizeValue;
@@ -344,6 +346,47 @@ public class BulkProcessorTests extends OpenSearchTestCase {
         assertTrue(called.get());
     }
 
+    public void testPartitioner() throws Exception {
+        final List<BulkRequest> executed = new ArrayList<>();
+        BiConsumer<BulkRequest, ActionListener<BulkResponse>> consumer = (request, listener) -> {
+            executed.add(request);
+            listener.onResponse(new BulkResponse(new BulkItemResponse[0], 0));
+        };
+        BulkProcessor bulkProcessor = new BulkProcessor(consumer, BackoffPolicy.noBackoff(), emptyListener(),
+            0, 3, new ByteSizeValue(5, ByteSizeUnit.MB), null,
+            (command, delay, executor) -> null, (command, delay, executor) -> null, () -> {}, () -> new BulkRequest("global"),
+            request -> request.id().substring(0, 1));
+
+        bulkProcessor.add(new IndexRequest().id("a1").source(XContentType.JSON, "field", "value"));
+        bulkProcessor.add(new IndexRequest().id("b1").source(XContentType.JSON, "field", "value"));
+        bulkProcessor.add(new IndexRequest().id("a2").source(XContentType.JSON, "field", "value"));
+        assertTrue(executed.isEmpty());
+        // the partition that reaches the actions limit is sent on its own, with the global defaults
+        String bulk = "{ \"index\" : { \"_id\" : \"a3\" } }\n{ \"field\" : \"value\" }\n"
+            + "{ \"delete\" : { \"_index\" : \"other\", \"_id\" : \"b2\" } }\n";
+        bulkProcessor.add(new BytesArray(bulk), null, null, XContentType.JSON);
+        assertEquals(1, executed.size());
+        assertEquals(3, executed.get(0).numberOfActions());
+        for (DocWriteRequest<?> request : executed.get(0).requests()) {
+            assertTrue(request.id().startsWith("a"));
+            assertEquals("global", request.index());
+        }
+
+        // flushing sends the pending actions of every partition
+        bulkProcessor.flush();
+        assertEquals(2, executed.size());
+        assertEquals(2, executed.get(1).numberOfActions());
+        assertEquals("b1", executed.get(1).requests().get(0).id());
+        assertEquals("other", executed.get(1).requests().get(1).index());
+        bulkProcessor.flush();
+        assertEquals(2, executed.size());
+
+        bulkProcessor.add(new IndexRequest().id("c1").source(XContentType.JSON, "field", "value"));
+        bulkProcessor.close();
+        assertEquals(3, executed.size());
+        assertEquals("c1", executed.get(2).requests().get(0).id());
+    }
+
     private BulkProcessor.Listener emptyListener() {
         return new BulkProcessor.Listener() {
             @Override
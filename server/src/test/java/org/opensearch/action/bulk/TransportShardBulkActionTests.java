@@ -51,13 +51,17 @@ import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Requests;
 import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.common.xcontent.ToXContent;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.Mapping;
 import org.opensearch.index.mapper.MetadataFieldMapper;
@@ -72,6 +76,7 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.threadpool.ThreadPool.Names;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CountDownLatch;
@@ -310,6 +315,50 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testExecuteBulkIndexRequestsWithCombinedMappingUpdates() throws Exception {
+        IndexShard shard = newStartedShard(true,
+            Settings.builder().put(MapperService.INDEX_MAPPING_BULK_COMBINE_DYNAMIC_UPDATES_SETTING.getKey(), true).build());
+
+        BulkItemRequest[] items = new BulkItemRequest[5];
+        items[0] = new BulkItemRequest(0, new IndexRequest("index", "_doc", "0").source(Requests.INDEX_CONTENT_TYPE, "foo", 1));
+        items[1] = new BulkItemRequest(1, new IndexRequest("index", "_doc", "1").source(Requests.INDEX_CONTENT_TYPE, "bar", "bar"));
+        // conflicts with the first item, and fails once the first update is applied
+        items[2] = new BulkItemRequest(2, new IndexRequest("index", "_doc", "2").source(Requests.INDEX_CONTENT_TYPE, "foo", "foo"));
+        items[3] = new BulkItemRequest(3, new DeleteRequest("index", "_doc", "0"));
+        items[4] = new BulkItemRequest(4, new IndexRequest("index", "_doc", "4").source(Requests.INDEX_CONTENT_TYPE, "baz", true));
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(bulkShardRequest, shard);
+        AtomicInteger updateCalled = new AtomicInteger();
+        while (context.hasMoreOperationsToExecute()) {
+            TransportShardBulkAction.executeBulkItemRequest(context, null, threadPool::absoluteTimeInMillis,
+                (update, shardId, type, listener) -> {
+                    updateCalled.incrementAndGet();
+                    try {
+                        shard.mapperService().merge(type, new CompressedXContent(update, XContentType.JSON, ToXContent.EMPTY_PARAMS),
+                            MapperService.MergeReason.MAPPING_UPDATE);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    listener.onResponse(null);
+                }, listener -> listener.onResponse(null), ASSERTING_DONE_LISTENER);
+        }
+
+        assertThat("mappings were updated once", updateCalled.get(), equalTo(1));
+        MappedFieldType foo = shard.mapperService().fieldType("foo");
+        assertThat(foo.typeName(), equalTo("long"));
+        assertNotNull(shard.mapperService().fieldType("bar"));
+        assertNotNull(shard.mapperService().fieldType("baz"));
+
+        for (int i = 0; i < items.length; i++) {
+            BulkItemResponse primaryResponse = bulkShardRequest.items()[i].getPrimaryResponse();
+            assertThat(primaryResponse.getItemId(), equalTo(i));
+            assertThat(primaryResponse.isFailed(), equalTo(i == 2));
+        }
+
+        closeShards(shard);
+    }
+
     public void testExecuteBulkIndexRequestWithErrorWhileUpdatingMapping() throws Exception {
         IndexShard shard = newStartedShard(true);
 
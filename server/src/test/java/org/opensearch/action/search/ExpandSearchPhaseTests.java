@@ -215,6 +215,29 @@ public class ExpandSearchPhaseTests extends OpenSearchTestCase {
         assertNotNull(mockSearchPhaseContext.searchResponse.get());
     }
 
+    public void testSkipExpandWhenExpandedInShards() throws IOException {
+        MockSearchPhaseContext mockSearchPhaseContext = new MockSearchPhaseContext(1);
+        mockSearchPhaseContext.searchTransport = new SearchTransportService(null, null) {
+            @Override
+            void sendExecuteMultiSearch(MultiSearchRequest request, SearchTask task, ActionListener<MultiSearchResponse> listener) {
+                fail("the shards already gathered the inner hits");
+            }
+        };
+        mockSearchPhaseContext.getRequest().source(new SearchSourceBuilder()
+            .collapse(new CollapseBuilder("someField").setInnerHits(new InnerHitBuilder().setName("foobarbaz"))));
+
+        SearchHit hit = new SearchHit(1, "ID", new Text("type"), Collections.singletonMap("someField",
+            new DocumentField("someField", Collections.singletonList("foo"))), Collections.emptyMap());
+        SearchHits innerHits = new SearchHits(new SearchHit[0], new TotalHits(0, TotalHits.Relation.EQUAL_TO), Float.NaN);
+        hit.setInnerHits(Collections.singletonMap("foobarbaz", innerHits));
+        SearchHits hits = new SearchHits(new SearchHit[]{hit}, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0f);
+        InternalSearchResponse internalSearchResponse = new InternalSearchResponse(hits, null, null, null, false, null, 1);
+        ExpandSearchPhase phase = new ExpandSearchPhase(mockSearchPhaseContext, internalSearchResponse, null);
+        phase.run();
+        mockSearchPhaseContext.assertNoFailure();
+        assertSame(innerHits, mockSearchPhaseContext.searchResponse.get().getHits().getHits()[0].getInnerHits().get("foobarbaz"));
+    }
+
     public void testExpandRequestOptions() throws IOException {
         MockSearchPhaseContext mockSearchPhaseContext = new MockSearchPhaseContext(1);
         boolean version = randomBoolean();
@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.Version;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+public class ExportCursorTests extends OpenSearchTestCase {
+
+    public void testEncodeDecode() {
+        final ShardId shardId = new ShardId(randomAlphaOfLength(10), randomAlphaOfLength(10), randomIntBetween(0, 10));
+        final ShardSearchContextId contextId = new ShardSearchContextId(randomAlphaOfLength(10), randomNonNegativeLong());
+        final int lastDoc = randomIntBetween(-1, Integer.MAX_VALUE);
+        final ExportCursor cursor = new ExportCursor(randomAlphaOfLength(10), shardId, contextId, lastDoc);
+        final ExportCursor decoded = ExportCursor.decode(cursor.encode(Version.CURRENT));
+        assertThat(decoded.nodeId(), equalTo(cursor.nodeId()));
+        assertThat(decoded.shardId(), equalTo(shardId));
+        assertThat(decoded.contextId(), equalTo(contextId));
+        assertThat(decoded.lastDoc(), equalTo(lastDoc));
+    }
+
+    public void testInvalidCursor() {
+        final IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> ExportCursor.decode("not a cursor"));
+        assertThat(e.getMessage(), containsString("invalid cursor"));
+        final String truncated = new ExportCursor("node", new ShardId("index", "uuid", 0), new ShardSearchContextId("session", 1L), 42)
+            .encode(Version.CURRENT);
+        expectThrows(IllegalArgumentException.class, () -> ExportCursor.decode(truncated.substring(0, truncated.length() / 2)));
+    }
+}
@@ -72,6 +72,7 @@ import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.metrics.InternalMax;
 import org.opensearch.search.aggregations.pipeline.PipelineAggregator.PipelineTree;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.collapse.CollapseInnerHits;
 import org.opensearch.search.fetch.FetchSearchResult;
 import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.internal.SearchContext;
@@ -90,6 +91,7 @@ import org.junit.After;
 import org.junit.Before;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -725,6 +727,87 @@ public class SearchPhaseControllerTests extends OpenSearchTestCase {
         assertNull(reduce.sortedTopDocs.collapseValues);
     }
 
+    public void testConsumerSortByMixedNumericTypes() throws Exception {
+        int expectedNumResults = randomIntBetween(2, 100);
+        int bufferSize = randomIntBetween(2, 200);
+        SearchRequest request = randomSearchRequest();
+        int size = randomIntBetween(1, 10);
+        request.setBatchedReduceSize(bufferSize);
+        QueryPhaseResultConsumer consumer = searchPhaseController.newSearchPhaseResults(fixedExecutor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST), SearchProgressListener.NOOP,
+            request, expectedNumResults, exc  -> {});
+        List<Double> values = new CopyOnWriteArrayList<>();
+        DocValueFormat[] docValueFormats = {DocValueFormat.RAW};
+        CountDownLatch latch = new CountDownLatch(expectedNumResults);
+        for (int i = 0; i < expectedNumResults; i++) {
+            // the field is mapped as a long in some indices and as a double in others
+            final SortField[] sortFields;
+            final Object value;
+            if (i % 2 == 0) {
+                sortFields = new SortField[] {new SortField("field", SortField.Type.LONG, true)};
+                value = randomLongBetween(-1000, 1000);
+            } else {
+                sortFields = new SortField[] {new SortField("field", SortField.Type.DOUBLE, true)};
+                value = randomDoubleBetween(-1000, 1000, true);
+            }
+            values.add(((Number) value).doubleValue());
+            FieldDoc[] fieldDocs = {new FieldDoc(0, Float.NaN, new Object[]{value})};
+            TopDocs topDocs = new TopFieldDocs(new TotalHits(1, Relation.EQUAL_TO), fieldDocs, sortFields);
+            QuerySearchResult result = new QuerySearchResult(new ShardSearchContextId("", i),
+                new SearchShardTarget("node", new ShardId("a", "b", i), null, OriginalIndices.NONE), null);
+            result.topDocs(new TopDocsAndMaxScore(topDocs, Float.NaN), docValueFormats);
+            result.setShardIndex(i);
+            result.size(size);
+            consumer.consumeResult(result, latch::countDown);
+        }
+        latch.await();
+        SearchPhaseController.ReducedQueryPhase reduce = consumer.reduce();
+        values.sort(Collections.reverseOrder());
+        assertEquals(Math.min(expectedNumResults, size), reduce.sortedTopDocs.scoreDocs.length);
+        for (int i = 0; i < reduce.sortedTopDocs.scoreDocs.length; i++) {
+            FieldDoc fieldDoc = (FieldDoc) reduce.sortedTopDocs.scoreDocs[i];
+            assertEquals(values.get(i), ((Number) fieldDoc.fields[0]).doubleValue(), 0d);
+        }
+        assertEquals(1, reduce.sortedTopDocs.sortFields.length);
+        assertEquals("field", reduce.sortedTopDocs.sortFields[0].getField());
+        assertTrue(reduce.sortedTopDocs.sortFields[0].getReverse());
+    }
+
+    public void testCompareMixedNumbers() {
+        long big = 1L << 53;
+        // as doubles the longs on both sides of the double would be equal to it
+        assertEquals(-1, SearchPhaseController.MixedNumericComparatorSource.compareNumbers(big, (double) big + 2));
+        assertEquals(1, SearchPhaseController.MixedNumericComparatorSource.compareNumbers(big + 3, (double) big + 2));
+        assertEquals(0, SearchPhaseController.MixedNumericComparatorSource.compareNumbers(big + 2, (double) big + 2));
+        assertEquals(-1, SearchPhaseController.MixedNumericComparatorSource.compareNumbers(Long.MAX_VALUE, Double.POSITIVE_INFINITY));
+        assertEquals(1, SearchPhaseController.MixedNumericComparatorSource.compareNumbers(Long.MIN_VALUE, Double.NEGATIVE_INFINITY));
+        assertEquals(1, SearchPhaseController.MixedNumericComparatorSource.compareNumbers(Double.NaN, Long.MAX_VALUE));
+        assertEquals(0, SearchPhaseController.MixedNumericComparatorSource.compareNumbers(0L, -0d));
+        assertEquals(0, SearchPhaseController.MixedNumericComparatorSource.compareNumbers(-0d, 0d));
+        assertEquals(0, SearchPhaseController.MixedNumericComparatorSource.compareNumbers(3, 3L));
+
+        // the order is transitive across classes
+        List<Number> values = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            long value = big + randomIntBetween(-8, 8);
+            values.add(randomBoolean() ? (Number) value : (Number) (double) value);
+            values.add(randomFrom(Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -0d, 0d, 0L, Long.MAX_VALUE));
+        }
+        for (Number first : values) {
+            for (Number second : values) {
+                int firstToSecond = SearchPhaseController.MixedNumericComparatorSource.compareNumbers(first, second);
+                assertEquals(-Integer.signum(firstToSecond),
+                    Integer.signum(SearchPhaseController.MixedNumericComparatorSource.compareNumbers(second, first)));
+                for (Number third : values) {
+                    int secondToThird = SearchPhaseController.MixedNumericComparatorSource.compareNumbers(second, third);
+                    if (firstToSecond <= 0 && secondToThird <= 0) {
+                        assertThat(SearchPhaseController.MixedNumericComparatorSource.compareNumbers(first, third), lessThanOrEqualTo(0));
+                    }
+                }
+            }
+        }
+    }
+
     public void testConsumerFieldCollapsing() throws Exception {
         int expectedNumResults = randomIntBetween(30, 100);
         int bufferSize = randomIntBetween(2, 200);
@@ -768,6 +851,51 @@ public class SearchPhaseControllerTests extends OpenSearchTestCase {
         assertArrayEquals(collapseValues, reduce.sortedTopDocs.collapseValues);
     }
 
+    public void testMergeCollapseInnerHits() {
+        // scores of the inner hits of each group on each shard, the second group has no collapsed hit
+        float[][][] scores = {
+            { { 5f, 1f }, { 7f }, { 2f } },
+            { { 4f, 3f }, { }, { } },
+            { { }, { 6f }, { 9f, 8f } } };
+        List<SearchPhaseResult> fetchResults = new ArrayList<>();
+        for (int shard = 0; shard < scores.length; shard++) {
+            SearchShardTarget target = new SearchShardTarget("node", new ShardId("a", "b", shard), null, OriginalIndices.NONE);
+            SearchHits[][] groupHits = new SearchHits[scores[shard].length][];
+            for (int group = 0; group < groupHits.length; group++) {
+                SearchHit[] hits = new SearchHit[scores[shard][group].length];
+                float maxScore = Float.NaN;
+                for (int i = 0; i < hits.length; i++) {
+                    hits[i] = new SearchHit(i, shard + "_" + scores[shard][group][i], new Text(""), emptyMap(), emptyMap());
+                    hits[i].score(scores[shard][group][i]);
+                    maxScore = Float.isNaN(maxScore) ? hits[i].getScore() : Math.max(maxScore, hits[i].getScore());
+                }
+                groupHits[group] = new SearchHits[] { new SearchHits(hits, new TotalHits(hits.length + 1, Relation.EQUAL_TO), maxScore) };
+            }
+            FetchSearchResult fetchResult = new FetchSearchResult(new ShardSearchContextId("", shard), target);
+            fetchResult.collapseInnerHits(new CollapseInnerHits(new String[] { "top" }, new int[] { 1 }, new int[] { 2 }, groupHits));
+            fetchResults.add(fetchResult);
+        }
+        SearchHit[] hitsByPosition = {
+            new SearchHit(0, "group_0", new Text(""), emptyMap(), emptyMap()),
+            null,
+            new SearchHit(2, "group_2", new Text(""), emptyMap(), emptyMap()) };
+
+        SearchPhaseController.mergeCollapseInnerHits(hitsByPosition, fetchResults);
+
+        SearchHits first = hitsByPosition[0].getInnerHits().get("top");
+        assertEquals(Arrays.asList("1_4.0", "1_3.0"), Arrays.stream(first.getHits()).map(SearchHit::getId).collect(Collectors.toList()));
+        assertEquals(7, first.getTotalHits().value);
+        assertEquals(5f, first.getMaxScore(), 0f);
+        assertEquals(1, first.getHits()[0].getShard().getShardId().id());
+        assertEquals(1, first.getHits()[1].getShard().getShardId().id());
+        SearchHits third = hitsByPosition[2].getInnerHits().get("top");
+        assertEquals(Arrays.asList("2_8.0", "0_2.0"), Arrays.stream(third.getHits()).map(SearchHit::getId).collect(Collectors.toList()));
+        assertEquals(6, third.getTotalHits().value);
+        assertEquals(9f, third.getMaxScore(), 0f);
+        assertEquals(2, third.getHits()[0].getShard().getShardId().id());
+        assertEquals(0, third.getHits()[1].getShard().getShardId().id());
+    }
+
     public void testConsumerSuggestions() throws Exception {
         int expectedNumResults = randomIntBetween(1, 100);
         int bufferSize = randomIntBetween(2, 200);
@@ -39,6 +39,7 @@ import org.opensearch.cluster.routing.allocation.AllocateUnassignedDecision;
 import org.opensearch.cluster.routing.allocation.AllocationDecision;
 import org.opensearch.cluster.routing.allocation.NodeAllocationResult;
 import org.opensearch.cluster.routing.allocation.decider.Decision;
+import org.opensearch.common.Strings;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -51,6 +52,8 @@ import java.util.stream.Collectors;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.startsWith;
 
 /**
@@ -179,6 +182,28 @@ public class AllocateUnassignedDecisionTests extends OpenSearchTestCase {
         assertNotSame(first, second);
     }
 
+    public void testFetchingDecision() throws IOException {
+        assertSame(AllocateUnassignedDecision.no(AllocationStatus.FETCHING_SHARD_DATA, null),
+            AllocateUnassignedDecision.fetching(randomIntBetween(0, 2), 3, null));
+
+        List<NodeAllocationResult> nodeDecisions = new ArrayList<>();
+        nodeDecisions.add(new NodeAllocationResult(node1, Decision.NO, 1));
+        AllocateUnassignedDecision fetching = AllocateUnassignedDecision.fetching(1, 3, nodeDecisions);
+        assertEquals(AllocationStatus.FETCHING_SHARD_DATA, fetching.getAllocationStatus());
+        assertEquals(1, fetching.getFetchedNodes());
+        assertEquals(3, fetching.getFetchNodes());
+        assertThat(Strings.toString(fetching), containsString("\"fetch_progress\":{\"fetched_nodes\":1,\"total_nodes\":3}"));
+        assertThat(Strings.toString(AllocateUnassignedDecision.no(AllocationStatus.FETCHING_SHARD_DATA, nodeDecisions)),
+            not(containsString("fetch_progress")));
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        fetching.writeTo(output);
+        AllocateUnassignedDecision readDecision = new AllocateUnassignedDecision(output.bytes().streamInput());
+        assertEquals(fetching.getAllocationStatus(), readDecision.getAllocationStatus());
+        assertEquals(1, readDecision.getFetchedNodes());
+        assertEquals(3, readDecision.getFetchNodes());
+    }
+
     public void testSerialization() throws IOException {
         DiscoveryNode node1 = new DiscoveryNode("node1", buildNewFakeTransportAddress(), emptyMap(), emptySet(), Version.CURRENT);
         DiscoveryNode node2 = new DiscoveryNode("node2", buildNewFakeTransportAddress(), emptyMap(), emptySet(), Version.CURRENT);
@@ -212,6 +212,8 @@ public class AsyncShardFetchTests extends OpenSearchTestCase {
         // no fetched data, 2 requests still on going
         AsyncShardFetch.FetchResult<Response> fetchData = test.fetchData(nodes, emptySet());
         assertThat(fetchData.hasData(), equalTo(false));
+        assertThat(fetchData.getFetchedNodes(), equalTo(0));
+        assertThat(fetchData.getFetchNodes(), equalTo(2));
         assertThat(test.reroute.get(), equalTo(0));
 
         // fire the first response, it should trigger a reroute
@@ -220,6 +222,8 @@ public class AsyncShardFetchTests extends OpenSearchTestCase {
         assertThat(test.getNumberOfInFlightFetches(), equalTo(1));
         fetchData = test.fetchData(nodes, emptySet());
         assertThat(fetchData.hasData(), equalTo(false));
+        assertThat(fetchData.getFetchedNodes(), equalTo(1));
+        assertThat(fetchData.getFetchNodes(), equalTo(2));
 
         // fire the second simulation, this should allow us to get the data
         test.fireSimulationAndWait(node2.getId());
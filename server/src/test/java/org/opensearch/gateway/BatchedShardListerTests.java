@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway;
+
+import org.opensearch.Version;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.gateway.TransportNodesListGatewayStartedShards.NodeGatewayStartedShards;
+import org.opensearch.gateway.TransportNodesListGatewayStartedShards.NodesGatewayStartedShards;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
+import org.opensearch.test.transport.CapturingTransport;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.RequestHandlerRegistry;
+import org.opensearch.transport.TestTransportChannel;
+import org.opensearch.transport.TransportException;
+import org.opensearch.transport.TransportResponse;
+import org.opensearch.transport.TransportService;
+import org.junit.After;
+import org.junit.Before;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class BatchedShardListerTests extends OpenSearchTestCase {
+
+    private static final String ACTION_NAME = "internal:test/batch";
+
+    private ThreadPool threadPool;
+    private CapturingTransport transport;
+    private TransportService transportService;
+    private List<ShardId> perShardListings;
+    private List<String> listingThreads;
+    private BatchedShardLister<NodesGatewayStartedShards, NodeGatewayStartedShards> lister;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(getTestName());
+        transport = new CapturingTransport();
+        final DiscoveryNode localNode = node("local", Version.CURRENT);
+        transportService = transport.createTransportService(Settings.EMPTY, threadPool, TransportService.NOOP_TRANSPORT_INTERCEPTOR,
+            x -> localNode, null, Collections.emptySet());
+        transportService.start();
+        transportService.acceptIncomingRequests();
+        perShardListings = new ArrayList<>();
+        listingThreads = new CopyOnWriteArrayList<>();
+        lister = new BatchedShardLister<>(transportService, ACTION_NAME, ThreadPool.Names.FETCH_SHARD_STARTED,
+            NodeGatewayStartedShards::new,
+            (shardId, customDataPath) -> {
+                listingThreads.add(Thread.currentThread().getName());
+                if (shardId.id() == 1) {
+                    throw new IOException("failed to list " + shardId);
+                }
+                return new NodeGatewayStartedShards(localNode, shardId.getIndexName() + customDataPath, true);
+            },
+            (responses, failures) -> new NodesGatewayStartedShards(ClusterName.DEFAULT, responses, failures),
+            (shardId, customDataPath, nodes, listener) -> {
+                perShardListings.add(shardId);
+                final List<NodeGatewayStartedShards> responses = new ArrayList<>();
+                for (DiscoveryNode node : nodes) {
+                    responses.add(new NodeGatewayStartedShards(node, "per_shard", true));
+                }
+                listener.onResponse(new NodesGatewayStartedShards(ClusterName.DEFAULT, responses, Collections.emptyList()));
+            });
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+        transportService.close();
+        ThreadPool.terminate(threadPool, 30, TimeUnit.SECONDS);
+    }
+
+    public void testSendsARequestPerNodeAndBatch() {
+        final DiscoveryNode node1 = node("node1", Version.CURRENT);
+        final DiscoveryNode node2 = node("node2", Version.CURRENT);
+        final int shards = randomIntBetween(1, 20);
+        final int maxShardsPerRequest = randomIntBetween(1, 25);
+        final List<PlainActionFuture<NodesGatewayStartedShards>> futures = new ArrayList<>();
+        for (int i = 0; i < shards; i++) {
+            final PlainActionFuture<NodesGatewayStartedShards> future = new PlainActionFuture<>();
+            lister.list(new ShardId("index", "_na_", i), null, new DiscoveryNode[] { node1, node2 }, future);
+            futures.add(future);
+        }
+        assertThat(lister.getNumberOfPendingListings(), equalTo(shards));
+        assertThat(transport.capturedRequests().length, equalTo(0));
+
+        lister.flush(maxShardsPerRequest);
+        assertThat(lister.getNumberOfPendingListings(), equalTo(0));
+        final Map<String, List<CapturingTransport.CapturedRequest>> requests = transport.getCapturedRequestsByTargetNodeAndClear();
+        final int batches = (shards + maxShardsPerRequest - 1) / maxShardsPerRequest;
+        assertThat(requests.get("node1"), hasSize(batches));
+        assertThat(requests.get("node2"), hasSize(batches));
+
+        for (CapturingTransport.CapturedRequest request : requests.get("node1")) {
+            final List<ShardId> shardIds = ((BatchedShardLister.NodeRequest) request.request).getShardIds();
+            final List<NodeGatewayStartedShards> responses = new ArrayList<>();
+            for (ShardId shardId : shardIds) {
+                responses.add(new NodeGatewayStartedShards(node1, "allocation_" + shardId.id(), true));
+            }
+            transport.handleResponse(request.requestId,
+                new BatchedShardLister.NodeBatchResponse<>(responses, Arrays.asList(new Exception[shardIds.size()])));
+        }
+        // listings only complete once all their nodes responded
+        for (PlainActionFuture<NodesGatewayStartedShards> future : futures) {
+            assertFalse(future.isDone());
+        }
+        for (CapturingTransport.CapturedRequest request : requests.get("node2")) {
+            transport.handleRemoteError(request.requestId, new IllegalStateException("simulated"));
+        }
+        for (int i = 0; i < shards; i++) {
+            final NodesGatewayStartedShards response = futures.get(i).actionGet();
+            assertThat(response.getNodes(), hasSize(1));
+            assertThat(response.getNodes().get(0).getNode(), equalTo(node1));
+            assertThat(response.getNodes().get(0).allocationId(), equalTo("allocation_" + i));
+            assertThat(response.failures(), hasSize(1));
+            assertThat(response.failures().get(0).nodeId(), equalTo("node2"));
+        }
+        assertThat(perShardListings, hasSize(0));
+    }
+
+    public void testListsOlderNodesPerShard() {
+        final DiscoveryNode current = node("current", Version.CURRENT);
+        final DiscoveryNode older = node("older", VersionUtils.getPreviousVersion(Version.V_1_0_0));
+        final PlainActionFuture<NodesGatewayStartedShards> future = new PlainActionFuture<>();
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        lister.list(shardId, null, new DiscoveryNode[] { current, older }, future);
+        lister.flush(randomIntBetween(1, 10));
+
+        assertThat(perShardListings, equalTo(Collections.singletonList(shardId)));
+        final CapturingTransport.CapturedRequest[] requests = transport.getCapturedRequestsAndClear();
+        assertThat(requests.length, equalTo(1));
+        assertThat(requests[0].node, equalTo(current));
+        assertFalse(future.isDone());
+        transport.handleResponse(requests[0].requestId, new BatchedShardLister.NodeBatchResponse<>(
+            Collections.singletonList(new NodeGatewayStartedShards(current, "batched", true)), Collections.singletonList(null)));
+
+        final NodesGatewayStartedShards response = future.actionGet();
+        assertThat(response.getNodes(), hasSize(2));
+        assertThat(response.getNodesMap().get("older").allocationId(), equalTo("per_shard"));
+        assertThat(response.getNodesMap().get("current").allocationId(), equalTo("batched"));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testHandlerListsEachShard() throws Exception {
+        final List<ShardId> shardIds = Arrays.asList(new ShardId("index", "_na_", 0), new ShardId("index", "_na_", 1));
+        final PlainActionFuture<TransportResponse> future = new PlainActionFuture<>();
+        ((RequestHandlerRegistry<BatchedShardLister.NodeRequest>) transportService.getRequestHandler(ACTION_NAME))
+            .processMessageReceived(new BatchedShardLister.NodeRequest(shardIds, Arrays.asList("/path", "")),
+                new TestTransportChannel(future));
+
+        final BatchedShardLister.NodeBatchResponse<NodeGatewayStartedShards> response =
+            (BatchedShardLister.NodeBatchResponse<NodeGatewayStartedShards>) future.actionGet(10, TimeUnit.SECONDS);
+        // each shard is listed on its own task of the fetch executor
+        assertThat(listingThreads, hasSize(2));
+        for (String thread : listingThreads) {
+            assertThat(thread, containsString("[" + ThreadPool.Names.FETCH_SHARD_STARTED + "]"));
+        }
+        final PlainActionFuture<NodesGatewayStartedShards> listing = new PlainActionFuture<>();
+        final DiscoveryNode node = node("node", Version.CURRENT);
+        lister.list(shardIds.get(0), "/path", new DiscoveryNode[] { node }, listing);
+        final PlainActionFuture<NodesGatewayStartedShards> failedListing = new PlainActionFuture<>();
+        lister.list(shardIds.get(1), "", new DiscoveryNode[] { node }, failedListing);
+        lister.flush(2);
+        final CapturingTransport.CapturedRequest[] requests = transport.getCapturedRequestsAndClear();
+        assertThat(requests.length, equalTo(1));
+        transport.handleResponse(requests[0].requestId, response);
+
+        assertThat(listing.actionGet().getNodes().get(0).allocationId(), equalTo("index/path"));
+        assertThat(failedListing.actionGet().getNodes(), hasSize(0));
+        assertThat(failedListing.actionGet().failures(), hasSize(1));
+        final Throwable cause = failedListing.actionGet().failures().get(0).getCause();
+        assertThat(cause, instanceOf(IOException.class));
+        assertThat(cause.getMessage(), containsString("failed to list [index][1]"));
+    }
+
+    public void testFailsListingsWhenSendingFails() {
+        final DiscoveryNode node = node("node", Version.CURRENT);
+        final List<PlainActionFuture<NodesGatewayStartedShards>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final PlainActionFuture<NodesGatewayStartedShards> future = new PlainActionFuture<>();
+            lister.list(new ShardId("index", "_na_", i), null, new DiscoveryNode[] { node }, future);
+            futures.add(future);
+        }
+        lister.flush(2);
+        final CapturingTransport.CapturedRequest[] requests = transport.getCapturedRequestsAndClear();
+        assertThat(requests.length, equalTo(2));
+        for (CapturingTransport.CapturedRequest request : requests) {
+            transport.handleError(request.requestId, new TransportException("simulated"));
+        }
+        for (PlainActionFuture<NodesGatewayStartedShards> future : futures) {
+            assertThat(future.actionGet().getNodes(), hasSize(0));
+            assertThat(future.actionGet().failures().get(0).nodeId(), equalTo("node"));
+        }
+    }
+
+    private static DiscoveryNode node(String id, Version version) {
+        return new DiscoveryNode(id, buildNewFakeTransportAddress(), Collections.emptyMap(),
+            Collections.singleton(DiscoveryNodeRole.DATA_ROLE), version);
+    }
+}
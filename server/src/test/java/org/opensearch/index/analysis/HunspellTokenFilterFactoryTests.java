@@ -31,12 +31,17 @@
 
 package org.opensearch.index.analysis;
 
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.env.Environment;
+import org.opensearch.indices.analysis.AnalysisModule;
+import org.opensearch.test.IndexSettingsModule;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.index.analysis.AnalysisTestsHelper;
 
 import java.io.IOException;
+import java.util.Collections;
 
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
@@ -69,4 +74,31 @@ public class HunspellTokenFilterFactoryTests extends OpenSearchTestCase {
         hunspellTokenFilter = (HunspellTokenFilterFactory) tokenFilter;
         assertThat(hunspellTokenFilter.dedup(), is(false));
     }
+
+    public void testSharedDictionaryReferences() throws IOException {
+        Settings settings = Settings.builder()
+                .put(Environment.PATH_HOME_SETTING.getKey(), createTempDir().toString())
+                .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                .put("index.analysis.filter.en_US.type", "hunspell")
+                .put("index.analysis.filter.en_US.locale", "en_US")
+                .put("index.analysis.analyzer.first.tokenizer", "standard")
+                .put("index.analysis.analyzer.first.filter", "en_US")
+                .put("index.analysis.analyzer.second.tokenizer", "standard")
+                .put("index.analysis.analyzer.second.filter", "en_US")
+                .build();
+        AnalysisRegistry registry = new AnalysisModule(new Environment(settings, getDataPath("/indices/analyze/conf_dir")),
+                Collections.emptyList()).getAnalysisRegistry();
+        assertNull(registry.stats());
+
+        IndexAnalyzers first = registry.build(IndexSettingsModule.newIndexSettings("first", settings));
+        IndexAnalyzers second = registry.build(IndexSettingsModule.newIndexSettings("second", settings));
+        assertEquals(1, registry.stats().getSharedResources().get("hunspell_dictionaries").getCount());
+        assertEquals(4, registry.stats().getSharedResources().get("hunspell_dictionaries").getReferences());
+
+        first.close();
+        assertEquals(2, registry.stats().getSharedResources().get("hunspell_dictionaries").getReferences());
+        second.close();
+        assertEquals(0, registry.stats().getSharedResources().get("hunspell_dictionaries").getReferences());
+        assertEquals(1, registry.stats().getSharedResources().get("hunspell_dictionaries").getCount());
+    }
 }
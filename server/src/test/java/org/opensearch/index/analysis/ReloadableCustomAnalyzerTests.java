@@ -44,6 +44,7 @@ import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.IndexSettingsModule;
 import org.junit.BeforeClass;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.concurrent.CountDownLatch;
@@ -178,4 +179,46 @@ public class ReloadableCustomAnalyzerTests extends OpenSearchTestCase {
             executorService.awaitTermination(1, TimeUnit.SECONDS);
         }
     }
+
+    public void testReloadReleasesPreviousComponents() throws IOException {
+        Settings analyzerSettings = Settings.builder()
+                .put("tokenizer", "standard")
+                .putList("filter", "my_filter")
+                .build();
+        ClosingTokenFilterFactory first = new ClosingTokenFilterFactory();
+        AnalyzerComponents components = createComponents("my_analyzer", analyzerSettings, testAnalysis.tokenizer, testAnalysis.charFilter,
+                Collections.singletonMap("my_filter", first));
+        ClosingTokenFilterFactory second = new ClosingTokenFilterFactory();
+        try (ReloadableCustomAnalyzer analyzer = new ReloadableCustomAnalyzer(components, 0, -1)) {
+            analyzer.reload("my_analyzer", analyzerSettings, testAnalysis.tokenizer, testAnalysis.charFilter,
+                    Collections.singletonMap("my_filter", second));
+            assertTrue(first.closed);
+            assertFalse(second.closed);
+        }
+        assertTrue(second.closed);
+    }
+
+    private static class ClosingTokenFilterFactory implements TokenFilterFactory, Closeable {
+        boolean closed;
+
+        @Override
+        public String name() {
+            return "my_filter";
+        }
+
+        @Override
+        public TokenStream create(TokenStream tokenStream) {
+            return tokenStream;
+        }
+
+        @Override
+        public AnalysisMode getAnalysisMode() {
+            return AnalysisMode.SEARCH_TIME;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
 }
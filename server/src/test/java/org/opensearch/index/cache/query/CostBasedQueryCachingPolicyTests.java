@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.cache.query;
+
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.WildcardQuery;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+public class CostBasedQueryCachingPolicyTests extends OpenSearchTestCase {
+
+    public void testEstimateCost() {
+        assertThat(CostBasedQueryCachingPolicy.estimateCost(new TermQuery(new Term("f", "a"))), equalTo(1L));
+        assertThat(CostBasedQueryCachingPolicy.estimateCost(conjunction(3)), equalTo(3L));
+        assertThat(CostBasedQueryCachingPolicy.estimateCost(IntPoint.newRangeQuery("f", 0, 10)),
+            equalTo((long) CostBasedQueryCachingPolicy.EXPANSION_COST));
+        assertThat(CostBasedQueryCachingPolicy.estimateCost(new WildcardQuery(new Term("f", "a*"))),
+            equalTo((long) CostBasedQueryCachingPolicy.EXPANSION_COST));
+        assertThat(CostBasedQueryCachingPolicy.estimateCost(termInSet(5)), equalTo((long) CostBasedQueryCachingPolicy.EXPANSION_COST));
+
+        // excluded clauses count too
+        final BooleanQuery query = new BooleanQuery.Builder()
+            .add(new TermQuery(new Term("f", "a")), Occur.FILTER)
+            .add(IntPoint.newRangeQuery("f", 0, 10), Occur.MUST_NOT)
+            .build();
+        assertThat(CostBasedQueryCachingPolicy.estimateCost(query), equalTo(1L + CostBasedQueryCachingPolicy.EXPANSION_COST));
+    }
+
+    public void testCostlyQueriesAreCachedOnFirstUse() throws IOException {
+        final CostBasedQueryCachingPolicy policy = new CostBasedQueryCachingPolicy(query -> false);
+        final Query pointQuery = IntPoint.newRangeQuery("f", 0, 10);
+        assertFalse(policy.shouldCache(pointQuery));
+        policy.onUse(pointQuery);
+        assertTrue(policy.shouldCache(pointQuery));
+
+        final Query termInSetQuery = termInSet(5);
+        policy.onUse(termInSetQuery);
+        assertTrue(policy.shouldCache(termInSetQuery));
+
+        // cheap queries still need to be used repeatedly
+        final Query cheapQuery = conjunction(2);
+        policy.onUse(cheapQuery);
+        assertFalse(policy.shouldCache(cheapQuery));
+        for (int i = 1; i < 4; i++) {
+            policy.onUse(cheapQuery);
+        }
+        assertTrue(policy.shouldCache(cheapQuery));
+
+        // and single terms are never cached
+        final Query termQuery = new TermQuery(new Term("f", "a"));
+        for (int i = 0; i < 10; i++) {
+            policy.onUse(termQuery);
+        }
+        assertFalse(policy.shouldCache(termQuery));
+    }
+
+    public void testQueriesCachedOnNodeAreCachedOnFirstUse() throws IOException {
+        final Query cachedQuery = conjunction(2);
+        final CostBasedQueryCachingPolicy policy = new CostBasedQueryCachingPolicy(cachedQuery::equals);
+        policy.onUse(cachedQuery);
+        assertTrue(policy.shouldCache(cachedQuery));
+
+        final Query otherQuery = conjunction(3);
+        policy.onUse(otherQuery);
+        assertFalse(policy.shouldCache(otherQuery));
+    }
+
+    public void testRecentlyCachedQueries() {
+        final CostBasedQueryCachingPolicy policy = new CostBasedQueryCachingPolicy(query -> false);
+        assertThat(policy.recentlyCachedQueries(), empty());
+
+        final Query cheapQuery = conjunction(2);
+        policy.onUse(cheapQuery);
+        assertThat(policy.recentlyCachedQueries(), empty());
+
+        final Query first = IntPoint.newRangeQuery("f", 0, 10);
+        final Query second = IntPoint.newRangeQuery("f", 0, 20);
+        policy.onUse(first);
+        policy.onUse(second);
+        assertThat(policy.recentlyCachedQueries(), contains(second, first));
+        policy.onUse(first);
+        assertThat(policy.recentlyCachedQueries(), contains(first, second));
+
+        final List<Query> queries = new ArrayList<>();
+        for (int i = 0; i < CostBasedQueryCachingPolicy.MAX_RECENTLY_CACHED_QUERIES; i++) {
+            final Query query = IntPoint.newRangeQuery("g", 0, i);
+            queries.add(0, query);
+            policy.onUse(query);
+        }
+        assertThat(policy.recentlyCachedQueries(), hasSize(CostBasedQueryCachingPolicy.MAX_RECENTLY_CACHED_QUERIES));
+        assertThat(policy.recentlyCachedQueries(), equalTo(queries));
+    }
+
+    private static Query conjunction(int clauses) {
+        final BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (int i = 0; i < clauses; i++) {
+            builder.add(new TermQuery(new Term("f", Integer.toString(i))), Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    private static Query termInSet(int terms) {
+        final BytesRef[] values = new BytesRef[terms];
+        for (int i = 0; i < terms; i++) {
+            values[i] = new BytesRef(Integer.toString(i));
+        }
+        return new TermInSetQuery("f", Arrays.asList(values));
+    }
+}
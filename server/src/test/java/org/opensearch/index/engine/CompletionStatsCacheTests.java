@@ -37,6 +37,7 @@ import org.apache.lucene.document.Document;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryCachingPolicy;
 import org.apache.lucene.search.suggest.document.Completion84PostingsFormat;
@@ -44,6 +45,7 @@ import org.apache.lucene.search.suggest.document.SuggestField;
 import org.apache.lucene.store.Directory;
 import org.opensearch.OpenSearchException;
 import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.codec.Completion84OffHeapPostingsFormat;
 import org.opensearch.search.suggest.completion.CompletionStats;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -201,6 +203,60 @@ public class CompletionStatsCacheTests extends OpenSearchTestCase {
             completionStatsCache.afterRefresh(false);
             completionStatsCache.get();
             openCloseCounter.assertCount(3);
+
+            // the suggestions are held on-heap
+            assertThat(updatedStats.getOffHeapSizeInBytes(), equalTo(0L));
+        }
+    }
+
+    public void testOffHeapCompletionStats() throws IOException {
+        final IndexWriterConfig indexWriterConfig = newIndexWriterConfig();
+        final PostingsFormat onHeapPostingsFormat = new Completion84PostingsFormat();
+        final PostingsFormat offHeapPostingsFormat = new Completion84OffHeapPostingsFormat();
+        indexWriterConfig.setCodec(new Lucene87Codec() {
+            @Override
+            public PostingsFormat getPostingsFormatForField(String field) {
+                return field.startsWith("offheap") ? offHeapPostingsFormat : onHeapPostingsFormat;
+            }
+        });
+
+        try (Directory directory = newDirectory();
+             IndexWriter indexWriter = new IndexWriter(directory, indexWriterConfig)) {
+
+            final Document document = new Document();
+            document.add(new SuggestField("onheap", "val", 1));
+            indexWriter.addDocument(document);
+
+            final CompletionStatsCache completionStatsCache = new CompletionStatsCache(() -> searcher(indexWriter));
+            final CompletionStats onHeapStats = completionStatsCache.get("*");
+            assertThat(onHeapStats.getSizeInBytes(), greaterThan(0L));
+            assertThat(onHeapStats.getOffHeapSizeInBytes(), equalTo(0L));
+
+            final Document offHeapDocument = new Document();
+            offHeapDocument.add(new SuggestField("offheap1", "val", 1));
+            offHeapDocument.add(new SuggestField("offheap2", "anotherval", 1));
+            indexWriter.addDocument(offHeapDocument);
+            completionStatsCache.afterRefresh(true);
+
+            final CompletionStats stats = completionStatsCache.get("offheap*");
+            assertThat(stats.getOffHeapSizeInBytes(), greaterThan(0L));
+            assertThat(stats.getSizeInBytes(), greaterThan(onHeapStats.getSizeInBytes()));
+            assertThat(stats.getFields().get("offheap1"), greaterThan(0L));
+            assertThat(stats.getFields().get("offheap2"), greaterThan(0L));
+            assertFalse(stats.getFields().containsField("onheap"));
+
+            // the off-heap size is per shard and doesn't depend on the requested fields
+            assertThat(completionStatsCache.get("onheap").getOffHeapSizeInBytes(), equalTo(stats.getOffHeapSizeInBytes()));
+        }
+    }
+
+    private static Engine.Searcher searcher(IndexWriter indexWriter) {
+        try {
+            final DirectoryReader directoryReader = DirectoryReader.open(indexWriter);
+            return new Engine.Searcher("test", directoryReader, null, null, IndexSearcher.getDefaultQueryCachingPolicy(),
+                directoryReader::close);
+        } catch (IOException e) {
+            throw new AssertionError(e);
         }
     }
 
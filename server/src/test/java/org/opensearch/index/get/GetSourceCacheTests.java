@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.get;
+
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Locale;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class GetSourceCacheTests extends OpenSearchTestCase {
+
+    public void testReturnsCurrentVersionOnly() {
+        final CircuitBreaker breaker = breaker("1mb");
+        final GetSourceCache cache = new GetSourceCache(new ByteSizeValue(1024 * 1024), breaker);
+        final Translog.Index first = operation("1", 1, 1, "{\"foo\":\"bar\"}");
+        cache.put(first);
+        assertThat(cache.get("1", 1, 1), sameInstance(first));
+        assertNull(cache.get("1", 1, 2));
+        assertNull(cache.get("1", 2, 1));
+        assertNull(cache.get("2", 1, 1));
+        assertThat(cache.hitCount(), equalTo(1L));
+        assertThat(cache.missCount(), equalTo(3L));
+
+        // a new version replaces the previous one
+        final Translog.Index second = operation("1", 2, 1, "{\"foo\":\"baz\"}");
+        cache.put(second);
+        assertThat(cache.count(), equalTo(1));
+        assertNull(cache.get("1", 1, 1));
+        assertThat(cache.get("1", 2, 1), sameInstance(second));
+        assertThat(breaker.getUsed(), equalTo(second.estimateSize()));
+
+        cache.close();
+        assertThat(breaker.getUsed(), equalTo(0L));
+        cache.put(first);
+        assertNull(cache.get("1", 1, 1));
+        assertThat(breaker.getUsed(), equalTo(0L));
+    }
+
+    public void testEvictsAndAccountsOnBreaker() {
+        final CircuitBreaker breaker = breaker("1mb");
+        final long maxSize = 10 * operation("00", 0, 1, "{\"foo\":\"bar\"}").estimateSize();
+        final GetSourceCache cache = new GetSourceCache(new ByteSizeValue(maxSize), breaker);
+        for (int i = 0; i < 100; i++) {
+            cache.put(operation(String.format(Locale.ROOT, "%02d", i), i, 1, "{\"foo\":\"bar\"}"));
+            assertThat(breaker.getUsed(), lessThanOrEqualTo(maxSize));
+        }
+        assertThat(cache.count(), equalTo(10));
+        assertNotNull(cache.get("99", 99, 1));
+        assertNull(cache.get("00", 0, 1));
+        cache.close();
+        assertThat(breaker.getUsed(), equalTo(0L));
+    }
+
+    public void testSkipsDocumentsThatTripTheBreaker() {
+        final CircuitBreaker breaker = breaker("100b");
+        final GetSourceCache cache = new GetSourceCache(new ByteSizeValue(1024 * 1024), breaker);
+        cache.put(operation("1", 1, 1, randomAlphaOfLength(200)));
+        assertNull(cache.get("1", 1, 1));
+        assertThat(cache.count(), equalTo(0));
+        assertThat(breaker.getUsed(), equalTo(0L));
+    }
+
+    private static CircuitBreaker breaker(String limit) {
+        final Settings settings = Settings.builder()
+            .put(HierarchyCircuitBreakerService.ACCOUNTING_CIRCUIT_BREAKER_LIMIT_SETTING.getKey(), limit)
+            .put(HierarchyCircuitBreakerService.USE_REAL_MEMORY_USAGE_SETTING.getKey(), false)
+            .build();
+        return new HierarchyCircuitBreakerService(settings, Collections.emptyList(),
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)).getBreaker(CircuitBreaker.ACCOUNTING);
+    }
+
+    private static Translog.Index operation(String id, long seqNo, long primaryTerm, String source) {
+        return new Translog.Index("_doc", id, seqNo, primaryTerm, 1, source.getBytes(StandardCharsets.UTF_8), null, -1);
+    }
+}
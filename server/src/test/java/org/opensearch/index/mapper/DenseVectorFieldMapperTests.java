@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.index.IndexableField;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.index.codec.HnswVectorsFormat;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class DenseVectorFieldMapperTests extends MapperTestCase {
+
+    @Override
+    protected void writeFieldValue(XContentBuilder builder) throws IOException {
+        builder.startArray().value(1).value(-2.5).value(0.25).endArray();
+    }
+
+    @Override
+    protected void minimalMapping(XContentBuilder b) throws IOException {
+        b.field("type", "dense_vector").field("dims", 3);
+    }
+
+    @Override
+    protected void registerParameters(ParameterChecker checker) throws IOException {
+        checker.registerConflictCheck(
+            "dims",
+            fieldMapping(this::minimalMapping),
+            fieldMapping(b -> b.field("type", "dense_vector").field("dims", 4))
+        );
+        checker.registerConflictCheck("index", b -> b.field("index", true));
+        checker.registerConflictCheck("similarity", b -> b.field("similarity", "cosine"));
+        checker.registerConflictCheck("m", b -> b.field("m", 32));
+        checker.registerConflictCheck("ef_construction", b -> b.field("ef_construction", 200));
+    }
+
+    public void testParsesVector() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(this::minimalMapping));
+        ParsedDocument doc = mapper.parse(source(b -> b.array("field", 1f, -2.5f, 0.25f)));
+        IndexableField[] fields = doc.rootDoc().getFields("field");
+        assertThat(fields.length, equalTo(1));
+        assertArrayEquals(new float[] { 1f, -2.5f, 0.25f }, DenseVectorFieldMapper.decode(fields[0].binaryValue()), 0f);
+    }
+
+    public void testIndexedFieldsUseHnswFormat() throws IOException {
+        MapperService mapperService = createMapperService(fieldMapping(this::minimalMapping));
+        assertNull(((DenseVectorFieldMapper.DenseVectorFieldType) mapperService.fieldType("field")).docValuesFormat());
+
+        mapperService = createMapperService(fieldMapping(b -> {
+            minimalMapping(b);
+            b.field("index", true);
+        }));
+        assertThat(((DenseVectorFieldMapper.DenseVectorFieldType) mapperService.fieldType("field")).docValuesFormat(),
+            instanceOf(HnswVectorsFormat.class));
+    }
+
+    public void testRejectsWrongNumberOfDimensions() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(this::minimalMapping));
+        MapperParsingException e = expectThrows(MapperParsingException.class,
+            () -> mapper.parse(source(b -> b.array("field", 1f, 2f))));
+        assertThat(e.getCause().getMessage(), containsString("expects vectors of [3] dimensions, but got [2]"));
+        e = expectThrows(MapperParsingException.class, () -> mapper.parse(source(b -> b.array("field", 1f, 2f, 3f, 4f))));
+        assertThat(e.getCause().getMessage(), containsString("expects vectors of [3] dimensions, but got more"));
+    }
+
+    public void testRejectsNonNumericValues() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(this::minimalMapping));
+        MapperParsingException e = expectThrows(MapperParsingException.class,
+            () -> mapper.parse(source(b -> b.array("field", "a", "b", "c"))));
+        assertThat(e.getCause().getMessage(), containsString("expects an array of numbers"));
+        e = expectThrows(MapperParsingException.class, () -> mapper.parse(source(b -> b.field("field", 1f))));
+        assertThat(e.getCause().getMessage(), containsString("expects an array of numbers"));
+    }
+
+    public void testDotProductRequiresUnitVectors() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(b -> {
+            minimalMapping(b);
+            b.field("similarity", "dot_product");
+        }));
+        mapper.parse(source(b -> b.array("field", 0.6f, 0.8f, 0f)));
+        MapperParsingException e = expectThrows(MapperParsingException.class,
+            () -> mapper.parse(source(b -> b.array("field", 1f, 1f, 0f))));
+        assertThat(e.getCause().getMessage(), containsString("can only be used with unit-length vectors"));
+    }
+
+    public void testDimsAreRequired() {
+        MapperParsingException e = expectThrows(MapperParsingException.class,
+            () -> createMapperService(fieldMapping(b -> b.field("type", "dense_vector"))));
+        assertThat(e.getMessage(), containsString("Field [dims] is required"));
+        e = expectThrows(MapperParsingException.class,
+            () -> createMapperService(fieldMapping(b -> b.field("type", "dense_vector").field("dims", 2000))));
+        assertThat(e.getMessage(), containsString("[dims] must be between 1 and 1024 but was [2000]"));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class DocumentParsePlanTests extends MapperServiceTestCase {
+
+    public void testResolvesMappedFields() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(mapping(b -> {
+            b.startObject("foo");
+            {
+                b.startObject("properties");
+                {
+                    b.startObject("bar");
+                    {
+                        b.startObject("properties");
+                        {
+                            b.startObject("baz").field("type", "integer").endObject();
+                        }
+                        b.endObject();
+                    }
+                    b.endObject();
+                }
+                b.endObject();
+            }
+            b.endObject();
+            b.startObject("nested").field("type", "nested");
+            {
+                b.startObject("properties");
+                {
+                    b.startObject("qux").field("type", "keyword").endObject();
+                }
+                b.endObject();
+            }
+            b.endObject();
+            b.startObject("disabled").field("type", "object").field("enabled", false).endObject();
+        }));
+        DocumentParsePlan plan = mapper.parsePlan();
+        assertThat(mapper.parsePlan(), sameInstance(plan));
+
+        RootObjectMapper root = mapper.root();
+        ObjectMapper foo = mapper.objectMappers().get("foo");
+        ObjectMapper bar = mapper.objectMappers().get("foo.bar");
+        Mapper baz = mapper.mappers().getMapper("foo.bar.baz");
+        assertThat(plan.getMapper(root, "foo"), sameInstance(foo));
+        assertThat(plan.getMapper(root, "foo.bar"), sameInstance(bar));
+        assertThat(plan.getMapper(root, "foo.bar.baz"), sameInstance(baz));
+        assertThat(plan.getMapper(foo, "bar.baz"), sameInstance(baz));
+        assertThat(plan.getMapper(bar, "baz"), sameInstance(baz));
+        assertNull(plan.getMapper(root, "baz"));
+        assertNull(plan.getMapper(root, "foo.missing"));
+
+        // metadata fields only resolve under their own path
+        assertThat(plan.getMapper(root, IdFieldMapper.NAME), sameInstance(mapper.idFieldMapper()));
+        assertNull(plan.getMapper(foo, IdFieldMapper.NAME));
+
+        // fields under nested or disabled objects don't resolve through dotted names
+        ObjectMapper nested = mapper.objectMappers().get("nested");
+        assertThat(plan.getMapper(root, "nested"), sameInstance(nested));
+        assertThat(plan.getMapper(nested, "qux"), sameInstance(mapper.mappers().getMapper("nested.qux")));
+        assertNull(plan.getMapper(root, "nested.qux"));
+        assertThat(plan.getMapper(root, "disabled"), instanceOf(ObjectMapper.class));
+        assertNull(plan.getMapper(root, "disabled.field"));
+    }
+
+    public void testPlanIsCompiledForNewMappings() throws IOException {
+        MapperService mapperService = createMapperService(fieldMapping(b -> b.field("type", "long")));
+        DocumentMapper mapper = mapperService.documentMapper();
+        assertNull(mapper.parsePlan().getMapper(mapper.root(), "other"));
+
+        merge(mapperService, mapping(b -> b.startObject("other").field("type", "keyword").endObject()));
+        DocumentMapper merged = mapperService.documentMapper();
+        assertThat(merged.parsePlan(), not(sameInstance(mapper.parsePlan())));
+        assertThat(merged.parsePlan().getMapper(merged.root(), "other"), sameInstance(merged.mappers().getMapper("other")));
+        assertNull(merged.parsePlan().getMapper(mapper.root(), "field"));
+    }
+}
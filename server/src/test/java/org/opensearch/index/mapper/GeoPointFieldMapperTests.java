@@ -31,13 +31,16 @@
 
 package org.opensearch.index.mapper;
 
+import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.Strings;
 import org.opensearch.common.geo.GeoPoint;
 import org.opensearch.common.geo.GeoUtils;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.hamcrest.CoreMatchers;
 import org.opensearch.index.mapper.FieldMapperTestCase2;
+import org.opensearch.search.aggregations.bucket.geogrid.GeoTileUtils;
 
 import java.io.IOException;
 import java.util.Set;
@@ -81,6 +84,7 @@ public class GeoPointFieldMapperTests extends FieldMapperTestCase2<GeoPointField
             GeoPointFieldMapper gpfm = (GeoPointFieldMapper) m;
             assertEquals(gpfm.nullValue, point);
         });
+        checker.registerConflictCheck("tile_precisions", b -> b.field("tile_precisions", org.opensearch.common.collect.List.of(8, 10)));
     }
 
     protected void writeFieldValue(XContentBuilder builder) throws IOException {
@@ -226,6 +230,31 @@ public class GeoPointFieldMapperTests extends FieldMapperTestCase2<GeoPointField
         assertThat(ignoreZValue, equalTo(false));
     }
 
+    public void testTilePrecisions() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(b -> b.field("type", "geo_point")
+            .field("tile_precisions", org.opensearch.common.collect.List.of(12, 3, 12))));
+        GeoPointFieldMapper fieldMapper = (GeoPointFieldMapper) mapper.mappers().getMapper("field");
+        assertThat(fieldMapper.fieldType().tilePrecisions(), equalTo(org.opensearch.common.collect.List.of(3, 12)));
+        assertThat(Strings.toString(fieldMapper), containsString("\"tile_precisions\":[3,12]"));
+
+        ParseContext.Document doc = mapper.parse(source(b -> b.startArray("field").value("POINT (2 3)").value("POINT (-70 40)").endArray()))
+            .rootDoc();
+        for (int precision : new int[] { 3, 12 }) {
+            IndexableField[] tiles = doc.getFields(GeoPointFieldMapper.tileFieldName("field", precision));
+            assertThat(tiles, arrayWithSize(2));
+            assertThat(tiles[0].numericValue().longValue(), equalTo(GeoTileUtils.longEncode(2, 3, precision)));
+            assertThat(tiles[1].numericValue().longValue(), equalTo(GeoTileUtils.longEncode(-70, 40, precision)));
+        }
+        assertThat(doc.getFields(GeoPointFieldMapper.tileFieldName("field", 8)), arrayWithSize(0));
+
+        MapperParsingException e = expectThrows(MapperParsingException.class, () -> createDocumentMapper(fieldMapping(
+            b -> b.field("type", "geo_point").field("tile_precisions", org.opensearch.common.collect.List.of(30)))));
+        assertThat(e.getMessage(), containsString("Invalid geotile_grid precision of 30"));
+        e = expectThrows(MapperParsingException.class, () -> createDocumentMapper(fieldMapping(
+            b -> b.field("type", "geo_point").field("doc_values", false).field("tile_precisions", 8))));
+        assertThat(e.getMessage(), containsString("[tile_precisions] requires [doc_values]"));
+    }
+
     public void testMultiField() throws Exception {
         DocumentMapper mapper = createDocumentMapper(fieldMapping(b -> {
             b.field("type", "geo_point").field("doc_values", false);
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+public class HllSketchFieldMapperTests extends MapperTestCase {
+
+    @Override
+    protected void writeFieldValue(XContentBuilder builder) throws IOException {
+        builder.startArray().value("a").value(1).value(2.5).endArray();
+    }
+
+    @Override
+    protected void minimalMapping(XContentBuilder b) throws IOException {
+        b.field("type", "hll_sketch");
+    }
+
+    @Override
+    protected void registerParameters(ParameterChecker checker) throws IOException {
+        checker.registerConflictCheck("precision", b -> b.field("precision", 10));
+    }
+
+    public void testSketchCountsDistinctValues() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(b -> {
+            minimalMapping(b);
+            b.field("precision", 12);
+        }));
+        ParsedDocument doc = mapper.parse(source(b -> b.startArray("field").value("a").value("b").value("a").value(3).value(3).endArray()));
+        IndexableField[] fields = doc.rootDoc().getFields("field");
+        assertThat(fields.length, equalTo(1));
+        BytesRef encoded = fields[0].binaryValue();
+        // binary doc values prefix the values with their count and lengths
+        StreamInput in = StreamInput.wrap(encoded.bytes, encoded.offset, encoded.length);
+        assertThat(in.readVInt(), equalTo(1));
+        in.readVInt();
+        try (HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(12, BigArrays.NON_RECYCLING_INSTANCE, 1)) {
+            counts.merge(0, in);
+            assertThat(counts.cardinality(0), equalTo(3L));
+        }
+    }
+
+    public void testNullValue() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(this::minimalMapping));
+        ParsedDocument doc = mapper.parse(source(b -> b.nullField("field")));
+        assertThat(doc.rootDoc().getFields("field").length, equalTo(0));
+    }
+
+    public void testRejectsObjects() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(this::minimalMapping));
+        MapperParsingException e = expectThrows(MapperParsingException.class,
+            () -> mapper.parse(source(b -> b.startObject("field").field("foo", "bar").endObject())));
+        assertThat(e.getCause().getMessage(), containsString("only supports strings and numbers"));
+    }
+
+    public void testInvalidPrecision() {
+        MapperParsingException e = expectThrows(MapperParsingException.class, () -> createMapperService(fieldMapping(b -> {
+            minimalMapping(b);
+            b.field("precision", 19);
+        })));
+        assertThat(e.getMessage(), containsString("[precision] must be between 4 and 18 but was [19]"));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+public class TDigestSketchFieldMapperTests extends MapperTestCase {
+
+    @Override
+    protected void writeFieldValue(XContentBuilder builder) throws IOException {
+        builder.startArray().value(1).value(2.5).endArray();
+    }
+
+    @Override
+    protected void minimalMapping(XContentBuilder b) throws IOException {
+        b.field("type", "tdigest_sketch");
+    }
+
+    @Override
+    protected void registerParameters(ParameterChecker checker) throws IOException {
+        checker.registerConflictCheck("compression", b -> b.field("compression", 200.0));
+    }
+
+    public void testValues() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(this::minimalMapping));
+        TDigestState digest = parseDigest(mapper.parse(source(b -> b.array("field", 1, 2, 3, 4))));
+        assertThat(digest.size(), equalTo(4L));
+        assertThat(digest.getMin(), equalTo(1.0));
+        assertThat(digest.getMax(), equalTo(4.0));
+    }
+
+    public void testValuesAndCounts() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(this::minimalMapping));
+        TDigestState digest = parseDigest(mapper.parse(source(b -> b.startObject("field")
+            .array("values", 1.0, 10.0)
+            .array("counts", 3, 1)
+            .endObject())));
+        assertThat(digest.size(), equalTo(4L));
+        assertThat(digest.getMin(), equalTo(1.0));
+        assertThat(digest.getMax(), equalTo(10.0));
+        assertThat(digest.cdf(5.0), closeTo(0.75, 0.1));
+    }
+
+    public void testMismatchedValuesAndCounts() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(this::minimalMapping));
+        MapperParsingException e = expectThrows(MapperParsingException.class, () -> mapper.parse(source(b -> b.startObject("field")
+            .array("values", 1.0, 10.0)
+            .array("counts", 3)
+            .endObject())));
+        assertThat(e.getCause().getMessage(), containsString("arrays of values and counts of the same length"));
+    }
+
+    public void testNegativeCount() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(this::minimalMapping));
+        MapperParsingException e = expectThrows(MapperParsingException.class, () -> mapper.parse(source(b -> b.startObject("field")
+            .array("values", 1.0)
+            .array("counts", -1)
+            .endObject())));
+        assertThat(e.getCause().getMessage(), containsString("doesn't support negative counts"));
+    }
+
+    public void testInvalidCompression() {
+        MapperParsingException e = expectThrows(MapperParsingException.class, () -> createMapperService(fieldMapping(b -> {
+            minimalMapping(b);
+            b.field("compression", 0);
+        })));
+        assertThat(e.getMessage(), containsString("[compression] must be greater than 0"));
+    }
+
+    private static TDigestState parseDigest(ParsedDocument doc) throws IOException {
+        IndexableField[] fields = doc.rootDoc().getFields("field");
+        assertThat(fields.length, equalTo(1));
+        BytesRef encoded = fields[0].binaryValue();
+        // binary doc values prefix the values with their count and lengths
+        StreamInput in = StreamInput.wrap(encoded.bytes, encoded.offset, encoded.length);
+        assertThat(in.readVInt(), equalTo(1));
+        in.readVInt();
+        return TDigestState.read(in);
+    }
+}
@@ -34,6 +34,7 @@ package org.opensearch.index.mapper;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.CannedTokenStream;
+import org.apache.lucene.analysis.LowerCaseFilter;
 import org.apache.lucene.analysis.MockSynonymAnalyzer;
 import org.apache.lucene.analysis.StopFilter;
 import org.apache.lucene.analysis.Token;
@@ -41,8 +42,11 @@ import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.core.KeywordAnalyzer;
 import org.apache.lucene.analysis.core.WhitespaceAnalyzer;
 import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.en.PorterStemFilter;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
 import org.apache.lucene.document.FieldType;
 import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.IndexOptions;
@@ -65,6 +69,7 @@ import org.apache.lucene.search.spans.SpanTermQuery;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.Strings;
 import org.opensearch.common.lucene.search.MultiPhrasePrefixQuery;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentFactory;
@@ -76,6 +81,7 @@ import org.opensearch.index.analysis.IndexAnalyzers;
 import org.opensearch.index.analysis.NamedAnalyzer;
 import org.opensearch.index.analysis.StandardTokenizerFactory;
 import org.opensearch.index.analysis.TokenFilterFactory;
+import org.opensearch.index.analysis.TokenizerFactory;
 import org.opensearch.index.mapper.TextFieldMapper.TextFieldType;
 import org.opensearch.index.query.MatchPhrasePrefixQueryBuilder;
 import org.opensearch.index.query.MatchPhraseQueryBuilder;
@@ -84,18 +90,28 @@ import org.opensearch.index.search.MatchQuery;
 import org.opensearch.index.mapper.MapperTestCase;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.core.Is.is;
 
 public class TextFieldMapperTests extends MapperTestCase {
 
+    private Settings indexSettings = Settings.EMPTY;
+
+    @Override
+    protected Settings getIndexSettings() {
+        return Settings.builder().put(super.getIndexSettings()).put(indexSettings).build();
+    }
+
     @Override
     protected void writeFieldValue(XContentBuilder builder) throws IOException {
         builder.value(1234);
@@ -220,11 +236,38 @@ public class TextFieldMapperTests extends MapperTestCase {
         NamedAnalyzer standard = new NamedAnalyzer("standard", AnalyzerScope.INDEX, new StandardAnalyzer());
         NamedAnalyzer keyword = new NamedAnalyzer("keyword", AnalyzerScope.INDEX, new KeywordAnalyzer());
         NamedAnalyzer whitespace = new NamedAnalyzer("whitespace", AnalyzerScope.INDEX, new WhitespaceAnalyzer());
+        TokenizerFactory standardTokenizer = new StandardTokenizerFactory(indexSettings, null, "standard", indexSettings.getSettings());
+        TokenFilterFactory lowercaseFilter = new TokenFilterFactory() {
+            @Override
+            public String name() {
+                return "lowercase";
+            }
+
+            @Override
+            public TokenStream create(TokenStream tokenStream) {
+                return new LowerCaseFilter(tokenStream);
+            }
+        };
+        TokenFilterFactory stemFilter = new TokenFilterFactory() {
+            @Override
+            public String name() {
+                return "porter_stem";
+            }
+
+            @Override
+            public TokenStream create(TokenStream tokenStream) {
+                return new PorterStemFilter(tokenStream);
+            }
+        };
+        NamedAnalyzer lowercase = new NamedAnalyzer("my_lowercase_analyzer", AnalyzerScope.INDEX,
+            new CustomAnalyzer(standardTokenizer, new CharFilterFactory[0], new TokenFilterFactory[] { lowercaseFilter }));
+        NamedAnalyzer stemmed = new NamedAnalyzer("my_stemmed_analyzer", AnalyzerScope.INDEX,
+            new CustomAnalyzer(standardTokenizer, new CharFilterFactory[0], new TokenFilterFactory[] { lowercaseFilter, stemFilter }));
         NamedAnalyzer stop = new NamedAnalyzer(
             "my_stop_analyzer",
             AnalyzerScope.INDEX,
             new CustomAnalyzer(
-                new StandardTokenizerFactory(indexSettings, null, "standard", indexSettings.getSettings()),
+                standardTokenizer,
                 new CharFilterFactory[0],
                 new TokenFilterFactory[] { new TokenFilterFactory() {
                     @Override
@@ -241,7 +284,8 @@ public class TextFieldMapperTests extends MapperTestCase {
         );
         return new IndexAnalyzers(
             org.opensearch.common.collect.Map.of(
-                "default", dflt, "standard", standard, "keyword", keyword, "whitespace", whitespace, "my_stop_analyzer", stop
+                "default", dflt, "standard", standard, "keyword", keyword, "whitespace", whitespace, "my_stop_analyzer", stop,
+                "my_lowercase_analyzer", lowercase, "my_stemmed_analyzer", stemmed
             ),
             org.opensearch.common.collect.Map.of(),
             org.opensearch.common.collect.Map.of()
@@ -502,6 +546,109 @@ public class TextFieldMapperTests extends MapperTestCase {
         assertThat(doc.rootDoc().getField("field6").fieldType().storeTermVectorPayloads(), equalTo(true));
     }
 
+    private DocumentMapper createSharedAnalysisMapper(Settings indexSettings) throws IOException {
+        this.indexSettings = indexSettings;
+        return createDocumentMapper(mapping(b -> {
+            b.startObject("field");
+            {
+                b.field("type", "text");
+                b.field("analyzer", "my_lowercase_analyzer");
+                b.array("copy_to", "copy", "other");
+                b.startObject("fields");
+                {
+                    b.startObject("stemmed").field("type", "text").field("analyzer", "my_stemmed_analyzer").endObject();
+                    b.startObject("stop").field("type", "text").field("analyzer", "my_stop_analyzer").endObject();
+                    b.startObject("standard").field("type", "text").field("analyzer", "standard").endObject();
+                    b.startObject("raw").field("type", "keyword").endObject();
+                }
+                b.endObject();
+            }
+            b.endObject();
+            b.startObject("copy").field("type", "text").field("analyzer", "my_stemmed_analyzer").endObject();
+            b.startObject("other").field("type", "text").field("analyzer", "my_stemmed_analyzer").endObject();
+        }));
+    }
+
+    public void testSharedAnalysis() throws IOException {
+        DocumentMapper mapper = createSharedAnalysisMapper(
+            Settings.builder().put(MapperService.INDEX_MAPPING_SHARED_ANALYSIS_ENABLED_SETTING.getKey(), true).build());
+
+        ParsedDocument doc = mapper.parse(source(b -> {
+            b.array("field", "The Quick Foxes jumped", "Running Dogs");
+            b.field("other", "Unrelated Values");
+        }));
+
+        Map<String, Integer> sharedFields = new HashMap<>();
+        Map<String, TokenStream> streams = new HashMap<>();
+        for (IndexableField field : doc.rootDoc().getFields()) {
+            if (field instanceof TextFieldMapper.SharedAnalysisField) {
+                sharedFields.merge(field.name(), 1, Integer::sum);
+                List<String> expected = tokens(mapper.mappers().indexAnalyzer().tokenStream(field.name(), field.stringValue()));
+                TokenStream stream = field.tokenStream(null, null);
+                // the chain of the remaining token filters of a field is reused for all its values
+                TokenStream previous = streams.put(field.name(), stream);
+                if (previous != null) {
+                    assertSame(field.name(), previous, stream);
+                }
+                assertEquals(field.name(), expected, tokens(stream));
+                // the cached tokens can be consumed several times
+                assertEquals(field.name(), expected, tokens(field.tokenStream(null, null)));
+            }
+        }
+        // the stop analyzer shares the tokenizer, and the value that is directly set on the copy_to target is analyzed on its own
+        Map<String, Integer> expectedSharedFields = new HashMap<>();
+        expectedSharedFields.put("field", 2);
+        expectedSharedFields.put("field.stemmed", 2);
+        expectedSharedFields.put("field.stop", 2);
+        expectedSharedFields.put("copy", 2);
+        expectedSharedFields.put("other", 2);
+        assertEquals(expectedSharedFields, sharedFields);
+    }
+
+    public void testSharedAnalysisIsDisabledByDefault() throws IOException {
+        DocumentMapper mapper = createSharedAnalysisMapper(Settings.EMPTY);
+
+        ParsedDocument doc = mapper.parse(source(b -> b.field("field", "The Quick Foxes jumped")));
+        for (IndexableField field : doc.rootDoc().getFields()) {
+            assertThat(field.name(), field, not(instanceOf(TextFieldMapper.SharedAnalysisField.class)));
+        }
+    }
+
+    public void testSharedAnalysisOfValuesWithTooManyTokens() throws IOException {
+        DocumentMapper mapper = createSharedAnalysisMapper(Settings.builder()
+            .put(MapperService.INDEX_MAPPING_SHARED_ANALYSIS_ENABLED_SETTING.getKey(), true)
+            .put(MapperService.INDEX_MAPPING_SHARED_ANALYSIS_MAX_TOKENS_SETTING.getKey(), 3)
+            .build());
+
+        ParsedDocument doc = mapper.parse(source(b -> b.array("field", "The Quick Foxes jumped", "Running Dogs")));
+        int sharedFields = 0;
+        for (IndexableField field : doc.rootDoc().getFields()) {
+            if (field instanceof TextFieldMapper.SharedAnalysisField) {
+                sharedFields++;
+                // the tokens of the longer value aren't cached, so each field analyzes it on its own
+                List<String> expected = tokens(mapper.mappers().indexAnalyzer().tokenStream(field.name(), field.stringValue()));
+                assertEquals(field.name(), expected, tokens(field.tokenStream(mapper.mappers().indexAnalyzer(), null)));
+            }
+        }
+        assertEquals(10, sharedFields);
+    }
+
+    private static List<String> tokens(TokenStream stream) throws IOException {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream ts = stream) {
+            CharTermAttribute term = ts.addAttribute(CharTermAttribute.class);
+            PositionIncrementAttribute posInc = ts.addAttribute(PositionIncrementAttribute.class);
+            OffsetAttribute offset = ts.addAttribute(OffsetAttribute.class);
+            ts.reset();
+            while (ts.incrementToken()) {
+                tokens.add(term + "/" + posInc.getPositionIncrement() + "/" + offset.startOffset() + "-" + offset.endOffset());
+            }
+            ts.end();
+            tokens.add("end/" + posInc.getPositionIncrement() + "/" + offset.endOffset());
+        }
+        return tokens;
+    }
+
     public void testEagerGlobalOrdinals() throws IOException {
         DocumentMapper mapper = createDocumentMapper(fieldMapping(b -> b.field("type", "text").field("eager_global_ordinals", true)));
 
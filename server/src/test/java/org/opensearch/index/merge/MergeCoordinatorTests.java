@@ -0,0 +1,229 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.merge;
+
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class MergeCoordinatorTests extends OpenSearchTestCase {
+
+    private ClusterSettings clusterSettings;
+
+    private MergeCoordinator newCoordinator(Settings settings) {
+        clusterSettings = new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        return new MergeCoordinator(settings, clusterSettings);
+    }
+
+    public void testLimitsConcurrentMerges() throws Exception {
+        final int maxConcurrentMerges = randomIntBetween(1, 4);
+        final MergeCoordinator coordinator = newCoordinator(Settings.builder()
+            .put(MergeCoordinator.MAX_CONCURRENT_MERGES_SETTING.getKey(), maxConcurrentMerges).build());
+        final int numThreads = randomIntBetween(maxConcurrentMerges + 1, 10);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < numThreads; i++) {
+            final long bytes = randomLongBetween(0, 1 << 20);
+            final int segments = randomIntBetween(1, 50);
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < 10; j++) {
+                        try (Releasable ignored = coordinator.acquire(bytes, segments, () -> false)) {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            Thread.yield();
+                            running.decrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(maxRunning.get(), lessThanOrEqualTo(maxConcurrentMerges));
+        final NodeMergeStats stats = coordinator.stats();
+        assertThat(stats.getMaxConcurrentMerges(), equalTo(maxConcurrentMerges));
+        assertThat(stats.getCurrent(), equalTo(0L));
+        assertThat(stats.getQueued(), equalTo(0L));
+    }
+
+    public void testSmallMergesAndShardsWithManySegmentsGoFirst() throws Exception {
+        final MergeCoordinator coordinator = newCoordinator(Settings.builder()
+            .put(MergeCoordinator.MAX_CONCURRENT_MERGES_SETTING.getKey(), 1).build());
+        final Releasable running = coordinator.acquire(1024, 1, () -> false);
+
+        final List<String> order = Collections.synchronizedList(new ArrayList<>());
+        final List<Thread> threads = new ArrayList<>();
+        threads.add(waitingMerge(coordinator, "large", new ByteSizeValue(1, ByteSizeUnit.GB).getBytes(), 100, order));
+        threads.add(waitingMerge(coordinator, "small-few-segments", new ByteSizeValue(1, ByteSizeUnit.MB).getBytes(), 5, order));
+        threads.add(waitingMerge(coordinator, "small-many-segments", new ByteSizeValue(1, ByteSizeUnit.MB).getBytes(), 50, order));
+        for (Thread thread : threads) {
+            thread.start();
+            // make sure merges are queued one after the other
+            final long expectedQueued = threads.indexOf(thread) + 1;
+            assertBusy(() -> assertThat(coordinator.stats().getQueued(), equalTo(expectedQueued)));
+        }
+        running.close();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(order, equalTo(Arrays.asList("small-many-segments", "small-few-segments", "large")));
+        assertThat(coordinator.stats().getTotalQueued(), equalTo(3L));
+    }
+
+    public void testLongWaitingMergesGoFirst() throws Exception {
+        final MergeCoordinator coordinator = newCoordinator(Settings.builder()
+            .put(MergeCoordinator.MAX_CONCURRENT_MERGES_SETTING.getKey(), 1)
+            .put(MergeCoordinator.MAX_QUEUED_TIME_SETTING.getKey(), "200ms").build());
+        final AtomicBoolean stop = new AtomicBoolean();
+        final List<Thread> smallMerges = new ArrayList<>();
+        // small merges keep arriving, so that there is always one waiting that would go before the large merge
+        for (int i = 0; i < 4; i++) {
+            final Thread thread = new Thread(() -> {
+                while (stop.get() == false) {
+                    try (Releasable ignored = coordinator.acquire(new ByteSizeValue(1, ByteSizeUnit.MB).getBytes(), 10, () -> false)) {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        throw new AssertionError(e);
+                    }
+                }
+            });
+            smallMerges.add(thread);
+            thread.start();
+        }
+        try {
+            assertBusy(() -> assertThat(coordinator.stats().getQueued(), greaterThan(0L)));
+            final CountDownLatch largeMergeRan = new CountDownLatch(1);
+            final Thread largeMerge = new Thread(() -> {
+                try (Releasable ignored = coordinator.acquire(new ByteSizeValue(1, ByteSizeUnit.GB).getBytes(), 1, () -> false)) {
+                    largeMergeRan.countDown();
+                }
+            });
+            largeMerge.start();
+            assertTrue("large merge was starved by small merges", largeMergeRan.await(10, TimeUnit.SECONDS));
+            largeMerge.join();
+        } finally {
+            stop.set(true);
+            for (Thread thread : smallMerges) {
+                thread.join();
+            }
+        }
+    }
+
+    private static Thread waitingMerge(MergeCoordinator coordinator, String name, long bytes, int segments, List<String> order) {
+        return new Thread(() -> {
+            try (Releasable ignored = coordinator.acquire(bytes, segments, () -> false)) {
+                order.add(name);
+            }
+        });
+    }
+
+    public void testAbortedMergeStopsWaiting() throws Exception {
+        final MergeCoordinator coordinator = newCoordinator(Settings.builder()
+            .put(MergeCoordinator.MAX_CONCURRENT_MERGES_SETTING.getKey(), 1).build());
+        try (Releasable ignored = coordinator.acquire(1024, 1, () -> false)) {
+            final AtomicBoolean aborted = new AtomicBoolean();
+            final Thread thread = new Thread(() -> coordinator.acquire(1024, 1, aborted::get).close());
+            thread.start();
+            assertBusy(() -> assertThat(coordinator.stats().getQueued(), equalTo(1L)));
+            aborted.set(true);
+            thread.join();
+            assertThat(coordinator.stats().getQueued(), equalTo(0L));
+            assertThat(coordinator.stats().getCurrent(), equalTo(1L));
+        }
+        assertThat(coordinator.stats().getCurrent(), equalTo(0L));
+    }
+
+    public void testRaisingTheLimitReleasesWaitingMerges() throws Exception {
+        final MergeCoordinator coordinator = newCoordinator(Settings.builder()
+            .put(MergeCoordinator.MAX_CONCURRENT_MERGES_SETTING.getKey(), 1).build());
+        try (Releasable ignored = coordinator.acquire(1024, 1, () -> false)) {
+            final CountDownLatch acquired = new CountDownLatch(1);
+            final Thread thread = new Thread(() -> {
+                try (Releasable permit = coordinator.acquire(1024, 1, () -> false)) {
+                    acquired.countDown();
+                }
+            });
+            thread.start();
+            assertBusy(() -> assertThat(coordinator.stats().getQueued(), equalTo(1L)));
+            clusterSettings.applySettings(Settings.builder().put(MergeCoordinator.MAX_CONCURRENT_MERGES_SETTING.getKey(), 2).build());
+            acquired.await();
+            thread.join();
+        }
+        assertThat(coordinator.stats().getMaxConcurrentMerges(), equalTo(2));
+    }
+
+    public void testRateLimit() throws Exception {
+        final MergeCoordinator coordinator = newCoordinator(Settings.EMPTY);
+        try (Directory directory = new ByteBuffersDirectory()) {
+            assertThat("no rate limit by default", coordinator.wrapForMerge(directory), sameInstance(directory));
+            assertThat(coordinator.stats().getMaxBytesPerSec(), equalTo(-1L));
+
+            clusterSettings.applySettings(Settings.builder()
+                .put(MergeCoordinator.MAX_BYTES_PER_SEC_SETTING.getKey(), "1mb").build());
+            assertThat(coordinator.stats().getMaxBytesPerSec(), equalTo(new ByteSizeValue(1, ByteSizeUnit.MB).getBytes()));
+            final Directory wrapped = coordinator.wrapForMerge(directory);
+            final byte[] bytes = new byte[1024];
+            try (IndexOutput output = wrapped.createOutput("file", IOContext.DEFAULT)) {
+                // writing more than the rate allows per second must pause the writer
+                for (int i = 0; i < 1536; i++) {
+                    output.writeBytes(bytes, bytes.length);
+                }
+            }
+            assertThat(directory.fileLength("file"), equalTo(1536L * 1024));
+            assertThat(coordinator.stats().getTotalThrottledTime().millis(), greaterThan(0L));
+        }
+    }
+
+    public void testSerialization() throws Exception {
+        final NodeMergeStats stats = new NodeMergeStats(randomIntBetween(1, 10), randomNonNegativeLong(), randomNonNegativeLong(),
+            randomNonNegativeLong(), randomNonNegativeLong(), randomBoolean() ? -1 : randomNonNegativeLong(), randomNonNegativeLong());
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            stats.writeTo(out);
+            final NodeMergeStats read = new NodeMergeStats(out.bytes().streamInput());
+            assertThat(read.getMaxConcurrentMerges(), equalTo(stats.getMaxConcurrentMerges()));
+            assertThat(read.getCurrent(), equalTo(stats.getCurrent()));
+            assertThat(read.getQueued(), equalTo(stats.getQueued()));
+            assertThat(read.getTotalQueued(), equalTo(stats.getTotalQueued()));
+            assertThat(read.getTotalQueuedTime(), equalTo(stats.getTotalQueuedTime()));
+            assertThat(read.getMaxBytesPerSec(), equalTo(stats.getMaxBytesPerSec()));
+            assertThat(read.getTotalThrottledTime(), equalTo(stats.getTotalThrottledTime()));
+        }
+    }
+}
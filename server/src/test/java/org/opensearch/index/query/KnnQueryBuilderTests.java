@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.query;
+
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.opensearch.action.admin.indices.mapping.put.PutMappingRequest;
+import org.opensearch.common.Strings;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.search.KnnVectorQuery;
+import org.opensearch.test.AbstractQueryTestCase;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class KnnQueryBuilderTests extends AbstractQueryTestCase<KnnQueryBuilder> {
+
+    private static final String VECTOR_FIELD_NAME = "mapped_vector";
+    private static final int DIMS = 4;
+
+    @Override
+    protected void initializeAdditionalMappings(MapperService mapperService) throws IOException {
+        mapperService.merge("_doc", new CompressedXContent(Strings.toString(PutMappingRequest.buildFromSimplifiedDef("_doc",
+            VECTOR_FIELD_NAME, "type=dense_vector,dims=" + DIMS + ",index=true"
+        ))), MapperService.MergeReason.MAPPING_UPDATE);
+    }
+
+    @Override
+    protected KnnQueryBuilder doCreateTestQueryBuilder() {
+        final float[] vector = new float[DIMS];
+        for (int i = 0; i < DIMS; i++) {
+            vector[i] = randomFloat();
+        }
+        final int k = randomIntBetween(1, 50);
+        final KnnQueryBuilder builder = new KnnQueryBuilder(VECTOR_FIELD_NAME, vector, k);
+        if (randomBoolean()) {
+            builder.numCandidates(randomIntBetween(k, 1000));
+        }
+        if (randomBoolean()) {
+            builder.filter(new TermQueryBuilder(KEYWORD_FIELD_NAME, randomAlphaOfLength(5)));
+        }
+        return builder;
+    }
+
+    @Override
+    protected void doAssertLuceneQuery(KnnQueryBuilder queryBuilder, Query query, QueryShardContext context) throws IOException {
+        assertThat(query, instanceOf(KnnVectorQuery.class));
+        final KnnVectorQuery knnQuery = (KnnVectorQuery) query;
+        assertThat(knnQuery.getField(), equalTo(VECTOR_FIELD_NAME));
+        assertArrayEquals(queryBuilder.queryVector(), knnQuery.getTarget(), 0f);
+        assertThat(knnQuery.getK(), equalTo(queryBuilder.k()));
+        if (queryBuilder.filter() == null) {
+            assertNull(knnQuery.getFilter());
+        } else {
+            assertEquals(queryBuilder.filter().toQuery(context), knnQuery.getFilter());
+        }
+    }
+
+    public void testFromJson() throws IOException {
+        String json = "{\n" +
+            "  \"knn\" : {\n" +
+            "    \"field\" : \"" + VECTOR_FIELD_NAME + "\",\n" +
+            "    \"query_vector\" : [\n" +
+            "      1.0,\n" +
+            "      2.0,\n" +
+            "      3.0,\n" +
+            "      4.0\n" +
+            "    ],\n" +
+            "    \"k\" : 5,\n" +
+            "    \"num_candidates\" : 50,\n" +
+            "    \"boost\" : 1.0\n" +
+            "  }\n" +
+            "}";
+        KnnQueryBuilder parsed = (KnnQueryBuilder) parseQuery(json);
+        checkGeneratedJson(json, parsed);
+        assertThat(parsed.k(), equalTo(5));
+        assertThat(parsed.numCandidates(), equalTo(50));
+    }
+
+    public void testDefaultNumCandidates() {
+        assertThat(new KnnQueryBuilder(VECTOR_FIELD_NAME, new float[DIMS], 10).numCandidates(), equalTo(100));
+        assertThat(new KnnQueryBuilder(VECTOR_FIELD_NAME, new float[DIMS], 500).numCandidates(), equalTo(500));
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> new KnnQueryBuilder(VECTOR_FIELD_NAME, new float[DIMS], 10).numCandidates(5));
+        assertThat(e.getMessage(), containsString("[num_candidates] must be between [k] and 10000"));
+    }
+
+    public void testWrongDimensions() {
+        QueryShardContext context = createShardContext();
+        QueryShardException e = expectThrows(QueryShardException.class,
+            () -> new KnnQueryBuilder(VECTOR_FIELD_NAME, new float[DIMS + 1], 10).toQuery(context));
+        assertThat(e.getMessage(), containsString("the query vector has [5] dimensions, but [" + VECTOR_FIELD_NAME
+            + "] has [4] dimensions"));
+    }
+
+    public void testWrongFieldType() {
+        QueryShardContext context = createShardContext();
+        QueryShardException e = expectThrows(QueryShardException.class,
+            () -> new KnnQueryBuilder(KEYWORD_FIELD_NAME, new float[DIMS], 10).toQuery(context));
+        assertThat(e.getMessage(), containsString("[knn] queries are only supported on [dense_vector] fields"));
+    }
+
+    public void testUnmappedField() throws IOException {
+        Query query = new KnnQueryBuilder("unmapped", new float[DIMS], 10).toQuery(createShardContext());
+        assertThat(query, instanceOf(MatchNoDocsQuery.class));
+    }
+}
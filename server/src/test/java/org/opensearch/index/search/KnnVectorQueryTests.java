@@ -0,0 +1,196 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.search;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.lucene87.Lucene87Codec;
+import org.apache.lucene.document.BinaryDocValuesField;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.codec.HnswVectorValues;
+import org.opensearch.index.codec.HnswVectorsFormat;
+import org.opensearch.index.codec.VectorSimilarity;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+
+public class KnnVectorQueryTests extends OpenSearchTestCase {
+
+    private static final int DIMS = 8;
+
+    public void testGraphSearchFindsNearestNeighbors() throws IOException {
+        final VectorSimilarity similarity = randomFrom(VectorSimilarity.L2_NORM, VectorSimilarity.COSINE);
+        final float[][] vectors = randomVectors(1000);
+        try (Directory dir = newDirectory()) {
+            indexVectors(dir, vectors, hnswCodec(similarity));
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                for (LeafReaderContext context : reader.leaves()) {
+                    assertThat(context.reader().getBinaryDocValues("vector"), instanceOf(HnswVectorValues.class));
+                }
+                assertRecall(reader, vectors, similarity, null);
+            }
+            // merged segments rebuild the graph of their vectors
+            try (IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig().setCodec(hnswCodec(similarity)))) {
+                writer.forceMerge(1);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                assertThat(reader.leaves().size(), equalTo(1));
+                assertThat(reader.leaves().get(0).reader().getBinaryDocValues("vector"), instanceOf(HnswVectorValues.class));
+                assertRecall(reader, vectors, similarity, null);
+            }
+        }
+    }
+
+    public void testFilter() throws IOException {
+        final float[][] vectors = randomVectors(1000);
+        try (Directory dir = newDirectory()) {
+            indexVectors(dir, vectors, hnswCodec(VectorSimilarity.L2_NORM));
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                // the filter accepts a third of the documents, the graph is searched with the filter
+                assertRecall(reader, vectors, VectorSimilarity.L2_NORM, "0");
+                // the filter accepts fewer documents than the number of candidates, their vectors are compared one by one
+                final IndexSearcher searcher = new IndexSearcher(reader);
+                final float[] target = randomVector();
+                final Query filter = new TermQuery(new Term("id", "7"));
+                final TopDocs topDocs = searcher.search(new KnnVectorQuery("vector", target, 5, 100, VectorSimilarity.L2_NORM,
+                    filter), 5);
+                assertThat(topDocs.scoreDocs.length, equalTo(1));
+                assertThat(searcher.doc(topDocs.scoreDocs[0].doc).get("id"), equalTo("7"));
+                assertEquals(VectorSimilarity.L2_NORM.compare(target, vectors[7]), topDocs.scoreDocs[0].score, 1e-6f);
+            }
+        }
+    }
+
+    public void testExactSearchWithoutGraph() throws IOException {
+        final float[][] vectors = randomVectors(200);
+        try (Directory dir = newDirectory()) {
+            indexVectors(dir, vectors, Codec.getDefault());
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                for (LeafReaderContext context : reader.leaves()) {
+                    assertThat(context.reader().getBinaryDocValues("vector"), not(instanceOf(HnswVectorValues.class)));
+                }
+                final IndexSearcher searcher = new IndexSearcher(reader);
+                final float[] target = randomVector();
+                final TopDocs topDocs = searcher.search(new KnnVectorQuery("vector", target, 10, 10, VectorSimilarity.L2_NORM,
+                    null), 10);
+                assertThat(idsOf(searcher, topDocs), equalTo(exactNearestIds(vectors, target, 10, VectorSimilarity.L2_NORM, null)));
+            }
+        }
+    }
+
+    private void assertRecall(DirectoryReader reader, float[][] vectors, VectorSimilarity similarity, String group) throws IOException {
+        final IndexSearcher searcher = new IndexSearcher(reader);
+        final Query filter = group == null ? null : new TermQuery(new Term("group", group));
+        int found = 0;
+        for (int i = 0; i < 10; i++) {
+            final float[] target = randomVector();
+            final TopDocs topDocs = searcher.search(new KnnVectorQuery("vector", target, 10, 100, similarity, filter), 10);
+            assertThat(topDocs.scoreDocs.length, equalTo(10));
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                final String id = searcher.doc(scoreDoc.doc).get("id");
+                if (group != null) {
+                    assertThat(Integer.parseInt(id) % 3, equalTo(Integer.parseInt(group)));
+                }
+                assertEquals(similarity.compare(target, vectors[Integer.parseInt(id)]), scoreDoc.score, 1e-6f);
+            }
+            final Set<String> ids = idsOf(searcher, topDocs);
+            ids.retainAll(exactNearestIds(vectors, target, 10, similarity, group));
+            found += ids.size();
+        }
+        // approximate searches may miss a few of the nearest neighbors
+        assertThat(found, greaterThanOrEqualTo(90));
+    }
+
+    private static Set<String> idsOf(IndexSearcher searcher, TopDocs topDocs) throws IOException {
+        final Set<String> ids = new HashSet<>();
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            ids.add(searcher.doc(scoreDoc.doc).get("id"));
+        }
+        return ids;
+    }
+
+    private static Set<String> exactNearestIds(float[][] vectors, float[] target, int k, VectorSimilarity similarity, String group) {
+        final Integer[] ids = new Integer[vectors.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i;
+        }
+        Arrays.sort(ids, (a, b) -> Float.compare(similarity.compare(target, vectors[b]), similarity.compare(target, vectors[a])));
+        final Set<String> nearest = new HashSet<>();
+        for (int i = 0; i < ids.length && nearest.size() < k; i++) {
+            if (group == null || ids[i] % 3 == Integer.parseInt(group)) {
+                nearest.add(Integer.toString(ids[i]));
+            }
+        }
+        return nearest;
+    }
+
+    private void indexVectors(Directory dir, float[][] vectors, Codec codec) throws IOException {
+        final IndexWriterConfig config = newIndexWriterConfig().setCodec(codec).setMaxBufferedDocs(randomIntBetween(100, 400));
+        try (IndexWriter writer = new IndexWriter(dir, config)) {
+            for (int i = 0; i < vectors.length; i++) {
+                final ByteBuffer bytes = ByteBuffer.allocate(DIMS * Float.BYTES);
+                bytes.asFloatBuffer().put(vectors[i]);
+                final Document doc = new Document();
+                doc.add(new StringField("id", Integer.toString(i), Field.Store.YES));
+                doc.add(new StringField("group", Integer.toString(i % 3), Field.Store.NO));
+                doc.add(new BinaryDocValuesField("vector", new BytesRef(bytes.array())));
+                writer.addDocument(doc);
+            }
+        }
+    }
+
+    private static Codec hnswCodec(VectorSimilarity similarity) {
+        final DocValuesFormat format = new HnswVectorsFormat(similarity, 16, 100);
+        return new Lucene87Codec() {
+            @Override
+            public DocValuesFormat getDocValuesFormatForField(String field) {
+                return "vector".equals(field) ? format : super.getDocValuesFormatForField(field);
+            }
+        };
+    }
+
+    private static float[][] randomVectors(int count) {
+        final float[][] vectors = new float[count][];
+        for (int i = 0; i < count; i++) {
+            vectors[i] = randomVector();
+        }
+        return vectors;
+    }
+
+    private static float[] randomVector() {
+        final float[] vector = new float[DIMS];
+        for (int i = 0; i < DIMS; i++) {
+            vector[i] = randomFloat() * 2 - 1;
+        }
+        return vector;
+    }
+}
@@ -33,12 +33,14 @@ package org.opensearch.index.shard;
 
 import org.opensearch.Version;
 import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.VersionConflictEngineException;
 import org.opensearch.index.get.GetResult;
+import org.opensearch.index.get.ShardGetService;
 import org.opensearch.index.mapper.RoutingFieldMapper;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 
@@ -104,6 +106,51 @@ public class ShardGetServiceTests extends IndexShardTestCase {
         closeShards(primary);
     }
 
+    public void testSourceCache() throws IOException {
+        Settings settings = Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(ShardGetService.INDEX_GET_SOURCE_CACHE_SIZE_SETTING.getKey(), "1mb")
+            .build();
+        IndexMetadata metadata = IndexMetadata.builder("test")
+            .putMapping("test", "{ \"properties\": { \"foo\":  { \"type\": \"keyword\", \"store\": true }}}")
+            .settings(settings)
+            .primaryTerm(0, 1).build();
+        IndexShard primary = newShard(new ShardId(metadata.getIndex(), 0), true, "n1", metadata, null);
+        recoverShardFromStore(primary);
+        indexDoc(primary, "test", "0", "{\"foo\" : \"bar\"}");
+        GetResult get = primary.getService().get("test", "0", null, true, Versions.MATCH_ANY, VersionType.INTERNAL, null);
+        assertEquals("{\"foo\" : \"bar\"}", new String(get.source(), StandardCharsets.UTF_8));
+        assertEquals(0, primary.getService().stats().getSourceCacheHitCount());
+
+        // the current version of the document is read from the cache, whether it is found in the version map or in the index
+        if (randomBoolean()) {
+            primary.refresh("test");
+        }
+        get = primary.getService().get("test", "0", null, true, Versions.MATCH_ANY, VersionType.INTERNAL, null);
+        assertEquals("{\"foo\" : \"bar\"}", new String(get.source(), StandardCharsets.UTF_8));
+        get = primary.getService().getForUpdate("test", "0", get.getSeqNo(), get.getPrimaryTerm());
+        assertEquals("{\"foo\" : \"bar\"}", new String(get.source(), StandardCharsets.UTF_8));
+        assertEquals(2, primary.getService().stats().getSourceCacheHitCount());
+
+        // stored fields aren't read from the translog, so they aren't read from the cache either
+        get = primary.getService().get("test", "0", new String[] { "foo" }, true, Versions.MATCH_ANY, VersionType.INTERNAL, null);
+        assertEquals("bar", get.getFields().get("foo").getValue());
+        assertEquals(2, primary.getService().stats().getSourceCacheHitCount());
+
+        // new versions invalidate the cached ones
+        indexDoc(primary, "test", "0", "{\"foo\" : \"baz\"}");
+        long misses = primary.getService().stats().getSourceCacheMissCount();
+        get = primary.getService().get("test", "0", null, true, Versions.MATCH_ANY, VersionType.INTERNAL, null);
+        assertEquals("{\"foo\" : \"baz\"}", new String(get.source(), StandardCharsets.UTF_8));
+        assertEquals(misses + 1, primary.getService().stats().getSourceCacheMissCount());
+
+        deleteDoc(primary, "test", "0");
+        get = primary.getService().get("test", "0", null, true, Versions.MATCH_ANY, VersionType.INTERNAL, null);
+        assertFalse(get.isExists());
+        closeShards(primary);
+    }
+
     public void testGetFromTranslogWithStringSourceMappingOptionsAndStoredFields() throws IOException {
         String docToIndex = "{\"foo\" : \"foo\", \"bar\" : \"bar\"}";
         boolean noSource = randomBoolean();
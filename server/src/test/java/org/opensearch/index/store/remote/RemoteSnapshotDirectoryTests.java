@@ -0,0 +1,246 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.util.LuceneTestCase;
+import org.apache.lucene.util.Version;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.blobstore.BlobPath;
+import org.opensearch.common.blobstore.fs.FsBlobContainer;
+import org.opensearch.common.blobstore.fs.FsBlobStore;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+
+@LuceneTestCase.SuppressFileSystems("ExtrasFS") // snapshots never contain extra files
+public class RemoteSnapshotDirectoryTests extends OpenSearchTestCase {
+
+    private static final String REPOSITORY = "repo";
+
+    public void testSearchSnapshotFilesOnDemand() throws IOException {
+        final int numDocs = randomIntBetween(50, 500);
+        final Path sourcePath = createTempDir();
+        try (Directory source = new NIOFSDirectory(sourcePath)) {
+            try (IndexWriter writer = new IndexWriter(source, new IndexWriterConfig().setUseCompoundFile(randomBoolean()))) {
+                for (int i = 0; i < numDocs; i++) {
+                    final Document document = new Document();
+                    document.add(new StringField("id", Integer.toString(i), Field.Store.YES));
+                    document.add(new TextField("body", i % 2 == 0 ? "even " + randomAlphaOfLength(20) : "odd", Field.Store.YES));
+                    writer.addDocument(document);
+                    if (rarely()) {
+                        writer.commit();
+                    }
+                }
+                writer.commit();
+            }
+
+            final RemoteSnapshotBlockCache cache = newCache(randomIntBetween(4, 64));
+            final List<BlobStoreIndexShardSnapshot.FileInfo> files = snapshotFiles(source, sourcePath);
+            try (RemoteSnapshotDirectory directory = newDirectory(files, cache)) {
+                assertThat(Arrays.asList(directory.listAll()), equalTo(Arrays.asList(source.listAll())));
+                for (String file : source.listAll()) {
+                    assertThat(directory.fileLength(file), equalTo(source.fileLength(file)));
+                }
+                try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                    assertThat(reader.numDocs(), equalTo(numDocs));
+                    final IndexSearcher searcher = new IndexSearcher(reader);
+                    assertThat(searcher.count(new TermQuery(new Term("body", "odd"))), equalTo(numDocs / 2));
+                    final int id = randomIntBetween(0, numDocs - 1);
+                    assertThat(searcher.count(new TermQuery(new Term("id", Integer.toString(id)))), equalTo(1));
+                }
+                assertThat(cache.count(), greaterThan(0));
+                assertThat(cache.stats().getMisses(), greaterThan(0L));
+            }
+        }
+    }
+
+    public void testReadsMatchSourceFile() throws IOException {
+        final Path sourcePath = createTempDir();
+        final byte[] content = randomByteArrayOfLength(randomIntBetween(1, 1 << 16));
+        try (Directory source = new NIOFSDirectory(sourcePath)) {
+            try (IndexOutput output = source.createOutput("file", IOContext.DEFAULT)) {
+                output.writeBytes(content, content.length);
+            }
+            final RemoteSnapshotBlockCache cache = newCache(randomIntBetween(4, 64));
+            try (RemoteSnapshotDirectory directory = newDirectory(snapshotFiles(source, sourcePath), cache);
+                 IndexInput input = directory.openInput("file", IOContext.DEFAULT)) {
+                assertThat(input.length(), equalTo((long) content.length));
+                for (int i = 0; i < 20; i++) {
+                    final int start = randomIntBetween(0, content.length - 1);
+                    final int length = randomIntBetween(0, content.length - start);
+                    final IndexInput slice = randomBoolean() ? input.clone() : input.slice("slice", 0, content.length);
+                    slice.seek(start);
+                    if (randomBoolean() && length > 0) {
+                        assertThat(slice.readByte(), equalTo(content[start]));
+                    } else {
+                        final byte[] bytes = new byte[length];
+                        slice.readBytes(bytes, 0, length);
+                        assertArrayEquals(Arrays.copyOfRange(content, start, start + length), bytes);
+                    }
+                }
+                expectThrows(IOException.class, () -> {
+                    input.seek(content.length);
+                    input.readByte();
+                });
+            }
+        }
+    }
+
+    public void testNewFilesAreWrittenLocallyAndSnapshotFilesAreReadOnly() throws IOException {
+        final Path sourcePath = createTempDir();
+        try (Directory source = new NIOFSDirectory(sourcePath)) {
+            try (IndexOutput output = source.createOutput("snapshotted", IOContext.DEFAULT)) {
+                output.writeBytes(randomByteArrayOfLength(128), 128);
+            }
+            final Path localPath = createTempDir();
+            final List<BlobStoreIndexShardSnapshot.FileInfo> files = snapshotFiles(source, sourcePath);
+            try (RemoteSnapshotDirectory directory = newDirectory(files, newCache(16), localPath)) {
+                expectThrows(IOException.class, () -> directory.createOutput("snapshotted", IOContext.DEFAULT));
+                try (IndexOutput output = directory.createOutput("local", IOContext.DEFAULT)) {
+                    output.writeInt(42);
+                }
+                assertTrue(Files.exists(localPath.resolve("local")));
+                assertThat(Arrays.asList(directory.listAll()), hasItems("local", "snapshotted"));
+                try (IndexInput input = directory.openInput("local", IOContext.DEFAULT)) {
+                    assertThat(input.readInt(), equalTo(42));
+                }
+                directory.sync(Arrays.asList("local", "snapshotted"));
+
+                directory.deleteFile("snapshotted");
+                assertThat(Arrays.asList(directory.listAll()), not(hasItem("snapshotted")));
+                expectThrows(IOException.class, () -> directory.openInput("snapshotted", IOContext.DEFAULT));
+                assertTrue("the blob must not be deleted from the repository",
+                    Files.exists(repositoryPath.resolve(files.get(0).partName(0))));
+            }
+        }
+    }
+
+    public void testCacheIsBounded() throws IOException {
+        final Path sourcePath = createTempDir();
+        final int blockSize = 4 * 1024;
+        final int maxBlocks = randomIntBetween(1, 4);
+        try (Directory source = new NIOFSDirectory(sourcePath)) {
+            final byte[] content = randomByteArrayOfLength(blockSize * 16);
+            try (IndexOutput output = source.createOutput("file", IOContext.DEFAULT)) {
+                output.writeBytes(content, content.length);
+            }
+            final RemoteSnapshotBlockCache cache = new RemoteSnapshotBlockCache(Settings.builder()
+                .put(RemoteSnapshotBlockCache.SIZE_SETTING.getKey(), new ByteSizeValue((long) maxBlocks * blockSize).getStringRep())
+                .put(RemoteSnapshotBlockCache.BLOCK_SIZE_SETTING.getKey(), new ByteSizeValue(blockSize).getStringRep())
+                .put(RemoteSnapshotBlockCache.PREFETCH_BLOCKS_SETTING.getKey(), 0)
+                .build(), Runnable::run);
+            try (RemoteSnapshotDirectory directory = newDirectory(snapshotFiles(source, sourcePath), cache);
+                 IndexInput input = directory.openInput("file", IOContext.DEFAULT)) {
+                final byte[] read = new byte[content.length];
+                input.readBytes(read, 0, read.length);
+                assertArrayEquals(content, read);
+                assertThat(cache.usedBytes(), lessThanOrEqualTo((long) maxBlocks * blockSize));
+                // parts of the file that are not a multiple of the block size end with a smaller block
+                assertThat(cache.stats().getMisses(), greaterThanOrEqualTo(16L));
+                assertThat(cache.stats().getEvictions(), equalTo(cache.stats().getMisses() - cache.count()));
+            }
+        }
+    }
+
+    private Path repositoryPath;
+
+    private RemoteSnapshotBlockCache newCache(int blockSizeKb) {
+        return new RemoteSnapshotBlockCache(Settings.builder()
+            .put(RemoteSnapshotBlockCache.BLOCK_SIZE_SETTING.getKey(), new ByteSizeValue(blockSizeKb, ByteSizeUnit.KB).getStringRep())
+            .put(RemoteSnapshotBlockCache.PREFETCH_BLOCKS_SETTING.getKey(), randomIntBetween(0, 4))
+            .build(), Runnable::run);
+    }
+
+    /**
+     * Copies the files of the given directory to a blob container the same way a snapshot does, using a random part size.
+     */
+    private List<BlobStoreIndexShardSnapshot.FileInfo> snapshotFiles(Directory source, Path sourcePath) throws IOException {
+        repositoryPath = createTempDir();
+        final BlobContainer container = blobContainer();
+        final ByteSizeValue partSize = randomBoolean() ? null : new ByteSizeValue(randomIntBetween(1, 128), ByteSizeUnit.KB);
+        final List<BlobStoreIndexShardSnapshot.FileInfo> files = new ArrayList<>();
+        for (String file : source.listAll()) {
+            String checksum = "_na_";
+            try (IndexInput input = source.openInput(file, IOContext.READONCE)) {
+                checksum = Store.digestToString(CodecUtil.retrieveChecksum(input));
+            } catch (CorruptIndexException | EOFException e) {
+                // not a lucene file, the checksum is not needed to read it back
+            }
+            final StoreFileMetadata metadata = new StoreFileMetadata(file, source.fileLength(file), checksum, Version.LATEST);
+            final BlobStoreIndexShardSnapshot.FileInfo fileInfo = new BlobStoreIndexShardSnapshot.FileInfo("__" + file, metadata, partSize);
+            final byte[] bytes = Files.readAllBytes(sourcePath.resolve(file));
+            long offset = 0;
+            for (int part = 0; part < fileInfo.numberOfParts(); part++) {
+                final int length = Math.toIntExact(fileInfo.partBytes(part));
+                try (InputStream stream = new ByteArrayInputStream(bytes, Math.toIntExact(offset), length)) {
+                    container.writeBlob(fileInfo.partName(part), stream, length, true);
+                }
+                offset += length;
+            }
+            files.add(fileInfo);
+        }
+        return files;
+    }
+
+    private BlobContainer blobContainer() throws IOException {
+        return new FsBlobContainer(new FsBlobStore(randomIntBetween(1, 8) * 1024, repositoryPath, false), BlobPath.cleanPath(),
+            repositoryPath);
+    }
+
+    private RemoteSnapshotDirectory newDirectory(List<BlobStoreIndexShardSnapshot.FileInfo> files,
+                                                 RemoteSnapshotBlockCache cache) throws IOException {
+        return newDirectory(files, cache, createTempDir());
+    }
+
+    private RemoteSnapshotDirectory newDirectory(List<BlobStoreIndexShardSnapshot.FileInfo> files, RemoteSnapshotBlockCache cache,
+                                                 Path localPath) throws IOException {
+        final BlobContainer container = blobContainer();
+        return new RemoteSnapshotDirectory(new NIOFSDirectory(localPath), REPOSITORY, () -> container,
+            c -> new BlobStoreIndexShardSnapshot("snapshot", 0L, files, 0L, 0L, 0, 0L), cache);
+    }
+}
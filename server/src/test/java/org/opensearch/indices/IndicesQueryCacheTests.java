@@ -33,8 +33,10 @@
 package org.opensearch.indices;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.ConstantScoreScorer;
@@ -50,14 +52,18 @@ import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.index.cache.query.CostBasedQueryCachingPolicy;
+import org.opensearch.index.cache.query.MergedSegmentQueryCacheWarmer;
 import org.opensearch.index.cache.query.QueryCacheStats;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Set;
 
 public class IndicesQueryCacheTests extends OpenSearchTestCase {
@@ -440,4 +446,106 @@ public class IndicesQueryCacheTests extends OpenSearchTestCase {
         cache.onClose(shard);
         cache.close();
     }
+
+    public void testShapeStats() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig());
+        w.addDocument(new Document());
+        DirectoryReader r = DirectoryReader.open(w);
+        w.close();
+        ShardId shard = new ShardId("index", "_na_", 0);
+        r = OpenSearchDirectoryReader.wrap(r, shard);
+        IndexSearcher s = new IndexSearcher(r);
+        s.setQueryCachingPolicy(alwaysCachePolicy());
+
+        Settings settings = Settings.builder()
+                .put(IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.getKey(), true)
+                .build();
+        IndicesQueryCache cache = new IndicesQueryCache(settings);
+        s.setQueryCache(cache);
+
+        assertFalse(cache.isCached(new DummyQuery(0)));
+        assertEquals(1, s.count(new DummyQuery(0)));
+        assertEquals(1, s.count(new DummyQuery(0)));
+        assertEquals(1, s.count(new DummyQuery(1)));
+        assertTrue(cache.isCached(new DummyQuery(0)));
+        assertTrue(cache.isCached(new DummyQuery(1)));
+        assertFalse(cache.isCached(new DummyQuery(2)));
+
+        QueryCacheStats stats = cache.getStats(shard);
+        assertEquals(1L, stats.getHitCount());
+        assertEquals(2L, stats.getMissCount());
+        assertEquals(Collections.singleton("DummyQuery"), stats.getShapes().keySet());
+        assertEquals(1L, stats.getShapes().get("DummyQuery").getHitCount());
+        assertEquals(2L, stats.getShapes().get("DummyQuery").getMissCount());
+
+        // shapes survive serialization and are summed
+        BytesStreamOutput out = new BytesStreamOutput();
+        stats.writeTo(out);
+        QueryCacheStats copy = new QueryCacheStats(out.bytes().streamInput());
+        copy.add(stats);
+        assertEquals(2L, copy.getShapes().get("DummyQuery").getHitCount());
+        assertEquals(4L, copy.getShapes().get("DummyQuery").getMissCount());
+
+        cache.clearIndex("index");
+        assertFalse(cache.isCached(new DummyQuery(0)));
+
+        IOUtils.close(r, dir);
+        cache.onClose(shard);
+        cache.close();
+    }
+
+    public void testMergedSegmentWarming() throws IOException {
+        Settings settings = Settings.builder()
+                .put(IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.getKey(), true)
+                .build();
+        IndicesQueryCache cache = new IndicesQueryCache(settings);
+        ShardId shard = new ShardId("index", "_na_", 0);
+        CostBasedQueryCachingPolicy policy = new CostBasedQueryCachingPolicy(cache::isCached);
+
+        Directory dir = newDirectory();
+        IndexWriterConfig iwc = new IndexWriterConfig();
+        iwc.setMergedSegmentWarmer(new MergedSegmentQueryCacheWarmer(shard, cache, policy, () -> true, logger));
+        IndexWriter w = new IndexWriter(dir, iwc);
+        for (int i = 0; i < 2; i++) {
+            Document doc = new Document();
+            doc.add(new IntPoint("f", i));
+            w.addDocument(doc);
+            w.flush();
+        }
+        DirectoryReader r = OpenSearchDirectoryReader.wrap(DirectoryReader.open(w), shard);
+        assertEquals(2, r.leaves().size());
+        IndexSearcher s = new IndexSearcher(r);
+        s.setQueryCache(cache);
+        s.setQueryCachingPolicy(policy);
+
+        // point queries are costly enough to be cached on first use
+        Query query = IntPoint.newRangeQuery("f", 0, 10);
+        assertEquals(2, s.count(query));
+        QueryCacheStats stats = cache.getStats(shard);
+        assertEquals(2L, stats.getCacheSize());
+        assertEquals(0L, stats.getHitCount());
+
+        // the merge caches the query for the merged segment
+        w.forceMerge(1);
+        stats = cache.getStats(shard);
+        assertEquals(3L, stats.getCacheCount());
+
+        DirectoryReader merged = DirectoryReader.openIfChanged(r);
+        assertNotNull(merged);
+        r.close();
+        r = merged;
+        assertEquals(1, r.leaves().size());
+        s = new IndexSearcher(r);
+        s.setQueryCache(cache);
+        s.setQueryCachingPolicy(policy);
+        assertEquals(2, s.count(query));
+        stats = cache.getStats(shard);
+        assertEquals(3L, stats.getCacheCount());
+        assertEquals(1L, stats.getHitCount());
+
+        IOUtils.close(r, w, dir);
+        cache.onClose(shard);
+        cache.close();
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Before;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RefreshCoordinatorTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+
+    @Before
+    public void setUpThreadPool() {
+        threadPool = new TestThreadPool(getTestName());
+    }
+
+    @After
+    public void tearDownThreadPool() {
+        terminate(threadPool);
+    }
+
+    static class MockCoordinator extends RefreshCoordinator {
+
+        final Map<IndexShard, Long> indexBufferRAMBytesUsed = Collections.synchronizedMap(new HashMap<>());
+        final List<String> actions = Collections.synchronizedList(new ArrayList<>());
+        volatile CountDownLatch block = new CountDownLatch(0);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+
+        MockCoordinator(Settings settings, ThreadPool threadPool) {
+            super(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), threadPool);
+        }
+
+        @Override
+        protected long getIndexBufferRAMBytesUsed(IndexShard shard) {
+            return indexBufferRAMBytesUsed.getOrDefault(shard, 0L);
+        }
+
+        @Override
+        protected void scheduledRefresh(IndexShard shard) {
+            run("refresh " + shard.shardId().id());
+        }
+
+        @Override
+        protected void writeIndexingBuffer(IndexShard shard) {
+            run("write " + shard.shardId().id());
+        }
+
+        private void run(String action) {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                assertTrue(block.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            } finally {
+                running.decrementAndGet();
+            }
+            actions.add(action);
+        }
+    }
+
+    private static IndexShard newShard(int id) {
+        final IndexShard shard = mock(IndexShard.class);
+        when(shard.shardId()).thenReturn(new ShardId("index", "_na_", id));
+        return shard;
+    }
+
+    private static Settings.Builder noStagger() {
+        return Settings.builder().put(RefreshCoordinator.STAGGER_REFRESHES_SETTING.getKey(), false);
+    }
+
+    public void testLimitsConcurrentRefreshes() throws Exception {
+        final int maxConcurrentRefreshes = randomIntBetween(1, 3);
+        final MockCoordinator coordinator = new MockCoordinator(noStagger()
+            .put(RefreshCoordinator.MAX_CONCURRENT_REFRESHES_SETTING.getKey(), maxConcurrentRefreshes).build(), threadPool);
+        coordinator.block = new CountDownLatch(1);
+        final int numShards = randomIntBetween(maxConcurrentRefreshes + 1, 20);
+        for (int i = 0; i < numShards; i++) {
+            coordinator.scheduleRefresh(newShard(i), TimeValue.timeValueSeconds(1));
+        }
+        // refreshes run on the refresh thread pool, which may have fewer threads
+        final int expectedRunning = Math.min(maxConcurrentRefreshes, threadPool.info(ThreadPool.Names.REFRESH).getMax());
+        assertBusy(() -> assertThat(coordinator.running.get(), equalTo(expectedRunning)));
+        coordinator.block.countDown();
+        assertBusy(() -> assertThat(coordinator.actions.size(), equalTo(numShards)));
+        assertThat(coordinator.maxRunning.get(), lessThanOrEqualTo(maxConcurrentRefreshes));
+    }
+
+    public void testCoalescesWaitingRefreshes() throws Exception {
+        final MockCoordinator coordinator = new MockCoordinator(noStagger()
+            .put(RefreshCoordinator.MAX_CONCURRENT_REFRESHES_SETTING.getKey(), 1).build(), threadPool);
+        coordinator.block = new CountDownLatch(1);
+        final IndexShard running = newShard(0);
+        final IndexShard waiting = newShard(1);
+        coordinator.scheduleRefresh(running, TimeValue.timeValueSeconds(1));
+        assertBusy(() -> assertThat(coordinator.running.get(), equalTo(1)));
+        for (int i = 0; i < randomIntBetween(2, 10); i++) {
+            coordinator.scheduleRefresh(waiting, TimeValue.timeValueSeconds(1));
+        }
+        coordinator.writeIndexingBufferAsync(waiting);
+        coordinator.block.countDown();
+        assertBusy(() -> assertThat(coordinator.actions, equalTo(Arrays.asList("refresh 0", "write 1", "refresh 1"))));
+        // a refresh requested after the previous one started must run again
+        coordinator.scheduleRefresh(running, TimeValue.timeValueSeconds(1));
+        assertBusy(() -> assertThat(coordinator.actions.size(), equalTo(4)));
+    }
+
+    public void testIndexingBuffersGoFirstThenLargestShards() throws Exception {
+        final MockCoordinator coordinator = new MockCoordinator(noStagger()
+            .put(RefreshCoordinator.MAX_CONCURRENT_REFRESHES_SETTING.getKey(), 1).build(), threadPool);
+        coordinator.block = new CountDownLatch(1);
+        coordinator.scheduleRefresh(newShard(0), TimeValue.timeValueSeconds(1));
+        assertBusy(() -> assertThat(coordinator.running.get(), equalTo(1)));
+
+        final IndexShard small = newShard(1);
+        final IndexShard large = newShard(2);
+        final IndexShard pressure = newShard(3);
+        coordinator.indexBufferRAMBytesUsed.put(small, 1024L);
+        coordinator.indexBufferRAMBytesUsed.put(large, 1024L * 1024);
+        coordinator.indexBufferRAMBytesUsed.put(pressure, 1L);
+        coordinator.scheduleRefresh(small, TimeValue.timeValueSeconds(1));
+        coordinator.scheduleRefresh(large, TimeValue.timeValueSeconds(1));
+        coordinator.writeIndexingBufferAsync(pressure);
+        coordinator.block.countDown();
+
+        assertBusy(() -> assertThat(coordinator.actions, equalTo(Arrays.asList("refresh 0", "write 3", "refresh 2", "refresh 1"))));
+    }
+
+    public void testStaggersRefreshesAcrossTheInterval() throws Exception {
+        final TimeValue interval = TimeValue.timeValueMillis(randomLongBetween(2, 10000));
+        for (int i = 0; i < 100; i++) {
+            final IndexShard shard = newShard(i);
+            final long delay = RefreshCoordinator.staggerDelayInMillis(shard, interval);
+            assertThat(delay, greaterThanOrEqualTo(0L));
+            assertThat(delay, lessThan(interval.millis()));
+            assertThat("the offset of a shard is fixed", RefreshCoordinator.staggerDelayInMillis(shard, interval), equalTo(delay));
+            assertThat(RefreshCoordinator.staggerDelayInMillis(shard, TimeValue.timeValueMillis(1)), equalTo(0L));
+        }
+
+        final MockCoordinator coordinator = new MockCoordinator(Settings.EMPTY, threadPool);
+        for (int i = 0; i < 10; i++) {
+            coordinator.scheduleRefresh(newShard(i), TimeValue.timeValueMillis(100));
+        }
+        assertBusy(() -> assertThat(coordinator.actions.size(), equalTo(10)));
+    }
+}
@@ -67,6 +67,7 @@ import org.opensearch.index.analysis.TokenFilterFactory;
 import org.opensearch.index.analysis.MyFilterTokenFilterFactory;
 import org.opensearch.index.analysis.TokenizerFactory;
 import org.opensearch.indices.analysis.AnalysisModule.AnalysisProvider;
+import org.opensearch.indices.analysis.NodeAnalysisStats.SharedResourceStats;
 import org.opensearch.plugins.AnalysisPlugin;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.IndexSettingsModule;
@@ -90,6 +91,7 @@ import java.util.Set;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.apache.lucene.analysis.BaseTokenStreamTestCase.assertTokenStreamContents;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.either;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
@@ -453,6 +455,51 @@ public class AnalysisModuleTests extends OpenSearchTestCase {
         assertSame(dictionary, module.getHunspellService().getDictionary("foo"));
     }
 
+    public void testSharedResourceStats() throws IOException {
+        Settings settings = Settings.builder().put(Environment.PATH_HOME_SETTING.getKey(), createTempDir().toString()).build();
+        AnalysisRegistry registry = new AnalysisModule(TestEnvironment.newEnvironment(settings), singletonList(new AnalysisPlugin() {
+        })).getAnalysisRegistry();
+        assertNull(registry.stats());
+
+        SharedResourceStats synonymMaps = new SharedResourceStats(2, 5, 1024);
+        SharedResourceStats dictionaries = new SharedResourceStats(1, 1, 2048);
+        registry = new AnalysisModule(TestEnvironment.newEnvironment(settings), Arrays.asList(new AnalysisPlugin() {
+            @Override
+            public Map<String, SharedResourceStats> getSharedResourceStats() {
+                return singletonMap("synonym_maps", synonymMaps);
+            }
+        }, new AnalysisPlugin() {
+            @Override
+            public Map<String, SharedResourceStats> getSharedResourceStats() {
+                return singletonMap("dictionaries", dictionaries);
+            }
+        })).getAnalysisRegistry();
+        NodeAnalysisStats stats = registry.stats();
+        assertNotNull(stats);
+        assertEquals(Arrays.asList("dictionaries", "synonym_maps"), Arrays.asList(stats.getSharedResources().keySet().toArray()));
+        assertSame(synonymMaps, stats.getSharedResources().get("synonym_maps"));
+
+        NodeAnalysisStats copy = copyWriteable(stats, writableRegistry(), NodeAnalysisStats::new);
+        SharedResourceStats copied = copy.getSharedResources().get("synonym_maps");
+        assertEquals(2, copied.getCount());
+        assertEquals(5, copied.getReferences());
+        assertEquals(1024, copied.getMemorySize().getBytes());
+
+        AnalysisRegistry conflicting = new AnalysisModule(TestEnvironment.newEnvironment(settings), Arrays.asList(new AnalysisPlugin() {
+            @Override
+            public Map<String, SharedResourceStats> getSharedResourceStats() {
+                return singletonMap("synonym_maps", synonymMaps);
+            }
+        }, new AnalysisPlugin() {
+            @Override
+            public Map<String, SharedResourceStats> getSharedResourceStats() {
+                return singletonMap("synonym_maps", synonymMaps);
+            }
+        })).getAnalysisRegistry();
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, conflicting::stats);
+        assertThat(e.getMessage(), containsString("synonym_maps"));
+    }
+
     // Simple char filter that appends text to the term
     public static class AppendCharFilter extends CharFilter {
 
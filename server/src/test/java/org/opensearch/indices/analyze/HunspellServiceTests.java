@@ -31,18 +31,30 @@
 
 package org.opensearch.indices.analyze;
 
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.core.WhitespaceTokenizer;
 import org.apache.lucene.analysis.hunspell.Dictionary;
+import org.apache.lucene.analysis.hunspell.HunspellStemFilter;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.env.Environment;
 import org.opensearch.indices.analysis.HunspellService;
+import org.opensearch.indices.analysis.NodeAnalysisStats.SharedResourceStats;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import static java.util.Collections.emptyMap;
 import static org.opensearch.indices.analysis.HunspellService.HUNSPELL_IGNORE_CASE;
 import static org.opensearch.indices.analysis.HunspellService.HUNSPELL_LAZY_LOAD;
+import static org.opensearch.indices.analysis.HunspellService.HUNSPELL_OFF_HEAP;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasToString;
 import static org.hamcrest.Matchers.notNullValue;
 
@@ -110,4 +122,59 @@ public class HunspellServiceTests extends OpenSearchTestCase {
         assertEquals("failed to load hunspell dictionary for locale: en_US", e.getMessage());
         assertThat(e.getCause(), hasToString(containsString("Too many affix files")));
     }
+
+    public void testOffHeapWords() throws Exception {
+        Settings settings = Settings.builder()
+                .put(HUNSPELL_LAZY_LOAD.getKey(), true)
+                .put(Environment.PATH_HOME_SETTING.getKey(), createTempDir())
+                .build();
+        final Path configPath = getDataPath("/indices/analyze/conf_dir");
+        HunspellService onHeap = new HunspellService(Settings.builder().put(settings).put(HUNSPELL_OFF_HEAP.getKey(), false).build(),
+                new Environment(settings, configPath), emptyMap());
+        HunspellService offHeap = new HunspellService(settings, new Environment(settings, configPath), emptyMap());
+        assertNull(offHeap.stats());
+
+        String text = "the workers were working on the worked shoes of their friends 1st";
+        assertThat(stems(offHeap.getDictionary("en_US"), text), equalTo(stems(onHeap.getDictionary("en_US"), text)));
+        assertSame(offHeap.getDictionary("en_US"), offHeap.getDictionary("en_US"));
+
+        SharedResourceStats offHeapStats = offHeap.stats();
+        SharedResourceStats onHeapStats = onHeap.stats();
+        assertEquals(1, offHeapStats.getCount());
+        assertEquals(0, offHeapStats.getReferences());
+        assertThat(offHeapStats.getOffHeapSize().getBytes(), greaterThan(0L));
+        assertEquals(0, onHeapStats.getOffHeapSize().getBytes());
+        assertThat(onHeapStats.getMemorySize().getBytes(),
+                greaterThan(offHeapStats.getMemorySize().getBytes() + offHeapStats.getOffHeapSize().getBytes() / 2));
+
+        Releasable first = offHeap.reference("en_US");
+        Releasable second = offHeap.reference("en_US");
+        assertEquals(2, offHeap.stats().getReferences());
+        first.close();
+        first.close();
+        assertEquals(1, offHeap.stats().getReferences());
+        second.close();
+        assertEquals(0, offHeap.stats().getReferences());
+    }
+
+    private static String stems(Dictionary dictionary, String text) throws IOException {
+        try (Analyzer analyzer = new Analyzer() {
+            @Override
+            protected TokenStreamComponents createComponents(String fieldName) {
+                Tokenizer tokenizer = new WhitespaceTokenizer();
+                return new TokenStreamComponents(tokenizer, new HunspellStemFilter(tokenizer, dictionary));
+            }
+        }) {
+            StringBuilder stems = new StringBuilder();
+            try (TokenStream stream = analyzer.tokenStream("field", text)) {
+                CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+                stream.reset();
+                while (stream.incrementToken()) {
+                    stems.append(term).append(' ');
+                }
+                stream.end();
+            }
+            return stems.toString();
+        }
+    }
 }
@@ -345,6 +345,7 @@ public class SearchModuleTests extends OpenSearchTestCase {
             "geo_shape",
             "ids",
             "intervals",
+            "knn",
             "match",
             "match_all",
             "match_bool_prefix",
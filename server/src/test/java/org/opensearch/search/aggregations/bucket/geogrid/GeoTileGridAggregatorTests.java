@@ -32,6 +32,27 @@
 
 package org.opensearch.search.aggregations.bucket.geogrid;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LatLonDocValuesField;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.geo.GeoEncodingUtils;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.geo.GeoBoundingBox;
+import org.opensearch.common.geo.GeoPoint;
+import org.opensearch.index.mapper.GeoPointFieldMapper;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 public class GeoTileGridAggregatorTests extends GeoGridAggregatorTestCase<InternalGeoTileGridBucket> {
 
     @Override
@@ -59,4 +80,56 @@ public class GeoTileGridAggregatorTests extends GeoGridAggregatorTestCase<Intern
         builder.precision(precision);
         assertEquals(precision, builder.precision());
     }
+
+    public void testIndexedTiles() throws IOException {
+        final int precision = randomPrecision();
+        final String tileField = GeoPointFieldMapper.tileFieldName("location", precision);
+        final Map<String, Long> expectedCounts = new HashMap<>();
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory)) {
+                for (int i = 0; i < 100; i++) {
+                    final Document doc = new Document();
+                    final Set<String> tiles = new HashSet<>();
+                    for (int j = randomIntBetween(1, 3); j > 0; j--) {
+                        final double lat = GeoEncodingUtils.decodeLatitude(GeoEncodingUtils.encodeLatitude(
+                            randomDoubleBetween(-85, 85, true)));
+                        final double lon = GeoEncodingUtils.decodeLongitude(GeoEncodingUtils.encodeLongitude(
+                            randomDoubleBetween(-180, 180, true)));
+                        doc.add(new LatLonDocValuesField("location", lat, lon));
+                        doc.add(new SortedNumericDocValuesField(tileField, GeoTileUtils.longEncode(lon, lat, precision)));
+                        tiles.add(hashAsString(lon, lat, precision));
+                    }
+                    for (String tile : tiles) {
+                        expectedCounts.merge(tile, 1L, Long::sum);
+                    }
+                    iw.addDocument(doc);
+                }
+                // a document that only has an indexed tile is only counted when the indexed tiles are read
+                iw.addDocument(Collections.singleton(new SortedNumericDocValuesField(tileField, GeoTileUtils.longEncode(0, 0, precision))));
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                final IndexSearcher searcher = newSearcher(reader, true, true);
+                final GeoPointFieldMapper.GeoPointFieldType fieldType = new GeoPointFieldMapper.GeoPointFieldType("location");
+
+                final Map<String, Long> withComputedTiles = bucketCounts(searchAndReduce(searcher, new MatchAllDocsQuery(),
+                    createBuilder("_name").field("location").precision(precision).setGeoBoundingBox(
+                        new GeoBoundingBox(new GeoPoint(90, -180), new GeoPoint(-90, 180))), fieldType));
+                assertEquals(expectedCounts, withComputedTiles);
+
+                final String extraTile = hashAsString(0, 0, precision);
+                expectedCounts.merge(extraTile, 1L, Long::sum);
+                final Map<String, Long> withIndexedTiles = bucketCounts(searchAndReduce(searcher, new MatchAllDocsQuery(),
+                    createBuilder("_name").field("location").precision(precision), fieldType));
+                assertEquals(expectedCounts, withIndexedTiles);
+            }
+        }
+    }
+
+    private static Map<String, Long> bucketCounts(InternalGeoGrid<?> grid) {
+        final Map<String, Long> counts = new HashMap<>();
+        for (GeoGrid.Bucket bucket : grid.getBuckets()) {
+            counts.put(bucket.getKeyAsString(), bucket.getDocCount());
+        }
+        return counts;
+    }
 }
@@ -33,11 +33,17 @@
 package org.opensearch.search.aggregations.bucket.histogram;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
@@ -52,10 +58,15 @@ import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
 
 import java.io.IOException;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import static java.util.stream.Collectors.toList;
@@ -1167,6 +1178,84 @@ public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCas
         assertWarnings("[interval] on [date_histogram] is deprecated, use [fixed_interval] or [calendar_interval] in the future.");
     }
 
+    public void testCountsFromPoints() throws IOException {
+        final DateFieldMapper.DateFieldType fieldType = aggregableDateFieldType(false, true);
+        final long start = asLong("2020-01-01T00:00:00");
+        final long end = start + TimeUnit.DAYS.toMillis(30);
+        // segments with deleted or multi-valued documents are collected from doc values
+        final boolean deletes = randomBoolean();
+        final boolean multiValued = randomBoolean();
+        try (Directory directory = newDirectory()) {
+            final List<long[]> docs = new ArrayList<>();
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                final int numDocs = randomIntBetween(1, 5000);
+                for (int i = 0; i < numDocs; i++) {
+                    final long[] values = new long[multiValued && randomBoolean() ? 2 : 1];
+                    final Document document = new Document();
+                    document.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                    for (int v = 0; v < values.length; v++) {
+                        values[v] = randomLongBetween(start, end);
+                        document.add(new SortedNumericDocValuesField(AGGREGABLE_DATE, values[v]));
+                        document.add(new LongPoint(AGGREGABLE_DATE, values[v]));
+                    }
+                    indexWriter.addDocument(document);
+                    docs.add(values);
+                    if (rarely()) {
+                        indexWriter.commit();
+                    }
+                }
+                if (deletes) {
+                    final int deletedDoc = randomIntBetween(0, numDocs - 1);
+                    indexWriter.deleteDocuments(new Term("id", Integer.toString(deletedDoc)));
+                    docs.set(deletedDoc, new long[0]);
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                final IndexSearcher indexSearcher = newSearcher(indexReader, false, true);
+                final long queryMin = randomLongBetween(start, end);
+                final long queryMax = randomLongBetween(queryMin, end);
+                final Query query = randomBoolean()
+                    ? new MatchAllDocsQuery()
+                    : LongPoint.newRangeQuery(AGGREGABLE_DATE, queryMin, queryMax);
+                final long interval = randomFrom(TimeUnit.HOURS.toMillis(1), TimeUnit.DAYS.toMillis(1));
+                final DateHistogramAggregationBuilder aggregationBuilder = new DateHistogramAggregationBuilder("_name")
+                    .field(AGGREGABLE_DATE)
+                    .fixedInterval(new DateHistogramInterval(interval + "ms"));
+                final DateHistogramAggregator aggregator = createAggregator(query, aggregationBuilder, indexSearcher,
+                    createIndexSettings(), fieldType);
+                aggregator.preCollection();
+                indexSearcher.search(query, aggregator);
+                aggregator.postCollection();
+                final InternalDateHistogram histogram = (InternalDateHistogram) aggregator.buildTopLevel();
+
+                final Map<Long, Long> expectedCounts = new TreeMap<>();
+                for (long[] values : docs) {
+                    if (query instanceof MatchAllDocsQuery == false
+                        && Arrays.stream(values).noneMatch(value -> value >= queryMin && value <= queryMax)) {
+                        continue;
+                    }
+                    // all values of a matching document count, not only the ones that match the query
+                    Arrays.stream(values)
+                        .map(value -> Math.floorDiv(value, interval) * interval)
+                        .distinct()
+                        .forEach(key -> expectedCounts.merge(key, 1L, Long::sum));
+                }
+                final Map<Long, Long> actualCounts = new TreeMap<>();
+                for (InternalDateHistogram.Bucket bucket : histogram.getBuckets()) {
+                    actualCounts.put(((ZonedDateTime) bucket.getKey()).toInstant().toEpochMilli(), bucket.getDocCount());
+                }
+                assertThat(actualCounts, equalTo(expectedCounts));
+
+                final Map<String, Object> debug = new HashMap<>();
+                aggregator.collectDebugInfo(debug::put);
+                if (deletes == false && multiValued == false) {
+                    assertThat(debug.get("segments_counted_from_points"), equalTo(indexReader.leaves().size()));
+                }
+            }
+        }
+    }
+
     private void testSearchCase(Query query, List<String> dataset,
                                 Consumer<DateHistogramAggregationBuilder> configure,
                                 Consumer<InternalDateHistogram> verify, boolean useNanosecondResolution) throws IOException {
@@ -32,12 +32,20 @@
 
 package org.opensearch.search.aggregations.bucket.range;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
@@ -55,8 +63,12 @@ import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
 import java.io.IOException;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static java.util.Collections.singleton;
@@ -308,6 +320,88 @@ public class RangeAggregatorTests extends AggregatorTestCase {
         });
     }
 
+    public void testCountsFromPoints() throws IOException {
+        final MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(NUMBER_FIELD_NAME, NumberFieldMapper.NumberType.LONG);
+        // segments with deleted or multi-valued documents are collected from doc values
+        final boolean deletes = randomBoolean();
+        final boolean multiValued = randomBoolean();
+        try (Directory directory = newDirectory()) {
+            final List<long[]> docs = new ArrayList<>();
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                final int numDocs = randomIntBetween(1, 5000);
+                for (int i = 0; i < numDocs; i++) {
+                    final long[] values = new long[multiValued && randomBoolean() ? 2 : 1];
+                    final Document document = new Document();
+                    document.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                    for (int v = 0; v < values.length; v++) {
+                        values[v] = randomLongBetween(-1000, 1000);
+                        document.add(new SortedNumericDocValuesField(NUMBER_FIELD_NAME, values[v]));
+                        document.add(new LongPoint(NUMBER_FIELD_NAME, values[v]));
+                    }
+                    indexWriter.addDocument(document);
+                    docs.add(values);
+                    if (rarely()) {
+                        indexWriter.commit();
+                    }
+                }
+                if (deletes) {
+                    final int deletedDoc = randomIntBetween(0, numDocs - 1);
+                    indexWriter.deleteDocuments(new Term("id", Integer.toString(deletedDoc)));
+                    docs.set(deletedDoc, new long[0]);
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                final IndexSearcher indexSearcher = newSearcher(indexReader, false, true);
+                final long queryMin = randomLongBetween(-1000, 1000);
+                final long queryMax = randomLongBetween(queryMin, 1000);
+                final Query query = randomBoolean()
+                    ? new MatchAllDocsQuery()
+                    : LongPoint.newRangeQuery(NUMBER_FIELD_NAME, queryMin, queryMax);
+                final RangeAggregationBuilder aggregationBuilder = new RangeAggregationBuilder("test_range_agg").field(NUMBER_FIELD_NAME);
+                // disjoint ranges with fractional bounds, the first and the last range may be open
+                double from = randomBoolean() ? Double.NEGATIVE_INFINITY : randomDoubleBetween(-1100, -900, true);
+                final int numRanges = randomIntBetween(1, 20);
+                for (int i = 0; i < numRanges; i++) {
+                    final double to = i == numRanges - 1 && randomBoolean()
+                        ? Double.POSITIVE_INFINITY
+                        : Math.max(from, -1000) + randomDoubleBetween(0, 200, true);
+                    aggregationBuilder.addRange(from, to);
+                    from = to + (randomBoolean() ? 0 : randomDoubleBetween(0, 10, true));
+                }
+                final RangeAggregator aggregator = createAggregator(query, aggregationBuilder, indexSearcher,
+                    createIndexSettings(), fieldType);
+                aggregator.preCollection();
+                indexSearcher.search(query, aggregator);
+                aggregator.postCollection();
+                final InternalRange<?, ?> range = (InternalRange<?, ?>) aggregator.buildTopLevel();
+
+                for (InternalRange.Bucket bucket : range.getBuckets()) {
+                    final double bucketFrom = (double) bucket.getFrom();
+                    final double bucketTo = (double) bucket.getTo();
+                    long expectedDocCount = 0;
+                    for (long[] values : docs) {
+                        if (query instanceof MatchAllDocsQuery == false
+                            && Arrays.stream(values).noneMatch(value -> value >= queryMin && value <= queryMax)) {
+                            continue;
+                        }
+                        // all values of a matching document count, not only the ones that match the query
+                        if (Arrays.stream(values).anyMatch(value -> value >= bucketFrom && value < bucketTo)) {
+                            expectedDocCount++;
+                        }
+                    }
+                    assertThat(bucket.getKeyAsString(), bucket.getDocCount(), equalTo(expectedDocCount));
+                }
+
+                final Map<String, Object> debug = new HashMap<>();
+                aggregator.collectDebugInfo(debug::put);
+                if (deletes == false && multiValued == false) {
+                    assertThat(debug.get("segments_counted_from_points"), equalTo(indexReader.leaves().size()));
+                }
+            }
+        }
+    }
+
     private void testCase(Query query,
                           CheckedConsumer<RandomIndexWriter, IOException> buildIndex,
                           Consumer<InternalRange<? extends InternalRange.Bucket, ? extends InternalRange>> verify) throws IOException {
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.terms;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class SpaceSavingSummaryTests extends OpenSearchTestCase {
+
+    public void testExactWhenNotFull() {
+        SpaceSavingSummary summary = new SpaceSavingSummary(10, b -> {});
+        for (int i = 0; i < 5; i++) {
+            for (int j = 0; j <= i; j++) {
+                summary.add(new BytesRef("term" + i));
+            }
+        }
+        assertFalse(summary.isFull());
+        assertThat(summary.size(), equalTo(5));
+        assertThat(summary.total(), equalTo(15L));
+        assertThat(summary.minCount(), equalTo(0L));
+        for (int slot = 0; slot < summary.size(); slot++) {
+            int term = Integer.parseInt(summary.term(slot).utf8ToString().substring("term".length()));
+            assertThat(summary.count(slot), equalTo((long) term + 1));
+            assertThat(summary.error(slot), equalTo(0L));
+        }
+    }
+
+    public void testBounds() {
+        final int capacity = randomIntBetween(1, 50);
+        final AtomicLong breakerBytes = new AtomicLong();
+        SpaceSavingSummary summary = new SpaceSavingSummary(capacity, breakerBytes::addAndGet);
+        Map<String, Long> trueCounts = new HashMap<>();
+        final int numTerms = randomIntBetween(1, 500);
+        final int numValues = randomIntBetween(1, 10000);
+        for (int i = 0; i < numValues; i++) {
+            // skew the distribution so that a few terms are much more frequent than the others
+            final String term = "term" + (int) (numTerms * Math.pow(randomDouble(), 3));
+            summary.add(new BytesRef(term));
+            trueCounts.merge(term, 1L, Long::sum);
+        }
+        assertThat(summary.total(), equalTo((long) numValues));
+        assertThat(summary.size(), equalTo(Math.min(capacity, trueCounts.size())));
+        assertThat(breakerBytes.get(), greaterThanOrEqualTo(0L));
+
+        Set<String> monitored = new HashSet<>();
+        for (int slot = 0; slot < summary.size(); slot++) {
+            final String term = summary.term(slot).utf8ToString();
+            assertTrue(monitored.add(term));
+            final long trueCount = trueCounts.get(term);
+            assertThat(summary.count(slot), greaterThanOrEqualTo(trueCount));
+            assertThat(summary.count(slot) - summary.error(slot), lessThanOrEqualTo(trueCount));
+            assertThat(summary.count(slot), greaterThanOrEqualTo(summary.minCount()));
+        }
+        for (Map.Entry<String, Long> entry : trueCounts.entrySet()) {
+            if (monitored.contains(entry.getKey()) == false) {
+                assertThat(entry.getValue(), lessThanOrEqualTo(summary.minCount()));
+            }
+            if (entry.getValue() > numValues / capacity) {
+                assertTrue("heavy hitter [" + entry.getKey() + "] must be monitored", monitored.contains(entry.getKey()));
+            }
+        }
+    }
+
+    public void testInvalidCapacity() {
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> new SpaceSavingSummary(0, b -> {}));
+        assertThat(e.getMessage(), equalTo("capacity must be greater than 0 but was [0]"));
+    }
+}
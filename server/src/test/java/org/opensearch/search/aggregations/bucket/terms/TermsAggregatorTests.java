@@ -101,6 +101,7 @@ import org.opensearch.search.aggregations.bucket.nested.InternalNested;
 import org.opensearch.search.aggregations.bucket.nested.NestedAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.InternalTopHits;
 import org.opensearch.search.aggregations.metrics.TopHitsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.ValueCountAggregationBuilder;
 import org.opensearch.search.aggregations.pipeline.BucketScriptPipelineAggregationBuilder;
 import org.opensearch.search.aggregations.pipeline.PipelineAggregator.PipelineTree;
 import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
@@ -129,9 +130,12 @@ import static java.util.Collections.singleton;
 import static org.opensearch.index.mapper.SeqNoFieldMapper.PRIMARY_TERM_NAME;
 import static org.opensearch.search.aggregations.AggregationBuilders.terms;
 import static org.opensearch.search.aggregations.PipelineAggregatorBuilders.bucketScript;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -1101,6 +1105,73 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         }
     }
 
+    public void testApproximate() throws Exception {
+        TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name")
+            .executionHint(TermsAggregatorFactory.APPROXIMATE_EXECUTION_HINT)
+            .field("string")
+            .size(5)
+            .shardSize(5);
+        MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("string");
+        Map<String, Long> trueCounts = new HashMap<>();
+        List<InternalAggregation> aggs = new ArrayList<>();
+        int numShards = randomIntBetween(1, 4);
+        for (int shard = 0; shard < numShards; shard++) {
+            try (Directory directory = newDirectory()) {
+                try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                    int numDocs = randomIntBetween(500, 2000);
+                    for (int i = 0; i < numDocs; i++) {
+                        // skew the distribution so that term0 is much more frequent than the hundreds of other terms
+                        String term = "term" + (int) (300 * Math.pow(randomDouble(), 3));
+                        trueCounts.merge(term, 1L, Long::sum);
+                        indexWriter.addDocument(singleton(new SortedSetDocValuesField("string", new BytesRef(term))));
+                    }
+                }
+                try (IndexReader indexReader = maybeWrapReaderEs(DirectoryReader.open(directory))) {
+                    InternalAggregation agg = buildInternalAggregation(aggregationBuilder, fieldType, newIndexSearcher(indexReader));
+                    assertThat(((StringTerms) agg).getBuckets().size(), equalTo(5));
+                    aggs.add(agg);
+                }
+            }
+        }
+        InternalAggregation.ReduceContext ctx = InternalAggregation.ReduceContext.forFinalReduction(
+            new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService()),
+            null, b -> {}, PipelineTree.EMPTY);
+        StringTerms result = (StringTerms) aggs.get(0).reduce(aggs, ctx);
+        assertThat(result.getBuckets().size(), equalTo(5));
+        assertEquals("term0", result.getBuckets().get(0).getKeyAsString());
+        for (StringTerms.Bucket bucket : result.getBuckets()) {
+            long trueCount = trueCounts.get(bucket.getKeyAsString());
+            assertThat(bucket.getDocCount(), lessThanOrEqualTo(trueCount));
+            assertThat(bucket.getDocCount() + bucket.getDocCountError(), greaterThanOrEqualTo(trueCount));
+        }
+    }
+
+    public void testApproximateRejectsUnsupportedOptions() throws Exception {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                indexWriter.addDocument(singleton(new SortedSetDocValuesField("string", new BytesRef("a"))));
+            }
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("string");
+                TermsAggregationBuilder byKey = new TermsAggregationBuilder("_name")
+                    .executionHint(TermsAggregatorFactory.APPROXIMATE_EXECUTION_HINT)
+                    .field("string")
+                    .order(BucketOrder.key(true));
+                IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+                    () -> createAggregator(byKey, indexSearcher, fieldType));
+                assertThat(e.getMessage(), containsString("only supports ordering by descending doc count"));
+
+                TermsAggregationBuilder withSubAgg = new TermsAggregationBuilder("_name")
+                    .executionHint(TermsAggregatorFactory.APPROXIMATE_EXECUTION_HINT)
+                    .field("string")
+                    .subAggregation(new ValueCountAggregationBuilder("count").field("string"));
+                e = expectThrows(IllegalArgumentException.class, () -> createAggregator(withSubAgg, indexSearcher, fieldType));
+                assertThat(e.getMessage(), containsString("doesn't support sub-aggregations"));
+            }
+        }
+    }
+
     public void testMixLongAndDouble() throws Exception {
         for (TermsAggregatorFactory.ExecutionMode executionMode : TermsAggregatorFactory.ExecutionMode.values()) {
             TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").userValueTypeHint(ValueType.LONG)
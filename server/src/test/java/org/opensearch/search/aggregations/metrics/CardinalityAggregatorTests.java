@@ -32,6 +32,7 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import com.carrotsearch.hppc.BitMixer;
 import org.apache.lucene.document.BinaryDocValuesField;
 import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.NumericDocValuesField;
@@ -41,7 +42,12 @@ import org.apache.lucene.search.DocValuesFieldExistsQuery;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
 import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.geo.GeoPoint;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.index.mapper.BinaryFieldMapper.CustomBinaryDocValuesField;
+import org.opensearch.index.mapper.HllSketchFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.index.mapper.RangeFieldMapper;
@@ -52,6 +58,7 @@ import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -186,6 +193,30 @@ public class CardinalityAggregatorTests extends AggregatorTestCase {
         }, null);
     }
 
+    public void testSketches() throws IOException {
+        MappedFieldType fieldType = new HllSketchFieldMapper.HllSketchFieldType("sketch", 10, Collections.emptyMap());
+        final CardinalityAggregationBuilder aggregationBuilder = new CardinalityAggregationBuilder("_name").field("sketch");
+        testAggregation(aggregationBuilder, new MatchAllDocsQuery(), iw -> {
+            iw.addDocument(singleton(sketch(10, 1, 2, 3)));
+            iw.addDocument(singleton(sketch(10, 3, 4)));
+            iw.addDocument(singleton(sketch(10, 5, 1)));
+        }, card -> {
+            assertEquals(5, card.getValue(), 0);
+            assertTrue(AggregationInspectionHelper.hasValue(card));
+        }, fieldType);
+    }
+
+    private static CustomBinaryDocValuesField sketch(int precision, long... values) throws IOException {
+        try (HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1);
+             BytesStreamOutput out = new BytesStreamOutput()) {
+            for (long value : values) {
+                counts.collect(0, BitMixer.mix64(value));
+            }
+            counts.writeTo(0, out);
+            return new CustomBinaryDocValuesField("sketch", BytesReference.toBytes(out.bytes()));
+        }
+    }
+
     private void testAggregation(Query query, CheckedConsumer<RandomIndexWriter, IOException> buildIndex,
                           Consumer<InternalCardinality> verify) throws IOException {
         MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType("number", NumberFieldMapper.NumberType.LONG);
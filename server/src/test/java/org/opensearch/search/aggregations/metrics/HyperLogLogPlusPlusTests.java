@@ -37,10 +37,12 @@ import com.carrotsearch.hppc.IntHashSet;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.breaker.CircuitBreakingException;
 import org.opensearch.common.breaker.NoopCircuitBreaker;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.io.IOException;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.opensearch.search.aggregations.metrics.AbstractHyperLogLog.MAX_PRECISION;
@@ -123,6 +125,37 @@ public class HyperLogLogPlusPlusTests extends OpenSearchTestCase {
         }
     }
 
+    public void testMergeSerialized() throws IOException {
+        final int p = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
+        final HyperLogLogPlusPlus single = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 0);
+        final HyperLogLogPlusPlus merged = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 0);
+        final int numSketches = randomIntBetween(1, 20);
+        for (int s = 0; s < numSketches; ++s) {
+            final HyperLogLogPlusPlus sketch = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 0);
+            final int numValues = randomIntBetween(1, randomBoolean() ? 100 : 10000);
+            for (int i = 0; i < numValues; ++i) {
+                final long hash = BitMixer.mix64(randomInt(100000));
+                single.collect(0, hash);
+                sketch.collect(0, hash);
+            }
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                sketch.writeTo(0, out);
+                merged.merge(0, out.bytes().streamInput());
+            }
+            assertEquals(single.cardinality(0), merged.cardinality(0));
+        }
+    }
+
+    public void testMergeSerializedWithDifferentPrecision() throws IOException {
+        final HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(14, BigArrays.NON_RECYCLING_INSTANCE, 0);
+        final HyperLogLogPlusPlus other = new HyperLogLogPlusPlus(10, BigArrays.NON_RECYCLING_INSTANCE, 0);
+        other.collect(0, BitMixer.mix64(42));
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            other.writeTo(0, out);
+            expectThrows(IllegalArgumentException.class, () -> counts.merge(0, out.bytes().streamInput()));
+        }
+    }
+
     public void testFakeHashes() {
         // hashes with lots of leading zeros trigger different paths in the code that we try to go through here
         final int p = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
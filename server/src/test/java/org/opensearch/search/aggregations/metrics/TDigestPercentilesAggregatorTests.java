@@ -44,8 +44,12 @@ import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.store.Directory;
 import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.index.mapper.BinaryFieldMapper.CustomBinaryDocValuesField;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.index.mapper.TDigestSketchFieldMapper;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregatorTestCase;
 import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
@@ -54,6 +58,7 @@ import org.opensearch.search.aggregations.support.ValuesSourceType;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -185,6 +190,43 @@ public class TDigestPercentilesAggregatorTests extends AggregatorTestCase {
             "method has already been configured for TDigest"));
     }
 
+    public void testSketches() throws IOException {
+        MappedFieldType fieldType = new TDigestSketchFieldMapper.TDigestSketchFieldType("sketch", Collections.emptyMap());
+        PercentilesAggregationBuilder builder = new PercentilesAggregationBuilder("test").field("sketch")
+            .percentilesConfig(new PercentilesConfig.TDigest());
+        testCase(builder, new MatchAllDocsQuery(), iw -> {
+            iw.addDocument(singleton(sketch(1, 2, 3)));
+            iw.addDocument(singleton(sketch(4, 5)));
+            iw.addDocument(singleton(sketch(6, 7, 8, 9, 10)));
+        }, (InternalTDigestPercentiles percentiles) -> {
+            assertEquals(10L, percentiles.state.size());
+            assertEquals(1.0, percentiles.percentile(0), 0.0);
+            assertEquals(10.0, percentiles.percentile(100), 0.0);
+            assertEquals(5.5, percentiles.percentile(50), 0.5);
+            assertTrue(AggregationInspectionHelper.hasValue(percentiles));
+        }, fieldType);
+    }
+
+    public void testSketchesWithHdr() throws IOException {
+        MappedFieldType fieldType = new TDigestSketchFieldMapper.TDigestSketchFieldType("sketch", Collections.emptyMap());
+        PercentilesAggregationBuilder builder = new PercentilesAggregationBuilder("test").field("sketch")
+            .percentilesConfig(new PercentilesConfig.Hdr());
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> testCase(builder, new MatchAllDocsQuery(), iw -> iw.addDocument(singleton(sketch(1))), p -> {}, fieldType));
+        assertThat(e.getMessage(), equalTo("[tdigest_sketch] fields can only be aggregated with the [tdigest] method but got [hdr]"));
+    }
+
+    private static CustomBinaryDocValuesField sketch(double... values) throws IOException {
+        TDigestState state = new TDigestState(100);
+        for (double value : values) {
+            state.add(value);
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            TDigestState.write(state, out);
+            return new CustomBinaryDocValuesField("sketch", BytesReference.toBytes(out.bytes()));
+        }
+    }
+
     private void testCase(Query query, CheckedConsumer<RandomIndexWriter, IOException> buildIndex,
                           Consumer<InternalTDigestPercentiles> verify) throws IOException {
         try (Directory directory = newDirectory()) {
@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.collapse;
+
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.SearchHitsTests;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class CollapseInnerHitsTests extends OpenSearchTestCase {
+
+    public static CollapseInnerHits randomCollapseInnerHits() {
+        final int numInnerHits = randomIntBetween(1, 3);
+        final String[] names = new String[numInnerHits];
+        final int[] froms = new int[numInnerHits];
+        final int[] sizes = new int[numInnerHits];
+        for (int innerHit = 0; innerHit < numInnerHits; innerHit++) {
+            names[innerHit] = randomAlphaOfLength(5) + innerHit;
+            froms[innerHit] = randomIntBetween(0, 5);
+            sizes[innerHit] = randomIntBetween(0, 10);
+        }
+        final SearchHits[][] groupHits = new SearchHits[randomIntBetween(0, 5)][numInnerHits];
+        for (SearchHits[] hits : groupHits) {
+            for (int innerHit = 0; innerHit < numInnerHits; innerHit++) {
+                hits[innerHit] = SearchHitsTests.createTestItem(randomFrom(XContentType.values()), false, true);
+            }
+        }
+        return new CollapseInnerHits(names, froms, sizes, groupHits);
+    }
+
+    public static void assertEqualCollapseInnerHits(CollapseInnerHits expected, CollapseInnerHits actual) {
+        assertThat(actual.numInnerHits(), equalTo(expected.numInnerHits()));
+        assertThat(actual.numGroups(), equalTo(expected.numGroups()));
+        for (int innerHit = 0; innerHit < expected.numInnerHits(); innerHit++) {
+            assertThat(actual.name(innerHit), equalTo(expected.name(innerHit)));
+            assertThat(actual.from(innerHit), equalTo(expected.from(innerHit)));
+            assertThat(actual.size(innerHit), equalTo(expected.size(innerHit)));
+            for (int group = 0; group < expected.numGroups(); group++) {
+                assertThat(actual.hits(group, innerHit), equalTo(expected.hits(group, innerHit)));
+            }
+        }
+    }
+
+    public void testSerialization() throws IOException {
+        final CollapseInnerHits collapseInnerHits = randomCollapseInnerHits();
+        final CollapseInnerHits deserialized = copyWriteable(collapseInnerHits,
+            new NamedWriteableRegistry(Collections.emptyList()), CollapseInnerHits::new);
+        assertEqualCollapseInnerHits(collapseInnerHits, deserialized);
+    }
+}
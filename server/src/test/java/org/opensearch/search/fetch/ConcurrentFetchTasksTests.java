@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch;
+
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class ConcurrentFetchTasksTests extends OpenSearchTestCase {
+
+    private static List<Integer> tasks(int count) {
+        List<Integer> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(i);
+        }
+        return tasks;
+    }
+
+    public void testRunsEveryTaskOnce() throws InterruptedException {
+        List<Integer> tasks = tasks(randomIntBetween(1, 50));
+        Set<Integer> ran = ConcurrentHashMap.newKeySet();
+        AtomicInteger runs = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(randomIntBetween(1, 4));
+        try {
+            new ConcurrentFetchTasks<>(tasks, task -> {
+                runs.incrementAndGet();
+                ran.add(task);
+            }).run(randomIntBetween(0, 8), executor);
+        } finally {
+            terminate(executor);
+        }
+        assertThat(runs.get(), equalTo(tasks.size()));
+        assertThat(ran.size(), equalTo(tasks.size()));
+    }
+
+    public void testDoesNotWaitForHelpersThatDidNotStart() throws InterruptedException {
+        List<Integer> tasks = tasks(randomIntBetween(1, 10));
+        List<Runnable> queued = new ArrayList<>();
+        AtomicInteger runs = new AtomicInteger();
+        ConcurrentFetchTasks<Integer> concurrentTasks = new ConcurrentFetchTasks<>(tasks, task -> runs.incrementAndGet());
+        // an executor that never runs the helpers before the calling thread is done
+        concurrentTasks.run(randomIntBetween(1, 4), queued::add);
+        assertThat(runs.get(), equalTo(tasks.size()));
+        for (Runnable helper : queued) {
+            helper.run();
+        }
+        assertThat(runs.get(), equalTo(tasks.size()));
+    }
+
+    public void testRejectedHelpers() {
+        List<Integer> tasks = tasks(randomIntBetween(1, 10));
+        AtomicInteger runs = new AtomicInteger();
+        new ConcurrentFetchTasks<>(tasks, task -> runs.incrementAndGet()).run(randomIntBetween(1, 4), r -> {
+            throw new OpenSearchRejectedExecutionException("rejected");
+        });
+        assertThat(runs.get(), equalTo(tasks.size()));
+    }
+
+    public void testRethrowsFirstFailure() throws InterruptedException {
+        List<Integer> tasks = tasks(randomIntBetween(2, 20));
+        Integer failing = randomFrom(tasks);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            IllegalStateException e = expectThrows(IllegalStateException.class,
+                () -> new ConcurrentFetchTasks<>(tasks, task -> {
+                    if (task.equals(failing)) {
+                        throw new IllegalStateException("boom");
+                    }
+                }).run(2, executor));
+            assertThat(e.getMessage(), equalTo("boom"));
+        } finally {
+            terminate(executor);
+        }
+    }
+
+    private static void terminate(ExecutorService executor) throws InterruptedException {
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+}
@@ -32,8 +32,20 @@
 
 package org.opensearch.search.fetch;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.store.Directory;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 public class FetchPhaseTests extends OpenSearchTestCase {
     public void testSequentialDocs() {
         FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[10];
@@ -52,4 +64,56 @@ public class FetchPhaseTests extends OpenSearchTestCase {
         }
         assertFalse(FetchPhase.hasSequentialDocs(docs));
     }
+
+    public void testGroupByLeaf() throws IOException {
+        try (Directory dir = newDirectory();
+             IndexWriter w = new IndexWriter(dir, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            int numLeaves = randomIntBetween(1, 5);
+            for (int leaf = 0; leaf < numLeaves; leaf++) {
+                int numDocs = randomIntBetween(1, 20);
+                for (int i = 0; i < numDocs; i++) {
+                    w.addDocument(new Document());
+                }
+                w.flush();
+            }
+            try (DirectoryReader reader = DirectoryReader.open(w)) {
+                List<LeafReaderContext> leaves = reader.leaves();
+                assertEquals(numLeaves, leaves.size());
+                List<FetchPhase.DocIdToIndex> docs = new ArrayList<>();
+                for (int doc = 0; doc < reader.maxDoc(); doc++) {
+                    if (randomBoolean()) {
+                        docs.add(new FetchPhase.DocIdToIndex(doc, docs.size()));
+                    }
+                }
+                FetchPhase.DocIdToIndex[] sorted = docs.toArray(new FetchPhase.DocIdToIndex[0]);
+                Arrays.sort(sorted);
+                List<FetchPhase.LeafDocs> groups = FetchPhase.groupByLeaf(leaves, sorted);
+                int expectedFrom = 0;
+                for (FetchPhase.LeafDocs group : groups) {
+                    assertEquals(expectedFrom, group.from);
+                    assertTrue(group.to > group.from);
+                    for (int i = group.from; i < group.to; i++) {
+                        int docId = sorted[i].docId;
+                        assertTrue(docId >= group.context.docBase);
+                        assertTrue(docId < group.context.docBase + group.context.reader().maxDoc());
+                    }
+                    expectedFrom = group.to;
+                }
+                assertEquals(sorted.length, expectedFrom);
+            }
+        }
+    }
+
+    public void testDenseLeafDocs() {
+        FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[FetchPhase.MIN_DOCS_FOR_SEQUENTIAL_READER];
+        for (int i = 0; i < docs.length; i++) {
+            docs[i] = new FetchPhase.DocIdToIndex(i * FetchPhase.MAX_AVERAGE_GAP_FOR_SEQUENTIAL_READER, i);
+        }
+        assertTrue(new FetchPhase.LeafDocs(null, 0, docs.length).isDense(docs));
+        // too few docs to be worth decompressing whole blocks
+        assertFalse(new FetchPhase.LeafDocs(null, 1, docs.length).isDense(docs));
+
+        docs[docs.length - 1] = new FetchPhase.DocIdToIndex(docs.length * FetchPhase.MAX_AVERAGE_GAP_FOR_SEQUENTIAL_READER * 10, 0);
+        assertFalse(new FetchPhase.LeafDocs(null, 0, docs.length).isDense(docs));
+    }
 }
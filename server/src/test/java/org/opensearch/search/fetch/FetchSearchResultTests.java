@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.Version;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.text.Text;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.collapse.CollapseInnerHits;
+import org.opensearch.search.collapse.CollapseInnerHitsTests;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class FetchSearchResultTests extends OpenSearchTestCase {
+
+    private static FetchSearchResult randomResult(CollapseInnerHits collapseInnerHits) {
+        final FetchSearchResult result = new FetchSearchResult(new ShardSearchContextId(randomAlphaOfLength(5), randomNonNegativeLong()),
+            new SearchShardTarget("node", new ShardId("index", "_na_", 0), null, OriginalIndices.NONE));
+        final SearchHit[] hits = new SearchHit[randomIntBetween(0, 5)];
+        for (int i = 0; i < hits.length; i++) {
+            hits[i] = new SearchHit(i, randomAlphaOfLength(5), new Text("_doc"), Collections.emptyMap(), Collections.emptyMap());
+            hits[i].score(randomFloat());
+        }
+        result.hits(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), Float.NaN));
+        result.collapseInnerHits(collapseInnerHits);
+        return result;
+    }
+
+    public void testSerialization() throws IOException {
+        final FetchSearchResult result = randomResult(randomBoolean() ? CollapseInnerHitsTests.randomCollapseInnerHits() : null);
+        final FetchSearchResult deserialized = copyWriteable(result, new NamedWriteableRegistry(Collections.emptyList()),
+            FetchSearchResult::new);
+        assertThat(deserialized.getContextId(), equalTo(result.getContextId()));
+        assertThat(deserialized.hits(), equalTo(result.hits()));
+        if (result.collapseInnerHits() == null) {
+            assertThat(deserialized.collapseInnerHits(), nullValue());
+        } else {
+            CollapseInnerHitsTests.assertEqualCollapseInnerHits(result.collapseInnerHits(), deserialized.collapseInnerHits());
+        }
+    }
+
+    public void testSerializationWithPreviousVersion() throws IOException {
+        final FetchSearchResult result = randomResult(CollapseInnerHitsTests.randomCollapseInnerHits());
+        final Version version = VersionUtils.randomVersionBetween(random(), Version.CURRENT.minimumCompatibilityVersion(),
+            VersionUtils.getPreviousVersion(Version.V_1_0_0));
+        final FetchSearchResult deserialized = copyWriteable(result, new NamedWriteableRegistry(Collections.emptyList()),
+            FetchSearchResult::new, version);
+        assertThat(deserialized.getContextId().getId(), equalTo(result.getContextId().getId()));
+        assertThat(deserialized.hits(), equalTo(result.hits()));
+        assertThat("older nodes don't know about collapse inner hits", deserialized.collapseInnerHits(), nullValue());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch;
+
+import com.carrotsearch.hppc.IntArrayList;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.Version;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.search.RescoreDocIds;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ShardFetchSearchRequestTests extends OpenSearchTestCase {
+
+    private static ShardFetchSearchRequest randomRequest(Object[] collapseValues) {
+        final IntArrayList docIds = new IntArrayList();
+        final int numDocs = randomIntBetween(0, 10);
+        for (int i = 0; i < numDocs; i++) {
+            docIds.add(randomIntBetween(0, 1000));
+        }
+        return new ShardFetchSearchRequest(new OriginalIndices(new String[] { randomAlphaOfLength(5) }, IndicesOptions.strictExpand()),
+            new ShardSearchContextId(randomAlphaOfLength(5), randomNonNegativeLong()), null, docIds, null, RescoreDocIds.EMPTY, null,
+            collapseValues);
+    }
+
+    private static Object[] randomCollapseValues() {
+        final Object[] collapseValues = new Object[randomIntBetween(0, 10)];
+        for (int i = 0; i < collapseValues.length; i++) {
+            collapseValues[i] = randomFrom(new BytesRef(randomAlphaOfLength(5)), randomLong(), null);
+        }
+        return collapseValues;
+    }
+
+    public void testSerialization() throws IOException {
+        final ShardFetchSearchRequest request = randomRequest(randomBoolean() ? randomCollapseValues() : null);
+        final ShardFetchSearchRequest deserialized = copyWriteable(request, new NamedWriteableRegistry(Collections.emptyList()),
+            ShardFetchSearchRequest::new);
+        assertThat(deserialized.contextId(), equalTo(request.contextId()));
+        assertThat(deserialized.docIdsSize(), equalTo(request.docIdsSize()));
+        for (int i = 0; i < request.docIdsSize(); i++) {
+            assertThat(deserialized.docIds()[i], equalTo(request.docIds()[i]));
+        }
+        assertThat(deserialized.indices(), equalTo(request.indices()));
+        assertThat(deserialized.getCollapseValues(), equalTo(request.getCollapseValues()));
+    }
+
+    public void testSerializationWithPreviousVersion() throws IOException {
+        final ShardFetchSearchRequest request = randomRequest(randomCollapseValues());
+        final Version version = VersionUtils.randomVersionBetween(random(), Version.CURRENT.minimumCompatibilityVersion(),
+            VersionUtils.getPreviousVersion(Version.V_1_0_0));
+        final ShardFetchSearchRequest deserialized = copyWriteable(request, new NamedWriteableRegistry(Collections.emptyList()),
+            ShardFetchSearchRequest::new, version);
+        assertThat(deserialized.contextId().getId(), equalTo(request.contextId().getId()));
+        assertThat(deserialized.docIdsSize(), equalTo(request.docIdsSize()));
+        assertThat("older nodes don't know about collapse values", deserialized.getCollapseValues(), nullValue());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch.subphase.highlight;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class HighlightAnalysisBudgetTests extends OpenSearchTestCase {
+
+    private static String text(int numTokens) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < numTokens; i++) {
+            text.append("token").append(i).append(' ');
+        }
+        return text.toString();
+    }
+
+    /**
+     * Consumes the stream, advancing the clock by {@code nanosPerToken} for every token, and returns the number of tokens.
+     */
+    private static int consume(TokenStream tokenStream, AtomicLong clock, long nanosPerToken) throws IOException {
+        int tokens = 0;
+        try (TokenStream stream = tokenStream) {
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens++;
+                clock.addAndGet(nanosPerToken);
+            }
+            stream.end();
+        }
+        return tokens;
+    }
+
+    public void testStreamsEndOnceTheBudgetIsExhausted() throws IOException {
+        AtomicLong clock = new AtomicLong(randomLongBetween(0, 1000));
+        HighlightAnalysisBudget budget = new HighlightAnalysisBudget(1000, clock::get);
+        try (Analyzer analyzer = new StandardAnalyzer()) {
+            int tokens = consume(budget.wrap(analyzer.tokenStream("field", text(1000))), clock, 100);
+            // the clock is only checked every TOKENS_BETWEEN_CHECKS tokens
+            assertThat(tokens, equalTo(HighlightAnalysisBudget.TOKENS_BETWEEN_CHECKS - 1));
+            assertTrue(budget.isExhausted());
+            assertThat(budget.spentNanos(), equalTo((HighlightAnalysisBudget.TOKENS_BETWEEN_CHECKS - 1) * 100L));
+
+            assertThat(consume(budget.wrap(analyzer.tokenStream("field", text(10))), clock, 100), equalTo(0));
+        }
+    }
+
+    public void testSpendsAcrossStreams() throws IOException {
+        AtomicLong clock = new AtomicLong();
+        HighlightAnalysisBudget budget = new HighlightAnalysisBudget(1000, clock::get);
+        try (Analyzer analyzer = budget.wrap(new StandardAnalyzer())) {
+            assertThat(consume(analyzer.tokenStream("field", text(6)), clock, 100), equalTo(6));
+            assertFalse(budget.isExhausted());
+            assertThat(budget.spentNanos(), equalTo(600L));
+            assertThat(consume(analyzer.tokenStream("field", text(6)), clock, 100), equalTo(6));
+            // the stream that exceeded the budget was consumed entirely but no other one will be
+            assertTrue(budget.isExhausted());
+            assertThat(budget.spentNanos(), equalTo(1200L));
+            assertThat(consume(analyzer.tokenStream("field", text(6)), clock, 100), equalTo(0));
+        }
+    }
+
+    public void testUnlimitedWhenLargeEnough() throws IOException {
+        AtomicLong clock = new AtomicLong();
+        HighlightAnalysisBudget budget = new HighlightAnalysisBudget(Long.MAX_VALUE, clock::get);
+        try (Analyzer analyzer = new StandardAnalyzer()) {
+            int numTokens = randomIntBetween(0, 1000);
+            assertThat(consume(budget.wrap(analyzer.tokenStream("field", text(numTokens))), clock, 1), equalTo(numTokens));
+            assertFalse(budget.isExhausted());
+            assertThat(budget.spentNanos(), equalTo((long) numTokens));
+        }
+    }
+
+    public void testNegativeBudget() {
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> new HighlightAnalysisBudget(-1));
+        assertThat(e.getMessage(), equalTo("the analysis budget must not be negative but was [-1nanos]"));
+    }
+}
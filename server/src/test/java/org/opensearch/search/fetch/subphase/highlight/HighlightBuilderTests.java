@@ -40,6 +40,7 @@ import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.common.xcontent.ToXContent;
@@ -306,6 +307,7 @@ public class HighlightBuilderTests extends OpenSearchTestCase {
             HighlightBuilder highlightBuilder = randomHighlighterBuilder();
             highlightBuilder = Rewriteable.rewrite(highlightBuilder, mockShardContext);
             SearchHighlightContext highlight = highlightBuilder.build(mockShardContext);
+            assertEquals(highlightBuilder.analysisBudget() == null, highlight.analysisBudget() == null);
             for (SearchHighlightContext.Field field : highlight.fields()) {
                 String encoder = highlightBuilder.encoder() != null ? highlightBuilder.encoder() : HighlightBuilder.DEFAULT_ENCODER;
                 assertEquals(encoder, field.fieldOptions().encoder());
@@ -519,6 +521,9 @@ public class HighlightBuilderTests extends OpenSearchTestCase {
         if (randomBoolean()) {
             testHighlighter.encoder(randomFrom(Arrays.asList(new String[]{"default", "html"})));
         }
+        if (randomBoolean()) {
+            testHighlighter.analysisBudget(TimeValue.timeValueMillis(randomIntBetween(0, 1000)));
+        }
         int numberOfFields = randomIntBetween(1,5);
         for (int i = 0; i < numberOfFields; i++) {
             Field field = new Field(i + "_" + randomAlphaOfLengthBetween(1, 10));
@@ -723,7 +728,7 @@ public class HighlightBuilderTests extends OpenSearchTestCase {
         if (randomBoolean()) {
             mutateCommonOptions(mutation);
         } else {
-            switch (randomIntBetween(0, 2)) {
+            switch (randomIntBetween(0, 3)) {
                 // change settings that only exists on top level
                 case 0:
                     mutation.useExplicitFieldOrder(!original.useExplicitFieldOrder());
@@ -746,6 +751,11 @@ public class HighlightBuilderTests extends OpenSearchTestCase {
                         }
                     }
                     break;
+                case 3:
+                    mutation.analysisBudget(original.analysisBudget() == null
+                        ? TimeValue.timeValueMillis(randomIntBetween(0, 1000))
+                        : TimeValue.timeValueMillis(original.analysisBudget().millis() + randomIntBetween(1, 1000)));
+                    break;
             }
         }
         return mutation;
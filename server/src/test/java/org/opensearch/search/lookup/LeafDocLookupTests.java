@@ -88,6 +88,18 @@ public class LeafDocLookupTests extends OpenSearchTestCase {
         assertWarnings(TYPES_DEPRECATION_MESSAGE);
     }
 
+    public void testReadDouble() {
+        doReturn(42L).when(docValues).get(0);
+        assertEquals(42d, docLookup.readDouble(0, "field"), 0d);
+        // slots are re-resolved when they are read for another field
+        doReturn(1.5f).when(docValues).get(0);
+        assertEquals(1.5d, docLookup.readDouble(0, "alias"), 0d);
+        assertEquals(1.5d, docLookup.readDouble(2, "field"), 0d);
+
+        doReturn("foo").when(docValues).get(0);
+        expectThrows(ClassCastException.class, () -> docLookup.readDouble(1, "field"));
+    }
+
     private IndexFieldData<?> createFieldData(ScriptDocValues scriptDocValues) {
         LeafFieldData leafFieldData = mock(LeafFieldData.class);
         doReturn(scriptDocValues).when(leafFieldData).getScriptValues();
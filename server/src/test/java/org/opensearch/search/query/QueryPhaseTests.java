@@ -34,11 +34,13 @@ package org.opensearch.search.query;
 
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoublePoint;
 import org.apache.lucene.document.Field.Store;
 import org.apache.lucene.document.LatLonDocValuesField;
 import org.apache.lucene.document.LatLonPoint;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
@@ -72,6 +74,7 @@ import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHitCountCollector;
@@ -87,6 +90,7 @@ import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.NumericUtils;
 import org.apache.lucene.util.bkd.BKDConfig;
 import org.apache.lucene.util.bkd.BKDReader;
 import org.apache.lucene.util.bkd.BKDWriter;
@@ -120,6 +124,7 @@ import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -789,6 +794,64 @@ public class QueryPhaseTests extends IndexShardTestCase {
         dir.close();
     }
 
+    public void testNumericSortSkipsNonCompetitiveDocsWithPoints() throws Exception {
+        final String longField = "long-field";
+        final String doubleField = "double-field";
+        // enough docs per segment to have a tree with several leaf nodes
+        final int numDocs = 30000;
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig(null));
+        for (int i = 1; i <= numDocs; ++i) {
+            Document doc = new Document();
+            long longValue = randomLongBetween(-10000000L, 10000000L);
+            doc.add(new LongPoint(longField, longValue));
+            doc.add(new SortedNumericDocValuesField(longField, longValue));
+            double doubleValue = randomDoubleBetween(-1000d, 1000d, true);
+            doc.add(new DoublePoint(doubleField, doubleValue));
+            doc.add(new SortedNumericDocValuesField(doubleField, NumericUtils.doubleToSortableLong(doubleValue)));
+            writer.addDocument(doc);
+            if (i % 10000 == 0) writer.commit();
+        }
+        writer.close();
+        final IndexReader reader = DirectoryReader.open(dir);
+        final IndexSearcher searcher = new IndexSearcher(reader);
+        // a query whose hits cannot be counted without visiting them
+        final Query query = LongPoint.newRangeQuery(longField, Long.MIN_VALUE, Long.MAX_VALUE);
+
+        for (SortField.Type type : new SortField.Type[] { SortField.Type.LONG, SortField.Type.DOUBLE }) {
+            final String field = type == SortField.Type.LONG ? longField : doubleField;
+            final boolean reverse = randomBoolean();
+            final Sort sort = new Sort(new SortedNumericSortField(field, type, reverse));
+            final TopDocs expected = searcher.search(query, 100, sort);
+            final FieldDoc searchAfter = randomBoolean() ? null : (FieldDoc) expected.scoreDocs[randomIntBetween(0, 20)];
+
+            final SortField sortField = new SortedNumericSortField(field, type, reverse);
+            sortField.setCanUsePoints();
+            TestSearchContext searchContext = spy(new TestSearchContext(null, indexShard, newContextSearcher(reader)));
+            when(searchContext.searchAfter()).thenReturn(searchAfter);
+            searchContext.sort(new SortAndFormats(new Sort(sortField), new DocValueFormat[] { DocValueFormat.RAW }));
+            searchContext.parsedQuery(new ParsedQuery(query));
+            searchContext.setTask(new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()));
+            searchContext.trackTotalHitsUpTo(100);
+            searchContext.setSize(10);
+            QueryPhase.executeInternal(searchContext);
+
+            final TopDocs topDocs = searchContext.queryResult().topDocs().topDocs;
+            final TopDocs expectedTopDocs = searchAfter == null ? expected
+                : searcher.searchAfter(searchAfter, query, 10, sort);
+            assertEquals(10, topDocs.scoreDocs.length);
+            for (int i = 0; i < topDocs.scoreDocs.length; i++) {
+                assertEquals(((FieldDoc) expectedTopDocs.scoreDocs[i]).fields[0], ((FieldDoc) topDocs.scoreDocs[i]).fields[0]);
+            }
+            // the documents that cannot compete are not even counted
+            assertEquals(TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO, topDocs.totalHits.relation);
+            assertThat(topDocs.totalHits.value, lessThan((long) numDocs));
+        }
+
+        reader.close();
+        dir.close();
+    }
+
     public void testIndexHasDuplicateData() throws IOException {
         int docsCount = 5000;
         int maxPointsInLeafNode = 40;
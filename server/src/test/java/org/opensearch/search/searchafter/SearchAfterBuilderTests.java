@@ -302,4 +302,32 @@ public class SearchAfterBuilderTests extends OpenSearchTestCase {
         type = extractSortType(new SortedSetSortField("field", false));
         assertThat(type, equalTo(SortField.Type.STRING));
     }
+
+    public void testConvertFloatingPointValueForIntegralSort() {
+        // the value can come from an index that maps the field as a double
+        SortField ascending = new SortedNumericSortField("field", SortField.Type.LONG, false);
+        assertEquals(12L, SearchAfterBuilder.convertValueFromSortField(12.6d, ascending, DocValueFormat.RAW));
+        assertEquals(-13L, SearchAfterBuilder.convertValueFromSortField(-12.6d, ascending, DocValueFormat.RAW));
+        SortField descending = new SortedNumericSortField("field", SortField.Type.LONG, true);
+        assertEquals(13L, SearchAfterBuilder.convertValueFromSortField(12.6d, descending, DocValueFormat.RAW));
+        assertEquals(-12L, SearchAfterBuilder.convertValueFromSortField(-12.6f, descending, DocValueFormat.RAW));
+        assertEquals(12L, SearchAfterBuilder.convertValueFromSortField(12L, descending, DocValueFormat.RAW));
+    }
+
+    public void testConvertIntegralValueForFloatingPointSort() {
+        // the value can come from an index that maps the field as a long, and doubles can't represent all longs
+        long value = (1L << 53) + 1;
+        SortField ascending = new SortedNumericSortField("field", SortField.Type.DOUBLE, false);
+        assertEquals((double) (1L << 53), SearchAfterBuilder.convertValueFromSortField(value, ascending, DocValueFormat.RAW));
+        assertEquals(12d, SearchAfterBuilder.convertValueFromSortField(12L, ascending, DocValueFormat.RAW));
+        SortField descending = new SortedNumericSortField("field", SortField.Type.DOUBLE, true);
+        assertEquals((double) ((1L << 53) + 2), SearchAfterBuilder.convertValueFromSortField(value, descending, DocValueFormat.RAW));
+        assertEquals(12d, SearchAfterBuilder.convertValueFromSortField(12, descending, DocValueFormat.RAW));
+
+        SortField floatAscending = new SortedNumericSortField("field", SortField.Type.FLOAT, false);
+        assertEquals(Math.nextDown(0.1f), SearchAfterBuilder.convertValueFromSortField(0.1d, floatAscending, DocValueFormat.RAW));
+        assertEquals(0.5f, SearchAfterBuilder.convertValueFromSortField(0.5d, floatAscending, DocValueFormat.RAW));
+        SortField floatDescending = new SortedNumericSortField("field", SortField.Type.FLOAT, true);
+        assertEquals(0.1f, SearchAfterBuilder.convertValueFromSortField(0.1d, floatDescending, DocValueFormat.RAW));
+    }
 }
@@ -308,6 +308,24 @@ public class FieldSortBuilderTests extends AbstractSortTestCase<FieldSortBuilder
         assertEquals(SortedNumericSelector.Type.MAX, numericSortField.getSelector());
     }
 
+    /**
+     * Test that numeric sorts that read the doc values of the field as they are may skip documents using the points
+     */
+    public void testBuildSortFieldCanUsePoints() throws IOException {
+        QueryShardContext shardContextMock = createMockShardContext();
+        for (String fieldName : new String[] { "custom-long", "custom-float", "custom-double", "custom-date", "value" }) {
+            FieldSortBuilder sortBuilder = new FieldSortBuilder(fieldName).order(randomFrom(SortOrder.values()));
+            assertTrue(fieldName, sortBuilder.build(shardContextMock).field.getCanUsePoints());
+        }
+        // integers are indexed as int points but sorted as longs
+        assertFalse(new FieldSortBuilder("custom-INT").build(shardContextMock).field.getCanUsePoints());
+        assertFalse(new FieldSortBuilder(MAPPED_STRING_FIELDNAME).build(shardContextMock).field.getCanUsePoints());
+        assertFalse(new FieldSortBuilder("value").sortMode(SortMode.SUM).build(shardContextMock).field.getCanUsePoints());
+        assertFalse(new FieldSortBuilder("custom-long").setNumericType("double").build(shardContextMock).field.getCanUsePoints());
+        assertFalse(new FieldSortBuilder("value").setNestedSort(new NestedSortBuilder("path")).build(shardContextMock).field
+            .getCanUsePoints());
+    }
+
     /**
      * Test that the sort builder nested object gets created in the SortField
      */
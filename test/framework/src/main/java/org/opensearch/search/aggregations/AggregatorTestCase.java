@@ -95,6 +95,7 @@ import org.opensearch.index.mapper.FieldAliasMapper;
 import org.opensearch.index.mapper.FieldMapper;
 import org.opensearch.index.mapper.GeoPointFieldMapper;
 import org.opensearch.index.mapper.GeoShapeFieldMapper;
+import org.opensearch.index.mapper.HllSketchFieldMapper;
 import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.Mapper;
@@ -105,6 +106,7 @@ import org.opensearch.index.mapper.ObjectMapper;
 import org.opensearch.index.mapper.ObjectMapper.Nested;
 import org.opensearch.index.mapper.RangeFieldMapper;
 import org.opensearch.index.mapper.RangeType;
+import org.opensearch.index.mapper.TDigestSketchFieldMapper;
 import org.opensearch.index.mapper.TextFieldMapper;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.shard.IndexShard;
@@ -184,6 +186,8 @@ public abstract class AggregatorTestCase extends OpenSearchTestCase {
         blacklist.add(ObjectMapper.NESTED_CONTENT_TYPE); // TODO support for nested
         blacklist.add(CompletionFieldMapper.CONTENT_TYPE); // TODO support completion
         blacklist.add(FieldAliasMapper.CONTENT_TYPE); // TODO support alias
+        blacklist.add(HllSketchFieldMapper.CONTENT_TYPE); // Sketches can only be written by their mapper
+        blacklist.add(TDigestSketchFieldMapper.CONTENT_TYPE); // Sketches can only be written by their mapper
         TYPE_TEST_BLACKLIST = blacklist;
     }
 
@@ -316,6 +320,7 @@ public abstract class AggregatorTestCase extends OpenSearchTestCase {
         when(searchContext.aggregations())
             .thenReturn(new SearchContextAggregations(AggregatorFactories.EMPTY, bucketConsumer));
         when(searchContext.query()).thenReturn(query);
+        when(searchContext.minimumScore()).thenReturn(null);
         /*
          * Always use the circuit breaking big arrays instance so that the CircuitBreakerService
          * we're passed gets a chance to break.